@@ -12,7 +12,7 @@ version = "0.0.1-SNAPSHOT"
 
 java {
     toolchain {
-        languageVersion = JavaLanguageVersion.of(17)
+        languageVersion = JavaLanguageVersion.of(21)
     }
 }
 
@@ -21,14 +21,46 @@ checkstyle {
     isShowViolations = false
 }
 
+// -PfastStart=true adds Spring AOT processing to the build, so that the context can be started
+// from generated bean definitions with -Dspring.aot.enabled=true. Conditions on properties are
+// evaluated once, at build time.
+val fastStart = providers.gradleProperty("fastStart").map(String::toBoolean).getOrElse(false)
+if (fastStart) {
+    apply(plugin = "org.springframework.boot.aot")
+    // Test contexts need a database to be processed; tests keep running without AOT.
+    tasks.named("processTestAot") { enabled = false }
+}
+
 repositories {
     mavenCentral()
 }
 
+val jmh: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+sourceSets.create("loadTest") {
+    compileClasspath += sourceSets.main.get().output + sourceSets.test.get().output
+    runtimeClasspath += sourceSets.main.get().output + sourceSets.test.get().output
+}
+
 configurations {
     compileOnly {
         extendsFrom(configurations.annotationProcessor.get())
     }
+    named("jmhImplementation") {
+        extendsFrom(configurations.implementation.get())
+    }
+    named("jmhRuntimeOnly") {
+        extendsFrom(configurations.runtimeOnly.get())
+    }
+    named("loadTestImplementation") {
+        extendsFrom(configurations.testImplementation.get())
+    }
+    named("loadTestRuntimeOnly") {
+        extendsFrom(configurations.testRuntimeOnly.get())
+    }
 }
 
 dependencies {
@@ -39,8 +71,13 @@ dependencies {
     implementation(group = "org.springframework.boot", name = "spring-boot-starter-oauth2-resource-server")
     implementation(group = "org.springframework.boot", name = "spring-boot-starter-jdbc")
     implementation(group = "org.springframework.boot", name = "spring-boot-starter-data-jpa")
+    implementation(group = "org.springframework.boot", name = "spring-boot-starter-actuator")
+    implementation(group = "org.springframework.boot", name = "spring-boot-starter-aop")
     developmentOnly(group = "org.springframework.boot", name = "spring-boot-devtools")
 
+    // Metrics
+    runtimeOnly(group = "io.micrometer", name = "micrometer-registry-prometheus")
+
     // Swagger
     implementation(group = "org.springdoc", name = "springdoc-openapi-starter-webmvc-ui", version = "2.6.0")
 
@@ -64,8 +101,24 @@ dependencies {
     implementation(group = "io.jsonwebtoken", name = "jjwt-jackson", version = "0.11.5")
 
     // Database
-    runtimeOnly(group = "org.postgresql", name = "postgresql")
+    implementation(group = "org.postgresql", name = "postgresql")
     implementation(group = "org.liquibase", name = "liquibase-core")
+    implementation(group = "org.springframework", name = "spring-r2dbc")
+    implementation(group = "org.postgresql", name = "r2dbc-postgresql")
+    implementation(group = "io.r2dbc", name = "r2dbc-pool")
+
+    // Cache
+    implementation(group = "org.hibernate.orm", name = "hibernate-jcache")
+    implementation(group = "javax.cache", name = "cache-api")
+    implementation(group = "org.ehcache", name = "ehcache", classifier = "jakarta")
+
+    // Benchmarks
+    "jmhImplementation"(group = "org.openjdk.jmh", name = "jmh-core", version = "1.37")
+    "jmhAnnotationProcessor"(group = "org.openjdk.jmh", name = "jmh-generator-annprocess", version = "1.37")
+    "jmhImplementation"(group = "org.springframework", name = "spring-test")
+    "jmhImplementation"(group = "org.mockito", name = "mockito-core")
+    "loadTestCompileOnly"(group = "org.projectlombok", name = "lombok")
+    "loadTestAnnotationProcessor"(group = "org.projectlombok", name = "lombok")
 }
 
 
@@ -117,6 +170,61 @@ tasks {
         dependsOn(openApiGenerate)
     }
 
+    withType<Checkstyle>().matching { it.name.startsWith("checkstyleAot") }.configureEach {
+        enabled = false
+    }
+
+    register<JavaExec>("jmh") {
+        group = "verification"
+        description = "Runs the JMH benchmarks and writes the results to build/reports/jmh/results.json. " +
+            "Pass -PjmhIncludes=<regex> to run a subset."
+        val results = layout.buildDirectory.file("reports/jmh/results.json")
+        classpath = jmh.runtimeClasspath
+        mainClass.set("org.openjdk.jmh.Main")
+        args(providers.gradleProperty("jmhIncludes").getOrElse("online\\.rabko\\.basketball\\.benchmark\\..*"))
+        args("-rf", "json", "-rff", results.get().asFile.absolutePath)
+        outputs.file(results)
+        outputs.upToDateWhen { false }
+        doFirst {
+            results.get().asFile.parentFile.mkdirs()
+        }
+    }
+
+    register<Test>("loadTest") {
+        group = "verification"
+        description = "Runs the end-to-end load test and fails on latency or throughput regressions " +
+            "against src/loadTest/resources/load-test-baseline.json. Pass -PloadTest.updateBaseline=true " +
+            "to store the run as the new baseline, or -PloadTest.<rate|duration|warmup|...>=<value> to tune it."
+        testClassesDirs = sourceSets["loadTest"].output.classesDirs
+        classpath = sourceSets["loadTest"].runtimeClasspath
+        useJUnitPlatform { excludeTags("benchmark") }
+        setFinalizedBy(emptyList<Any>())
+        extensions.configure<JacocoTaskExtension> { isEnabled = false }
+        outputs.upToDateWhen { false }
+        systemProperty("loadTest.baseline", file("src/loadTest/resources/load-test-baseline.json").absolutePath)
+        systemProperty("loadTest.results", layout.buildDirectory.file("reports/load-test/results.json").get().asFile.absolutePath)
+        project.properties
+            .filterKeys { it.startsWith("loadTest.") }
+            .forEach { (name, value) -> systemProperty(name, value.toString()) }
+    }
+
+    register<Test>("modeBenchmark") {
+        group = "verification"
+        description = "Drives the same requests against the application in each mode being compared, " +
+            "such as blocking and reactive stats reads or platform and virtual threads, and writes the latencies of each to " +
+            "build/reports/load-test/benchmark-<mode>.json. Pass -PloadTest.<rate|duration|warmup>=<value> to tune it."
+        testClassesDirs = sourceSets["loadTest"].output.classesDirs
+        classpath = sourceSets["loadTest"].runtimeClasspath
+        useJUnitPlatform { includeTags("benchmark") }
+        setFinalizedBy(emptyList<Any>())
+        extensions.configure<JacocoTaskExtension> { isEnabled = false }
+        outputs.upToDateWhen { false }
+        systemProperty("loadTest.reports", layout.buildDirectory.dir("reports/load-test").get().asFile.absolutePath)
+        project.properties
+            .filterKeys { it.startsWith("loadTest.") }
+            .forEach { (name, value) -> systemProperty(name, value.toString()) }
+    }
+
     named<JacocoReport>("jacocoTestReport") {
         dependsOn(test)
 
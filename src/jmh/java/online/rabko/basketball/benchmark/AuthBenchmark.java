@@ -0,0 +1,134 @@
+package online.rabko.basketball.benchmark;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import online.rabko.basketball.config.JwtAuthenticationFilter;
+import online.rabko.basketball.entity.User;
+import online.rabko.basketball.service.JwtService;
+import online.rabko.basketball.service.UserService;
+import online.rabko.model.Role;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Benchmarks the authentication hot paths: issuing and validating JWTs, the full
+ * {@link JwtAuthenticationFilter} with the user lookup mocked out, and BCrypt password hashing
+ * with the encoder configured in {@code SecurityConfiguration}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthBenchmark {
+
+    private static final String SIGNING_KEY = "tXKjU8nJ7vWyQf9ZpTeR5mBL0hCuC23HZUTMZEMdYAw=";
+    private static final String PASSWORD = "correct horse battery staple";
+
+    private final JwtService jwtService = new JwtService();
+    private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private final FilterChain filterChain = (request, response) -> {};
+    private User user;
+    private String token;
+    private String passwordHash;
+    private JwtAuthenticationFilter filter;
+
+    /**
+     * Signs a token for a user that the mocked {@link UserService} resolves.
+     */
+    @Setup
+    public void setUp() {
+        ReflectionTestUtils.setField(jwtService, "jwtSigningKey", SIGNING_KEY);
+        user = User.builder().id(1L).username("bench").password("unused").role(Role.USER).build();
+        token = jwtService.generateToken(user);
+        passwordHash = passwordEncoder.encode(PASSWORD);
+
+        UserService userService = mock(UserService.class);
+        when(userService.userDetailsService()).thenReturn(username -> user);
+        filter = new JwtAuthenticationFilter(jwtService, userService, new SimpleMeterRegistry());
+    }
+
+    /**
+     * Issues a token, as {@code POST /auth/sign-in} does.
+     *
+     * @return the token
+     */
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    /**
+     * Validates a token against its user, parsing it twice as the filter does.
+     *
+     * @return whether the token is valid
+     */
+    @Benchmark
+    public boolean validateToken() {
+        return jwtService.isTokenValid(token, user);
+    }
+
+    /**
+     * Runs an authenticated request through the filter.
+     *
+     * @return the authentication the filter established
+     * @throws ServletException if the filter fails
+     * @throws IOException      if the filter fails
+     */
+    @Benchmark
+    public Authentication filter() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/players");
+        request.addHeader(HttpHeaders.AUTHORIZATION, JwtAuthenticationFilter.BEARER_PREFIX + token);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), filterChain);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    /**
+     * Hashes a password, as sign-up does.
+     *
+     * @return the hash
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public String encodePassword() {
+        return passwordEncoder.encode(PASSWORD);
+    }
+
+    /**
+     * Checks a password against its hash, as sign-in does.
+     *
+     * @return whether the password matches
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public boolean matchPassword() {
+        return passwordEncoder.matches(PASSWORD, passwordHash);
+    }
+}
@@ -0,0 +1,143 @@
+package online.rabko.basketball.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import online.rabko.basketball.archive.SeasonArchive;
+import online.rabko.basketball.archive.SeasonArchiveWriter;
+import online.rabko.basketball.enums.PlayerStatsMetric;
+import online.rabko.model.Match;
+import online.rabko.model.PlayerStats;
+import online.rabko.model.PlayerStatsStats;
+import online.rabko.model.Season;
+import online.rabko.model.Team;
+import online.rabko.model.TeamStats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the leaderboard and standings aggregation over an archived season the size of a
+ * regular NBA season: 30 teams, 1230 matches and 26 box scores per match.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LeaderboardBenchmark {
+
+    private static final int TEAMS = 30;
+    private static final int MATCHES = 1230;
+    private static final int PLAYERS_PER_TEAM = 13;
+    private static final int LIMIT = 10;
+    private static final LocalDate OPENING_DAY = LocalDate.of(2023, 10, 24);
+    private static final LocalDate AS_OF = OPENING_DAY.plusDays(90);
+
+    private Path file;
+    private SeasonArchive archive;
+
+    /**
+     * Writes a season with random but fixed results and opens its archive.
+     *
+     * @throws IOException if the archive cannot be written
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        SplittableRandom random = new SplittableRandom(42);
+        SeasonArchiveWriter writer = new SeasonArchiveWriter(new Season(1, "2023-24",
+            OPENING_DAY, OPENING_DAY.plusDays(180)));
+        for (int team = 1; team <= TEAMS; team++) {
+            writer.addTeam(new Team(team, "Team " + team));
+        }
+        int boxScoreId = 1;
+        for (int match = 1; match <= MATCHES; match++) {
+            int home = random.nextInt(TEAMS) + 1;
+            int away = home % TEAMS + 1;
+            writer.addMatch(new Match(match, 1, OPENING_DAY.plusDays(match * 180L / MATCHES),
+                home, away).homeTeamScore(90 + random.nextInt(40))
+                .awayTeamScore(90 + random.nextInt(40)));
+            for (int team : List.of(home, away)) {
+                for (int player = 0; player < PLAYERS_PER_TEAM; player++) {
+                    writer.addBoxScore(new PlayerStats(boxScoreId++, match,
+                        team * PLAYERS_PER_TEAM + player, team, stats(random)));
+                }
+            }
+        }
+        file = Files.createTempFile("leaderboard", ".bbsa");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            writer.writeTo(out);
+        }
+        archive = SeasonArchive.open(file);
+    }
+
+    /**
+     * Deletes the archive file.
+     *
+     * @throws IOException if the file cannot be deleted
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Ranks the season's box scores by points.
+     *
+     * @return the leaders
+     */
+    @Benchmark
+    public List<PlayerStats> topScorers() {
+        return archive.findLeaders(PlayerStatsMetric.POINTS, LIMIT, null);
+    }
+
+    /**
+     * Ranks box scores by the computed efficiency rating, up to a date.
+     *
+     * @return the leaders
+     */
+    @Benchmark
+    public List<PlayerStats> efficiencyAsOf() {
+        return archive.findLeaders(PlayerStatsMetric.EFFICIENCY, LIMIT, AS_OF);
+    }
+
+    /**
+     * Aggregates the standings of every team.
+     *
+     * @return the standings
+     */
+    @Benchmark
+    public List<TeamStats> standings() {
+        return archive.findTeamsByWinRate(null);
+    }
+
+    private static PlayerStatsStats stats(SplittableRandom random) {
+        int attempted = random.nextInt(25);
+        int made = random.nextInt(attempted + 1);
+        return new PlayerStatsStats()
+            .points(made * 2 + random.nextInt(8))
+            .assists(random.nextInt(12))
+            .rebounds(random.nextInt(15))
+            .steals(random.nextInt(4))
+            .blocks(random.nextInt(4))
+            .minutesPlayed(random.nextInt(48))
+            .fieldGoalsMade(made)
+            .fieldGoalsAttempted(attempted)
+            .turnovers(random.nextInt(6));
+    }
+}
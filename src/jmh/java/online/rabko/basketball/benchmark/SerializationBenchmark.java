@@ -0,0 +1,107 @@
+package online.rabko.basketball.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import online.rabko.model.Match;
+import online.rabko.model.PlayerStats;
+import online.rabko.model.PlayerStatsStats;
+import online.rabko.model.TeamStats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Benchmarks the JSON serialization of the generated response models, with an object mapper set
+ * up the way Spring Boot configures the one used by the controllers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"1", "100"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<PlayerStats> playerStats;
+    private List<Match> matches;
+    private List<TeamStats> teamStats;
+
+    /**
+     * Builds response bodies of the benchmarked size.
+     */
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+        playerStats = new ArrayList<>();
+        matches = new ArrayList<>();
+        teamStats = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            playerStats.add(new PlayerStats(i, i / 10, i, i % 30, new PlayerStatsStats()
+                .points(20 + i % 15).assists(i % 9).rebounds(i % 12).steals(i % 3)
+                .blocks(i % 2).minutesPlayed(30).fieldGoalsMade(8).fieldGoalsAttempted(17)
+                .threePointsMade(2).threePointsAttempted(6).freeThrowsMade(4)
+                .freeThrowsAttempted(5).turnovers(2).fouls(3)));
+            matches.add(new Match(i, 1, LocalDate.of(2023, 10, 24).plusDays(i % 180), i % 30,
+                (i + 1) % 30).homeTeamScore(100 + i % 20).awayTeamScore(95 + i % 25));
+            teamStats.add(new TeamStats(i, "Team " + i)
+                .averagePoints(new BigDecimal("104.37"))
+                .winRate(new BigDecimal("0.5610"))
+                .totalWins(46)
+                .totalLosses(36));
+        }
+    }
+
+    /**
+     * Serializes box scores, as the leaderboards return them.
+     *
+     * @return the JSON
+     * @throws JsonProcessingException if serialization fails
+     */
+    @Benchmark
+    public String playerStats() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(playerStats);
+    }
+
+    /**
+     * Serializes matches, as {@code GET /matches} returns them.
+     *
+     * @return the JSON
+     * @throws JsonProcessingException if serialization fails
+     */
+    @Benchmark
+    public String matches() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(matches);
+    }
+
+    /**
+     * Serializes team statistics, as the standings return them.
+     *
+     * @return the JSON
+     * @throws JsonProcessingException if serialization fails
+     */
+    @Benchmark
+    public String teamStats() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(teamStats);
+    }
+}
@@ -0,0 +1,23 @@
+package online.rabko.basketball.load;
+
+import java.util.Map;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Benchmark of the stats reads served by the blocking controller over the JDBC pools.
+ */
+@TestPropertySource(properties = "stats.reactive.enabled=false")
+class BlockingStatsBenchmark extends ModeBenchmark {
+
+    /**
+     * Stats reads the reactive path serves over R2DBC, shared with {@link ReactiveStatsBenchmark}.
+     */
+    static final Map<Endpoint, Integer> STATS_MIX = Map.of(
+        Endpoint.LEADERBOARD, 1,
+        Endpoint.TEAM_STANDINGS, 1,
+        Endpoint.HIGHEST_SCORING, 1);
+
+    BlockingStatsBenchmark() {
+        super("stats-blocking", 2210, STATS_MIX);
+    }
+}
@@ -0,0 +1,95 @@
+package online.rabko.basketball.load;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.BiFunction;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+/**
+ * The endpoints driven by the load test, with their share of the traffic.
+ *
+ * <p>The mix follows what a season's traffic looks like: mostly match pages, leaderboards and
+ * listings, a steady trickle of box score entry, and the occasional sign-in. Endpoints without a
+ * share are left out of it and only driven by benchmarks giving them one.
+ */
+@Getter
+@RequiredArgsConstructor
+enum Endpoint {
+
+    SIGN_IN(5, (context, random) -> post(context, "/auth/token", """
+        {"username":"%s","password":"%s"}""".formatted(context.username(), context.password()))),
+    LIST_PLAYERS(15, (context, random) -> get(context, "/players?sort=id&order=asc")),
+    LIST_MATCHES(15, (context, random) -> get(context,
+        "/matches?season_id=" + context.seasonId())),
+    MATCH_DETAIL(30, (context, random) -> get(context,
+        "/matches/" + pick(context.matchIds(), random) + "/detail")),
+    LEADERBOARD(25, (context, random) -> get(context,
+        "/stats/players/top-scorers?season_id=" + context.seasonId())),
+    TEAM_STANDINGS(0, (context, random) -> get(context,
+        "/stats/teams/win-rate?season_id=" + context.seasonId())),
+    HIGHEST_SCORING(0, (context, random) -> get(context,
+        "/stats/matches/highest-scoring?season_id=" + context.seasonId())),
+    STATS_WRITE(10, (context, random) -> {
+        LoadContext.BoxScoreSlot slot = pick(context.boxScores(), random);
+        return post(context, "/matches/" + slot.matchId() + "/stats", """
+            {"id":0,"match_id":%d,"player_id":%d,"team_id":%d,"stats":{"points":%d,"assists":%d}}"""
+            .formatted(slot.matchId(), slot.playerId(), slot.teamId(), random.nextInt(40),
+                random.nextInt(12)));
+    });
+
+    private final int weight;
+    private final BiFunction<LoadContext, SplittableRandom, HttpRequest> request;
+
+    /**
+     * Returns the weight of every endpoint with a share of the season's traffic.
+     *
+     * @return the default mix
+     */
+    static Map<Endpoint, Integer> defaultMix() {
+        Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : values()) {
+            if (endpoint.getWeight() > 0) {
+                mix.put(endpoint, endpoint.getWeight());
+            }
+        }
+        return mix;
+    }
+
+    /**
+     * Builds the next request to this endpoint.
+     *
+     * @param context the seeded data and credentials
+     * @param random  the source of the ids to request
+     * @return the request
+     */
+    HttpRequest request(LoadContext context, SplittableRandom random) {
+        return request.apply(context, random);
+    }
+
+    private static HttpRequest get(LoadContext context, String path) {
+        return authorized(context, path).GET().build();
+    }
+
+    private static HttpRequest post(LoadContext context, String path, String body) {
+        return authorized(context, path)
+            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+            .POST(BodyPublishers.ofString(body))
+            .build();
+    }
+
+    private static HttpRequest.Builder authorized(LoadContext context, String path) {
+        return HttpRequest.newBuilder(context.baseUri().resolve(path))
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + context.token());
+    }
+
+    private static <T> T pick(List<T> values, SplittableRandom random) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
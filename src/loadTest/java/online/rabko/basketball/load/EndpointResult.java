@@ -0,0 +1,17 @@
+package online.rabko.basketball.load;
+
+/**
+ * Latency percentiles and throughput of one endpoint over a load test run. Latencies are in
+ * milliseconds, measured from the moment the request was due to be sent.
+ *
+ * @param requests   the number of requests sent
+ * @param errors     the number of requests that failed or got an error status
+ * @param throughput the successful requests per second
+ * @param p50        the median latency
+ * @param p99        the 99th percentile latency
+ * @param p999       the 99.9th percentile latency
+ * @param max        the maximum latency
+ */
+record EndpointResult(long requests, long errors, double throughput, double p50, double p99,
+                      double p999, double max) {
+}
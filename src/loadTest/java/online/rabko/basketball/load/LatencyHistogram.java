@@ -0,0 +1,97 @@
+package online.rabko.basketball.load;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Latency histogram with log-linear buckets after Gil Tene's HdrHistogram.
+ *
+ * <p>Values below {@value #SUB_BUCKETS} have a bucket each. Above that, every power of two is
+ * split into {@value #HALF_SUB_BUCKETS} equal buckets, so any recorded value is reported within
+ * 0.1% of itself however large it is, in a fixed number of counters. Recording is a single atomic
+ * increment and may happen from any thread; percentiles are read once recording is done.
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 11;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKETS = SUB_BUCKETS / 2;
+    private static final int MAX_SHIFT = Long.SIZE - SUB_BUCKET_BITS;
+
+    private final AtomicLongArray counts =
+        new AtomicLongArray(SUB_BUCKETS + MAX_SHIFT * HALF_SUB_BUCKETS);
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a value.
+     *
+     * @param value the value, in any unit; negative values are recorded as zero
+     */
+    void record(long value) {
+        long recorded = Math.max(0, value);
+        counts.incrementAndGet(indexOf(recorded));
+        total.incrementAndGet();
+        max.accumulateAndGet(recorded, Math::max);
+    }
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return the count
+     */
+    long getCount() {
+        return total.get();
+    }
+
+    /**
+     * Returns the largest recorded value, exactly.
+     *
+     * @return the maximum, or zero if nothing was recorded
+     */
+    long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the value at a percentile: the highest value in the bucket that brings the count of
+     * values at or below it to the percentile.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the value, or zero if nothing was recorded
+     */
+    long valueAtPercentile(double percentile) {
+        long count = total.get();
+        if (count == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(Math.min(percentile, 100) / 100 * count));
+        long cumulative = 0;
+        for (int index = 0; index < counts.length(); index++) {
+            cumulative += counts.get(index);
+            if (cumulative >= target) {
+                return Math.min(highestValueAt(index), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return SUB_BUCKETS + (shift - 1) * HALF_SUB_BUCKETS
+            + (int) (value >>> shift) - HALF_SUB_BUCKETS;
+    }
+
+    private static long highestValueAt(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int offset = index - SUB_BUCKETS;
+        int shift = offset / HALF_SUB_BUCKETS + 1;
+        long subBucket = offset % HALF_SUB_BUCKETS + HALF_SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
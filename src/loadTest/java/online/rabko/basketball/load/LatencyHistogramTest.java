@@ -0,0 +1,50 @@
+package online.rabko.basketball.load;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link LatencyHistogram}.
+ */
+class LatencyHistogramTest {
+
+    @Test
+    void valueAtPercentile_shouldBeExact_forSmallValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value);
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(500, histogram.valueAtPercentile(50));
+        assertEquals(990, histogram.valueAtPercentile(99));
+        assertEquals(1000, histogram.valueAtPercentile(100));
+        assertEquals(1000, histogram.getMax());
+    }
+
+    @Test
+    void valueAtPercentile_shouldStayWithinPrecision_forLargeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(value * 1_000_003);
+        }
+
+        long p99 = histogram.valueAtPercentile(99);
+        long expected = 9_900L * 1_000_003;
+        assertTrue(Math.abs(p99 - expected) <= expected / 1000, "p99 was " + p99);
+        assertEquals(10_000L * 1_000_003, histogram.valueAtPercentile(100));
+    }
+
+    @Test
+    void record_shouldClampNegativeValues_andEmptyHistogramShouldReadZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.valueAtPercentile(99));
+
+        histogram.record(-5);
+
+        assertEquals(0, histogram.valueAtPercentile(50));
+        assertEquals(1, histogram.getCount());
+    }
+}
@@ -0,0 +1,30 @@
+package online.rabko.basketball.load;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * Everything the generated requests refer to: where the application listens, the credentials of
+ * the load test user and the ids of the seeded data.
+ *
+ * @param baseUri   the root URI of the running application
+ * @param username  the username of the load test user
+ * @param password  the password of the load test user
+ * @param token     a JWT of the load test user
+ * @param seasonId  the seeded season
+ * @param matchIds  the seeded matches
+ * @param boxScores the seeded box scores, which stats writes overwrite
+ */
+record LoadContext(URI baseUri, String username, String password, String token,
+                   Integer seasonId, List<Integer> matchIds, List<BoxScoreSlot> boxScores) {
+
+    /**
+     * A player's box score in a match.
+     *
+     * @param matchId  the match
+     * @param playerId the player
+     * @param teamId   the team the player played for
+     */
+    record BoxScoreSlot(Integer matchId, Integer playerId, Integer teamId) {
+    }
+}
@@ -0,0 +1,138 @@
+package online.rabko.basketball.load;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator: sends requests at a constant arrival rate whatever the response
+ * times, the way independent users do.
+ *
+ * <p>Request {@code i} is due {@code i / rate} seconds after the start and is sent asynchronously
+ * at that moment, without waiting for earlier responses. Its latency is measured from when it was
+ * due rather than from when it was actually sent, so a stall of the generator or of the
+ * application shows up in the percentiles instead of silently lowering the load (coordinated
+ * omission). Endpoints are chosen at random in proportion to their weights, from a fixed seed.
+ * The weights are those of {@link Endpoint} unless a benchmark gives its own mix.
+ */
+final class LoadGenerator {
+
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final double MICROS_PER_MILLI = TimeUnit.MILLISECONDS.toMicros(1);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final LoadContext context;
+    private final Map<Endpoint, Integer> mix;
+    private final SplittableRandom random;
+    private final int totalWeight;
+
+    /**
+     * Creates a generator sending the default mix of {@link Endpoint}.
+     *
+     * @param client  the HTTP client
+     * @param context the seeded data and credentials
+     * @param seed    the seed of the endpoint and id choices
+     */
+    LoadGenerator(HttpClient client, LoadContext context, long seed) {
+        this(client, context, Endpoint.defaultMix(), seed);
+    }
+
+    /**
+     * Creates a generator sending the given mix of endpoints.
+     *
+     * @param client  the HTTP client
+     * @param context the seeded data and credentials
+     * @param mix     the weight of every endpoint to send requests to
+     * @param seed    the seed of the endpoint and id choices
+     */
+    LoadGenerator(HttpClient client, LoadContext context, Map<Endpoint, Integer> mix,
+        long seed) {
+        this.client = client;
+        this.context = context;
+        this.mix = new EnumMap<>(mix);
+        this.random = new SplittableRandom(seed);
+        this.totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * Sends requests at a constant rate for a while and waits for all responses.
+     *
+     * @param ratePerSecond the arrival rate
+     * @param duration      how long to keep sending
+     * @return the results per endpoint
+     */
+    Map<Endpoint, EndpointResult> run(double ratePerSecond, Duration duration) {
+        Map<Endpoint, LatencyHistogram> histograms = new EnumMap<>(Endpoint.class);
+        Map<Endpoint, AtomicLong> errors = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : mix.keySet()) {
+            histograms.put(endpoint, new LatencyHistogram());
+            errors.put(endpoint, new AtomicLong());
+        }
+        long requests = (long) (ratePerSecond * duration.toNanos() / NANOS_PER_SECOND);
+        double interval = NANOS_PER_SECOND / ratePerSecond;
+        AtomicLong lastResponse = new AtomicLong();
+        List<CompletableFuture<?>> responses = new ArrayList<>();
+        long start = System.nanoTime();
+        for (long i = 0; i < requests; i++) {
+            final long due = start + (long) (i * interval);
+            final Endpoint endpoint = next();
+            final HttpRequest request = endpoint.request(context, random);
+            for (long wait = due - System.nanoTime(); wait > 0; wait = due - System.nanoTime()) {
+                LockSupport.parkNanos(wait);
+            }
+            responses.add(client.sendAsync(request, BodyHandlers.discarding())
+                .orTimeout(REQUEST_TIMEOUT.toSeconds(), TimeUnit.SECONDS)
+                .whenComplete((response, failure) -> {
+                    long now = System.nanoTime();
+                    histograms.get(endpoint).record(TimeUnit.NANOSECONDS.toMicros(now - due));
+                    lastResponse.accumulateAndGet(now, Math::max);
+                    if (Objects.nonNull(failure) || response.statusCode() >= 400) {
+                        errors.get(endpoint).incrementAndGet();
+                    }
+                }));
+        }
+        CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new))
+            .exceptionally(failure -> null)
+            .join();
+        double seconds = Math.max(lastResponse.get() - start, duration.toNanos())
+            / NANOS_PER_SECOND;
+        Map<Endpoint, EndpointResult> results = new EnumMap<>(Endpoint.class);
+        histograms.forEach((endpoint, histogram) -> results.put(endpoint,
+            result(histogram, errors.get(endpoint).get(), seconds)));
+        return results;
+    }
+
+    private Endpoint next() {
+        int ticket = random.nextInt(totalWeight);
+        for (Map.Entry<Endpoint, Integer> endpoint : mix.entrySet()) {
+            ticket -= endpoint.getValue();
+            if (ticket < 0) {
+                return endpoint.getKey();
+            }
+        }
+        throw new IllegalStateException("Endpoint weights changed");
+    }
+
+    private static EndpointResult result(LatencyHistogram histogram, long errors, double seconds) {
+        long requests = histogram.getCount();
+        return new EndpointResult(requests, errors, (requests - errors) / seconds,
+            millis(histogram.valueAtPercentile(50)), millis(histogram.valueAtPercentile(99)),
+            millis(histogram.valueAtPercentile(99.9)), millis(histogram.getMax()));
+    }
+
+    private static double millis(long micros) {
+        return micros / MICROS_PER_MILLI;
+    }
+}
@@ -0,0 +1,58 @@
+package online.rabko.basketball.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * End-to-end load test: seeds a season, drives the {@link Endpoint} mix over HTTP at a constant
+ * arrival rate and fails when latency or throughput regress against the stored baseline.
+ *
+ * <p>Run with {@code ./gradlew loadTest}. The rate, durations and thresholds are read from the
+ * {@code loadTest.*} system properties the Gradle task passes on; {@code -PloadTest.updateBaseline}
+ * stores the results of the run as the new baseline instead of comparing against it. Baselines
+ * are only comparable on the same hardware, so refresh the stored one whenever the machine
+ * running the gate changes.
+ */
+class LoadTest extends LoadTestBase {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTest.class);
+    private static final int SEASON_YEAR = 2200;
+    private static final long SEED = 42;
+
+    @Test
+    void endpoints_shouldNotRegress_againstBaseline() throws IOException, InterruptedException {
+        HttpClient client = client();
+        LoadContext context = seed(client, "Load Test", SEASON_YEAR);
+        LoadGenerator generator = new LoadGenerator(client, context, SEED);
+        double rate = Double.parseDouble(property("rate", "30"));
+
+        generator.run(rate, Duration.parse(property("warmup", "PT10S")));
+        Map<Endpoint, EndpointResult> results = generator.run(rate,
+            Duration.parse(property("duration", "PT30S")));
+
+        results.forEach((endpoint, result) -> log.info("{}: {}", endpoint, result));
+        LoadTestBaseline.write(Path.of(property("results", "build/reports/load-test/results.json")),
+            results);
+        Path baselineFile = Path.of(property("baseline",
+            "src/loadTest/resources/load-test-baseline.json"));
+        if (Boolean.parseBoolean(property("updateBaseline", "false"))) {
+            LoadTestBaseline.write(baselineFile, results);
+            return;
+        }
+        assertThat(results.values()).allSatisfy(result -> assertThat(result.errors()).isZero());
+        assertThat(LoadTestBaseline.regressions(LoadTestBaseline.read(baselineFile), results,
+            new LoadTestBaseline.Thresholds(
+                Double.parseDouble(property("latencyTolerance", "0.25")),
+                Double.parseDouble(property("latencyFloorMillis", "5")),
+                Double.parseDouble(property("throughputTolerance", "0.10")))))
+            .isEmpty();
+    }
+}
@@ -0,0 +1,166 @@
+package online.rabko.basketball.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import online.rabko.basketball.integration.IntegrationTestBase;
+import online.rabko.basketball.service.MatchService;
+import online.rabko.basketball.service.PlayerService;
+import online.rabko.basketball.service.SeasonService;
+import online.rabko.basketball.service.TeamService;
+import online.rabko.model.JwtAuthenticationResponse;
+import online.rabko.model.Match;
+import online.rabko.model.Player;
+import online.rabko.model.PlayerStats;
+import online.rabko.model.PlayerStatsStats;
+import online.rabko.model.Season;
+import online.rabko.model.SignUpRequest;
+import online.rabko.model.Team;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Base class of the tests driving the application over HTTP: boots it on a random port against
+ * the test database and seeds a season of matches and box scores for the requests to refer to.
+ *
+ * <p>Per-statement SQL and security debug logging are switched off, as writing them to the
+ * console would dominate the latencies being measured, and so is rate limiting, as the whole load
+ * comes from a single user on a single address. Settings are read from the {@code loadTest.*}
+ * system properties the Gradle tasks pass on.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = {
+    "spring.jpa.show-sql=false",
+    "logging.level.org.springframework.security=INFO",
+    "rate-limit.enabled=false"
+})
+abstract class LoadTestBase extends IntegrationTestBase {
+
+    private static final int TEAMS = 10;
+    private static final int PLAYERS_PER_TEAM = 12;
+    private static final int BOX_SCORES_PER_TEAM = 5;
+    private static final String PASSWORD = "load-test-password";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private SeasonService seasonService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private MatchService matchService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Creates the HTTP client sending the requests.
+     *
+     * @return the client
+     */
+    static HttpClient client() {
+        return HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    }
+
+    /**
+     * Seeds a season in which every team plays every other at home, with box scores, and signs
+     * up the user sending the requests. Names are prefixed, so that several tests can seed the
+     * same database.
+     *
+     * @param client     the HTTP client
+     * @param name       the prefix of the seeded names and of the username
+     * @param seasonYear the year the season starts in, distinct for every test
+     * @return the seeded data and credentials
+     * @throws IOException          if signing up fails
+     * @throws InterruptedException if interrupted while signing up
+     */
+    LoadContext seed(HttpClient client, String name, int seasonYear)
+        throws IOException, InterruptedException {
+        Season season = seasonService.create(new Season(0, name + " " + seasonYear,
+            LocalDate.of(seasonYear, 10, 1), LocalDate.of(seasonYear + 1, 4, 30)));
+        List<Team> teams = new ArrayList<>();
+        List<List<Player>> rosters = new ArrayList<>();
+        for (int t = 0; t < TEAMS; t++) {
+            Team team = teamService.create(new Team(0, name + " Team " + t));
+            List<Player> roster = new ArrayList<>();
+            for (int p = 0; p < PLAYERS_PER_TEAM; p++) {
+                roster.add(playerService.create(new Player(0, "Load" + t, "Player" + p)
+                    .teamId(team.getId())));
+            }
+            teams.add(team);
+            rosters.add(roster);
+        }
+        List<Integer> matchIds = new ArrayList<>();
+        List<LoadContext.BoxScoreSlot> boxScores = new ArrayList<>();
+        for (int home = 0; home < TEAMS; home++) {
+            for (int away = 0; away < TEAMS; away++) {
+                if (home == away) {
+                    continue;
+                }
+                Match match = matchService.create(new Match(0, season.getId(),
+                    season.getStartDate().plusDays(matchIds.size() / 2),
+                    teams.get(home).getId(), teams.get(away).getId())
+                    .homeTeamScore(95 + (home * 7 + away * 3) % 30)
+                    .awayTeamScore(95 + (home * 5 + away * 11) % 30));
+                matchIds.add(match.getId());
+                for (int side : List.of(home, away)) {
+                    for (int p = 0; p < BOX_SCORES_PER_TEAM; p++) {
+                        Player player = rosters.get(side).get((match.getId() + p)
+                            % PLAYERS_PER_TEAM);
+                        matchService.saveStats(match.getId(), new PlayerStats(0, match.getId(),
+                            player.getId(), teams.get(side).getId(),
+                            new PlayerStatsStats().points(10 + (p * 7 + side) % 25)));
+                        boxScores.add(new LoadContext.BoxScoreSlot(match.getId(),
+                            player.getId(), teams.get(side).getId()));
+                    }
+                }
+            }
+        }
+        URI baseUri = URI.create("http://localhost:" + port);
+        String username = name.toLowerCase().replace(' ', '-');
+        return new LoadContext(baseUri, username, PASSWORD,
+            signUp(client, baseUri, username), season.getId(), matchIds, boxScores);
+    }
+
+    /**
+     * Reads a {@code loadTest.*} system property.
+     *
+     * @param name         the name of the property, without the prefix
+     * @param defaultValue the value if the property is not set
+     * @return the value
+     */
+    static String property(String name, String defaultValue) {
+        return System.getProperty("loadTest." + name, defaultValue);
+    }
+
+    private String signUp(HttpClient client, URI baseUri, String username)
+        throws IOException, InterruptedException {
+        String body = client.send(HttpRequest.newBuilder(baseUri.resolve("/auth/sign-up"))
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .POST(BodyPublishers.ofString(objectMapper.writeValueAsString(
+                    new SignUpRequest(username, PASSWORD))))
+                .build(), BodyHandlers.ofString())
+            .body();
+        return objectMapper.readValue(body, JwtAuthenticationResponse.class).getToken();
+    }
+}
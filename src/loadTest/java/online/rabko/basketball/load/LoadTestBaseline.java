@@ -0,0 +1,110 @@
+package online.rabko.basketball.load;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Stored load test results that later runs are compared against, and the comparison itself.
+ *
+ * <p>A run regresses when, for any endpoint in the baseline, a latency percentile grows by more
+ * than the latency tolerance and by more than the latency floor, so that sub-millisecond jitter on
+ * fast endpoints does not fail the run, or when throughput drops by more than the throughput
+ * tolerance. Endpoints missing from the baseline are not compared.
+ */
+final class LoadTestBaseline {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+        .enable(SerializationFeature.INDENT_OUTPUT);
+    private static final Map<String, ToDoubleFunction<EndpointResult>> PERCENTILES = Map.of(
+        "p50", EndpointResult::p50,
+        "p99", EndpointResult::p99,
+        "p999", EndpointResult::p999);
+
+    private LoadTestBaseline() {
+    }
+
+    /**
+     * Reads results written by {@link #write}.
+     *
+     * @param file the file
+     * @return the results per endpoint name, empty if the file does not exist
+     * @throws IOException if the file cannot be read
+     */
+    static Map<String, EndpointResult> read(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return Map.of();
+        }
+        return MAPPER.readValue(file.toFile(),
+            new TypeReference<TreeMap<String, EndpointResult>>() {
+            });
+    }
+
+    /**
+     * Writes results as JSON, endpoints in name order so that runs diff cleanly.
+     *
+     * @param file    the file
+     * @param results the results per endpoint
+     * @throws IOException if the file cannot be written
+     */
+    static void write(Path file, Map<Endpoint, EndpointResult> results) throws IOException {
+        Map<String, EndpointResult> byName = new TreeMap<>();
+        results.forEach((endpoint, result) -> byName.put(endpoint.name(), result));
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        MAPPER.writeValue(file.toFile(), byName);
+    }
+
+    /**
+     * Compares results against a baseline.
+     *
+     * @param baseline   the baseline per endpoint name
+     * @param results    the results of this run
+     * @param thresholds the allowed regressions
+     * @return a description of every regression, empty if there is none
+     */
+    static List<String> regressions(Map<String, EndpointResult> baseline,
+        Map<Endpoint, EndpointResult> results, Thresholds thresholds) {
+        List<String> regressions = new ArrayList<>();
+        results.forEach((endpoint, result) -> {
+            EndpointResult expected = baseline.get(endpoint.name());
+            if (Objects.isNull(expected)) {
+                return;
+            }
+            new TreeMap<>(PERCENTILES).forEach((name, percentile) -> {
+                double was = percentile.applyAsDouble(expected);
+                double is = percentile.applyAsDouble(result);
+                if (is > was * (1 + thresholds.latencyTolerance())
+                    && is - was > thresholds.latencyFloorMillis()) {
+                    regressions.add("%s %s %.2f ms, baseline %.2f ms".formatted(endpoint, name,
+                        is, was));
+                }
+            });
+            if (result.throughput() < expected.throughput()
+                * (1 - thresholds.throughputTolerance())) {
+                regressions.add("%s throughput %.1f/s, baseline %.1f/s".formatted(endpoint,
+                    result.throughput(), expected.throughput()));
+            }
+        });
+        return regressions;
+    }
+
+    /**
+     * How much worse than the baseline a run may be.
+     *
+     * @param latencyTolerance    the allowed relative growth of a latency percentile
+     * @param latencyFloorMillis  the growth of a latency percentile always allowed, in milliseconds
+     * @param throughputTolerance the allowed relative drop of throughput
+     */
+    record Thresholds(double latencyTolerance, double latencyFloorMillis,
+                      double throughputTolerance) {
+    }
+}
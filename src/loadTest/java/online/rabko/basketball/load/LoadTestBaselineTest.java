@@ -0,0 +1,55 @@
+package online.rabko.basketball.load;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link LoadTestBaseline}.
+ */
+class LoadTestBaselineTest {
+
+    private static final LoadTestBaseline.Thresholds THRESHOLDS =
+        new LoadTestBaseline.Thresholds(0.25, 5, 0.10);
+    private static final EndpointResult BASELINE =
+        new EndpointResult(1000, 0, 100, 10, 40, 80, 120);
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void read_shouldReturnWhatWasWritten() throws IOException {
+        Path file = directory.resolve("baseline.json");
+
+        LoadTestBaseline.write(file, Map.of(Endpoint.LEADERBOARD, BASELINE));
+
+        assertEquals(Map.of("LEADERBOARD", BASELINE), LoadTestBaseline.read(file));
+        assertTrue(LoadTestBaseline.read(directory.resolve("missing.json")).isEmpty());
+    }
+
+    @Test
+    void regressions_shouldIgnoreGrowthBelowToleranceOrFloor() {
+        EndpointResult result = new EndpointResult(1000, 0, 95, 14, 49, 99, 500);
+
+        assertTrue(LoadTestBaseline.regressions(Map.of("LEADERBOARD", BASELINE),
+            Map.of(Endpoint.LEADERBOARD, result), THRESHOLDS).isEmpty());
+    }
+
+    @Test
+    void regressions_shouldReportSlowerPercentilesAndLowerThroughput() {
+        EndpointResult result = new EndpointResult(1000, 0, 80, 10, 60, 80, 120);
+
+        List<String> regressions = LoadTestBaseline.regressions(
+            Map.of("LEADERBOARD", BASELINE),
+            Map.of(Endpoint.LEADERBOARD, result, Endpoint.SIGN_IN, result), THRESHOLDS);
+
+        assertEquals(List.of("LEADERBOARD p99 60.00 ms, baseline 40.00 ms",
+            "LEADERBOARD throughput 80.0/s, baseline 100.0/s"), regressions);
+    }
+}
@@ -0,0 +1,64 @@
+package online.rabko.basketball.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Drives a mix of endpoints over HTTP against the application started in one mode, so that the
+ * results of the subclasses, one per mode, can be compared side by side.
+ *
+ * <p>Run with {@code ./gradlew modeBenchmark}. The latency percentiles and throughput of every
+ * endpoint are logged and written to {@code build/reports/load-test/benchmark-<mode>.json}; they
+ * are reported rather than asserted on, as they depend on the machine. Only failed requests fail
+ * the benchmark.
+ */
+@Tag("benchmark")
+abstract class ModeBenchmark extends LoadTestBase {
+
+    private static final Logger log = LoggerFactory.getLogger(ModeBenchmark.class);
+    private static final long SEED = 42;
+
+    private final String mode;
+    private final int seasonYear;
+    private final Map<Endpoint, Integer> mix;
+
+    /**
+     * Creates the benchmark of a mode.
+     *
+     * @param mode       the name of the mode, used in the seeded names and the report
+     * @param seasonYear the year of the seeded season, distinct for every mode
+     * @param mix        the weight of every endpoint to send requests to
+     */
+    ModeBenchmark(String mode, int seasonYear, Map<Endpoint, Integer> mix) {
+        this.mode = mode;
+        this.seasonYear = seasonYear;
+        this.mix = mix;
+    }
+
+    @Test
+    void endpoints_shouldBeMeasured_inMode() throws IOException, InterruptedException {
+        HttpClient client = client();
+        LoadContext context = seed(client, "Benchmark " + mode, seasonYear);
+        LoadGenerator generator = new LoadGenerator(client, context, mix, SEED);
+        double rate = Double.parseDouble(property("rate", "30"));
+
+        generator.run(rate, Duration.parse(property("warmup", "PT10S")));
+        Map<Endpoint, EndpointResult> results = generator.run(rate,
+            Duration.parse(property("duration", "PT30S")));
+
+        results.forEach((endpoint, result) -> log.info("{} {}: p50 {} ms, p99 {} ms, {} req/s",
+            mode, endpoint, result.p50(), result.p99(), result.throughput()));
+        LoadTestBaseline.write(Path.of(property("reports", "build/reports/load-test"))
+            .resolve("benchmark-" + mode + ".json"), results);
+        assertThat(results.values()).allSatisfy(result -> assertThat(result.errors()).isZero());
+    }
+}
@@ -0,0 +1,14 @@
+package online.rabko.basketball.load;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Benchmark of the default mix served by Tomcat's pool of platform threads.
+ */
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadsBenchmark extends ModeBenchmark {
+
+    PlatformThreadsBenchmark() {
+        super("threads-platform", 2220, Endpoint.defaultMix());
+    }
+}
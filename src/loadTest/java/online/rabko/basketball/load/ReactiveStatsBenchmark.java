@@ -0,0 +1,15 @@
+package online.rabko.basketball.load;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Benchmark of the stats reads served by the reactive controller over R2DBC, to compare with
+ * {@link BlockingStatsBenchmark}.
+ */
+@TestPropertySource(properties = "stats.reactive.enabled=true")
+class ReactiveStatsBenchmark extends ModeBenchmark {
+
+    ReactiveStatsBenchmark() {
+        super("stats-reactive", 2211, BlockingStatsBenchmark.STATS_MIX);
+    }
+}
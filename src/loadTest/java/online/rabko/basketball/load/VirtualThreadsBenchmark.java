@@ -0,0 +1,15 @@
+package online.rabko.basketball.load;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Benchmark of the default mix served by Tomcat on virtual threads, to compare with
+ * {@link PlatformThreadsBenchmark}.
+ */
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadsBenchmark extends ModeBenchmark {
+
+    VirtualThreadsBenchmark() {
+        super("threads-virtual", 2221, Endpoint.defaultMix());
+    }
+}
@@ -1,7 +1,13 @@
 package online.rabko.basketball;
 
+import online.rabko.basketball.config.LeagueBackupRunner;
+import online.rabko.basketball.config.LeagueGeneratorRunner;
+import online.rabko.basketball.config.SchemaMigrationRunner;
+import org.springframework.aot.AotDetector;
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
 
 /**
  * Main entry point for a Spring Boot application.
@@ -9,13 +15,28 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 @SpringBootApplication
 public class BasketballApplication {
 
+    private static final String LIQUIBASE_ENABLED = "spring.liquibase.enabled";
+
     /**
-     * Starts the Spring Boot application.
+     * Starts the Spring Boot application. With a {@code --backup} or {@code --restore} option the
+     * application starts without a web server, runs the {@link LeagueBackupRunner} and exits;
+     * with {@code --generate} it does the same with the {@link LeagueGeneratorRunner}, and with
+     * {@code --migrate} it applies the pending schema migrations before running the
+     * {@link SchemaMigrationRunner}. Commands ignore {@code spring.aot.enabled}, as the bean
+     * definitions generated ahead of time describe the web application.
      *
      * @param args command-line arguments
      */
     public static void main(String[] args) {
+        if (SchemaMigrationRunner.isCommand(args)) {
+            System.setProperty(LIQUIBASE_ENABLED, "true");
+        }
+        if (LeagueBackupRunner.isCommand(args) || LeagueGeneratorRunner.isCommand(args)
+            || SchemaMigrationRunner.isCommand(args)) {
+            System.setProperty(AotDetector.AOT_ENABLED, "false");
+            System.exit(SpringApplication.exit(new SpringApplicationBuilder(
+                BasketballApplication.class).web(WebApplicationType.NONE).run(args)));
+        }
         SpringApplication.run(BasketballApplication.class, args);
     }
 }
-
@@ -0,0 +1,135 @@
+package online.rabko.basketball.archive;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import online.rabko.model.PlayerStatsStats;
+
+/**
+ * Columns of a season archive, in the order they are stored. Match columns hold one value per
+ * match, box score columns one value per box score.
+ *
+ * <p>Ids, match dates and the match of each box score are stored as deltas from the previous row,
+ * which keeps them at one byte per row because rows are written in id order. Box score values may
+ * be missing and are stored shifted by one, zero marking a missing value.
+ */
+enum ArchiveColumn {
+
+    MATCH_ID(false, Encoding.DELTA),
+    MATCH_DATE(false, Encoding.DELTA),
+    HOME_TEAM_ID(false, Encoding.PLAIN),
+    AWAY_TEAM_ID(false, Encoding.PLAIN),
+    HOME_TEAM_SCORE(false, Encoding.NULLABLE),
+    AWAY_TEAM_SCORE(false, Encoding.NULLABLE),
+    BOX_SCORE_ID(true, Encoding.DELTA),
+    BOX_SCORE_MATCH_ID(true, Encoding.DELTA),
+    BOX_SCORE_PLAYER_ID(true, Encoding.PLAIN),
+    BOX_SCORE_TEAM_ID(true, Encoding.PLAIN),
+    POINTS("points", PlayerStatsStats::getPoints, PlayerStatsStats::setPoints),
+    ASSISTS("assists", PlayerStatsStats::getAssists, PlayerStatsStats::setAssists),
+    REBOUNDS("rebounds", PlayerStatsStats::getRebounds, PlayerStatsStats::setRebounds),
+    STEALS("steals", PlayerStatsStats::getSteals, PlayerStatsStats::setSteals),
+    BLOCKS("blocks", PlayerStatsStats::getBlocks, PlayerStatsStats::setBlocks),
+    MINUTES_PLAYED("minutes_played", PlayerStatsStats::getMinutesPlayed,
+        PlayerStatsStats::setMinutesPlayed),
+    FIELD_GOALS_MADE("field_goals_made", PlayerStatsStats::getFieldGoalsMade,
+        PlayerStatsStats::setFieldGoalsMade),
+    FIELD_GOALS_ATTEMPTED("field_goals_attempted", PlayerStatsStats::getFieldGoalsAttempted,
+        PlayerStatsStats::setFieldGoalsAttempted),
+    THREE_POINTS_MADE("three_points_made", PlayerStatsStats::getThreePointsMade,
+        PlayerStatsStats::setThreePointsMade),
+    THREE_POINTS_ATTEMPTED("three_points_attempted", PlayerStatsStats::getThreePointsAttempted,
+        PlayerStatsStats::setThreePointsAttempted),
+    FREE_THROWS_MADE("free_throws_made", PlayerStatsStats::getFreeThrowsMade,
+        PlayerStatsStats::setFreeThrowsMade),
+    FREE_THROWS_ATTEMPTED("free_throws_attempted", PlayerStatsStats::getFreeThrowsAttempted,
+        PlayerStatsStats::setFreeThrowsAttempted),
+    TURNOVERS("turnovers", PlayerStatsStats::getTurnovers, PlayerStatsStats::setTurnovers),
+    FOULS("fouls", PlayerStatsStats::getFouls, PlayerStatsStats::setFouls);
+
+    private static final Map<String, ArchiveColumn> BY_STAT_KEY = Arrays.stream(values())
+        .filter(ArchiveColumn::isStat)
+        .collect(Collectors.toMap(column -> column.statKey, Function.identity()));
+
+    private final boolean boxScore;
+    private final Encoding encoding;
+    private final String statKey;
+    private final Function<PlayerStatsStats, Integer> getter;
+    private final BiConsumer<PlayerStatsStats, Integer> setter;
+
+    ArchiveColumn(boolean boxScore, Encoding encoding) {
+        this.boxScore = boxScore;
+        this.encoding = encoding;
+        this.statKey = null;
+        this.getter = null;
+        this.setter = null;
+    }
+
+    ArchiveColumn(String statKey, Function<PlayerStatsStats, Integer> getter,
+        BiConsumer<PlayerStatsStats, Integer> setter) {
+        this.boxScore = true;
+        this.encoding = Encoding.NULLABLE;
+        this.statKey = statKey;
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    /**
+     * Finds the column holding a box score value.
+     *
+     * @param key the JSON key of the value in the {@code stats} column
+     * @return the column
+     * @throws IllegalArgumentException if no column holds the value
+     */
+    static ArchiveColumn ofStat(String key) {
+        ArchiveColumn column = BY_STAT_KEY.get(key);
+        if (Objects.isNull(column)) {
+            throw new IllegalArgumentException("No archive column for stat " + key);
+        }
+        return column;
+    }
+
+    boolean isBoxScore() {
+        return boxScore;
+    }
+
+    boolean isStat() {
+        return Objects.nonNull(statKey);
+    }
+
+    Encoding encoding() {
+        return encoding;
+    }
+
+    Integer get(PlayerStatsStats stats) {
+        return getter.apply(stats);
+    }
+
+    void set(PlayerStatsStats stats, Integer value) {
+        setter.accept(stats, value);
+    }
+
+    /**
+     * How the values of a column are turned into varints.
+     */
+    enum Encoding {
+
+        /**
+         * Zigzag varint of the value.
+         */
+        PLAIN,
+
+        /**
+         * Zigzag varint of the difference to the previous value in the column.
+         */
+        DELTA,
+
+        /**
+         * Zero for a missing value, otherwise the zigzag-mapped value plus one as a varint.
+         */
+        NULLABLE
+    }
+}
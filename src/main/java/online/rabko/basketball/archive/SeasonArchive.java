@@ -0,0 +1,423 @@
+package online.rabko.basketball.archive;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import online.rabko.basketball.enums.PlayerStatsMetric;
+import online.rabko.model.Match;
+import online.rabko.model.PlayerStats;
+import online.rabko.model.PlayerStatsStats;
+import online.rabko.model.Season;
+import online.rabko.model.Team;
+import online.rabko.model.TeamStats;
+
+/**
+ * Read-only view of a season archive written by {@link SeasonArchiveWriter}.
+ *
+ * <p>The file is memory-mapped and only its header is parsed on open. Queries decode just the
+ * columns they need straight from the mapping, so answering them reads pages from the OS cache
+ * instead of the database and keeps nothing on the heap between calls. Results match those of
+ * the equivalent SQL over the archived rows, including the ordering of ties and missing values.
+ * Instances are immutable and safe to share between threads.
+ */
+public final class SeasonArchive {
+
+    static final int MAGIC = 0x42425341;
+    static final byte VERSION = 1;
+
+    private static final int NULL = Integer.MIN_VALUE;
+
+    private final ByteBuffer buffer;
+    private final Season season;
+    private final Map<Integer, String> teamNames;
+    private final int matchCount;
+    private final int boxScoreCount;
+    private final int[] offsets;
+
+    private SeasonArchive(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        ByteBuffer in = buffer.duplicate();
+        if (in.remaining() < Integer.BYTES + 1 || in.getInt() != MAGIC) {
+            throw new IOException("Not a season archive");
+        }
+        byte version = in.get();
+        if (version != VERSION) {
+            throw new IOException("Unsupported season archive version " + version);
+        }
+        this.season = new Season(VarInts.readUnsigned(in), VarInts.readString(in),
+            LocalDate.ofEpochDay(VarInts.readSigned(in)),
+            LocalDate.ofEpochDay(VarInts.readSigned(in)));
+        int teamCount = VarInts.readUnsigned(in);
+        this.teamNames = new LinkedHashMap<>();
+        for (int i = 0; i < teamCount; i++) {
+            teamNames.put(VarInts.readUnsigned(in), VarInts.readString(in));
+        }
+        this.matchCount = VarInts.readUnsigned(in);
+        this.boxScoreCount = VarInts.readUnsigned(in);
+        this.offsets = new int[ArchiveColumn.values().length];
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = in.getInt();
+        }
+    }
+
+    /**
+     * Memory-maps an archive file and parses its header.
+     *
+     * @param file the archive file
+     * @return the archive
+     * @throws IOException if the file cannot be read or is not a season archive
+     */
+    public static SeasonArchive open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new SeasonArchive(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Returns the archived season.
+     *
+     * @return the season
+     */
+    public Season getSeason() {
+        return season;
+    }
+
+    /**
+     * Returns the number of archived matches.
+     *
+     * @return the match count
+     */
+    public int getMatchCount() {
+        return matchCount;
+    }
+
+    /**
+     * Returns the number of archived box scores.
+     *
+     * @return the box score count
+     */
+    public int getBoxScoreCount() {
+        return boxScoreCount;
+    }
+
+    /**
+     * Returns the size of the archive.
+     *
+     * @return the size in bytes
+     */
+    public long getSize() {
+        return buffer.capacity();
+    }
+
+    /**
+     * Returns the teams the archive refers to.
+     *
+     * @return the teams ordered by id
+     */
+    public List<Team> getTeams() {
+        return teamNames.entrySet().stream()
+            .map(team -> new Team(team.getKey(), team.getValue()))
+            .toList();
+    }
+
+    /**
+     * Decodes all archived matches.
+     *
+     * @return the matches in archive order
+     */
+    public List<Match> getMatches() {
+        int[] ids = decode(ArchiveColumn.MATCH_ID);
+        int[] dates = decode(ArchiveColumn.MATCH_DATE);
+        int[] homeTeams = decode(ArchiveColumn.HOME_TEAM_ID);
+        int[] awayTeams = decode(ArchiveColumn.AWAY_TEAM_ID);
+        int[] homeScores = decode(ArchiveColumn.HOME_TEAM_SCORE);
+        int[] awayScores = decode(ArchiveColumn.AWAY_TEAM_SCORE);
+        List<Match> matches = new ArrayList<>(matchCount);
+        for (int i = 0; i < matchCount; i++) {
+            matches.add(new Match(ids[i], season.getId(), LocalDate.ofEpochDay(dates[i]),
+                homeTeams[i], awayTeams[i])
+                .homeTeamScore(valueOf(homeScores[i]))
+                .awayTeamScore(valueOf(awayScores[i])));
+        }
+        return matches;
+    }
+
+    /**
+     * Decodes all archived box scores.
+     *
+     * @return the box scores in archive order
+     */
+    public List<PlayerStats> getBoxScores() {
+        int[] rows = new int[boxScoreCount];
+        Arrays.setAll(rows, i -> i);
+        return boxScores(rows);
+    }
+
+    /**
+     * Returns the best single-match performances for a metric, like
+     * {@code StatsReadRepository#findLeaders} does for a season in the database.
+     *
+     * @param metric the metric to rank by
+     * @param limit  the maximum number of box scores to return
+     * @param asOf   the last match date to include, or {@code null} for all matches
+     * @return the box scores ordered by the metric, best first, ties by id
+     */
+    public List<PlayerStats> findLeaders(PlayerStatsMetric metric, int limit, LocalDate asOf) {
+        int[] values = new int[boxScoreCount];
+        for (PlayerStatsMetric.Term term : metric.getTerms()) {
+            int[] column = decode(ArchiveColumn.ofStat(term.key()));
+            for (int i = 0; i < boxScoreCount; i++) {
+                if (column[i] != NULL) {
+                    values[i] += term.sign() * column[i];
+                }
+            }
+        }
+        int[] ids = decode(ArchiveColumn.BOX_SCORE_ID);
+        Comparator<Integer> best = Comparator.<Integer>comparingInt(row -> values[row])
+            .reversed()
+            .thenComparingInt(row -> ids[row]);
+        IntPredicate included = row -> true;
+        if (Objects.nonNull(asOf)) {
+            Set<Integer> matchIds = new HashSet<>();
+            int[] dates = decode(ArchiveColumn.MATCH_DATE);
+            int[] matches = decode(ArchiveColumn.MATCH_ID);
+            for (int i = 0; i < matchCount; i++) {
+                if (dates[i] <= asOf.toEpochDay()) {
+                    matchIds.add(matches[i]);
+                }
+            }
+            int[] boxScoreMatches = decode(ArchiveColumn.BOX_SCORE_MATCH_ID);
+            included = row -> matchIds.contains(boxScoreMatches[row]);
+        }
+        return boxScores(top(boxScoreCount, included, best, limit));
+    }
+
+    /**
+     * Returns the results of every team that played, ordered by average points per match.
+     *
+     * @param asOf the last match date to include, or {@code null} for all matches
+     * @return the team statistics, highest average first
+     */
+    public List<TeamStats> findTeamsByAveragePoints(LocalDate asOf) {
+        return teamStats(TeamStats::getAveragePoints, asOf);
+    }
+
+    /**
+     * Returns the results of every team that played, ordered by win rate.
+     *
+     * @param asOf the last match date to include, or {@code null} for all matches
+     * @return the team statistics, highest win rate first
+     */
+    public List<TeamStats> findTeamsByWinRate(LocalDate asOf) {
+        return teamStats(TeamStats::getWinRate, asOf);
+    }
+
+    /**
+     * Returns the matches with the highest combined score.
+     *
+     * @param limit the maximum number of matches to return
+     * @return the matches ordered by combined score, highest first, ties by id
+     */
+    public List<Match> findHighestScoring(int limit) {
+        List<Match> matches = getMatches();
+        Comparator<Integer> best = Comparator.<Integer, Integer>comparing(
+                row -> total(matches.get(row)), Comparator.nullsLast(Comparator.naturalOrder()))
+            .reversed()
+            .thenComparing(row -> matches.get(row).getId());
+        return Arrays.stream(top(matchCount, row -> true, best, limit)).mapToObj(matches::get)
+            .toList();
+    }
+
+    private List<TeamStats> teamStats(Function<TeamStats, BigDecimal> metric, LocalDate asOf) {
+        long lastDay = Objects.isNull(asOf) ? Long.MAX_VALUE : asOf.toEpochDay();
+        int[] dates = decode(ArchiveColumn.MATCH_DATE);
+        int[] homeTeams = decode(ArchiveColumn.HOME_TEAM_ID);
+        int[] awayTeams = decode(ArchiveColumn.AWAY_TEAM_ID);
+        int[] homeScores = decode(ArchiveColumn.HOME_TEAM_SCORE);
+        int[] awayScores = decode(ArchiveColumn.AWAY_TEAM_SCORE);
+        Map<Integer, TeamResults> results = new LinkedHashMap<>();
+        for (int i = 0; i < matchCount; i++) {
+            if (dates[i] > lastDay) {
+                continue;
+            }
+            results.computeIfAbsent(homeTeams[i], TeamResults::new)
+                .add(homeScores[i], awayScores[i]);
+            results.computeIfAbsent(awayTeams[i], TeamResults::new)
+                .add(awayScores[i], homeScores[i]);
+        }
+        return results.values().stream()
+            .map(result -> result.toStats(teamNames.get(result.teamId)))
+            .sorted(Comparator.comparing(metric, Comparator.nullsLast(Comparator.naturalOrder()))
+                .reversed()
+                .thenComparing(TeamStats::getTeamId))
+            .toList();
+    }
+
+    private List<PlayerStats> boxScores(int[] rows) {
+        List<PlayerStats> result = new ArrayList<>(rows.length);
+        int[] ids = pick(ArchiveColumn.BOX_SCORE_ID, rows);
+        int[] matchIds = pick(ArchiveColumn.BOX_SCORE_MATCH_ID, rows);
+        int[] playerIds = pick(ArchiveColumn.BOX_SCORE_PLAYER_ID, rows);
+        int[] teamIds = pick(ArchiveColumn.BOX_SCORE_TEAM_ID, rows);
+        for (int i = 0; i < rows.length; i++) {
+            result.add(new PlayerStats(ids[i], matchIds[i], playerIds[i], teamIds[i],
+                new PlayerStatsStats()));
+        }
+        for (ArchiveColumn column : ArchiveColumn.values()) {
+            if (column.isStat()) {
+                int[] values = pick(column, rows);
+                for (int i = 0; i < rows.length; i++) {
+                    column.set(result.get(i).getStats(), valueOf(values[i]));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Decodes a whole column.
+     */
+    private int[] decode(ArchiveColumn column) {
+        int[] values = new int[column.isBoxScore() ? boxScoreCount : matchCount];
+        ByteBuffer in = buffer.duplicate().position(offsets[column.ordinal()]);
+        int value = 0;
+        for (int row = 0; row < values.length; row++) {
+            value = read(in, column.encoding(), value);
+            values[row] = value;
+        }
+        return values;
+    }
+
+    /**
+     * Decodes the values of a column at the given rows, in the order the rows are given. Varints
+     * can only be read sequentially, so the column is scanned up to the last requested row.
+     */
+    private int[] pick(ArchiveColumn column, int[] rows) {
+        int[] order = new int[rows.length];
+        Arrays.setAll(order, i -> i);
+        int[] sorted = Arrays.stream(order).boxed()
+            .sorted(Comparator.comparingInt(i -> rows[i]))
+            .mapToInt(Integer::intValue)
+            .toArray();
+        int[] values = new int[rows.length];
+        ByteBuffer in = buffer.duplicate().position(offsets[column.ordinal()]);
+        int value = 0;
+        int row = -1;
+        for (int i : sorted) {
+            while (row < rows[i]) {
+                value = read(in, column.encoding(), value);
+                row++;
+            }
+            values[i] = value;
+        }
+        return values;
+    }
+
+    private static int read(ByteBuffer in, ArchiveColumn.Encoding encoding, int previous) {
+        if (encoding == ArchiveColumn.Encoding.PLAIN) {
+            return VarInts.readSigned(in);
+        }
+        if (encoding == ArchiveColumn.Encoding.DELTA) {
+            return previous + VarInts.readSigned(in);
+        }
+        int raw = VarInts.readUnsigned(in);
+        return raw == 0 ? NULL : ((raw - 1) >>> 1) ^ -((raw - 1) & 1);
+    }
+
+    /**
+     * Selects the first {@code limit} of the included rows among {@code count} in the given
+     * order, keeping only {@code limit} candidates at a time.
+     */
+    private static int[] top(int count, IntPredicate included, Comparator<Integer> order,
+        int limit) {
+        PriorityQueue<Integer> worstFirst = new PriorityQueue<>(order.reversed());
+        for (int row = 0; row < count; row++) {
+            if (!included.test(row)) {
+                continue;
+            }
+            worstFirst.add(row);
+            if (worstFirst.size() > limit) {
+                worstFirst.poll();
+            }
+        }
+        return worstFirst.stream().sorted(order).mapToInt(Integer::intValue).toArray();
+    }
+
+    private static Integer valueOf(int value) {
+        return value == NULL ? null : value;
+    }
+
+    private static Integer total(Match match) {
+        if (Objects.isNull(match.getHomeTeamScore()) || Objects.isNull(match.getAwayTeamScore())) {
+            return null;
+        }
+        return match.getHomeTeamScore() + match.getAwayTeamScore();
+    }
+
+    /**
+     * Running totals of one team's results, with the null semantics of the SQL aggregates.
+     */
+    private static final class TeamResults {
+
+        private final int teamId;
+        private long scored;
+        private int scoredCount;
+        private int wins;
+        private int losses;
+        private int decided;
+
+        private TeamResults(int teamId) {
+            this.teamId = teamId;
+        }
+
+        private void add(int teamScore, int opponentScore) {
+            if (teamScore == NULL) {
+                return;
+            }
+            scored += teamScore;
+            scoredCount++;
+            if (opponentScore == NULL) {
+                return;
+            }
+            decided++;
+            if (teamScore > opponentScore) {
+                wins++;
+            } else if (teamScore < opponentScore) {
+                losses++;
+            }
+        }
+
+        private TeamStats toStats(String teamName) {
+            return new TeamStats(teamId, teamName)
+                .averagePoints(average(scored, scoredCount, 2))
+                .winRate(average(wins, decided, 4))
+                .totalWins(wins)
+                .totalLosses(losses);
+        }
+
+        private static BigDecimal average(long sum, int count, int scale) {
+            if (count == 0) {
+                return null;
+            }
+            return BigDecimal.valueOf(sum).divide(BigDecimal.valueOf(count), scale,
+                RoundingMode.HALF_UP);
+        }
+    }
+}
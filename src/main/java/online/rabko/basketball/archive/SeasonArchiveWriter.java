@@ -0,0 +1,173 @@
+package online.rabko.basketball.archive;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import online.rabko.model.Match;
+import online.rabko.model.PlayerStats;
+import online.rabko.model.Season;
+import online.rabko.model.Team;
+
+/**
+ * Builds a season archive: the season, the teams it refers to, and its matches and box scores
+ * laid out column by column. Columns are encoded in memory as rows are added, so the writer holds
+ * only the compressed size of the season.
+ *
+ * <p>Matches should be added in id order and box scores in match and id order; any order is
+ * accepted, but delta-encoded columns grow with the gaps between consecutive rows.
+ */
+public final class SeasonArchiveWriter {
+
+    private final Season season;
+    private final Map<Integer, String> teams = new TreeMap<>();
+    private final Map<ArchiveColumn, ColumnBuffer> columns = new EnumMap<>(ArchiveColumn.class);
+    private int matchCount;
+    private int boxScoreCount;
+
+    /**
+     * Starts an archive of a season.
+     *
+     * @param season the archived season
+     */
+    public SeasonArchiveWriter(Season season) {
+        this.season = season;
+        for (ArchiveColumn column : ArchiveColumn.values()) {
+            columns.put(column, new ColumnBuffer(column.encoding()));
+        }
+    }
+
+    /**
+     * Adds a team, so that team statistics read from the archive carry its name.
+     *
+     * @param team the team
+     */
+    public void addTeam(Team team) {
+        teams.put(team.getId(), team.getName());
+    }
+
+    /**
+     * Appends a match.
+     *
+     * @param match the match
+     */
+    public void addMatch(Match match) {
+        columns.get(ArchiveColumn.MATCH_ID).add(match.getId());
+        columns.get(ArchiveColumn.MATCH_DATE).add((int) match.getDate().toEpochDay());
+        columns.get(ArchiveColumn.HOME_TEAM_ID).add(match.getHomeTeamId());
+        columns.get(ArchiveColumn.AWAY_TEAM_ID).add(match.getAwayTeamId());
+        columns.get(ArchiveColumn.HOME_TEAM_SCORE).add(match.getHomeTeamScore());
+        columns.get(ArchiveColumn.AWAY_TEAM_SCORE).add(match.getAwayTeamScore());
+        matchCount++;
+    }
+
+    /**
+     * Appends the box score of a player in one of the season's matches.
+     *
+     * @param stats the box score
+     */
+    public void addBoxScore(PlayerStats stats) {
+        columns.get(ArchiveColumn.BOX_SCORE_ID).add(stats.getId());
+        columns.get(ArchiveColumn.BOX_SCORE_MATCH_ID).add(stats.getMatchId());
+        columns.get(ArchiveColumn.BOX_SCORE_PLAYER_ID).add(stats.getPlayerId());
+        columns.get(ArchiveColumn.BOX_SCORE_TEAM_ID).add(stats.getTeamId());
+        for (ArchiveColumn column : ArchiveColumn.values()) {
+            if (column.isStat()) {
+                columns.get(column).add(column.get(stats.getStats()));
+            }
+        }
+        boxScoreCount++;
+    }
+
+    /**
+     * Returns the id of the archived season.
+     *
+     * @return the season id
+     */
+    public Integer getSeasonId() {
+        return season.getId();
+    }
+
+    /**
+     * Returns the number of matches added so far.
+     *
+     * @return the match count
+     */
+    public int getMatchCount() {
+        return matchCount;
+    }
+
+    /**
+     * Returns the number of box scores added so far.
+     *
+     * @return the box score count
+     */
+    public int getBoxScoreCount() {
+        return boxScoreCount;
+    }
+
+    /**
+     * Writes the archive: the header, the offset of every column, then the columns themselves.
+     *
+     * @param out the stream to write to; it is not closed
+     * @throws IOException if writing fails
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        VarInts.writeUnsigned(header, season.getId());
+        VarInts.writeString(header, season.getName());
+        VarInts.writeSigned(header, (int) season.getStartDate().toEpochDay());
+        VarInts.writeSigned(header, (int) season.getEndDate().toEpochDay());
+        VarInts.writeUnsigned(header, teams.size());
+        teams.forEach((id, name) -> {
+            VarInts.writeUnsigned(header, id);
+            VarInts.writeString(header, name);
+        });
+        VarInts.writeUnsigned(header, matchCount);
+        VarInts.writeUnsigned(header, boxScoreCount);
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(SeasonArchive.MAGIC);
+        data.writeByte(SeasonArchive.VERSION);
+        header.writeTo(data);
+        int offset = Integer.BYTES + 1 + header.size() + columns.size() * Integer.BYTES;
+        for (ColumnBuffer column : columns.values()) {
+            data.writeInt(offset);
+            offset += column.bytes.size();
+        }
+        for (ColumnBuffer column : columns.values()) {
+            column.bytes.writeTo(data);
+        }
+        data.flush();
+    }
+
+    /**
+     * Encoded values of one column.
+     */
+    private static final class ColumnBuffer {
+
+        private final ArchiveColumn.Encoding encoding;
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private int previous;
+
+        private ColumnBuffer(ArchiveColumn.Encoding encoding) {
+            this.encoding = encoding;
+        }
+
+        private void add(Integer value) {
+            if (encoding == ArchiveColumn.Encoding.PLAIN) {
+                VarInts.writeSigned(bytes, value);
+            } else if (encoding == ArchiveColumn.Encoding.DELTA) {
+                VarInts.writeSigned(bytes, value - previous);
+                previous = value;
+            } else {
+                VarInts.writeUnsigned(bytes, Objects.isNull(value)
+                    ? 0 : ((value << 1) ^ (value >> 31)) + 1);
+            }
+        }
+    }
+}
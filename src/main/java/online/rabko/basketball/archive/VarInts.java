@@ -0,0 +1,94 @@
+package online.rabko.basketball.archive;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * LEB128 variable-length integer coding used by the season archive format. Small magnitudes take
+ * a single byte; signed values are zigzag-mapped first so that small negative deltas stay small.
+ */
+final class VarInts {
+
+    private VarInts() {
+    }
+
+    /**
+     * Appends an unsigned varint.
+     *
+     * @param out   the target buffer
+     * @param value the value, treated as unsigned
+     */
+    static void writeUnsigned(ByteArrayOutputStream out, int value) {
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            out.write((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.write(remaining);
+    }
+
+    /**
+     * Appends a zigzag-encoded signed varint.
+     *
+     * @param out   the target buffer
+     * @param value the signed value
+     */
+    static void writeSigned(ByteArrayOutputStream out, int value) {
+        writeUnsigned(out, (value << 1) ^ (value >> 31));
+    }
+
+    /**
+     * Appends a length-prefixed UTF-8 string.
+     *
+     * @param out   the target buffer
+     * @param value the string
+     */
+    static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeUnsigned(out, bytes.length);
+        out.writeBytes(bytes);
+    }
+
+    /**
+     * Reads an unsigned varint at the buffer position, advancing it.
+     *
+     * @param in the source buffer
+     * @return the value
+     * @throws IllegalStateException if the varint is longer than five bytes
+     */
+    static int readUnsigned(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed varint at position " + in.position());
+    }
+
+    /**
+     * Reads a zigzag-encoded signed varint at the buffer position, advancing it.
+     *
+     * @param in the source buffer
+     * @return the signed value
+     */
+    static int readSigned(ByteBuffer in) {
+        int raw = readUnsigned(in);
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    /**
+     * Reads a length-prefixed UTF-8 string at the buffer position, advancing it.
+     *
+     * @param in the source buffer
+     * @return the string
+     */
+    static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[readUnsigned(in)];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,116 @@
+package online.rabko.basketball.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Reports how long after the start of the JVM the first request of this instance was answered,
+ * so that startup regressions show up in the logs of every new instance.
+ *
+ * <p>The time covers everything a cold instance does before it is useful: starting the JVM,
+ * refreshing the context, migrating the schema and handling the first request with cold code. It
+ * is logged once and published as the gauge {@value #TIME_TO_FIRST_REQUEST}, which reads
+ * {@code NaN} until the first request was answered.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class FirstRequestFilter extends OncePerRequestFilter implements MeterBinder {
+
+    /**
+     * Name of the gauge of the time from the start of the JVM to the first answered request.
+     */
+    public static final String TIME_TO_FIRST_REQUEST = "startup.time.to.first.request";
+
+    private final Instant jvmStart;
+    private final Clock clock;
+    private final AtomicReference<Duration> timeToFirstRequest = new AtomicReference<>();
+
+    /**
+     * Creates a filter measuring from the start of the running JVM.
+     */
+    public FirstRequestFilter() {
+        this(Instant.ofEpochMilli(ManagementFactory.getRuntimeMXBean().getStartTime()),
+            Clock.systemUTC());
+    }
+
+    /**
+     * Creates a filter measuring from the given start.
+     *
+     * @param jvmStart the instant the JVM started
+     * @param clock    the clock telling when the first request was answered
+     */
+    public FirstRequestFilter(Instant jvmStart, Clock clock) {
+        this.jvmStart = jvmStart;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns how long after the start of the JVM the first request was answered.
+     *
+     * @return the time to the first request, or empty if no request was answered yet
+     */
+    public Optional<Duration> getTimeToFirstRequest() {
+        return Optional.ofNullable(timeToFirstRequest.get());
+    }
+
+    /**
+     * Registers the gauge of the time to the first request.
+     *
+     * @param registry the registry to register the gauge with
+     */
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        TimeGauge.builder(TIME_TO_FIRST_REQUEST, timeToFirstRequest, TimeUnit.MILLISECONDS,
+                elapsed -> Objects.isNull(elapsed.get()) ? Double.NaN : elapsed.get().toMillis())
+            .description("Time from the start of the JVM to the first answered request")
+            .register(registry);
+    }
+
+    /**
+     * Handles the request and, if it is the first one, records when it was answered.
+     *
+     * @param request     the HTTP request
+     * @param response    the HTTP response
+     * @param filterChain the filter chain
+     * @throws ServletException in case of servlet errors
+     * @throws IOException      in case of IO errors
+     */
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+        @NonNull HttpServletResponse response,
+        @NonNull FilterChain filterChain)
+        throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (Objects.isNull(timeToFirstRequest.get())) {
+                Duration elapsed = Duration.between(jvmStart, clock.instant());
+                if (timeToFirstRequest.compareAndSet(null, elapsed)) {
+                    log.info("First request ({} {}) answered {} ms after JVM start",
+                        request.getMethod(), request.getRequestURI(), elapsed.toMillis());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package online.rabko.basketball.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the {@link IdempotencyProperties}.
+ */
+@Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class IdempotencyConfiguration {
+
+}
@@ -0,0 +1,245 @@
+package online.rabko.basketball.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import online.rabko.basketball.dto.IdempotencyKey;
+import online.rabko.basketball.dto.IdempotentResponse;
+import online.rabko.basketball.service.IdempotencyService;
+import online.rabko.model.Error;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Makes POST and PUT requests sent with an {@code Idempotency-Key} header safe to retry.
+ *
+ * <p>The first request with a key is handled as usual and its response stored, unless the
+ * handler failed with a server error. Any later request of the same user with the same key is
+ * answered with the stored response, marked with an {@code Idempotent-Replayed} header, without
+ * reaching a controller or opening a transaction. Reusing a key for a different request is
+ * rejected with {@code 422}, and a retry arriving while the first request is still being handled
+ * with {@code 409}. The key is claimed in the database before the request is handled, so this
+ * holds across instances; the claim is given up when no response could be stored. Requests
+ * without the header, and requests of anonymous users, pass through untouched.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    /**
+     * Header carrying the idempotency key chosen by the client.
+     */
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+    /**
+     * Header added to replayed responses.
+     */
+    public static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyService idempotencyService;
+    private final IdempotencyProperties properties;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Replays the stored response for the request's key, or handles the request and stores its
+     * response.
+     *
+     * @param request     the HTTP request
+     * @param response    the HTTP response
+     * @param filterChain the filter chain
+     * @throws ServletException in case of servlet errors
+     * @throws IOException      in case of IO errors
+     */
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+        @NonNull HttpServletResponse response,
+        @NonNull FilterChain filterChain)
+        throws ServletException, IOException {
+        String header = request.getHeader(IDEMPOTENCY_KEY);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (Objects.isNull(header) || !isIdempotencyMethod(request)
+            || Objects.isNull(authentication) || !authentication.isAuthenticated()
+            || authentication instanceof AnonymousAuthenticationToken) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (StringUtils.isBlank(header) || header.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST, IDEMPOTENCY_KEY
+                + " must have between 1 and " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+        int maxBodySize = (int) properties.getMaxBodySize().toBytes();
+        byte[] body = request.getContentLengthLong() > maxBodySize ? null
+            : request.getInputStream().readNBytes(maxBodySize + 1);
+        if (Objects.isNull(body) || body.length > maxBodySize) {
+            writeError(response, HttpStatus.PAYLOAD_TOO_LARGE, "Requests with an "
+                + IDEMPOTENCY_KEY + " must not exceed " + maxBodySize + " bytes");
+            return;
+        }
+        IdempotencyKey key = new IdempotencyKey(authentication.getName(), header);
+        byte[] fingerprint = fingerprint(request, body);
+        Optional<IdempotentResponse> stored = idempotencyService.find(key);
+        if (stored.isPresent()) {
+            replay(stored.get(), fingerprint, response);
+            return;
+        }
+        if (!idempotencyService.begin(key, fingerprint)) {
+            stored = idempotencyService.find(key);
+            if (stored.isPresent()) {
+                replay(stored.get(), fingerprint, response);
+            } else {
+                writeError(response, HttpStatus.CONFLICT,
+                    "A request with this " + IDEMPOTENCY_KEY + " is still being handled");
+            }
+            return;
+        }
+        boolean saved = false;
+        try {
+            ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+            filterChain.doFilter(new CachedBodyRequest(request, body), wrapper);
+            if (wrapper.getStatus() < HttpStatus.INTERNAL_SERVER_ERROR.value()
+                && wrapper.getContentSize() <= maxBodySize) {
+                saved = idempotencyService.save(key, new IdempotentResponse(fingerprint,
+                    wrapper.getStatus(), wrapper.getContentType(),
+                    wrapper.getContentAsByteArray(), Instant.now()));
+            }
+            wrapper.copyBodyToResponse();
+        } finally {
+            if (!saved) {
+                idempotencyService.release(key);
+            }
+        }
+    }
+
+    private void replay(IdempotentResponse stored, byte[] fingerprint,
+        HttpServletResponse response) throws IOException {
+        if (!MessageDigest.isEqual(stored.fingerprint(), fingerprint)) {
+            writeError(response, HttpStatus.UNPROCESSABLE_ENTITY,
+                IDEMPOTENCY_KEY + " was already used for a different request");
+            return;
+        }
+        response.setStatus(stored.status());
+        response.setHeader(IDEMPOTENT_REPLAYED, Boolean.TRUE.toString());
+        if (Objects.nonNull(stored.contentType())) {
+            response.setContentType(stored.contentType());
+        }
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message)
+        throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new Error(message));
+    }
+
+    private static boolean isIdempotencyMethod(HttpServletRequest request) {
+        return HttpMethod.POST.matches(request.getMethod())
+            || HttpMethod.PUT.matches(request.getMethod());
+    }
+
+    private static byte[] fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(StringUtils.defaultString(request.getQueryString())
+                .getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(body);
+            return digest.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Request whose body has been read up front and is served again from memory.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            readListener.onAllDataRead();
+                        }
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() throws IOException {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), Charset.forName(
+                Objects.requireNonNullElse(getCharacterEncoding(), "UTF-8"))));
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package online.rabko.basketball.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration properties for requests sent with an {@code Idempotency-Key} header, bound from
+ * the {@code idempotency} prefix.
+ */
+@Data
+@ConfigurationProperties(prefix = "idempotency")
+public class IdempotencyProperties {
+
+    /**
+     * Maximum number of stored responses kept in memory in front of the database.
+     */
+    private int cacheSize = 10_000;
+
+    /**
+     * How long a stored response is replayed for its key.
+     */
+    private Duration retention = Duration.ofHours(24);
+
+    /**
+     * How long a key stays claimed by a request whose response has not been stored, before
+     * another request may take it over. Longer than any request takes to handle.
+     */
+    private Duration pendingTimeout = Duration.ofMinutes(1);
+
+    /**
+     * Largest request or response body of an idempotent request. Larger requests are rejected and
+     * larger responses are not stored.
+     */
+    private DataSize maxBodySize = DataSize.ofMegabytes(1);
+}
@@ -0,0 +1,18 @@
+package online.rabko.basketball.config;
+
+import online.rabko.basketball.repository.NaturalIdRepositoryImpl;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * JPA repositories configuration. Uses {@link NaturalIdRepositoryImpl} as the repository base
+ * class so that reference data can be looked up through the natural-id cache.
+ */
+@Configuration
+@EnableJpaRepositories(
+    basePackages = "online.rabko.basketball.repository",
+    repositoryBaseClass = NaturalIdRepositoryImpl.class
+)
+public class JpaConfiguration {
+
+}
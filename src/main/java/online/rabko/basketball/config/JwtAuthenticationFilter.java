@@ -1,11 +1,15 @@
 package online.rabko.basketball.config;
 
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Objects;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import online.rabko.basketball.service.JwtService;
 import online.rabko.basketball.service.UserService;
@@ -26,6 +30,11 @@ import org.springframework.web.filter.OncePerRequestFilter;
  * details and sets the authentication context for the current request.
  *
  * <p>Expected header format: {@code Authorization: Bearer <token>}</p>
+ *
+ * <p>Parsing the token, loading its user and verifying the token against the user are timed
+ * separately, as {@value #TIMER} tagged with the {@code step} and its {@code outcome}. A token
+ * already parsed earlier in the chain is not parsed again: its claims are taken from the
+ * {@value #CLAIMS_ATTRIBUTE} request attribute.
  */
 @Component
 @RequiredArgsConstructor
@@ -36,8 +45,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      */
     public static final String BEARER_PREFIX = "Bearer ";
 
+    /**
+     * Name of the timer recording the steps of authenticating a request by its token.
+     */
+    public static final String TIMER = "security.jwt.authentication";
+
+    /**
+     * Request attribute holding the claims of the verified token of the request, set by the
+     * first filter parsing it.
+     */
+    public static final String CLAIMS_ATTRIBUTE = "online.rabko.basketball.jwt.claims";
+
     private final JwtService jwtService;
     private final UserService userService;
+    private final MeterRegistry meterRegistry;
 
     /**
      * Processes the incoming HTTP request, extracts JWT token (if present), validates it, and sets
@@ -62,14 +83,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         String jwt = authHeader.substring(BEARER_PREFIX.length());
-        String username = jwtService.extractUserName(jwt);
+        Claims claims = request.getAttribute(CLAIMS_ATTRIBUTE) instanceof Claims parsed ? parsed
+            : timed("parse", () -> jwtService.parseClaims(jwt));
+        String username = claims.getSubject();
 
         if (StringUtils.isNotEmpty(username) && Objects.isNull(
             SecurityContextHolder.getContext().getAuthentication())) {
 
-            UserDetails userDetails = userService.userDetailsService().loadUserByUsername(username);
+            UserDetails userDetails = timed("user_load",
+                () -> userService.userDetailsService().loadUserByUsername(username));
 
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+            if (timed("verify", () -> jwtService.isTokenValid(claims, userDetails))) {
                 SecurityContext context = SecurityContextHolder.createEmptyContext();
                 UsernamePasswordAuthenticationToken authToken =
                     new UsernamePasswordAuthenticationToken(
@@ -86,4 +110,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    private <T> T timed(String step, Supplier<T> action) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T result = action.get();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(meterRegistry.timer(TIMER, "step", step, "outcome", outcome));
+        }
+    }
 }
@@ -0,0 +1,94 @@
+package online.rabko.basketball.config;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import online.rabko.basketball.enums.BackupTable;
+import online.rabko.basketball.service.LeagueBackupService;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Command-line mode that backs up or restores the league instead of serving requests:
+ * {@code --backup=<file>} writes a backup, {@code --restore=<file>} replaces the league with one.
+ * The backup is written to a temporary file next to the target and moved into place once
+ * complete, so a failed run never leaves a truncated backup behind.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LeagueBackupRunner implements ApplicationRunner {
+
+    /**
+     * Option naming the file to write a backup to.
+     */
+    public static final String BACKUP = "backup";
+
+    /**
+     * Option naming the backup file to restore.
+     */
+    public static final String RESTORE = "restore";
+
+    private final LeagueBackupService leagueBackupService;
+
+    /**
+     * Returns whether the command line asks for a backup or a restore rather than for the
+     * application to serve requests.
+     *
+     * @param args the command-line arguments
+     * @return {@code true} if a backup or restore option is present
+     */
+    public static boolean isCommand(String[] args) {
+        return Arrays.stream(args)
+            .anyMatch(arg -> arg.startsWith("--" + BACKUP + "=")
+                || arg.startsWith("--" + RESTORE + "="));
+    }
+
+    /**
+     * Runs the requested backup or restore, if any.
+     *
+     * @param args the application arguments
+     * @throws IOException if the backup file cannot be written or read
+     */
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        if (args.containsOption(BACKUP)) {
+            backup(Path.of(args.getOptionValues(BACKUP).get(0)));
+        } else if (args.containsOption(RESTORE)) {
+            restore(Path.of(args.getOptionValues(RESTORE).get(0)));
+        }
+    }
+
+    private void backup(Path file) throws IOException {
+        Path absolute = file.toAbsolutePath();
+        Path temporary = Files.createTempFile(absolute.getParent(), file.getFileName().toString(),
+            ".tmp");
+        try {
+            Map<BackupTable, Long> rows;
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temporary))) {
+                rows = leagueBackupService.backup(out);
+            }
+            Files.move(temporary, absolute, StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+            log.info("Backed up {} to {}", rows, absolute);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private void restore(Path file) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            log.info("Restored {} from {}", leagueBackupService.restore(in), file);
+        }
+    }
+}
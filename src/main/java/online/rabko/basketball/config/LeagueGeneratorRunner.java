@@ -0,0 +1,121 @@
+package online.rabko.basketball.config;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import online.rabko.basketball.enums.BackupTable;
+import online.rabko.basketball.generator.LeagueSpec;
+import online.rabko.basketball.service.LeagueGeneratorService;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Command-line mode that loads a synthetic league instead of serving requests:
+ * {@code --generate} appends a generated league to the database. Its shape is set with
+ * {@code --seed}, {@code --seasons}, {@code --teams}, {@code --players-per-team},
+ * {@code --rounds} and {@code --first-season-year}; the defaults give ten seasons of a 30-team
+ * league playing each other twice, about 174,000 box scores. {@code --defer-indexes} builds the
+ * secondary indexes and foreign keys of the box scores after the copy rather than during it,
+ * which is faster for a large league loaded into a database not serving traffic.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LeagueGeneratorRunner implements ApplicationRunner {
+
+    /**
+     * Option asking for a league to be generated.
+     */
+    public static final String GENERATE = "generate";
+
+    /**
+     * Option holding the seed of the generated league.
+     */
+    public static final String SEED = "seed";
+
+    /**
+     * Option holding the number of generated seasons.
+     */
+    public static final String SEASONS = "seasons";
+
+    /**
+     * Option holding the number of generated teams.
+     */
+    public static final String TEAMS = "teams";
+
+    /**
+     * Option holding the roster size of the generated teams.
+     */
+    public static final String PLAYERS_PER_TEAM = "players-per-team";
+
+    /**
+     * Option holding how many times each pair of teams meets in a season.
+     */
+    public static final String ROUNDS = "rounds";
+
+    /**
+     * Option holding the year the first generated season starts in.
+     */
+    public static final String FIRST_SEASON_YEAR = "first-season-year";
+
+    /**
+     * Option asking for the box score indexes and foreign keys to be built after the copy.
+     */
+    public static final String DEFER_INDEXES = "defer-indexes";
+
+    private static final long DEFAULT_SEED = 1;
+    private static final int DEFAULT_SEASONS = 10;
+    private static final int DEFAULT_TEAMS = 30;
+    private static final int DEFAULT_PLAYERS_PER_TEAM = 13;
+    private static final int DEFAULT_ROUNDS = 2;
+    private static final int DEFAULT_FIRST_SEASON_YEAR = 2000;
+
+    private final LeagueGeneratorService leagueGeneratorService;
+
+    /**
+     * Returns whether the command line asks for a league to be generated rather than for the
+     * application to serve requests.
+     *
+     * @param args the command-line arguments
+     * @return {@code true} if the generate option is present
+     */
+    public static boolean isCommand(String[] args) {
+        return Arrays.stream(args)
+            .anyMatch(arg -> arg.equals("--" + GENERATE) || arg.startsWith("--" + GENERATE + "="));
+    }
+
+    /**
+     * Generates the requested league, if any.
+     *
+     * @param args the application arguments
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption(GENERATE)) {
+            return;
+        }
+        LeagueSpec spec = new LeagueSpec(
+            Long.parseLong(option(args, SEED, String.valueOf(DEFAULT_SEED))),
+            Integer.parseInt(option(args, SEASONS, String.valueOf(DEFAULT_SEASONS))),
+            Integer.parseInt(option(args, TEAMS, String.valueOf(DEFAULT_TEAMS))),
+            Integer.parseInt(option(args, PLAYERS_PER_TEAM,
+                String.valueOf(DEFAULT_PLAYERS_PER_TEAM))),
+            Integer.parseInt(option(args, ROUNDS, String.valueOf(DEFAULT_ROUNDS))),
+            Integer.parseInt(option(args, FIRST_SEASON_YEAR,
+                String.valueOf(DEFAULT_FIRST_SEASON_YEAR))));
+        long start = System.nanoTime();
+        log.info("Generating {}", spec);
+        Map<BackupTable, Long> rows = leagueGeneratorService.generate(spec,
+            args.containsOption(DEFER_INDEXES));
+        log.info("Generated {} in {} s", rows, (System.nanoTime() - start) / 1_000_000_000);
+    }
+
+    private static String option(ApplicationArguments args, String name, String defaultValue) {
+        List<String> values = args.getOptionValues(name);
+        return Objects.isNull(values) || values.isEmpty() ? defaultValue : values.get(0);
+    }
+}
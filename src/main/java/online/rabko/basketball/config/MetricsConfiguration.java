@@ -0,0 +1,55 @@
+package online.rabko.basketball.config;
+
+import javax.sql.DataSource;
+import online.rabko.basketball.metrics.QueryCountingDataSource;
+import online.rabko.basketball.metrics.SampledSqlLogger;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Instrumentation that Spring Boot does not set up by itself. Metrics are exposed in the
+ * Prometheus format on the management port; statements are logged by sampling rather than
+ * echoed, and counted per request.
+ */
+@Configuration
+public class MetricsConfiguration {
+
+    private static final String DATA_SOURCE = "dataSource";
+
+    /**
+     * Wraps the application data source, the one Hibernate and {@code JdbcTemplate} use, in a
+     * {@link QueryCountingDataSource}. With routing enabled that is the routing data source, so
+     * statements are counted once whichever pool runs them.
+     *
+     * @return the post-processor wrapping the data source
+     */
+    @Bean
+    public static BeanPostProcessor queryCountingDataSource() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (DATA_SOURCE.equals(beanName) && bean instanceof DataSource dataSource) {
+                    return new QueryCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Logs a sample of the statements prepared by Hibernate.
+     *
+     * @param sampleRate the fraction of statements to log
+     * @return the customizer registering the {@link SampledSqlLogger}
+     */
+    @Bean
+    public HibernatePropertiesCustomizer sampledSqlLogging(
+        @Value("${sql.log.sample-rate:0}") double sampleRate) {
+        SampledSqlLogger logger = new SampledSqlLogger(sampleRate);
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, logger);
+    }
+}
@@ -0,0 +1,110 @@
+package online.rabko.basketball.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import online.rabko.basketball.metrics.ApiOperationObservationConvention;
+import online.rabko.basketball.metrics.QueryStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Counts the statements every request sends to the database, including those of the security
+ * filters, and records them per API operation: {@value #STATEMENTS}, {@value #ROWS} and
+ * {@value #TIME}.
+ *
+ * <p>A statement executed at least {@code sql.repeated-statement-threshold} times within one
+ * request is logged as a possible N+1 pattern and counted in {@value #REPEATED_STATEMENTS}.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    /**
+     * Name of the distribution of the number of statements per request.
+     */
+    public static final String STATEMENTS = "db.request.statements";
+
+    /**
+     * Name of the distribution of the number of rows read or changed per request.
+     */
+    public static final String ROWS = "db.request.rows";
+
+    /**
+     * Name of the timer of the time spent executing statements per request.
+     */
+    public static final String TIME = "db.request.time";
+
+    /**
+     * Name of the counter of statements repeated within a request.
+     */
+    public static final String REPEATED_STATEMENTS = "db.request.repeated.statements";
+
+    private final MeterRegistry meterRegistry;
+    private final int repeatedStatementThreshold;
+
+    /**
+     * Creates the filter.
+     *
+     * @param meterRegistry              the registry of the metrics
+     * @param repeatedStatementThreshold the number of executions within a request from which a
+     *                                   statement is reported as repeated
+     */
+    public QueryCountFilter(MeterRegistry meterRegistry,
+        @Value("${sql.repeated-statement-threshold:5}") int repeatedStatementThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+
+    /**
+     * Handles the request while counting its statements, then records them.
+     *
+     * @param request     the HTTP request
+     * @param response    the HTTP response
+     * @param filterChain the filter chain
+     * @throws ServletException in case of servlet errors
+     * @throws IOException      in case of IO errors
+     */
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+        @NonNull HttpServletResponse response,
+        @NonNull FilterChain filterChain)
+        throws ServletException, IOException {
+        QueryStats stats = QueryStats.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            stats.close();
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, QueryStats stats) {
+        String operation = ApiOperationObservationConvention.operation(request);
+        meterRegistry.summary(STATEMENTS, ApiOperationObservationConvention.OPERATION, operation)
+            .record(stats.getStatements());
+        meterRegistry.summary(ROWS, ApiOperationObservationConvention.OPERATION, operation)
+            .record(stats.getRows());
+        meterRegistry.timer(TIME, ApiOperationObservationConvention.OPERATION, operation)
+            .record(stats.getTime());
+        Map<String, Integer> repeated = stats.getRepeatedStatements(repeatedStatementThreshold);
+        repeated.forEach((sql, executions) -> log.warn(
+            "Possible N+1: {} {} executed the same statement {} times: {}",
+            request.getMethod(), request.getRequestURI(), executions, sql));
+        if (!repeated.isEmpty()) {
+            meterRegistry.counter(REPEATED_STATEMENTS,
+                    ApiOperationObservationConvention.OPERATION, operation)
+                .increment(repeated.size());
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package online.rabko.basketball.config;
+
+import online.rabko.basketball.ratelimit.RateLimiter;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the {@link RateLimitProperties} and the {@link RateLimiter} holding the token
+ * buckets of the clients.
+ */
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfiguration {
+
+    /**
+     * Creates the rate limiter.
+     *
+     * @param properties the rate limit properties
+     * @return the rate limiter
+     */
+    @Bean
+    public RateLimiter rateLimiter(RateLimitProperties properties) {
+        return new RateLimiter(properties.getMaxClients(), properties.getStripes());
+    }
+}
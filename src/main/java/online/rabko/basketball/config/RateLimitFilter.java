@@ -0,0 +1,149 @@
+package online.rabko.basketball.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import online.rabko.basketball.ratelimit.RateLimit;
+import online.rabko.basketball.ratelimit.RateLimiter;
+import online.rabko.basketball.service.JwtService;
+import online.rabko.model.Error;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Limits the rate of requests of every client with the policy of the first route matching the
+ * request, before the request reaches authentication or a controller.
+ *
+ * <p>Clients sending a valid token are told apart by the user id it carries, read from the
+ * verified token rather than from the database; all other requests, such as sign-ins, by the
+ * address of the client. The claims of the token are left in the
+ * {@value JwtAuthenticationFilter#CLAIMS_ATTRIBUTE} request attribute, so that authentication
+ * does not parse it again. Behind a proxy, the address is the one the proxy forwarded, as long as
+ * the proxy is one of the trusted {@code server.tomcat.remoteip.internal-proxies}.
+ *
+ * <p>A request over its client's rate is rejected with {@code 429} and a {@code Retry-After}
+ * header telling the client when to retry, and counted in {@value #REJECTIONS}.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    /**
+     * Name of the counter of rejected requests.
+     */
+    public static final String REJECTIONS = "rate.limit.rejections";
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final RateLimiter rateLimiter;
+    private final JwtService jwtService;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final List<Route> routes;
+
+    /**
+     * Creates the filter.
+     *
+     * @param properties    the rate limit properties, with the policies by route
+     * @param rateLimiter   the token buckets of the clients
+     * @param jwtService    the service parsing tokens
+     * @param meterRegistry the registry of the rejection counter
+     * @param objectMapper  the mapper writing error responses
+     */
+    public RateLimitFilter(RateLimitProperties properties, RateLimiter rateLimiter,
+        JwtService jwtService, MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.jwtService = jwtService;
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = objectMapper;
+        this.enabled = properties.isEnabled();
+        this.routes = properties.getPolicies().stream()
+            .map(policy -> new Route(new AntPathRequestMatcher(policy.getPath(),
+                Objects.isNull(policy.getMethod()) ? null : policy.getMethod().name()),
+                policy.getName(), new RateLimit(policy.getCapacity(), policy.getPeriod())))
+            .toList();
+    }
+
+    /**
+     * Lets every request through when rate limiting is disabled.
+     *
+     * @param request the HTTP request
+     * @return {@code true} if requests are not limited
+     */
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled;
+    }
+
+    /**
+     * Takes a token from the bucket of the client for the matching route, and rejects the
+     * request if there is none left.
+     *
+     * @param request     the HTTP request
+     * @param response    the HTTP response
+     * @param filterChain the filter chain
+     * @throws ServletException in case of servlet errors
+     * @throws IOException      in case of IO errors
+     */
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+        @NonNull HttpServletResponse response,
+        @NonNull FilterChain filterChain)
+        throws ServletException, IOException {
+        Route route = routes.stream()
+            .filter(candidate -> candidate.matcher().matches(request))
+            .findFirst()
+            .orElse(null);
+        if (Objects.isNull(route)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        long wait = rateLimiter.tryAcquire(route.name() + ':' + client(request), route.limit());
+        if (wait == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        meterRegistry.counter(REJECTIONS, "policy", route.name()).increment();
+        long retryAfter = Math.max(1, (wait + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+            new Error("Too many requests, retry in " + retryAfter + " s"));
+    }
+
+    private String client(HttpServletRequest request) {
+        String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (Objects.nonNull(authHeader)
+            && authHeader.startsWith(JwtAuthenticationFilter.BEARER_PREFIX)) {
+            try {
+                Claims claims = jwtService.parseClaims(
+                    authHeader.substring(JwtAuthenticationFilter.BEARER_PREFIX.length()));
+                request.setAttribute(JwtAuthenticationFilter.CLAIMS_ATTRIBUTE, claims);
+                return "user:" + jwtService.extractUserId(claims);
+            } catch (JwtException | IllegalArgumentException e) {
+                // Invalid and expired tokens count against the address they come from.
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private record Route(RequestMatcher matcher, String name, RateLimit limit) {
+
+    }
+}
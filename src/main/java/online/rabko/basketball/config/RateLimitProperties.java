@@ -0,0 +1,70 @@
+package online.rabko.basketball.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.HttpMethod;
+
+/**
+ * Configuration properties for limiting the rate of requests of every client, bound from the
+ * {@code rate-limit} prefix.
+ */
+@Data
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * Whether requests are limited at all.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of buckets kept in memory, one per client and policy.
+     */
+    private int maxClients = 100_000;
+
+    /**
+     * Number of stripes the buckets are spread over.
+     */
+    private int stripes = 16;
+
+    /**
+     * Policies by route, the first matching one applying to a request. Requests no policy
+     * matches are not limited.
+     */
+    private List<Policy> policies = new ArrayList<>();
+
+    /**
+     * Rate allowed to each client on a route.
+     */
+    @Data
+    public static class Policy {
+
+        /**
+         * Name of the policy; each client has one bucket per policy.
+         */
+        private String name;
+
+        /**
+         * Ant-style pattern of the paths the policy applies to.
+         */
+        private String path = "/**";
+
+        /**
+         * Method the policy applies to, or {@code null} for every method.
+         */
+        private HttpMethod method;
+
+        /**
+         * Number of requests a client may send in a burst.
+         */
+        private long capacity;
+
+        /**
+         * Time after which a client may send a whole burst again.
+         */
+        private Duration period = Duration.ofSeconds(1);
+    }
+}
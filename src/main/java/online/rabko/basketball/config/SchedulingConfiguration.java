@@ -0,0 +1,14 @@
+package online.rabko.basketball.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background tasks such as replica health checks and search index
+ * rebuilds.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfiguration {
+
+}
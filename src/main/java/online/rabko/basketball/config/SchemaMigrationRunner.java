@@ -0,0 +1,48 @@
+package online.rabko.basketball.config;
+
+import java.util.Arrays;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Command-line mode that migrates the database schema instead of serving requests:
+ * {@code --migrate} starts the application with Liquibase enabled, so the pending change sets
+ * are applied while the context starts, then verifies the schema and exits. Meant to run once
+ * per release, for example as a one-shot job, before instances are rolled out.
+ */
+@Component
+@RequiredArgsConstructor
+public class SchemaMigrationRunner implements ApplicationRunner {
+
+    /**
+     * Option asking for the schema to be migrated.
+     */
+    public static final String MIGRATE = "migrate";
+
+    private final SchemaVersionCheck schemaVersionCheck;
+
+    /**
+     * Returns whether the command line asks for the schema to be migrated rather than for the
+     * application to serve requests.
+     *
+     * @param args the command-line arguments
+     * @return {@code true} if the migrate option is present
+     */
+    public static boolean isCommand(String[] args) {
+        return Arrays.asList(args).contains("--" + MIGRATE);
+    }
+
+    /**
+     * Verifies the migrated schema, if a migration was requested.
+     *
+     * @param args the application arguments
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption(MIGRATE)) {
+            schemaVersionCheck.verify();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package online.rabko.basketball.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import javax.sql.DataSource;
+import liquibase.Contexts;
+import liquibase.LabelExpression;
+import liquibase.Liquibase;
+import liquibase.changelog.ChangeSetStatus;
+import liquibase.database.Database;
+import liquibase.database.DatabaseFactory;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.LiquibaseException;
+import liquibase.integration.spring.SpringResourceAccessor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+/**
+ * Refuses to start an instance whose database schema is behind its changelog.
+ *
+ * <p>Instances do not migrate the schema themselves unless {@code spring.liquibase.enabled} is
+ * set; migrations are applied once, before instances are rolled out, by running the application
+ * with {@code --migrate}. Every other start only reads {@code DATABASECHANGELOG} and compares it
+ * with the changelog, which takes no lock, so instances can start side by side. The check runs
+ * first when the context starts, before the web server and the background writers.
+ */
+@Slf4j
+@Component
+public class SchemaVersionCheck implements SmartLifecycle {
+
+    private final DataSource dataSource;
+    private final ResourceLoader resourceLoader;
+    private final String changeLog;
+    private final boolean migrateOnStartup;
+    private volatile boolean running;
+
+    /**
+     * Creates the check.
+     *
+     * @param dataSource       the data source of the migrated database
+     * @param resourceLoader   the loader of the changelog files
+     * @param changeLog        the location of the root changelog
+     * @param migrateOnStartup whether Liquibase migrates the schema while the context starts, in
+     *                         which case there is nothing to check
+     */
+    public SchemaVersionCheck(DataSource dataSource, ResourceLoader resourceLoader,
+        @Value("${spring.liquibase.change-log}") String changeLog,
+        @Value("${spring.liquibase.enabled:true}") boolean migrateOnStartup) {
+        this.dataSource = dataSource;
+        this.resourceLoader = resourceLoader;
+        this.changeLog = changeLog;
+        this.migrateOnStartup = migrateOnStartup;
+    }
+
+    /**
+     * Verifies the schema unless Liquibase migrated it while the context started.
+     *
+     * @throws IllegalStateException if change sets are pending or the schema cannot be read
+     */
+    @Override
+    public void start() {
+        if (!migrateOnStartup) {
+            verify();
+        }
+        running = true;
+    }
+
+    /**
+     * Marks the check as stopped.
+     */
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    /**
+     * Returns whether the check passed and the context has not stopped since.
+     *
+     * @return {@code true} if running
+     */
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Starts the check before any other lifecycle component.
+     *
+     * @return the lowest phase
+     */
+    @Override
+    public int getPhase() {
+        return Integer.MIN_VALUE;
+    }
+
+    /**
+     * Verifies that every change set of the changelog was applied to the database.
+     *
+     * @throws IllegalStateException if change sets are pending or the schema cannot be read
+     */
+    public void verify() {
+        List<String> pending = findPendingChangeSets();
+        if (!pending.isEmpty()) {
+            throw new IllegalStateException("The database schema is " + pending.size()
+                + " change set(s) behind " + changeLog + ", the first being " + pending.get(0)
+                + "; apply them by running the application with --migrate");
+        }
+        log.info("The database schema is up to date with {}", changeLog);
+    }
+
+    /**
+     * Returns the change sets of the changelog not yet applied to the database, in the order
+     * they would be applied. Checksums of the applied ones are validated on the way.
+     *
+     * @return the pending change sets as {@code file::id::author}
+     * @throws IllegalStateException if the changelog or the database cannot be read, or an
+     *                               applied change set was modified since
+     */
+    public List<String> findPendingChangeSets() {
+        try (Connection connection = dataSource.getConnection()) {
+            Database database = DatabaseFactory.getInstance()
+                .findCorrectDatabaseImplementation(new JdbcConnection(connection));
+            try (Liquibase liquibase = new Liquibase(changeLog,
+                new SpringResourceAccessor(resourceLoader), database)) {
+                return liquibase.getChangeSetStatuses(new Contexts(), new LabelExpression(), false)
+                    .stream()
+                    .filter(ChangeSetStatus::getWillRun)
+                    .map(status -> status.getChangeSet().toString())
+                    .toList();
+            }
+        } catch (SQLException | LiquibaseException e) {
+            throw new IllegalStateException("The database schema could not be checked", e);
+        }
+    }
+}
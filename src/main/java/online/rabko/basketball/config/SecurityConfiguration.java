@@ -1,8 +1,12 @@
 package online.rabko.basketball.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import online.rabko.basketball.metrics.TimedPasswordEncoder;
 import online.rabko.basketball.service.UserService;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -18,6 +22,7 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -34,12 +39,19 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 public class SecurityConfiguration {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final IdempotencyFilter idempotencyFilter;
     private final UserService userService;
+    private final MeterRegistry meterRegistry;
 
     /**
      * Configures the main security filter chain: - Disables CSRF - Enables CORS with open wildcard
      * configuration - Secures endpoint access based on roles - Sets session policy to stateless
-     * (JWT-based) - Adds custom authentication provider and JWT filter.
+     * (JWT-based) - Adds custom authentication provider and JWT filter - Limits the rate of
+     * requests of every client before they are authenticated - Replays responses to
+     * retried requests with an idempotency key once the user is known - Lets anyone reach the
+     * health and Prometheus endpoints, which are served on the management port - Lets the
+     * asynchronous dispatch of a response through, its request having been authorized before.
      *
      * @param http the HttpSecurity object
      * @return configured SecurityFilterChain bean
@@ -50,15 +62,20 @@ public class SecurityConfiguration {
         http.cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .csrf(AbstractHttpConfigurer::disable)
             .authorizeHttpRequests(auth -> auth
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/auth/**").permitAll()
                 .requestMatchers("/swagger-ui/**", "/swagger-resources/*", "/v3/api-docs/**",
                     "/oas/**")
                 .permitAll()
+                .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
+                .requestMatchers("/admin/**").hasRole("ADMIN")
                 .anyRequest().authenticated())
             .sessionManagement(
                 session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authenticationProvider(authenticationProvider())
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            .addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class)
+            .addFilterAfter(idempotencyFilter, AuthorizationFilter.class);
 
         return http.build();
     }
@@ -91,13 +108,14 @@ public class SecurityConfiguration {
     }
 
     /**
-     * Provides a {@link PasswordEncoder} bean using BCrypt hashing algorithm.
+     * Provides a {@link PasswordEncoder} bean using BCrypt hashing algorithm, timed by a
+     * {@link TimedPasswordEncoder}.
      *
      * @return PasswordEncoder bean
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new TimedPasswordEncoder(new BCryptPasswordEncoder(), meterRegistry);
     }
 
     /**
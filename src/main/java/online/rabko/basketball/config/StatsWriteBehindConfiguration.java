@@ -0,0 +1,15 @@
+package online.rabko.basketball.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the {@link StatsWriteBehindProperties} when {@code stats.write-behind.enabled} is set.
+ */
+@Configuration
+@EnableConfigurationProperties(StatsWriteBehindProperties.class)
+@ConditionalOnProperty(prefix = "stats.write-behind", name = "enabled", havingValue = "true")
+public class StatsWriteBehindConfiguration {
+
+}
@@ -0,0 +1,52 @@
+package online.rabko.basketball.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for queued stats submissions, bound from the
+ * {@code stats.write-behind} prefix.
+ */
+@Data
+@ConfigurationProperties(prefix = "stats.write-behind")
+public class StatsWriteBehindProperties {
+
+    /**
+     * Whether stats submissions can be queued. When disabled, no log directory is created, no
+     * writer threads are started and the queueing endpoints answer 501 Not Implemented.
+     */
+    private boolean enabled;
+
+    /**
+     * Directory holding one write-ahead log file per partition.
+     */
+    private Path directory = Path.of("wal");
+
+    /**
+     * Number of partitions, each with its own queue, log file and writer thread. Submissions are
+     * assigned to a partition by match id.
+     */
+    private int partitions = 4;
+
+    /**
+     * Maximum number of submissions waiting in a partition before new ones are rejected.
+     */
+    private int capacity = 10_000;
+
+    /**
+     * Maximum number of submissions recorded in one transaction.
+     */
+    private int batchSize = 200;
+
+    /**
+     * Maximum number of submission states kept for the tracking endpoint.
+     */
+    private int trackedSubmissions = 100_000;
+
+    /**
+     * Delay before a writer retries a batch after the database was unavailable.
+     */
+    private Duration retryDelay = Duration.ofSeconds(1);
+}
@@ -0,0 +1,116 @@
+package online.rabko.basketball.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Replaces the auto-configured data source with a primary/replica router when
+ * {@code datasource.routing.enabled} is set. Transactions marked
+ * {@code @Transactional(readOnly = true)} are served by replicas, everything else by the primary
+ * configured under {@code spring.datasource}.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class DataSourceRoutingConfiguration {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Creates the primary connection pool from the standard {@code spring.datasource} settings.
+     *
+     * @param properties the standard data source properties
+     * @return the primary pool
+     */
+    @Bean(autowireCandidate = false)
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+
+    /**
+     * Creates one read-only connection pool per configured replica.
+     *
+     * @param properties        the standard data source properties, used for default credentials
+     * @param routingProperties the routing properties
+     * @return the replica pool
+     */
+    @Bean
+    public ReplicaPool replicaPool(DataSourceProperties properties,
+        DataSourceRoutingProperties routingProperties) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<DataSourceRoutingProperties.Replica> configured = routingProperties.getReplicas();
+        for (int i = 0; i < configured.size(); i++) {
+            DataSourceRoutingProperties.Replica replica = configured.get(i);
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(replica.getUrl())
+                .username(Objects.requireNonNullElse(replica.getUsername(),
+                    properties.determineUsername()))
+                .password(Objects.requireNonNullElse(replica.getPassword(),
+                    properties.determinePassword()))
+                .build();
+            dataSource.setPoolName("replica-" + i);
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            dataSource.setReadOnly(true);
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.put(dataSource.getPoolName(), dataSource);
+        }
+        return new ReplicaPool(replicas, routingProperties.getMaxReplicationLag());
+    }
+
+    /**
+     * Creates the tracker that pins a user's reads to the primary right after they wrote.
+     *
+     * @param routingProperties the routing properties
+     * @return the read-your-writes tracker
+     */
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+        DataSourceRoutingProperties routingProperties) {
+        return new ReadYourWritesTracker(routingProperties.getReadYourWritesWindow(),
+            Clock.systemUTC());
+    }
+
+    /**
+     * Exposes the router as the application data source. The lazy proxy defers the physical
+     * connection until the first statement, when the read-only flag of the transaction is known.
+     *
+     * @param properties            the standard data source properties
+     * @param replicaPool           the replica pool
+     * @param readYourWritesTracker the read-your-writes tracker
+     * @return the routing data source
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties properties, ReplicaPool replicaPool,
+        ReadYourWritesTracker readYourWritesTracker) {
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(
+            primaryDataSource(properties), replicaPool, readYourWritesTracker);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,69 @@
+package online.rabko.basketball.config.datasource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for read/write splitting between the primary database and its
+ * streaming replicas, bound from the {@code datasource.routing} prefix.
+ */
+@Data
+@ConfigurationProperties(prefix = "datasource.routing")
+public class DataSourceRoutingProperties {
+
+    /**
+     * Whether read-only transactions should be routed to replicas at all.
+     */
+    private boolean enabled;
+
+    /**
+     * Replica connection settings. Credentials fall back to the primary ones when omitted.
+     */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * How long reads of a user stay on the primary after that user wrote something. Zero
+     * disables read-your-writes pinning.
+     */
+    private Duration readYourWritesWindow = Duration.ZERO;
+
+    /**
+     * Replication lag above which a replica stops receiving reads until it catches up.
+     */
+    private Duration maxReplicationLag = Duration.ofSeconds(5);
+
+    /**
+     * Interval between replica lag checks.
+     */
+    private Duration lagCheckInterval = Duration.ofSeconds(5);
+
+    /**
+     * Connection settings of a single replica.
+     */
+    @Data
+    public static class Replica {
+
+        /**
+         * JDBC URL of the replica.
+         */
+        private String url;
+
+        /**
+         * Login username, defaults to {@code spring.datasource.username}.
+         */
+        private String username;
+
+        /**
+         * Login password, defaults to {@code spring.datasource.password}.
+         */
+        private String password;
+
+        /**
+         * Maximum size of the replica connection pool.
+         */
+        private int maximumPoolSize = 10;
+    }
+}
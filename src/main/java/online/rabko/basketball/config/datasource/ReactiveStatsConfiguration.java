@@ -0,0 +1,82 @@
+package online.rabko.basketball.config.datasource;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.postgresql.PostgresqlConnectionFactoryProvider;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import java.util.Objects;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * Creates the R2DBC connection pool and {@link DatabaseClient} the reactive stats reads run on
+ * when {@code stats.reactive.enabled} is set.
+ *
+ * <p>The pool is not exposed as a {@link io.r2dbc.spi.ConnectionFactory} bean, since Spring Boot
+ * backs off from the JDBC data source in the presence of one, and the R2DBC auto-configuration
+ * is excluded in {@code application.yml}. Its connections report {@value #POOL_NAME} as their
+ * application name.
+ */
+@Configuration
+@EnableConfigurationProperties(ReactiveStatsProperties.class)
+@ConditionalOnProperty(prefix = "stats.reactive", name = "enabled", havingValue = "true")
+public class ReactiveStatsConfiguration implements DisposableBean {
+
+    /**
+     * Name of the R2DBC connection pool, also reported to the server as the application name of
+     * its connections.
+     */
+    public static final String POOL_NAME = "stats-reactive";
+
+    private ConnectionPool connectionPool;
+
+    /**
+     * Creates the database client of the reactive stats reads over a connection pool of their
+     * own.
+     *
+     * @param dataSourceProperties the standard data source properties, used for the default URL
+     *                             and the credentials
+     * @param properties           the reactive stats properties
+     * @return the database client
+     */
+    @Bean
+    public DatabaseClient statsDatabaseClient(DataSourceProperties dataSourceProperties,
+        ReactiveStatsProperties properties) {
+        String url = Objects.requireNonNullElseGet(properties.getUrl(),
+            () -> r2dbcUrl(dataSourceProperties.determineUrl()));
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+            .option(ConnectionFactoryOptions.USER, dataSourceProperties.determineUsername())
+            .option(ConnectionFactoryOptions.PASSWORD, dataSourceProperties.determinePassword())
+            .option(PostgresqlConnectionFactoryProvider.APPLICATION_NAME, POOL_NAME)
+            .build();
+        connectionPool = new ConnectionPool(ConnectionPoolConfiguration
+            .builder(ConnectionFactories.get(options))
+            .name(POOL_NAME)
+            .initialSize(properties.getMaxSize())
+            .maxSize(properties.getMaxSize())
+            .build());
+        return DatabaseClient.create(connectionPool);
+    }
+
+    /**
+     * Closes the connection pool.
+     */
+    @Override
+    public void destroy() {
+        if (Objects.nonNull(connectionPool)) {
+            connectionPool.dispose();
+        }
+    }
+
+    private static String r2dbcUrl(String jdbcUrl) {
+        int query = jdbcUrl.indexOf('?');
+        String url = query < 0 ? jdbcUrl : jdbcUrl.substring(0, query);
+        return "r2dbc:" + url.substring("jdbc:".length());
+    }
+}
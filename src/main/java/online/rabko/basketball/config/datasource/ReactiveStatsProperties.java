@@ -0,0 +1,30 @@
+package online.rabko.basketball.config.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for serving stats reads over R2DBC, bound from the
+ * {@code stats.reactive} prefix.
+ */
+@Data
+@ConfigurationProperties(prefix = "stats.reactive")
+public class ReactiveStatsProperties {
+
+    /**
+     * Whether the stats endpoints are served by the reactive controller instead of the blocking
+     * one.
+     */
+    private boolean enabled;
+
+    /**
+     * R2DBC URL of the database, defaults to {@code spring.datasource.url} with the
+     * {@code jdbc:} scheme replaced by {@code r2dbc:}.
+     */
+    private String url;
+
+    /**
+     * Maximum size of the R2DBC connection pool.
+     */
+    private int maxSize = 10;
+}
@@ -0,0 +1,69 @@
+package online.rabko.basketball.config.datasource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Remembers when each user last opened a write transaction, so that their subsequent reads can be
+ * served by the primary until the replicas have had time to catch up.
+ */
+public class ReadYourWritesTracker {
+
+    private final Duration window;
+    private final Clock clock;
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a tracker with the given pinning window.
+     *
+     * @param window how long reads stay on the primary after a write; zero disables tracking
+     * @param clock  the clock used to timestamp writes
+     */
+    public ReadYourWritesTracker(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    /**
+     * Records a write made by the given user.
+     *
+     * @param user the user name, or {@code null} for anonymous requests
+     */
+    public void recordWrite(String user) {
+        if (isEnabled() && Objects.nonNull(user)) {
+            lastWrites.put(user, clock.millis());
+        }
+    }
+
+    /**
+     * Checks whether the given user wrote something within the configured window.
+     *
+     * @param user the user name, or {@code null} for anonymous requests
+     * @return true if reads of this user must go to the primary
+     */
+    public boolean isPinnedToPrimary(String user) {
+        if (!isEnabled() || Objects.isNull(user)) {
+            return false;
+        }
+        Long lastWrite = lastWrites.get(user);
+        return Objects.nonNull(lastWrite) && clock.millis() - lastWrite < window.toMillis();
+    }
+
+    /**
+     * Drops entries whose window has already elapsed, keeping the map proportional to the number
+     * of recently active writers.
+     */
+    @Scheduled(fixedDelayString = "${datasource.routing.lag-check-interval:PT5S}")
+    public void evictExpired() {
+        long threshold = clock.millis() - window.toMillis();
+        lastWrites.values().removeIf(lastWrite -> lastWrite <= threshold);
+    }
+
+    private boolean isEnabled() {
+        return !window.isZero() && !window.isNegative();
+    }
+}
@@ -0,0 +1,131 @@
+package online.rabko.basketball.config.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Set of replica data sources together with their replication health. Replicas whose lag exceeds
+ * the configured maximum, which are not streaming from a primary, or which cannot be reached, are
+ * taken out of rotation until a later check finds them healthy again.
+ */
+@Slf4j
+public class ReplicaPool implements AutoCloseable {
+
+    /**
+     * Replication lag of a standby in seconds. Returns zero when everything received has been
+     * replayed, so an idle primary does not make its replicas look stale. Returns {@code NULL}
+     * when the server is not in recovery, or when its WAL receiver is not streaming: once the
+     * receiver disconnects nothing new arrives, so the received and replayed positions stay equal
+     * however far the standby falls behind.
+     */
+    private static final String LAG_QUERY = """
+        SELECT CASE
+                   WHEN NOT pg_is_in_recovery() THEN NULL
+                   WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming')
+                       THEN NULL
+                   WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                   ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())
+                   END
+        """;
+
+    private final Map<String, DataSource> replicas;
+    private final Duration maxLag;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private volatile List<String> healthy;
+
+    /**
+     * Creates a pool in which every replica is initially considered healthy.
+     *
+     * @param replicas replica data sources keyed by their routing key
+     * @param maxLag   maximum tolerated replication lag
+     */
+    public ReplicaPool(Map<String, DataSource> replicas, Duration maxLag) {
+        this.replicas = Collections.unmodifiableMap(new LinkedHashMap<>(replicas));
+        this.maxLag = maxLag;
+        this.healthy = List.copyOf(replicas.keySet());
+    }
+
+    /**
+     * Returns all replica data sources keyed by routing key.
+     *
+     * @return the replica data sources
+     */
+    public Map<String, DataSource> dataSources() {
+        return replicas;
+    }
+
+    /**
+     * Picks the next healthy replica in round-robin order.
+     *
+     * @return the routing key of a healthy replica, or empty if none is available
+     */
+    public Optional<String> nextHealthy() {
+        List<String> candidates = healthy;
+        if (candidates.isEmpty()) {
+            return Optional.empty();
+        }
+        int index = Math.floorMod(cursor.getAndIncrement(), candidates.size());
+        return Optional.of(candidates.get(index));
+    }
+
+    /**
+     * Measures the lag of every replica and rebuilds the list of replicas eligible for reads.
+     */
+    @Scheduled(fixedDelayString = "${datasource.routing.lag-check-interval:PT5S}")
+    public void refreshHealth() {
+        List<String> current = new ArrayList<>(replicas.size());
+        replicas.forEach((key, dataSource) -> {
+            if (isWithinLag(key, dataSource)) {
+                current.add(key);
+            }
+        });
+        if (current.size() != healthy.size()) {
+            log.info("Healthy replicas changed from {} to {}", healthy, current);
+        }
+        healthy = List.copyOf(current);
+    }
+
+    private boolean isWithinLag(String key, DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+            Statement statement = connection.createStatement();
+            ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+            Number lagSeconds = resultSet.next() ? (Number) resultSet.getObject(1) : null;
+            if (Objects.isNull(lagSeconds)) {
+                log.warn("Replica {} is not streaming from a primary", key);
+                return false;
+            }
+            return lagSeconds.doubleValue() * 1000 <= maxLag.toMillis();
+        } catch (SQLException e) {
+            log.warn("Replica {} is unavailable: {}", key, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Closes every replica data source that holds resources.
+     *
+     * @throws Exception if a data source fails to close
+     */
+    @Override
+    public void close() throws Exception {
+        for (DataSource dataSource : replicas.values()) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
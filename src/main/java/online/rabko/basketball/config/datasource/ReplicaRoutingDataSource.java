@@ -0,0 +1,78 @@
+package online.rabko.basketball.config.datasource;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routing data source that sends read-only transactions to a healthy replica and everything else
+ * to the primary.
+ *
+ * <p>Reads fall back to the primary when no replica is within the allowed lag, or when the
+ * current user wrote something within the read-your-writes window. The lookup relies on the
+ * transaction being already bound, so this data source must be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}.</p>
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    /**
+     * Routing key of the primary data source.
+     */
+    public static final String PRIMARY = "primary";
+
+    private final ReplicaPool replicaPool;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    /**
+     * Creates a routing data source over the given primary and replicas.
+     *
+     * @param primary               the primary data source
+     * @param replicaPool           the replicas eligible for read-only work
+     * @param readYourWritesTracker tracker of recent writes per user
+     */
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaPool replicaPool,
+        ReadYourWritesTracker readYourWritesTracker) {
+        this.replicaPool = replicaPool;
+        this.readYourWritesTracker = readYourWritesTracker;
+
+        Map<Object, Object> targets = new HashMap<>(replicaPool.dataSources());
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    /**
+     * Chooses the target data source for the connection being acquired.
+     *
+     * @return the routing key of the primary or of a replica
+     */
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String user = currentUser();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                readYourWritesTracker.recordWrite(user);
+            }
+            return PRIMARY;
+        }
+        if (readYourWritesTracker.isPinnedToPrimary(user)) {
+            return PRIMARY;
+        }
+        return replicaPool.nextHealthy().orElse(PRIMARY);
+    }
+
+    private String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (Objects.isNull(authentication) || authentication instanceof AnonymousAuthenticationToken
+            || !authentication.isAuthenticated()) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
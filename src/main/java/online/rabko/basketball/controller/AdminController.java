@@ -0,0 +1,35 @@
+package online.rabko.basketball.controller;
+
+import lombok.RequiredArgsConstructor;
+import online.rabko.api.AdminApi;
+import online.rabko.basketball.service.SeasonArchiveService;
+import online.rabko.model.SeasonArchiveInfo;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller that handles administrative operations. Access is restricted to administrators
+ * by the security configuration.
+ */
+@RestController
+@RequiredArgsConstructor
+public class AdminController implements AdminApi {
+
+    private final SeasonArchiveService seasonArchiveService;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<SeasonArchiveInfo> adminSeasonsIdArchivePost(Integer id) {
+        return ResponseEntity.ok(seasonArchiveService.archive(id));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<SeasonArchiveInfo> adminSeasonsIdRestorePost(Integer id) {
+        return ResponseEntity.ok(seasonArchiveService.restore(id));
+    }
+}
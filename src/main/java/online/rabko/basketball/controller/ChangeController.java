@@ -0,0 +1,26 @@
+package online.rabko.basketball.controller;
+
+import lombok.RequiredArgsConstructor;
+import online.rabko.api.ChangesApi;
+import online.rabko.basketball.service.ChangeService;
+import online.rabko.model.ChangeBatch;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller that serves the change feed.
+ */
+@RestController
+@RequiredArgsConstructor
+public class ChangeController implements ChangesApi {
+
+    private final ChangeService changeService;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<ChangeBatch> changesGet(String since, Integer limit) {
+        return ResponseEntity.ok(changeService.getChanges(since, limit));
+    }
+}
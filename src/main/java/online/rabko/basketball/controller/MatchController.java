@@ -0,0 +1,113 @@
+package online.rabko.basketball.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import online.rabko.api.MatchesApi;
+import online.rabko.basketball.service.MatchService;
+import online.rabko.basketball.service.StatsWriteBehindService;
+import online.rabko.model.Match;
+import online.rabko.model.MatchDetail;
+import online.rabko.model.PlayerStats;
+import online.rabko.model.StatsSubmission;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller that handles match and match statistics operations.
+ */
+@RestController
+@RequiredArgsConstructor
+public class MatchController implements MatchesApi {
+
+    private final MatchService matchService;
+    private final ObjectProvider<StatsWriteBehindService> statsWriteBehindService;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<List<Match>> matchesGet(Integer seasonId, Integer teamId,
+        LocalDate dateFrom, LocalDate dateTo, String sort, String order) {
+        return ResponseEntity.ok(
+            matchService.getAll(seasonId, teamId, dateFrom, dateTo, sort, order));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<Match> matchesPost(Match match) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(matchService.create(match));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<Match> matchesIdGet(Integer id) {
+        return ResponseEntity.ok(matchService.getById(id));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<MatchDetail> matchesIdDetailGet(Integer id) {
+        return ResponseEntity.ok(matchService.getDetail(id));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<Match> matchesIdPut(Integer id, Match match) {
+        return ResponseEntity.ok(matchService.update(id, match));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<Void> matchesIdDelete(Integer id) {
+        matchService.delete(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<List<PlayerStats>> matchesMatchIdStatsGet(Integer matchId) {
+        return ResponseEntity.ok(matchService.getStats(matchId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<PlayerStats> matchesMatchIdStatsPost(Integer matchId,
+        PlayerStats playerStats) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+            .body(matchService.saveStats(matchId, playerStats));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Answers 501 Not Implemented unless {@code stats.write-behind.enabled} is set.
+     */
+    @Override
+    public ResponseEntity<StatsSubmission> matchesMatchIdStatsAsyncPost(Integer matchId,
+        PlayerStats playerStats) {
+        StatsWriteBehindService writeBehind = statsWriteBehindService.getIfAvailable();
+        if (Objects.isNull(writeBehind)) {
+            return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).build();
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+            .body(writeBehind.submit(matchId, playerStats));
+    }
+}
@@ -0,0 +1,82 @@
+package online.rabko.basketball.controller;
+
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import online.rabko.api.PlayersApi;
+import online.rabko.basketball.service.PlayerService;
+import online.rabko.model.Player;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller that handles player operations.
+ */
+@RestController
+@RequiredArgsConstructor
+public class PlayerController implements PlayersApi {
+
+    private final PlayerService playerService;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<List<Player>> playersGet(List<Integer> ids, Integer teamId,
+        String position, String sort, String order) {
+        if (Objects.isNull(ids)) {
+            return ResponseEntity.ok(playerService.getAll(teamId, position, sort, order));
+        }
+        return ResponseEntity.ok(playerService.getByIds(ids));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<Player> playersPost(Player player) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(playerService.create(player));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<List<Player>> playersSearchGet(String q, Integer limit) {
+        return ResponseEntity.ok(playerService.search(q, limit));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<List<Player>> playersTypeaheadGet(String prefix, Integer limit) {
+        return ResponseEntity.ok(playerService.suggest(prefix, limit));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<Player> playersIdGet(Integer id) {
+        return ResponseEntity.ok(playerService.getById(id));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<Player> playersIdPut(Integer id, Player player) {
+        return ResponseEntity.ok(playerService.update(id, player));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<Void> playersIdDelete(Integer id) {
+        playerService.delete(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,302 @@
+package online.rabko.basketball.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import online.rabko.basketball.enums.PlayerStatsMetric;
+import online.rabko.basketball.service.ReactiveStatsService;
+import online.rabko.basketball.service.StatsWriteBehindService;
+import online.rabko.model.Match;
+import online.rabko.model.PlayerPercentiles;
+import online.rabko.model.PlayerStats;
+import online.rabko.model.PlayerStatsSummary;
+import online.rabko.model.StatDistribution;
+import online.rabko.model.StatsSubmission;
+import online.rabko.model.TeamStats;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * REST controller that serves the operations of {@link online.rabko.api.StatsApi} with
+ * {@link ReactiveStatsService} when {@code stats.reactive.enabled} is set, in place of
+ * {@link StatsController}.
+ *
+ * <p>The responses are {@link Mono}s, which Spring MVC completes asynchronously, so the request
+ * thread is released while the reads run. Handler methods are named after the operation ids,
+ * like those of {@link StatsController}, so both report the same metrics.
+ */
+@RestController
+@RequestMapping(path = "/stats", produces = MediaType.APPLICATION_JSON_VALUE)
+@ConditionalOnProperty(prefix = "stats.reactive", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReactiveStatsController {
+
+    private static final String SEASON_ID = "season_id";
+    private static final String AS_OF = "as_of";
+
+    private final ReactiveStatsService reactiveStatsService;
+    private final ObjectProvider<StatsWriteBehindService> statsWriteBehindService;
+
+    /**
+     * Returns a player statistics record.
+     *
+     * @param id the statistics record id
+     * @return the player statistics
+     */
+    @GetMapping("/players/{id}")
+    public Mono<PlayerStats> statsPlayersIdGet(@PathVariable("id") Integer id) {
+        return reactiveStatsService.getById(id);
+    }
+
+    /**
+     * Deletes a player statistics record.
+     *
+     * @param id the statistics record id
+     * @return an empty response
+     */
+    @DeleteMapping("/players/{id}")
+    public Mono<ResponseEntity<Void>> statsPlayersIdDelete(@PathVariable("id") Integer id) {
+        return reactiveStatsService.delete(id)
+            .then(Mono.fromSupplier(() -> ResponseEntity.noContent().<Void>build()));
+    }
+
+    /**
+     * Returns the totals and per-game averages of a player's most recent games.
+     *
+     * @param playerId the player id
+     * @param games    the number of games to cover
+     * @param asOf     the date to count back from
+     * @return the totals and averages
+     */
+    @GetMapping("/players/{playerId}/rolling")
+    public Mono<PlayerStatsSummary> statsPlayersPlayerIdRollingGet(
+        @PathVariable("playerId") Integer playerId,
+        @RequestParam(value = "games", required = false, defaultValue = "5") Integer games,
+        @RequestParam(value = AS_OF, required = false) @DateTimeFormat(iso = ISO.DATE)
+        LocalDate asOf) {
+        return reactiveStatsService.getRolling(playerId, games, asOf);
+    }
+
+    /**
+     * Returns the totals and per-game averages of a player's career or of one season.
+     *
+     * @param playerId the player id
+     * @param seasonId the season to restrict the totals to
+     * @param asOf     the last match date to include
+     * @return the totals and averages
+     */
+    @GetMapping("/players/{playerId}/career")
+    public Mono<PlayerStatsSummary> statsPlayersPlayerIdCareerGet(
+        @PathVariable("playerId") Integer playerId,
+        @RequestParam(value = SEASON_ID, required = false) Integer seasonId,
+        @RequestParam(value = AS_OF, required = false) @DateTimeFormat(iso = ISO.DATE)
+        LocalDate asOf) {
+        return reactiveStatsService.getCareer(playerId, seasonId, asOf);
+    }
+
+    /**
+     * Returns the percentile ranks of a player.
+     *
+     * @param playerId the player id
+     * @param seasonId the season to rank the player in
+     * @return the percentile ranks
+     */
+    @GetMapping("/players/{playerId}/percentiles")
+    public Mono<PlayerPercentiles> statsPlayersPlayerIdPercentilesGet(
+        @PathVariable("playerId") Integer playerId,
+        @RequestParam(value = SEASON_ID, required = false) Integer seasonId) {
+        return reactiveStatsService.getPercentiles(playerId, seasonId);
+    }
+
+    /**
+     * Returns the distribution of a per-player metric.
+     *
+     * @param metric   the metric to describe
+     * @param seasonId the season to describe
+     * @return the distribution
+     */
+    @GetMapping("/players/distribution")
+    public Mono<StatDistribution> statsPlayersDistributionGet(
+        @RequestParam(value = "metric") String metric,
+        @RequestParam(value = SEASON_ID, required = false) Integer seasonId) {
+        return reactiveStatsService.getDistribution(metric, seasonId);
+    }
+
+    /**
+     * Returns the best single-match scoring performances.
+     *
+     * @param seasonId the season to restrict the ranking to
+     * @param asOf     the last match date to include
+     * @return the box scores, best first
+     */
+    @GetMapping("/players/top-scorers")
+    public Mono<List<PlayerStats>> statsPlayersTopScorersGet(
+        @RequestParam(value = SEASON_ID, required = false) Integer seasonId,
+        @RequestParam(value = AS_OF, required = false) @DateTimeFormat(iso = ISO.DATE)
+        LocalDate asOf) {
+        return reactiveStatsService.getLeaders(PlayerStatsMetric.POINTS, seasonId, asOf);
+    }
+
+    /**
+     * Returns the best single-match assisting performances.
+     *
+     * @param seasonId the season to restrict the ranking to
+     * @param asOf     the last match date to include
+     * @return the box scores, best first
+     */
+    @GetMapping("/players/top-assisters")
+    public Mono<List<PlayerStats>> statsPlayersTopAssistersGet(
+        @RequestParam(value = SEASON_ID, required = false) Integer seasonId,
+        @RequestParam(value = AS_OF, required = false) @DateTimeFormat(iso = ISO.DATE)
+        LocalDate asOf) {
+        return reactiveStatsService.getLeaders(PlayerStatsMetric.ASSISTS, seasonId, asOf);
+    }
+
+    /**
+     * Returns the best single-match rebounding performances.
+     *
+     * @param seasonId the season to restrict the ranking to
+     * @param asOf     the last match date to include
+     * @return the box scores, best first
+     */
+    @GetMapping("/players/top-rebounders")
+    public Mono<List<PlayerStats>> statsPlayersTopReboundersGet(
+        @RequestParam(value = SEASON_ID, required = false) Integer seasonId,
+        @RequestParam(value = AS_OF, required = false) @DateTimeFormat(iso = ISO.DATE)
+        LocalDate asOf) {
+        return reactiveStatsService.getLeaders(PlayerStatsMetric.REBOUNDS, seasonId, asOf);
+    }
+
+    /**
+     * Returns the best single-match stealing performances.
+     *
+     * @param seasonId the season to restrict the ranking to
+     * @param asOf     the last match date to include
+     * @return the box scores, best first
+     */
+    @GetMapping("/players/top-stealers")
+    public Mono<List<PlayerStats>> statsPlayersTopStealersGet(
+        @RequestParam(value = SEASON_ID, required = false) Integer seasonId,
+        @RequestParam(value = AS_OF, required = false) @DateTimeFormat(iso = ISO.DATE)
+        LocalDate asOf) {
+        return reactiveStatsService.getLeaders(PlayerStatsMetric.STEALS, seasonId, asOf);
+    }
+
+    /**
+     * Returns the best single-match blocking performances.
+     *
+     * @param seasonId the season to restrict the ranking to
+     * @param asOf     the last match date to include
+     * @return the box scores, best first
+     */
+    @GetMapping("/players/top-blockers")
+    public Mono<List<PlayerStats>> statsPlayersTopBlockersGet(
+        @RequestParam(value = SEASON_ID, required = false) Integer seasonId,
+        @RequestParam(value = AS_OF, required = false) @DateTimeFormat(iso = ISO.DATE)
+        LocalDate asOf) {
+        return reactiveStatsService.getLeaders(PlayerStatsMetric.BLOCKS, seasonId, asOf);
+    }
+
+    /**
+     * Returns the best single-match efficiency ratings.
+     *
+     * @param seasonId the season to restrict the ranking to
+     * @param asOf     the last match date to include
+     * @return the box scores, best first
+     */
+    @GetMapping("/players/efficiency-rating")
+    public Mono<List<PlayerStats>> statsPlayersEfficiencyRatingGet(
+        @RequestParam(value = SEASON_ID, required = false) Integer seasonId,
+        @RequestParam(value = AS_OF, required = false) @DateTimeFormat(iso = ISO.DATE)
+        LocalDate asOf) {
+        return reactiveStatsService.getLeaders(PlayerStatsMetric.EFFICIENCY, seasonId, asOf);
+    }
+
+    /**
+     * Returns the most minutes played in a single match.
+     *
+     * @param seasonId the season to restrict the ranking to
+     * @param asOf     the last match date to include
+     * @return the box scores, best first
+     */
+    @GetMapping("/players/minutes-played")
+    public Mono<List<PlayerStats>> statsPlayersMinutesPlayedGet(
+        @RequestParam(value = SEASON_ID, required = false) Integer seasonId,
+        @RequestParam(value = AS_OF, required = false) @DateTimeFormat(iso = ISO.DATE)
+        LocalDate asOf) {
+        return reactiveStatsService.getLeaders(PlayerStatsMetric.MINUTES_PLAYED, seasonId, asOf);
+    }
+
+    /**
+     * Returns the teams ordered by average points per match.
+     *
+     * @param seasonId the season to aggregate
+     * @param asOf     the last match date to include
+     * @return the team statistics, highest average first
+     */
+    @GetMapping("/teams/average-points")
+    public Mono<List<TeamStats>> statsTeamsAveragePointsGet(
+        @RequestParam(value = SEASON_ID, required = false) Integer seasonId,
+        @RequestParam(value = AS_OF, required = false) @DateTimeFormat(iso = ISO.DATE)
+        LocalDate asOf) {
+        return reactiveStatsService.getTeamsByAveragePoints(seasonId, asOf);
+    }
+
+    /**
+     * Returns the teams ordered by win rate.
+     *
+     * @param seasonId the season to aggregate
+     * @param asOf     the last match date to include
+     * @return the team statistics, highest win rate first
+     */
+    @GetMapping("/teams/win-rate")
+    public Mono<List<TeamStats>> statsTeamsWinRateGet(
+        @RequestParam(value = SEASON_ID, required = false) Integer seasonId,
+        @RequestParam(value = AS_OF, required = false) @DateTimeFormat(iso = ISO.DATE)
+        LocalDate asOf) {
+        return reactiveStatsService.getTeamsByWinRate(seasonId, asOf);
+    }
+
+    /**
+     * Returns the matches with the highest combined score.
+     *
+     * @param seasonId the season to restrict the search to
+     * @return the matches, highest scoring first
+     */
+    @GetMapping("/matches/highest-scoring")
+    public Mono<List<Match>> statsMatchesHighestScoringGet(
+        @RequestParam(value = SEASON_ID, required = false) Integer seasonId) {
+        return reactiveStatsService.getHighestScoringMatches(seasonId);
+    }
+
+    /**
+     * Returns the status of a stats submission. Answers 501 Not Implemented unless
+     * {@code stats.write-behind.enabled} is set.
+     *
+     * @param trackingId the tracking id of the submission
+     * @return the submission
+     */
+    @GetMapping("/submissions/{trackingId}")
+    public ResponseEntity<StatsSubmission> statsSubmissionsTrackingIdGet(
+        @PathVariable("trackingId") UUID trackingId) {
+        StatsWriteBehindService writeBehind = statsWriteBehindService.getIfAvailable();
+        if (Objects.isNull(writeBehind)) {
+            return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).build();
+        }
+        return ResponseEntity.ok(writeBehind.getSubmission(trackingId));
+    }
+}
@@ -0,0 +1,61 @@
+package online.rabko.basketball.controller;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import online.rabko.api.SeasonsApi;
+import online.rabko.basketball.service.SeasonService;
+import online.rabko.model.Season;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller that handles season operations.
+ */
+@RestController
+@RequiredArgsConstructor
+public class SeasonController implements SeasonsApi {
+
+    private final SeasonService seasonService;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<List<Season>> seasonsGet() {
+        return ResponseEntity.ok(seasonService.getAll());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<Season> seasonsPost(Season season) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(seasonService.create(season));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<Season> seasonsIdGet(Integer id) {
+        return ResponseEntity.ok(seasonService.getById(id));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<Season> seasonsIdPut(Integer id, Season season) {
+        return ResponseEntity.ok(seasonService.update(id, season));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<Void> seasonsIdDelete(Integer id) {
+        seasonService.delete(id);
+        return ResponseEntity.noContent().build();
+    }
+}
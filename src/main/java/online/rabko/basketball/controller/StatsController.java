@@ -0,0 +1,200 @@
+package online.rabko.basketball.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import online.rabko.api.StatsApi;
+import online.rabko.basketball.enums.PlayerStatsMetric;
+import online.rabko.basketball.service.StatsService;
+import online.rabko.basketball.service.StatsWriteBehindService;
+import online.rabko.model.Match;
+import online.rabko.model.PlayerPercentiles;
+import online.rabko.model.PlayerStats;
+import online.rabko.model.PlayerStatsSummary;
+import online.rabko.model.StatDistribution;
+import online.rabko.model.StatsSubmission;
+import online.rabko.model.TeamStats;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller that handles player, team and match statistics. Replaced by
+ * {@link ReactiveStatsController} when {@code stats.reactive.enabled} is set.
+ */
+@RestController
+@ConditionalOnProperty(prefix = "stats.reactive", name = "enabled", havingValue = "false",
+    matchIfMissing = true)
+@RequiredArgsConstructor
+public class StatsController implements StatsApi {
+
+    private final StatsService statsService;
+    private final ObjectProvider<StatsWriteBehindService> statsWriteBehindService;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<PlayerStats> statsPlayersIdGet(Integer id) {
+        return ResponseEntity.ok(statsService.getById(id));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<Void> statsPlayersIdDelete(Integer id) {
+        statsService.delete(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<PlayerStatsSummary> statsPlayersPlayerIdRollingGet(Integer playerId,
+        Integer games, LocalDate asOf) {
+        return ResponseEntity.ok(statsService.getRolling(playerId, games, asOf));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<PlayerStatsSummary> statsPlayersPlayerIdCareerGet(Integer playerId,
+        Integer seasonId, LocalDate asOf) {
+        return ResponseEntity.ok(statsService.getCareer(playerId, seasonId, asOf));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<PlayerPercentiles> statsPlayersPlayerIdPercentilesGet(Integer playerId,
+        Integer seasonId) {
+        return ResponseEntity.ok(statsService.getPercentiles(playerId, seasonId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<StatDistribution> statsPlayersDistributionGet(String metric,
+        Integer seasonId) {
+        return ResponseEntity.ok(statsService.getDistribution(metric, seasonId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<List<PlayerStats>> statsPlayersTopScorersGet(Integer seasonId,
+        LocalDate asOf) {
+        return ResponseEntity.ok(
+            statsService.getLeaders(PlayerStatsMetric.POINTS, seasonId, asOf));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<List<PlayerStats>> statsPlayersTopAssistersGet(Integer seasonId,
+        LocalDate asOf) {
+        return ResponseEntity.ok(
+            statsService.getLeaders(PlayerStatsMetric.ASSISTS, seasonId, asOf));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<List<PlayerStats>> statsPlayersTopReboundersGet(Integer seasonId,
+        LocalDate asOf) {
+        return ResponseEntity.ok(
+            statsService.getLeaders(PlayerStatsMetric.REBOUNDS, seasonId, asOf));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<List<PlayerStats>> statsPlayersTopStealersGet(Integer seasonId,
+        LocalDate asOf) {
+        return ResponseEntity.ok(
+            statsService.getLeaders(PlayerStatsMetric.STEALS, seasonId, asOf));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<List<PlayerStats>> statsPlayersTopBlockersGet(Integer seasonId,
+        LocalDate asOf) {
+        return ResponseEntity.ok(
+            statsService.getLeaders(PlayerStatsMetric.BLOCKS, seasonId, asOf));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<List<PlayerStats>> statsPlayersEfficiencyRatingGet(Integer seasonId,
+        LocalDate asOf) {
+        return ResponseEntity.ok(
+            statsService.getLeaders(PlayerStatsMetric.EFFICIENCY, seasonId, asOf));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<List<PlayerStats>> statsPlayersMinutesPlayedGet(Integer seasonId,
+        LocalDate asOf) {
+        return ResponseEntity.ok(
+            statsService.getLeaders(PlayerStatsMetric.MINUTES_PLAYED, seasonId, asOf));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<List<TeamStats>> statsTeamsAveragePointsGet(Integer seasonId,
+        LocalDate asOf) {
+        return ResponseEntity.ok(statsService.getTeamsByAveragePoints(seasonId, asOf));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<List<TeamStats>> statsTeamsWinRateGet(Integer seasonId,
+        LocalDate asOf) {
+        return ResponseEntity.ok(statsService.getTeamsByWinRate(seasonId, asOf));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<List<Match>> statsMatchesHighestScoringGet(Integer seasonId) {
+        return ResponseEntity.ok(statsService.getHighestScoringMatches(seasonId));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Answers 501 Not Implemented unless {@code stats.write-behind.enabled} is set.
+     */
+    @Override
+    public ResponseEntity<StatsSubmission> statsSubmissionsTrackingIdGet(UUID trackingId) {
+        StatsWriteBehindService writeBehind = statsWriteBehindService.getIfAvailable();
+        if (Objects.isNull(writeBehind)) {
+            return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).build();
+        }
+        return ResponseEntity.ok(writeBehind.getSubmission(trackingId));
+    }
+}
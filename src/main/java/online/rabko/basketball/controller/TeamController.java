@@ -0,0 +1,65 @@
+package online.rabko.basketball.controller;
+
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import online.rabko.api.TeamsApi;
+import online.rabko.basketball.service.TeamService;
+import online.rabko.model.Team;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller that handles team operations.
+ */
+@RestController
+@RequiredArgsConstructor
+public class TeamController implements TeamsApi {
+
+    private final TeamService teamService;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<List<Team>> teamsGet(List<Integer> ids) {
+        if (Objects.isNull(ids)) {
+            return ResponseEntity.ok(teamService.getAll());
+        }
+        return ResponseEntity.ok(teamService.getByIds(ids));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<Team> teamsPost(Team team) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(teamService.create(team));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<Team> teamsIdGet(Integer id) {
+        return ResponseEntity.ok(teamService.getById(id));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<Team> teamsIdPut(Integer id, Team team) {
+        return ResponseEntity.ok(teamService.update(id, team));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResponseEntity<Void> teamsIdDelete(Integer id) {
+        teamService.delete(id);
+        return ResponseEntity.noContent().build();
+    }
+}
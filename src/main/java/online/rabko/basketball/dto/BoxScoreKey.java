@@ -0,0 +1,11 @@
+package online.rabko.basketball.dto;
+
+/**
+ * Identifies the box score of a player in a match.
+ *
+ * @param matchId  the match id
+ * @param playerId the player id
+ */
+public record BoxScoreKey(Integer matchId, Integer playerId) {
+
+}
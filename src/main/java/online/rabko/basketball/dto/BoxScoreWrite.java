@@ -0,0 +1,19 @@
+package online.rabko.basketball.dto;
+
+import java.util.UUID;
+import online.rabko.model.PlayerStatsStats;
+
+/**
+ * A queued stats submission, as stored in the write-ahead log.
+ *
+ * @param trackingId the id the submission is tracked by
+ * @param matchId    the match id
+ * @param seasonId   the id of the season the match belongs to
+ * @param playerId   the player id
+ * @param teamId     the id of the team the player played for
+ * @param stats      the statistics to record
+ */
+public record BoxScoreWrite(UUID trackingId, Integer matchId, Integer seasonId, Integer playerId,
+                            Integer teamId, PlayerStatsStats stats) {
+
+}
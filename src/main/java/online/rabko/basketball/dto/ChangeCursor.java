@@ -0,0 +1,19 @@
+package online.rabko.basketball.dto;
+
+/**
+ * Position in the change feed: the id of the transaction that made a change and the change's
+ * position within the feed. Changes are ordered by transaction id first, so that a change
+ * committed late by a long-running transaction is not placed behind a cursor a client already
+ * holds.
+ *
+ * @param txid     the transaction id
+ * @param position the position of the change
+ */
+public record ChangeCursor(long txid, long position) {
+
+    /**
+     * Cursor preceding every change.
+     */
+    public static final ChangeCursor START = new ChangeCursor(0, 0);
+
+}
@@ -0,0 +1,13 @@
+package online.rabko.basketball.dto;
+
+import online.rabko.model.Change;
+
+/**
+ * A change read from the change feed together with its cursor.
+ *
+ * @param cursor the cursor of the change
+ * @param change the change
+ */
+public record ChangeEntry(ChangeCursor cursor, Change change) {
+
+}
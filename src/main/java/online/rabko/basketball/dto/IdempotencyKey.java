@@ -0,0 +1,12 @@
+package online.rabko.basketball.dto;
+
+/**
+ * Idempotency key of a request, scoped to the user who sent it so that clients cannot replay
+ * each other's responses.
+ *
+ * @param username the name of the user
+ * @param key      the value of the {@code Idempotency-Key} header
+ */
+public record IdempotencyKey(String username, String key) {
+
+}
@@ -0,0 +1,17 @@
+package online.rabko.basketball.dto;
+
+import java.time.Instant;
+
+/**
+ * Stored response to a request sent with an idempotency key.
+ *
+ * @param fingerprint SHA-256 hash of the method, URI and body of the request
+ * @param status      the response status
+ * @param contentType the response content type, or {@code null} if there is no body
+ * @param body        the response body
+ * @param createdAt   when the response was stored
+ */
+public record IdempotentResponse(byte[] fingerprint, int status, String contentType, byte[] body,
+                                 Instant createdAt) {
+
+}
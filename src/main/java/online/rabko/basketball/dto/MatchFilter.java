@@ -0,0 +1,20 @@
+package online.rabko.basketball.dto;
+
+import java.time.LocalDate;
+import online.rabko.basketball.enums.MatchSort;
+import online.rabko.basketball.enums.SortOrder;
+
+/**
+ * Criteria for listing matches. {@code null} filters are not applied.
+ *
+ * @param seasonId the season the matches belong to
+ * @param teamId   a team playing the matches, either at home or away
+ * @param dateFrom the earliest match date, inclusive
+ * @param dateTo   the latest match date, inclusive
+ * @param sort     the field to sort by
+ * @param order    the sort direction
+ */
+public record MatchFilter(Integer seasonId, Integer teamId, LocalDate dateFrom, LocalDate dateTo,
+                          MatchSort sort, SortOrder order) {
+
+}
@@ -0,0 +1,16 @@
+package online.rabko.basketball.dto;
+
+import online.rabko.basketball.enums.PlayerSort;
+import online.rabko.basketball.enums.SortOrder;
+
+/**
+ * Criteria for listing players. {@code null} filters are not applied.
+ *
+ * @param teamId   the team the players belong to
+ * @param position the position the players play
+ * @param sort     the field to sort by
+ * @param order    the sort direction
+ */
+public record PlayerFilter(Integer teamId, String position, PlayerSort sort, SortOrder order) {
+
+}
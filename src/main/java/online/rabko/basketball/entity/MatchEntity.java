@@ -0,0 +1,78 @@
+package online.rabko.basketball.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entity representing a match stored in the {@code matches} table. Season and teams are lazy
+ * associations that are resolved from the second-level cache.
+ */
+@Entity
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "matches")
+public class MatchEntity {
+
+    /**
+     * Unique identifier for the match (primary key).
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Integer id;
+
+    /**
+     * Season the match belongs to.
+     */
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "season_id", nullable = false)
+    private SeasonEntity season;
+
+    /**
+     * Date the match was played on.
+     */
+    @Column(name = "date", nullable = false)
+    private LocalDate date;
+
+    /**
+     * Home team.
+     */
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "home_team_id", nullable = false)
+    private TeamEntity homeTeam;
+
+    /**
+     * Away team.
+     */
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "away_team_id", nullable = false)
+    private TeamEntity awayTeam;
+
+    /**
+     * Home team final score.
+     */
+    @Column(name = "home_team_score")
+    private Integer homeTeamScore;
+
+    /**
+     * Away team final score.
+     */
+    @Column(name = "away_team_score")
+    private Integer awayTeamScore;
+}
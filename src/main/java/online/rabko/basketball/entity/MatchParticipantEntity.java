@@ -0,0 +1,76 @@
+package online.rabko.basketball.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import online.rabko.model.PlayerStatsStats;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * Entity representing the box score of a single player in a single match, stored in the
+ * {@code match_participants} table.
+ */
+@Entity
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "match_participants")
+public class MatchParticipantEntity {
+
+    /**
+     * Unique identifier for the statistics record (primary key).
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Integer id;
+
+    /**
+     * Match the statistics belong to.
+     */
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "match_id", nullable = false)
+    private MatchEntity match;
+
+    /**
+     * Season of the match, copied from it because it is the partition key of the
+     * {@code match_participants} table. Kept in sync with the match by the database.
+     */
+    @Column(name = "season_id", nullable = false)
+    private Integer seasonId;
+
+    /**
+     * Player the statistics belong to.
+     */
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "player_id", nullable = false)
+    private PlayerEntity player;
+
+    /**
+     * Team the player was on during the match.
+     */
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "team_id", nullable = false)
+    private TeamEntity team;
+
+    /**
+     * Box score stored as JSONB.
+     */
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "stats", nullable = false)
+    private PlayerStatsStats stats;
+}
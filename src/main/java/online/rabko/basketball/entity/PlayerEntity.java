@@ -0,0 +1,86 @@
+package online.rabko.basketball.entity;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+/**
+ * Entity representing a player stored in the {@code players} table. Players are kept in the
+ * second-level cache, since match and stats responses resolve them far more often than they change.
+ */
+@Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "players")
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "players")
+public class PlayerEntity {
+
+    /**
+     * Unique identifier for the player (primary key).
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Integer id;
+
+    /**
+     * Team the player currently belongs to, if any.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "team_id")
+    private TeamEntity team;
+
+    /**
+     * Player's first name.
+     */
+    @Column(name = "first_name", nullable = false)
+    private String firstName;
+
+    /**
+     * Player's last name.
+     */
+    @Column(name = "last_name", nullable = false)
+    private String lastName;
+
+    /**
+     * Player's position on the court.
+     */
+    @Column(name = "position")
+    private String position;
+
+    /**
+     * Player's age.
+     */
+    @Column(name = "age")
+    private Integer age;
+
+    /**
+     * Player's height in centimeters.
+     */
+    @Column(name = "height")
+    private Integer height;
+
+    /**
+     * Player's weight in kilograms.
+     */
+    @Column(name = "weight")
+    private Integer weight;
+}
@@ -0,0 +1,63 @@
+package online.rabko.basketball.entity;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+
+/**
+ * Entity representing a season stored in the {@code seasons} table. Seasons are reference data
+ * and are kept in the second-level cache, both by id and by name.
+ */
+@Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "seasons")
+@NaturalIdCache(region = "seasons-by-name")
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "seasons")
+public class SeasonEntity {
+
+    /**
+     * Unique identifier for the season (primary key).
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Integer id;
+
+    /**
+     * Unique season name.
+     */
+    @NaturalId(mutable = true)
+    @Column(name = "name", nullable = false, unique = true)
+    private String name;
+
+    /**
+     * First day of the season.
+     */
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    /**
+     * Last day of the season.
+     */
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+}
@@ -0,0 +1,39 @@
+package online.rabko.basketball.enums;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Tables included in a league backup, in the order they are written and restored: every table
+ * comes after the tables it references.
+ *
+ * <p>Columns are listed explicitly, so a backup stays readable by a database whose tables have the
+ * same columns in a different physical order.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum BackupTable {
+
+    USERS("users", List.of("id", "username", "password", "first_name", "last_name", "role")),
+    TEAMS("teams", List.of("id", "name")),
+    SEASONS("seasons", List.of("id", "name", "start_date", "end_date")),
+    PLAYERS("players", List.of("id", "team_id", "first_name", "last_name", "position", "age",
+        "height", "weight")),
+    MATCHES("matches", List.of("id", "season_id", "date", "home_team_id", "away_team_id",
+        "home_team_score", "away_team_score")),
+    MATCH_PARTICIPANTS("match_participants", List.of("id", "match_id", "season_id", "player_id",
+        "team_id", "stats"));
+
+    private final String table;
+    private final List<String> columns;
+
+    /**
+     * Returns the table name followed by its column list, as used by {@code COPY}.
+     *
+     * @return the table and its columns
+     */
+    public String getTarget() {
+        return table + " (" + String.join(", ", columns) + ")";
+    }
+}
@@ -0,0 +1,36 @@
+package online.rabko.basketball.enums;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Fields the match list can be sorted by.
+ *
+ * <p>Each constant carries the {@code matches} columns to order by, ending with the id so that
+ * the order is stable for matches with equal values.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum MatchSort {
+
+    DATE("date", List.of("date", "id")),
+    ID("id", List.of("id"));
+
+    private final String value;
+    private final List<String> columns;
+
+    /**
+     * Looks up the sort field by its API value.
+     *
+     * @param value the value of the {@code sort} query parameter
+     * @return the matching sort field, or empty if the value is unknown
+     */
+    public static Optional<MatchSort> fromValue(String value) {
+        return Arrays.stream(values())
+            .filter(sort -> sort.value.equals(value))
+            .findFirst();
+    }
+}
@@ -0,0 +1,59 @@
+package online.rabko.basketball.enums;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.function.ToIntFunction;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import online.rabko.model.PlayerStatsStats;
+
+/**
+ * Per-player aggregates that percentile ranks and distributions are computed for.
+ *
+ * <p>Each metric is a ratio of two box score totals over a run of games: points per game, or
+ * made over attempted shots. Players without a single game, or without a single attempt, have no
+ * value for the metric.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PercentileMetric {
+
+    POINTS("points", PlayerStatsStats::getPoints, null),
+    FIELD_GOAL_PERCENTAGE("field_goal_percentage", PlayerStatsStats::getFieldGoalsMade,
+        PlayerStatsStats::getFieldGoalsAttempted),
+    THREE_POINT_PERCENTAGE("three_point_percentage", PlayerStatsStats::getThreePointsMade,
+        PlayerStatsStats::getThreePointsAttempted);
+
+    private final String value;
+    private final ToIntFunction<PlayerStatsStats> numerator;
+    private final ToIntFunction<PlayerStatsStats> denominator;
+
+    /**
+     * Looks up the metric by its API value.
+     *
+     * @param value the value of the {@code metric} query parameter
+     * @return the matching metric, or empty if the value is unknown
+     */
+    public static Optional<PercentileMetric> fromValue(String value) {
+        return Arrays.stream(values())
+            .filter(metric -> metric.value.equals(value))
+            .findFirst();
+    }
+
+    /**
+     * Computes the metric from the totals of a player over a number of games.
+     *
+     * @param totals the box score totals, all present
+     * @param games  the number of games the totals cover
+     * @return the value, or empty if the player has no value for the metric
+     */
+    public OptionalDouble compute(PlayerStatsStats totals, int games) {
+        int divisor = Objects.isNull(denominator) ? games : denominator.applyAsInt(totals);
+        if (divisor == 0) {
+            return OptionalDouble.empty();
+        }
+        return OptionalDouble.of((double) numerator.applyAsInt(totals) / divisor);
+    }
+}
@@ -0,0 +1,39 @@
+package online.rabko.basketball.enums;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Fields the player list can be sorted by.
+ *
+ * <p>Each constant carries the {@code players} columns to order by, ending with the id so that
+ * the order is stable for players with equal values.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PlayerSort {
+
+    ID("id", List.of("id")),
+    LAST_NAME("last_name", List.of("last_name", "first_name", "id")),
+    AGE("age", List.of("age", "id")),
+    HEIGHT("height", List.of("height", "id")),
+    WEIGHT("weight", List.of("weight", "id"));
+
+    private final String value;
+    private final List<String> columns;
+
+    /**
+     * Looks up the sort field by its API value.
+     *
+     * @param value the value of the {@code sort} query parameter
+     * @return the matching sort field, or empty if the value is unknown
+     */
+    public static Optional<PlayerSort> fromValue(String value) {
+        return Arrays.stream(values())
+            .filter(sort -> sort.value.equals(value))
+            .findFirst();
+    }
+}
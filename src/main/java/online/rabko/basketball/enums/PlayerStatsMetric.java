@@ -0,0 +1,58 @@
+package online.rabko.basketball.enums;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.Getter;
+
+/**
+ * Box score metrics that player leaderboards can be ranked by.
+ *
+ * <p>Each metric is a signed sum of box score values, missing values counting as zero. It is
+ * available both as the list of its terms and as the SQL expression computing it from the
+ * {@code stats} JSONB column of a {@code match_participants} row aliased as {@code mp}.
+ */
+@Getter
+public enum PlayerStatsMetric {
+
+    POINTS(List.of(plus("points"))),
+    ASSISTS(List.of(plus("assists"))),
+    REBOUNDS(List.of(plus("rebounds"))),
+    STEALS(List.of(plus("steals"))),
+    BLOCKS(List.of(plus("blocks"))),
+    MINUTES_PLAYED(List.of(plus("minutes_played"))),
+    EFFICIENCY(List.of(plus("points"), plus("rebounds"), plus("assists"), plus("steals"),
+        plus("blocks"), minus("field_goals_attempted"), plus("field_goals_made"),
+        minus("free_throws_attempted"), plus("free_throws_made"), minus("turnovers")));
+
+    private final List<Term> terms;
+    private final String expression;
+
+    PlayerStatsMetric(List<Term> terms) {
+        this.terms = terms;
+        this.expression = terms.stream()
+            .map(term -> (term.sign() < 0 ? "- " : "+ ") + stat(term.key()))
+            .collect(Collectors.joining(" ", "0 ", ""));
+    }
+
+    private static Term plus(String key) {
+        return new Term(key, 1);
+    }
+
+    private static Term minus(String key) {
+        return new Term(key, -1);
+    }
+
+    private static String stat(String key) {
+        return "COALESCE((mp.stats ->> '" + key + "')::int, 0)";
+    }
+
+    /**
+     * A box score value contributing to a metric.
+     *
+     * @param key  the JSON key of the value in the {@code stats} column
+     * @param sign {@code 1} if the value is added, {@code -1} if it is subtracted
+     */
+    public record Term(String key, int sign) {
+
+    }
+}
@@ -0,0 +1,32 @@
+package online.rabko.basketball.enums;
+
+import java.util.Arrays;
+import java.util.Optional;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Direction in which list endpoints sort their results.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SortOrder {
+
+    ASC("asc", "ASC NULLS LAST"),
+    DESC("desc", "DESC NULLS LAST");
+
+    private final String value;
+    private final String sql;
+
+    /**
+     * Looks up the sort order by its API value.
+     *
+     * @param value the value of the {@code order} query parameter
+     * @return the matching sort order, or empty if the value is unknown
+     */
+    public static Optional<SortOrder> fromValue(String value) {
+        return Arrays.stream(values())
+            .filter(order -> order.value.equals(value))
+            .findFirst();
+    }
+}
@@ -0,0 +1,16 @@
+package online.rabko.basketball.exception;
+
+/**
+ * Exception to be thrown when a request is well-formed but semantically invalid.
+ */
+public class BadRequestException extends RuntimeException {
+
+    /**
+     * Constructs a new BadRequestException with the specified message.
+     *
+     * @param message the description of the problem
+     */
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package online.rabko.basketball.exception;
+
+/**
+ * Exception to be thrown when a request conflicts with the current state of a resource.
+ */
+public class ConflictException extends RuntimeException {
+
+    /**
+     * Constructs a new ConflictException with the specified message.
+     *
+     * @param message the description of the conflict
+     */
+    public ConflictException(String message) {
+        super(message);
+    }
+}
@@ -1,12 +1,15 @@
 package online.rabko.basketball.exception;
 
 import online.rabko.model.Error;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 /**
  * Global exception handler for the application.
@@ -34,6 +37,49 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.CONFLICT, exception.getMessage());
     }
 
+    /**
+     * Handles NotFoundException and returns a 404 Not Found response.
+     *
+     * @return 404 Not Found response
+     */
+    @ExceptionHandler(NotFoundException.class)
+    public ResponseEntity<Error> handleNotFound(NotFoundException exception) {
+        return buildResponse(HttpStatus.NOT_FOUND, exception.getMessage());
+    }
+
+    /**
+     * Handles ConflictException and returns a 409 Conflict response.
+     *
+     * @return 409 Conflict response
+     */
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<Error> handleConflict(ConflictException exception) {
+        return buildResponse(HttpStatus.CONFLICT, exception.getMessage());
+    }
+
+    /**
+     * Handles BadRequestException and returns a 400 Bad Request response.
+     *
+     * @return 400 Bad Request response
+     */
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<Error> handleBadRequest(BadRequestException exception) {
+        return buildResponse(HttpStatus.BAD_REQUEST, exception.getMessage());
+    }
+
+    /**
+     * Handles ServiceUnavailableException and returns a 503 Service Unavailable response asking
+     * the client to retry after a second.
+     *
+     * @return 503 Service Unavailable response
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<Error> handleServiceUnavailable(ServiceUnavailableException exception) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(new Error(exception.getMessage()));
+    }
+
     /**
      * Handles MethodArgumentNotValidException and returns a 400 Bad Request response.
      *
@@ -48,6 +94,29 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.BAD_REQUEST, message);
     }
 
+    /**
+     * Handles MissingServletRequestParameterException and returns a 400 Bad Request response.
+     *
+     * @return 400 Bad Request response
+     */
+    @ExceptionHandler(MissingServletRequestParameterException.class)
+    public ResponseEntity<Error> handleMissingParameter(
+        MissingServletRequestParameterException exception) {
+        return buildResponse(HttpStatus.BAD_REQUEST,
+            "Missing required parameter " + exception.getParameterName());
+    }
+
+    /**
+     * Handles MethodArgumentTypeMismatchException and returns a 400 Bad Request response.
+     *
+     * @return 400 Bad Request response
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<Error> handleTypeMismatch(MethodArgumentTypeMismatchException exception) {
+        return buildResponse(HttpStatus.BAD_REQUEST,
+            "Invalid value for parameter " + exception.getName());
+    }
+
     /**
      * Handles any other exception and returns a 500 Internal Server Error response.
      *
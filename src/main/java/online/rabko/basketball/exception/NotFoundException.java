@@ -0,0 +1,17 @@
+package online.rabko.basketball.exception;
+
+/**
+ * Exception to be thrown when a requested resource does not exist.
+ */
+public class NotFoundException extends RuntimeException {
+
+    /**
+     * Constructs a new NotFoundException for the given resource and id.
+     *
+     * @param resource the name of the resource, e.g. {@code Team}
+     * @param id       the id that was looked up
+     */
+    public NotFoundException(String resource, Object id) {
+        super(resource + " with id " + id + " not found");
+    }
+}
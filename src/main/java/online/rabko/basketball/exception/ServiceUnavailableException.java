@@ -0,0 +1,17 @@
+package online.rabko.basketball.exception;
+
+/**
+ * Exception to be thrown when a request cannot be served right now but may succeed if retried
+ * later, for example because a queue is full.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    /**
+     * Constructs a new ServiceUnavailableException with the specified message.
+     *
+     * @param message the reason the request cannot be served
+     */
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
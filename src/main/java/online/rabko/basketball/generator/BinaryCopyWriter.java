@@ -0,0 +1,73 @@
+package online.rabko.basketball.generator;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * Writes rows in PostgreSQL's binary {@code COPY} format: a fixed header, then every row as its
+ * field count followed by each field's length and value in network byte order, then a trailer.
+ * Only the types of the league tables are supported.
+ */
+final class BinaryCopyWriter {
+
+    private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF,
+        '\r', '\n', 0};
+    private static final long POSTGRES_EPOCH_DAY = LocalDate.of(2000, 1, 1).toEpochDay();
+    private static final int INT_LENGTH = 4;
+    private static final int JSONB_VERSION = 1;
+    private static final int TRAILER = -1;
+
+    private final DataOutputStream out;
+
+    /**
+     * Starts a copy by writing the header.
+     *
+     * @param out the stream to write to; it is not closed
+     * @throws IOException if writing fails
+     */
+    BinaryCopyWriter(OutputStream out) throws IOException {
+        this.out = new DataOutputStream(out);
+        this.out.write(SIGNATURE);
+        this.out.writeInt(0);
+        this.out.writeInt(0);
+    }
+
+    void startRow(int fields) throws IOException {
+        out.writeShort(fields);
+    }
+
+    void writeInt(int value) throws IOException {
+        out.writeInt(INT_LENGTH);
+        out.writeInt(value);
+    }
+
+    void writeText(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    void writeDate(LocalDate value) throws IOException {
+        out.writeInt(INT_LENGTH);
+        out.writeInt((int) (value.toEpochDay() - POSTGRES_EPOCH_DAY));
+    }
+
+    void writeJsonb(byte[] json) throws IOException {
+        out.writeInt(json.length + 1);
+        out.writeByte(JSONB_VERSION);
+        out.write(json);
+    }
+
+    /**
+     * Ends the copy by writing the trailer and flushing.
+     *
+     * @throws IOException if writing fails
+     */
+    void finish() throws IOException {
+        out.writeShort(TRAILER);
+        out.flush();
+    }
+}
@@ -0,0 +1,417 @@
+package online.rabko.basketball.generator;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+import online.rabko.basketball.enums.BackupTable;
+import online.rabko.model.Match;
+import online.rabko.model.PlayerStats;
+import online.rabko.model.PlayerStatsStats;
+
+/**
+ * Deterministic generator of a synthetic league: teams, seasons, rosters, full round-robin
+ * schedules and a box score for every dressed player of every match.
+ *
+ * <p>Every value derives from the seed of the {@link LeagueSpec}, so the same spec always yields
+ * the same league. Box scores are internally consistent: made shots never exceed attempts,
+ * three-pointers are counted among field goals, points are {@code 2 * FGM + 3PM + FTM}, the
+ * minutes of a team add up to 240 and the score of each team is the sum of its players' points.
+ * Ties are settled with a free throw in overtime.
+ *
+ * <p>Rows are written straight to {@code COPY} streams in {@link BackupTable} column order, with
+ * ids following the highest existing ids. The box scores of a match are drawn from a random
+ * source seeded by the match alone, so they are computed again when the box scores are written
+ * after the match scores, and memory use does not depend on the size of the league.
+ */
+public final class LeagueGenerator {
+
+    /**
+     * Generated tables, in the order they must be copied.
+     */
+    public static final List<BackupTable> TABLES = List.of(BackupTable.TEAMS,
+        BackupTable.SEASONS, BackupTable.PLAYERS, BackupTable.MATCHES,
+        BackupTable.MATCH_PARTICIPANTS);
+
+    /**
+     * Most players of a roster that appear in a match.
+     */
+    public static final int DRESSED_PLAYERS = 10;
+
+    /**
+     * Minutes shared by the players of a team in a match.
+     */
+    public static final int TEAM_MINUTES = 240;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final long PLAYER_SALT = 0x5DEECE66DL;
+    private static final long TALENT_SALT = 0x2545F4914F6CDD1DL;
+    private static final int STARTERS = 5;
+    private static final int SEASON_START_MONTH = 10;
+    private static final int SEASON_START_DAY = 20;
+    private static final int SEASON_END_MONTH = 4;
+    private static final int SEASON_END_DAY = 15;
+
+    private static final List<String> CITIES = List.of("Atlanta", "Baltimore", "Boise",
+        "Charlotte", "Chicago", "Cleveland", "Dallas", "Denver", "Detroit", "El Paso", "Fresno",
+        "Hartford", "Houston", "Indianapolis", "Jacksonville", "Kansas City", "Las Vegas",
+        "Louisville", "Memphis", "Miami", "Milwaukee", "Nashville", "Omaha", "Orlando",
+        "Portland", "Raleigh", "Sacramento", "Seattle", "Tulsa", "Wichita");
+    private static final List<String> NICKNAMES = List.of("Anchors", "Bison", "Blaze",
+        "Comets", "Condors", "Coyotes", "Cyclones", "Dragons", "Falcons", "Foxes", "Giants",
+        "Hornets", "Huskies", "Jaguars", "Knights", "Lynx", "Mustangs", "Owls", "Panthers",
+        "Pioneers", "Raptors", "Rockets", "Sharks", "Spartans", "Stallions", "Titans", "Vipers",
+        "Voyagers", "Wolves", "Wranglers");
+    private static final List<String> FIRST_NAMES = List.of("Aaron", "Andre", "Ben", "Carlos",
+        "Chris", "Darius", "David", "Derrick", "Elijah", "Evan", "Gabriel", "Isaiah", "Jalen",
+        "James", "Jamal", "Jordan", "Kevin", "Luka", "Malik", "Marcus", "Mason", "Nikola", "Omar",
+        "Paul", "Rafael", "Ryan", "Stephen", "Tyrese", "Victor", "Zion");
+    private static final List<String> LAST_NAMES = List.of("Adams", "Allen", "Baker", "Brooks",
+        "Carter", "Davis", "Edwards", "Evans", "Fisher", "Green", "Harris", "Hughes", "Jackson",
+        "Johnson", "Kelly", "Lewis", "Martin", "Mitchell", "Murray", "Nelson", "Parker",
+        "Reed", "Robinson", "Scott", "Thomas", "Turner", "Walker", "Watson", "White", "Young");
+    private static final List<String> POSITIONS = List.of("Point Guard", "Shooting Guard",
+        "Small Forward", "Power Forward", "Center");
+    private static final List<Integer> POSITION_HEIGHTS = List.of(188, 196, 201, 206, 211);
+
+    private final LeagueSpec spec;
+    private final int firstTeamId;
+    private final int firstSeasonId;
+    private final int firstPlayerId;
+    private final int firstMatchId;
+    private final int firstBoxScoreId;
+
+    /**
+     * Creates a generator.
+     *
+     * @param spec    the shape of the league
+     * @param lastIds the highest existing id of each generated table; new ids follow them
+     */
+    public LeagueGenerator(LeagueSpec spec, Map<BackupTable, Integer> lastIds) {
+        this.spec = spec;
+        this.firstTeamId = lastIds.get(BackupTable.TEAMS) + 1;
+        this.firstSeasonId = lastIds.get(BackupTable.SEASONS) + 1;
+        this.firstPlayerId = lastIds.get(BackupTable.PLAYERS) + 1;
+        this.firstMatchId = lastIds.get(BackupTable.MATCHES) + 1;
+        this.firstBoxScoreId = lastIds.get(BackupTable.MATCH_PARTICIPANTS) + 1;
+    }
+
+    /**
+     * Returns the ids the generated teams get.
+     *
+     * @return the team ids
+     */
+    public List<Integer> getTeamIds() {
+        return ids(firstTeamId, spec.teams());
+    }
+
+    /**
+     * Returns the ids the generated seasons get.
+     *
+     * @return the season ids
+     */
+    public List<Integer> getSeasonIds() {
+        return ids(firstSeasonId, spec.seasons());
+    }
+
+    /**
+     * Returns the ids the generated players get.
+     *
+     * @return the player ids
+     */
+    public List<Integer> getPlayerIds() {
+        return ids(firstPlayerId, spec.teams() * spec.playersPerTeam());
+    }
+
+    /**
+     * Returns the start date of the first generated season, on or before every generated match.
+     *
+     * @return the first season's start date
+     */
+    public LocalDate getFirstSeasonStart() {
+        return seasonStart(0);
+    }
+
+    /**
+     * Writes the generated rows of a table in binary {@code COPY} format.
+     *
+     * @param table the table, one of {@link #TABLES}
+     * @param out   the stream to write to; it is not closed
+     * @throws IOException if writing fails
+     */
+    public void write(BackupTable table, OutputStream out) throws IOException {
+        BinaryCopyWriter writer = new BinaryCopyWriter(out);
+        int fields = table.getColumns().size();
+        if (table == BackupTable.TEAMS) {
+            for (int team = 0; team < spec.teams(); team++) {
+                writer.startRow(fields);
+                writer.writeInt(firstTeamId + team);
+                writer.writeText(teamName(team));
+            }
+        } else if (table == BackupTable.SEASONS) {
+            for (int season = 0; season < spec.seasons(); season++) {
+                writer.startRow(fields);
+                writer.writeInt(firstSeasonId + season);
+                writer.writeText(seasonName(season));
+                writer.writeDate(seasonStart(season));
+                writer.writeDate(seasonEnd(season));
+            }
+        } else if (table == BackupTable.PLAYERS) {
+            writePlayers(writer, fields);
+        } else if (table == BackupTable.MATCHES) {
+            forEachMatch((match, boxScores) -> {
+                writer.startRow(fields);
+                writer.writeInt(match.getId());
+                writer.writeInt(match.getSeasonId());
+                writer.writeDate(match.getDate());
+                writer.writeInt(match.getHomeTeamId());
+                writer.writeInt(match.getAwayTeamId());
+                writer.writeInt(match.getHomeTeamScore());
+                writer.writeInt(match.getAwayTeamScore());
+            });
+        } else if (table == BackupTable.MATCH_PARTICIPANTS) {
+            forEachMatch((match, boxScores) -> {
+                for (PlayerStats boxScore : boxScores) {
+                    writer.startRow(fields);
+                    writer.writeInt(boxScore.getId());
+                    writer.writeInt(match.getId());
+                    writer.writeInt(match.getSeasonId());
+                    writer.writeInt(boxScore.getPlayerId());
+                    writer.writeInt(boxScore.getTeamId());
+                    writer.writeJsonb(json(boxScore.getStats()));
+                }
+            });
+        } else {
+            throw new IllegalArgumentException("Table " + table.getTable() + " is not generated");
+        }
+        writer.finish();
+    }
+
+    /**
+     * Calls a consumer with every generated match and its box scores, in id order: season by
+     * season, round by round.
+     *
+     * @param consumer the consumer
+     * @throws IOException if the consumer fails
+     */
+    public void forEachMatch(MatchConsumer consumer) throws IOException {
+        int slots = spec.teams() + spec.teams() % 2;
+        int roundsPerCycle = slots - 1;
+        int totalRounds = spec.rounds() * roundsPerCycle;
+        int match = 0;
+        for (int season = 0; season < spec.seasons(); season++) {
+            LocalDate start = seasonStart(season);
+            long days = ChronoUnit.DAYS.between(start, seasonEnd(season));
+            for (int round = 0; round < totalRounds; round++) {
+                LocalDate date = start.plusDays(round * days / totalRounds);
+                int cycleRound = round % roundsPerCycle;
+                boolean swapped = round / roundsPerCycle % 2 == 1;
+                for (int pair = 0; pair < slots / 2; pair++) {
+                    int first = slot(cycleRound, pair, slots);
+                    int second = slot(cycleRound, slots - 1 - pair, slots);
+                    if (first >= spec.teams() || second >= spec.teams()) {
+                        continue;
+                    }
+                    boolean firstAtHome = (pair == 0 ? cycleRound : pair) % 2 == 0 != swapped;
+                    int home = firstAtHome ? first : second;
+                    int away = firstAtHome ? second : first;
+                    emit(consumer, season, match, date, home, away);
+                    match++;
+                }
+            }
+        }
+    }
+
+    private void emit(MatchConsumer consumer, int season, int match, LocalDate date, int home,
+        int away) throws IOException {
+        SplittableRandom random = new SplittableRandom(spec.seed() ^ (match + 1) * GOLDEN_GAMMA);
+        List<PlayerStats> homeBoxScores = teamBoxScores(random, home);
+        List<PlayerStats> awayBoxScores = teamBoxScores(random, away);
+        if (points(homeBoxScores) == points(awayBoxScores)) {
+            List<PlayerStats> winners = random.nextBoolean() ? homeBoxScores : awayBoxScores;
+            PlayerStatsStats stats = winners.get(random.nextInt(winners.size())).getStats();
+            stats.freeThrowsAttempted(stats.getFreeThrowsAttempted() + 1)
+                .freeThrowsMade(stats.getFreeThrowsMade() + 1)
+                .points(stats.getPoints() + 1);
+        }
+        int matchId = firstMatchId + match;
+        int boxScoreId = firstBoxScoreId + match * 2 * dressed();
+        List<PlayerStats> boxScores = new ArrayList<>(homeBoxScores);
+        boxScores.addAll(awayBoxScores);
+        for (PlayerStats boxScore : boxScores) {
+            boxScore.id(boxScoreId++).matchId(matchId);
+        }
+        consumer.accept(new Match(matchId, firstSeasonId + season, date, firstTeamId + home,
+                firstTeamId + away)
+                .homeTeamScore(points(homeBoxScores))
+                .awayTeamScore(points(awayBoxScores)),
+            boxScores);
+    }
+
+    private List<PlayerStats> teamBoxScores(SplittableRandom random, int team) {
+        int dressed = dressed();
+        int[] roster = IntStream.range(0, spec.playersPerTeam()).toArray();
+        for (int i = STARTERS; i < dressed; i++) {
+            int pick = random.nextInt(i, roster.length);
+            int swap = roster[i];
+            roster[i] = roster[pick];
+            roster[pick] = swap;
+        }
+        double[] weights = new double[dressed];
+        double total = 0;
+        for (int i = 0; i < dressed; i++) {
+            weights[i] = (i < STARTERS ? 3.0 : 0.8) + random.nextDouble();
+            total += weights[i];
+        }
+        int[] minutes = new int[dressed];
+        int assigned = 0;
+        for (int i = 0; i < dressed; i++) {
+            minutes[i] = (int) (TEAM_MINUTES * weights[i] / total);
+            assigned += minutes[i];
+        }
+        for (int i = 0; assigned < TEAM_MINUTES; i = (i + 1) % STARTERS, assigned++) {
+            minutes[i]++;
+        }
+        List<PlayerStats> boxScores = new ArrayList<>(dressed);
+        for (int i = 0; i < dressed; i++) {
+            int player = team * spec.playersPerTeam() + roster[i];
+            boxScores.add(new PlayerStats(0, 0, firstPlayerId + player, firstTeamId + team,
+                playerStats(random, minutes[i], talent(player))));
+        }
+        return boxScores;
+    }
+
+    private static PlayerStatsStats playerStats(SplittableRandom random, int minutes,
+        double talent) {
+        int fieldGoalsAttempted = binomial(random, (int) Math.round(minutes * 0.7 * talent), 0.5);
+        int threesAttempted = binomial(random, fieldGoalsAttempted, 0.38);
+        int threesMade = binomial(random, threesAttempted, 0.36);
+        int twosMade = binomial(random, fieldGoalsAttempted - threesAttempted, 0.52);
+        int freeThrowsAttempted = binomial(random, (int) Math.round(minutes * 0.18 * talent),
+            0.5);
+        int freeThrowsMade = binomial(random, freeThrowsAttempted, 0.78);
+        return new PlayerStatsStats()
+            .points(2 * twosMade + 3 * threesMade + freeThrowsMade)
+            .assists(binomial(random, (int) Math.round(minutes * 0.5 * talent), 0.2))
+            .rebounds(binomial(random, (int) Math.round(minutes * 0.6), 0.3))
+            .steals(binomial(random, (int) Math.round(minutes * 0.1), 0.3))
+            .blocks(binomial(random, (int) Math.round(minutes * 0.1), 0.2))
+            .minutesPlayed(minutes)
+            .fieldGoalsMade(twosMade + threesMade)
+            .fieldGoalsAttempted(fieldGoalsAttempted)
+            .threePointsMade(threesMade)
+            .threePointsAttempted(threesAttempted)
+            .freeThrowsMade(freeThrowsMade)
+            .freeThrowsAttempted(freeThrowsAttempted)
+            .turnovers(binomial(random, (int) Math.round(minutes * 0.2), 0.3))
+            .fouls(Math.min(6, binomial(random, (int) Math.round(minutes * 0.3), 0.3)));
+    }
+
+    private void writePlayers(BinaryCopyWriter writer, int fields) throws IOException {
+        for (int team = 0; team < spec.teams(); team++) {
+            for (int slot = 0; slot < spec.playersPerTeam(); slot++) {
+                int player = team * spec.playersPerTeam() + slot;
+                SplittableRandom random = new SplittableRandom(
+                    spec.seed() ^ PLAYER_SALT ^ (player + 1) * GOLDEN_GAMMA);
+                int height = POSITION_HEIGHTS.get(slot % POSITIONS.size())
+                    + random.nextInt(-6, 7);
+                writer.startRow(fields);
+                writer.writeInt(firstPlayerId + player);
+                writer.writeInt(firstTeamId + team);
+                writer.writeText(FIRST_NAMES.get(random.nextInt(FIRST_NAMES.size())));
+                writer.writeText(LAST_NAMES.get(random.nextInt(LAST_NAMES.size())));
+                writer.writeText(POSITIONS.get(slot % POSITIONS.size()));
+                writer.writeInt(random.nextInt(19, 38));
+                writer.writeInt(height);
+                writer.writeInt(height - 100 + random.nextInt(-8, 12));
+            }
+        }
+    }
+
+    private double talent(int player) {
+        return 0.6 + 0.9 * new SplittableRandom(spec.seed() ^ TALENT_SALT
+            ^ (player + 1) * GOLDEN_GAMMA).nextDouble();
+    }
+
+    private int dressed() {
+        return Math.min(spec.playersPerTeam(), DRESSED_PLAYERS);
+    }
+
+    private String teamName(int team) {
+        int city = team % CITIES.size();
+        int cycle = team / CITIES.size();
+        String name = CITIES.get(city) + " "
+            + NICKNAMES.get((city + cycle) % NICKNAMES.size());
+        int repeat = team / (CITIES.size() * NICKNAMES.size());
+        return repeat == 0 ? name : name + " " + (repeat + 1);
+    }
+
+    private String seasonName(int season) {
+        int year = spec.firstSeasonYear() + season;
+        return "%d-%02d".formatted(year, (year + 1) % 100);
+    }
+
+    private LocalDate seasonStart(int season) {
+        return LocalDate.of(spec.firstSeasonYear() + season, SEASON_START_MONTH,
+            SEASON_START_DAY);
+    }
+
+    private LocalDate seasonEnd(int season) {
+        return LocalDate.of(spec.firstSeasonYear() + season + 1, SEASON_END_MONTH,
+            SEASON_END_DAY);
+    }
+
+    private static int slot(int round, int position, int slots) {
+        return position == slots - 1 ? slots - 1 : (round + position) % (slots - 1);
+    }
+
+    private static int binomial(SplittableRandom random, int trials, double probability) {
+        int successes = 0;
+        for (int i = 0; i < trials; i++) {
+            if (random.nextDouble() < probability) {
+                successes++;
+            }
+        }
+        return successes;
+    }
+
+    private static int points(List<PlayerStats> boxScores) {
+        return boxScores.stream().mapToInt(boxScore -> boxScore.getStats().getPoints()).sum();
+    }
+
+    private static List<Integer> ids(int first, int count) {
+        return IntStream.range(first, first + count).boxed().toList();
+    }
+
+    private static byte[] json(PlayerStatsStats stats) {
+        try {
+            return MAPPER.writeValueAsBytes(stats);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Box score stats cannot be serialized", e);
+        }
+    }
+
+    /**
+     * Receives a generated match with its box scores.
+     */
+    @FunctionalInterface
+    public interface MatchConsumer {
+
+        /**
+         * Accepts a match.
+         *
+         * @param match     the match, with its scores
+         * @param boxScores the box scores of the home team followed by those of the away team
+         * @throws IOException if the match cannot be written
+         */
+        void accept(Match match, List<PlayerStats> boxScores) throws IOException;
+    }
+}
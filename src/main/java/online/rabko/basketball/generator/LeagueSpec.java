@@ -0,0 +1,48 @@
+package online.rabko.basketball.generator;
+
+/**
+ * Shape of a generated league. Every team plays every other team {@code rounds} times a season,
+ * alternating home and away, and dresses up to ten players of its roster for each match.
+ *
+ * @param seed            the seed all generated values derive from
+ * @param seasons         the number of seasons
+ * @param teams           the number of teams, at least two
+ * @param playersPerTeam  the roster size, at least five
+ * @param rounds          the number of times each pair of teams meets in a season
+ * @param firstSeasonYear the year the first season starts in
+ */
+public record LeagueSpec(long seed, int seasons, int teams, int playersPerTeam, int rounds,
+                         int firstSeasonYear) {
+
+    /**
+     * Smallest roster that can field a team.
+     */
+    public static final int MIN_PLAYERS_PER_TEAM = 5;
+
+    /**
+     * Validates the shape.
+     *
+     * @throws IllegalArgumentException if the league cannot be scheduled
+     */
+    public LeagueSpec {
+        if (seasons < 1 || rounds < 1) {
+            throw new IllegalArgumentException("seasons and rounds must be at least 1");
+        }
+        if (teams < 2) {
+            throw new IllegalArgumentException("teams must be at least 2");
+        }
+        if (playersPerTeam < MIN_PLAYERS_PER_TEAM) {
+            throw new IllegalArgumentException("playersPerTeam must be at least "
+                + MIN_PLAYERS_PER_TEAM);
+        }
+    }
+
+    /**
+     * Returns the number of matches in each season.
+     *
+     * @return the matches per season
+     */
+    public int matchesPerSeason() {
+        return rounds * teams * (teams - 1) / 2;
+    }
+}
@@ -0,0 +1,256 @@
+package online.rabko.basketball.mapper;
+
+import io.r2dbc.spi.Readable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import online.rabko.basketball.entity.MatchEntity;
+import online.rabko.basketball.entity.MatchParticipantEntity;
+import online.rabko.model.Match;
+import online.rabko.model.MatchDetail;
+import online.rabko.model.PlayerStats;
+import online.rabko.model.PlayerStatsAverages;
+import online.rabko.model.PlayerStatsStats;
+import online.rabko.model.PlayerStatsSummary;
+import online.rabko.model.Season;
+import online.rabko.model.Team;
+
+/**
+ * Maps {@link MatchEntity} and {@link MatchParticipantEntity} to the API {@link Match} and
+ * {@link PlayerStats} models. Associations are read by id only, so lazy proxies are never
+ * initialized. The {@code fromRow} variants map plain JDBC rows of the same tables and are usable
+ * as {@link org.springframework.jdbc.core.RowMapper}s, and the {@code fromReadable} variants map
+ * the same rows read through R2DBC.
+ */
+public final class MatchMapper {
+
+    private MatchMapper() {
+    }
+
+    /**
+     * Converts a match entity to its API representation.
+     *
+     * @param entity the match entity
+     * @return the match model
+     */
+    public static Match toDto(MatchEntity entity) {
+        return new Match(entity.getId(), entity.getSeason().getId(), entity.getDate(),
+            entity.getHomeTeam().getId(), entity.getAwayTeam().getId())
+            .homeTeamScore(entity.getHomeTeamScore())
+            .awayTeamScore(entity.getAwayTeamScore());
+    }
+
+    /**
+     * Converts a match participant entity to its API representation.
+     *
+     * @param entity the match participant entity
+     * @return the player statistics model
+     */
+    public static PlayerStats toDto(MatchParticipantEntity entity) {
+        return new PlayerStats(entity.getId(), entity.getMatch().getId(),
+            entity.getPlayer().getId(), entity.getTeam().getId(), entity.getStats());
+    }
+
+    /**
+     * Converts a row of the {@code matches} table to its API representation.
+     *
+     * @param rs     the result set positioned at the row
+     * @param rowNum the number of the current row
+     * @return the match model
+     * @throws SQLException if a column cannot be read
+     */
+    public static Match fromRow(ResultSet rs, int rowNum) throws SQLException {
+        return new Match(rs.getInt("id"), rs.getInt("season_id"),
+            rs.getObject("date", LocalDate.class), rs.getInt("home_team_id"),
+            rs.getInt("away_team_id"))
+            .homeTeamScore(rs.getObject("home_team_score", Integer.class))
+            .awayTeamScore(rs.getObject("away_team_score", Integer.class));
+    }
+
+    /**
+     * Converts a {@code matches} row joined with its season and both teams to a match detail. The
+     * roster and box score are left empty for the caller to fill in.
+     *
+     * @param rs     the result set positioned at the row
+     * @param rowNum the number of the current row
+     * @return the match detail model
+     * @throws SQLException if a column cannot be read
+     */
+    public static MatchDetail detailFromRow(ResultSet rs, int rowNum) throws SQLException {
+        Match match = fromRow(rs, rowNum);
+        Season season = new Season(match.getSeasonId(), rs.getString("season_name"),
+            rs.getObject("season_start_date", LocalDate.class),
+            rs.getObject("season_end_date", LocalDate.class));
+        return new MatchDetail(match, season,
+            new Team(match.getHomeTeamId(), rs.getString("home_team_name")),
+            new Team(match.getAwayTeamId(), rs.getString("away_team_name")),
+            List.of(), List.of());
+    }
+
+    /**
+     * Converts a {@code match_participants} row whose box score has been unpacked into one
+     * column per statistic, named after its JSON key, to its API representation.
+     *
+     * @param rs     the result set positioned at the row
+     * @param rowNum the number of the current row
+     * @return the player statistics model
+     * @throws SQLException if a column cannot be read
+     */
+    public static PlayerStats statsFromRow(ResultSet rs, int rowNum) throws SQLException {
+        PlayerStatsStats stats = new PlayerStatsStats()
+            .points(rs.getObject("points", Integer.class))
+            .assists(rs.getObject("assists", Integer.class))
+            .rebounds(rs.getObject("rebounds", Integer.class))
+            .steals(rs.getObject("steals", Integer.class))
+            .blocks(rs.getObject("blocks", Integer.class))
+            .minutesPlayed(rs.getObject("minutes_played", Integer.class))
+            .fieldGoalsMade(rs.getObject("field_goals_made", Integer.class))
+            .fieldGoalsAttempted(rs.getObject("field_goals_attempted", Integer.class))
+            .threePointsMade(rs.getObject("three_points_made", Integer.class))
+            .threePointsAttempted(rs.getObject("three_points_attempted", Integer.class))
+            .freeThrowsMade(rs.getObject("free_throws_made", Integer.class))
+            .freeThrowsAttempted(rs.getObject("free_throws_attempted", Integer.class))
+            .turnovers(rs.getObject("turnovers", Integer.class))
+            .fouls(rs.getObject("fouls", Integer.class));
+        return new PlayerStats(rs.getInt("id"), rs.getInt("match_id"), rs.getInt("player_id"),
+            rs.getInt("team_id"), stats);
+    }
+
+    /**
+     * Converts a row of the {@code matches} table read through R2DBC to its API representation.
+     *
+     * @param row the row
+     * @return the match model
+     */
+    public static Match fromReadable(Readable row) {
+        return new Match(row.get("id", Integer.class), row.get("season_id", Integer.class),
+            row.get("date", LocalDate.class), row.get("home_team_id", Integer.class),
+            row.get("away_team_id", Integer.class))
+            .homeTeamScore(row.get("home_team_score", Integer.class))
+            .awayTeamScore(row.get("away_team_score", Integer.class));
+    }
+
+    /**
+     * Converts a {@code match_participants} row read through R2DBC, with its box score unpacked
+     * into one column per statistic, to its API representation.
+     *
+     * @param row the row
+     * @return the player statistics model
+     */
+    public static PlayerStats statsFromReadable(Readable row) {
+        PlayerStatsStats stats = new PlayerStatsStats()
+            .points(row.get("points", Integer.class))
+            .assists(row.get("assists", Integer.class))
+            .rebounds(row.get("rebounds", Integer.class))
+            .steals(row.get("steals", Integer.class))
+            .blocks(row.get("blocks", Integer.class))
+            .minutesPlayed(row.get("minutes_played", Integer.class))
+            .fieldGoalsMade(row.get("field_goals_made", Integer.class))
+            .fieldGoalsAttempted(row.get("field_goals_attempted", Integer.class))
+            .threePointsMade(row.get("three_points_made", Integer.class))
+            .threePointsAttempted(row.get("three_points_attempted", Integer.class))
+            .freeThrowsMade(row.get("free_throws_made", Integer.class))
+            .freeThrowsAttempted(row.get("free_throws_attempted", Integer.class))
+            .turnovers(row.get("turnovers", Integer.class))
+            .fouls(row.get("fouls", Integer.class));
+        return new PlayerStats(row.get("id", Integer.class), row.get("match_id", Integer.class),
+            row.get("player_id", Integer.class), row.get("team_id", Integer.class), stats);
+    }
+
+    /**
+     * Converts a row of box score totals over a number of games, with one column per statistic
+     * named after its JSON key and a {@code games} column, to a summary with per-game averages.
+     * The averages are left out if no games are covered.
+     *
+     * @param rs       the result set positioned at the row
+     * @param playerId the player the totals belong to
+     * @param seasonId the season the totals are restricted to, or {@code null}
+     * @return the player statistics summary model
+     * @throws SQLException if a column cannot be read
+     */
+    public static PlayerStatsSummary summaryFromRow(ResultSet rs, Integer playerId,
+        Integer seasonId) throws SQLException {
+        int games = rs.getInt("games");
+        PlayerStatsStats totals = new PlayerStatsStats()
+            .points(rs.getInt("points"))
+            .assists(rs.getInt("assists"))
+            .rebounds(rs.getInt("rebounds"))
+            .steals(rs.getInt("steals"))
+            .blocks(rs.getInt("blocks"))
+            .minutesPlayed(rs.getInt("minutes_played"))
+            .fieldGoalsMade(rs.getInt("field_goals_made"))
+            .fieldGoalsAttempted(rs.getInt("field_goals_attempted"))
+            .threePointsMade(rs.getInt("three_points_made"))
+            .threePointsAttempted(rs.getInt("three_points_attempted"))
+            .freeThrowsMade(rs.getInt("free_throws_made"))
+            .freeThrowsAttempted(rs.getInt("free_throws_attempted"))
+            .turnovers(rs.getInt("turnovers"))
+            .fouls(rs.getInt("fouls"));
+        return summary(playerId, seasonId, games, totals);
+    }
+
+    /**
+     * Converts a row of box score totals read through R2DBC, with the columns
+     * {@link #summaryFromRow} reads, to a summary with per-game averages. The averages are left
+     * out if no games are covered.
+     *
+     * @param row      the row
+     * @param playerId the player the totals belong to
+     * @param seasonId the season the totals are restricted to, or {@code null}
+     * @return the player statistics summary model
+     */
+    public static PlayerStatsSummary summaryFromReadable(Readable row, Integer playerId,
+        Integer seasonId) {
+        PlayerStatsStats totals = new PlayerStatsStats()
+            .points(sum(row, "points"))
+            .assists(sum(row, "assists"))
+            .rebounds(sum(row, "rebounds"))
+            .steals(sum(row, "steals"))
+            .blocks(sum(row, "blocks"))
+            .minutesPlayed(sum(row, "minutes_played"))
+            .fieldGoalsMade(sum(row, "field_goals_made"))
+            .fieldGoalsAttempted(sum(row, "field_goals_attempted"))
+            .threePointsMade(sum(row, "three_points_made"))
+            .threePointsAttempted(sum(row, "three_points_attempted"))
+            .freeThrowsMade(sum(row, "free_throws_made"))
+            .freeThrowsAttempted(sum(row, "free_throws_attempted"))
+            .turnovers(sum(row, "turnovers"))
+            .fouls(sum(row, "fouls"));
+        return summary(playerId, seasonId, sum(row, "games"), totals);
+    }
+
+    private static PlayerStatsSummary summary(Integer playerId, Integer seasonId, int games,
+        PlayerStatsStats totals) {
+        PlayerStatsSummary summary = new PlayerStatsSummary(playerId, games, totals)
+            .seasonId(seasonId);
+        if (games == 0) {
+            return summary;
+        }
+        return summary.averages(new PlayerStatsAverages()
+            .points(average(totals.getPoints(), games))
+            .assists(average(totals.getAssists(), games))
+            .rebounds(average(totals.getRebounds(), games))
+            .steals(average(totals.getSteals(), games))
+            .blocks(average(totals.getBlocks(), games))
+            .minutesPlayed(average(totals.getMinutesPlayed(), games))
+            .fieldGoalsMade(average(totals.getFieldGoalsMade(), games))
+            .fieldGoalsAttempted(average(totals.getFieldGoalsAttempted(), games))
+            .threePointsMade(average(totals.getThreePointsMade(), games))
+            .threePointsAttempted(average(totals.getThreePointsAttempted(), games))
+            .freeThrowsMade(average(totals.getFreeThrowsMade(), games))
+            .freeThrowsAttempted(average(totals.getFreeThrowsAttempted(), games))
+            .turnovers(average(totals.getTurnovers(), games))
+            .fouls(average(totals.getFouls(), games)));
+    }
+
+    private static int sum(Readable row, String column) {
+        return row.get(column, Number.class).intValue();
+    }
+
+    private static BigDecimal average(int total, int games) {
+        return BigDecimal.valueOf(total).divide(BigDecimal.valueOf(games), 2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,50 @@
+package online.rabko.basketball.mapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Objects;
+import online.rabko.basketball.entity.PlayerEntity;
+import online.rabko.model.Player;
+
+/**
+ * Maps {@link PlayerEntity} and {@code players} rows to the API {@link Player} model.
+ */
+public final class PlayerMapper {
+
+    private PlayerMapper() {
+    }
+
+    /**
+     * Converts a player entity to its API representation. The team is read from the association
+     * id only, so a lazy team proxy is never initialized.
+     *
+     * @param entity the player entity
+     * @return the player model
+     */
+    public static Player toDto(PlayerEntity entity) {
+        return new Player(entity.getId(), entity.getFirstName(), entity.getLastName())
+            .teamId(Objects.isNull(entity.getTeam()) ? null : entity.getTeam().getId())
+            .position(entity.getPosition())
+            .age(entity.getAge())
+            .height(entity.getHeight())
+            .weight(entity.getWeight());
+    }
+
+    /**
+     * Converts a row of the {@code players} table to its API representation. Usable as a
+     * {@link org.springframework.jdbc.core.RowMapper}.
+     *
+     * @param rs     the result set positioned at the row
+     * @param rowNum the number of the current row
+     * @return the player model
+     * @throws SQLException if a column cannot be read
+     */
+    public static Player fromRow(ResultSet rs, int rowNum) throws SQLException {
+        return new Player(rs.getInt("id"), rs.getString("first_name"), rs.getString("last_name"))
+            .teamId(rs.getObject("team_id", Integer.class))
+            .position(rs.getString("position"))
+            .age(rs.getObject("age", Integer.class))
+            .height(rs.getObject("height", Integer.class))
+            .weight(rs.getObject("weight", Integer.class));
+    }
+}
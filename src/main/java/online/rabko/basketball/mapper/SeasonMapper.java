@@ -0,0 +1,24 @@
+package online.rabko.basketball.mapper;
+
+import online.rabko.basketball.entity.SeasonEntity;
+import online.rabko.model.Season;
+
+/**
+ * Maps {@link SeasonEntity} to the API {@link Season} model.
+ */
+public final class SeasonMapper {
+
+    private SeasonMapper() {
+    }
+
+    /**
+     * Converts a season entity to its API representation.
+     *
+     * @param entity the season entity
+     * @return the season model
+     */
+    public static Season toDto(SeasonEntity entity) {
+        return new Season(entity.getId(), entity.getName(), entity.getStartDate(),
+            entity.getEndDate());
+    }
+}
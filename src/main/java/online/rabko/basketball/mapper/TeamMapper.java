@@ -0,0 +1,59 @@
+package online.rabko.basketball.mapper;
+
+import io.r2dbc.spi.Readable;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import online.rabko.basketball.entity.TeamEntity;
+import online.rabko.model.Team;
+import online.rabko.model.TeamStats;
+
+/**
+ * Maps {@link TeamEntity} to the API {@link Team} model and aggregated rows to {@link TeamStats}.
+ */
+public final class TeamMapper {
+
+    private TeamMapper() {
+    }
+
+    /**
+     * Converts a team entity to its API representation.
+     *
+     * @param entity the team entity
+     * @return the team model
+     */
+    public static Team toDto(TeamEntity entity) {
+        return new Team(entity.getId(), entity.getName());
+    }
+
+    /**
+     * Converts an aggregated team results row to its API representation. Usable as a
+     * {@link org.springframework.jdbc.core.RowMapper}.
+     *
+     * @param rs     the result set positioned at the row
+     * @param rowNum the number of the current row
+     * @return the team statistics model
+     * @throws SQLException if a column cannot be read
+     */
+    public static TeamStats statsFromRow(ResultSet rs, int rowNum) throws SQLException {
+        return new TeamStats(rs.getInt("team_id"), rs.getString("team_name"))
+            .averagePoints(rs.getObject("average_points", BigDecimal.class))
+            .winRate(rs.getObject("win_rate", BigDecimal.class))
+            .totalWins(rs.getInt("total_wins"))
+            .totalLosses(rs.getInt("total_losses"));
+    }
+
+    /**
+     * Converts an aggregated team results row read through R2DBC to its API representation.
+     *
+     * @param row the row
+     * @return the team statistics model
+     */
+    public static TeamStats statsFromReadable(Readable row) {
+        return new TeamStats(row.get("team_id", Integer.class), row.get("team_name", String.class))
+            .averagePoints(row.get("average_points", BigDecimal.class))
+            .winRate(row.get("win_rate", BigDecimal.class))
+            .totalWins(row.get("total_wins", Integer.class))
+            .totalLosses(row.get("total_losses", Integer.class));
+    }
+}
@@ -0,0 +1,58 @@
+package online.rabko.basketball.metrics;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Adds the API operation that handled a request to the {@code http.server.requests} metrics. The
+ * controllers implement the interfaces generated from the OpenAPI document, so the name of the
+ * handler method is the {@code operationId} of the operation.
+ */
+@Component
+public class ApiOperationObservationConvention extends DefaultServerRequestObservationConvention {
+
+    /**
+     * Name of the key holding the operation.
+     */
+    public static final String OPERATION = "operation";
+
+    /**
+     * Value of the operation key for requests not handled by a controller method.
+     */
+    public static final String NONE = "none";
+
+    /**
+     * Returns the default low cardinality key values along with the operation.
+     *
+     * @param context the context of the observed request
+     * @return the key values
+     */
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        return super.getLowCardinalityKeyValues(context).and(operation(context));
+    }
+
+    /**
+     * Returns the API operation that handled a request.
+     *
+     * @param request the handled request
+     * @return the name of the handler method, or {@value #NONE} if none handled the request
+     */
+    public static String operation(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getMethod().getName();
+        }
+        return NONE;
+    }
+
+    private static KeyValue operation(ServerRequestObservationContext context) {
+        return KeyValue.of(OPERATION, operation(context.getCarrier()));
+    }
+}
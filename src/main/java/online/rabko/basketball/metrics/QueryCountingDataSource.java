@@ -0,0 +1,156 @@
+package online.rabko.basketball.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.LongStream;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Data source recording the statements executed through its connections in the current
+ * {@link QueryStats} scope, whether they come from Hibernate or from {@code JdbcTemplate}.
+ *
+ * <p>Only statements created while the thread is counted are wrapped, so connections used
+ * outside of a scope, by background jobs for instance, hand out the statements of the driver
+ * as they are. Rows are counted as they are read from a result set, or from the update counts.
+ */
+public class QueryCountingDataSource extends DelegatingDataSource {
+
+    private static final String BATCH = "<batch>";
+
+    /**
+     * Creates a data source counting the statements of the given one.
+     *
+     * @param target the data source to obtain connections from
+     */
+    public QueryCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    /**
+     * Obtains a connection from the target data source.
+     *
+     * @return the counting connection
+     * @throws SQLException if the target fails to provide a connection
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(Connection.class, new ConnectionHandler(super.getConnection()));
+    }
+
+    /**
+     * Obtains a connection for the given user from the target data source.
+     *
+     * @param username the database user
+     * @param password the password of the user
+     * @return the counting connection
+     * @throws SQLException if the target fails to provide a connection
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(Connection.class,
+            new ConnectionHandler(super.getConnection(username, password)));
+    }
+
+    private static <T> T wrap(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(),
+            new Class<?>[]{type}, handler));
+    }
+
+    private static Object invoke(Object proxy, Object target, Method method, Object[] args)
+        throws Throwable {
+        if ("equals".equals(method.getName())) {
+            return proxy == args[0];
+        }
+        if ("hashCode".equals(method.getName())) {
+            return System.identityHashCode(proxy);
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private static ResultSet countRows(ResultSet resultSet, QueryStats stats) {
+        return wrap(ResultSet.class, (proxy, method, args) -> {
+            Object result = invoke(proxy, resultSet, method, args);
+            if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                stats.recordRows(1);
+            }
+            return result;
+        });
+    }
+
+    private record ConnectionHandler(Connection target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = QueryCountingDataSource.invoke(proxy, target, method, args);
+            if (result instanceof Statement statement && Objects.nonNull(QueryStats.current())) {
+                String sql = Objects.nonNull(args) && args.length > 0
+                    && args[0] instanceof String prepared ? prepared : BATCH;
+                return wrap(method.getReturnType().asSubclass(Statement.class),
+                    new StatementHandler(statement, sql));
+            }
+            return result;
+        }
+    }
+
+    private record StatementHandler(Statement target, String sql) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            QueryStats stats = QueryStats.current();
+            if (Objects.isNull(stats)) {
+                return QueryCountingDataSource.invoke(proxy, target, method, args);
+            }
+            if ("getResultSet".equals(method.getName())) {
+                ResultSet resultSet = target.getResultSet();
+                return Objects.isNull(resultSet) ? null : countRows(resultSet, stats);
+            }
+            if (!method.getName().startsWith("execute")) {
+                return QueryCountingDataSource.invoke(proxy, target, method, args);
+            }
+            final long start = System.nanoTime();
+            Object result;
+            try {
+                result = QueryCountingDataSource.invoke(proxy, target, method, args);
+            } finally {
+                stats.recordStatement(Objects.nonNull(args) && args.length > 0
+                    && args[0] instanceof String executed ? executed : sql,
+                    System.nanoTime() - start);
+            }
+            if (result instanceof ResultSet resultSet) {
+                return countRows(resultSet, stats);
+            }
+            stats.recordRows(updateCount(result));
+            return result;
+        }
+
+        private static long updateCount(Object result) {
+            return updateCounts(result).filter(count -> count > 0).sum();
+        }
+
+        private static LongStream updateCounts(Object result) {
+            if (result instanceof Number count) {
+                return LongStream.of(count.longValue());
+            }
+            if (result instanceof int[] counts) {
+                return Arrays.stream(counts).asLongStream();
+            }
+            if (result instanceof long[] counts) {
+                return Arrays.stream(counts);
+            }
+            return LongStream.empty();
+        }
+    }
+}
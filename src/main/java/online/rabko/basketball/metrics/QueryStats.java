@@ -0,0 +1,144 @@
+package online.rabko.basketball.metrics;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Counts the statements sent to the database by the current thread between {@link #start()} and
+ * {@link #close()}: how many were executed, how many rows they read or changed and how long they
+ * took, and how often each distinct statement was executed.
+ *
+ * <p>Scopes nest: statements executed in an inner scope, such as a request handled inside a
+ * test, are counted by every enclosing scope as well. Statements are recorded by the
+ * {@link QueryCountingDataSource}; a thread without a scope is not counted at all.
+ */
+public final class QueryStats implements AutoCloseable {
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private final QueryStats parent;
+    private final Map<String, Integer> executions = new LinkedHashMap<>();
+    private int statements;
+    private long rows;
+    private long nanos;
+    private boolean closed;
+
+    private QueryStats(QueryStats parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Starts counting the statements of the current thread.
+     *
+     * @return the scope, to be closed by the same thread
+     */
+    public static QueryStats start() {
+        QueryStats stats = new QueryStats(CURRENT.get());
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * Returns the innermost open scope of the current thread.
+     *
+     * @return the scope, or {@code null} if the thread is not counted
+     */
+    static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Stops counting, making the enclosing scope, if any, the current one again.
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            if (Objects.isNull(parent)) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(parent);
+            }
+        }
+    }
+
+    /**
+     * Records an executed statement in this scope and the enclosing ones.
+     *
+     * @param sql     the statement, with its parameters as placeholders
+     * @param elapsed how long the execution took, in nanoseconds
+     */
+    void recordStatement(String sql, long elapsed) {
+        for (QueryStats stats = this; Objects.nonNull(stats); stats = stats.parent) {
+            stats.statements++;
+            stats.nanos += elapsed;
+            stats.executions.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Records rows read or changed in this scope and the enclosing ones.
+     *
+     * @param count the number of rows
+     */
+    void recordRows(long count) {
+        for (QueryStats stats = this; Objects.nonNull(stats); stats = stats.parent) {
+            stats.rows += count;
+        }
+    }
+
+    /**
+     * Returns the number of executed statements.
+     *
+     * @return the number of statements
+     */
+    public int getStatements() {
+        return statements;
+    }
+
+    /**
+     * Returns the number of rows read from result sets or changed by updates.
+     *
+     * @return the number of rows
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns how long the statements took to execute, not counting reading their results.
+     *
+     * @return the execution time
+     */
+    public Duration getTime() {
+        return Duration.ofNanos(nanos);
+    }
+
+    /**
+     * Returns how often each distinct statement was executed, in order of first execution.
+     *
+     * @return the executions by statement
+     */
+    public Map<String, Integer> getExecutions() {
+        return Collections.unmodifiableMap(executions);
+    }
+
+    /**
+     * Returns the statements executed at least the given number of times. The same statement
+     * executed over and over with different parameters usually comes from loading associations
+     * one row at a time, the N+1 pattern.
+     *
+     * @param threshold the number of executions from which a statement is repeated
+     * @return the executions of the repeated statements, in order of first execution
+     */
+    public Map<String, Integer> getRepeatedStatements(int threshold) {
+        return executions.entrySet().stream()
+            .filter(entry -> entry.getValue() >= threshold)
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, Integer::sum,
+                LinkedHashMap::new));
+    }
+}
@@ -0,0 +1,69 @@
+package online.rabko.basketball.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.Objects;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every public method of the JDBC repositories under the name Spring Boot gives to the
+ * timer of Spring Data repository invocations, {@code spring.data.repository.invocations} by
+ * default, with the same {@code repository}, {@code method}, {@code state} and
+ * {@code exception} tags. Together the two cover every repository method in a single metric.
+ *
+ * <p>Spring Data repositories are left to Spring Boot, so their invocations are not counted
+ * twice. Methods returning a reactive {@link org.reactivestreams.Publisher} are not timed, since
+ * they return before the query runs.
+ */
+@Aspect
+@Component
+public class RepositoryMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+    private final String metricName;
+
+    /**
+     * Creates the aspect.
+     *
+     * @param meterRegistry     the registry of the timers
+     * @param metricsProperties the metrics properties naming the timer
+     */
+    public RepositoryMetricsAspect(MeterRegistry meterRegistry,
+        MetricsProperties metricsProperties) {
+        this.meterRegistry = meterRegistry;
+        this.metricName = metricsProperties.getData().getRepository().getMetricName();
+    }
+
+    /**
+     * Times a repository method.
+     *
+     * @param joinPoint the invoked method
+     * @return the value returned by the method
+     * @throws Throwable anything thrown by the method
+     */
+    @Around("@within(org.springframework.stereotype.Repository) && execution(public * *(..))"
+        + " && !target(org.springframework.data.repository.Repository)"
+        + " && !execution(org.reactivestreams.Publisher+ *(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Throwable failure = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer(metricName, Tags.of(
+                "repository", joinPoint.getSignature().getDeclaringType().getSimpleName(),
+                "method", joinPoint.getSignature().getName(),
+                "state", Objects.isNull(failure) ? "SUCCESS" : "ERROR",
+                "exception", Objects.isNull(failure) ? "None"
+                    : failure.getClass().getSimpleName())));
+        }
+    }
+}
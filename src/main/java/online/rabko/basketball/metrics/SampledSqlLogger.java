@@ -0,0 +1,42 @@
+package online.rabko.basketball.metrics;
+
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Logs a random sample of the statements Hibernate prepares, in place of echoing every one of
+ * them. Deciding costs a random number per statement; only sampled statements are formatted.
+ */
+@Slf4j
+public class SampledSqlLogger implements StatementInspector {
+
+    private final double sampleRate;
+
+    /**
+     * Creates the logger.
+     *
+     * @param sampleRate the fraction of statements to log, from {@code 0} for none to {@code 1}
+     *                   for all
+     */
+    public SampledSqlLogger(double sampleRate) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("The SQL sample rate must be between 0 and 1");
+        }
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * Logs the statement if it is sampled.
+     *
+     * @param sql the statement
+     * @return the statement, unchanged
+     */
+    @Override
+    public String inspect(String sql) {
+        if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            log.info("Sampled statement: {}", sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,67 @@
+package online.rabko.basketball.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Password encoder recording how long every hash takes, as {@value #TIMER} tagged with the
+ * {@code operation}: {@code encode} when a password is stored, {@code matches} when one is
+ * checked at sign-in. With BCrypt these are by far the most expensive operations of a request.
+ */
+@RequiredArgsConstructor
+public class TimedPasswordEncoder implements PasswordEncoder {
+
+    /**
+     * Name of the timer recording the operations of the encoder.
+     */
+    public static final String TIMER = "security.password.encoder";
+
+    private final PasswordEncoder delegate;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Encodes a password with the delegate.
+     *
+     * @param rawPassword the password to encode
+     * @return the encoded password
+     */
+    @Override
+    public String encode(CharSequence rawPassword) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return delegate.encode(rawPassword);
+        } finally {
+            sample.stop(meterRegistry.timer(TIMER, "operation", "encode"));
+        }
+    }
+
+    /**
+     * Checks a password against an encoded one with the delegate.
+     *
+     * @param rawPassword     the password to check
+     * @param encodedPassword the stored encoded password
+     * @return {@code true} if the password matches
+     */
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return delegate.matches(rawPassword, encodedPassword);
+        } finally {
+            sample.stop(meterRegistry.timer(TIMER, "operation", "matches"));
+        }
+    }
+
+    /**
+     * Asks the delegate whether an encoded password should be encoded again.
+     *
+     * @param encodedPassword the stored encoded password
+     * @return {@code true} if the password should be encoded again
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -0,0 +1,46 @@
+package online.rabko.basketball.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Rate a client is allowed: bursts of up to {@code capacity} requests, refilled evenly so that
+ * {@code capacity} requests are allowed again after {@code period}.
+ *
+ * @param capacity the number of requests a full bucket allows in a burst
+ * @param period   the time it takes to refill an empty bucket
+ */
+public record RateLimit(long capacity, Duration period) {
+
+    /**
+     * Validates the limit.
+     *
+     * @throws IllegalArgumentException if the capacity is not positive or the period is shorter
+     *                                  than one nanosecond per request
+     */
+    public RateLimit {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity of a rate limit must be positive");
+        }
+        if (period.toNanos() < capacity) {
+            throw new IllegalArgumentException("The period of a rate limit is too short");
+        }
+    }
+
+    /**
+     * Returns the time it takes to refill one request.
+     *
+     * @return the refill interval, in nanoseconds
+     */
+    public long nanosPerRequest() {
+        return period.toNanos() / capacity;
+    }
+
+    /**
+     * Returns the time it takes to refill a whole bucket, rounded down to whole requests.
+     *
+     * @return the burst tolerance, in nanoseconds
+     */
+    public long burstNanos() {
+        return nanosPerRequest() * capacity;
+    }
+}
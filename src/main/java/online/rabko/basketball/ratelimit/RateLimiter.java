@@ -0,0 +1,108 @@
+package online.rabko.basketball.ratelimit;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Token buckets of every client, in a map bounded to a maximum number of buckets.
+ *
+ * <p>Buckets are spread over stripes by key, each bounded to its share of the maximum, so that
+ * a stripe reaching its bound is cleaned up on its own while requests of the other stripes go
+ * on. Buckets that are full again are dropped, on a schedule and whenever a stripe is at its
+ * bound, which loses nothing. Should a stripe still be at its bound, some of its buckets are
+ * dropped anyway: the bound wins over accuracy, and the clients concerned start over with a full
+ * bucket.
+ */
+public class RateLimiter {
+
+    private final List<Map<String, TokenBucket>> stripes;
+    private final int bucketsPerStripe;
+    private final LongSupplier nanoClock;
+
+    /**
+     * Creates a rate limiter timed by {@link System#nanoTime()}.
+     *
+     * @param maxBuckets  the maximum number of buckets kept
+     * @param stripeCount the number of stripes the buckets are spread over
+     */
+    public RateLimiter(int maxBuckets, int stripeCount) {
+        this(maxBuckets, stripeCount, System::nanoTime);
+    }
+
+    /**
+     * Creates a rate limiter.
+     *
+     * @param maxBuckets  the maximum number of buckets kept
+     * @param stripeCount the number of stripes the buckets are spread over
+     * @param nanoClock   the source of the current time, in nanoseconds
+     * @throws IllegalArgumentException if there are fewer buckets than stripes, or no stripe
+     */
+    public RateLimiter(int maxBuckets, int stripeCount, LongSupplier nanoClock) {
+        if (stripeCount < 1 || maxBuckets < stripeCount) {
+            throw new IllegalArgumentException(
+                "A rate limiter needs at least one stripe and one bucket per stripe");
+        }
+        this.stripes = new ArrayList<>(stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            stripes.add(new ConcurrentHashMap<>());
+        }
+        this.bucketsPerStripe = maxBuckets / stripeCount;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Takes a token from the bucket of the given key, creating a full bucket for a new key.
+     *
+     * @param key   the client and the policy it is limited by
+     * @param limit the rate the bucket refills at
+     * @return {@code 0} if the request is allowed, otherwise how long until it would be, in
+     *     nanoseconds
+     */
+    public long tryAcquire(String key, RateLimit limit) {
+        final long now = nanoClock.getAsLong();
+        Map<String, TokenBucket> stripe = stripes.get(Math.floorMod(key.hashCode(),
+            stripes.size()));
+        TokenBucket bucket = stripe.get(key);
+        if (Objects.isNull(bucket)) {
+            if (stripe.size() >= bucketsPerStripe) {
+                evict(stripe, now);
+            }
+            bucket = stripe.computeIfAbsent(key, ignored -> new TokenBucket(now));
+        }
+        return bucket.tryConsume(limit, now);
+    }
+
+    /**
+     * Drops the buckets that are full again, keeping the map proportional to the number of
+     * recently limited clients.
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.purge-interval:PT1M}")
+    public void evictIdle() {
+        long now = nanoClock.getAsLong();
+        stripes.forEach(stripe -> stripe.values().removeIf(bucket -> bucket.isFull(now)));
+    }
+
+    /**
+     * Returns the number of buckets kept.
+     *
+     * @return the number of buckets
+     */
+    public int size() {
+        return stripes.stream().mapToInt(Map::size).sum();
+    }
+
+    private void evict(Map<String, TokenBucket> stripe, long now) {
+        stripe.values().removeIf(bucket -> bucket.isFull(now));
+        Iterator<String> keys = stripe.keySet().iterator();
+        while (stripe.size() >= bucketsPerStripe && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+}
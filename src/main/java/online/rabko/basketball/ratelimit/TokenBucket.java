@@ -0,0 +1,59 @@
+package online.rabko.basketball.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket kept in a single {@link AtomicLong}: the instant at which the bucket will be full
+ * again. Taking a token pushes that instant one refill interval further, and is refused when it
+ * would then lie more than a whole bucket ahead of now. This is the virtual scheduling form of
+ * the token bucket (GCRA): no refill task, no lock and no allocation per request, only a
+ * compare-and-set that is retried when another thread took a token in between.
+ */
+public final class TokenBucket {
+
+    private final AtomicLong fullAt;
+
+    /**
+     * Creates a full bucket.
+     *
+     * @param now the current time, in nanoseconds
+     */
+    public TokenBucket(long now) {
+        this.fullAt = new AtomicLong(now);
+    }
+
+    /**
+     * Takes a token if one is available.
+     *
+     * @param limit the rate the bucket refills at
+     * @param now   the current time, in nanoseconds
+     * @return {@code 0} if a token was taken, otherwise how long until one is available, in
+     *     nanoseconds
+     */
+    public long tryConsume(RateLimit limit, long now) {
+        long nanosPerRequest = limit.nanosPerRequest();
+        long burstNanos = limit.burstNanos();
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + nanosPerRequest;
+            long wait = next - now - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Returns whether the bucket is full, in which case dropping it loses nothing: a new bucket
+     * would behave the same.
+     *
+     * @param now the current time, in nanoseconds
+     * @return {@code true} if every token is available
+     */
+    public boolean isFull(long now) {
+        return fullAt.get() <= now;
+    }
+}
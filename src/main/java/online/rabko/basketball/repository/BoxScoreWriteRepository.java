@@ -0,0 +1,155 @@
+package online.rabko.basketball.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import online.rabko.basketball.dto.BoxScoreKey;
+import online.rabko.basketball.dto.BoxScoreWrite;
+import online.rabko.model.PlayerStatsStats;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Records box scores with upserts, so concurrent writes of the same player's box score in a match
+ * replace each other instead of failing on the unique key. Queued box scores are recorded in bulk:
+ * a batch of any size is written with a single multi-row upsert whose rows are passed as arrays,
+ * so the statement text, and with it the cached plan, is the same for every batch.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BoxScoreWriteRepository {
+
+    private static final String REPLACE = """
+        ON CONFLICT (match_id, player_id, season_id) DO UPDATE
+        SET team_id = excluded.team_id, stats = excluded.stats
+        """;
+
+    private static final String UPSERT = """
+        INSERT INTO match_participants (match_id, season_id, player_id, team_id, stats)
+        SELECT * FROM unnest(:matchIds, :seasonIds, :playerIds, :teamIds,
+                             CAST(:stats AS jsonb[]))
+        """ + REPLACE + """
+        RETURNING id, match_id, player_id
+        """;
+
+    private static final String UPSERT_ONE = """
+        INSERT INTO match_participants (match_id, season_id, player_id, team_id, stats)
+        VALUES (:matchId, :seasonId, :playerId, :teamId, CAST(:stats AS jsonb))
+        """ + REPLACE + """
+        RETURNING id
+        """;
+
+    private static final String FIND_CHECKPOINT = """
+        SELECT COALESCE(MAX(sequence), 0) FROM stats_write_checkpoints
+        WHERE log_id = :logId AND partition = :partition
+        """;
+
+    private static final String SAVE_CHECKPOINT = """
+        INSERT INTO stats_write_checkpoints (log_id, partition, sequence)
+        VALUES (:logId, :partition, :sequence)
+        ON CONFLICT (log_id, partition) DO UPDATE
+        SET sequence = GREATEST(stats_write_checkpoints.sequence, excluded.sequence)
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Inserts or replaces box scores. The batch must not hold two box scores of the same player
+     * in the same match.
+     *
+     * @param writes the box scores to record
+     * @return the ids of the recorded box scores
+     */
+    public Map<BoxScoreKey, Integer> upsert(List<BoxScoreWrite> writes) {
+        int size = writes.size();
+        int[] matchIds = new int[size];
+        int[] seasonIds = new int[size];
+        int[] playerIds = new int[size];
+        int[] teamIds = new int[size];
+        String[] stats = new String[size];
+        for (int i = 0; i < size; i++) {
+            BoxScoreWrite write = writes.get(i);
+            matchIds[i] = write.matchId();
+            seasonIds[i] = write.seasonId();
+            playerIds[i] = write.playerId();
+            teamIds[i] = write.teamId();
+            stats[i] = toJson(write.stats());
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("matchIds", matchIds)
+            .addValue("seasonIds", seasonIds)
+            .addValue("playerIds", playerIds)
+            .addValue("teamIds", teamIds)
+            .addValue("stats", stats);
+        Map<BoxScoreKey, Integer> ids = new HashMap<>();
+        jdbcTemplate.query(UPSERT, params, rs -> {
+            ids.put(new BoxScoreKey(rs.getInt("match_id"), rs.getInt("player_id")),
+                rs.getInt("id"));
+        });
+        return ids;
+    }
+
+    /**
+     * Inserts or replaces the box score of a player in a match.
+     *
+     * @param matchId  the match id
+     * @param seasonId the id of the season the match belongs to
+     * @param playerId the player id
+     * @param teamId   the id of the team the player played for
+     * @param stats    the statistics to record
+     * @return the id of the recorded box score
+     */
+    public Integer upsert(Integer matchId, Integer seasonId, Integer playerId, Integer teamId,
+        PlayerStatsStats stats) {
+        return jdbcTemplate.queryForObject(UPSERT_ONE, new MapSqlParameterSource()
+            .addValue("matchId", matchId)
+            .addValue("seasonId", seasonId)
+            .addValue("playerId", playerId)
+            .addValue("teamId", teamId)
+            .addValue("stats", toJson(stats)), Integer.class);
+    }
+
+    /**
+     * Returns the sequence number of the last write-ahead log record recorded by a partition.
+     *
+     * @param logId     the id of the log directory
+     * @param partition the partition
+     * @return the sequence number, or zero if the partition has recorded nothing yet
+     */
+    public long findCheckpoint(UUID logId, int partition) {
+        Long sequence = jdbcTemplate.queryForObject(FIND_CHECKPOINT, new MapSqlParameterSource()
+            .addValue("logId", logId)
+            .addValue("partition", partition), Long.class);
+        return Objects.requireNonNull(sequence);
+    }
+
+    /**
+     * Remembers that a partition has recorded every write-ahead log record up to a sequence
+     * number. The checkpoint never moves backwards.
+     *
+     * @param logId     the id of the log directory
+     * @param partition the partition
+     * @param sequence  the sequence number of the last recorded record
+     */
+    public void saveCheckpoint(UUID logId, int partition, long sequence) {
+        jdbcTemplate.update(SAVE_CHECKPOINT, new MapSqlParameterSource()
+            .addValue("logId", logId)
+            .addValue("partition", partition)
+            .addValue("sequence", sequence));
+    }
+
+    private String toJson(Object stats) {
+        try {
+            return objectMapper.writeValueAsString(stats);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Box score stats cannot be serialized", e);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package online.rabko.basketball.repository;
+
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import online.rabko.basketball.dto.ChangeCursor;
+import online.rabko.basketball.dto.ChangeEntry;
+import online.rabko.model.Change;
+import online.rabko.model.Change.OperationEnum;
+import online.rabko.model.Change.ResourceEnum;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Outbox of the change feed. Writes record their changes here in their own transaction; only the
+ * latest change of each resource is kept, so recording a change moves the resource to the end of
+ * the feed instead of appending another row. Changes are only read once every transaction that
+ * started before them has finished, which keeps the order of the feed stable for readers.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChangeRepository {
+
+    private static final String UPSERT = """
+        ON CONFLICT (resource, resource_id) DO UPDATE
+        SET operation = excluded.operation, txid = excluded.txid, position = excluded.position
+        """;
+
+    private static final String RECORD = """
+        INSERT INTO changes (resource, resource_id, operation)
+        VALUES (:resource, :id, :operation)
+        """ + UPSERT;
+
+    private static final String RECORD_ALL_OF = """
+        INSERT INTO changes (resource, resource_id, operation)
+        SELECT :resource, unnest(:ids), :operation
+        """ + UPSERT;
+
+    private static final String RECORD_MATCH_BOX_SCORES = """
+        INSERT INTO changes (resource, resource_id, operation)
+        SELECT 'box_score', id, :operation
+        FROM match_participants
+        WHERE season_id = :seasonId AND match_id = :matchId
+        """ + UPSERT;
+
+    private static final String RECORD_SEASON_MATCHES = """
+        INSERT INTO changes (resource, resource_id, operation)
+        SELECT 'match', id, :operation FROM matches WHERE season_id = :seasonId
+        UNION ALL
+        SELECT 'box_score', id, :operation FROM match_participants WHERE season_id = :seasonId
+        """ + UPSERT;
+
+    private static final String DELETE_ALL = """
+        UPDATE changes
+        SET operation = 'delete', txid = DEFAULT, position = DEFAULT
+        WHERE operation <> 'delete'
+        """;
+
+    private static final String UPSERT_ALL = """
+        INSERT INTO changes (resource, resource_id, operation)
+        SELECT 'team', id, 'upsert' FROM teams
+        UNION ALL
+        SELECT 'player', id, 'upsert' FROM players
+        UNION ALL
+        SELECT 'season', id, 'upsert' FROM seasons
+        UNION ALL
+        SELECT 'match', id, 'upsert' FROM matches
+        UNION ALL
+        SELECT 'box_score', id, 'upsert' FROM match_participants
+        """ + UPSERT;
+
+    private static final String FIND_AFTER = """
+        SELECT resource, resource_id, operation, txid, position
+        FROM changes
+        WHERE (txid, position) > (:txid, :position)
+          AND txid < pg_snapshot_xmin(pg_current_snapshot())::TEXT::BIGINT
+        ORDER BY txid, position
+        LIMIT :limit
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Records a change of a single resource.
+     *
+     * @param resource  the type of the resource
+     * @param id        the id of the resource
+     * @param operation the change made
+     */
+    public void record(ResourceEnum resource, Integer id, OperationEnum operation) {
+        jdbcTemplate.update(RECORD, new MapSqlParameterSource()
+            .addValue("resource", resource.getValue())
+            .addValue("id", id)
+            .addValue("operation", operation.getValue()));
+    }
+
+    /**
+     * Records the same change of several resources of one type in a single statement.
+     *
+     * @param resource  the type of the resources
+     * @param ids       the ids of the resources, without duplicates
+     * @param operation the change made
+     */
+    public void record(ResourceEnum resource, Collection<Integer> ids, OperationEnum operation) {
+        jdbcTemplate.update(RECORD_ALL_OF, new MapSqlParameterSource()
+            .addValue("resource", resource.getValue())
+            .addValue("ids", ids.stream().mapToInt(Integer::intValue).toArray())
+            .addValue("operation", operation.getValue()));
+    }
+
+    /**
+     * Records a change of every box score of a match. Deletions must be recorded before the box
+     * scores are removed.
+     *
+     * @param seasonId  the id of the season the match belongs to
+     * @param matchId   the match id
+     * @param operation the change made
+     */
+    public void recordMatchBoxScores(Integer seasonId, Integer matchId, OperationEnum operation) {
+        jdbcTemplate.update(RECORD_MATCH_BOX_SCORES, new MapSqlParameterSource()
+            .addValue("seasonId", seasonId)
+            .addValue("matchId", matchId)
+            .addValue("operation", operation.getValue()));
+    }
+
+    /**
+     * Records a change of every match and box score of a season. Deletions must be recorded
+     * before the rows are removed.
+     *
+     * @param seasonId  the season id
+     * @param operation the change made
+     */
+    public void recordSeasonMatches(Integer seasonId, OperationEnum operation) {
+        jdbcTemplate.update(RECORD_SEASON_MATCHES, new MapSqlParameterSource()
+            .addValue("seasonId", seasonId)
+            .addValue("operation", operation.getValue()));
+    }
+
+    /**
+     * Records every resource as changed after the whole league has been replaced: resources
+     * that no longer exist as deleted and all others as upserted.
+     */
+    public void recordAll() {
+        jdbcTemplate.getJdbcTemplate().update(DELETE_ALL);
+        jdbcTemplate.getJdbcTemplate().update(UPSERT_ALL);
+    }
+
+    /**
+     * Returns the changes following a cursor, in feed order. Changes of transactions that may
+     * still be followed by an earlier change are left out until those transactions finish.
+     *
+     * @param cursor the cursor to read after
+     * @param limit  the maximum number of changes to return
+     * @return the changes with their cursors
+     */
+    public List<ChangeEntry> findAfter(ChangeCursor cursor, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("txid", cursor.txid())
+            .addValue("position", cursor.position())
+            .addValue("limit", limit);
+        return jdbcTemplate.query(FIND_AFTER, params, (rs, rowNum) -> new ChangeEntry(
+            new ChangeCursor(rs.getLong("txid"), rs.getLong("position")),
+            new Change(ResourceEnum.fromValue(rs.getString("resource")),
+                rs.getInt("resource_id"),
+                OperationEnum.fromValue(rs.getString("operation")))));
+    }
+}
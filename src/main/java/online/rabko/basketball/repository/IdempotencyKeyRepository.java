@@ -0,0 +1,135 @@
+package online.rabko.basketball.repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import online.rabko.basketball.dto.IdempotencyKey;
+import online.rabko.basketball.dto.IdempotentResponse;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Stores responses to requests sent with an idempotency key. A key is claimed with a pending row
+ * before its request is handled and completed with the response afterwards. Each statement runs
+ * on its own, outside of any transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyKeyRepository {
+
+    private static final String FIND = """
+        SELECT fingerprint, status, content_type, body, created_at FROM idempotency_keys
+        WHERE username = :username AND idempotency_key = :key AND created_at >= :createdAfter
+            AND status IS NOT NULL
+        """;
+
+    private static final String CLAIM = """
+        INSERT INTO idempotency_keys (username, idempotency_key, fingerprint, created_at)
+        VALUES (:username, :key, :fingerprint, :claimedAt)
+        ON CONFLICT (username, idempotency_key) DO UPDATE
+            SET fingerprint = EXCLUDED.fingerprint, status = NULL, content_type = NULL,
+                body = NULL, created_at = EXCLUDED.created_at
+            WHERE idempotency_keys.created_at < :expiredBefore
+                OR (idempotency_keys.status IS NULL
+                    AND idempotency_keys.created_at < :abandonedBefore)
+        """;
+
+    private static final String COMPLETE = """
+        UPDATE idempotency_keys
+        SET status = :status, content_type = :contentType, body = :body, created_at = :createdAt
+        WHERE username = :username AND idempotency_key = :key AND status IS NULL
+        """;
+
+    private static final String RELEASE = """
+        DELETE FROM idempotency_keys
+        WHERE username = :username AND idempotency_key = :key AND status IS NULL
+        """;
+
+    private static final String DELETE_CREATED_BEFORE = """
+        DELETE FROM idempotency_keys WHERE created_at < :createdBefore
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Finds the stored response for a key.
+     *
+     * @param key          the idempotency key
+     * @param createdAfter responses stored before this instant are ignored
+     * @return the stored response, if any
+     */
+    public Optional<IdempotentResponse> find(IdempotencyKey key, Instant createdAfter) {
+        List<IdempotentResponse> responses = jdbcTemplate.query(FIND, keyParameters(key)
+                .addValue("createdAfter", Timestamp.from(createdAfter)),
+            (rs, rowNum) -> new IdempotentResponse(rs.getBytes("fingerprint"),
+                rs.getInt("status"), rs.getString("content_type"), rs.getBytes("body"),
+                rs.getTimestamp("created_at").toInstant()));
+        return responses.stream().findFirst();
+    }
+
+    /**
+     * Claims a key for a request about to be handled, by inserting a pending row for it. The
+     * claim is atomic: of concurrent claims of the same key, on any instance, one succeeds. A key
+     * whose response has expired, or whose pending claim was abandoned by an instance that went
+     * away, can be claimed again.
+     *
+     * @param key             the idempotency key
+     * @param fingerprint     the fingerprint of the request
+     * @param claimedAt       the current instant
+     * @param expiredBefore   stored responses older than this instant are no longer replayed
+     * @param abandonedBefore pending claims older than this instant are considered abandoned
+     * @return whether the key was claimed
+     */
+    public boolean claim(IdempotencyKey key, byte[] fingerprint, Instant claimedAt,
+        Instant expiredBefore, Instant abandonedBefore) {
+        return jdbcTemplate.update(CLAIM, keyParameters(key)
+            .addValue("fingerprint", fingerprint)
+            .addValue("claimedAt", Timestamp.from(claimedAt))
+            .addValue("expiredBefore", Timestamp.from(expiredBefore))
+            .addValue("abandonedBefore", Timestamp.from(abandonedBefore))) > 0;
+    }
+
+    /**
+     * Stores the response in the pending row of a claimed key.
+     *
+     * @param key      the idempotency key
+     * @param response the response
+     * @return whether the response was stored, {@code false} if the key is no longer pending
+     */
+    public boolean complete(IdempotencyKey key, IdempotentResponse response) {
+        return jdbcTemplate.update(COMPLETE, keyParameters(key)
+            .addValue("status", response.status())
+            .addValue("contentType", response.contentType())
+            .addValue("body", response.body())
+            .addValue("createdAt", Timestamp.from(response.createdAt()))) > 0;
+    }
+
+    /**
+     * Deletes the pending row of a claimed key, so that the request can be retried.
+     *
+     * @param key the idempotency key
+     */
+    public void release(IdempotencyKey key) {
+        jdbcTemplate.update(RELEASE, keyParameters(key));
+    }
+
+    /**
+     * Deletes the responses stored before an instant.
+     *
+     * @param createdBefore the instant
+     * @return the number of deleted responses
+     */
+    public int deleteCreatedBefore(Instant createdBefore) {
+        return jdbcTemplate.update(DELETE_CREATED_BEFORE,
+            new MapSqlParameterSource("createdBefore", Timestamp.from(createdBefore)));
+    }
+
+    private static MapSqlParameterSource keyParameters(IdempotencyKey key) {
+        return new MapSqlParameterSource()
+            .addValue("username", key.username())
+            .addValue("key", key.key());
+    }
+}
@@ -0,0 +1,20 @@
+package online.rabko.basketball.repository;
+
+import online.rabko.basketball.entity.MatchParticipantEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for managing {@link MatchParticipantEntity} entities.
+ */
+@Repository
+public interface MatchParticipantRepository extends JpaRepository<MatchParticipantEntity, Integer> {
+
+    /**
+     * Checks if the given player took part in any match.
+     *
+     * @param playerId the player id
+     * @return true if the player has statistics recorded
+     */
+    boolean existsByPlayerId(Integer playerId);
+}
@@ -0,0 +1,120 @@
+package online.rabko.basketball.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import online.rabko.basketball.dto.MatchFilter;
+import online.rabko.basketball.mapper.MatchMapper;
+import online.rabko.model.Match;
+import online.rabko.model.MatchDetail;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Read-only access to matches that maps JDBC rows straight into the API model, bypassing entity
+ * hydration and the persistence context.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MatchReadRepository {
+
+    private static final String COLUMNS = """
+        SELECT id, season_id, date, home_team_id, away_team_id, home_team_score, away_team_score
+        FROM matches
+        """;
+
+    private static final String DETAIL = """
+        SELECT m.id, m.season_id, m.date, m.home_team_id, m.away_team_id,
+               m.home_team_score, m.away_team_score,
+               s.name       AS season_name,
+               s.start_date AS season_start_date,
+               s.end_date   AS season_end_date,
+               home.name    AS home_team_name,
+               away.name    AS away_team_name
+        FROM matches m
+        JOIN seasons s ON s.id = m.season_id
+        JOIN teams home ON home.id = m.home_team_id
+        JOIN teams away ON away.id = m.away_team_id
+        WHERE m.id = :id
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Returns the matches matching the filter. The season filter is served by
+     * {@code matches_season_id_date_idx}, the team filter by combining
+     * {@code matches_home_team_id_date_idx} and {@code matches_away_team_id_date_idx}, and a date
+     * range alone by {@code matches_date_idx}.
+     *
+     * @param filter the filter and sort criteria
+     * @return the matching matches in the requested order
+     */
+    public List<Match> findAll(MatchFilter filter) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        List<String> conditions = new ArrayList<>();
+        if (Objects.nonNull(filter.seasonId())) {
+            conditions.add("season_id = :seasonId");
+            params.addValue("seasonId", filter.seasonId());
+        }
+        if (Objects.nonNull(filter.teamId())) {
+            conditions.add("(home_team_id = :teamId OR away_team_id = :teamId)");
+            params.addValue("teamId", filter.teamId());
+        }
+        if (Objects.nonNull(filter.dateFrom())) {
+            conditions.add("date >= :dateFrom");
+            params.addValue("dateFrom", filter.dateFrom());
+        }
+        if (Objects.nonNull(filter.dateTo())) {
+            conditions.add("date <= :dateTo");
+            params.addValue("dateTo", filter.dateTo());
+        }
+        String sql = COLUMNS + SqlClauses.where(conditions)
+            + SqlClauses.orderBy(filter.sort().getColumns(), filter.order());
+        return jdbcTemplate.query(sql, params, MatchMapper::fromRow);
+    }
+
+    /**
+     * Loads a match together with its season and both teams in a single query. The roster and
+     * box score of the returned detail are left empty.
+     *
+     * @param id the match id
+     * @return an Optional containing the match detail if found, or empty otherwise
+     */
+    public Optional<MatchDetail> findDetail(Integer id) {
+        return jdbcTemplate.query(DETAIL, new MapSqlParameterSource("id", id),
+                MatchMapper::detailFromRow)
+            .stream()
+            .findFirst();
+    }
+
+    /**
+     * Returns the matches with the highest combined score.
+     *
+     * @param seasonId the season to restrict the search to, or {@code null} for all seasons
+     * @param limit    the maximum number of matches to return
+     * @return the matches ordered by combined score, highest first
+     */
+    public List<Match> findHighestScoring(Integer seasonId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("limit", limit);
+        if (Objects.nonNull(seasonId)) {
+            params.addValue("seasonId", seasonId);
+        }
+        return jdbcTemplate.query(highestScoringSql(seasonId), params, MatchMapper::fromRow);
+    }
+
+    /**
+     * Builds the query of the matches with the highest combined score, with the named parameter
+     * {@code seasonId} when it is given, and {@code limit}.
+     *
+     * @param seasonId the season to restrict the search to, or {@code null} for all seasons
+     * @return the query
+     */
+    static String highestScoringSql(Integer seasonId) {
+        String filter = Objects.isNull(seasonId) ? "" : "WHERE season_id = :seasonId\n";
+        return COLUMNS + filter
+            + "ORDER BY home_team_score + away_team_score DESC, id\nLIMIT :limit";
+    }
+}
@@ -0,0 +1,29 @@
+package online.rabko.basketball.repository;
+
+import online.rabko.basketball.entity.MatchEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for managing {@link MatchEntity} entities.
+ */
+@Repository
+public interface MatchRepository extends JpaRepository<MatchEntity, Integer> {
+
+    /**
+     * Checks if any match was played in the given season.
+     *
+     * @param seasonId the season id
+     * @return true if the season has matches
+     */
+    boolean existsBySeasonId(Integer seasonId);
+
+    /**
+     * Checks if the given team played any match, home or away.
+     *
+     * @param homeTeamId the team id to match against the home team
+     * @param awayTeamId the team id to match against the away team
+     * @return true if the team has matches
+     */
+    boolean existsByHomeTeamIdOrAwayTeamId(Integer homeTeamId, Integer awayTeamId);
+}
@@ -0,0 +1,24 @@
+package online.rabko.basketball.repository;
+
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+
+/**
+ * Repository for entities with a simple {@link org.hibernate.annotations.NaturalId}. Lookups by
+ * natural id go through the natural-id cache instead of issuing a query.
+ *
+ * @param <T>  the entity type
+ * @param <I>  the primary key type
+ */
+@NoRepositoryBean
+public interface NaturalIdRepository<T, I> extends JpaRepository<T, I> {
+
+    /**
+     * Finds an entity by its natural id.
+     *
+     * @param naturalId the natural id value
+     * @return an Optional containing the entity if found, or empty otherwise
+     */
+    Optional<T> findBySimpleNaturalId(Object naturalId);
+}
@@ -0,0 +1,41 @@
+package online.rabko.basketball.repository;
+
+import jakarta.persistence.EntityManager;
+import java.util.Optional;
+import org.hibernate.Session;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+
+/**
+ * Repository base class adding natural-id lookups on top of {@link SimpleJpaRepository}.
+ *
+ * @param <T> the entity type
+ * @param <I> the primary key type
+ */
+public class NaturalIdRepositoryImpl<T, I> extends SimpleJpaRepository<T, I>
+    implements NaturalIdRepository<T, I> {
+
+    private final EntityManager entityManager;
+
+    /**
+     * Creates a repository for the given entity.
+     *
+     * @param entityInformation the entity metadata
+     * @param entityManager     the entity manager
+     */
+    public NaturalIdRepositoryImpl(JpaEntityInformation<T, ?> entityInformation,
+        EntityManager entityManager) {
+        super(entityInformation, entityManager);
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<T> findBySimpleNaturalId(Object naturalId) {
+        return entityManager.unwrap(Session.class)
+            .bySimpleNaturalId(getDomainClass())
+            .loadOptional(naturalId);
+    }
+}
@@ -0,0 +1,134 @@
+package online.rabko.basketball.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import online.rabko.basketball.dto.PlayerFilter;
+import online.rabko.basketball.mapper.PlayerMapper;
+import online.rabko.model.Player;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Read-only access to players that maps JDBC rows straight into the API model, bypassing entity
+ * hydration and the persistence context.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PlayerReadRepository {
+
+    private static final String COLUMNS = """
+        SELECT id, team_id, first_name, last_name, position, age, height, weight
+        FROM players
+        """;
+
+    /**
+     * Word similarity a name must reach to match a search. Lower than the {@code pg_trgm} default
+     * of 0.6 so that queries with a typo in a short name still match.
+     */
+    private static final String SIMILARITY_THRESHOLD = "0.4";
+
+    private static final String SET_THRESHOLD =
+        "SELECT set_config('pg_trgm.word_similarity_threshold', :threshold, true)";
+
+    private static final String SEARCH = """
+        SELECT p.id, p.team_id, p.first_name, p.last_name, p.position, p.age, p.height, p.weight
+        FROM (
+            SELECT id, MAX(score) AS score
+            FROM (
+                SELECT id, word_similarity(:query, lower(first_name || ' ' || last_name)) AS score
+                FROM players
+                WHERE :query <% lower(first_name || ' ' || last_name)
+                UNION ALL
+                SELECT p.id, word_similarity(:query, lower(t.name))
+                FROM teams t
+                JOIN players p ON p.team_id = t.id
+                WHERE :query <% lower(t.name)
+            ) matches
+            GROUP BY id
+        ) best
+        JOIN players p ON p.id = best.id
+        ORDER BY best.score DESC, p.id
+        LIMIT :limit
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Returns all players.
+     *
+     * @return all players ordered by id
+     */
+    public List<Player> findAll() {
+        return jdbcTemplate.query(COLUMNS + "ORDER BY id", PlayerMapper::fromRow);
+    }
+
+    /**
+     * Returns the players matching the filter. Each filter is an equality condition served by the
+     * {@code players_team_id_position_idx} and {@code players_position_idx} indexes.
+     *
+     * @param filter the filter and sort criteria
+     * @return the matching players in the requested order
+     */
+    public List<Player> findAll(PlayerFilter filter) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        List<String> conditions = new ArrayList<>();
+        if (Objects.nonNull(filter.teamId())) {
+            conditions.add("team_id = :teamId");
+            params.addValue("teamId", filter.teamId());
+        }
+        if (Objects.nonNull(filter.position())) {
+            conditions.add("position = :position");
+            params.addValue("position", filter.position());
+        }
+        String sql = COLUMNS + SqlClauses.where(conditions)
+            + SqlClauses.orderBy(filter.sort().getColumns(), filter.order());
+        return jdbcTemplate.query(sql, params, PlayerMapper::fromRow);
+    }
+
+    /**
+     * Returns the players with the given ids. Ids without a player are skipped.
+     *
+     * @param ids the player ids
+     * @return the matching players ordered by id
+     */
+    public List<Player> findByIds(Collection<Integer> ids) {
+        return jdbcTemplate.query(COLUMNS + "WHERE id IN (:ids) ORDER BY id",
+            new MapSqlParameterSource("ids", ids), PlayerMapper::fromRow);
+    }
+
+    /**
+     * Returns the players who have statistics recorded for a match.
+     *
+     * @param matchId the match id
+     * @return the participating players ordered by id
+     */
+    public List<Player> findByMatchId(Integer matchId) {
+        return jdbcTemplate.query(COLUMNS + """
+                WHERE id IN (SELECT player_id FROM match_participants WHERE match_id = :matchId)
+                ORDER BY id
+                """, new MapSqlParameterSource("matchId", matchId), PlayerMapper::fromRow);
+    }
+
+    /**
+     * Finds players whose full name or team name is similar to the query, using the trigram
+     * indexes on {@code lower(first_name || ' ' || last_name)} and {@code lower(teams.name)}.
+     * Similarity is measured against the best matching part of the name, so partial words and
+     * small typos still match. The similarity threshold is set for the current transaction only,
+     * so this must be called inside one.
+     *
+     * @param query the lower-cased search text
+     * @param limit the maximum number of players to return
+     * @return the matching players, most similar first
+     */
+    public List<Player> search(String query, int limit) {
+        jdbcTemplate.queryForObject(SET_THRESHOLD,
+            new MapSqlParameterSource("threshold", SIMILARITY_THRESHOLD), String.class);
+        MapSqlParameterSource params = new MapSqlParameterSource("query", query)
+            .addValue("limit", limit);
+        return jdbcTemplate.query(SEARCH, params, PlayerMapper::fromRow);
+    }
+}
@@ -0,0 +1,20 @@
+package online.rabko.basketball.repository;
+
+import online.rabko.basketball.entity.PlayerEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for managing {@link PlayerEntity} entities.
+ */
+@Repository
+public interface PlayerRepository extends JpaRepository<PlayerEntity, Integer> {
+
+    /**
+     * Checks if any player belongs to the given team.
+     *
+     * @param teamId the team id
+     * @return true if the team has players
+     */
+    boolean existsByTeamId(Integer teamId);
+}
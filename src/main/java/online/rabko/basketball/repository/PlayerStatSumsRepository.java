@@ -0,0 +1,294 @@
+package online.rabko.basketball.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import online.rabko.basketball.mapper.MatchMapper;
+import online.rabko.model.PlayerStatsSummary;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Maintains and reads the {@code player_stat_sums} table, which holds the running totals of
+ * every box score statistic per player, one row per game in date order. The totals of a run of
+ * consecutive games are the difference of the rows at both ends of the run, so the totals of the
+ * last games, a season or a whole career are read from two rows instead of aggregating every box
+ * score.
+ *
+ * <p>Totals as of a past date are read the same way from the rows of the games played by then.
+ *
+ * <p>When box scores change, the rows of the affected players from the earliest changed match
+ * date on are computed again, starting from the last row before that date. Recording the box
+ * score of a player's latest game thus writes a single row. Refreshes of the same player are
+ * serialized by a transaction-level advisory lock per player, taken in player id order so that
+ * refreshes of overlapping players cannot deadlock; otherwise two transactions could both number
+ * their rows from the same last row.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PlayerStatSumsRepository {
+
+    private static final List<String> STATS = List.of("points", "assists", "rebounds", "steals",
+        "blocks", "minutes_played", "field_goals_made", "field_goals_attempted",
+        "three_points_made", "three_points_attempted", "free_throws_made",
+        "free_throws_attempted", "turnovers", "fouls");
+
+    private static final String FIND_DATES = """
+        SELECT mp.player_id, MIN(m.date) AS date
+        FROM match_participants mp
+        JOIN matches m ON m.id = mp.match_id AND m.season_id = mp.season_id
+        WHERE %s
+        GROUP BY mp.player_id
+        """;
+
+    private static final String CHANGED = """
+        WITH changed AS (
+            SELECT * FROM unnest(:playerIds, CAST(:dates AS date[])) AS c (player_id, date)
+        )
+        """;
+
+    private static final String LOCK = """
+        SELECT pg_advisory_xact_lock(hashtext('player_stat_sums'), l.player_id)
+        FROM (SELECT player_id FROM unnest(:playerIds) AS p (player_id) ORDER BY player_id) l
+        """;
+
+    private static final String DELETE = CHANGED + """
+        DELETE FROM player_stat_sums s USING changed c
+        WHERE s.player_id = c.player_id AND s.match_date >= c.date
+        """;
+
+    private static final String INSERT = CHANGED + """
+        INSERT INTO player_stat_sums (player_id, game_number, match_id, season_id, match_date, %s)
+        SELECT mp.player_id, COALESCE(b.game_number, 0) + ROW_NUMBER() OVER w, mp.match_id,
+               mp.season_id, m.date, %s
+        FROM changed c
+        JOIN match_participants mp ON mp.player_id = c.player_id
+        JOIN matches m ON m.id = mp.match_id AND m.season_id = mp.season_id AND m.date >= c.date
+        LEFT JOIN LATERAL (
+            SELECT * FROM player_stat_sums s
+            WHERE s.player_id = mp.player_id
+            ORDER BY s.game_number DESC
+            LIMIT 1
+        ) b ON TRUE
+        WINDOW w AS (PARTITION BY mp.player_id ORDER BY m.date, m.id ROWS UNBOUNDED PRECEDING)
+        """;
+
+    private static final String INSERT_ALL = """
+        INSERT INTO player_stat_sums (player_id, game_number, match_id, season_id, match_date, %s)
+        SELECT mp.player_id, ROW_NUMBER() OVER w, mp.match_id, mp.season_id, m.date, %s
+        FROM match_participants mp
+        JOIN matches m ON m.id = mp.match_id AND m.season_id = mp.season_id
+        WINDOW w AS (PARTITION BY mp.player_id ORDER BY m.date, m.id ROWS UNBOUNDED PRECEDING)
+        """;
+
+    private static final String TRUNCATE = "TRUNCATE player_stat_sums";
+
+    private static final String LAST_GAMES = """
+        SELECT GREATEST(MAX(game_number) - :games + 1, 1) AS first_game,
+               MAX(game_number) AS last_game
+        FROM player_stat_sums
+        WHERE player_id = :playerId %1$s
+        """;
+
+    private static final String CAREER_GAMES = """
+        SELECT 1 AS first_game, MAX(game_number) AS last_game
+        FROM player_stat_sums
+        WHERE player_id = :playerId %1$s
+        """;
+
+    private static final String SEASON_GAMES = """
+        SELECT MIN(game_number) AS first_game, MAX(game_number) AS last_game
+        FROM (
+            SELECT game_number, game_number - ROW_NUMBER() OVER (ORDER BY game_number) AS run
+            FROM player_stat_sums
+            WHERE player_id = :playerId AND season_id = :seasonId %1$s
+        ) g
+        GROUP BY run
+        """;
+
+    private static final String TOTALS = """
+        WITH runs AS (%s)
+        SELECT COALESCE(SUM(l.game_number - COALESCE(f.game_number, 0)), 0) AS games, %s
+        FROM runs r
+        JOIN player_stat_sums l ON l.player_id = :playerId AND l.game_number = r.last_game
+        LEFT JOIN player_stat_sums f
+            ON f.player_id = :playerId AND f.game_number = r.first_game - 1
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Returns the players with box scores in a match, each with the match date.
+     *
+     * @param matchId the match id
+     * @return the match date per player
+     */
+    public Map<Integer, LocalDate> findDatesByMatch(Integer matchId) {
+        return findDates("mp.match_id = :matchId", new MapSqlParameterSource("matchId", matchId));
+    }
+
+    /**
+     * Returns the players with the given box scores, each with the earliest date of their
+     * matches.
+     *
+     * @param boxScoreIds the box score ids
+     * @return the earliest match date per player
+     */
+    public Map<Integer, LocalDate> findDatesByBoxScores(Collection<Integer> boxScoreIds) {
+        return findDates("mp.id = ANY(:ids)", new MapSqlParameterSource("ids",
+            boxScoreIds.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    /**
+     * Returns the players with box scores in a season, each with the date of their first match
+     * in the season.
+     *
+     * @param seasonId the season id
+     * @return the earliest match date per player
+     */
+    public Map<Integer, LocalDate> findDatesBySeason(Integer seasonId) {
+        return findDates("mp.season_id = :seasonId",
+            new MapSqlParameterSource("seasonId", seasonId));
+    }
+
+    /**
+     * Computes the running totals of players again from a date on, after their box scores or
+     * matches on or after that date have changed. Must run in a transaction, which holds the
+     * locks of the players until it ends.
+     *
+     * @param dates the earliest changed match date per player
+     */
+    public void refresh(Map<Integer, LocalDate> dates) {
+        if (dates.isEmpty()) {
+            return;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("playerIds", dates.keySet().stream().mapToInt(Integer::intValue).toArray())
+            .addValue("dates", dates.values().stream().map(LocalDate::toString)
+                .toArray(String[]::new));
+        jdbcTemplate.query(LOCK, params, rs -> {
+        });
+        jdbcTemplate.update(DELETE, params);
+        jdbcTemplate.update(INSERT.formatted(columns(Function.identity()),
+            columns(stat -> "COALESCE(b." + stat + ", 0) + " + sum(stat))), params);
+    }
+
+    /**
+     * Computes the running totals of all players again from scratch.
+     */
+    public void refreshAll() {
+        jdbcTemplate.getJdbcTemplate().execute(TRUNCATE);
+        jdbcTemplate.getJdbcTemplate().execute(INSERT_ALL.formatted(
+            columns(Function.identity()), columns(PlayerStatSumsRepository::sum)));
+    }
+
+    /**
+     * Returns the totals of a player's most recent games.
+     *
+     * @param playerId the player id
+     * @param games    the number of games; fewer are covered if the player played fewer
+     * @param asOf     the last match date to include, or {@code null} for all games
+     * @return the totals and averages
+     */
+    public PlayerStatsSummary findLastGames(Integer playerId, int games, LocalDate asOf) {
+        return findTotals(LAST_GAMES, new MapSqlParameterSource()
+            .addValue("playerId", playerId)
+            .addValue("games", games), playerId, null, asOf);
+    }
+
+    /**
+     * Returns the totals of all of a player's games.
+     *
+     * @param playerId the player id
+     * @param asOf     the last match date to include, or {@code null} for all games
+     * @return the totals and averages
+     */
+    public PlayerStatsSummary findCareer(Integer playerId, LocalDate asOf) {
+        return findTotals(CAREER_GAMES, new MapSqlParameterSource("playerId", playerId),
+            playerId, null, asOf);
+    }
+
+    /**
+     * Returns the totals of a player's games in a season.
+     *
+     * @param playerId the player id
+     * @param seasonId the season id
+     * @param asOf     the last match date to include, or {@code null} for all games
+     * @return the totals and averages
+     */
+    public PlayerStatsSummary findSeason(Integer playerId, Integer seasonId, LocalDate asOf) {
+        return findTotals(SEASON_GAMES, new MapSqlParameterSource()
+            .addValue("playerId", playerId)
+            .addValue("seasonId", seasonId), playerId, seasonId, asOf);
+    }
+
+    /**
+     * Builds the query of the totals of a player's most recent games, with the parameters
+     * {@code :playerId}, {@code :games} and, with a date, {@code :asOf}.
+     *
+     * @param asOf the last match date to include, or {@code null} for all games
+     * @return the query
+     */
+    static String lastGamesSql(LocalDate asOf) {
+        return totalsSql(LAST_GAMES, asOf);
+    }
+
+    /**
+     * Builds the query of the totals of all of a player's games, with the parameters
+     * {@code :playerId} and, with a date, {@code :asOf}.
+     *
+     * @param asOf the last match date to include, or {@code null} for all games
+     * @return the query
+     */
+    static String careerSql(LocalDate asOf) {
+        return totalsSql(CAREER_GAMES, asOf);
+    }
+
+    /**
+     * Builds the query of the totals of a player's games in a season, with the parameters
+     * {@code :playerId}, {@code :seasonId} and, with a date, {@code :asOf}.
+     *
+     * @param asOf the last match date to include, or {@code null} for all games
+     * @return the query
+     */
+    static String seasonSql(LocalDate asOf) {
+        return totalsSql(SEASON_GAMES, asOf);
+    }
+
+    private PlayerStatsSummary findTotals(String runs, MapSqlParameterSource params,
+        Integer playerId, Integer seasonId, LocalDate asOf) {
+        params.addValue("asOf", asOf);
+        return jdbcTemplate.queryForObject(totalsSql(runs, asOf), params,
+            (rs, rowNum) -> MatchMapper.summaryFromRow(rs, playerId, seasonId));
+    }
+
+    private static String totalsSql(String runs, LocalDate asOf) {
+        String filter = Objects.isNull(asOf) ? "" : "AND match_date <= :asOf";
+        return TOTALS.formatted(runs.formatted(filter),
+            columns(stat -> "COALESCE(SUM(l." + stat + " - COALESCE(f." + stat + ", 0)), 0) AS "
+                + stat));
+    }
+
+    private Map<Integer, LocalDate> findDates(String condition, MapSqlParameterSource params) {
+        Map<Integer, LocalDate> dates = new HashMap<>();
+        jdbcTemplate.query(FIND_DATES.formatted(condition), params, rs -> {
+            dates.put(rs.getInt("player_id"), rs.getObject("date", LocalDate.class));
+        });
+        return dates;
+    }
+
+    private static String sum(String stat) {
+        return "SUM(COALESCE((mp.stats ->> '" + stat + "')::int, 0)) OVER w";
+    }
+
+    private static String columns(Function<String, String> column) {
+        return STATS.stream().map(column).collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,183 @@
+package online.rabko.basketball.repository;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import online.rabko.basketball.enums.PlayerStatsMetric;
+import online.rabko.basketball.mapper.MatchMapper;
+import online.rabko.basketball.mapper.TeamMapper;
+import online.rabko.model.Match;
+import online.rabko.model.PlayerStats;
+import online.rabko.model.PlayerStatsSummary;
+import online.rabko.model.TeamStats;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link StatsReadRepository}, of the running total reads of
+ * {@link PlayerStatSumsRepository} and of {@link MatchReadRepository#findHighestScoring} over
+ * R2DBC, running the same queries and mapping rows into the same API model. Available when
+ * {@code stats.reactive.enabled} is set.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "stats.reactive", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReactiveStatsReadRepository {
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Finds a box score by its id.
+     *
+     * @param id the statistics record id
+     * @return the statistics, or an empty Mono if there is none
+     */
+    public Mono<PlayerStats> findById(Integer id) {
+        return databaseClient.sql(StatsReadRepository.PLAYER_STATS + "WHERE mp.id = :id")
+            .bind("id", id)
+            .map(MatchMapper::statsFromReadable)
+            .one();
+    }
+
+    /**
+     * Checks whether a player exists.
+     *
+     * @param playerId the player id
+     * @return whether the player exists
+     */
+    public Mono<Boolean> existsPlayer(Integer playerId) {
+        return databaseClient.sql("SELECT EXISTS (SELECT 1 FROM players WHERE id = :id) AS found")
+            .bind("id", playerId)
+            .map(row -> row.get("found", Boolean.class))
+            .one();
+    }
+
+    /**
+     * Returns the totals and per-game averages of a player's most recent games.
+     *
+     * @param playerId the player id
+     * @param games    the number of games to cover
+     * @param asOf     the date to count back from, or {@code null} for the latest game
+     * @return the totals and averages
+     * @see PlayerStatSumsRepository#findLastGames
+     */
+    public Mono<PlayerStatsSummary> findLastGames(Integer playerId, int games, LocalDate asOf) {
+        GenericExecuteSpec spec = databaseClient
+            .sql(PlayerStatSumsRepository.lastGamesSql(asOf))
+            .bind("playerId", playerId)
+            .bind("games", games);
+        return findTotals(spec, playerId, null, asOf);
+    }
+
+    /**
+     * Returns the totals and per-game averages of all of a player's games.
+     *
+     * @param playerId the player id
+     * @param asOf     the last match date to include, or {@code null} for all games
+     * @return the totals and averages
+     * @see PlayerStatSumsRepository#findCareer
+     */
+    public Mono<PlayerStatsSummary> findCareer(Integer playerId, LocalDate asOf) {
+        GenericExecuteSpec spec = databaseClient
+            .sql(PlayerStatSumsRepository.careerSql(asOf))
+            .bind("playerId", playerId);
+        return findTotals(spec, playerId, null, asOf);
+    }
+
+    /**
+     * Returns the totals and per-game averages of a player's games in a season.
+     *
+     * @param playerId the player id
+     * @param seasonId the season id
+     * @param asOf     the last match date to include, or {@code null} for all games
+     * @return the totals and averages
+     * @see PlayerStatSumsRepository#findSeason
+     */
+    public Mono<PlayerStatsSummary> findSeason(Integer playerId, Integer seasonId,
+        LocalDate asOf) {
+        GenericExecuteSpec spec = databaseClient
+            .sql(PlayerStatSumsRepository.seasonSql(asOf))
+            .bind("playerId", playerId)
+            .bind("seasonId", seasonId);
+        return findTotals(spec, playerId, seasonId, asOf);
+    }
+
+    /**
+     * Returns the best single-match performances for a metric.
+     *
+     * @param metric   the metric to rank by
+     * @param seasonId the season to restrict the ranking to, or {@code null} for all seasons
+     * @param asOf     the last match date to include, or {@code null} for all matches
+     * @param limit    the maximum number of box scores to return
+     * @return the box scores ordered by the metric, best first
+     */
+    public Flux<PlayerStats> findLeaders(PlayerStatsMetric metric, Integer seasonId,
+        LocalDate asOf, int limit) {
+        GenericExecuteSpec spec = databaseClient
+            .sql(StatsReadRepository.leadersSql(metric, seasonId, asOf))
+            .bind("limit", limit);
+        return bindIfPresent(bindIfPresent(spec, "seasonId", seasonId), "asOf", asOf)
+            .map(MatchMapper::statsFromReadable)
+            .all();
+    }
+
+    /**
+     * Returns the results of every team that played, ordered by average points per match.
+     *
+     * @param seasonId the season to aggregate, or {@code null} for all seasons
+     * @return the team statistics, highest average first
+     */
+    public Flux<TeamStats> findTeamsByAveragePoints(Integer seasonId) {
+        return findTeamStats(seasonId, "average_points");
+    }
+
+    /**
+     * Returns the results of every team that played, ordered by win rate.
+     *
+     * @param seasonId the season to aggregate, or {@code null} for all seasons
+     * @return the team statistics, highest win rate first
+     */
+    public Flux<TeamStats> findTeamsByWinRate(Integer seasonId) {
+        return findTeamStats(seasonId, "win_rate");
+    }
+
+    /**
+     * Returns the matches with the highest combined score.
+     *
+     * @param seasonId the season to restrict the search to, or {@code null} for all seasons
+     * @param limit    the maximum number of matches to return
+     * @return the matches, highest scoring first
+     */
+    public Flux<Match> findHighestScoring(Integer seasonId, int limit) {
+        GenericExecuteSpec spec = databaseClient
+            .sql(MatchReadRepository.highestScoringSql(seasonId))
+            .bind("limit", limit);
+        return bindIfPresent(spec, "seasonId", seasonId)
+            .map(MatchMapper::fromReadable)
+            .all();
+    }
+
+    private static Mono<PlayerStatsSummary> findTotals(GenericExecuteSpec spec, Integer playerId,
+        Integer seasonId, LocalDate asOf) {
+        return bindIfPresent(spec, "asOf", asOf)
+            .map(row -> MatchMapper.summaryFromReadable(row, playerId, seasonId))
+            .one();
+    }
+
+    private Flux<TeamStats> findTeamStats(Integer seasonId, String orderBy) {
+        GenericExecuteSpec spec = databaseClient
+            .sql(StatsReadRepository.teamStatsSql(seasonId, orderBy));
+        return bindIfPresent(spec, "seasonId", seasonId)
+            .map(TeamMapper::statsFromReadable)
+            .all();
+    }
+
+    private static GenericExecuteSpec bindIfPresent(GenericExecuteSpec spec, String name,
+        Object value) {
+        return Objects.isNull(value) ? spec : spec.bind(name, value);
+    }
+}
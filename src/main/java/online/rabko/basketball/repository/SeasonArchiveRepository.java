@@ -0,0 +1,120 @@
+package online.rabko.basketball.repository;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import online.rabko.basketball.archive.SeasonArchive;
+import online.rabko.basketball.archive.SeasonArchiveWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Stores season archives as {@code season-<id>.bbsa} files in the directory configured by
+ * {@code archive.directory}. Opened archives are cached, so each file is mapped once per
+ * instance and then read without any I/O beyond page faults.
+ */
+@Repository
+public class SeasonArchiveRepository {
+
+    private final Path directory;
+    private final Map<Integer, SeasonArchive> opened = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the repository.
+     *
+     * @param directory the directory holding the archive files
+     */
+    public SeasonArchiveRepository(@Value("${archive.directory}") Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Returns whether a season is archived.
+     *
+     * @param seasonId the season id
+     * @return {@code true} if an archive of the season exists
+     */
+    public boolean exists(Integer seasonId) {
+        return opened.containsKey(seasonId) || Files.exists(file(seasonId));
+    }
+
+    /**
+     * Opens the archive of a season.
+     *
+     * @param seasonId the season id
+     * @return an Optional containing the archive, or empty if the season is not archived
+     * @throws UncheckedIOException if the archive exists but cannot be read
+     */
+    public Optional<SeasonArchive> find(Integer seasonId) {
+        if (!exists(seasonId)) {
+            return Optional.empty();
+        }
+        return Optional.of(opened.computeIfAbsent(seasonId, id -> {
+            try {
+                return SeasonArchive.open(file(id));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+    }
+
+    /**
+     * Writes an archive to a temporary file, forces it to disk and moves it into place, so a
+     * partially written archive is never visible.
+     *
+     * @param writer the archive to store
+     * @return the stored archive
+     * @throws UncheckedIOException if the archive cannot be written
+     */
+    public SeasonArchive save(SeasonArchiveWriter writer) {
+        Path target = file(writer.getSeasonId());
+        try {
+            Files.createDirectories(directory);
+            Path temporary = Files.createTempFile(directory, target.getFileName().toString(),
+                ".tmp");
+            try {
+                try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE);
+                    OutputStream out = Channels.newOutputStream(channel)) {
+                    writer.writeTo(out);
+                    channel.force(true);
+                }
+                Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+            opened.remove(writer.getSeasonId());
+            return find(writer.getSeasonId()).orElseThrow();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Deletes the archive of a season, if there is one.
+     *
+     * @param seasonId the season id
+     * @throws UncheckedIOException if the file cannot be deleted
+     */
+    public void delete(Integer seasonId) {
+        opened.remove(seasonId);
+        try {
+            Files.deleteIfExists(file(seasonId));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path file(Integer seasonId) {
+        return directory.resolve("season-" + seasonId + ".bbsa");
+    }
+}
@@ -0,0 +1,80 @@
+package online.rabko.basketball.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import online.rabko.model.Match;
+import online.rabko.model.PlayerStats;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Bulk inserts of matches and box scores that keep their original ids, used to restore an
+ * archived season into the database. Rows are sent as JDBC batches instead of being persisted
+ * entity by entity.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SeasonImportRepository {
+
+    private static final String INSERT_MATCH = """
+        INSERT INTO matches (id, season_id, date, home_team_id, away_team_id,
+                             home_team_score, away_team_score)
+        VALUES (:id, :seasonId, :date, :homeTeamId, :awayTeamId, :homeTeamScore, :awayTeamScore)
+        """;
+
+    private static final String INSERT_BOX_SCORE = """
+        INSERT INTO match_participants (id, match_id, season_id, player_id, team_id, stats)
+        VALUES (:id, :matchId, :seasonId, :playerId, :teamId, CAST(:stats AS jsonb))
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Inserts matches with their ids.
+     *
+     * @param matches the matches to insert
+     */
+    public void insertMatches(List<Match> matches) {
+        jdbcTemplate.batchUpdate(INSERT_MATCH, matches.stream()
+            .map(match -> new MapSqlParameterSource()
+                .addValue("id", match.getId())
+                .addValue("seasonId", match.getSeasonId())
+                .addValue("date", match.getDate())
+                .addValue("homeTeamId", match.getHomeTeamId())
+                .addValue("awayTeamId", match.getAwayTeamId())
+                .addValue("homeTeamScore", match.getHomeTeamScore())
+                .addValue("awayTeamScore", match.getAwayTeamScore()))
+            .toArray(SqlParameterSource[]::new));
+    }
+
+    /**
+     * Inserts box scores with their ids.
+     *
+     * @param seasonId  the season of the box scores' matches
+     * @param boxScores the box scores to insert
+     */
+    public void insertBoxScores(Integer seasonId, List<PlayerStats> boxScores) {
+        jdbcTemplate.batchUpdate(INSERT_BOX_SCORE, boxScores.stream()
+            .map(stats -> new MapSqlParameterSource()
+                .addValue("id", stats.getId())
+                .addValue("matchId", stats.getMatchId())
+                .addValue("seasonId", seasonId)
+                .addValue("playerId", stats.getPlayerId())
+                .addValue("teamId", stats.getTeamId())
+                .addValue("stats", toJson(stats)))
+            .toArray(SqlParameterSource[]::new));
+    }
+
+    private String toJson(PlayerStats stats) {
+        try {
+            return objectMapper.writeValueAsString(stats.getStats());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize box score " + stats.getId(), e);
+        }
+    }
+}
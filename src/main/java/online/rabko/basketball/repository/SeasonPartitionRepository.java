@@ -0,0 +1,65 @@
+package online.rabko.basketball.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Manages the per-season partitions of the {@code matches} and {@code match_participants}
+ * tables. The partitions are named {@code matches_season_<id>} and
+ * {@code match_participants_season_<id>}; rows of seasons without partitions fall into the
+ * default partitions.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SeasonPartitionRepository {
+
+    private static final String CREATE = "SELECT create_season_partitions(:seasonId)";
+
+    private static final String CREATE_ALL = "SELECT create_season_partitions(id) FROM seasons";
+
+    private static final String DROP = "SELECT drop_season_partitions(:seasonId)";
+
+    private static final String LOCK =
+        "LOCK TABLE matches_season_%1$d, match_participants_season_%1$d IN SHARE MODE";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Creates the partitions holding the matches and box scores of a season, unless they exist.
+     *
+     * @param seasonId the season id
+     */
+    public void create(Integer seasonId) {
+        jdbcTemplate.queryForObject(CREATE, new MapSqlParameterSource("seasonId", seasonId),
+            String.class);
+    }
+
+    /**
+     * Creates the missing partitions of every season.
+     */
+    public void createAll() {
+        jdbcTemplate.getJdbcTemplate().queryForList(CREATE_ALL, String.class);
+    }
+
+    /**
+     * Blocks writes to the partitions of a season until the current transaction ends, while
+     * still allowing reads.
+     *
+     * @param seasonId the season id
+     */
+    public void lock(Integer seasonId) {
+        jdbcTemplate.getJdbcTemplate().execute(LOCK.formatted(seasonId));
+    }
+
+    /**
+     * Drops the partitions of a season together with any rows they hold.
+     *
+     * @param seasonId the season id
+     */
+    public void drop(Integer seasonId) {
+        jdbcTemplate.queryForObject(DROP, new MapSqlParameterSource("seasonId", seasonId),
+            String.class);
+    }
+}
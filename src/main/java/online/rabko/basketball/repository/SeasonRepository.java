@@ -0,0 +1,46 @@
+package online.rabko.basketball.repository;
+
+import jakarta.persistence.QueryHint;
+import java.time.LocalDate;
+import java.util.List;
+import online.rabko.basketball.entity.SeasonEntity;
+import online.rabko.model.Season;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for managing {@link SeasonEntity} entities.
+ */
+@Repository
+public interface SeasonRepository extends NaturalIdRepository<SeasonEntity, Integer> {
+
+    /**
+     * Returns all seasons ordered by start date, projected straight into the API model so no
+     * entity is hydrated. The result is kept in the query cache until a season changes.
+     *
+     * @return all seasons
+     */
+    @Query("""
+        SELECT new online.rabko.model.Season(s.id, s.name, s.startDate, s.endDate)
+        FROM SeasonEntity s
+        ORDER BY s.startDate
+        """)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    List<Season> findAllSeasons();
+
+    /**
+     * Checks if another season overlaps the given date range.
+     *
+     * @param endDate   last day of the range
+     * @param startDate first day of the range
+     * @param id        id of the season to exclude from the check
+     * @return true if an overlapping season exists
+     */
+    boolean existsByStartDateLessThanEqualAndEndDateGreaterThanEqualAndIdNot(LocalDate endDate,
+        LocalDate startDate, Integer id);
+}
@@ -0,0 +1,41 @@
+package online.rabko.basketball.repository;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import online.rabko.basketball.enums.SortOrder;
+
+/**
+ * Builds the optional clauses of dynamic read queries. Only fixed column names and conditions
+ * with named parameters are ever concatenated, never request values.
+ */
+final class SqlClauses {
+
+    private SqlClauses() {
+    }
+
+    /**
+     * Joins conditions into a {@code WHERE} clause.
+     *
+     * @param conditions the conditions to combine with {@code AND}
+     * @return the {@code WHERE} clause, or an empty string if there are no conditions
+     */
+    static String where(List<String> conditions) {
+        if (conditions.isEmpty()) {
+            return "";
+        }
+        return "WHERE " + String.join("\nAND ", conditions) + "\n";
+    }
+
+    /**
+     * Builds an {@code ORDER BY} clause sorting every column in the same direction.
+     *
+     * @param columns the columns to sort by, most significant first
+     * @param order   the sort direction
+     * @return the {@code ORDER BY} clause
+     */
+    static String orderBy(List<String> columns, SortOrder order) {
+        return columns.stream()
+            .map(column -> column + " " + order.getSql())
+            .collect(Collectors.joining(", ", "ORDER BY ", "\n"));
+    }
+}
@@ -0,0 +1,226 @@
+package online.rabko.basketball.repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import online.rabko.basketball.enums.PlayerStatsMetric;
+import online.rabko.basketball.mapper.MatchMapper;
+import online.rabko.basketball.mapper.TeamMapper;
+import online.rabko.model.PlayerStats;
+import online.rabko.model.PlayerStatsSummary;
+import online.rabko.model.TeamStats;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Read-only access to box scores and the aggregates computed from them. The {@code stats} JSONB
+ * column is unpacked in SQL, one column per statistic, so rows map straight into the API model
+ * without entity hydration or JSON deserialization.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StatsReadRepository {
+
+    static final String PLAYER_STATS = """
+        SELECT mp.id, mp.match_id, mp.player_id, mp.team_id,
+               (mp.stats ->> 'points')::int                 AS points,
+               (mp.stats ->> 'assists')::int                AS assists,
+               (mp.stats ->> 'rebounds')::int               AS rebounds,
+               (mp.stats ->> 'steals')::int                 AS steals,
+               (mp.stats ->> 'blocks')::int                 AS blocks,
+               (mp.stats ->> 'minutes_played')::int         AS minutes_played,
+               (mp.stats ->> 'field_goals_made')::int       AS field_goals_made,
+               (mp.stats ->> 'field_goals_attempted')::int  AS field_goals_attempted,
+               (mp.stats ->> 'three_points_made')::int      AS three_points_made,
+               (mp.stats ->> 'three_points_attempted')::int AS three_points_attempted,
+               (mp.stats ->> 'free_throws_made')::int       AS free_throws_made,
+               (mp.stats ->> 'free_throws_attempted')::int  AS free_throws_attempted,
+               (mp.stats ->> 'turnovers')::int              AS turnovers,
+               (mp.stats ->> 'fouls')::int                  AS fouls
+        FROM match_participants mp
+        """;
+
+    private static final String SEASON_TOTALS = """
+        SELECT player_id, COUNT(*) AS games,
+               SUM(COALESCE(points, 0))                 AS points,
+               SUM(COALESCE(assists, 0))                AS assists,
+               SUM(COALESCE(rebounds, 0))               AS rebounds,
+               SUM(COALESCE(steals, 0))                 AS steals,
+               SUM(COALESCE(blocks, 0))                 AS blocks,
+               SUM(COALESCE(minutes_played, 0))         AS minutes_played,
+               SUM(COALESCE(field_goals_made, 0))       AS field_goals_made,
+               SUM(COALESCE(field_goals_attempted, 0))  AS field_goals_attempted,
+               SUM(COALESCE(three_points_made, 0))      AS three_points_made,
+               SUM(COALESCE(three_points_attempted, 0)) AS three_points_attempted,
+               SUM(COALESCE(free_throws_made, 0))       AS free_throws_made,
+               SUM(COALESCE(free_throws_attempted, 0))  AS free_throws_attempted,
+               SUM(COALESCE(turnovers, 0))              AS turnovers,
+               SUM(COALESCE(fouls, 0))                  AS fouls
+        FROM (%s WHERE mp.season_id = :seasonId) s
+        GROUP BY player_id
+        """.formatted(PLAYER_STATS);
+
+    private static final String TEAM_RESULTS = """
+        WITH results AS (
+            SELECT home_team_id AS team_id, home_team_score AS scored, away_team_score AS conceded
+            FROM matches %1$s
+            UNION ALL
+            SELECT away_team_id, away_team_score, home_team_score
+            FROM matches %1$s
+        )
+        SELECT t.id                                                    AS team_id,
+               t.name                                                  AS team_name,
+               ROUND(AVG(r.scored), 2)                                 AS average_points,
+               ROUND(AVG((r.scored > r.conceded)::int), 4)             AS win_rate,
+               COUNT(*) FILTER (WHERE r.scored > r.conceded)           AS total_wins,
+               COUNT(*) FILTER (WHERE r.scored < r.conceded)           AS total_losses
+        FROM results r
+        JOIN teams t ON t.id = r.team_id
+        GROUP BY t.id, t.name
+        ORDER BY %2$s DESC, t.id
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Finds a box score by its id.
+     *
+     * @param id the statistics record id
+     * @return an Optional containing the statistics if found, or empty otherwise
+     */
+    public Optional<PlayerStats> findById(Integer id) {
+        return jdbcTemplate.query(PLAYER_STATS + "WHERE mp.id = :id",
+                new MapSqlParameterSource("id", id), MatchMapper::statsFromRow)
+            .stream()
+            .findFirst();
+    }
+
+    /**
+     * Returns the box scores of all participants of a match.
+     *
+     * @param matchId the match id
+     * @return the participants' statistics ordered by id
+     */
+    public List<PlayerStats> findByMatchId(Integer matchId) {
+        return jdbcTemplate.query(PLAYER_STATS + "WHERE mp.match_id = :matchId ORDER BY mp.id",
+            new MapSqlParameterSource("matchId", matchId), MatchMapper::statsFromRow);
+    }
+
+    /**
+     * Streams the box scores of a season to a consumer, one row at a time, without collecting
+     * them into a list.
+     *
+     * @param seasonId the season id
+     * @param action   the consumer receiving each box score, ordered by match and id
+     */
+    public void forEachInSeason(Integer seasonId, Consumer<PlayerStats> action) {
+        jdbcTemplate.query(
+            PLAYER_STATS + "WHERE mp.season_id = :seasonId ORDER BY mp.match_id, mp.id",
+            new MapSqlParameterSource("seasonId", seasonId),
+            (RowCallbackHandler) rs -> action.accept(MatchMapper.statsFromRow(rs, rs.getRow())));
+    }
+
+    /**
+     * Streams the box score totals of every player over a season to a consumer, one player at a
+     * time.
+     *
+     * @param seasonId the season id
+     * @param action   the consumer receiving the totals of each player who played in the season
+     */
+    public void forEachPlayerInSeason(Integer seasonId, Consumer<PlayerStatsSummary> action) {
+        jdbcTemplate.query(SEASON_TOTALS, new MapSqlParameterSource("seasonId", seasonId),
+            (RowCallbackHandler) rs -> action.accept(
+                MatchMapper.summaryFromRow(rs, rs.getInt("player_id"), seasonId)));
+    }
+
+    /**
+     * Returns the best single-match performances for a metric.
+     *
+     * @param metric   the metric to rank by
+     * @param seasonId the season to restrict the ranking to, or {@code null} for all seasons
+     * @param asOf     the last match date to include, or {@code null} for all matches
+     * @param limit    the maximum number of box scores to return
+     * @return the box scores ordered by the metric, best first
+     */
+    public List<PlayerStats> findLeaders(PlayerStatsMetric metric, Integer seasonId,
+        LocalDate asOf, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("limit", limit);
+        if (Objects.nonNull(seasonId)) {
+            params.addValue("seasonId", seasonId);
+        }
+        if (Objects.nonNull(asOf)) {
+            params.addValue("asOf", asOf);
+        }
+        return jdbcTemplate.query(leadersSql(metric, seasonId, asOf), params,
+            MatchMapper::statsFromRow);
+    }
+
+    /**
+     * Returns the results of every team that played, ordered by average points per match.
+     *
+     * @param seasonId the season to aggregate, or {@code null} for all seasons
+     * @return the team statistics, highest average first
+     */
+    public List<TeamStats> findTeamsByAveragePoints(Integer seasonId) {
+        return findTeamStats(seasonId, "average_points");
+    }
+
+    /**
+     * Returns the results of every team that played, ordered by win rate.
+     *
+     * @param seasonId the season to aggregate, or {@code null} for all seasons
+     * @return the team statistics, highest win rate first
+     */
+    public List<TeamStats> findTeamsByWinRate(Integer seasonId) {
+        return findTeamStats(seasonId, "win_rate");
+    }
+
+    /**
+     * Builds the query of the best single-match performances for a metric, with the named
+     * parameters {@code seasonId} and {@code asOf} when they are given, and {@code limit}.
+     *
+     * @param metric   the metric to rank by
+     * @param seasonId the season to restrict the ranking to, or {@code null} for all seasons
+     * @param asOf     the last match date to include, or {@code null} for all matches
+     * @return the query
+     */
+    static String leadersSql(PlayerStatsMetric metric, Integer seasonId, LocalDate asOf) {
+        StringBuilder sql = new StringBuilder(PLAYER_STATS);
+        List<String> conditions = new ArrayList<>();
+        if (Objects.nonNull(asOf)) {
+            sql.append("JOIN matches m ON m.id = mp.match_id AND m.season_id = mp.season_id\n");
+            conditions.add("m.date <= :asOf");
+        }
+        if (Objects.nonNull(seasonId)) {
+            conditions.add("mp.season_id = :seasonId");
+        }
+        return sql.append(SqlClauses.where(conditions))
+            .append("ORDER BY ").append(metric.getExpression()).append(" DESC, mp.id\n")
+            .append("LIMIT :limit")
+            .toString();
+    }
+
+    /**
+     * Builds the query of the results of every team that played, with the named parameter
+     * {@code seasonId} when it is given.
+     *
+     * @param seasonId the season to aggregate, or {@code null} for all seasons
+     * @param orderBy  the result column to order the teams by, highest first
+     * @return the query
+     */
+    static String teamStatsSql(Integer seasonId, String orderBy) {
+        String filter = Objects.isNull(seasonId) ? "" : "WHERE season_id = :seasonId";
+        return TEAM_RESULTS.formatted(filter, orderBy);
+    }
+
+    private List<TeamStats> findTeamStats(Integer seasonId, String orderBy) {
+        return jdbcTemplate.query(teamStatsSql(seasonId, orderBy),
+            new MapSqlParameterSource("seasonId", seasonId), TeamMapper::statsFromRow);
+    }
+}
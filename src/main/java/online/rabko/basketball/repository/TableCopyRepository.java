@@ -0,0 +1,229 @@
+package online.rabko.basketball.repository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import online.rabko.basketball.enums.BackupTable;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Bulk transfer of whole tables with PostgreSQL's {@code COPY} in binary format. Rows stream
+ * between the connection and the given stream without being materialized, so memory use does not
+ * depend on the table size. Statements run on the connection of the current transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TableCopyRepository {
+
+    private static final String COPY_OUT = "COPY (SELECT %s FROM %s) TO STDOUT (FORMAT binary)";
+
+    private static final String COPY_IN = "COPY %s FROM STDIN (FORMAT binary)";
+
+    private static final String MAX_ID = "SELECT COALESCE(MAX(id), 0) FROM %s";
+
+    private static final String RESET_SEQUENCE = """
+        SELECT setval(pg_get_serial_sequence('%1$s', 'id'), COALESCE(MAX(id), 0) + 1, false)
+        FROM %1$s
+        """;
+
+    private static final String FOREIGN_KEYS = """
+        SELECT 'ALTER TABLE %1$s DROP CONSTRAINT ' || quote_ident(conname) AS drop_sql,
+               'ALTER TABLE %1$s ADD CONSTRAINT ' || quote_ident(conname) || ' '
+                   || pg_get_constraintdef(oid) AS create_sql
+        FROM pg_constraint
+        WHERE conrelid = CAST('%1$s' AS regclass) AND contype = 'f' AND conparentid = 0
+        ORDER BY conname
+        """;
+
+    private static final String SECONDARY_INDEXES = """
+        SELECT 'DROP INDEX ' || CAST(indexrelid AS regclass) AS drop_sql,
+               replace(pg_get_indexdef(indexrelid), ' ON ONLY ', ' ON ') AS create_sql
+        FROM pg_index
+        WHERE indrelid = CAST('%1$s' AS regclass) AND NOT indisunique
+        ORDER BY CAST(indexrelid AS regclass)
+        """;
+
+    private static final String ANALYZE = "ANALYZE %s";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Writes all rows of a table to a stream. The rows are selected by a query, because
+     * partitioned tables such as {@code matches} cannot be copied from directly.
+     *
+     * @param table the table to copy
+     * @param out   the stream to write to; it is not closed
+     * @return the number of rows written
+     * @throws UncheckedIOException if writing to the stream fails
+     */
+    public long copyOut(BackupTable table, OutputStream out) {
+        String sql = COPY_OUT.formatted(String.join(", ", table.getColumns()), table.getTable());
+        return copy(copyManager -> copyManager.copyOut(sql, out));
+    }
+
+    /**
+     * Appends rows read from a stream to a table.
+     *
+     * @param table the table to copy into
+     * @param in    the stream holding rows written by {@link #copyOut}; it is read to its end but
+     *              not closed
+     * @return the number of rows inserted
+     * @throws UncheckedIOException if reading from the stream fails
+     */
+    public long copyIn(BackupTable table, InputStream in) {
+        return copy(copyManager -> copyManager.copyIn(COPY_IN.formatted(table.getTarget()), in));
+    }
+
+    /**
+     * Appends rows produced by a writer to a table. The rows are streamed to the connection as
+     * they are written; if the writer fails, the copy is cancelled and nothing is inserted.
+     *
+     * @param table  the table to copy into
+     * @param writer writes the rows in binary {@code COPY} format, columns in table order
+     * @return the number of rows inserted
+     * @throws UncheckedIOException if the writer fails
+     */
+    public long copyRows(BackupTable table, RowWriter writer) {
+        return copy(copyManager -> {
+            PGCopyOutputStream out = new PGCopyOutputStream(
+                copyManager.copyIn(COPY_IN.formatted(table.getTarget())));
+            try {
+                writer.write(out);
+                return out.endCopy();
+            } finally {
+                if (out.isActive()) {
+                    out.cancelCopy();
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns the highest id of a table.
+     *
+     * @param table the table
+     * @return the highest id, or zero if the table is empty
+     */
+    public int findMaxId(BackupTable table) {
+        Integer id = jdbcTemplate.getJdbcTemplate()
+            .queryForObject(MAX_ID.formatted(table.getTable()), Integer.class);
+        return Objects.requireNonNull(id);
+    }
+
+    /**
+     * Removes all rows from every backed-up table.
+     */
+    public void truncateAll() {
+        jdbcTemplate.getJdbcTemplate().execute(Arrays.stream(BackupTable.values())
+            .map(BackupTable::getTable)
+            .collect(Collectors.joining(", ", "TRUNCATE ", "")));
+    }
+
+    /**
+     * Moves the id sequence of a table past its highest id, so that new rows do not collide with
+     * copied ones.
+     *
+     * @param table the table whose sequence to reset
+     */
+    public void resetSequence(BackupTable table) {
+        jdbcTemplate.getJdbcTemplate()
+            .queryForObject(RESET_SEQUENCE.formatted(table.getTable()), Long.class);
+    }
+
+    /**
+     * Drops the non-unique indexes and the foreign keys of a table, so that rows copied into it
+     * afterwards are indexed and checked in bulk by {@link #restore} rather than one at a time.
+     * The primary key and unique constraints are kept. On a partitioned table, the indexes and
+     * foreign keys of its partitions go with those of the table.
+     *
+     * @param table the table
+     * @return the statements creating the dropped indexes and foreign keys again
+     */
+    public List<String> dropIndexesAndForeignKeys(BackupTable table) {
+        List<String> restore = new ArrayList<>();
+        for (String sql : List.of(SECONDARY_INDEXES, FOREIGN_KEYS)) {
+            List<Ddl> found = jdbcTemplate.getJdbcTemplate().query(sql.formatted(table.getTable()),
+                (rs, rowNum) -> new Ddl(rs.getString("drop_sql"), rs.getString("create_sql")));
+            for (Ddl ddl : found) {
+                jdbcTemplate.getJdbcTemplate().execute(ddl.drop());
+                restore.add(ddl.create());
+            }
+        }
+        return restore;
+    }
+
+    /**
+     * Creates indexes and foreign keys dropped by {@link #dropIndexesAndForeignKeys} again,
+     * building each index and validating each foreign key over the whole table at once.
+     *
+     * @param statements the statements returned when they were dropped
+     */
+    public void restore(List<String> statements) {
+        statements.forEach(jdbcTemplate.getJdbcTemplate()::execute);
+    }
+
+    /**
+     * Collects the planner statistics of a table, so that queries right after a bulk load are
+     * planned for its new size.
+     *
+     * @param table the table
+     */
+    public void analyze(BackupTable table) {
+        jdbcTemplate.getJdbcTemplate().execute(ANALYZE.formatted(table.getTable()));
+    }
+
+    private long copy(Copy copy) {
+        ConnectionCallback<Long> callback = connection -> {
+            try {
+                return copy.run(connection.unwrap(PGConnection.class).getCopyAPI());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+        Long rows = jdbcTemplate.getJdbcTemplate().execute(callback);
+        return Objects.requireNonNull(rows);
+    }
+
+    /**
+     * The statements dropping an index or constraint and creating it again.
+     */
+    private record Ddl(String drop, String create) {
+    }
+
+    /**
+     * Writes rows to a {@code COPY} stream.
+     */
+    @FunctionalInterface
+    public interface RowWriter {
+
+        /**
+         * Writes the rows.
+         *
+         * @param out the stream to write to
+         * @throws IOException if the rows cannot be produced or written
+         */
+        void write(OutputStream out) throws IOException;
+    }
+
+    /**
+     * A {@code COPY} operation run against the current connection.
+     */
+    @FunctionalInterface
+    private interface Copy {
+
+        long run(CopyManager copyManager) throws SQLException, IOException;
+    }
+}
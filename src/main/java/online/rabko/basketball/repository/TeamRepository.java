@@ -0,0 +1,43 @@
+package online.rabko.basketball.repository;
+
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import online.rabko.basketball.entity.TeamEntity;
+import online.rabko.model.Team;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for managing {@link TeamEntity} entities.
+ */
+@Repository
+public interface TeamRepository extends NaturalIdRepository<TeamEntity, Integer> {
+
+    /**
+     * Returns all teams ordered by id, projected straight into the API model so no entity is
+     * hydrated. The result is kept in the query cache until a team changes.
+     *
+     * @return all teams
+     */
+    @Query("SELECT new online.rabko.model.Team(t.id, t.name) FROM TeamEntity t ORDER BY t.id")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    List<Team> findAllTeams();
+
+    /**
+     * Returns the teams with the given ids ordered by id, projected straight into the API model.
+     * Ids without a team are skipped.
+     *
+     * @param ids the team ids
+     * @return the matching teams
+     */
+    @Query("SELECT new online.rabko.model.Team(t.id, t.name) FROM TeamEntity t "
+        + "WHERE t.id IN :ids ORDER BY t.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    List<Team> findTeamsByIds(Collection<Integer> ids);
+}
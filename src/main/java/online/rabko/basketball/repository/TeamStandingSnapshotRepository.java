@@ -0,0 +1,178 @@
+package online.rabko.basketball.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import online.rabko.basketball.mapper.TeamMapper;
+import online.rabko.model.TeamStats;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Maintains and reads the {@code team_standing_snapshots} table, which holds the team results of
+ * every season as of every date. Delta rows hold the change of a team's results on one day and
+ * exist only for the days the team played; checkpoint rows hold the cumulative results of every
+ * team at the end of each week with matches. The results as of a date are the latest checkpoint
+ * on or before it plus the deltas since, so at most a week of deltas is scanned however long the
+ * season has run.
+ *
+ * <p>When matches change, the snapshots of their season from the earliest changed match date on
+ * are computed again: the deltas from that day's matches, and the checkpoints from the deltas.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TeamStandingSnapshotRepository {
+
+    private static final String COLUMNS = """
+        season_id, snapshot_date, team_id, checkpoint, matches, scored_matches, points_scored,
+        decided_matches, wins, losses""";
+
+    private static final String DELETE = """
+        DELETE FROM team_standing_snapshots
+        WHERE season_id = :seasonId AND snapshot_date >= :from
+        """;
+
+    private static final String DELETE_SEASON =
+        "DELETE FROM team_standing_snapshots WHERE season_id = :seasonId";
+
+    private static final String TRUNCATE = "TRUNCATE team_standing_snapshots";
+
+    private static final String INSERT_DELTAS = """
+        INSERT INTO team_standing_snapshots (%1$s)
+        SELECT season_id, date, team_id, FALSE, COUNT(*), COUNT(scored), COALESCE(SUM(scored), 0),
+               COUNT(conceded) FILTER (WHERE scored IS NOT NULL),
+               COUNT(*) FILTER (WHERE scored > conceded),
+               COUNT(*) FILTER (WHERE scored < conceded)
+        FROM (
+            SELECT season_id, date, home_team_id AS team_id, home_team_score AS scored,
+                   away_team_score AS conceded
+            FROM matches %2$s
+            UNION ALL
+            SELECT season_id, date, away_team_id, away_team_score, home_team_score
+            FROM matches %2$s
+        ) r
+        GROUP BY season_id, date, team_id
+        """;
+
+    private static final String INSERT_CHECKPOINTS = """
+        INSERT INTO team_standing_snapshots (%1$s)
+        SELECT d.season_id, w.week_end, d.team_id, TRUE, SUM(d.matches), SUM(d.scored_matches),
+               SUM(d.points_scored), SUM(d.decided_matches), SUM(d.wins), SUM(d.losses)
+        FROM (
+            SELECT DISTINCT season_id,
+                   (date_trunc('week', snapshot_date) + INTERVAL '6 days')::date AS week_end
+            FROM team_standing_snapshots
+            WHERE NOT checkpoint %2$s
+        ) w
+        JOIN team_standing_snapshots d
+            ON d.season_id = w.season_id AND NOT d.checkpoint AND d.snapshot_date <= w.week_end
+        %3$s
+        GROUP BY d.season_id, w.week_end, d.team_id
+        """;
+
+    private static final String TEAM_RESULTS = """
+        WITH checkpoints AS (
+            SELECT s.season_id, MAX(s.snapshot_date) AS snapshot_date
+            FROM team_standing_snapshots s
+            WHERE s.checkpoint AND s.snapshot_date <= :asOf %1$s
+            GROUP BY s.season_id
+        ), results AS (
+            SELECT s.*
+            FROM team_standing_snapshots s
+            JOIN checkpoints c ON c.season_id = s.season_id AND c.snapshot_date = s.snapshot_date
+            WHERE s.checkpoint %1$s
+            UNION ALL
+            SELECT s.*
+            FROM team_standing_snapshots s
+            LEFT JOIN checkpoints c ON c.season_id = s.season_id
+            WHERE NOT s.checkpoint AND s.snapshot_date <= :asOf
+              AND s.snapshot_date > COALESCE(c.snapshot_date, '-infinity') %1$s
+        )
+        SELECT t.id                                                            AS team_id,
+               t.name                                                          AS team_name,
+               ROUND(SUM(r.points_scored) / NULLIF(SUM(r.scored_matches), 0), 2) AS average_points,
+               ROUND(SUM(r.wins)::numeric / NULLIF(SUM(r.decided_matches), 0), 4) AS win_rate,
+               SUM(r.wins)                                                     AS total_wins,
+               SUM(r.losses)                                                   AS total_losses
+        FROM results r
+        JOIN teams t ON t.id = r.team_id
+        GROUP BY t.id, t.name
+        ORDER BY %2$s DESC, t.id
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Computes the snapshots of a season again from a date on, after its matches on or after
+     * that date have changed.
+     *
+     * @param seasonId the season id
+     * @param from     the earliest changed match date
+     */
+    public void refresh(Integer seasonId, LocalDate from) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("seasonId", seasonId)
+            .addValue("from", from);
+        jdbcTemplate.update(DELETE, params);
+        jdbcTemplate.update(INSERT_DELTAS.formatted(COLUMNS,
+            "WHERE season_id = :seasonId AND date >= :from"), params);
+        jdbcTemplate.update(INSERT_CHECKPOINTS.formatted(COLUMNS, "AND season_id = :seasonId",
+            "WHERE w.week_end >= :from"), params);
+    }
+
+    /**
+     * Computes the snapshots of a season again from scratch.
+     *
+     * @param seasonId the season id
+     */
+    public void refreshSeason(Integer seasonId) {
+        MapSqlParameterSource params = new MapSqlParameterSource("seasonId", seasonId);
+        jdbcTemplate.update(DELETE_SEASON, params);
+        jdbcTemplate.update(INSERT_DELTAS.formatted(COLUMNS, "WHERE season_id = :seasonId"),
+            params);
+        jdbcTemplate.update(INSERT_CHECKPOINTS.formatted(COLUMNS, "AND season_id = :seasonId",
+            ""), params);
+    }
+
+    /**
+     * Computes the snapshots of all seasons again from scratch.
+     */
+    public void refreshAll() {
+        jdbcTemplate.getJdbcTemplate().execute(TRUNCATE);
+        jdbcTemplate.getJdbcTemplate().execute(INSERT_DELTAS.formatted(COLUMNS, ""));
+        jdbcTemplate.getJdbcTemplate().execute(INSERT_CHECKPOINTS.formatted(COLUMNS, "", ""));
+    }
+
+    /**
+     * Returns the results of every team that had played by a date, ordered by average points per
+     * match.
+     *
+     * @param seasonId the season to aggregate, or {@code null} for all seasons
+     * @param asOf     the last match date to include
+     * @return the team statistics, highest average first
+     */
+    public List<TeamStats> findTeamsByAveragePoints(Integer seasonId, LocalDate asOf) {
+        return findTeamStats(seasonId, asOf, "average_points");
+    }
+
+    /**
+     * Returns the results of every team that had played by a date, ordered by win rate.
+     *
+     * @param seasonId the season to aggregate, or {@code null} for all seasons
+     * @param asOf     the last match date to include
+     * @return the team statistics, highest win rate first
+     */
+    public List<TeamStats> findTeamsByWinRate(Integer seasonId, LocalDate asOf) {
+        return findTeamStats(seasonId, asOf, "win_rate");
+    }
+
+    private List<TeamStats> findTeamStats(Integer seasonId, LocalDate asOf, String orderBy) {
+        String filter = Objects.isNull(seasonId) ? "" : "AND s.season_id = :seasonId";
+        return jdbcTemplate.query(TEAM_RESULTS.formatted(filter, orderBy),
+            new MapSqlParameterSource()
+                .addValue("seasonId", seasonId)
+                .addValue("asOf", asOf), TeamMapper::statsFromRow);
+    }
+}
@@ -0,0 +1,73 @@
+package online.rabko.basketball.service;
+
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import online.rabko.basketball.dto.ChangeCursor;
+import online.rabko.basketball.dto.ChangeEntry;
+import online.rabko.basketball.exception.BadRequestException;
+import online.rabko.basketball.repository.ChangeRepository;
+import online.rabko.model.ChangeBatch;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service for the change feed, which lets clients fetch only the resources changed since their
+ * last sync. Cursors are opaque to clients and have the form {@code <txid>-<position>}.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChangeService {
+
+    /**
+     * Maximum number of changes returned by {@link #getChanges(String, int)}.
+     */
+    public static final int MAX_CHANGES = 1000;
+
+    private static final String SEPARATOR = "-";
+
+    private final ChangeRepository changeRepository;
+
+    /**
+     * Returns the changes following a cursor.
+     *
+     * @param since the cursor returned by a previous call, or {@code null} to start from the
+     *              beginning
+     * @param limit the maximum number of changes to return
+     * @return the changes, the cursor to continue from and whether more changes are available
+     * @throws BadRequestException if the cursor is malformed or the limit is out of range
+     */
+    @Transactional(readOnly = true)
+    public ChangeBatch getChanges(String since, int limit) {
+        if (limit < 1 || limit > MAX_CHANGES) {
+            throw new BadRequestException("Limit must be between 1 and " + MAX_CHANGES);
+        }
+        ChangeCursor cursor = Objects.isNull(since) ? ChangeCursor.START : parse(since);
+        List<ChangeEntry> entries = changeRepository.findAfter(cursor, limit + 1);
+        boolean hasMore = entries.size() > limit;
+        List<ChangeEntry> page = hasMore ? entries.subList(0, limit) : entries;
+        ChangeCursor next = page.isEmpty() ? cursor : page.get(page.size() - 1).cursor();
+        return new ChangeBatch(page.stream().map(ChangeEntry::change).toList(), format(next),
+            hasMore);
+    }
+
+    private static ChangeCursor parse(String cursor) {
+        String[] parts = cursor.split(SEPARATOR, -1);
+        if (parts.length != 2) {
+            throw invalidCursor(cursor);
+        }
+        try {
+            return new ChangeCursor(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+        } catch (NumberFormatException e) {
+            throw invalidCursor(cursor);
+        }
+    }
+
+    private static BadRequestException invalidCursor(String cursor) {
+        return new BadRequestException("Invalid change cursor '" + cursor + "'");
+    }
+
+    private static String format(ChangeCursor cursor) {
+        return cursor.txid() + SEPARATOR + cursor.position();
+    }
+}
@@ -0,0 +1,150 @@
+package online.rabko.basketball.service;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import online.rabko.basketball.config.IdempotencyProperties;
+import online.rabko.basketball.dto.IdempotencyKey;
+import online.rabko.basketball.dto.IdempotentResponse;
+import online.rabko.basketball.repository.IdempotencyKeyRepository;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Remembers the responses to requests sent with an idempotency key, so that retries are
+ * answered without running the request again.
+ *
+ * <p>Responses are stored in the database, shared by all instances, and the most recently used
+ * ones are also kept in a bounded in-memory LRU map, so that a retry arriving at the same
+ * instance, the usual case, is answered without touching the database at all. Stored responses
+ * are replayed for the configured retention and purged afterwards.
+ *
+ * <p>Before its request is handled, a key is claimed with a pending row in the database, so that
+ * of concurrent requests with the same key, on any instance, only one reaches a controller.
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final IdempotencyProperties properties;
+    private final Map<IdempotencyKey, IdempotentResponse> cache;
+    private final ReentrantLock cacheLock = new ReentrantLock();
+
+    /**
+     * Creates the service.
+     *
+     * @param idempotencyKeyRepository the repository storing the responses
+     * @param properties               the idempotency properties
+     */
+    public IdempotencyService(IdempotencyKeyRepository idempotencyKeyRepository,
+        IdempotencyProperties properties) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.properties = properties;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<IdempotencyKey, IdempotentResponse> e) {
+                return size() > properties.getCacheSize();
+            }
+        };
+    }
+
+    /**
+     * Finds the stored response for a key, looking in memory first.
+     *
+     * @param key the idempotency key
+     * @return the stored response, if any and not expired
+     */
+    public Optional<IdempotentResponse> find(IdempotencyKey key) {
+        Instant createdAfter = Instant.now().minus(properties.getRetention());
+        IdempotentResponse cached;
+        cacheLock.lock();
+        try {
+            cached = cache.get(key);
+        } finally {
+            cacheLock.unlock();
+        }
+        if (Objects.nonNull(cached) && !cached.createdAt().isBefore(createdAfter)) {
+            return Optional.of(cached);
+        }
+        Optional<IdempotentResponse> stored = idempotencyKeyRepository.find(key, createdAfter);
+        stored.ifPresent(response -> cache(key, response));
+        return stored;
+    }
+
+    /**
+     * Claims a key for a request about to be handled. A claim left pending for longer than the
+     * configured timeout, by an instance that went away, is taken over.
+     *
+     * @param key         the idempotency key
+     * @param fingerprint the fingerprint of the request
+     * @return {@code false} if the key is claimed already, or has a stored response
+     */
+    public boolean begin(IdempotencyKey key, byte[] fingerprint) {
+        Instant now = Instant.now();
+        return idempotencyKeyRepository.claim(key, fingerprint, now,
+            now.minus(properties.getRetention()), now.minus(properties.getPendingTimeout()));
+    }
+
+    /**
+     * Stores the response for a claimed key. A failure to store is logged and otherwise ignored,
+     * as the request has been handled already.
+     *
+     * @param key      the idempotency key
+     * @param response the response
+     * @return whether the response was stored
+     */
+    public boolean save(IdempotencyKey key, IdempotentResponse response) {
+        try {
+            if (idempotencyKeyRepository.complete(key, response)) {
+                cache(key, response);
+                return true;
+            }
+        } catch (DataAccessException e) {
+            log.warn("Response for idempotency key {} of {} could not be stored", key.key(),
+                key.username(), e);
+        }
+        return false;
+    }
+
+    /**
+     * Gives up the claim of a key whose response was not stored, so that the request can be
+     * retried. A failure to do so is logged; the claim then times out.
+     *
+     * @param key the idempotency key
+     */
+    public void release(IdempotencyKey key) {
+        try {
+            idempotencyKeyRepository.release(key);
+        } catch (DataAccessException e) {
+            log.warn("Idempotency key {} of {} could not be released", key.key(),
+                key.username(), e);
+        }
+    }
+
+    /**
+     * Deletes the stored responses older than the retention.
+     */
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval:PT1H}")
+    public void purge() {
+        int deleted = idempotencyKeyRepository.deleteCreatedBefore(
+            Instant.now().minus(properties.getRetention()));
+        if (deleted > 0) {
+            log.info("Purged {} expired idempotency keys", deleted);
+        }
+    }
+
+    private void cache(IdempotencyKey key, IdempotentResponse response) {
+        cacheLock.lock();
+        try {
+            cache.put(key, response);
+        } finally {
+            cacheLock.unlock();
+        }
+    }
+}
@@ -11,6 +11,7 @@ import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 import online.rabko.basketball.entity.User;
 import org.springframework.beans.factory.annotation.Value;
@@ -36,6 +37,41 @@ public class JwtService {
         return extractClaim(token, Claims::getSubject);
     }
 
+    /**
+     * Extracts the id of the user from the JWT token, or the username for tokens issued without
+     * an id. The signature is verified, so the result can be trusted without loading the user.
+     *
+     * @param token the JWT token
+     * @return the user id, or the username
+     */
+    public String extractUserId(String token) {
+        return extractUserId(parseClaims(token));
+    }
+
+    /**
+     * Returns the id of the user from the claims of a verified token, or the username for tokens
+     * issued without an id.
+     *
+     * @param claims the claims of the token
+     * @return the user id, or the username
+     */
+    public String extractUserId(Claims claims) {
+        return Objects.toString(claims.get("id"), claims.getSubject());
+    }
+
+    /**
+     * Verifies the signature and the expiration of the token and returns its claims, so that a
+     * request needing several of them parses the token once.
+     *
+     * @param token the JWT token
+     * @return all claims in the token
+     * @throws io.jsonwebtoken.JwtException if the token is invalid or expired
+     * @throws IllegalArgumentException     if the token is empty
+     */
+    public Claims parseClaims(String token) {
+        return extractAllClaims(token);
+    }
+
     /**
      * Generates a JWT token for the given user.
      *
@@ -85,6 +121,18 @@ public class JwtService {
         }
     }
 
+    /**
+     * Validates whether the claims of a parsed token are valid for the given user.
+     *
+     * @param claims      the claims of the token
+     * @param userDetails the user to validate against
+     * @return true if the token was issued to the user and is not expired
+     */
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        return userDetails.getUsername().equals(claims.getSubject())
+            && !claims.getExpiration().before(new Date());
+    }
+
     /**
      * Checks if the username in the token matches the given user details.
      *
@@ -0,0 +1,114 @@
+package online.rabko.basketball.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+import lombok.RequiredArgsConstructor;
+import online.rabko.basketball.enums.BackupTable;
+import online.rabko.basketball.repository.ChangeRepository;
+import online.rabko.basketball.repository.PlayerStatSumsRepository;
+import online.rabko.basketball.repository.SeasonPartitionRepository;
+import online.rabko.basketball.repository.TableCopyRepository;
+import online.rabko.basketball.repository.TeamStandingSnapshotRepository;
+import org.hibernate.Cache;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Logical backups of the whole league: users, teams, seasons, players, matches and box scores.
+ *
+ * <p>A backup is a ZIP file with one entry per table in {@link BackupTable} order, each holding
+ * the table in PostgreSQL's binary {@code COPY} format. Tables are streamed straight from the
+ * connection into the compressed file and back, so memory use is constant whatever the size of
+ * the league. Season archives are separate files and are not part of a backup.
+ */
+@Service
+@RequiredArgsConstructor
+public class LeagueBackupService {
+
+    /**
+     * Extension of the backup entries holding the tables.
+     */
+    public static final String ENTRY_EXTENSION = ".pgcopy";
+
+    private final TableCopyRepository tableCopyRepository;
+    private final SeasonPartitionRepository seasonPartitionRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private final PlayerNameIndex playerNameIndex;
+    private final ChangeRepository changeRepository;
+    private final PlayerStatSumsRepository playerStatSumsRepository;
+    private final StatsPercentileIndex statsPercentileIndex;
+    private final TeamStandingSnapshotRepository teamStandingSnapshotRepository;
+
+    /**
+     * Writes a backup of all tables. The tables are read in a single repeatable-read transaction,
+     * so the backup is a consistent snapshot even while the league is being updated.
+     *
+     * @param out the stream to write the backup to; it is finished but not closed
+     * @return the number of rows written per table
+     * @throws IOException if writing the backup fails
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public Map<BackupTable, Long> backup(OutputStream out) throws IOException {
+        Map<BackupTable, Long> rows = new EnumMap<>(BackupTable.class);
+        ZipOutputStream zip = new ZipOutputStream(out);
+        for (BackupTable table : BackupTable.values()) {
+            zip.putNextEntry(new ZipEntry(table.getTable() + ENTRY_EXTENSION));
+            rows.put(table, tableCopyRepository.copyOut(table, zip));
+            zip.closeEntry();
+        }
+        zip.finish();
+        return rows;
+    }
+
+    /**
+     * Replaces the contents of all tables with a backup, creates the partitions of the restored
+     * seasons, moves the id sequences past the restored ids, computes the players' running totals
+     * again and reports every resource in the change feed, so that syncing clients pick up the
+     * replaced league. Either the whole backup is restored or nothing changes. Once the restore
+     * commits, the second-level cache and the player name index of this instance are reloaded;
+     * other running instances keep serving cached data until they are restarted.
+     *
+     * @param in the stream to read the backup from; it is not closed
+     * @return the number of rows restored per table
+     * @throws IOException if the backup cannot be read or lacks a table
+     */
+    @Transactional(rollbackFor = IOException.class)
+    public Map<BackupTable, Long> restore(InputStream in) throws IOException {
+        Map<BackupTable, Long> rows = new EnumMap<>(BackupTable.class);
+        ZipInputStream zip = new ZipInputStream(in);
+        tableCopyRepository.truncateAll();
+        for (BackupTable table : BackupTable.values()) {
+            ZipEntry entry = zip.getNextEntry();
+            if (Objects.isNull(entry)
+                || !entry.getName().equals(table.getTable() + ENTRY_EXTENSION)) {
+                throw new IOException("Backup does not contain table " + table.getTable()
+                    + " in the expected position");
+            }
+            rows.put(table, tableCopyRepository.copyIn(table, zip));
+            if (table == BackupTable.SEASONS) {
+                seasonPartitionRepository.createAll();
+            }
+        }
+        for (BackupTable table : BackupTable.values()) {
+            tableCopyRepository.resetSequence(table);
+        }
+        playerStatSumsRepository.refreshAll();
+        teamStandingSnapshotRepository.refreshAll();
+        statsPercentileIndex.invalidateAll();
+        changeRepository.recordAll();
+        TransactionCallbacks.afterCommit(() -> {
+            entityManagerFactory.getCache().unwrap(Cache.class).evictAllRegions();
+            playerNameIndex.rebuild();
+        });
+        return rows;
+    }
+}
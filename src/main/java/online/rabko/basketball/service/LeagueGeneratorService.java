@@ -0,0 +1,108 @@
+package online.rabko.basketball.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import online.rabko.basketball.enums.BackupTable;
+import online.rabko.basketball.generator.LeagueGenerator;
+import online.rabko.basketball.generator.LeagueSpec;
+import online.rabko.basketball.repository.ChangeRepository;
+import online.rabko.basketball.repository.PlayerStatSumsRepository;
+import online.rabko.basketball.repository.SeasonPartitionRepository;
+import online.rabko.basketball.repository.TableCopyRepository;
+import online.rabko.basketball.repository.TeamStandingSnapshotRepository;
+import online.rabko.model.Change.OperationEnum;
+import online.rabko.model.Change.ResourceEnum;
+import org.hibernate.Cache;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Loads synthetic leagues built by {@link LeagueGenerator} into the database, so that indexes,
+ * partitions and caches can be tried out at production scale.
+ *
+ * <p>Generated rows are streamed into the existing league with binary {@code COPY} as they are
+ * generated, so memory stays flat however large the league; nearly all of the time goes to the
+ * database maintaining the indexes and foreign keys of the box scores. When the generated league
+ * is large next to the existing one, they can be deferred: the non-unique indexes and the foreign
+ * keys of {@code match_participants} are dropped before the copy and created again after it, so
+ * each is built or validated once over the whole table instead of row by row. The table is
+ * locked against reads until the load commits, so this mode is meant for a database not serving
+ * traffic. Either way, the copied tables are analyzed before the derived data is computed from
+ * them. Team and season names
+ * follow a fixed pattern, so generating into a database that already holds a generated league
+ * with overlapping names fails and changes nothing; new ids are taken from the highest existing
+ * ones, so nothing else should write to the league while a generated one is loaded.
+ */
+@Service
+@RequiredArgsConstructor
+public class LeagueGeneratorService {
+
+    private final TableCopyRepository tableCopyRepository;
+    private final SeasonPartitionRepository seasonPartitionRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private final PlayerNameIndex playerNameIndex;
+    private final ChangeRepository changeRepository;
+    private final PlayerStatSumsRepository playerStatSumsRepository;
+    private final StatsPercentileIndex statsPercentileIndex;
+    private final TeamStandingSnapshotRepository teamStandingSnapshotRepository;
+
+    /**
+     * Generates a league and appends it to the database, then creates the partitions of its
+     * seasons, moves the id sequences past the generated ids, computes the running totals of its
+     * players and the standings of its seasons, and reports every generated resource in the
+     * change feed. Either the whole league is loaded or nothing changes. Once it commits, the
+     * second-level cache and the player name index of this instance are reloaded.
+     *
+     * @param spec         the shape of the league
+     * @param deferIndexes whether to drop the secondary indexes and foreign keys of the box
+     *                     scores during the copy and create them again after it
+     * @return the number of rows inserted per table
+     */
+    @Transactional
+    public Map<BackupTable, Long> generate(LeagueSpec spec, boolean deferIndexes) {
+        Map<BackupTable, Integer> lastIds = new EnumMap<>(BackupTable.class);
+        for (BackupTable table : LeagueGenerator.TABLES) {
+            lastIds.put(table, tableCopyRepository.findMaxId(table));
+        }
+        LeagueGenerator generator = new LeagueGenerator(spec, lastIds);
+        List<String> deferred = deferIndexes
+            ? tableCopyRepository.dropIndexesAndForeignKeys(BackupTable.MATCH_PARTICIPANTS)
+            : List.of();
+        Map<BackupTable, Long> rows = new EnumMap<>(BackupTable.class);
+        for (BackupTable table : LeagueGenerator.TABLES) {
+            rows.put(table, tableCopyRepository.copyRows(table,
+                out -> generator.write(table, out)));
+            if (table == BackupTable.SEASONS) {
+                generator.getSeasonIds().forEach(seasonPartitionRepository::create);
+            }
+        }
+        tableCopyRepository.restore(deferred);
+        for (BackupTable table : LeagueGenerator.TABLES) {
+            tableCopyRepository.resetSequence(table);
+            tableCopyRepository.analyze(table);
+        }
+        LocalDate firstDate = generator.getFirstSeasonStart();
+        playerStatSumsRepository.refresh(generator.getPlayerIds().stream()
+            .collect(Collectors.toMap(Function.identity(), id -> firstDate)));
+        generator.getSeasonIds().forEach(teamStandingSnapshotRepository::refreshSeason);
+        statsPercentileIndex.invalidateAll();
+        changeRepository.record(ResourceEnum.TEAM, generator.getTeamIds(), OperationEnum.UPSERT);
+        changeRepository.record(ResourceEnum.SEASON, generator.getSeasonIds(),
+            OperationEnum.UPSERT);
+        changeRepository.record(ResourceEnum.PLAYER, generator.getPlayerIds(),
+            OperationEnum.UPSERT);
+        generator.getSeasonIds().forEach(seasonId ->
+            changeRepository.recordSeasonMatches(seasonId, OperationEnum.UPSERT));
+        TransactionCallbacks.afterCommit(() -> {
+            entityManagerFactory.getCache().unwrap(Cache.class).evictAllRegions();
+            playerNameIndex.rebuild();
+        });
+        return rows;
+    }
+}
@@ -0,0 +1,300 @@
+package online.rabko.basketball.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import online.rabko.basketball.dto.MatchFilter;
+import online.rabko.basketball.entity.MatchEntity;
+import online.rabko.basketball.entity.PlayerEntity;
+import online.rabko.basketball.entity.SeasonEntity;
+import online.rabko.basketball.entity.TeamEntity;
+import online.rabko.basketball.enums.MatchSort;
+import online.rabko.basketball.enums.SortOrder;
+import online.rabko.basketball.exception.BadRequestException;
+import online.rabko.basketball.exception.ConflictException;
+import online.rabko.basketball.exception.NotFoundException;
+import online.rabko.basketball.mapper.MatchMapper;
+import online.rabko.basketball.repository.BoxScoreWriteRepository;
+import online.rabko.basketball.repository.ChangeRepository;
+import online.rabko.basketball.repository.MatchReadRepository;
+import online.rabko.basketball.repository.MatchRepository;
+import online.rabko.basketball.repository.PlayerReadRepository;
+import online.rabko.basketball.repository.PlayerRepository;
+import online.rabko.basketball.repository.PlayerStatSumsRepository;
+import online.rabko.basketball.repository.SeasonArchiveRepository;
+import online.rabko.basketball.repository.SeasonRepository;
+import online.rabko.basketball.repository.StatsReadRepository;
+import online.rabko.basketball.repository.TeamRepository;
+import online.rabko.basketball.repository.TeamStandingSnapshotRepository;
+import online.rabko.model.Change.OperationEnum;
+import online.rabko.model.Change.ResourceEnum;
+import online.rabko.model.Match;
+import online.rabko.model.MatchDetail;
+import online.rabko.model.PlayerStats;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service for the Match entity and the per-player statistics recorded for each match.
+ */
+@Service
+@RequiredArgsConstructor
+public class MatchService {
+
+    private static final String RESOURCE = "Match";
+
+    private final MatchRepository matchRepository;
+    private final MatchReadRepository matchReadRepository;
+    private final BoxScoreWriteRepository boxScoreWriteRepository;
+    private final StatsReadRepository statsReadRepository;
+    private final SeasonRepository seasonRepository;
+    private final TeamRepository teamRepository;
+    private final PlayerRepository playerRepository;
+    private final PlayerReadRepository playerReadRepository;
+    private final SeasonArchiveRepository seasonArchiveRepository;
+    private final ChangeRepository changeRepository;
+    private final PlayerStatSumsRepository playerStatSumsRepository;
+    private final StatsPercentileIndex statsPercentileIndex;
+    private final TeamStandingSnapshotRepository teamStandingSnapshotRepository;
+
+    /**
+     * Returns the matches matching the filters. {@code null} filters are not applied.
+     *
+     * @param seasonId the season the matches belong to
+     * @param teamId   a team playing the matches, either at home or away
+     * @param dateFrom the earliest match date, inclusive
+     * @param dateTo   the latest match date, inclusive
+     * @param sort     the field to sort by, as accepted by {@link MatchSort#fromValue}
+     * @param order    the sort direction, as accepted by {@link SortOrder#fromValue}
+     * @return the matching matches in the requested order
+     * @throws BadRequestException if the date range is inverted or the sort field or direction is
+     *                             unknown
+     */
+    @Transactional(readOnly = true)
+    public List<Match> getAll(Integer seasonId, Integer teamId, LocalDate dateFrom,
+        LocalDate dateTo, String sort, String order) {
+        if (Objects.nonNull(dateFrom) && Objects.nonNull(dateTo) && dateFrom.isAfter(dateTo)) {
+            throw new BadRequestException("date_from must not be after date_to");
+        }
+        MatchSort matchSort = MatchSort.fromValue(sort)
+            .orElseThrow(() -> new BadRequestException("Unknown sort field " + sort));
+        SortOrder sortOrder = SortOrder.fromValue(order)
+            .orElseThrow(() -> new BadRequestException("Unknown sort order " + order));
+        return matchReadRepository.findAll(
+            new MatchFilter(seasonId, teamId, dateFrom, dateTo, matchSort, sortOrder));
+    }
+
+    /**
+     * Retrieves a match by its id.
+     *
+     * @param id the match id
+     * @return the match
+     * @throws NotFoundException if no match is found
+     */
+    @Transactional(readOnly = true)
+    public Match getById(Integer id) {
+        return MatchMapper.toDto(findEntity(id));
+    }
+
+    /**
+     * Assembles everything needed to render a match page: the match with its season and teams,
+     * the participating players and their box scores. Uses three queries regardless of the
+     * roster size.
+     *
+     * @param id the match id
+     * @return the match detail
+     * @throws NotFoundException if no match is found
+     */
+    @Transactional(readOnly = true)
+    public MatchDetail getDetail(Integer id) {
+        MatchDetail detail = matchReadRepository.findDetail(id)
+            .orElseThrow(() -> new NotFoundException(RESOURCE, id));
+        return detail
+            .players(playerReadRepository.findByMatchId(id))
+            .stats(statsReadRepository.findByMatchId(id));
+    }
+
+    /**
+     * Creates a new match. The id in the request is ignored, missing scores default to zero.
+     *
+     * @param match the match to create
+     * @return the created match
+     * @throws NotFoundException   if the season or one of the teams does not exist
+     * @throws ConflictException   if the home and away teams are the same or the season is
+     *                             archived
+     * @throws BadRequestException if the date lies outside the season
+     */
+    @Transactional
+    public Match create(Match match) {
+        MatchEntity entity = new MatchEntity();
+        apply(entity, match);
+        MatchEntity saved = matchRepository.saveAndFlush(entity);
+        teamStandingSnapshotRepository.refresh(saved.getSeason().getId(), saved.getDate());
+        changeRepository.record(ResourceEnum.MATCH, saved.getId(), OperationEnum.UPSERT);
+        return MatchMapper.toDto(saved);
+    }
+
+    /**
+     * Updates an existing match. The id in the request is ignored.
+     *
+     * @param id    the id of the match to update
+     * @param match the new match data
+     * @return the updated match
+     * @throws NotFoundException   if the match, the season or one of the teams does not exist
+     * @throws ConflictException   if the home and away teams are the same or the season is
+     *                             archived
+     * @throws BadRequestException if the date lies outside the season
+     */
+    @Transactional
+    public Match update(Integer id, Match match) {
+        MatchEntity entity = findEntity(id);
+        LocalDate date = entity.getDate();
+        Integer seasonId = entity.getSeason().getId();
+        apply(entity, match);
+        final LocalDate from = date.isBefore(entity.getDate()) ? date : entity.getDate();
+        final Integer newSeasonId = entity.getSeason().getId();
+        matchRepository.flush();
+        if (seasonId.equals(newSeasonId)) {
+            teamStandingSnapshotRepository.refresh(seasonId, from);
+        } else {
+            teamStandingSnapshotRepository.refresh(seasonId, date);
+            teamStandingSnapshotRepository.refresh(newSeasonId, entity.getDate());
+        }
+        if (!date.equals(entity.getDate()) || !seasonId.equals(newSeasonId)) {
+            playerStatSumsRepository.refresh(playerStatSumsRepository.findDatesByMatch(id)
+                .keySet().stream()
+                .collect(Collectors.toMap(Function.identity(), playerId -> from)));
+            statsPercentileIndex.invalidate(seasonId);
+            statsPercentileIndex.invalidate(newSeasonId);
+        }
+        changeRepository.record(ResourceEnum.MATCH, id, OperationEnum.UPSERT);
+        return MatchMapper.toDto(entity);
+    }
+
+    /**
+     * Deletes a match together with its statistics.
+     *
+     * @param id the id of the match to delete
+     * @throws NotFoundException if no match is found
+     */
+    @Transactional
+    public void delete(Integer id) {
+        MatchEntity entity = findEntity(id);
+        changeRepository.recordMatchBoxScores(entity.getSeason().getId(), id,
+            OperationEnum.DELETE);
+        Map<Integer, LocalDate> dates = playerStatSumsRepository.findDatesByMatch(id);
+        matchRepository.delete(entity);
+        matchRepository.flush();
+        playerStatSumsRepository.refresh(dates);
+        teamStandingSnapshotRepository.refresh(entity.getSeason().getId(), entity.getDate());
+        statsPercentileIndex.invalidate(entity.getSeason().getId());
+        changeRepository.record(ResourceEnum.MATCH, id, OperationEnum.DELETE);
+    }
+
+    /**
+     * Returns the statistics of every player who took part in a match.
+     *
+     * @param matchId the match id
+     * @return the players' statistics
+     * @throws NotFoundException if no match is found
+     */
+    @Transactional(readOnly = true)
+    public List<PlayerStats> getStats(Integer matchId) {
+        if (!matchRepository.existsById(matchId)) {
+            throw new NotFoundException(RESOURCE, matchId);
+        }
+        return statsReadRepository.findByMatchId(matchId);
+    }
+
+    /**
+     * Records the statistics of a player in a match, replacing any previously recorded ones.
+     *
+     * @param matchId     the match id
+     * @param playerStats the statistics to record; its id and match id are ignored
+     * @return the recorded statistics
+     * @throws NotFoundException   if the match, the player or the team does not exist
+     * @throws BadRequestException if the team did not play in the match
+     */
+    @Transactional
+    public PlayerStats saveStats(Integer matchId, PlayerStats playerStats) {
+        MatchEntity match = findEntity(matchId);
+        PlayerEntity player = findPlayer(playerStats.getPlayerId());
+        TeamEntity team = findParticipatingTeam(match, playerStats.getTeamId());
+        Integer seasonId = match.getSeason().getId();
+
+        Integer id = boxScoreWriteRepository.upsert(matchId, seasonId, player.getId(),
+            team.getId(), playerStats.getStats());
+        playerStatSumsRepository.refresh(Map.of(player.getId(), match.getDate()));
+        statsPercentileIndex.invalidate(seasonId);
+        changeRepository.record(ResourceEnum.BOX_SCORE, id, OperationEnum.UPSERT);
+        return new PlayerStats(id, matchId, player.getId(), team.getId(), playerStats.getStats());
+    }
+
+    /**
+     * Checks statistics of a player in a match the same way {@link #saveStats} does, without
+     * recording them.
+     *
+     * @param matchId     the match id
+     * @param playerStats the statistics to check; its id and match id are ignored
+     * @return the id of the season the match belongs to
+     * @throws NotFoundException   if the match, the player or the team does not exist
+     * @throws BadRequestException if the team did not play in the match
+     */
+    @Transactional(readOnly = true)
+    public Integer validateStats(Integer matchId, PlayerStats playerStats) {
+        MatchEntity match = findEntity(matchId);
+        findPlayer(playerStats.getPlayerId());
+        findParticipatingTeam(match, playerStats.getTeamId());
+        return match.getSeason().getId();
+    }
+
+    private PlayerEntity findPlayer(Integer playerId) {
+        return playerRepository.findById(playerId)
+            .orElseThrow(() -> new NotFoundException("Player", playerId));
+    }
+
+    private TeamEntity findParticipatingTeam(MatchEntity match, Integer teamId) {
+        TeamEntity team = findTeam(teamId);
+        if (!team.getId().equals(match.getHomeTeam().getId())
+            && !team.getId().equals(match.getAwayTeam().getId())) {
+            throw new BadRequestException(
+                "Team with id " + team.getId() + " did not play in match " + match.getId());
+        }
+        return team;
+    }
+
+    private MatchEntity findEntity(Integer id) {
+        return matchRepository.findById(id)
+            .orElseThrow(() -> new NotFoundException(RESOURCE, id));
+    }
+
+    private TeamEntity findTeam(Integer teamId) {
+        return teamRepository.findById(teamId)
+            .orElseThrow(() -> new NotFoundException("Team", teamId));
+    }
+
+    private void apply(MatchEntity entity, Match match) {
+        if (match.getHomeTeamId().equals(match.getAwayTeamId())) {
+            throw new ConflictException("Home and away team must be different");
+        }
+        SeasonEntity season = seasonRepository.findById(match.getSeasonId())
+            .orElseThrow(() -> new NotFoundException("Season", match.getSeasonId()));
+        if (match.getDate().isBefore(season.getStartDate())
+            || match.getDate().isAfter(season.getEndDate())) {
+            throw new BadRequestException("Match date must lie within season " + season.getId());
+        }
+        if (seasonArchiveRepository.exists(season.getId())) {
+            throw new ConflictException("Season with id " + season.getId() + " is archived");
+        }
+        entity.setSeason(season);
+        entity.setDate(match.getDate());
+        entity.setHomeTeam(findTeam(match.getHomeTeamId()));
+        entity.setAwayTeam(findTeam(match.getAwayTeamId()));
+        entity.setHomeTeamScore(Objects.requireNonNullElse(match.getHomeTeamScore(), 0));
+        entity.setAwayTeamScore(Objects.requireNonNullElse(match.getAwayTeamScore(), 0));
+    }
+}
@@ -0,0 +1,187 @@
+package online.rabko.basketball.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import online.rabko.basketball.repository.PlayerReadRepository;
+import online.rabko.model.Player;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory prefix index over normalized player names used for typeahead.
+ *
+ * <p>Every player is indexed under its first name, last name and full name, lower-cased and with
+ * diacritics removed, in a sorted skip list so that a prefix lookup is a single range scan. The
+ * index is loaded when the application starts, updated incrementally after the transaction that
+ * changed a player commits, and rebuilt periodically to pick up changes made by other instances.
+ * Changes applied while a rebuild is loading players are also logged, and replayed onto the
+ * rebuilt index before it replaces the current one, so that the load does not undo them.
+ * Writers take a {@link ReentrantLock} rather than a monitor, so a virtual thread waiting for it
+ * releases its carrier.
+ */
+@Component
+@RequiredArgsConstructor
+public class PlayerNameIndex {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final char ID_SEPARATOR = '\u0000';
+    private static final char MAX_CHAR = Character.MAX_VALUE;
+
+    private final PlayerReadRepository playerReadRepository;
+
+    private final ReentrantLock keysLock = new ReentrantLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private Map<Integer, Set<String>> keysByPlayer = new HashMap<>();
+    private List<Change> pending;
+    private volatile ConcurrentNavigableMap<String, Player> entries = new ConcurrentSkipListMap<>();
+
+    /**
+     * Normalizes a name or prefix for matching: lower case, no diacritics, single spaces.
+     *
+     * @param text the text to normalize
+     * @return the normalized text
+     */
+    public static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String stripped = DIACRITICS.matcher(decomposed).replaceAll("");
+        return WHITESPACE.matcher(stripped.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Reloads the whole index from the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${search.typeahead.rebuild-interval:PT10M}",
+        initialDelayString = "${search.typeahead.rebuild-interval:PT10M}")
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            logChanges(new ArrayList<>());
+            ConcurrentNavigableMap<String, Player> rebuilt = new ConcurrentSkipListMap<>();
+            Map<Integer, Set<String>> keys = new HashMap<>();
+            for (Player player : playerReadRepository.findAll()) {
+                apply(rebuilt, keys, Change.put(player));
+            }
+            keysLock.lock();
+            try {
+                pending.forEach(change -> apply(rebuilt, keys, change));
+                entries = rebuilt;
+                keysByPlayer = keys;
+            } finally {
+                keysLock.unlock();
+            }
+        } finally {
+            logChanges(null);
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the players with a first name, last name or full name starting with the prefix.
+     *
+     * @param prefix the beginning of the name, matched ignoring case and diacritics
+     * @param limit  the maximum number of players to return
+     * @return the matching players ordered by the matched name
+     */
+    public List<Player> suggest(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        Map<Integer, Player> matches = new LinkedHashMap<>();
+        for (Player player : entries.subMap(normalized, true, normalized + MAX_CHAR, true)
+            .values()) {
+            matches.putIfAbsent(player.getId(), player);
+            if (matches.size() == limit) {
+                break;
+            }
+        }
+        return List.copyOf(matches.values());
+    }
+
+    /**
+     * Adds or replaces a player once the current transaction commits, or immediately when no
+     * transaction is active.
+     *
+     * @param player the saved player
+     */
+    public void put(Player player) {
+        TransactionCallbacks.afterCommit(() -> update(Change.put(player)));
+    }
+
+    /**
+     * Removes a player once the current transaction commits, or immediately when no transaction
+     * is active.
+     *
+     * @param id the id of the deleted player
+     */
+    public void remove(Integer id) {
+        TransactionCallbacks.afterCommit(() -> update(new Change(id, null, Set.of())));
+    }
+
+    private void update(Change change) {
+        keysLock.lock();
+        try {
+            apply(entries, keysByPlayer, change);
+            if (Objects.nonNull(pending)) {
+                pending.add(change);
+            }
+        } finally {
+            keysLock.unlock();
+        }
+    }
+
+    private void logChanges(List<Change> log) {
+        keysLock.lock();
+        try {
+            pending = log;
+        } finally {
+            keysLock.unlock();
+        }
+    }
+
+    private static void apply(Map<String, Player> entries, Map<Integer, Set<String>> keysByPlayer,
+        Change change) {
+        Set<String> previous = keysByPlayer.remove(change.id());
+        if (Objects.nonNull(previous)) {
+            previous.forEach(entries::remove);
+        }
+        if (Objects.nonNull(change.player())) {
+            change.keys().forEach(key -> entries.put(key, change.player()));
+            keysByPlayer.put(change.id(), change.keys());
+        }
+    }
+
+    private static Set<String> keysOf(Player player) {
+        String suffix = ID_SEPARATOR + player.getId().toString();
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(normalize(player.getFirstName()) + suffix);
+        keys.add(normalize(player.getLastName()) + suffix);
+        keys.add(normalize(player.getFirstName() + " " + player.getLastName()) + suffix);
+        return keys;
+    }
+
+    /**
+     * A player added or replaced, or removed when {@code player} is {@code null}, with the keys
+     * it is indexed under.
+     */
+    private record Change(Integer id, Player player, Set<String> keys) {
+
+        static Change put(Player player) {
+            return new Change(player.getId(), player, keysOf(player));
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package online.rabko.basketball.service;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import online.rabko.basketball.dto.PlayerFilter;
+import online.rabko.basketball.entity.PlayerEntity;
+import online.rabko.basketball.entity.TeamEntity;
+import online.rabko.basketball.enums.PlayerSort;
+import online.rabko.basketball.enums.SortOrder;
+import online.rabko.basketball.exception.BadRequestException;
+import online.rabko.basketball.exception.ConflictException;
+import online.rabko.basketball.exception.NotFoundException;
+import online.rabko.basketball.mapper.PlayerMapper;
+import online.rabko.basketball.repository.ChangeRepository;
+import online.rabko.basketball.repository.MatchParticipantRepository;
+import online.rabko.basketball.repository.PlayerReadRepository;
+import online.rabko.basketball.repository.PlayerRepository;
+import online.rabko.basketball.repository.TeamRepository;
+import online.rabko.model.Change.OperationEnum;
+import online.rabko.model.Change.ResourceEnum;
+import online.rabko.model.Player;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service for the Player entity.
+ */
+@Service
+@RequiredArgsConstructor
+public class PlayerService {
+
+    /**
+     * Maximum number of ids accepted by {@link #getByIds(List)}.
+     */
+    public static final int MAX_IDS = 100;
+
+    /**
+     * Maximum number of players returned by {@link #search} and {@link #suggest}.
+     */
+    public static final int MAX_SEARCH_RESULTS = 50;
+
+    private static final String RESOURCE = "Player";
+
+    private final PlayerRepository playerRepository;
+    private final PlayerReadRepository playerReadRepository;
+    private final TeamRepository teamRepository;
+    private final MatchParticipantRepository matchParticipantRepository;
+    private final PlayerNameIndex playerNameIndex;
+    private final ChangeRepository changeRepository;
+
+    /**
+     * Returns the players matching the filters. {@code null} filters are not applied.
+     *
+     * @param teamId   the team the players belong to
+     * @param position the position the players play
+     * @param sort     the field to sort by, as accepted by {@link PlayerSort#fromValue}
+     * @param order    the sort direction, as accepted by {@link SortOrder#fromValue}
+     * @return the matching players in the requested order
+     * @throws BadRequestException if the sort field or direction is unknown
+     */
+    @Transactional(readOnly = true)
+    public List<Player> getAll(Integer teamId, String position, String sort, String order) {
+        PlayerSort playerSort = PlayerSort.fromValue(sort)
+            .orElseThrow(() -> new BadRequestException("Unknown sort field " + sort));
+        SortOrder sortOrder = SortOrder.fromValue(order)
+            .orElseThrow(() -> new BadRequestException("Unknown sort order " + order));
+        return playerReadRepository.findAll(
+            new PlayerFilter(teamId, position, playerSort, sortOrder));
+    }
+
+    /**
+     * Returns the players with the given ids in a single query. Ids without a player are skipped.
+     *
+     * @param ids the player ids
+     * @return the matching players ordered by id
+     * @throws BadRequestException if more than {@link #MAX_IDS} ids are requested
+     */
+    @Transactional(readOnly = true)
+    public List<Player> getByIds(List<Integer> ids) {
+        if (ids.size() > MAX_IDS) {
+            throw new BadRequestException("At most " + MAX_IDS + " ids can be requested at once");
+        }
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return playerReadRepository.findByIds(ids);
+    }
+
+    /**
+     * Fuzzy searches players by full name or team name.
+     *
+     * @param query the search text
+     * @param limit the maximum number of players to return
+     * @return the matching players, most similar first
+     * @throws BadRequestException if the query is blank or the limit is out of range
+     */
+    @Transactional(readOnly = true)
+    public List<Player> search(String query, int limit) {
+        validateSearch(query, limit);
+        return playerReadRepository.search(query.trim().toLowerCase(Locale.ROOT), limit);
+    }
+
+    /**
+     * Suggests players whose first name, last name or full name starts with the prefix. Served
+     * from the in-memory {@link PlayerNameIndex} without touching the database.
+     *
+     * @param prefix the beginning of the name typed so far
+     * @param limit  the maximum number of players to return
+     * @return the matching players ordered by the matched name
+     * @throws BadRequestException if the prefix is blank or the limit is out of range
+     */
+    public List<Player> suggest(String prefix, int limit) {
+        validateSearch(prefix, limit);
+        return playerNameIndex.suggest(prefix, limit);
+    }
+
+    /**
+     * Retrieves a player by its id.
+     *
+     * @param id the player id
+     * @return the player
+     * @throws NotFoundException if no player is found
+     */
+    @Transactional(readOnly = true)
+    public Player getById(Integer id) {
+        return PlayerMapper.toDto(findEntity(id));
+    }
+
+    /**
+     * Creates a new player. The id in the request is ignored.
+     *
+     * @param player the player to create
+     * @return the created player
+     * @throws NotFoundException if the referenced team does not exist
+     */
+    @Transactional
+    public Player create(Player player) {
+        PlayerEntity entity = new PlayerEntity();
+        apply(entity, player);
+        Player created = PlayerMapper.toDto(playerRepository.save(entity));
+        changeRepository.record(ResourceEnum.PLAYER, created.getId(), OperationEnum.UPSERT);
+        playerNameIndex.put(created);
+        return created;
+    }
+
+    /**
+     * Updates an existing player. The id in the request is ignored.
+     *
+     * @param id     the id of the player to update
+     * @param player the new player data
+     * @return the updated player
+     * @throws NotFoundException if the player or the referenced team does not exist
+     */
+    @Transactional
+    public Player update(Integer id, Player player) {
+        PlayerEntity entity = findEntity(id);
+        apply(entity, player);
+        Player updated = PlayerMapper.toDto(entity);
+        changeRepository.record(ResourceEnum.PLAYER, id, OperationEnum.UPSERT);
+        playerNameIndex.put(updated);
+        return updated;
+    }
+
+    /**
+     * Deletes a player that has no recorded statistics.
+     *
+     * @param id the id of the player to delete
+     * @throws NotFoundException if no player is found
+     * @throws ConflictException if statistics are recorded for the player
+     */
+    @Transactional
+    public void delete(Integer id) {
+        PlayerEntity entity = findEntity(id);
+        if (matchParticipantRepository.existsByPlayerId(id)) {
+            throw new ConflictException("Player with id " + id + " has recorded statistics");
+        }
+        playerRepository.delete(entity);
+        changeRepository.record(ResourceEnum.PLAYER, id, OperationEnum.DELETE);
+        playerNameIndex.remove(id);
+    }
+
+    private static void validateSearch(String text, int limit) {
+        if (Objects.isNull(text) || text.isBlank()) {
+            throw new BadRequestException("Search text must not be blank");
+        }
+        if (limit < 1 || limit > MAX_SEARCH_RESULTS) {
+            throw new BadRequestException(
+                "Limit must be between 1 and " + MAX_SEARCH_RESULTS);
+        }
+    }
+
+    private PlayerEntity findEntity(Integer id) {
+        return playerRepository.findById(id)
+            .orElseThrow(() -> new NotFoundException(RESOURCE, id));
+    }
+
+    private void apply(PlayerEntity entity, Player player) {
+        entity.setTeam(findTeam(player.getTeamId()));
+        entity.setFirstName(player.getFirstName());
+        entity.setLastName(player.getLastName());
+        entity.setPosition(player.getPosition());
+        entity.setAge(player.getAge());
+        entity.setHeight(player.getHeight());
+        entity.setWeight(player.getWeight());
+    }
+
+    private TeamEntity findTeam(Integer teamId) {
+        if (Objects.isNull(teamId)) {
+            return null;
+        }
+        return teamRepository.findById(teamId)
+            .orElseThrow(() -> new NotFoundException("Team", teamId));
+    }
+}
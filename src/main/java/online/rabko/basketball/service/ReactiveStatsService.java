@@ -0,0 +1,218 @@
+package online.rabko.basketball.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import lombok.RequiredArgsConstructor;
+import online.rabko.basketball.enums.PlayerStatsMetric;
+import online.rabko.basketball.exception.BadRequestException;
+import online.rabko.basketball.exception.NotFoundException;
+import online.rabko.basketball.repository.ReactiveStatsReadRepository;
+import online.rabko.basketball.repository.SeasonArchiveRepository;
+import online.rabko.model.Match;
+import online.rabko.model.PlayerPercentiles;
+import online.rabko.model.PlayerStats;
+import online.rabko.model.PlayerStatsSummary;
+import online.rabko.model.StatDistribution;
+import online.rabko.model.TeamStats;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Non-blocking counterpart of {@link StatsService}, available when
+ * {@code stats.reactive.enabled} is set.
+ *
+ * <p>Box scores, rolling and career totals, leaderboards, team tables and the highest scoring
+ * matches of the seasons still in the database are read over R2DBC, so no thread waits for the
+ * database while they run. The following are delegated to {@link StatsService} on the bounded
+ * elastic scheduler, which keeps their blocking calls off the threads serving requests but holds
+ * one of its threads while they run:
+ * <ul>
+ *   <li>{@link #getPercentiles} and {@link #getDistribution}, which read the quantile sketches of
+ *   {@link StatsPercentileIndex};</li>
+ *   <li>{@link #getTeamsByAveragePoints} and {@link #getTeamsByWinRate} with a date, which read
+ *   team standing snapshots;</li>
+ *   <li>{@link #getLeaders}, the team tables and {@link #getHighestScoringMatches} of archived
+ *   seasons, which read the season archives; looking up whether a season is archived is itself a
+ *   blocking call on the same scheduler;</li>
+ *   <li>{@link #delete}, which runs in a JDBC transaction.</li>
+ * </ul>
+ */
+@Service
+@ConditionalOnProperty(prefix = "stats.reactive", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReactiveStatsService {
+
+    private static final String RESOURCE = "Player statistics";
+
+    private final ReactiveStatsReadRepository reactiveStatsReadRepository;
+    private final SeasonArchiveRepository seasonArchiveRepository;
+    private final StatsService statsService;
+
+    /**
+     * Retrieves a player statistics record by its id.
+     *
+     * @param id the statistics record id
+     * @return the player statistics, or a {@link NotFoundException} if no record is found
+     */
+    public Mono<PlayerStats> getById(Integer id) {
+        return reactiveStatsReadRepository.findById(id)
+            .switchIfEmpty(Mono.error(() -> new NotFoundException(RESOURCE, id)));
+    }
+
+    /**
+     * Deletes a player statistics record.
+     *
+     * @param id the statistics record id
+     * @return a Mono that completes once the record is deleted, or a {@link NotFoundException} if
+     *     no record is found
+     * @see StatsService#delete
+     */
+    public Mono<Void> delete(Integer id) {
+        return Mono.fromRunnable(() -> statsService.delete(id))
+            .subscribeOn(Schedulers.boundedElastic())
+            .then();
+    }
+
+    /**
+     * Returns the totals and per-game averages of a player's most recent games.
+     *
+     * @param playerId the player id
+     * @param games    the number of games to cover
+     * @param asOf     the date to count back from, or {@code null} for the latest game
+     * @return the totals and averages, a {@link BadRequestException} if fewer than one game is
+     *     requested, or a {@link NotFoundException} if no player is found
+     * @see StatsService#getRolling
+     */
+    public Mono<PlayerStatsSummary> getRolling(Integer playerId, Integer games, LocalDate asOf) {
+        if (games < 1) {
+            return Mono.error(new BadRequestException("games must be at least 1"));
+        }
+        return assertPlayerExists(playerId)
+            .then(reactiveStatsReadRepository.findLastGames(playerId, games, asOf));
+    }
+
+    /**
+     * Returns the totals and per-game averages of a player's whole career or of one season.
+     *
+     * @param playerId the player id
+     * @param seasonId the season to restrict the totals to, or {@code null} for the whole career
+     * @param asOf     the last match date to include, or {@code null} for all games
+     * @return the totals and averages, or a {@link NotFoundException} if no player is found
+     * @see StatsService#getCareer
+     */
+    public Mono<PlayerStatsSummary> getCareer(Integer playerId, Integer seasonId,
+        LocalDate asOf) {
+        return assertPlayerExists(playerId)
+            .then(Objects.isNull(seasonId)
+                ? reactiveStatsReadRepository.findCareer(playerId, asOf)
+                : reactiveStatsReadRepository.findSeason(playerId, seasonId, asOf));
+    }
+
+    /**
+     * Ranks a player's per-game points and shooting percentages against every player's.
+     *
+     * @param playerId the player id
+     * @param seasonId the season to rank the player in, or {@code null} for the whole league
+     *                 history
+     * @return one percentile rank per metric the player has a value for
+     * @see StatsService#getPercentiles
+     */
+    public Mono<PlayerPercentiles> getPercentiles(Integer playerId, Integer seasonId) {
+        return blocking(() -> statsService.getPercentiles(playerId, seasonId));
+    }
+
+    /**
+     * Returns the estimated quantiles of a per-player metric.
+     *
+     * @param metric   the metric
+     * @param seasonId the season to describe, or {@code null} for all player seasons
+     * @return the distribution
+     * @see StatsService#getDistribution
+     */
+    public Mono<StatDistribution> getDistribution(String metric, Integer seasonId) {
+        return blocking(() -> statsService.getDistribution(metric, seasonId));
+    }
+
+    /**
+     * Returns the best single-match performances for a metric.
+     *
+     * @param metric   the metric to rank by
+     * @param seasonId the season to restrict the ranking to, or {@code null} for all seasons
+     * @param asOf     the last match date to include, or {@code null} for all matches
+     * @return at most {@link StatsService#LEADERBOARD_SIZE} box scores, best first
+     */
+    public Mono<List<PlayerStats>> getLeaders(PlayerStatsMetric metric, Integer seasonId,
+        LocalDate asOf) {
+        return isArchived(seasonId).flatMap(archived -> archived
+            ? blocking(() -> statsService.getLeaders(metric, seasonId, asOf))
+            : reactiveStatsReadRepository
+                .findLeaders(metric, seasonId, asOf, StatsService.LEADERBOARD_SIZE)
+                .collectList());
+    }
+
+    /**
+     * Returns the teams ordered by average points per match.
+     *
+     * @param seasonId the season to aggregate, or {@code null} for all seasons
+     * @param asOf     the last match date to include, or {@code null} for all matches
+     * @return the team statistics, highest average first
+     */
+    public Mono<List<TeamStats>> getTeamsByAveragePoints(Integer seasonId, LocalDate asOf) {
+        return readsSnapshots(seasonId, asOf).flatMap(snapshots -> snapshots
+            ? blocking(() -> statsService.getTeamsByAveragePoints(seasonId, asOf))
+            : reactiveStatsReadRepository.findTeamsByAveragePoints(seasonId).collectList());
+    }
+
+    /**
+     * Returns the teams ordered by win rate.
+     *
+     * @param seasonId the season to aggregate, or {@code null} for all seasons
+     * @param asOf     the last match date to include, or {@code null} for all matches
+     * @return the team statistics, highest win rate first
+     */
+    public Mono<List<TeamStats>> getTeamsByWinRate(Integer seasonId, LocalDate asOf) {
+        return readsSnapshots(seasonId, asOf).flatMap(snapshots -> snapshots
+            ? blocking(() -> statsService.getTeamsByWinRate(seasonId, asOf))
+            : reactiveStatsReadRepository.findTeamsByWinRate(seasonId).collectList());
+    }
+
+    /**
+     * Returns the matches with the highest combined score.
+     *
+     * @param seasonId the season to restrict the search to, or {@code null} for all seasons
+     * @return at most {@link StatsService#LEADERBOARD_SIZE} matches, highest scoring first
+     */
+    public Mono<List<Match>> getHighestScoringMatches(Integer seasonId) {
+        return isArchived(seasonId).flatMap(archived -> archived
+            ? blocking(() -> statsService.getHighestScoringMatches(seasonId))
+            : reactiveStatsReadRepository
+                .findHighestScoring(seasonId, StatsService.LEADERBOARD_SIZE)
+                .collectList());
+    }
+
+    private Mono<Void> assertPlayerExists(Integer playerId) {
+        return reactiveStatsReadRepository.existsPlayer(playerId)
+            .filter(Boolean::booleanValue)
+            .switchIfEmpty(Mono.error(() -> new NotFoundException("Player", playerId)))
+            .then();
+    }
+
+    private Mono<Boolean> readsSnapshots(Integer seasonId, LocalDate asOf) {
+        return Objects.nonNull(asOf) ? Mono.just(true) : isArchived(seasonId);
+    }
+
+    private Mono<Boolean> isArchived(Integer seasonId) {
+        if (Objects.isNull(seasonId)) {
+            return Mono.just(false);
+        }
+        return blocking(() -> seasonArchiveRepository.exists(seasonId));
+    }
+
+    private static <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+}
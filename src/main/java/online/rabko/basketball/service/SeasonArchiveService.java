@@ -0,0 +1,138 @@
+package online.rabko.basketball.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import lombok.RequiredArgsConstructor;
+import online.rabko.basketball.archive.SeasonArchive;
+import online.rabko.basketball.archive.SeasonArchiveWriter;
+import online.rabko.basketball.dto.MatchFilter;
+import online.rabko.basketball.enums.MatchSort;
+import online.rabko.basketball.enums.SortOrder;
+import online.rabko.basketball.exception.BadRequestException;
+import online.rabko.basketball.exception.ConflictException;
+import online.rabko.basketball.exception.NotFoundException;
+import online.rabko.basketball.mapper.SeasonMapper;
+import online.rabko.basketball.repository.ChangeRepository;
+import online.rabko.basketball.repository.MatchReadRepository;
+import online.rabko.basketball.repository.PlayerStatSumsRepository;
+import online.rabko.basketball.repository.SeasonArchiveRepository;
+import online.rabko.basketball.repository.SeasonImportRepository;
+import online.rabko.basketball.repository.SeasonPartitionRepository;
+import online.rabko.basketball.repository.SeasonRepository;
+import online.rabko.basketball.repository.StatsReadRepository;
+import online.rabko.basketball.repository.TeamRepository;
+import online.rabko.basketball.repository.TeamStandingSnapshotRepository;
+import online.rabko.model.Change.OperationEnum;
+import online.rabko.model.Match;
+import online.rabko.model.Season;
+import online.rabko.model.SeasonArchiveInfo;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Moves finished seasons between the database and season archives.
+ *
+ * <p>Archiving writes the matches and box scores of a season to an archive file and then
+ * replaces the season's partitions with empty ones, which frees the space in one step instead of
+ * deleting row by row. Restoring inserts the archived rows back and deletes the file. Both keep
+ * the file and the database consistent: the file written by a failed archive is removed, and the
+ * file of a restored season is only removed once the restored rows are committed.
+ */
+@Service
+@RequiredArgsConstructor
+public class SeasonArchiveService {
+
+    private final SeasonRepository seasonRepository;
+    private final MatchReadRepository matchReadRepository;
+    private final StatsReadRepository statsReadRepository;
+    private final TeamRepository teamRepository;
+    private final SeasonPartitionRepository seasonPartitionRepository;
+    private final SeasonImportRepository seasonImportRepository;
+    private final SeasonArchiveRepository seasonArchiveRepository;
+    private final ChangeRepository changeRepository;
+    private final PlayerStatSumsRepository playerStatSumsRepository;
+    private final StatsPercentileIndex statsPercentileIndex;
+    private final TeamStandingSnapshotRepository teamStandingSnapshotRepository;
+
+    /**
+     * Archives a season that has ended and removes its matches and box scores from the database.
+     *
+     * @param id the season id
+     * @return a summary of the written archive
+     * @throws NotFoundException   if no season is found
+     * @throws BadRequestException if the season has not ended yet
+     * @throws ConflictException   if the season is already archived
+     */
+    @Transactional
+    public SeasonArchiveInfo archive(Integer id) {
+        Season season = seasonRepository.findById(id)
+            .map(SeasonMapper::toDto)
+            .orElseThrow(() -> new NotFoundException("Season", id));
+        if (!season.getEndDate().isBefore(LocalDate.now())) {
+            throw new BadRequestException("Season with id " + id + " has not ended yet");
+        }
+        if (seasonArchiveRepository.exists(id)) {
+            throw new ConflictException("Season with id " + id + " is already archived");
+        }
+        seasonPartitionRepository.lock(id);
+
+        SeasonArchiveWriter writer = new SeasonArchiveWriter(season);
+        List<Match> matches = matchReadRepository.findAll(
+            new MatchFilter(id, null, null, null, MatchSort.ID, SortOrder.ASC));
+        TreeSet<Integer> teamIds = new TreeSet<>();
+        for (Match match : matches) {
+            writer.addMatch(match);
+            teamIds.add(match.getHomeTeamId());
+            teamIds.add(match.getAwayTeamId());
+        }
+        teamRepository.findTeamsByIds(teamIds).forEach(writer::addTeam);
+        statsReadRepository.forEachInSeason(id, writer::addBoxScore);
+
+        final SeasonArchive archive = seasonArchiveRepository.save(writer);
+        TransactionCallbacks.onRollback(() -> seasonArchiveRepository.delete(id));
+        changeRepository.recordSeasonMatches(id, OperationEnum.DELETE);
+        final Map<Integer, LocalDate> dates = playerStatSumsRepository.findDatesBySeason(id);
+        seasonPartitionRepository.drop(id);
+        seasonPartitionRepository.create(id);
+        playerStatSumsRepository.refresh(dates);
+        teamStandingSnapshotRepository.refreshSeason(id);
+        statsPercentileIndex.invalidate(id);
+        return info(archive);
+    }
+
+    /**
+     * Loads an archived season back into the database and deletes its archive.
+     *
+     * @param id the season id
+     * @return a summary of the restored archive
+     * @throws NotFoundException if the season is not archived
+     * @throws ConflictException if the archived rows clash with the database, for example because
+     *                           a team or player they refer to has been deleted
+     */
+    @Transactional
+    public SeasonArchiveInfo restore(Integer id) {
+        final SeasonArchive archive = seasonArchiveRepository.find(id)
+            .orElseThrow(() -> new NotFoundException("Season archive", id));
+        try {
+            seasonImportRepository.insertMatches(archive.getMatches());
+            seasonImportRepository.insertBoxScores(id, archive.getBoxScores());
+        } catch (DataIntegrityViolationException e) {
+            throw new ConflictException(
+                "Archive of season with id " + id + " conflicts with the database");
+        }
+        playerStatSumsRepository.refresh(playerStatSumsRepository.findDatesBySeason(id));
+        teamStandingSnapshotRepository.refreshSeason(id);
+        statsPercentileIndex.invalidate(id);
+        changeRepository.recordSeasonMatches(id, OperationEnum.UPSERT);
+        TransactionCallbacks.afterCommit(() -> seasonArchiveRepository.delete(id));
+        return info(archive);
+    }
+
+    private static SeasonArchiveInfo info(SeasonArchive archive) {
+        return new SeasonArchiveInfo(archive.getSeason().getId(), archive.getMatchCount(),
+            archive.getBoxScoreCount(), archive.getSize());
+    }
+}
@@ -0,0 +1,146 @@
+package online.rabko.basketball.service;
+
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import online.rabko.basketball.entity.SeasonEntity;
+import online.rabko.basketball.exception.BadRequestException;
+import online.rabko.basketball.exception.ConflictException;
+import online.rabko.basketball.exception.NotFoundException;
+import online.rabko.basketball.mapper.SeasonMapper;
+import online.rabko.basketball.repository.ChangeRepository;
+import online.rabko.basketball.repository.MatchRepository;
+import online.rabko.basketball.repository.SeasonArchiveRepository;
+import online.rabko.basketball.repository.SeasonPartitionRepository;
+import online.rabko.basketball.repository.SeasonRepository;
+import online.rabko.model.Change.OperationEnum;
+import online.rabko.model.Change.ResourceEnum;
+import online.rabko.model.Season;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service for the Season entity.
+ */
+@Service
+@RequiredArgsConstructor
+public class SeasonService {
+
+    private static final String RESOURCE = "Season";
+
+    /**
+     * Id that never belongs to a stored season, used when checking overlaps for a new season.
+     */
+    private static final int UNSAVED_ID = 0;
+
+    private final SeasonRepository seasonRepository;
+    private final MatchRepository matchRepository;
+    private final SeasonPartitionRepository seasonPartitionRepository;
+    private final SeasonArchiveRepository seasonArchiveRepository;
+    private final ChangeRepository changeRepository;
+
+    /**
+     * Returns all seasons.
+     *
+     * @return the list of seasons ordered by start date
+     */
+    @Transactional(readOnly = true)
+    public List<Season> getAll() {
+        return seasonRepository.findAllSeasons();
+    }
+
+    /**
+     * Retrieves a season by its id.
+     *
+     * @param id the season id
+     * @return the season
+     * @throws NotFoundException if no season is found
+     */
+    @Transactional(readOnly = true)
+    public Season getById(Integer id) {
+        return SeasonMapper.toDto(findEntity(id));
+    }
+
+    /**
+     * Creates a new season together with its partitions of the match tables. The id in the
+     * request is ignored.
+     *
+     * @param season the season to create
+     * @return the created season
+     * @throws BadRequestException if the season ends before it starts
+     * @throws ConflictException   if the name is taken or the dates overlap another season
+     */
+    @Transactional
+    public Season create(Season season) {
+        SeasonEntity entity = new SeasonEntity();
+        apply(entity, season);
+        SeasonEntity saved = seasonRepository.save(entity);
+        seasonPartitionRepository.create(saved.getId());
+        changeRepository.record(ResourceEnum.SEASON, saved.getId(), OperationEnum.UPSERT);
+        return SeasonMapper.toDto(saved);
+    }
+
+    /**
+     * Updates an existing season. The id in the request is ignored.
+     *
+     * @param id     the id of the season to update
+     * @param season the new season data
+     * @return the updated season
+     * @throws NotFoundException   if no season is found
+     * @throws BadRequestException if the season ends before it starts
+     * @throws ConflictException   if the name is taken or the dates overlap another season
+     */
+    @Transactional
+    public Season update(Integer id, Season season) {
+        SeasonEntity entity = findEntity(id);
+        apply(entity, season);
+        changeRepository.record(ResourceEnum.SEASON, id, OperationEnum.UPSERT);
+        return SeasonMapper.toDto(entity);
+    }
+
+    /**
+     * Deletes a season that has no matches, dropping its empty partitions of the match tables.
+     *
+     * @param id the id of the season to delete
+     * @throws NotFoundException if no season is found
+     * @throws ConflictException if the season has matches or is archived
+     */
+    @Transactional
+    public void delete(Integer id) {
+        SeasonEntity entity = findEntity(id);
+        if (matchRepository.existsBySeasonId(id)) {
+            throw new ConflictException("Season with id " + id + " has matches");
+        }
+        if (seasonArchiveRepository.exists(id)) {
+            throw new ConflictException("Season with id " + id + " is archived");
+        }
+        seasonRepository.delete(entity);
+        seasonPartitionRepository.drop(id);
+        changeRepository.record(ResourceEnum.SEASON, id, OperationEnum.DELETE);
+    }
+
+    private SeasonEntity findEntity(Integer id) {
+        return seasonRepository.findById(id)
+            .orElseThrow(() -> new NotFoundException(RESOURCE, id));
+    }
+
+    private void apply(SeasonEntity entity, Season season) {
+        if (season.getEndDate().isBefore(season.getStartDate())) {
+            throw new BadRequestException("Season end date must not be before its start date");
+        }
+        int id = Objects.requireNonNullElse(entity.getId(), UNSAVED_ID);
+        seasonRepository.findBySimpleNaturalId(season.getName())
+            .filter(existing -> existing.getId() != id)
+            .ifPresent(existing -> {
+                throw new ConflictException(
+                    "Season with name '" + season.getName() + "' already exists");
+            });
+        if (seasonRepository.existsByStartDateLessThanEqualAndEndDateGreaterThanEqualAndIdNot(
+            season.getEndDate(), season.getStartDate(), id)) {
+            throw new ConflictException("Season dates overlap another season");
+        }
+        entity.setName(season.getName());
+        entity.setStartDate(season.getStartDate());
+        entity.setEndDate(season.getEndDate());
+    }
+}
@@ -0,0 +1,141 @@
+package online.rabko.basketball.service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import online.rabko.basketball.enums.PercentileMetric;
+import online.rabko.basketball.repository.SeasonRepository;
+import online.rabko.basketball.repository.StatsReadRepository;
+import online.rabko.basketball.sketch.KllSketch;
+import online.rabko.model.Season;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory quantile sketches of the per-player metrics, used to answer percentile ranks and
+ * distributions without sorting every player.
+ *
+ * <p>Every season has one {@link KllSketch} per {@link PercentileMetric}, fed the value of each
+ * player who played in the season. The sketches across all seasons are merged from the season
+ * sketches on demand and kept until a season changes. When box scores or matches change, the
+ * affected seasons are marked stale after the transaction commits, and their sketches are built
+ * again from their own partition the next time they are read. All sketches are rebuilt
+ * periodically to pick up changes made by other instances.
+ */
+@Component
+@RequiredArgsConstructor
+public class StatsPercentileIndex {
+
+    private final SeasonRepository seasonRepository;
+    private final StatsReadRepository statsReadRepository;
+
+    private final Map<Integer, Map<PercentileMetric, KllSketch>> seasons =
+        new ConcurrentHashMap<>();
+    private final Set<Integer> stale = ConcurrentHashMap.newKeySet();
+    private final AtomicLong version = new AtomicLong();
+    private volatile League league;
+
+    /**
+     * Rebuilds the sketches of every season from the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${stats.percentiles.rebuild-interval:PT10M}",
+        initialDelayString = "${stats.percentiles.rebuild-interval:PT10M}")
+    public void rebuild() {
+        Map<Integer, Map<PercentileMetric, KllSketch>> rebuilt = new ConcurrentHashMap<>();
+        for (Season season : seasonRepository.findAllSeasons()) {
+            rebuilt.put(season.getId(), load(season.getId()));
+        }
+        seasons.keySet().retainAll(rebuilt.keySet());
+        seasons.putAll(rebuilt);
+        version.incrementAndGet();
+    }
+
+    /**
+     * Returns the sketch of a metric over the players of a season, or over all player seasons.
+     *
+     * @param metric   the metric
+     * @param seasonId the season, or {@code null} for all seasons
+     * @return the sketch; must not be modified
+     */
+    public KllSketch get(PercentileMetric metric, Integer seasonId) {
+        return Objects.isNull(seasonId) ? league().sketches.get(metric)
+            : season(seasonId).get(metric);
+    }
+
+    /**
+     * Marks the sketches of a season stale once the current transaction commits, or immediately
+     * when no transaction is active.
+     *
+     * @param seasonId the season whose box scores or matches changed
+     */
+    public void invalidate(Integer seasonId) {
+        TransactionCallbacks.afterCommit(() -> {
+            stale.add(seasonId);
+            version.incrementAndGet();
+        });
+    }
+
+    /**
+     * Drops the sketches of every season once the current transaction commits, or immediately
+     * when no transaction is active.
+     */
+    public void invalidateAll() {
+        TransactionCallbacks.afterCommit(() -> {
+            seasons.clear();
+            version.incrementAndGet();
+        });
+    }
+
+    private Map<PercentileMetric, KllSketch> season(Integer seasonId) {
+        if (stale.remove(seasonId)) {
+            seasons.put(seasonId, load(seasonId));
+        }
+        return seasons.computeIfAbsent(seasonId, this::load);
+    }
+
+    private League league() {
+        League current = league;
+        long currentVersion = version.get();
+        if (Objects.nonNull(current) && current.version == currentVersion) {
+            return current;
+        }
+        Map<PercentileMetric, KllSketch> merged = emptySketches();
+        for (Season season : seasonRepository.findAllSeasons()) {
+            Map<PercentileMetric, KllSketch> sketches = season(season.getId());
+            merged.forEach((metric, sketch) -> sketch.merge(sketches.get(metric)));
+        }
+        League rebuilt = new League(currentVersion, merged);
+        league = rebuilt;
+        return rebuilt;
+    }
+
+    private Map<PercentileMetric, KllSketch> load(Integer seasonId) {
+        Map<PercentileMetric, KllSketch> sketches = emptySketches();
+        statsReadRepository.forEachPlayerInSeason(seasonId, summary ->
+            sketches.forEach((metric, sketch) -> metric
+                .compute(summary.getTotals(), summary.getGames())
+                .ifPresent(sketch::update)));
+        return sketches;
+    }
+
+    private static Map<PercentileMetric, KllSketch> emptySketches() {
+        Map<PercentileMetric, KllSketch> sketches = new EnumMap<>(PercentileMetric.class);
+        for (PercentileMetric metric : PercentileMetric.values()) {
+            sketches.put(metric, new KllSketch());
+        }
+        return sketches;
+    }
+
+    /**
+     * Sketches across all seasons, merged while no season had changed since {@code version}.
+     */
+    private record League(long version, Map<PercentileMetric, KllSketch> sketches) {
+    }
+}
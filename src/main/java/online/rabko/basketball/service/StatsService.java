@@ -0,0 +1,271 @@
+package online.rabko.basketball.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import online.rabko.basketball.archive.SeasonArchive;
+import online.rabko.basketball.entity.MatchParticipantEntity;
+import online.rabko.basketball.enums.PercentileMetric;
+import online.rabko.basketball.enums.PlayerStatsMetric;
+import online.rabko.basketball.exception.BadRequestException;
+import online.rabko.basketball.exception.NotFoundException;
+import online.rabko.basketball.repository.ChangeRepository;
+import online.rabko.basketball.repository.MatchParticipantRepository;
+import online.rabko.basketball.repository.MatchReadRepository;
+import online.rabko.basketball.repository.PlayerRepository;
+import online.rabko.basketball.repository.PlayerStatSumsRepository;
+import online.rabko.basketball.repository.SeasonArchiveRepository;
+import online.rabko.basketball.repository.StatsReadRepository;
+import online.rabko.basketball.repository.TeamStandingSnapshotRepository;
+import online.rabko.basketball.sketch.KllSketch;
+import online.rabko.model.Change.OperationEnum;
+import online.rabko.model.Change.ResourceEnum;
+import online.rabko.model.Match;
+import online.rabko.model.PercentileRank;
+import online.rabko.model.PercentileRank.MetricEnum;
+import online.rabko.model.PlayerPercentiles;
+import online.rabko.model.PlayerStats;
+import online.rabko.model.PlayerStatsSummary;
+import online.rabko.model.Quantile;
+import online.rabko.model.StatDistribution;
+import online.rabko.model.TeamStats;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service for player, team and match statistics.
+ *
+ * <p>Reads go through the JDBC read repositories inside read-only transactions, for which
+ * Hibernate switches the session to flush mode MANUAL, so no entity is loaded, snapshotted or
+ * dirty-checked to answer them. Leaderboards restricted to an archived season are answered from
+ * its season archive instead; rankings across all seasons cover only the seasons still in the
+ * database. Totals of a player over a run of games are read from the player's running totals,
+ * which are kept up to date by every change to box scores and matches, and likewise cover only
+ * the seasons still in the database. Team results as of a past date are read from the team
+ * standing snapshots, and player totals and leaderboards as of a past date skip the later games.
+ * Percentile ranks and distributions are estimated from the
+ * quantile sketches of {@link StatsPercentileIndex}.
+ */
+@Service
+@RequiredArgsConstructor
+public class StatsService {
+
+    /**
+     * Number of entries returned by the leaderboard endpoints.
+     */
+    public static final int LEADERBOARD_SIZE = 10;
+
+    private static final String RESOURCE = "Player statistics";
+
+    private static final List<Double> QUANTILES = List.of(0.0, 0.1, 0.25, 0.5, 0.75, 0.9, 1.0);
+    private static final int VALUE_SCALE = 4;
+    private static final int PERCENTILE_SCALE = 2;
+
+    private final StatsReadRepository statsReadRepository;
+    private final MatchReadRepository matchReadRepository;
+    private final MatchParticipantRepository matchParticipantRepository;
+    private final SeasonArchiveRepository seasonArchiveRepository;
+    private final ChangeRepository changeRepository;
+    private final PlayerRepository playerRepository;
+    private final PlayerStatSumsRepository playerStatSumsRepository;
+    private final StatsPercentileIndex statsPercentileIndex;
+    private final TeamStandingSnapshotRepository teamStandingSnapshotRepository;
+
+    /**
+     * Retrieves a player statistics record by its id.
+     *
+     * @param id the statistics record id
+     * @return the player statistics
+     * @throws NotFoundException if no record is found
+     */
+    @Transactional(readOnly = true)
+    public PlayerStats getById(Integer id) {
+        return statsReadRepository.findById(id)
+            .orElseThrow(() -> new NotFoundException(RESOURCE, id));
+    }
+
+    /**
+     * Deletes a player statistics record.
+     *
+     * @param id the id of the statistics record to delete
+     * @throws NotFoundException if no record is found
+     */
+    @Transactional
+    public void delete(Integer id) {
+        MatchParticipantEntity participant = matchParticipantRepository.findById(id)
+            .orElseThrow(() -> new NotFoundException(RESOURCE, id));
+        Map<Integer, LocalDate> dates = Map.of(participant.getPlayer().getId(),
+            participant.getMatch().getDate());
+        matchParticipantRepository.delete(participant);
+        matchParticipantRepository.flush();
+        playerStatSumsRepository.refresh(dates);
+        statsPercentileIndex.invalidate(participant.getSeasonId());
+        changeRepository.record(ResourceEnum.BOX_SCORE, id, OperationEnum.DELETE);
+    }
+
+    /**
+     * Returns the totals and per-game averages of a player's most recent games.
+     *
+     * @param playerId the player id
+     * @param games    the number of games to cover
+     * @param asOf     the date to count back from, or {@code null} for the latest game
+     * @return the totals and averages; fewer games are covered if the player played fewer
+     * @throws BadRequestException if the number of games is less than one
+     * @throws NotFoundException   if no player is found
+     */
+    @Transactional(readOnly = true)
+    public PlayerStatsSummary getRolling(Integer playerId, Integer games, LocalDate asOf) {
+        if (games < 1) {
+            throw new BadRequestException("games must be at least 1");
+        }
+        assertPlayerExists(playerId);
+        return playerStatSumsRepository.findLastGames(playerId, games, asOf);
+    }
+
+    /**
+     * Returns the totals and per-game averages of a player's whole career or of one season.
+     *
+     * @param playerId the player id
+     * @param seasonId the season to restrict the totals to, or {@code null} for the whole career
+     * @param asOf     the last match date to include, or {@code null} for all games
+     * @return the totals and averages
+     * @throws NotFoundException if no player is found
+     */
+    @Transactional(readOnly = true)
+    public PlayerStatsSummary getCareer(Integer playerId, Integer seasonId, LocalDate asOf) {
+        assertPlayerExists(playerId);
+        return Objects.isNull(seasonId) ? playerStatSumsRepository.findCareer(playerId, asOf)
+            : playerStatSumsRepository.findSeason(playerId, seasonId, asOf);
+    }
+
+    /**
+     * Ranks a player's per-game points and shooting percentages against every player's. Within a
+     * season the player's season values are ranked; otherwise the player's career values are
+     * ranked against the values of every player season.
+     *
+     * @param playerId the player id
+     * @param seasonId the season to rank the player in, or {@code null} for the whole league
+     *                 history
+     * @return one percentile rank per metric the player has a value for
+     * @throws NotFoundException if no player is found
+     */
+    @Transactional(readOnly = true)
+    public PlayerPercentiles getPercentiles(Integer playerId, Integer seasonId) {
+        PlayerStatsSummary summary = getCareer(playerId, seasonId, null);
+        List<PercentileRank> ranks = new ArrayList<>();
+        for (PercentileMetric metric : PercentileMetric.values()) {
+            metric.compute(summary.getTotals(), summary.getGames()).ifPresent(value -> {
+                KllSketch sketch = statsPercentileIndex.get(metric, seasonId);
+                double percentile = sketch.getCount() == 0 ? 0
+                    : 100.0 * sketch.rank(value) / sketch.getCount();
+                ranks.add(new PercentileRank(MetricEnum.fromValue(metric.getValue()),
+                    decimal(value, VALUE_SCALE), decimal(percentile, PERCENTILE_SCALE)));
+            });
+        }
+        return new PlayerPercentiles(playerId, summary.getGames(), ranks).seasonId(seasonId);
+    }
+
+    /**
+     * Returns the estimated quantiles of a per-player metric.
+     *
+     * @param metric   the metric, as accepted by {@link PercentileMetric#fromValue}
+     * @param seasonId the season to describe, or {@code null} for all player seasons
+     * @return the distribution
+     * @throws BadRequestException if the metric is unknown
+     */
+    @Transactional(readOnly = true)
+    public StatDistribution getDistribution(String metric, Integer seasonId) {
+        PercentileMetric percentileMetric = PercentileMetric.fromValue(metric)
+            .orElseThrow(() -> new BadRequestException("Unknown metric " + metric));
+        KllSketch sketch = statsPercentileIndex.get(percentileMetric, seasonId);
+        List<Quantile> quantiles = sketch.getCount() == 0 ? List.of() : QUANTILES.stream()
+            .map(quantile -> new Quantile(BigDecimal.valueOf(quantile),
+                decimal(sketch.quantile(quantile), VALUE_SCALE)))
+            .toList();
+        return new StatDistribution(StatDistribution.MetricEnum.fromValue(metric),
+            sketch.getCount(), BigDecimal.valueOf(sketch.getRankError()), quantiles)
+            .seasonId(seasonId);
+    }
+
+    /**
+     * Returns the best single-match performances for a metric.
+     *
+     * @param metric   the metric to rank by
+     * @param seasonId the season to restrict the ranking to, or {@code null} for all seasons
+     * @param asOf     the last match date to include, or {@code null} for all matches
+     * @return at most {@link #LEADERBOARD_SIZE} box scores, best first
+     */
+    @Transactional(readOnly = true)
+    public List<PlayerStats> getLeaders(PlayerStatsMetric metric, Integer seasonId,
+        LocalDate asOf) {
+        return archive(seasonId)
+            .map(archive -> archive.findLeaders(metric, LEADERBOARD_SIZE, asOf))
+            .orElseGet(() -> statsReadRepository.findLeaders(metric, seasonId, asOf,
+                LEADERBOARD_SIZE));
+    }
+
+    /**
+     * Returns the teams ordered by average points per match.
+     *
+     * @param seasonId the season to aggregate, or {@code null} for all seasons
+     * @param asOf     the last match date to include, or {@code null} for all matches
+     * @return the team statistics, highest average first
+     */
+    @Transactional(readOnly = true)
+    public List<TeamStats> getTeamsByAveragePoints(Integer seasonId, LocalDate asOf) {
+        return archive(seasonId)
+            .map(archive -> archive.findTeamsByAveragePoints(asOf))
+            .orElseGet(() -> Objects.isNull(asOf)
+                ? statsReadRepository.findTeamsByAveragePoints(seasonId)
+                : teamStandingSnapshotRepository.findTeamsByAveragePoints(seasonId, asOf));
+    }
+
+    /**
+     * Returns the teams ordered by win rate.
+     *
+     * @param seasonId the season to aggregate, or {@code null} for all seasons
+     * @param asOf     the last match date to include, or {@code null} for all matches
+     * @return the team statistics, highest win rate first
+     */
+    @Transactional(readOnly = true)
+    public List<TeamStats> getTeamsByWinRate(Integer seasonId, LocalDate asOf) {
+        return archive(seasonId)
+            .map(archive -> archive.findTeamsByWinRate(asOf))
+            .orElseGet(() -> Objects.isNull(asOf)
+                ? statsReadRepository.findTeamsByWinRate(seasonId)
+                : teamStandingSnapshotRepository.findTeamsByWinRate(seasonId, asOf));
+    }
+
+    /**
+     * Returns the matches with the highest combined score.
+     *
+     * @param seasonId the season to restrict the search to, or {@code null} for all seasons
+     * @return at most {@link #LEADERBOARD_SIZE} matches, highest scoring first
+     */
+    @Transactional(readOnly = true)
+    public List<Match> getHighestScoringMatches(Integer seasonId) {
+        return archive(seasonId)
+            .map(archive -> archive.findHighestScoring(LEADERBOARD_SIZE))
+            .orElseGet(() -> matchReadRepository.findHighestScoring(seasonId, LEADERBOARD_SIZE));
+    }
+
+    private void assertPlayerExists(Integer playerId) {
+        if (!playerRepository.existsById(playerId)) {
+            throw new NotFoundException("Player", playerId);
+        }
+    }
+
+    private static BigDecimal decimal(double value, int scale) {
+        return BigDecimal.valueOf(value).setScale(scale, RoundingMode.HALF_UP);
+    }
+
+    private Optional<SeasonArchive> archive(Integer seasonId) {
+        return Objects.isNull(seasonId) ? Optional.empty() : seasonArchiveRepository.find(seasonId);
+    }
+}
@@ -0,0 +1,408 @@
+package online.rabko.basketball.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import online.rabko.basketball.config.StatsWriteBehindProperties;
+import online.rabko.basketball.dto.BoxScoreKey;
+import online.rabko.basketball.dto.BoxScoreWrite;
+import online.rabko.basketball.exception.BadRequestException;
+import online.rabko.basketball.exception.NotFoundException;
+import online.rabko.basketball.exception.ServiceUnavailableException;
+import online.rabko.basketball.repository.BoxScoreWriteRepository;
+import online.rabko.basketball.repository.ChangeRepository;
+import online.rabko.basketball.repository.PlayerStatSumsRepository;
+import online.rabko.basketball.wal.WriteAheadLog;
+import online.rabko.model.Change.OperationEnum;
+import online.rabko.model.Change.ResourceEnum;
+import online.rabko.model.PlayerStats;
+import online.rabko.model.StatsSubmission;
+import online.rabko.model.StatsSubmission.StatusEnum;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Write-behind queue for stats submissions during bursts, when a transaction per submission
+ * would tie up the connection pool.
+ *
+ * <p>A submission is validated, appended to the write-ahead log of its partition and queued;
+ * the caller is answered as soon as the log record is on disk. Each partition has a single
+ * writer thread that takes whatever has queued up, at most {@code batch-size} submissions, and
+ * records it in one transaction with a multi-row upsert. Submissions are assigned to partitions
+ * by match id, so those of one match are recorded in the order they were accepted.
+ *
+ * <p>The transaction also stores the sequence number of the last recorded log record. On
+ * startup, log records after that number are queued again, so submissions accepted before a
+ * crash are recorded exactly once. Checkpoints are kept per log directory, identified by the id
+ * stored in it, so instances sharing the database do not mix them up. The log file is emptied
+ * whenever its writer has caught up.
+ *
+ * <p>Available when {@code stats.write-behind.enabled} is set.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "stats.write-behind", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class StatsWriteBehindService implements SmartLifecycle {
+
+    private static final String RESOURCE = "Stats submission";
+
+    private static final long POLL_MILLIS = 200;
+
+    private static final String LOG_ID_FILE = "log-id";
+
+    private final StatsWriteBehindProperties properties;
+    private final MatchService matchService;
+    private final BoxScoreWriteRepository boxScoreWriteRepository;
+    private final ChangeRepository changeRepository;
+    private final PlayerStatSumsRepository playerStatSumsRepository;
+    private final StatsPercentileIndex statsPercentileIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final Map<UUID, StatsSubmission> submissions = new ConcurrentHashMap<>();
+    private final Queue<UUID> submissionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger trackedCount = new AtomicInteger();
+    private volatile List<Partition> partitions = List.of();
+    private UUID logId;
+    private volatile boolean running;
+
+    /**
+     * Validates statistics of a player in a match and queues them to be recorded.
+     *
+     * @param matchId     the match id
+     * @param playerStats the statistics to record; its id and match id are ignored
+     * @return the queued submission
+     * @throws NotFoundException           if the match, the player or the team does not exist
+     * @throws BadRequestException         if the team did not play in the match
+     * @throws ServiceUnavailableException if the queue of the match's partition is full
+     * @throws UncheckedIOException        if the submission cannot be written to the log; it may
+     *                                     still be recorded
+     */
+    public StatsSubmission submit(Integer matchId, PlayerStats playerStats) {
+        Integer seasonId = matchService.validateStats(matchId, playerStats);
+        BoxScoreWrite write = new BoxScoreWrite(UUID.randomUUID(), matchId, seasonId,
+            playerStats.getPlayerId(), playerStats.getTeamId(), playerStats.getStats());
+        byte[] payload = toJson(write);
+        List<Partition> current = partitions;
+        if (current.isEmpty()) {
+            throw new ServiceUnavailableException("Stats submissions are not being accepted");
+        }
+        Partition partition = current.get(Math.floorMod(matchId, current.size()));
+        if (!partition.permits.tryAcquire()) {
+            throw new ServiceUnavailableException(
+                "Too many stats submissions are queued, retry later");
+        }
+        StatsSubmission submission = new StatsSubmission(write.trackingId(), StatusEnum.QUEUED);
+        track(submission);
+        AtomicBoolean queued = new AtomicBoolean();
+        try {
+            partition.wal.append(payload, sequence -> {
+                partition.queue.add(new Pending(sequence, write));
+                queued.set(true);
+            });
+        } catch (IOException e) {
+            if (!queued.get()) {
+                partition.permits.release();
+                submissions.remove(write.trackingId());
+            }
+            throw new UncheckedIOException("Stats submission could not be logged", e);
+        }
+        return submission;
+    }
+
+    /**
+     * Returns the state of a submission.
+     *
+     * @param trackingId the tracking id returned by {@link #submit}
+     * @return the submission
+     * @throws NotFoundException if the submission is unknown or no longer tracked
+     */
+    public StatsSubmission getSubmission(UUID trackingId) {
+        StatsSubmission submission = submissions.get(trackingId);
+        if (Objects.isNull(submission)) {
+            throw new NotFoundException(RESOURCE, trackingId);
+        }
+        return submission;
+    }
+
+    /**
+     * Opens the write-ahead logs, queues the submissions not yet recorded and starts the writers.
+     *
+     * @throws UncheckedIOException if a log cannot be opened
+     */
+    @Override
+    public void start() {
+        List<Partition> opened = new ArrayList<>();
+        try {
+            Files.createDirectories(properties.getDirectory());
+            logId = readLogId();
+            for (int index = 0; index < properties.getPartitions(); index++) {
+                opened.add(open(index));
+            }
+        } catch (IOException e) {
+            opened.forEach(Partition::close);
+            throw new UncheckedIOException("Stats write-ahead logs could not be opened", e);
+        }
+        running = true;
+        partitions = List.copyOf(opened);
+        for (Partition partition : opened) {
+            partition.writer.start();
+        }
+    }
+
+    /**
+     * Stops accepting submissions, lets the writers record what is queued while the database is
+     * available and closes the logs. Anything left is recorded after the next start.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        List<Partition> stopped = partitions;
+        partitions = List.of();
+        for (Partition partition : stopped) {
+            try {
+                partition.writer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            partition.close();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Starts before the web server accepts submissions and stops after it has stopped.
+     *
+     * @return the lifecycle phase
+     */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    private UUID readLogId() throws IOException {
+        Path file = properties.getDirectory().resolve(LOG_ID_FILE);
+        if (Files.exists(file)) {
+            return UUID.fromString(Files.readString(file).trim());
+        }
+        UUID created = UUID.randomUUID();
+        Files.writeString(file, created.toString());
+        return created;
+    }
+
+    private Partition open(int index) throws IOException {
+        WriteAheadLog wal = WriteAheadLog.open(
+            properties.getDirectory().resolve("stats-" + index + ".wal"));
+        long checkpoint = boxScoreWriteRepository.findCheckpoint(logId, index);
+        wal.advanceTo(checkpoint);
+        List<Pending> pending = new ArrayList<>();
+        for (WriteAheadLog.Record record : wal.getRecovered()) {
+            if (record.sequence() > checkpoint) {
+                BoxScoreWrite write = objectMapper.readValue(record.payload(),
+                    BoxScoreWrite.class);
+                pending.add(new Pending(record.sequence(), write));
+                track(new StatsSubmission(write.trackingId(), StatusEnum.QUEUED));
+            }
+        }
+        if (!pending.isEmpty()) {
+            log.info("Replaying {} stats submissions of partition {}", pending.size(), index);
+        }
+        Partition partition = new Partition(index, wal,
+            new Semaphore(properties.getCapacity() - pending.size()));
+        partition.queue.addAll(pending);
+        partition.writer = new Thread(() -> drain(partition), "stats-writer-" + index);
+        return partition;
+    }
+
+    private void drain(Partition partition) {
+        List<Pending> batch = new ArrayList<>(properties.getBatchSize());
+        while (running || !partition.queue.isEmpty()) {
+            Pending first;
+            try {
+                first = partition.queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (Objects.isNull(first)) {
+                continue;
+            }
+            batch.add(first);
+            partition.queue.drainTo(batch, properties.getBatchSize() - 1);
+            if (!recordWithRetry(partition, batch)) {
+                return;
+            }
+            partition.permits.release(batch.size());
+            truncate(partition, batch.get(batch.size() - 1).sequence());
+            batch.clear();
+        }
+    }
+
+    private boolean recordWithRetry(Partition partition, List<Pending> batch) {
+        while (true) {
+            try {
+                try {
+                    record(partition, batch);
+                } catch (DataIntegrityViolationException e) {
+                    recordOneByOne(partition, batch);
+                }
+                return true;
+            } catch (DataAccessException | TransactionException e) {
+                log.warn("Recording {} stats submissions of partition {} failed, retrying",
+                    batch.size(), partition.index, e);
+                if (!running || !sleep()) {
+                    return false;
+                }
+            }
+        }
+    }
+
+    private void recordOneByOne(Partition partition, List<Pending> batch) {
+        for (Pending pending : batch) {
+            try {
+                record(partition, List.of(pending));
+            } catch (DataIntegrityViolationException e) {
+                transactionTemplate.executeWithoutResult(status -> boxScoreWriteRepository
+                    .saveCheckpoint(logId, partition.index, pending.sequence()));
+                submissions.computeIfPresent(pending.write().trackingId(), (id, submission) ->
+                    new StatsSubmission(id, StatusEnum.FAILED)
+                        .error("The match, player or team no longer exists"));
+            }
+        }
+    }
+
+    private void record(Partition partition, List<Pending> batch) {
+        Map<BoxScoreKey, BoxScoreWrite> latest = new LinkedHashMap<>();
+        for (Pending pending : batch) {
+            BoxScoreKey key = key(pending.write());
+            latest.remove(key);
+            latest.put(key, pending.write());
+        }
+        long lastSequence = batch.get(batch.size() - 1).sequence();
+        Map<BoxScoreKey, Integer> ids = transactionTemplate.execute(status -> {
+            Map<BoxScoreKey, Integer> recorded = boxScoreWriteRepository.upsert(
+                new ArrayList<>(latest.values()));
+            changeRepository.record(ResourceEnum.BOX_SCORE, recorded.values(),
+                OperationEnum.UPSERT);
+            playerStatSumsRepository.refresh(
+                playerStatSumsRepository.findDatesByBoxScores(recorded.values()));
+            latest.values().stream().map(BoxScoreWrite::seasonId).distinct()
+                .forEach(statsPercentileIndex::invalidate);
+            boxScoreWriteRepository.saveCheckpoint(logId, partition.index, lastSequence);
+            return recorded;
+        });
+        for (Pending pending : batch) {
+            Integer statsId = Objects.requireNonNull(ids).get(key(pending.write()));
+            submissions.computeIfPresent(pending.write().trackingId(), (id, submission) ->
+                new StatsSubmission(id, StatusEnum.RECORDED).statsId(statsId));
+        }
+    }
+
+    private void truncate(Partition partition, long sequence) {
+        try {
+            partition.wal.truncate(sequence);
+        } catch (IOException e) {
+            log.warn("Stats write-ahead log of partition {} could not be emptied",
+                partition.index, e);
+        }
+    }
+
+    private boolean sleep() {
+        try {
+            Thread.sleep(properties.getRetryDelay().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void track(StatsSubmission submission) {
+        submissions.put(submission.getTrackingId(), submission);
+        submissionOrder.add(submission.getTrackingId());
+        if (trackedCount.incrementAndGet() > properties.getTrackedSubmissions()) {
+            UUID oldest = submissionOrder.poll();
+            if (Objects.nonNull(oldest)) {
+                submissions.remove(oldest);
+                trackedCount.decrementAndGet();
+            }
+        }
+    }
+
+    private byte[] toJson(BoxScoreWrite write) {
+        try {
+            return objectMapper.writeValueAsBytes(write);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stats submission cannot be serialized", e);
+        }
+    }
+
+    private static BoxScoreKey key(BoxScoreWrite write) {
+        return new BoxScoreKey(write.matchId(), write.playerId());
+    }
+
+    /**
+     * A submission waiting in a partition queue.
+     *
+     * @param sequence the sequence number of its log record
+     * @param write    the submission
+     */
+    private record Pending(long sequence, BoxScoreWrite write) {
+
+    }
+
+    /**
+     * Queue, log and writer thread of one partition. The semaphore bounds the submissions that
+     * are queued or being recorded.
+     */
+    @RequiredArgsConstructor
+    private static final class Partition {
+
+        private final int index;
+        private final WriteAheadLog wal;
+        private final Semaphore permits;
+        private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+        private Thread writer;
+
+        private void close() {
+            try {
+                wal.close();
+            } catch (IOException e) {
+                log.warn("Stats write-ahead log of partition {} could not be closed", index, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package online.rabko.basketball.service;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import online.rabko.basketball.entity.TeamEntity;
+import online.rabko.basketball.exception.BadRequestException;
+import online.rabko.basketball.exception.ConflictException;
+import online.rabko.basketball.exception.NotFoundException;
+import online.rabko.basketball.mapper.TeamMapper;
+import online.rabko.basketball.repository.ChangeRepository;
+import online.rabko.basketball.repository.MatchRepository;
+import online.rabko.basketball.repository.PlayerRepository;
+import online.rabko.basketball.repository.TeamRepository;
+import online.rabko.model.Change.OperationEnum;
+import online.rabko.model.Change.ResourceEnum;
+import online.rabko.model.Team;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service for the Team entity.
+ */
+@Service
+@RequiredArgsConstructor
+public class TeamService {
+
+    /**
+     * Maximum number of ids accepted by {@link #getByIds(List)}.
+     */
+    public static final int MAX_IDS = 100;
+
+    private static final String RESOURCE = "Team";
+
+    private final TeamRepository teamRepository;
+    private final PlayerRepository playerRepository;
+    private final MatchRepository matchRepository;
+    private final ChangeRepository changeRepository;
+
+    /**
+     * Returns all teams.
+     *
+     * @return the list of teams ordered by id
+     */
+    @Transactional(readOnly = true)
+    public List<Team> getAll() {
+        return teamRepository.findAllTeams();
+    }
+
+    /**
+     * Returns the teams with the given ids in a single query. Ids without a team are skipped.
+     *
+     * @param ids the team ids
+     * @return the matching teams ordered by id
+     * @throws BadRequestException if more than {@link #MAX_IDS} ids are requested
+     */
+    @Transactional(readOnly = true)
+    public List<Team> getByIds(List<Integer> ids) {
+        if (ids.size() > MAX_IDS) {
+            throw new BadRequestException("At most " + MAX_IDS + " ids can be requested at once");
+        }
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return teamRepository.findTeamsByIds(ids);
+    }
+
+    /**
+     * Retrieves a team by its id.
+     *
+     * @param id the team id
+     * @return the team
+     * @throws NotFoundException if no team is found
+     */
+    @Transactional(readOnly = true)
+    public Team getById(Integer id) {
+        return TeamMapper.toDto(findEntity(id));
+    }
+
+    /**
+     * Creates a new team. The id in the request is ignored.
+     *
+     * @param team the team to create
+     * @return the created team
+     * @throws ConflictException if a team with the same name already exists
+     */
+    @Transactional
+    public Team create(Team team) {
+        assertNameAvailable(team.getName(), null);
+        TeamEntity entity = TeamEntity.builder()
+            .name(team.getName())
+            .build();
+        TeamEntity saved = teamRepository.save(entity);
+        changeRepository.record(ResourceEnum.TEAM, saved.getId(), OperationEnum.UPSERT);
+        return TeamMapper.toDto(saved);
+    }
+
+    /**
+     * Updates an existing team. The id in the request is ignored.
+     *
+     * @param id   the id of the team to update
+     * @param team the new team data
+     * @return the updated team
+     * @throws NotFoundException if no team is found
+     * @throws ConflictException if another team already has the requested name
+     */
+    @Transactional
+    public Team update(Integer id, Team team) {
+        TeamEntity entity = findEntity(id);
+        assertNameAvailable(team.getName(), id);
+        entity.setName(team.getName());
+        changeRepository.record(ResourceEnum.TEAM, id, OperationEnum.UPSERT);
+        return TeamMapper.toDto(entity);
+    }
+
+    /**
+     * Deletes a team that has neither players nor matches.
+     *
+     * @param id the id of the team to delete
+     * @throws NotFoundException if no team is found
+     * @throws ConflictException if the team still has players or matches
+     */
+    @Transactional
+    public void delete(Integer id) {
+        TeamEntity entity = findEntity(id);
+        if (playerRepository.existsByTeamId(id)
+            || matchRepository.existsByHomeTeamIdOrAwayTeamId(id, id)) {
+            throw new ConflictException("Team with id " + id + " has players or matches");
+        }
+        teamRepository.delete(entity);
+        changeRepository.record(ResourceEnum.TEAM, id, OperationEnum.DELETE);
+    }
+
+    private TeamEntity findEntity(Integer id) {
+        return teamRepository.findById(id)
+            .orElseThrow(() -> new NotFoundException(RESOURCE, id));
+    }
+
+    private void assertNameAvailable(String name, Integer id) {
+        teamRepository.findBySimpleNaturalId(name)
+            .filter(existing -> !existing.getId().equals(id))
+            .ifPresent(existing -> {
+                throw new ConflictException("Team with name '" + name + "' already exists");
+            });
+    }
+}
@@ -0,0 +1,53 @@
+package online.rabko.basketball.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Defers work that must only happen once the current transaction has committed, such as
+ * updating in-memory indexes or deleting files, or undoes it when the transaction rolls back.
+ */
+final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    /**
+     * Runs an action once the current transaction commits, or immediately when no transaction
+     * is active. The action is dropped if the transaction rolls back.
+     *
+     * @param action the action to run
+     */
+    static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Runs an action if the current transaction rolls back; does nothing when no transaction is
+     * active.
+     *
+     * @param action the action to run
+     */
+    static void onRollback(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
+    }
+}
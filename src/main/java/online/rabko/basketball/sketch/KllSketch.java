@@ -0,0 +1,249 @@
+package online.rabko.basketball.sketch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Mergeable quantile sketch after Karnin, Lang and Liberty (KLL).
+ *
+ * <p>Values are kept in a stack of levels. A value at level {@code h} stands for {@code 2^h}
+ * values of the input. When a level is full it is sorted and every other value, starting at a
+ * random offset, is promoted to the level above while the rest are dropped. Level capacities
+ * shrink geometrically towards the bottom, so the sketch retains {@code O(k)} values whatever the
+ * number of values it has seen. Until the first compaction, the sketch holds every value and its
+ * answers are exact; afterwards, the rank of any value is within {@link #getRankError()} times the
+ * count of its true rank with high probability, about 2% of the count for the default
+ * {@code k = 200}. Two sketches are merged by joining their levels and compacting, with the same
+ * error bound as a sketch fed all values of both.
+ *
+ * <p>A sketch is not thread-safe; build it on one thread and share it only for reading.
+ */
+public final class KllSketch {
+
+    /**
+     * Default capacity of the top level.
+     */
+    public static final int DEFAULT_K = 200;
+
+    private static final double CAPACITY_DECAY = 2.0 / 3.0;
+    private static final int MIN_CAPACITY = 2;
+    private static final double RANK_ERROR_FACTOR = 4.0;
+
+    private final int topCapacity;
+    private final RandomGenerator random;
+    private final List<Level> levels = new ArrayList<>();
+    private long count;
+    private int retained;
+    private int maxRetained;
+    private boolean compacted;
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+
+    /**
+     * Creates an empty sketch with the default {@code k}.
+     */
+    public KllSketch() {
+        this(DEFAULT_K, new SplittableRandom());
+    }
+
+    /**
+     * Creates an empty sketch.
+     *
+     * @param k      the capacity of the top level; larger values give smaller errors
+     * @param random the source of the compaction offsets
+     */
+    public KllSketch(int k, RandomGenerator random) {
+        if (k < MIN_CAPACITY) {
+            throw new IllegalArgumentException("k must be at least " + MIN_CAPACITY);
+        }
+        this.topCapacity = k;
+        this.random = random;
+        grow();
+    }
+
+    /**
+     * Adds a value.
+     *
+     * @param value the value; must not be NaN
+     */
+    public void update(double value) {
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException("NaN cannot be added to a sketch");
+        }
+        levels.get(0).add(value);
+        retained++;
+        count++;
+        min = count == 1 ? value : Math.min(min, value);
+        max = count == 1 ? value : Math.max(max, value);
+        if (retained >= maxRetained) {
+            compress();
+        }
+    }
+
+    /**
+     * Adds every value seen by another sketch. The other sketch is left unchanged.
+     *
+     * @param other the sketch to merge into this one
+     */
+    public void merge(KllSketch other) {
+        if (other.count == 0) {
+            return;
+        }
+        while (levels.size() < other.levels.size()) {
+            grow();
+        }
+        for (int h = 0; h < other.levels.size(); h++) {
+            Level level = other.levels.get(h);
+            for (int i = 0; i < level.size; i++) {
+                levels.get(h).add(level.items[i]);
+            }
+            retained += level.size;
+        }
+        min = count == 0 ? other.min : Math.min(min, other.min);
+        max = count == 0 ? other.max : Math.max(max, other.max);
+        count += other.count;
+        compacted |= other.compacted;
+        while (retained >= maxRetained) {
+            compress();
+        }
+    }
+
+    /**
+     * Returns the number of values seen, including merged ones.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the bound on the rank error, as a fraction of the count: {@code 0} while the sketch
+     * is exact.
+     *
+     * @return the normalized rank error
+     */
+    public double getRankError() {
+        return compacted ? RANK_ERROR_FACTOR / topCapacity : 0;
+    }
+
+    /**
+     * Returns the estimated number of values less than or equal to a value.
+     *
+     * @param value the value
+     * @return the estimated rank
+     */
+    public long rank(double value) {
+        long rank = 0;
+        for (int h = 0; h < levels.size(); h++) {
+            Level level = levels.get(h);
+            for (int i = 0; i < level.size; i++) {
+                if (level.items[i] <= value) {
+                    rank += 1L << h;
+                }
+            }
+        }
+        return Math.min(rank, count);
+    }
+
+    /**
+     * Returns the estimated value at a quantile: the smallest retained value whose estimated rank
+     * reaches the quantile. Quantiles {@code 0} and {@code 1} are the exact minimum and maximum.
+     *
+     * @param quantile the quantile, between 0 and 1
+     * @return the value, or NaN if the sketch is empty
+     */
+    public double quantile(double quantile) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (quantile <= 0) {
+            return min;
+        }
+        if (quantile >= 1) {
+            return max;
+        }
+        double[] values = new double[retained];
+        long[] weights = new long[retained];
+        Integer[] order = new Integer[retained];
+        int index = 0;
+        for (int h = 0; h < levels.size(); h++) {
+            Level level = levels.get(h);
+            for (int i = 0; i < level.size; i++) {
+                values[index] = level.items[i];
+                weights[index] = 1L << h;
+                order[index] = index;
+                index++;
+            }
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+        double target = quantile * count;
+        long cumulative = 0;
+        for (int i : order) {
+            cumulative += weights[i];
+            if (cumulative >= target) {
+                return values[i];
+            }
+        }
+        return max;
+    }
+
+    private void grow() {
+        levels.add(new Level());
+        maxRetained = 0;
+        for (int h = 0; h < levels.size(); h++) {
+            maxRetained += capacity(h);
+        }
+    }
+
+    private int capacity(int height) {
+        int depth = levels.size() - height - 1;
+        return Math.max(MIN_CAPACITY,
+            (int) Math.ceil(topCapacity * Math.pow(CAPACITY_DECAY, depth)));
+    }
+
+    private void compress() {
+        for (int h = 0; h < levels.size(); h++) {
+            if (levels.get(h).size >= capacity(h)) {
+                if (h + 1 == levels.size()) {
+                    grow();
+                }
+                compact(levels.get(h), levels.get(h + 1));
+                if (retained < maxRetained) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void compact(Level level, Level above) {
+        Arrays.sort(level.items, 0, level.size);
+        int kept = level.size % 2;
+        int offset = random.nextBoolean() ? 1 : 0;
+        for (int i = kept + offset; i < level.size; i += 2) {
+            above.add(level.items[i]);
+        }
+        retained -= (level.size - kept) / 2;
+        level.size = kept;
+        compacted = true;
+    }
+
+    /**
+     * Values retained at one level, in no particular order.
+     */
+    private static final class Level {
+
+        private double[] items = new double[MIN_CAPACITY];
+        private int size;
+
+        private void add(double value) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            items[size++] = value;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package online.rabko.basketball.wal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongConsumer;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only file of records that must survive a crash until they have been processed.
+ *
+ * <p>Each record is framed as its sequence number, payload length, CRC-32 of the payload and
+ * the payload itself. Sequence numbers increase by one per record. {@link #append} returns only
+ * once the record has been forced to disk, and concurrent appends share a single {@code fsync}:
+ * whoever forces the file first makes every record written so far durable, so the others return
+ * without forcing again (group commit).
+ *
+ * <p>Opening a log reads back the records it holds; a torn or corrupt record at the end, left by
+ * a crash in the middle of a write, is cut off together with anything after it. Once every
+ * record has been processed the file is emptied with {@link #truncate}.
+ */
+public final class WriteAheadLog implements Closeable {
+
+    private static final int HEADER_SIZE = Long.BYTES + Integer.BYTES + Integer.BYTES;
+
+    private final FileChannel channel;
+    private final List<Record> recovered;
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private volatile long lastSequence;
+    private long durableSequence;
+
+    private WriteAheadLog(FileChannel channel, List<Record> recovered, long lastSequence) {
+        this.channel = channel;
+        this.recovered = recovered;
+        this.lastSequence = lastSequence;
+        this.durableSequence = lastSequence;
+    }
+
+    /**
+     * Opens a log, creating the file if it does not exist, and reads back its records.
+     *
+     * @param file the log file
+     * @return the opened log
+     * @throws IOException if the file cannot be opened or read
+     */
+    public static WriteAheadLog open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+            StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            List<Record> records = new ArrayList<>();
+            long valid = read(channel, records);
+            if (valid < channel.size()) {
+                channel.truncate(valid);
+                channel.force(false);
+            }
+            channel.position(valid);
+            long lastSequence = records.isEmpty() ? 0 : records.get(records.size() - 1).sequence();
+            return new WriteAheadLog(channel, List.copyOf(records), lastSequence);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the records that were in the file when the log was opened.
+     *
+     * @return the recovered records in sequence order
+     */
+    public List<Record> getRecovered() {
+        return recovered;
+    }
+
+    /**
+     * Returns the sequence number of the last appended record.
+     *
+     * @return the last sequence number, or the one set by {@link #advanceTo} if higher
+     */
+    public long getLastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * Makes sure new records are numbered after a sequence number, for example after one already
+     * processed before the file was last emptied.
+     *
+     * @param sequence the sequence number new records must follow
+     */
+    public void advanceTo(long sequence) {
+        appendLock.lock();
+        try {
+            if (sequence > lastSequence) {
+                lastSequence = sequence;
+            }
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Appends a record and waits until it is durable.
+     *
+     * @param payload    the record payload
+     * @param onAppended called with the sequence number of the record right after it has been
+     *                   written and before any later record is, so that consumers can be handed
+     *                   the records in sequence order; it runs before the record is durable
+     * @return the sequence number of the record
+     * @throws IOException if the record cannot be written or forced to disk
+     */
+    public long append(byte[] payload, LongConsumer onAppended) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        ByteBuffer frame = ByteBuffer.allocate(HEADER_SIZE + payload.length);
+        long sequence;
+        appendLock.lock();
+        try {
+            sequence = lastSequence + 1;
+            frame.putLong(sequence).putInt(payload.length).putInt((int) crc.getValue())
+                .put(payload).flip();
+            while (frame.hasRemaining()) {
+                channel.write(frame);
+            }
+            lastSequence = sequence;
+            onAppended.accept(sequence);
+        } finally {
+            appendLock.unlock();
+        }
+        sync(sequence);
+        return sequence;
+    }
+
+    /**
+     * Empties the file if no record after the given one has been appended, that is once every
+     * record has been processed. Otherwise the file is left untouched, and its processed records
+     * are skipped by the caller when they are read back.
+     *
+     * @param processedSequence the sequence number of the last processed record
+     * @return whether the file was emptied
+     * @throws IOException if the file cannot be truncated
+     */
+    public boolean truncate(long processedSequence) throws IOException {
+        appendLock.lock();
+        try {
+            if (processedSequence < lastSequence || channel.size() == 0) {
+                return false;
+            }
+            channel.truncate(0);
+            return true;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Closes the file.
+     *
+     * @throws IOException if closing fails
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void sync(long sequence) throws IOException {
+        syncLock.lock();
+        try {
+            if (durableSequence >= sequence) {
+                return;
+            }
+            long written = lastSequence;
+            channel.force(false);
+            durableSequence = written;
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private static long read(FileChannel channel, List<Record> records) throws IOException {
+        long size = channel.size();
+        long position = 0;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        while (size - position >= HEADER_SIZE) {
+            header.clear();
+            channel.read(header, position);
+            header.flip();
+            final long sequence = header.getLong();
+            int length = header.getInt();
+            final int checksum = header.getInt();
+            if (length < 0 || size - position - HEADER_SIZE < length) {
+                break;
+            }
+            ByteBuffer payload = ByteBuffer.allocate(length);
+            channel.read(payload, position + HEADER_SIZE);
+            CRC32 crc = new CRC32();
+            crc.update(payload.array());
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            records.add(new Record(sequence, payload.array()));
+            position += HEADER_SIZE + length;
+        }
+        return position;
+    }
+
+    /**
+     * A record read back from the log.
+     *
+     * @param sequence the sequence number of the record
+     * @param payload  the record payload
+     */
+    public record Record(long sequence, byte[] payload) {
+
+    }
+}
@@ -0,0 +1,7 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS players_full_name_trgm_idx
+    ON players USING gin (lower(first_name || ' ' || last_name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS teams_name_trgm_idx
+    ON teams USING gin (lower(name) gin_trgm_ops);
@@ -0,0 +1,3 @@
+DROP INDEX IF EXISTS teams_name_trgm_idx;
+
+DROP INDEX IF EXISTS players_full_name_trgm_idx;
@@ -0,0 +1,20 @@
+CREATE INDEX IF NOT EXISTS players_team_id_position_idx
+    ON players (team_id, position);
+
+CREATE INDEX IF NOT EXISTS players_position_idx
+    ON players (position);
+
+CREATE INDEX IF NOT EXISTS matches_season_id_date_idx
+    ON matches (season_id, date);
+
+CREATE INDEX IF NOT EXISTS matches_home_team_id_date_idx
+    ON matches (home_team_id, date);
+
+CREATE INDEX IF NOT EXISTS matches_away_team_id_date_idx
+    ON matches (away_team_id, date);
+
+CREATE INDEX IF NOT EXISTS matches_date_idx
+    ON matches (date);
+
+CREATE INDEX IF NOT EXISTS match_participants_player_id_idx
+    ON match_participants (player_id);
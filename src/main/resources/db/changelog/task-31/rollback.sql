@@ -0,0 +1,13 @@
+DROP INDEX IF EXISTS match_participants_player_id_idx;
+
+DROP INDEX IF EXISTS matches_date_idx;
+
+DROP INDEX IF EXISTS matches_away_team_id_date_idx;
+
+DROP INDEX IF EXISTS matches_home_team_id_date_idx;
+
+DROP INDEX IF EXISTS matches_season_id_date_idx;
+
+DROP INDEX IF EXISTS players_position_idx;
+
+DROP INDEX IF EXISTS players_team_id_position_idx;
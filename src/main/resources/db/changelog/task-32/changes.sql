@@ -0,0 +1,133 @@
+-- Partitions matches and match_participants by season so that season-filtered queries only
+-- touch one partition and a finished season can be detached as a whole with
+-- detach_season_partitions, leaving two standalone tables to archive. match_participants
+-- carries a copy of its match's season_id as the partition key.
+
+ALTER SEQUENCE matches_id_seq OWNED BY NONE;
+ALTER SEQUENCE match_participants_id_seq OWNED BY NONE;
+
+ALTER TABLE match_participants RENAME TO match_participants_unpartitioned;
+ALTER INDEX match_participants_pkey RENAME TO match_participants_unpartitioned_pkey;
+ALTER INDEX match_participants_match_id_player_id_key
+    RENAME TO match_participants_unpartitioned_match_id_player_id_key;
+DROP INDEX IF EXISTS match_participants_player_id_idx;
+
+ALTER TABLE matches RENAME TO matches_unpartitioned;
+ALTER INDEX matches_pkey RENAME TO matches_unpartitioned_pkey;
+DROP INDEX IF EXISTS matches_season_id_date_idx;
+DROP INDEX IF EXISTS matches_home_team_id_date_idx;
+DROP INDEX IF EXISTS matches_away_team_id_date_idx;
+DROP INDEX IF EXISTS matches_date_idx;
+
+CREATE TABLE matches
+(
+    id              INT  NOT NULL DEFAULT nextval('matches_id_seq'),
+    season_id       INT  NOT NULL REFERENCES seasons (id),
+    date            DATE NOT NULL,
+    home_team_id    INT  NOT NULL REFERENCES teams (id),
+    away_team_id    INT  NOT NULL REFERENCES teams (id),
+    home_team_score INT DEFAULT 0,
+    away_team_score INT DEFAULT 0,
+    PRIMARY KEY (id, season_id)
+) PARTITION BY LIST (season_id);
+
+CREATE TABLE match_participants
+(
+    id        INT   NOT NULL DEFAULT nextval('match_participants_id_seq'),
+    match_id  INT   NOT NULL,
+    season_id INT   NOT NULL,
+    player_id INT   NOT NULL REFERENCES players (id),
+    team_id   INT   NOT NULL REFERENCES teams (id),
+    stats     JSONB NOT NULL DEFAULT '{}'::JSONB,
+    PRIMARY KEY (id, season_id),
+    UNIQUE (match_id, player_id, season_id),
+    FOREIGN KEY (match_id, season_id) REFERENCES matches (id, season_id)
+        ON UPDATE CASCADE ON DELETE CASCADE
+) PARTITION BY LIST (season_id);
+
+ALTER SEQUENCE matches_id_seq OWNED BY matches.id;
+ALTER SEQUENCE match_participants_id_seq OWNED BY match_participants.id;
+
+CREATE TABLE matches_default PARTITION OF matches DEFAULT;
+CREATE TABLE match_participants_default PARTITION OF match_participants DEFAULT;
+
+CREATE OR REPLACE FUNCTION create_season_partitions(p_season_id INT) RETURNS VOID AS $$
+BEGIN
+    EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF matches FOR VALUES IN (%s)',
+                   'matches_season_' || p_season_id, p_season_id);
+    EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF match_participants FOR VALUES IN (%s)',
+                   'match_participants_season_' || p_season_id, p_season_id);
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION season_partition(p_parent REGCLASS, p_season_id INT)
+    RETURNS REGCLASS AS $$
+    SELECT inhrelid::REGCLASS
+    FROM pg_inherits
+    WHERE inhparent = p_parent
+      AND inhrelid = to_regclass(p_parent::TEXT || '_season_' || p_season_id);
+$$ LANGUAGE sql STABLE;
+
+CREATE OR REPLACE FUNCTION detach_season_partitions(p_season_id INT) RETURNS VOID AS $$
+DECLARE
+    participants REGCLASS := season_partition('match_participants', p_season_id);
+    matches      REGCLASS := season_partition('matches', p_season_id);
+    fk           NAME;
+BEGIN
+    IF participants IS NOT NULL THEN
+        EXECUTE format('ALTER TABLE match_participants DETACH PARTITION %s', participants);
+        FOR fk IN SELECT conname FROM pg_constraint
+                  WHERE conrelid = participants AND confrelid = 'matches'::REGCLASS LOOP
+            EXECUTE format('ALTER TABLE %s DROP CONSTRAINT %I', participants, fk);
+        END LOOP;
+    END IF;
+    IF matches IS NOT NULL THEN
+        EXECUTE format('ALTER TABLE matches DETACH PARTITION %s', matches);
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION drop_season_partitions(p_season_id INT) RETURNS VOID AS $$
+DECLARE
+    participants REGCLASS := season_partition('match_participants', p_season_id);
+    matches      REGCLASS := season_partition('matches', p_season_id);
+BEGIN
+    PERFORM detach_season_partitions(p_season_id);
+    IF participants IS NOT NULL THEN
+        EXECUTE format('DROP TABLE %s', participants);
+    END IF;
+    IF matches IS NOT NULL THEN
+        EXECUTE format('DROP TABLE %s', matches);
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT create_season_partitions(id) FROM seasons;
+
+INSERT INTO matches (id, season_id, date, home_team_id, away_team_id, home_team_score,
+                     away_team_score)
+SELECT id, season_id, date, home_team_id, away_team_id, home_team_score, away_team_score
+FROM matches_unpartitioned;
+
+INSERT INTO match_participants (id, match_id, season_id, player_id, team_id, stats)
+SELECT mp.id, mp.match_id, m.season_id, mp.player_id, mp.team_id, mp.stats
+FROM match_participants_unpartitioned mp
+JOIN matches_unpartitioned m ON m.id = mp.match_id;
+
+DROP TABLE match_participants_unpartitioned;
+DROP TABLE matches_unpartitioned;
+
+CREATE INDEX IF NOT EXISTS matches_season_id_date_idx
+    ON matches (season_id, date);
+
+CREATE INDEX IF NOT EXISTS matches_home_team_id_date_idx
+    ON matches (home_team_id, date);
+
+CREATE INDEX IF NOT EXISTS matches_away_team_id_date_idx
+    ON matches (away_team_id, date);
+
+CREATE INDEX IF NOT EXISTS matches_date_idx
+    ON matches (date);
+
+CREATE INDEX IF NOT EXISTS match_participants_player_id_idx
+    ON match_participants (player_id);
@@ -0,0 +1,70 @@
+ALTER SEQUENCE matches_id_seq OWNED BY NONE;
+ALTER SEQUENCE match_participants_id_seq OWNED BY NONE;
+
+ALTER TABLE match_participants RENAME TO match_participants_partitioned;
+ALTER INDEX match_participants_pkey RENAME TO match_participants_partitioned_pkey;
+ALTER INDEX match_participants_match_id_player_id_season_id_key
+    RENAME TO match_participants_partitioned_match_id_player_id_season_id_key;
+DROP INDEX IF EXISTS match_participants_player_id_idx;
+
+ALTER TABLE matches RENAME TO matches_partitioned;
+ALTER INDEX matches_pkey RENAME TO matches_partitioned_pkey;
+DROP INDEX IF EXISTS matches_season_id_date_idx;
+DROP INDEX IF EXISTS matches_home_team_id_date_idx;
+DROP INDEX IF EXISTS matches_away_team_id_date_idx;
+DROP INDEX IF EXISTS matches_date_idx;
+
+CREATE TABLE matches
+(
+    id              INT  NOT NULL DEFAULT nextval('matches_id_seq') PRIMARY KEY,
+    season_id       INT  NOT NULL REFERENCES seasons (id),
+    date            DATE NOT NULL,
+    home_team_id    INT  NOT NULL REFERENCES teams (id),
+    away_team_id    INT  NOT NULL REFERENCES teams (id),
+    home_team_score INT DEFAULT 0,
+    away_team_score INT DEFAULT 0
+);
+
+CREATE TABLE match_participants
+(
+    id        INT   NOT NULL DEFAULT nextval('match_participants_id_seq') PRIMARY KEY,
+    match_id  INT   NOT NULL REFERENCES matches (id) ON DELETE CASCADE,
+    player_id INT   NOT NULL REFERENCES players (id),
+    team_id   INT   NOT NULL REFERENCES teams (id),
+    stats     JSONB NOT NULL DEFAULT '{}'::JSONB,
+    UNIQUE (match_id, player_id)
+);
+
+ALTER SEQUENCE matches_id_seq OWNED BY matches.id;
+ALTER SEQUENCE match_participants_id_seq OWNED BY match_participants.id;
+
+INSERT INTO matches
+SELECT id, season_id, date, home_team_id, away_team_id, home_team_score, away_team_score
+FROM matches_partitioned;
+
+INSERT INTO match_participants
+SELECT id, match_id, player_id, team_id, stats
+FROM match_participants_partitioned;
+
+DROP TABLE match_participants_partitioned;
+DROP TABLE matches_partitioned;
+
+DROP FUNCTION IF EXISTS drop_season_partitions(INT);
+DROP FUNCTION IF EXISTS detach_season_partitions(INT);
+DROP FUNCTION IF EXISTS create_season_partitions(INT);
+DROP FUNCTION IF EXISTS season_partition(REGCLASS, INT);
+
+CREATE INDEX IF NOT EXISTS matches_season_id_date_idx
+    ON matches (season_id, date);
+
+CREATE INDEX IF NOT EXISTS matches_home_team_id_date_idx
+    ON matches (home_team_id, date);
+
+CREATE INDEX IF NOT EXISTS matches_away_team_id_date_idx
+    ON matches (away_team_id, date);
+
+CREATE INDEX IF NOT EXISTS matches_date_idx
+    ON matches (date);
+
+CREATE INDEX IF NOT EXISTS match_participants_player_id_idx
+    ON match_participants (player_id);
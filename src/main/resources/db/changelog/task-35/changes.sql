@@ -0,0 +1,28 @@
+-- Change feed: the latest change of every resource, recorded in the same transaction as the
+-- write. A change is ordered by the id of the transaction that made it and then by position,
+-- and is only served once every transaction with a lower id has finished, so a reader never
+-- skips a change that commits after a later one.
+CREATE TABLE IF NOT EXISTS changes
+(
+    resource    VARCHAR(16) NOT NULL,
+    resource_id INT         NOT NULL,
+    operation   VARCHAR(16) NOT NULL,
+    txid        BIGINT      NOT NULL DEFAULT pg_current_xact_id()::TEXT::BIGINT,
+    position    BIGSERIAL   NOT NULL,
+    PRIMARY KEY (resource, resource_id)
+);
+
+CREATE INDEX IF NOT EXISTS changes_txid_position_idx
+    ON changes (txid, position);
+
+INSERT INTO changes (resource, resource_id, operation)
+SELECT 'team', id, 'upsert' FROM teams
+UNION ALL
+SELECT 'player', id, 'upsert' FROM players
+UNION ALL
+SELECT 'season', id, 'upsert' FROM seasons
+UNION ALL
+SELECT 'match', id, 'upsert' FROM matches
+UNION ALL
+SELECT 'box_score', id, 'upsert' FROM match_participants
+ON CONFLICT DO NOTHING;
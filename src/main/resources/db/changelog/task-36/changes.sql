@@ -0,0 +1,11 @@
+-- Highest write-ahead log sequence recorded by each stats write-behind partition, updated in
+-- the same transaction as the box scores so that replaying the log after a crash skips the
+-- submissions that were already recorded. Each log directory has its own id, so instances
+-- sharing the database keep separate checkpoints.
+CREATE TABLE IF NOT EXISTS stats_write_checkpoints
+(
+    log_id    UUID   NOT NULL,
+    partition INT    NOT NULL,
+    sequence  BIGINT NOT NULL,
+    PRIMARY KEY (log_id, partition)
+);
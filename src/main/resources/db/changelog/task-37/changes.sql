@@ -0,0 +1,16 @@
+-- Responses to POST and PUT requests sent with an Idempotency-Key header, so that a retried
+-- request is answered with the stored response instead of being executed again. The request
+-- is kept as a SHA-256 fingerprint only, to detect a key reused for a different request.
+CREATE TABLE IF NOT EXISTS idempotency_keys
+(
+    username        TEXT        NOT NULL,
+    idempotency_key TEXT        NOT NULL,
+    fingerprint     BYTEA       NOT NULL,
+    status          SMALLINT    NOT NULL,
+    content_type    TEXT,
+    body            BYTEA       NOT NULL,
+    created_at      TIMESTAMPTZ NOT NULL DEFAULT now(),
+    PRIMARY KEY (username, idempotency_key)
+);
+
+CREATE INDEX IF NOT EXISTS idempotency_keys_created_at_idx ON idempotency_keys (created_at);
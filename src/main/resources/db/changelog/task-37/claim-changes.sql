@@ -0,0 +1,5 @@
+-- A key is claimed by inserting a pending row, without status and body, before the request is
+-- handled; the row is completed with the response afterwards. The claim is what keeps two
+-- instances from handling the same key at the same time.
+ALTER TABLE idempotency_keys ALTER COLUMN status DROP NOT NULL;
+ALTER TABLE idempotency_keys ALTER COLUMN body DROP NOT NULL;
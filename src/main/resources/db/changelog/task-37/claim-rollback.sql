@@ -0,0 +1,3 @@
+DELETE FROM idempotency_keys WHERE status IS NULL;
+ALTER TABLE idempotency_keys ALTER COLUMN body SET NOT NULL;
+ALTER TABLE idempotency_keys ALTER COLUMN status SET NOT NULL;
@@ -0,0 +1,55 @@
+-- Running totals of every box score statistic per player, one row per game in date order, so
+-- that the totals of any run of consecutive games, such as the last ten, a season or a whole
+-- career, are the difference of two rows.
+CREATE TABLE IF NOT EXISTS player_stat_sums
+(
+    player_id              INT  NOT NULL,
+    game_number            INT  NOT NULL,
+    match_id               INT  NOT NULL,
+    season_id              INT  NOT NULL,
+    match_date             DATE NOT NULL,
+    points                 INT  NOT NULL,
+    assists                INT  NOT NULL,
+    rebounds               INT  NOT NULL,
+    steals                 INT  NOT NULL,
+    blocks                 INT  NOT NULL,
+    minutes_played         INT  NOT NULL,
+    field_goals_made       INT  NOT NULL,
+    field_goals_attempted  INT  NOT NULL,
+    three_points_made      INT  NOT NULL,
+    three_points_attempted INT  NOT NULL,
+    free_throws_made       INT  NOT NULL,
+    free_throws_attempted  INT  NOT NULL,
+    turnovers              INT  NOT NULL,
+    fouls                  INT  NOT NULL,
+    PRIMARY KEY (player_id, game_number)
+);
+
+CREATE INDEX IF NOT EXISTS player_stat_sums_player_id_season_id_idx
+    ON player_stat_sums (player_id, season_id);
+
+INSERT INTO player_stat_sums (player_id, game_number, match_id, season_id, match_date,
+                              points, assists, rebounds,
+                              steals, blocks, minutes_played,
+                              field_goals_made, field_goals_attempted,
+                              three_points_made, three_points_attempted,
+                              free_throws_made, free_throws_attempted,
+                              turnovers, fouls)
+SELECT mp.player_id, ROW_NUMBER() OVER w, mp.match_id, mp.season_id, m.date,
+       SUM(COALESCE((mp.stats ->> 'points')::int, 0)) OVER w,
+       SUM(COALESCE((mp.stats ->> 'assists')::int, 0)) OVER w,
+       SUM(COALESCE((mp.stats ->> 'rebounds')::int, 0)) OVER w,
+       SUM(COALESCE((mp.stats ->> 'steals')::int, 0)) OVER w,
+       SUM(COALESCE((mp.stats ->> 'blocks')::int, 0)) OVER w,
+       SUM(COALESCE((mp.stats ->> 'minutes_played')::int, 0)) OVER w,
+       SUM(COALESCE((mp.stats ->> 'field_goals_made')::int, 0)) OVER w,
+       SUM(COALESCE((mp.stats ->> 'field_goals_attempted')::int, 0)) OVER w,
+       SUM(COALESCE((mp.stats ->> 'three_points_made')::int, 0)) OVER w,
+       SUM(COALESCE((mp.stats ->> 'three_points_attempted')::int, 0)) OVER w,
+       SUM(COALESCE((mp.stats ->> 'free_throws_made')::int, 0)) OVER w,
+       SUM(COALESCE((mp.stats ->> 'free_throws_attempted')::int, 0)) OVER w,
+       SUM(COALESCE((mp.stats ->> 'turnovers')::int, 0)) OVER w,
+       SUM(COALESCE((mp.stats ->> 'fouls')::int, 0)) OVER w
+FROM match_participants mp
+JOIN matches m ON m.id = mp.match_id AND m.season_id = mp.season_id
+WINDOW w AS (PARTITION BY mp.player_id ORDER BY m.date, m.id ROWS UNBOUNDED PRECEDING);
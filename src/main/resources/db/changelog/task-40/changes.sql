@@ -0,0 +1,48 @@
+-- Dated snapshots of every team's results per season. Delta rows hold the change of a team's
+-- results on one day, for the days the team played. Checkpoint rows hold a team's cumulative
+-- results at the end of each week with matches, so the results as of any date are a checkpoint
+-- plus at most a week of deltas.
+CREATE TABLE IF NOT EXISTS team_standing_snapshots
+(
+    season_id       INT     NOT NULL,
+    snapshot_date   DATE    NOT NULL,
+    team_id         INT     NOT NULL,
+    checkpoint      BOOLEAN NOT NULL,
+    matches         INT     NOT NULL,
+    scored_matches  INT     NOT NULL,
+    points_scored   BIGINT  NOT NULL,
+    decided_matches INT     NOT NULL,
+    wins            INT     NOT NULL,
+    losses          INT     NOT NULL,
+    PRIMARY KEY (season_id, checkpoint, snapshot_date, team_id)
+);
+
+INSERT INTO team_standing_snapshots (season_id, snapshot_date, team_id, checkpoint, matches,
+                                     scored_matches, points_scored, decided_matches, wins, losses)
+SELECT season_id, date, team_id, FALSE, COUNT(*), COUNT(scored), COALESCE(SUM(scored), 0),
+       COUNT(conceded) FILTER (WHERE scored IS NOT NULL),
+       COUNT(*) FILTER (WHERE scored > conceded),
+       COUNT(*) FILTER (WHERE scored < conceded)
+FROM (
+    SELECT season_id, date, home_team_id AS team_id, home_team_score AS scored,
+           away_team_score AS conceded
+    FROM matches
+    UNION ALL
+    SELECT season_id, date, away_team_id, away_team_score, home_team_score
+    FROM matches
+) r
+GROUP BY season_id, date, team_id;
+
+INSERT INTO team_standing_snapshots (season_id, snapshot_date, team_id, checkpoint, matches,
+                                     scored_matches, points_scored, decided_matches, wins, losses)
+SELECT d.season_id, w.week_end, d.team_id, TRUE, SUM(d.matches), SUM(d.scored_matches),
+       SUM(d.points_scored), SUM(d.decided_matches), SUM(d.wins), SUM(d.losses)
+FROM (
+    SELECT DISTINCT season_id,
+                    (date_trunc('week', snapshot_date) + INTERVAL '6 days')::date AS week_end
+    FROM team_standing_snapshots
+    WHERE NOT checkpoint
+) w
+JOIN team_standing_snapshots d
+    ON d.season_id = w.season_id AND NOT d.checkpoint AND d.snapshot_date <= w.week_end
+GROUP BY d.season_id, w.week_end, d.team_id;
@@ -0,0 +1,95 @@
+package online.rabko.basketball.config;
+
+import java.util.Map;
+import online.rabko.basketball.metrics.QueryStats;
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+
+/**
+ * Assertions on the statements some code sends to the database, for integration tests to keep
+ * repositories and endpoints within a query budget:
+ *
+ * <pre>{@code
+ * QueryBudget.assertThatQueries(() -> userRepository.findByUsername("scorer"))
+ *     .hasAtMostStatements(1)
+ *     .hasNoRepeatedStatements();
+ * }</pre>
+ *
+ * <p>Requests performed with {@code MockMvc} run on the calling thread, so their statements,
+ * including those of the security filters, are counted as well.
+ */
+public class QueryBudget extends AbstractAssert<QueryBudget, QueryStats> {
+
+    private QueryBudget(QueryStats actual) {
+        super(actual, QueryBudget.class);
+    }
+
+    /**
+     * Runs the given code while counting the statements it sends to the database.
+     *
+     * @param action the code to run
+     * @return the assertions on the counted statements
+     */
+    public static QueryBudget assertThatQueries(ThrowingCallable action) {
+        try (QueryStats stats = QueryStats.start()) {
+            try {
+                action.call();
+            } catch (Throwable e) {
+                throw new AssertionError("The counted code failed", e);
+            }
+            return new QueryBudget(stats);
+        }
+    }
+
+    /**
+     * Verifies that no more than the given number of statements were executed.
+     *
+     * @param budget the maximum number of statements
+     * @return this assertion
+     */
+    public QueryBudget hasAtMostStatements(int budget) {
+        isNotNull();
+        if (actual.getStatements() > budget) {
+            failWithMessage("Expected at most %d statement(s) but %d were executed:%n%s", budget,
+                actual.getStatements(), describe(actual.getExecutions()));
+        }
+        return this;
+    }
+
+    /**
+     * Verifies that no more than the given number of rows were read or changed.
+     *
+     * @param budget the maximum number of rows
+     * @return this assertion
+     */
+    public QueryBudget hasAtMostRows(long budget) {
+        isNotNull();
+        if (actual.getRows() > budget) {
+            failWithMessage("Expected at most %d row(s) but %d were read or changed", budget,
+                actual.getRows());
+        }
+        return this;
+    }
+
+    /**
+     * Verifies that no statement was executed more than once, which would point to rows being
+     * loaded one at a time.
+     *
+     * @return this assertion
+     */
+    public QueryBudget hasNoRepeatedStatements() {
+        isNotNull();
+        Map<String, Integer> repeated = actual.getRepeatedStatements(2);
+        if (!repeated.isEmpty()) {
+            failWithMessage("Expected no repeated statement but found:%n%s", describe(repeated));
+        }
+        return this;
+    }
+
+    private static String describe(Map<String, Integer> executions) {
+        StringBuilder description = new StringBuilder();
+        executions.forEach((sql, count) -> description.append("  ").append(count).append(" x ")
+            .append(sql).append(System.lineSeparator()));
+        return description.toString();
+    }
+}
@@ -0,0 +1,122 @@
+package online.rabko.basketball.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import online.rabko.basketball.service.ChangeService;
+import online.rabko.basketball.service.MatchService;
+import online.rabko.basketball.service.PlayerService;
+import online.rabko.basketball.service.SeasonService;
+import online.rabko.basketball.service.TeamService;
+import online.rabko.model.Change;
+import online.rabko.model.Change.OperationEnum;
+import online.rabko.model.Change.ResourceEnum;
+import online.rabko.model.ChangeBatch;
+import online.rabko.model.Match;
+import online.rabko.model.Player;
+import online.rabko.model.PlayerStats;
+import online.rabko.model.PlayerStatsStats;
+import online.rabko.model.Season;
+import online.rabko.model.Team;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Integration tests for the change feed.
+ */
+class ChangeFeedTest extends IntegrationTestBase {
+
+    @Autowired
+    private ChangeService changeService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private SeasonService seasonService;
+
+    @Autowired
+    private MatchService matchService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void getChanges_shouldReturnLatestChangeOfEachResource_inOrder() {
+        String cursor = sync(null).cursor();
+        Team team = teamService.create(new Team(0, "Feed Team"));
+        Team opponent = teamService.create(new Team(0, "Feed Opponent"));
+        Player player = playerService.create(new Player(0, "Feed", "Player"));
+        Season season = seasonService.create(new Season(0, "Feed Season",
+            LocalDate.of(1950, 10, 1), LocalDate.of(1951, 4, 30)));
+        Match match = matchService.create(new Match(0, season.getId(), LocalDate.of(1950, 11, 1),
+            team.getId(), opponent.getId()));
+        PlayerStats stats = matchService.saveStats(match.getId(), new PlayerStats(0, 0,
+            player.getId(), team.getId(), new PlayerStatsStats().points(12)));
+        playerService.update(player.getId(), player.teamId(team.getId()));
+        matchService.delete(match.getId());
+
+        Sync sync = sync(cursor);
+
+        assertThat(sync.changes()).containsExactly(
+            new Change(ResourceEnum.TEAM, team.getId(), OperationEnum.UPSERT),
+            new Change(ResourceEnum.TEAM, opponent.getId(), OperationEnum.UPSERT),
+            new Change(ResourceEnum.SEASON, season.getId(), OperationEnum.UPSERT),
+            new Change(ResourceEnum.PLAYER, player.getId(), OperationEnum.UPSERT),
+            new Change(ResourceEnum.BOX_SCORE, stats.getId(), OperationEnum.DELETE),
+            new Change(ResourceEnum.MATCH, match.getId(), OperationEnum.DELETE));
+        assertThat(sync(sync.cursor()).changes()).isEmpty();
+    }
+
+    @Test
+    void getChanges_shouldHoldBackLaterChanges_untilEarlierTransactionsFinish()
+        throws SQLException {
+        Team early = teamService.create(new Team(0, "Feed Early"));
+        String cursor = sync(null).cursor();
+
+        Team late;
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(
+                "UPDATE changes SET txid = DEFAULT, position = DEFAULT "
+                    + "WHERE resource = 'team' AND resource_id = ?")) {
+                statement.setInt(1, early.getId());
+                statement.executeUpdate();
+            }
+            late = teamService.create(new Team(0, "Feed Late"));
+
+            assertThat(sync(cursor).changes()).isEmpty();
+
+            connection.commit();
+        }
+
+        assertThat(sync(cursor).changes()).containsExactly(
+            new Change(ResourceEnum.TEAM, early.getId(), OperationEnum.UPSERT),
+            new Change(ResourceEnum.TEAM, late.getId(), OperationEnum.UPSERT));
+    }
+
+    private Sync sync(String since) {
+        List<Change> changes = new ArrayList<>();
+        String cursor = since;
+        ChangeBatch batch;
+        do {
+            batch = changeService.getChanges(cursor, 2);
+            changes.addAll(batch.getChanges());
+            cursor = batch.getNextCursor();
+        } while (batch.getHasMore());
+        return new Sync(changes, cursor);
+    }
+
+    private record Sync(List<Change> changes, String cursor) {
+
+    }
+}
@@ -0,0 +1,130 @@
+package online.rabko.basketball.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import online.rabko.basketball.dto.MatchFilter;
+import online.rabko.basketball.dto.PlayerFilter;
+import online.rabko.basketball.enums.MatchSort;
+import online.rabko.basketball.enums.PlayerSort;
+import online.rabko.basketball.enums.SortOrder;
+import online.rabko.basketball.repository.MatchReadRepository;
+import online.rabko.basketball.repository.PlayerReadRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests asserting that every supported filter combination on the player and match
+ * lists is answered from an index rather than a sequential scan.
+ *
+ * <p>The query issued by the repository is captured and re-run under {@code EXPLAIN} with
+ * sequential scans disabled, so the planner falls back to a sequential scan only when no index
+ * can serve the filter.
+ */
+class FilterIndexUsageTest extends IntegrationTestBase {
+
+    private static final LocalDate FROM = LocalDate.of(2023, 10, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 4, 30);
+
+    /**
+     * Infix of the index names PostgreSQL derives for the partitions of a partitioned index, so
+     * that {@code matches_season_3_date_idx} reads as its parent {@code matches_date_idx}.
+     */
+    private static final Pattern PARTITION_INDEX = Pattern.compile("_(default|season_\\d+)_");
+
+    @SpyBean
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlayerReadRepository playerReadRepository;
+
+    @Autowired
+    private MatchReadRepository matchReadRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        clearInvocations(jdbcTemplate);
+    }
+
+    static Stream<Arguments> playerFilters() {
+        return Stream.of(
+            Arguments.of(new PlayerFilter(1, null, PlayerSort.ID, SortOrder.ASC),
+                List.of("players_team_id_position_idx")),
+            Arguments.of(new PlayerFilter(null, "Guard", PlayerSort.LAST_NAME, SortOrder.ASC),
+                List.of("players_position_idx")),
+            Arguments.of(new PlayerFilter(1, "Guard", PlayerSort.AGE, SortOrder.DESC),
+                List.of("players_team_id_position_idx", "players_position_idx")));
+    }
+
+    static Stream<Arguments> matchFilters() {
+        return Stream.of(
+            Arguments.of(new MatchFilter(1, null, null, null, MatchSort.DATE, SortOrder.ASC),
+                List.of("matches_season_id_date_idx")),
+            Arguments.of(new MatchFilter(null, 1, null, null, MatchSort.DATE, SortOrder.ASC),
+                List.of("matches_home_team_id_date_idx")),
+            Arguments.of(new MatchFilter(null, null, FROM, TO, MatchSort.DATE, SortOrder.DESC),
+                List.of("matches_date_idx")),
+            Arguments.of(new MatchFilter(null, null, FROM, null, MatchSort.ID, SortOrder.ASC),
+                List.of("matches_date_idx")),
+            Arguments.of(new MatchFilter(1, 1, null, null, MatchSort.DATE, SortOrder.ASC),
+                List.of("matches_season_id_date_idx", "matches_home_team_id_date_idx")),
+            Arguments.of(new MatchFilter(1, null, FROM, TO, MatchSort.DATE, SortOrder.ASC),
+                List.of("matches_season_id_date_idx")),
+            Arguments.of(new MatchFilter(null, 1, FROM, TO, MatchSort.DATE, SortOrder.ASC),
+                List.of("matches_away_team_id_date_idx")),
+            Arguments.of(new MatchFilter(1, 1, FROM, TO, MatchSort.ID, SortOrder.DESC),
+                List.of("matches_season_id_date_idx", "matches_home_team_id_date_idx")));
+    }
+
+    @ParameterizedTest
+    @MethodSource("playerFilters")
+    void findAll_shouldUseIndex_forPlayerFilter(PlayerFilter filter, List<String> indexes) {
+        playerReadRepository.findAll(filter);
+
+        assertThat(explainCapturedQuery())
+            .containsAnyOf(indexes.toArray(String[]::new))
+            .doesNotContain("Seq Scan");
+    }
+
+    @ParameterizedTest
+    @MethodSource("matchFilters")
+    void findAll_shouldUseIndex_forMatchFilter(MatchFilter filter, List<String> indexes) {
+        matchReadRepository.findAll(filter);
+
+        assertThat(explainCapturedQuery())
+            .containsAnyOf(indexes.toArray(String[]::new))
+            .doesNotContain("Seq Scan");
+    }
+
+    @SuppressWarnings("unchecked")
+    private String explainCapturedQuery() {
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<SqlParameterSource> params =
+            ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(jdbcTemplate).query(sql.capture(), params.capture(), any(RowMapper.class));
+        return transactionTemplate.execute(status -> {
+            jdbcTemplate.getJdbcTemplate().execute("SET LOCAL enable_seqscan = off");
+            String plan = String.join("\n", jdbcTemplate.queryForList(
+                "EXPLAIN " + sql.getValue(), params.getValue(), String.class));
+            return PARTITION_INDEX.matcher(plan).replaceAll("_");
+        });
+    }
+}
@@ -0,0 +1,52 @@
+package online.rabko.basketball.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Integration tests for limiting the rate of requests forwarded by a trusted proxy, through the
+ * embedded server, which resolves the client address from {@code X-Forwarded-For}.
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = {
+    "rate-limit.policies[0].name=auth",
+    "rate-limit.policies[0].path=/auth/**",
+    "rate-limit.policies[0].capacity=1",
+    "rate-limit.policies[0].period=PT1H"
+})
+class ForwardedRateLimitTest extends IntegrationTestBase {
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void requests_shouldBeLimitedPerForwardedAddress_ignoringAddressesSentByClient()
+        throws Exception {
+        assertThat(signIn("198.51.100.1")).isEqualTo(401);
+        assertThat(signIn("203.0.113.7, 198.51.100.1")).isEqualTo(429);
+        assertThat(signIn("198.51.100.2")).isEqualTo(401);
+    }
+
+    private int signIn(String forwardedFor) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + port + "/auth/token"))
+            .header("X-Forwarded-For", forwardedFor)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(
+                "{\"username\":\"nobody\",\"password\":\"wrong-password\"}"))
+            .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
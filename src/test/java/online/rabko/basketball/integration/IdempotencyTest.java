@@ -0,0 +1,101 @@
+package online.rabko.basketball.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import online.rabko.basketball.config.IdempotencyFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+/**
+ * Integration tests for retrying requests with an {@code Idempotency-Key} header through the
+ * security filter chain.
+ */
+@AutoConfigureMockMvc
+class IdempotencyTest extends IntegrationTestBase {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void post_shouldCreateOnce_andReplayResponse_whenRetriedWithSameKey() throws Exception {
+        String created = mockMvc.perform(createTeam("scorer", "create-team-1", "Idempotent Team"))
+            .andExpect(status().isCreated())
+            .andExpect(header().doesNotExist(IdempotencyFilter.IDEMPOTENT_REPLAYED))
+            .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(createTeam("scorer", "create-team-1", "Idempotent Team"))
+            .andExpect(status().isCreated())
+            .andExpect(header().string(IdempotencyFilter.IDEMPOTENT_REPLAYED, "true"))
+            .andExpect(content().json(created, true));
+
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM teams WHERE name = 'Idempotent Team'", Integer.class))
+            .isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT status FROM idempotency_keys WHERE username = 'scorer'"
+                + " AND idempotency_key = 'create-team-1'", Integer.class))
+            .isEqualTo(201);
+    }
+
+    @Test
+    void post_shouldReject_whenKeyIsReusedForDifferentRequest() throws Exception {
+        mockMvc.perform(createTeam("scorer", "create-team-2", "First Keyed Team"))
+            .andExpect(status().isCreated());
+
+        mockMvc.perform(createTeam("scorer", "create-team-2", "Second Keyed Team"))
+            .andExpect(status().isUnprocessableEntity());
+        mockMvc.perform(createTeam("other-scorer", "create-team-2", "Other Keyed Team"))
+            .andExpect(status().isCreated())
+            .andExpect(header().doesNotExist(IdempotencyFilter.IDEMPOTENT_REPLAYED));
+
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM teams WHERE name = 'Second Keyed Team'", Integer.class))
+            .isZero();
+    }
+
+    @Test
+    void post_shouldReject_whileKeyIsClaimedByAnotherInstance_untilClaimIsAbandoned()
+        throws Exception {
+        insertPendingClaim("create-team-3", "now()");
+        mockMvc.perform(createTeam("scorer", "create-team-3", "Claimed Team"))
+            .andExpect(status().isConflict());
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM teams WHERE name = 'Claimed Team'", Integer.class))
+            .isZero();
+
+        insertPendingClaim("create-team-4", "now() - interval '1 hour'");
+        mockMvc.perform(createTeam("scorer", "create-team-4", "Abandoned Team"))
+            .andExpect(status().isCreated())
+            .andExpect(header().doesNotExist(IdempotencyFilter.IDEMPOTENT_REPLAYED));
+        mockMvc.perform(createTeam("scorer", "create-team-4", "Abandoned Team"))
+            .andExpect(header().string(IdempotencyFilter.IDEMPOTENT_REPLAYED, "true"));
+    }
+
+    private void insertPendingClaim(String key, String createdAt) {
+        jdbcTemplate.update("INSERT INTO idempotency_keys"
+            + " (username, idempotency_key, fingerprint, created_at)"
+            + " VALUES ('scorer', ?, ?, " + createdAt + ")", key, new byte[32]);
+    }
+
+    private static MockHttpServletRequestBuilder createTeam(String username, String key,
+        String name) {
+        return post("/teams")
+            .with(user(username))
+            .header(IdempotencyFilter.IDEMPOTENCY_KEY, key)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"id\":0,\"name\":\"" + name + "\"}");
+    }
+}
@@ -1,5 +1,8 @@
 package online.rabko.basketball.integration;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import online.rabko.basketball.config.PostgreSqlTestContainer;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.DynamicPropertyRegistry;
@@ -12,7 +15,9 @@ import org.springframework.test.context.DynamicPropertySource;
 public abstract class IntegrationTestBase {
 
     /**
-     * Overrides the database properties with the values from the PostgreSQL test container.
+     * Overrides the database properties with the values from the PostgreSQL test container,
+     * migrates its schema on startup and gives every application context its own stats write-ahead
+     * log directory.
      *
      * @param registry the dynamic property registry
      */
@@ -22,5 +27,15 @@ public abstract class IntegrationTestBase {
         registry.add("spring.datasource.url", container::getJdbcUrl);
         registry.add("spring.datasource.username", container::getUsername);
         registry.add("spring.datasource.password", container::getPassword);
+        registry.add("stats.write-behind.directory", IntegrationTestBase::createWalDirectory);
+        registry.add("spring.liquibase.enabled", () -> true);
+    }
+
+    private static String createWalDirectory() {
+        try {
+            return Files.createTempDirectory("wal").toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
@@ -0,0 +1,110 @@
+package online.rabko.basketball.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import online.rabko.basketball.enums.BackupTable;
+import online.rabko.basketball.service.LeagueBackupService;
+import online.rabko.basketball.service.MatchService;
+import online.rabko.basketball.service.PlayerService;
+import online.rabko.basketball.service.SeasonService;
+import online.rabko.basketball.service.TeamService;
+import online.rabko.model.Match;
+import online.rabko.model.Player;
+import online.rabko.model.PlayerStats;
+import online.rabko.model.PlayerStatsStats;
+import online.rabko.model.Season;
+import online.rabko.model.Team;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Integration tests for league backups written and restored with binary {@code COPY}. Changes
+ * made after the backup go straight through JDBC, so that restoring the backup leaves no stale
+ * entries in the second-level cache for later tests.
+ */
+class LeagueBackupTest extends IntegrationTestBase {
+
+    @Autowired
+    private LeagueBackupService leagueBackupService;
+
+    @Autowired
+    private SeasonService seasonService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private MatchService matchService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void restore_shouldReturnEveryTableToBackedUpState() throws IOException {
+        createLeague();
+        final Map<BackupTable, String> snapshot = snapshot();
+        ByteArrayOutputStream backup = new ByteArrayOutputStream();
+        final Map<BackupTable, Long> written = leagueBackupService.backup(backup);
+
+        jdbcTemplate.update("INSERT INTO teams (name) VALUES ('Added After Backup')");
+        jdbcTemplate.update("DELETE FROM match_participants");
+        jdbcTemplate.update("UPDATE seasons SET name = name || ' (renamed)'");
+        Map<BackupTable, Long> restored = leagueBackupService.restore(
+            new ByteArrayInputStream(backup.toByteArray()));
+
+        assertThat(restored).isEqualTo(written);
+        assertThat(written.get(BackupTable.MATCH_PARTICIPANTS)).isPositive();
+        assertThat(snapshot()).isEqualTo(snapshot);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT nextval(pg_get_serial_sequence('teams', 'id')) > MAX(id) FROM teams",
+            Boolean.class)).isTrue();
+    }
+
+    @Test
+    void restore_shouldRollBack_whenBackupIsIncomplete() {
+        createLeague();
+        Map<BackupTable, String> snapshot = snapshot();
+
+        assertThatThrownBy(() -> leagueBackupService.restore(
+            new ByteArrayInputStream(new byte[0])))
+            .isInstanceOf(IOException.class);
+
+        assertThat(snapshot()).isEqualTo(snapshot);
+    }
+
+    private void createLeague() {
+        int year = 1900 + jdbcTemplate.queryForObject("SELECT COUNT(*) FROM seasons",
+            Integer.class);
+        Season season = seasonService.create(new Season(0, "Backup Season " + year,
+            LocalDate.of(year, 10, 1), LocalDate.of(year + 1, 4, 30)));
+        Team home = teamService.create(new Team(0, "Backup Home " + year));
+        Team away = teamService.create(new Team(0, "Backup Away " + year));
+        Player player = playerService.create(new Player(0, "Backed", "Up " + year)
+            .teamId(home.getId()));
+        Match match = matchService.create(new Match(0, season.getId(),
+            season.getStartDate().plusDays(10), home.getId(), away.getId()));
+        matchService.saveStats(match.getId(), new PlayerStats(0, match.getId(), player.getId(),
+            home.getId(), new PlayerStatsStats().points(31).rebounds(null)));
+    }
+
+    private Map<BackupTable, String> snapshot() {
+        Map<BackupTable, String> snapshot = new EnumMap<>(BackupTable.class);
+        for (BackupTable table : BackupTable.values()) {
+            snapshot.put(table, jdbcTemplate.queryForObject(
+                "SELECT md5(COALESCE(string_agg(t::text, ',' ORDER BY t.id), '')) FROM "
+                    + table.getTable() + " t", String.class));
+        }
+        return snapshot;
+    }
+}
@@ -0,0 +1,119 @@
+package online.rabko.basketball.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import online.rabko.basketball.enums.BackupTable;
+import online.rabko.basketball.enums.PlayerStatsMetric;
+import online.rabko.basketball.generator.LeagueSpec;
+import online.rabko.basketball.service.LeagueGeneratorService;
+import online.rabko.basketball.service.SeasonService;
+import online.rabko.basketball.service.StatsService;
+import online.rabko.basketball.service.TeamService;
+import online.rabko.model.PlayerStats;
+import online.rabko.model.Season;
+import online.rabko.model.Team;
+import online.rabko.model.TeamStats;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Integration tests for loading a generated league.
+ */
+class LeagueGeneratorTest extends IntegrationTestBase {
+
+    private static final LeagueSpec SPEC = new LeagueSpec(11, 2, 6, 12, 2, 1900);
+
+    private static final String INCONSISTENT_MATCHES = """
+        SELECT COUNT(*) FROM matches m
+        WHERE m.season_id = ANY(?)
+          AND (m.home_team_score <> (SELECT SUM((stats ->> 'points')::INT)
+                                    FROM match_participants mp
+                                    WHERE mp.match_id = m.id AND mp.team_id = m.home_team_id)
+            OR m.away_team_score <> (SELECT SUM((stats ->> 'points')::INT)
+                                    FROM match_participants mp
+                                    WHERE mp.match_id = m.id AND mp.team_id = m.away_team_id))
+        """;
+
+    private static final String INCONSISTENT_BOX_SCORES = """
+        SELECT COUNT(*) FROM match_participants
+        WHERE season_id = ANY(?)
+          AND ((stats ->> 'points')::INT <> 2 * (stats ->> 'field_goals_made')::INT
+                + (stats ->> 'three_points_made')::INT + (stats ->> 'free_throws_made')::INT
+            OR (stats ->> 'field_goals_made')::INT > (stats ->> 'field_goals_attempted')::INT
+            OR (stats ->> 'free_throws_made')::INT > (stats ->> 'free_throws_attempted')::INT)
+        """;
+
+    private static final String INDEXES_AND_FOREIGN_KEYS = """
+        SELECT pg_get_indexdef(indexrelid) || ' ' || indisvalid FROM pg_index
+        WHERE indrelid = 'match_participants'::regclass
+        UNION ALL
+        SELECT conname || ' ' || pg_get_constraintdef(oid) FROM pg_constraint
+        WHERE conrelid = 'match_participants'::regclass AND conparentid = 0
+        """;
+
+    private static final String PARTITIONS_WITHOUT_SECONDARY_INDEX = """
+        SELECT COUNT(*) FROM pg_inherits h
+        WHERE h.inhparent = 'match_participants'::regclass
+          AND NOT EXISTS (SELECT 1 FROM pg_index i
+                          WHERE i.indrelid = h.inhrelid AND NOT i.indisunique)
+        """;
+
+    @Autowired
+    private LeagueGeneratorService leagueGeneratorService;
+
+    @Autowired
+    private SeasonService seasonService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private StatsService statsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void generate_shouldLoadConsistentLeague_servedByStats_withDeferredIndexes() {
+        List<String> indexesAndForeignKeys = jdbcTemplate.queryForList(INDEXES_AND_FOREIGN_KEYS,
+            String.class);
+
+        Map<BackupTable, Long> rows = leagueGeneratorService.generate(SPEC, true);
+
+        assertThat(rows).containsEntry(BackupTable.TEAMS, 6L)
+            .containsEntry(BackupTable.SEASONS, 2L)
+            .containsEntry(BackupTable.PLAYERS, 72L)
+            .containsEntry(BackupTable.MATCHES, 60L)
+            .containsEntry(BackupTable.MATCH_PARTICIPANTS, 1200L);
+        List<Season> seasons = seasonService.getAll().stream()
+            .filter(season -> season.getName().startsWith("190"))
+            .toList();
+        assertThat(seasons).extracting(Season::getName).containsExactly("1900-01", "1901-02");
+        Integer[] seasonIds = seasons.stream().map(Season::getId).toArray(Integer[]::new);
+        assertThat(jdbcTemplate.queryForObject(INCONSISTENT_MATCHES, Long.class,
+            (Object) seasonIds)).isZero();
+        assertThat(jdbcTemplate.queryForObject(INCONSISTENT_BOX_SCORES, Long.class,
+            (Object) seasonIds)).isZero();
+
+        Integer seasonId = seasons.get(0).getId();
+        List<TeamStats> standings = statsService.getTeamsByWinRate(seasonId, null);
+        assertThat(standings).hasSize(6);
+        assertThat(standings.stream().mapToInt(TeamStats::getTotalWins).sum()).isEqualTo(30);
+        List<PlayerStats> leaders = statsService.getLeaders(PlayerStatsMetric.POINTS, seasonId,
+            null);
+        assertThat(leaders).isNotEmpty();
+        assertThat(leaders.get(0).getStats().getPoints()).isPositive();
+
+        assertThat(jdbcTemplate.queryForList(INDEXES_AND_FOREIGN_KEYS, String.class))
+            .containsExactlyInAnyOrderElementsOf(indexesAndForeignKeys);
+        assertThat(jdbcTemplate.queryForObject(PARTITIONS_WITHOUT_SECONDARY_INDEX, Long.class))
+            .isZero();
+
+        Team created = teamService.create(new Team(0, "Created After Generation"));
+        assertThat(created.getId()).isGreaterThan(jdbcTemplate.queryForObject(
+            "SELECT MAX(id) FROM teams WHERE name <> 'Created After Generation'", Integer.class));
+    }
+}
@@ -0,0 +1,79 @@
+package online.rabko.basketball.integration;
+
+import static online.rabko.basketball.config.QueryBudget.assertThatQueries;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+import online.rabko.basketball.service.MatchService;
+import online.rabko.basketball.service.PlayerService;
+import online.rabko.basketball.service.SeasonService;
+import online.rabko.basketball.service.TeamService;
+import online.rabko.model.Match;
+import online.rabko.model.MatchDetail;
+import online.rabko.model.Player;
+import online.rabko.model.PlayerStats;
+import online.rabko.model.PlayerStatsStats;
+import online.rabko.model.Season;
+import online.rabko.model.Team;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Integration tests for the batch and composite read endpoints backing a match page.
+ */
+class MatchDetailTest extends IntegrationTestBase {
+
+    @Autowired
+    private SeasonService seasonService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private MatchService matchService;
+
+    @Test
+    void getDetail_shouldAssembleMatchPage() {
+        Season season = seasonService.create(new Season(0, "Detail Season",
+            LocalDate.of(1980, 10, 1), LocalDate.of(1981, 4, 30)));
+        Team home = teamService.create(new Team(0, "Detail Home"));
+        Team away = teamService.create(new Team(0, "Detail Away"));
+        Match match = matchService.create(new Match(0, season.getId(),
+            LocalDate.of(1980, 12, 25), home.getId(), away.getId())
+            .homeTeamScore(110)
+            .awayTeamScore(104));
+        Player first = playerService.create(new Player(0, "Home", "Guard").teamId(home.getId()));
+        Player second = playerService.create(new Player(0, "Away", "Center").teamId(away.getId()));
+        playerService.create(new Player(0, "Bench", "Warmer").teamId(home.getId()));
+        matchService.saveStats(match.getId(), new PlayerStats(0, match.getId(), first.getId(),
+            home.getId(), new PlayerStatsStats().points(31).assists(9)));
+        matchService.saveStats(match.getId(), new PlayerStats(0, match.getId(), second.getId(),
+            away.getId(), new PlayerStatsStats().points(22).rebounds(14)));
+
+        MatchDetail detail = matchService.getDetail(match.getId());
+
+        assertThat(detail.getMatch()).isEqualTo(match);
+        assertThat(detail.getSeason()).isEqualTo(season);
+        assertThat(detail.getHomeTeam()).isEqualTo(home);
+        assertThat(detail.getAwayTeam()).isEqualTo(away);
+        assertThat(detail.getPlayers()).containsExactly(first, second);
+        assertThat(detail.getStats()).extracting(PlayerStats::getPlayerId)
+            .containsExactly(first.getId(), second.getId());
+        assertThat(detail.getStats().get(1).getStats().getRebounds()).isEqualTo(14);
+        assertThatQueries(() -> matchService.getDetail(match.getId()))
+            .hasNoRepeatedStatements();
+    }
+
+    @Test
+    void getByIds_shouldReturnOnlyExistingPlayers() {
+        Player player = playerService.create(new Player(0, "Batch", "Player"));
+
+        List<Player> result = playerService.getByIds(List.of(player.getId(), Integer.MAX_VALUE));
+
+        assertThat(result).containsExactly(player);
+    }
+}
@@ -0,0 +1,66 @@
+package online.rabko.basketball.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Integration tests for the metrics exposed in the Prometheus format. The management endpoints
+ * are served on the application port, as the mock environment has no separate server.
+ */
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@TestPropertySource(properties = "management.server.port=")
+class MetricsTest extends IntegrationTestBase {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void prometheus_shouldExposeSecurityRepositoryPoolAndOperationMetrics() throws Exception {
+        String signUp = mockMvc.perform(post("/auth/sign-up")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"metrics-user\",\"password\":\"secret-password\"}"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        String token = objectMapper.readTree(signUp).get("token").asText();
+        mockMvc.perform(get("/teams")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+            .andExpect(status().isOk());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+            .contains("security_jwt_authentication_seconds_count{outcome=\"success\","
+                + "step=\"verify\"}")
+            .contains("security_password_encoder_seconds_count{operation=\"encode\"}")
+            .containsPattern("spring_data_repository_invocations_seconds_count\\{[^}]*"
+                + "repository=\"UserRepository\"")
+            .containsPattern("http_server_requests_seconds_count\\{[^}]*"
+                + "operation=\"authSignUpPost\"")
+            .contains("hikaricp_connections_acquire_seconds_count")
+            .containsPattern("db_request_statements_count\\{[^}]*operation=\"authSignUpPost\"");
+    }
+
+    @Test
+    void health_shouldBePublic() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+            .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,89 @@
+package online.rabko.basketball.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import online.rabko.basketball.service.MatchService;
+import online.rabko.basketball.service.PlayerService;
+import online.rabko.basketball.service.SeasonService;
+import online.rabko.basketball.service.StatsService;
+import online.rabko.basketball.service.TeamService;
+import online.rabko.model.Match;
+import online.rabko.model.PercentileRank;
+import online.rabko.model.Player;
+import online.rabko.model.PlayerPercentiles;
+import online.rabko.model.PlayerStats;
+import online.rabko.model.PlayerStatsStats;
+import online.rabko.model.Quantile;
+import online.rabko.model.Season;
+import online.rabko.model.StatDistribution;
+import online.rabko.model.Team;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Integration tests for the percentile ranks and distributions estimated from quantile sketches.
+ */
+class PlayerPercentilesTest extends IntegrationTestBase {
+
+    @Autowired
+    private StatsService statsService;
+
+    @Autowired
+    private MatchService matchService;
+
+    @Autowired
+    private SeasonService seasonService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Test
+    void percentiles_shouldFollowBoxScoresOfSeason() {
+        Team home = teamService.create(new Team(0, "Percentile Home"));
+        Team away = teamService.create(new Team(0, "Percentile Away"));
+        Season season = seasonService.create(new Season(0, "Percentile Season",
+            LocalDate.of(1946, 10, 1), LocalDate.of(1947, 4, 30)));
+        Match match = matchService.create(new Match(0, season.getId(), LocalDate.of(1946, 11, 1),
+            home.getId(), away.getId()));
+        Player ranked = null;
+        for (int points = 10; points <= 40; points += 10) {
+            Player player = playerService.create(new Player(0, "Percentile", "P" + points));
+            matchService.saveStats(match.getId(), new PlayerStats(0, 0, player.getId(),
+                home.getId(), new PlayerStatsStats().points(points).fieldGoalsMade(points / 10)
+                .fieldGoalsAttempted(4)));
+            ranked = points == 30 ? player : ranked;
+        }
+
+        PlayerPercentiles percentiles = statsService.getPercentiles(ranked.getId(),
+            season.getId());
+        assertThat(percentiles.getGames()).isEqualTo(1);
+        assertThat(percentiles.getPercentiles()).containsExactly(
+            new PercentileRank(PercentileRank.MetricEnum.POINTS, new BigDecimal("30.0000"),
+                new BigDecimal("75.00")),
+            new PercentileRank(PercentileRank.MetricEnum.FIELD_GOAL_PERCENTAGE,
+                new BigDecimal("0.7500"), new BigDecimal("75.00")));
+
+        Player star = playerService.create(new Player(0, "Percentile", "Star"));
+        matchService.saveStats(match.getId(), new PlayerStats(0, 0, star.getId(), home.getId(),
+            new PlayerStatsStats().points(50)));
+        assertThat(statsService.getPercentiles(ranked.getId(), season.getId()).getPercentiles()
+            .get(0).getPercentile()).isEqualTo(new BigDecimal("60.00"));
+
+        StatDistribution distribution = statsService.getDistribution("points", season.getId());
+        assertThat(distribution.getCount()).isEqualTo(5);
+        assertThat(distribution.getRankError()).isEqualByComparingTo(BigDecimal.ZERO);
+        List<BigDecimal> values = distribution.getQuantiles().stream().map(Quantile::getValue)
+            .toList();
+        assertThat(values.get(0)).isEqualByComparingTo("10");
+        assertThat(values.get(3)).isEqualByComparingTo("30");
+        assertThat(values.get(6)).isEqualByComparingTo("50");
+        assertThat(statsService.getDistribution("points", null).getCount())
+            .isGreaterThanOrEqualTo(5);
+    }
+}
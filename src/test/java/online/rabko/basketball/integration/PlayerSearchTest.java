@@ -0,0 +1,43 @@
+package online.rabko.basketball.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import online.rabko.basketball.service.PlayerService;
+import online.rabko.basketball.service.TeamService;
+import online.rabko.model.Player;
+import online.rabko.model.Team;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Integration tests for fuzzy player search and the typeahead index.
+ */
+class PlayerSearchTest extends IntegrationTestBase {
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Test
+    void search_shouldTolerateTyposInPlayerAndTeamNames() {
+        Team team = teamService.create(new Team(0, "Search Mavericks"));
+        Player player = playerService.create(new Player(0, "Lukas", "Zirconovic")
+            .teamId(team.getId()));
+
+        assertThat(playerService.search("zirconovik", 10)).contains(player);
+        assertThat(playerService.search("search maverics", 10)).contains(player);
+    }
+
+    @Test
+    void suggest_shouldReflectCommittedWrites() {
+        Player player = playerService.create(new Player(0, "Typeahead", "Quintessa"));
+
+        assertThat(playerService.suggest("quintes", 10)).containsExactly(player);
+
+        playerService.delete(player.getId());
+
+        assertThat(playerService.suggest("quintes", 10)).isEmpty();
+    }
+}
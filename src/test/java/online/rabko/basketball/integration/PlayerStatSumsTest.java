@@ -0,0 +1,259 @@
+package online.rabko.basketball.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import online.rabko.basketball.repository.PlayerStatSumsRepository;
+import online.rabko.basketball.service.MatchService;
+import online.rabko.basketball.service.PlayerService;
+import online.rabko.basketball.service.SeasonService;
+import online.rabko.basketball.service.StatsService;
+import online.rabko.basketball.service.StatsWriteBehindService;
+import online.rabko.basketball.service.TeamService;
+import online.rabko.model.Match;
+import online.rabko.model.Player;
+import online.rabko.model.PlayerStats;
+import online.rabko.model.PlayerStatsStats;
+import online.rabko.model.PlayerStatsSummary;
+import online.rabko.model.Season;
+import online.rabko.model.StatsSubmission;
+import online.rabko.model.StatsSubmission.StatusEnum;
+import online.rabko.model.Team;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for the rolling-window and career totals read from the players' running
+ * totals.
+ */
+@TestPropertySource(properties = "stats.write-behind.enabled=true")
+class PlayerStatSumsTest extends IntegrationTestBase {
+
+    private static final long TIMEOUT_MILLIS = 10_000;
+    private static final int CONCURRENT_WRITERS = 8;
+
+    private static final String RUNNING_TOTALS = """
+        SELECT game_number, match_id, season_id, match_date, points, assists
+        FROM player_stat_sums WHERE player_id = ? ORDER BY game_number
+        """;
+
+    @Autowired
+    private StatsService statsService;
+
+    @Autowired
+    private StatsWriteBehindService statsWriteBehindService;
+
+    @Autowired
+    private MatchService matchService;
+
+    @Autowired
+    private SeasonService seasonService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private PlayerStatSumsRepository playerStatSumsRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void totals_shouldFollowBoxScoresAndMatches_inDateOrder() throws InterruptedException {
+        Team home = teamService.create(new Team(0, "Running Home"));
+        Team away = teamService.create(new Team(0, "Running Away"));
+        Player player = playerService.create(new Player(0, "Running", "Totals"));
+        Season first = createSeason(1944);
+        Season second = createSeason(1945);
+        Match december = createMatch(first, LocalDate.of(1944, 12, 1), home, away);
+        Match november = createMatch(first, LocalDate.of(1944, 11, 1), home, away);
+        Match later = createMatch(second, LocalDate.of(1945, 11, 1), home, away);
+        Match mid = createMatch(first, LocalDate.of(1944, 11, 15), home, away);
+
+        saveStats(december, player, home, 30);
+        saveStats(november, player, home, 10);
+        final PlayerStats latest = saveStats(later, player, home, 40);
+        saveStats(mid, player, home, 20);
+
+        PlayerStatsSummary rolling = statsService.getRolling(player.getId(), 2, null);
+        assertThat(rolling.getGames()).isEqualTo(2);
+        assertThat(rolling.getTotals().getPoints()).isEqualTo(70);
+        assertThat(rolling.getTotals().getAssists()).isEqualTo(7);
+        assertThat(rolling.getAverages().getPoints()).isEqualTo(new BigDecimal("35.00"));
+        assertThat(rolling.getAverages().getAssists()).isEqualTo(new BigDecimal("3.50"));
+        assertThat(statsService.getRolling(player.getId(), 10, null).getGames()).isEqualTo(4);
+        assertCareer(player, 4, 100);
+        assertThat(statsService.getCareer(player.getId(), first.getId(), null).getTotals()
+            .getPoints()).isEqualTo(60);
+        assertThat(statsService.getCareer(player.getId(), second.getId(), null).getGames())
+            .isEqualTo(1);
+
+        matchService.update(november.getId(), new Match(0, first.getId(),
+            LocalDate.of(1945, 1, 10), home.getId(), away.getId()));
+        assertThat(statsService.getRolling(player.getId(), 2, null).getTotals().getPoints())
+            .isEqualTo(50);
+
+        statsService.delete(latest.getId());
+        assertCareer(player, 3, 60);
+        assertThat(statsService.getRolling(player.getId(), 2, null).getTotals().getPoints())
+            .isEqualTo(40);
+
+        StatsSubmission submission = statsWriteBehindService.submit(later.getId(),
+            stats(player, home, 5));
+        awaitRecorded(submission.getTrackingId());
+        assertCareer(player, 4, 65);
+
+        matchService.delete(mid.getId());
+        assertCareer(player, 3, 45);
+        assertThat(statsService.getCareer(player.getId(), first.getId(), null).getTotals()
+            .getPoints()).isEqualTo(40);
+        assertThat(jdbcTemplate.queryForObject("""
+            SELECT SUM((stats ->> 'points')::int) FROM match_participants WHERE player_id = ?
+            """, Integer.class, player.getId())).isEqualTo(45);
+
+        List<Map<String, Object>> maintained = jdbcTemplate.queryForList(RUNNING_TOTALS,
+            player.getId());
+        transactionTemplate.executeWithoutResult(status -> playerStatSumsRepository.refreshAll());
+        assertThat(jdbcTemplate.queryForList(RUNNING_TOTALS, player.getId()))
+            .isEqualTo(maintained);
+    }
+
+    @Test
+    void totals_shouldStayConsistent_whenBoxScoresOfPlayerAreSavedConcurrently()
+        throws InterruptedException, ExecutionException {
+        Team home = teamService.create(new Team(0, "Concurrent Home"));
+        Team away = teamService.create(new Team(0, "Concurrent Away"));
+        Player player = playerService.create(new Player(0, "Concurrent", "Totals"));
+        Season season = createSeason(1952);
+        List<Match> matches = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_WRITERS; i++) {
+            matches.add(createMatch(season, LocalDate.of(1952, 11, 1).plusDays(i), home, away));
+        }
+
+        int expectedPoints = 0;
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_WRITERS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<PlayerStats>> saved = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_WRITERS; i++) {
+                Match match = matches.get(i);
+                int points = 10 + i;
+                expectedPoints += points;
+                saved.add(executor.submit(() -> {
+                    start.await();
+                    return saveStats(match, player, home, points);
+                }));
+            }
+            start.countDown();
+            for (Future<PlayerStats> future : saved) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertCareer(player, CONCURRENT_WRITERS, expectedPoints);
+        List<Map<String, Object>> maintained = jdbcTemplate.queryForList(RUNNING_TOTALS,
+            player.getId());
+        transactionTemplate.executeWithoutResult(status -> playerStatSumsRepository.refreshAll());
+        assertThat(jdbcTemplate.queryForList(RUNNING_TOTALS, player.getId()))
+            .isEqualTo(maintained);
+    }
+
+    @Test
+    void boxScore_shouldBeRecordedOnce_whenSavedConcurrentlyForSameMatch()
+        throws InterruptedException, ExecutionException {
+        Team home = teamService.create(new Team(0, "Same Match Home"));
+        Team away = teamService.create(new Team(0, "Same Match Away"));
+        Player player = playerService.create(new Player(0, "Same", "Match"));
+        Match match = createMatch(createSeason(1956), LocalDate.of(1956, 11, 1), home, away);
+
+        List<Integer> ids = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_WRITERS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<PlayerStats>> saved = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_WRITERS; i++) {
+                saved.add(executor.submit(() -> {
+                    start.await();
+                    return saveStats(match, player, home, 20);
+                }));
+            }
+            start.countDown();
+            for (Future<PlayerStats> future : saved) {
+                ids.add(future.get().getId());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(ids).containsOnly(ids.get(0));
+        assertCareer(player, 1, 20);
+    }
+
+    @Test
+    void totals_shouldBeEmpty_whenPlayerHasNoGames() {
+        Player player = playerService.create(new Player(0, "Benched", "Player"));
+
+        PlayerStatsSummary career = statsService.getCareer(player.getId(), null, null);
+
+        assertThat(career.getGames()).isZero();
+        assertThat(career.getTotals().getPoints()).isZero();
+        assertThat(career.getAverages()).isNull();
+    }
+
+    private void assertCareer(Player player, int games, int points) {
+        PlayerStatsSummary career = statsService.getCareer(player.getId(), null, null);
+        assertThat(career.getGames()).isEqualTo(games);
+        assertThat(career.getTotals().getPoints()).isEqualTo(points);
+    }
+
+    private Season createSeason(int year) {
+        return seasonService.create(new Season(0, "Running Season " + year,
+            LocalDate.of(year, 10, 1), LocalDate.of(year + 1, 4, 30)));
+    }
+
+    private Match createMatch(Season season, LocalDate date, Team home, Team away) {
+        return matchService.create(new Match(0, season.getId(), date, home.getId(),
+            away.getId()));
+    }
+
+    private PlayerStats saveStats(Match match, Player player, Team team, int points) {
+        return matchService.saveStats(match.getId(), stats(player, team, points));
+    }
+
+    private void awaitRecorded(UUID trackingId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        StatsSubmission submission = statsWriteBehindService.getSubmission(trackingId);
+        while (submission.getStatus() == StatusEnum.QUEUED
+            && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            submission = statsWriteBehindService.getSubmission(trackingId);
+        }
+        assertThat(submission.getStatus()).isEqualTo(StatusEnum.RECORDED);
+    }
+
+    private static PlayerStats stats(Player player, Team team, int points) {
+        return new PlayerStats(0, 0, player.getId(), team.getId(),
+            new PlayerStatsStats().points(points).assists(points / 10));
+    }
+}
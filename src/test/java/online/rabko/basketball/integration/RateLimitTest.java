@@ -0,0 +1,87 @@
+package online.rabko.basketball.integration;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+/**
+ * Integration tests for limiting the rate of requests through the security filter chain.
+ */
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+    "rate-limit.policies[0].name=auth",
+    "rate-limit.policies[0].path=/auth/**",
+    "rate-limit.policies[0].capacity=3",
+    "rate-limit.policies[0].period=PT1H",
+    "rate-limit.policies[1].name=default",
+    "rate-limit.policies[1].path=/**",
+    "rate-limit.policies[1].capacity=2",
+    "rate-limit.policies[1].period=PT1H"
+})
+class RateLimitTest extends IntegrationTestBase {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void requests_shouldBeLimitedPerUser_andPerAddressWithoutToken() throws Exception {
+        String first = signUp("limited-first", "192.0.2.1");
+        String second = signUp("limited-second", "192.0.2.1");
+        mockMvc.perform(post("/auth/token")
+                .with(address("192.0.2.1"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"limited-first\",\"password\":\"wrong-password\"}"))
+            .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/auth/token")
+                .with(address("192.0.2.1"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"limited-first\",\"password\":\"secret-password\"}"))
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+
+        mockMvc.perform(teams(first, "192.0.2.2")).andExpect(status().isOk());
+        mockMvc.perform(teams(first, "192.0.2.3")).andExpect(status().isOk());
+        mockMvc.perform(teams(first, "192.0.2.4"))
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+        mockMvc.perform(teams(second, "192.0.2.2")).andExpect(status().isOk());
+    }
+
+    private String signUp(String username, String address) throws Exception {
+        String body = mockMvc.perform(post("/auth/sign-up")
+                .with(address(address))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"" + username + "\",\"password\":\"secret-password\"}"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("token").asText();
+    }
+
+    private static MockHttpServletRequestBuilder teams(String token, String address) {
+        return get("/teams")
+            .with(address(address))
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+    }
+
+    private static RequestPostProcessor address(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+}
@@ -0,0 +1,178 @@
+package online.rabko.basketball.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import online.rabko.basketball.controller.ReactiveStatsController;
+import online.rabko.basketball.controller.StatsController;
+import online.rabko.basketball.enums.PlayerStatsMetric;
+import online.rabko.basketball.service.MatchService;
+import online.rabko.basketball.service.PlayerService;
+import online.rabko.basketball.service.SeasonService;
+import online.rabko.basketball.service.StatsService;
+import online.rabko.basketball.service.TeamService;
+import online.rabko.model.Match;
+import online.rabko.model.Player;
+import online.rabko.model.PlayerStats;
+import online.rabko.model.PlayerStatsStats;
+import online.rabko.model.Season;
+import online.rabko.model.Team;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Integration tests for the stats endpoints served by {@link ReactiveStatsController}, through
+ * the embedded server, whose answers must match those of the blocking {@link StatsService}.
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = {
+    "stats.reactive.enabled=true",
+    "rate-limit.enabled=false"
+})
+class ReactiveStatsTest extends IntegrationTestBase {
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private StatsService statsService;
+
+    @Autowired
+    private MatchService matchService;
+
+    @Autowired
+    private SeasonService seasonService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        token = signUp();
+    }
+
+    @Test
+    void reactiveController_shouldReplaceBlockingController() {
+        assertThat(applicationContext.getBeanNamesForType(ReactiveStatsController.class))
+            .hasSize(1);
+        assertThat(applicationContext.getBeanNamesForType(StatsController.class)).isEmpty();
+    }
+
+    @Test
+    void reads_shouldMatchBlockingService() throws Exception {
+        Team home = teamService.create(new Team(0, "Reactive Home " + System.nanoTime()));
+        Team away = teamService.create(new Team(0, "Reactive Away " + System.nanoTime()));
+        Player player = playerService.create(new Player(0, "Reactive", "Reader"));
+        Season season = seasonService.create(new Season(0, "Reactive Season " + System.nanoTime(),
+            LocalDate.of(1954, 10, 1), LocalDate.of(1955, 4, 30)));
+        Match match = matchService.create(new Match(0, season.getId(),
+            LocalDate.of(1954, 11, 2), home.getId(), away.getId())
+            .homeTeamScore(101).awayTeamScore(99));
+        matchService.create(new Match(0, season.getId(), LocalDate.of(1954, 11, 9),
+            away.getId(), home.getId()).homeTeamScore(88).awayTeamScore(90));
+        final PlayerStats boxScore = matchService.saveStats(match.getId(), new PlayerStats(0, 0,
+            player.getId(), home.getId(),
+            new PlayerStatsStats().points(31).assists(7).minutesPlayed(38)));
+        final Integer seasonId = season.getId();
+
+        assertThat(get("/stats/players/" + boxScore.getId()))
+            .isEqualTo(json(statsService.getById(boxScore.getId())));
+        assertThat(get("/stats/players/top-scorers?season_id=" + seasonId))
+            .isEqualTo(json(statsService.getLeaders(PlayerStatsMetric.POINTS, seasonId, null)));
+        assertThat(get("/stats/players/efficiency-rating?as_of=1954-12-31"))
+            .isEqualTo(json(statsService.getLeaders(PlayerStatsMetric.EFFICIENCY, null,
+                LocalDate.of(1954, 12, 31))));
+        assertThat(get("/stats/teams/win-rate?season_id=" + seasonId))
+            .isEqualTo(json(statsService.getTeamsByWinRate(seasonId, null)));
+        assertThat(get("/stats/teams/average-points?season_id=" + seasonId
+            + "&as_of=1954-11-05"))
+            .isEqualTo(json(statsService.getTeamsByAveragePoints(seasonId,
+                LocalDate.of(1954, 11, 5))));
+        assertThat(get("/stats/matches/highest-scoring"))
+            .isEqualTo(json(statsService.getHighestScoringMatches(null)));
+        assertThat(get("/stats/players/" + boxScore.getPlayerId() + "/career?season_id="
+            + seasonId))
+            .isEqualTo(json(statsService.getCareer(boxScore.getPlayerId(), seasonId, null)));
+        assertThat(get("/stats/players/" + boxScore.getPlayerId() + "/career?as_of=1954-12-31"))
+            .isEqualTo(json(statsService.getCareer(boxScore.getPlayerId(), null,
+                LocalDate.of(1954, 12, 31))));
+        assertThat(get("/stats/players/" + boxScore.getPlayerId() + "/rolling?games=5"))
+            .isEqualTo(json(statsService.getRolling(boxScore.getPlayerId(), 5, null)));
+    }
+
+    @Test
+    void missingPlayer_shouldReturnNotFound() throws Exception {
+        HttpResponse<String> response = send("/stats/players/" + Integer.MAX_VALUE
+            + "/rolling?games=5");
+
+        assertThat(response.statusCode()).isEqualTo(404);
+    }
+
+    @Test
+    void missingRecord_shouldReturnNotFound() throws Exception {
+        HttpResponse<String> response = send("/stats/players/" + Integer.MAX_VALUE);
+
+        assertThat(response.statusCode()).isEqualTo(404);
+        assertThat(objectMapper.readTree(response.body()).get("error").asText())
+            .contains(String.valueOf(Integer.MAX_VALUE));
+    }
+
+    private JsonNode get(String path) throws IOException, InterruptedException {
+        HttpResponse<String> response = send(path);
+        assertThat(response.statusCode()).as(path).isEqualTo(200);
+        return objectMapper.readTree(response.body());
+    }
+
+    private JsonNode json(Object value) throws IOException {
+        return objectMapper.readTree(objectMapper.writeValueAsString(value));
+    }
+
+    private HttpResponse<String> send(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url(path)))
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+            .GET()
+            .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private String signUp() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url("/auth/sign-up")))
+            .header(HttpHeaders.CONTENT_TYPE, "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"reactive-"
+                + System.nanoTime() + "\",\"password\":\"secret-password\"}"))
+            .build();
+        String body = httpClient.send(request, HttpResponse.BodyHandlers.ofString()).body();
+        return objectMapper.readTree(body).get("token").asText();
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + port + path;
+    }
+}
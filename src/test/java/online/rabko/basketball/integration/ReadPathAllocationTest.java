@@ -0,0 +1,108 @@
+package online.rabko.basketball.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sun.management.ThreadMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.Supplier;
+import online.rabko.basketball.entity.PlayerEntity;
+import online.rabko.basketball.entity.TeamEntity;
+import online.rabko.basketball.mapper.PlayerMapper;
+import online.rabko.basketball.repository.PlayerRepository;
+import online.rabko.basketball.repository.TeamRepository;
+import online.rabko.basketball.service.PlayerService;
+import online.rabko.model.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Benchmarks the heap allocated per request by the JDBC projection read path against loading
+ * managed entities and mapping them afterwards.
+ */
+class ReadPathAllocationTest extends IntegrationTestBase {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadPathAllocationTest.class);
+    private static final int PLAYERS = 500;
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASURED_ITERATIONS = 50;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        if (playerRepository.count() >= PLAYERS) {
+            return;
+        }
+        TeamEntity team = teamRepository.save(TeamEntity.builder().name("Allocation Team").build());
+        for (int i = 0; i < PLAYERS; i++) {
+            playerRepository.save(PlayerEntity.builder()
+                .team(team)
+                .firstName("First" + i)
+                .lastName("Last" + i)
+                .position("Guard")
+                .age(20 + i % 15)
+                .height(180 + i % 40)
+                .weight(75 + i % 50)
+                .build());
+        }
+    }
+
+    @Test
+    void projectionPath_shouldReturnSameModels_asEntityPath() {
+        assertThat(listPlayers()).isEqualTo(loadThroughEntities());
+    }
+
+    @Test
+    void projectionPath_shouldAllocateLessPerRequest_thanEntityPath() {
+        long entityBytes = allocatedBytesPerCall(this::loadThroughEntities);
+        long projectionBytes = allocatedBytesPerCall(this::listPlayers);
+
+        log.info("GET /players allocations per request: entity path {} bytes, "
+            + "projection path {} bytes", entityBytes, projectionBytes);
+        assertThat(projectionBytes).isLessThan(entityBytes);
+    }
+
+    private List<Player> listPlayers() {
+        return playerService.getAll(null, null, "id", "asc");
+    }
+
+    private List<Player> loadThroughEntities() {
+        return readOnlyTransaction.execute(status -> playerRepository.findAll(Sort.by("id"))
+            .stream()
+            .map(PlayerMapper::toDto)
+            .toList());
+    }
+
+    private static long allocatedBytesPerCall(Supplier<List<Player>> readPath) {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            readPath.get();
+        }
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            readPath.get();
+        }
+        return (threads.getCurrentThreadAllocatedBytes() - before) / MEASURED_ITERATIONS;
+    }
+}
@@ -0,0 +1,89 @@
+package online.rabko.basketball.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import online.rabko.basketball.entity.SeasonEntity;
+import online.rabko.basketball.entity.TeamEntity;
+import online.rabko.basketball.repository.SeasonRepository;
+import online.rabko.basketball.repository.TeamRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests proving that reference data is served from the second-level cache.
+ */
+class ReferenceDataCacheTest extends IntegrationTestBase {
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private SeasonRepository seasonRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @Test
+    void findById_shouldHitSecondLevelCache_onRepeatedLookups() {
+        Integer id = teamRepository.save(TeamEntity.builder().name("Cached Team").build()).getId();
+        teamRepository.findById(id);
+        statistics.clear();
+
+        for (int i = 0; i < 5; i++) {
+            transactionTemplate.executeWithoutResult(status -> teamRepository.findById(id));
+        }
+
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(5);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void findBySimpleNaturalId_shouldHitNaturalIdCache_onRepeatedLookups() {
+        seasonRepository.save(SeasonEntity.builder()
+            .name("Cached Season")
+            .startDate(LocalDate.of(1990, 10, 1))
+            .endDate(LocalDate.of(1991, 4, 30))
+            .build());
+        statistics.clear();
+
+        for (int i = 0; i < 5; i++) {
+            transactionTemplate.executeWithoutResult(
+                status -> assertThat(seasonRepository.findBySimpleNaturalId("Cached Season"))
+                    .isPresent());
+        }
+
+        assertThat(statistics.getNaturalIdCacheHitCount()).isEqualTo(5);
+        assertThat(statistics.getNaturalIdQueryExecutionCount()).isZero();
+    }
+
+    @Test
+    void findAllTeams_shouldHitQueryCache_untilTeamsChange() {
+        teamRepository.findAllTeams();
+        statistics.clear();
+
+        teamRepository.findAllTeams();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+
+        teamRepository.save(TeamEntity.builder().name("Invalidating Team").build());
+        teamRepository.findAllTeams();
+        assertThat(statistics.getQueryCacheMissCount()).isEqualTo(1);
+    }
+}
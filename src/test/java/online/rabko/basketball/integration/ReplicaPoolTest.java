@@ -0,0 +1,29 @@
+package online.rabko.basketball.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+import javax.sql.DataSource;
+import online.rabko.basketball.config.datasource.ReplicaPool;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Integration tests for the replication lag check of {@link ReplicaPool}.
+ */
+class ReplicaPoolTest extends IntegrationTestBase {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void refreshHealth_shouldDropServer_whenItIsNotInRecovery() {
+        ReplicaPool replicaPool = new ReplicaPool(Map.of("primary", dataSource),
+            Duration.ofHours(1));
+
+        replicaPool.refreshHealth();
+
+        assertThat(replicaPool.nextHealthy()).isEmpty();
+    }
+}
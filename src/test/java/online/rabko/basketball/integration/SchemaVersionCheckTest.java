@@ -0,0 +1,54 @@
+package online.rabko.basketball.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.Map;
+import online.rabko.basketball.config.SchemaVersionCheck;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Integration tests for checking the schema version against {@code DATABASECHANGELOG}.
+ */
+class SchemaVersionCheckTest extends IntegrationTestBase {
+
+    private static final String LATEST_CHANGE_SET = """
+        SELECT * FROM databasechangelog ORDER BY orderexecuted DESC LIMIT 1
+        """;
+
+    @Autowired
+    private SchemaVersionCheck schemaVersionCheck;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void verify_shouldPass_whenEveryChangeSetWasApplied() {
+        assertThat(schemaVersionCheck.findPendingChangeSets()).isEmpty();
+
+        schemaVersionCheck.verify();
+    }
+
+    @Test
+    void verify_shouldRefuse_whenSchemaIsBehind() {
+        Map<String, Object> latest = jdbcTemplate.queryForMap(LATEST_CHANGE_SET);
+        jdbcTemplate.update("DELETE FROM databasechangelog WHERE id = ? AND author = ?",
+            latest.get("id"), latest.get("author"));
+        try {
+            assertThat(schemaVersionCheck.findPendingChangeSets()).singleElement()
+                .asString()
+                .contains(latest.get("filename").toString(), latest.get("id").toString());
+            assertThatIllegalStateException().isThrownBy(schemaVersionCheck::verify)
+                .withMessageContaining("1 change set(s) behind")
+                .withMessageContaining("--migrate");
+        } finally {
+            jdbcTemplate.update("INSERT INTO databasechangelog (" + String.join(", ",
+                    latest.keySet()) + ") VALUES ("
+                    + "?, ".repeat(latest.size() - 1) + "?)",
+                latest.values().toArray());
+        }
+        assertThat(schemaVersionCheck.findPendingChangeSets()).isEmpty();
+    }
+}
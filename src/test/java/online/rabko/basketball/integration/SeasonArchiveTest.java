@@ -0,0 +1,175 @@
+package online.rabko.basketball.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import online.rabko.basketball.enums.PlayerStatsMetric;
+import online.rabko.basketball.exception.ConflictException;
+import online.rabko.basketball.service.MatchService;
+import online.rabko.basketball.service.PlayerService;
+import online.rabko.basketball.service.SeasonArchiveService;
+import online.rabko.basketball.service.SeasonService;
+import online.rabko.basketball.service.StatsService;
+import online.rabko.basketball.service.TeamService;
+import online.rabko.model.Match;
+import online.rabko.model.Player;
+import online.rabko.model.PlayerStats;
+import online.rabko.model.PlayerStatsStats;
+import online.rabko.model.Season;
+import online.rabko.model.SeasonArchiveInfo;
+import online.rabko.model.Team;
+import online.rabko.model.TeamStats;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Integration tests for archiving a season to a season archive and restoring it.
+ */
+class SeasonArchiveTest extends IntegrationTestBase {
+
+    @TempDir
+    private static Path archiveDirectory;
+
+    @Autowired
+    private SeasonService seasonService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private MatchService matchService;
+
+    @Autowired
+    private StatsService statsService;
+
+    @Autowired
+    private SeasonArchiveService seasonArchiveService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Points the archive directory to a temporary directory.
+     *
+     * @param registry the dynamic property registry
+     */
+    @DynamicPropertySource
+    static void archiveProperties(DynamicPropertyRegistry registry) {
+        registry.add("archive.directory", () -> archiveDirectory.toString());
+    }
+
+    @Test
+    void archive_shouldServeSameStatsAsDatabase_andRestoreRows() {
+        Season season = seasonService.create(new Season(0, "Archived Season",
+            LocalDate.of(1970, 10, 1), LocalDate.of(1971, 4, 30)));
+        List<Match> matches = createMatches(season);
+        Answers fromDatabase = answers(season);
+
+        SeasonArchiveInfo archived = seasonArchiveService.archive(season.getId());
+
+        assertThat(archived.getMatchCount()).isEqualTo(matches.size());
+        assertThat(archived.getBoxScoreCount()).isEqualTo(matches.size() * 4);
+        assertThat(archiveDirectory.resolve("season-" + season.getId() + ".bbsa")).exists();
+        assertThat(countRows("matches", season)).isZero();
+        assertThat(countRows("match_participants", season)).isZero();
+        assertThat(answers(season)).isEqualTo(fromDatabase);
+        assertThatThrownBy(() -> matchService.create(new Match(0, season.getId(),
+            LocalDate.of(1971, 1, 1), matches.get(0).getHomeTeamId(),
+            matches.get(0).getAwayTeamId())))
+            .isInstanceOf(ConflictException.class);
+        assertThatThrownBy(() -> seasonService.delete(season.getId()))
+            .isInstanceOf(ConflictException.class);
+
+        seasonArchiveService.restore(season.getId());
+
+        assertThat(Files.exists(archiveDirectory.resolve("season-" + season.getId() + ".bbsa")))
+            .isFalse();
+        assertThat(countRows("matches", season)).isEqualTo(matches.size());
+        assertThat(answers(season)).isEqualTo(fromDatabase);
+        assertThat(matchService.getById(matches.get(0).getId())).isEqualTo(matches.get(0));
+    }
+
+    @Test
+    void archive_shouldRejectSecondArchive() {
+        Season season = seasonService.create(new Season(0, "Twice Archived",
+            LocalDate.of(1972, 10, 1), LocalDate.of(1973, 4, 30)));
+        seasonArchiveService.archive(season.getId());
+
+        assertThatThrownBy(() -> seasonArchiveService.archive(season.getId()))
+            .isInstanceOf(ConflictException.class);
+    }
+
+    private List<Match> createMatches(Season season) {
+        List<Team> teams = new ArrayList<>();
+        List<Player> players = new ArrayList<>();
+        for (int t = 0; t < 3; t++) {
+            Team team = teamService.create(new Team(0, "Archive Team " + t));
+            teams.add(team);
+            for (int p = 0; p < 2; p++) {
+                players.add(playerService.create(new Player(0, "Archived", "Player " + t + p)
+                    .teamId(team.getId())));
+            }
+        }
+        List<Match> matches = new ArrayList<>();
+        for (int m = 0; m < 6; m++) {
+            int home = m % 3;
+            int away = (m + 1) % 3;
+            Match match = matchService.create(new Match(0, season.getId(),
+                season.getStartDate().plusDays(m * 7L), teams.get(home).getId(),
+                teams.get(away).getId())
+                .homeTeamScore(90 + m * 3)
+                .awayTeamScore(m % 2 == 0 ? 95 : 90 + m * 3));
+            matches.add(match);
+            for (int side : new int[]{home, away}) {
+                for (int p = 0; p < 2; p++) {
+                    PlayerStatsStats stats = new PlayerStatsStats()
+                        .points(10 + (m * 7 + side * 3 + p * 5) % 25)
+                        .assists((m + p) % 9)
+                        .rebounds(p == 0 ? null : (m * 5 + side) % 14)
+                        .fieldGoalsAttempted(8 + m)
+                        .fieldGoalsMade(4 + p)
+                        .turnovers(m % 4);
+                    matchService.saveStats(match.getId(), new PlayerStats(0, match.getId(),
+                        players.get(side * 2 + p).getId(), teams.get(side).getId(), stats));
+                }
+            }
+        }
+        return matches;
+    }
+
+    private Answers answers(Season season) {
+        Map<PlayerStatsMetric, List<PlayerStats>> leaders = new EnumMap<>(PlayerStatsMetric.class);
+        for (PlayerStatsMetric metric : PlayerStatsMetric.values()) {
+            leaders.put(metric, statsService.getLeaders(metric, season.getId(), null));
+        }
+        return new Answers(leaders, statsService.getTeamsByAveragePoints(season.getId(), null),
+            statsService.getTeamsByWinRate(season.getId(), null),
+            statsService.getHighestScoringMatches(season.getId()));
+    }
+
+    private Integer countRows(String table, Season season) {
+        return jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM " + table + " WHERE season_id = ?", Integer.class,
+            season.getId());
+    }
+
+    private record Answers(Map<PlayerStatsMetric, List<PlayerStats>> leaders,
+                           List<TeamStats> byAveragePoints, List<TeamStats> byWinRate,
+                           List<Match> highestScoring) {
+
+    }
+}
@@ -0,0 +1,119 @@
+package online.rabko.basketball.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+import online.rabko.basketball.service.MatchService;
+import online.rabko.basketball.service.PlayerService;
+import online.rabko.basketball.service.SeasonService;
+import online.rabko.basketball.service.TeamService;
+import online.rabko.model.Match;
+import online.rabko.model.Player;
+import online.rabko.model.PlayerStats;
+import online.rabko.model.PlayerStatsStats;
+import online.rabko.model.Season;
+import online.rabko.model.Team;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Integration tests for the per-season partitions of the {@code matches} and
+ * {@code match_participants} tables.
+ */
+class SeasonPartitioningTest extends IntegrationTestBase {
+
+    @Autowired
+    private SeasonService seasonService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private MatchService matchService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void create_shouldStoreMatchesAndBoxScoresInSeasonPartition() {
+        Season season = createSeason("Partition Season", 1960);
+        Match match = createMatchWithStats(season, "Partition");
+
+        assertThat(partitionOf("matches", match.getId()))
+            .isEqualTo("matches_season_" + season.getId());
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT tableoid::regclass::text FROM match_participants WHERE match_id = ?",
+            String.class, match.getId()))
+            .isEqualTo("match_participants_season_" + season.getId());
+    }
+
+    @Test
+    void update_shouldMoveBoxScores_whenMatchChangesSeason() {
+        Season from = createSeason("Moving From", 1962);
+        Season to = createSeason("Moving To", 1963);
+        Match match = createMatchWithStats(from, "Moving");
+
+        matchService.update(match.getId(), match.seasonId(to.getId()).date(LocalDate.of(1963, 12,
+            1)));
+
+        assertThat(partitionOf("matches", match.getId()))
+            .isEqualTo("matches_season_" + to.getId());
+        assertThat(matchService.getStats(match.getId())).hasSize(1);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT season_id FROM match_participants WHERE match_id = ?", Integer.class,
+            match.getId())).isEqualTo(to.getId());
+    }
+
+    @Test
+    void seasonFilteredQuery_shouldScanOnlyThatSeasonsPartition() {
+        Season season = createSeason("Pruned Season", 1964);
+        createSeason("Other Season", 1965);
+
+        List<String> plan = jdbcTemplate.queryForList(
+            "EXPLAIN SELECT * FROM match_participants mp WHERE mp.season_id = ?", String.class,
+            season.getId());
+
+        assertThat(String.join("\n", plan))
+            .contains("match_participants_season_" + season.getId())
+            .doesNotContain("match_participants_default");
+    }
+
+    @Test
+    void delete_shouldDropSeasonPartitions() {
+        Season season = createSeason("Dropped Season", 1966);
+
+        seasonService.delete(season.getId());
+
+        assertThat(jdbcTemplate.queryForObject("SELECT to_regclass(?)::text", String.class,
+            "matches_season_" + season.getId())).isNull();
+        assertThat(jdbcTemplate.queryForObject("SELECT to_regclass(?)::text", String.class,
+            "match_participants_season_" + season.getId())).isNull();
+    }
+
+    private Season createSeason(String name, int year) {
+        return seasonService.create(new Season(0, name, LocalDate.of(year, 10, 1),
+            LocalDate.of(year + 1, 4, 30)));
+    }
+
+    private Match createMatchWithStats(Season season, String prefix) {
+        Team home = teamService.create(new Team(0, prefix + " Home"));
+        Team away = teamService.create(new Team(0, prefix + " Away"));
+        Player player = playerService.create(new Player(0, prefix, "Scorer")
+            .teamId(home.getId()));
+        Match match = matchService.create(new Match(0, season.getId(),
+            season.getStartDate().plusMonths(2), home.getId(), away.getId()));
+        matchService.saveStats(match.getId(), new PlayerStats(0, match.getId(), player.getId(),
+            home.getId(), new PlayerStatsStats().points(20)));
+        return match;
+    }
+
+    private String partitionOf(String table, Integer id) {
+        return jdbcTemplate.queryForObject(
+            "SELECT tableoid::regclass::text FROM " + table + " WHERE id = ?", String.class, id);
+    }
+}
@@ -0,0 +1,181 @@
+package online.rabko.basketball.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.UUID;
+import online.rabko.basketball.config.StatsWriteBehindProperties;
+import online.rabko.basketball.dto.BoxScoreWrite;
+import online.rabko.basketball.exception.NotFoundException;
+import online.rabko.basketball.repository.BoxScoreWriteRepository;
+import online.rabko.basketball.repository.ChangeRepository;
+import online.rabko.basketball.repository.PlayerStatSumsRepository;
+import online.rabko.basketball.service.MatchService;
+import online.rabko.basketball.service.PlayerService;
+import online.rabko.basketball.service.SeasonService;
+import online.rabko.basketball.service.StatsPercentileIndex;
+import online.rabko.basketball.service.StatsWriteBehindService;
+import online.rabko.basketball.service.TeamService;
+import online.rabko.basketball.wal.WriteAheadLog;
+import online.rabko.model.Match;
+import online.rabko.model.Player;
+import online.rabko.model.PlayerStats;
+import online.rabko.model.PlayerStatsStats;
+import online.rabko.model.Season;
+import online.rabko.model.StatsSubmission;
+import online.rabko.model.StatsSubmission.StatusEnum;
+import online.rabko.model.Team;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for stats submissions recorded by the write-behind queue.
+ */
+@TestPropertySource(properties = "stats.write-behind.enabled=true")
+class StatsWriteBehindTest extends IntegrationTestBase {
+
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    @TempDir
+    private Path replayDirectory;
+
+    @Autowired
+    private StatsWriteBehindService statsWriteBehindService;
+
+    @Autowired
+    private MatchService matchService;
+
+    @Autowired
+    private SeasonService seasonService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private BoxScoreWriteRepository boxScoreWriteRepository;
+
+    @Autowired
+    private ChangeRepository changeRepository;
+
+    @Autowired
+    private PlayerStatSumsRepository playerStatSumsRepository;
+
+    @Autowired
+    private StatsPercentileIndex statsPercentileIndex;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void submit_shouldRecordLatestStatsOfEachPlayer() throws InterruptedException {
+        Team home = teamService.create(new Team(0, "Queued Home"));
+        Team away = teamService.create(new Team(0, "Queued Away"));
+        Player first = playerService.create(new Player(0, "Queued", "First"));
+        Player second = playerService.create(new Player(0, "Queued", "Second"));
+        Match match = createMatch(1940, home, away);
+
+        statsWriteBehindService.submit(match.getId(), stats(first, home, 10));
+        StatsSubmission queued = statsWriteBehindService.submit(match.getId(),
+            stats(second, away, 4));
+        StatsSubmission latest = statsWriteBehindService.submit(match.getId(),
+            stats(first, home, 25));
+
+        StatsSubmission recorded = awaitRecorded(latest.getTrackingId());
+        awaitRecorded(queued.getTrackingId());
+        assertThat(matchService.getStats(match.getId()))
+            .extracting(PlayerStats::getPlayerId, stats -> stats.getStats().getPoints())
+            .containsExactlyInAnyOrder(
+                tuple(first.getId(), 25),
+                tuple(second.getId(), 4));
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT operation FROM changes WHERE resource = 'box_score' AND resource_id = ?",
+            String.class, recorded.getStatsId())).isEqualTo("upsert");
+    }
+
+    @Test
+    void start_shouldRecordLoggedSubmissionsOnce_whenReplayingAfterCrash()
+        throws IOException, InterruptedException {
+        Team home = teamService.create(new Team(0, "Replayed Home"));
+        Team away = teamService.create(new Team(0, "Replayed Away"));
+        Player player = playerService.create(new Player(0, "Replayed", "Player"));
+        Match match = createMatch(1942, home, away);
+        Integer seasonId = match.getSeasonId();
+        UUID logId = UUID.randomUUID();
+        Files.writeString(replayDirectory.resolve("log-id"), logId.toString());
+        BoxScoreWrite recorded = new BoxScoreWrite(UUID.randomUUID(), match.getId(), seasonId,
+            player.getId(), home.getId(), new PlayerStatsStats().points(99));
+        BoxScoreWrite pending = new BoxScoreWrite(UUID.randomUUID(), match.getId(), seasonId,
+            player.getId(), home.getId(), new PlayerStatsStats().points(7));
+        try (WriteAheadLog wal = WriteAheadLog.open(replayDirectory.resolve("stats-0.wal"))) {
+            wal.append(objectMapper.writeValueAsBytes(recorded), sequence -> {});
+            wal.append(objectMapper.writeValueAsBytes(pending), sequence -> {});
+        }
+        boxScoreWriteRepository.saveCheckpoint(logId, 0, 1);
+
+        StatsWriteBehindProperties properties = new StatsWriteBehindProperties();
+        properties.setDirectory(replayDirectory);
+        properties.setPartitions(1);
+        StatsWriteBehindService restarted = new StatsWriteBehindService(properties, matchService,
+            boxScoreWriteRepository, changeRepository, playerStatSumsRepository,
+            statsPercentileIndex, transactionTemplate, objectMapper);
+        restarted.start();
+        assertThatThrownBy(() -> restarted.getSubmission(recorded.trackingId()))
+            .isInstanceOf(NotFoundException.class);
+        awaitRecorded(restarted, pending.trackingId());
+        restarted.stop();
+
+        assertThat(matchService.getStats(match.getId()))
+            .singleElement()
+            .satisfies(stats -> assertThat(stats.getStats().getPoints()).isEqualTo(7));
+        assertThat(Files.size(replayDirectory.resolve("stats-0.wal"))).isZero();
+        assertThat(boxScoreWriteRepository.findCheckpoint(logId, 0)).isEqualTo(2);
+    }
+
+    private Match createMatch(int year, Team home, Team away) {
+        Season season = seasonService.create(new Season(0, "Queued Season " + year,
+            LocalDate.of(year, 10, 1), LocalDate.of(year + 1, 4, 30)));
+        return matchService.create(new Match(0, season.getId(), LocalDate.of(year, 11, 1),
+            home.getId(), away.getId()));
+    }
+
+    private StatsSubmission awaitRecorded(UUID trackingId) throws InterruptedException {
+        return awaitRecorded(statsWriteBehindService, trackingId);
+    }
+
+    private static StatsSubmission awaitRecorded(StatsWriteBehindService service,
+        UUID trackingId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        StatsSubmission submission = service.getSubmission(trackingId);
+        while (submission.getStatus() == StatusEnum.QUEUED
+            && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            submission = service.getSubmission(trackingId);
+        }
+        assertThat(submission.getStatus()).isEqualTo(StatusEnum.RECORDED);
+        return submission;
+    }
+
+    private static PlayerStats stats(Player player, Team team, int points) {
+        return new PlayerStats(0, 0, player.getId(), team.getId(),
+            new PlayerStatsStats().points(points));
+    }
+}
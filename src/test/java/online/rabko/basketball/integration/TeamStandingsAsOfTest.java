@@ -0,0 +1,141 @@
+package online.rabko.basketball.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import online.rabko.basketball.enums.PlayerStatsMetric;
+import online.rabko.basketball.repository.TeamStandingSnapshotRepository;
+import online.rabko.basketball.service.MatchService;
+import online.rabko.basketball.service.PlayerService;
+import online.rabko.basketball.service.SeasonService;
+import online.rabko.basketball.service.StatsService;
+import online.rabko.basketball.service.TeamService;
+import online.rabko.model.Match;
+import online.rabko.model.Player;
+import online.rabko.model.PlayerStats;
+import online.rabko.model.PlayerStatsStats;
+import online.rabko.model.Season;
+import online.rabko.model.Team;
+import online.rabko.model.TeamStats;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for the standings and leaderboards answered as of a past date.
+ */
+class TeamStandingsAsOfTest extends IntegrationTestBase {
+
+    private static final String SNAPSHOTS = """
+        SELECT snapshot_date, team_id, checkpoint, matches, scored_matches, points_scored,
+               decided_matches, wins, losses
+        FROM team_standing_snapshots WHERE season_id = ?
+        ORDER BY checkpoint, snapshot_date, team_id
+        """;
+
+    @Autowired
+    private StatsService statsService;
+
+    @Autowired
+    private MatchService matchService;
+
+    @Autowired
+    private SeasonService seasonService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private TeamStandingSnapshotRepository teamStandingSnapshotRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void standings_shouldOnlyCountMatchesPlayedByAsOf() {
+        Team home = teamService.create(new Team(0, "As Of Home"));
+        Team away = teamService.create(new Team(0, "As Of Away"));
+        Season season = seasonService.create(new Season(0, "As Of Season 1948",
+            LocalDate.of(1948, 10, 1), LocalDate.of(1949, 4, 30)));
+        createMatch(season, LocalDate.of(1948, 10, 4), home, away, 100, 90);
+        final Match second = createMatch(season, LocalDate.of(1948, 10, 6), home, away, 80, 90);
+        final Match third = createMatch(season, LocalDate.of(1948, 10, 20), home, away, 110, 70);
+        createMatch(season, LocalDate.of(1948, 11, 2), home, away, 95, 105);
+
+        assertTeam(statsService.getTeamsByWinRate(season.getId(), LocalDate.of(1948, 10, 4)),
+            home, 1, 0, "100.00");
+        assertTeam(statsService.getTeamsByWinRate(season.getId(), LocalDate.of(1948, 10, 19)),
+            home, 1, 1, "90.00");
+        assertTeam(statsService.getTeamsByAveragePoints(season.getId(),
+            LocalDate.of(1948, 10, 31)), home, 2, 1, "96.67");
+        assertThat(statsService.getTeamsByWinRate(season.getId(), LocalDate.of(1948, 10, 3)))
+            .isEmpty();
+        assertThat(statsService.getTeamsByWinRate(season.getId(), LocalDate.of(1949, 4, 30)))
+            .isEqualTo(statsService.getTeamsByWinRate(season.getId(), null));
+
+        matchService.update(third.getId(), new Match(0, season.getId(),
+            LocalDate.of(1948, 10, 5), home.getId(), away.getId())
+            .homeTeamScore(110).awayTeamScore(70));
+        matchService.delete(second.getId());
+        assertTeam(statsService.getTeamsByWinRate(season.getId(), LocalDate.of(1948, 10, 19)),
+            home, 2, 0, "105.00");
+        assertThat(statsService.getTeamsByAveragePoints(season.getId(),
+            LocalDate.of(1949, 4, 30)))
+            .isEqualTo(statsService.getTeamsByAveragePoints(season.getId(), null));
+
+        List<Map<String, Object>> maintained = jdbcTemplate.queryForList(SNAPSHOTS,
+            season.getId());
+        transactionTemplate.executeWithoutResult(status ->
+            teamStandingSnapshotRepository.refreshSeason(season.getId()));
+        assertThat(jdbcTemplate.queryForList(SNAPSHOTS, season.getId())).isEqualTo(maintained);
+    }
+
+    @Test
+    void leaders_shouldOnlyCountMatchesPlayedByAsOf() {
+        Team home = teamService.create(new Team(0, "Leaders As Of Home"));
+        Team away = teamService.create(new Team(0, "Leaders As Of Away"));
+        Player player = playerService.create(new Player(0, "Leader", "AsOf"));
+        Season season = seasonService.create(new Season(0, "As Of Season 1947",
+            LocalDate.of(1947, 10, 1), LocalDate.of(1948, 4, 30)));
+        Match early = createMatch(season, LocalDate.of(1947, 10, 4), home, away, 100, 90);
+        Match late = createMatch(season, LocalDate.of(1947, 12, 4), home, away, 100, 90);
+        matchService.saveStats(early.getId(), new PlayerStats(0, 0, player.getId(),
+            home.getId(), new PlayerStatsStats().points(20)));
+        matchService.saveStats(late.getId(), new PlayerStats(0, 0, player.getId(),
+            home.getId(), new PlayerStatsStats().points(40)));
+
+        List<PlayerStats> leaders = statsService.getLeaders(PlayerStatsMetric.POINTS,
+            season.getId(), LocalDate.of(1947, 11, 1));
+
+        assertThat(leaders).extracting(PlayerStats::getMatchId).containsExactly(early.getId());
+        assertThat(statsService.getCareer(player.getId(), season.getId(),
+            LocalDate.of(1947, 11, 1)).getTotals().getPoints()).isEqualTo(20);
+    }
+
+    private Match createMatch(Season season, LocalDate date, Team home, Team away,
+        int homeScore, int awayScore) {
+        return matchService.create(new Match(0, season.getId(), date, home.getId(),
+            away.getId()).homeTeamScore(homeScore).awayTeamScore(awayScore));
+    }
+
+    private static void assertTeam(List<TeamStats> standings, Team team, int wins, int losses,
+        String averagePoints) {
+        TeamStats stats = standings.stream()
+            .filter(row -> row.getTeamId().equals(team.getId()))
+            .findFirst()
+            .orElseThrow();
+        assertThat(stats.getTotalWins()).isEqualTo(wins);
+        assertThat(stats.getTotalLosses()).isEqualTo(losses);
+        assertThat(stats.getAveragePoints()).isEqualTo(new BigDecimal(averagePoints));
+    }
+}
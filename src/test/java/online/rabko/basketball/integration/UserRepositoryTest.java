@@ -1,5 +1,6 @@
 package online.rabko.basketball.integration;
 
+import static online.rabko.basketball.config.QueryBudget.assertThatQueries;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Optional;
@@ -60,4 +61,19 @@ class UserRepositoryTest extends IntegrationTestBase {
         boolean exists = userRepository.existsByUsername("ghostUser");
         assertThat(exists).isFalse();
     }
+
+    @Test
+    void findByUsername_shouldStayWithinQueryBudget() {
+        userRepository.save(User.builder()
+            .username("budgetUser")
+            .password("password")
+            .role(Role.USER)
+            .build());
+
+        assertThatQueries(() -> userRepository.findByUsername("budgetUser"))
+            .hasAtMostStatements(1)
+            .hasAtMostRows(1);
+        assertThatQueries(() -> userRepository.existsByUsername("budgetUser"))
+            .hasAtMostStatements(1);
+    }
 }
@@ -0,0 +1,179 @@
+package online.rabko.basketball.unit.archive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import online.rabko.basketball.archive.SeasonArchive;
+import online.rabko.basketball.archive.SeasonArchiveWriter;
+import online.rabko.basketball.enums.PlayerStatsMetric;
+import online.rabko.model.Match;
+import online.rabko.model.PlayerStats;
+import online.rabko.model.PlayerStatsStats;
+import online.rabko.model.Season;
+import online.rabko.model.Team;
+import online.rabko.model.TeamStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link SeasonArchiveWriter} and {@link SeasonArchive}.
+ */
+class SeasonArchiveTest {
+
+    private static final Season SEASON = new Season(1, "2023-24",
+        LocalDate.of(2023, 10, 1), LocalDate.of(2024, 4, 30));
+    private static final List<Team> TEAMS = List.of(new Team(1, "Lakers"),
+        new Team(2, "Celtics"), new Team(3, "Bulls"), new Team(4, "Heat"));
+    private static final List<Match> MATCHES = List.of(
+        match(10, LocalDate.of(2023, 11, 1), 1, 2, 100, 90),
+        match(12, LocalDate.of(2023, 11, 5), 2, 3, 110, 110),
+        match(15, LocalDate.of(2023, 11, 7), 3, 1, null, null),
+        match(16, LocalDate.of(2023, 11, 9), 4, 2, null, null));
+    private static final List<PlayerStats> BOX_SCORES = List.of(
+        new PlayerStats(100, 10, 1, 1, new PlayerStatsStats().points(30).rebounds(5)),
+        new PlayerStats(101, 10, 2, 2,
+            new PlayerStatsStats().points(20).assists(10).turnovers(3)),
+        new PlayerStats(102, 12, 3, 2, new PlayerStatsStats().points(30)),
+        new PlayerStats(103, 12, 4, 3,
+            new PlayerStatsStats().rebounds(12).fieldGoalsAttempted(20)),
+        new PlayerStats(104, 15, 1, 1, new PlayerStatsStats().points(25).minutesPlayed(40)));
+
+    @TempDir
+    private Path directory;
+
+    private SeasonArchive archive;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        archive = SeasonArchive.open(write("season.bbsa", MATCHES, BOX_SCORES));
+    }
+
+    @Test
+    void open_shouldRestoreHeader() throws IOException {
+        assertEquals(SEASON, archive.getSeason());
+        assertEquals(TEAMS, archive.getTeams());
+        assertEquals(4, archive.getMatchCount());
+        assertEquals(5, archive.getBoxScoreCount());
+        assertEquals(Files.size(directory.resolve("season.bbsa")), archive.getSize());
+    }
+
+    @Test
+    void open_shouldRestoreRows() {
+        assertEquals(MATCHES, archive.getMatches());
+        assertEquals(BOX_SCORES, archive.getBoxScores());
+    }
+
+    @Test
+    void open_shouldRestoreRowsAddedOutOfOrder() throws IOException {
+        List<Match> matches = List.of(MATCHES.get(2), MATCHES.get(0));
+        List<PlayerStats> boxScores = List.of(BOX_SCORES.get(4), BOX_SCORES.get(0));
+
+        SeasonArchive reordered = SeasonArchive.open(write("reordered.bbsa", matches, boxScores));
+
+        assertEquals(matches, reordered.getMatches());
+        assertEquals(boxScores, reordered.getBoxScores());
+    }
+
+    @Test
+    void open_shouldReject_whenFileIsNotAnArchive() throws IOException {
+        Path file = Files.write(directory.resolve("other.bin"), new byte[]{1, 2, 3, 4, 5});
+
+        assertThrows(IOException.class, () -> SeasonArchive.open(file));
+    }
+
+    @Test
+    void open_shouldReject_whenVersionIsUnknown() throws IOException {
+        Path file = Files.write(directory.resolve("future.bbsa"),
+            ByteBuffer.allocate(5).putInt(0x42425341).put((byte) 99).array());
+
+        assertThrows(IOException.class, () -> SeasonArchive.open(file));
+    }
+
+    @Test
+    void findLeaders_shouldRankBySum_countingMissingValuesAsZero() {
+        assertEquals(List.of(100, 102),
+            ids(archive.findLeaders(PlayerStatsMetric.POINTS, 2, null)));
+        assertEquals(List.of(100, 102, 104, 101, 103),
+            ids(archive.findLeaders(PlayerStatsMetric.POINTS, 10, null)));
+        assertEquals(List.of(100, 102, 101, 104, 103),
+            ids(archive.findLeaders(PlayerStatsMetric.EFFICIENCY, 10, null)));
+    }
+
+    @Test
+    void findLeaders_shouldReturnFullBoxScores() {
+        assertEquals(List.of(BOX_SCORES.get(3)),
+            archive.findLeaders(PlayerStatsMetric.REBOUNDS, 1, null));
+    }
+
+    @Test
+    void findTeamsByAveragePoints_shouldIgnoreMissingScores_andPutTeamsWithoutScoresFirst() {
+        List<TeamStats> result = archive.findTeamsByAveragePoints(null);
+
+        assertEquals(List.of(4, 3, 1, 2), result.stream().map(TeamStats::getTeamId).toList());
+        assertEquals(new TeamStats(3, "Bulls").averagePoints(new BigDecimal("110.00"))
+            .winRate(new BigDecimal("0.0000")).totalWins(0).totalLosses(0), result.get(1));
+        assertEquals(new TeamStats(4, "Heat").totalWins(0).totalLosses(0), result.get(0));
+    }
+
+    @Test
+    void findTeamsByWinRate_shouldCountOnlyDecidedMatches() {
+        List<TeamStats> result = archive.findTeamsByWinRate(null);
+
+        assertEquals(List.of(4, 1, 2, 3), result.stream().map(TeamStats::getTeamId).toList());
+        assertEquals(new TeamStats(1, "Lakers").averagePoints(new BigDecimal("100.00"))
+            .winRate(new BigDecimal("1.0000")).totalWins(1).totalLosses(0), result.get(1));
+        assertEquals(new TeamStats(2, "Celtics").averagePoints(new BigDecimal("100.00"))
+            .winRate(new BigDecimal("0.0000")).totalWins(0).totalLosses(1), result.get(2));
+    }
+
+    @Test
+    void findHighestScoring_shouldPutMatchesWithoutScoresFirst() {
+        assertEquals(List.of(15, 16, 12),
+            archive.findHighestScoring(3).stream().map(Match::getId).toList());
+    }
+
+    @Test
+    void writer_shouldCountRows() {
+        SeasonArchiveWriter writer = new SeasonArchiveWriter(SEASON);
+        writer.addMatch(MATCHES.get(0));
+        writer.addBoxScore(BOX_SCORES.get(0));
+        writer.addBoxScore(BOX_SCORES.get(1));
+
+        assertEquals(1, writer.getSeasonId());
+        assertEquals(1, writer.getMatchCount());
+        assertEquals(2, writer.getBoxScoreCount());
+    }
+
+    private Path write(String name, List<Match> matches, List<PlayerStats> boxScores)
+        throws IOException {
+        SeasonArchiveWriter writer = new SeasonArchiveWriter(SEASON);
+        TEAMS.forEach(writer::addTeam);
+        matches.forEach(writer::addMatch);
+        boxScores.forEach(writer::addBoxScore);
+        Path file = directory.resolve(name);
+        try (OutputStream out = Files.newOutputStream(file)) {
+            writer.writeTo(out);
+        }
+        return file;
+    }
+
+    private static Match match(int id, LocalDate date, int homeTeamId, int awayTeamId,
+        Integer homeTeamScore, Integer awayTeamScore) {
+        return new Match(id, SEASON.getId(), date, homeTeamId, awayTeamId)
+            .homeTeamScore(homeTeamScore)
+            .awayTeamScore(awayTeamScore);
+    }
+
+    private static List<Integer> ids(List<PlayerStats> stats) {
+        return stats.stream().map(PlayerStats::getId).toList();
+    }
+}
@@ -0,0 +1,98 @@
+package online.rabko.basketball.unit.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import online.rabko.basketball.config.FirstRequestFilter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Unit tests for {@link FirstRequestFilter}.
+ */
+@ExtendWith(MockitoExtension.class)
+class FirstRequestFilterTest {
+
+    private static final Instant JVM_START = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Mock
+    private FilterChain filterChain;
+
+    @Mock
+    private Clock clock;
+
+    @Test
+    void doFilter_shouldRecordOnlyFirstRequest() throws ServletException, IOException {
+        when(clock.instant()).thenReturn(JVM_START.plusMillis(4_200),
+            JVM_START.plusMillis(9_000));
+        FirstRequestFilter filter = new FirstRequestFilter(JVM_START, clock);
+
+        assertEquals(Optional.empty(), filter.getTimeToFirstRequest());
+        filter.doFilter(new MockHttpServletRequest("GET", "/teams"),
+            new MockHttpServletResponse(), filterChain);
+        filter.doFilter(new MockHttpServletRequest("GET", "/teams"),
+            new MockHttpServletResponse(), filterChain);
+
+        assertEquals(Optional.of(Duration.ofMillis(4_200)), filter.getTimeToFirstRequest());
+        verify(filterChain, times(2)).doFilter(any(), any());
+    }
+
+    @Test
+    void doFilter_shouldRecordFailedRequest() throws ServletException, IOException {
+        when(clock.instant()).thenReturn(JVM_START.plusSeconds(3));
+        FirstRequestFilter filter = new FirstRequestFilter(JVM_START, clock);
+        doThrow(new ServletException("boom")).when(filterChain).doFilter(any(), any());
+
+        assertThrows(ServletException.class, () -> filter.doFilter(
+            new MockHttpServletRequest("GET", "/teams"), new MockHttpServletResponse(),
+            filterChain));
+
+        assertEquals(Optional.of(Duration.ofSeconds(3)), filter.getTimeToFirstRequest());
+    }
+
+    @Test
+    void bindTo_shouldPublishTimeToFirstRequest() throws ServletException, IOException {
+        when(clock.instant()).thenReturn(JVM_START.plusMillis(4_200));
+        FirstRequestFilter filter = new FirstRequestFilter(JVM_START, clock);
+        MeterRegistry registry = new SimpleMeterRegistry();
+        filter.bindTo(registry);
+        TimeGauge gauge = registry.get(FirstRequestFilter.TIME_TO_FIRST_REQUEST).timeGauge();
+
+        assertTrue(Double.isNaN(gauge.value(TimeUnit.MILLISECONDS)));
+        filter.doFilter(new MockHttpServletRequest("GET", "/teams"),
+            new MockHttpServletResponse(), filterChain);
+
+        assertEquals(4.2, gauge.value(TimeUnit.SECONDS));
+    }
+
+    @Test
+    void constructor_shouldMeasureFromJvmStart() throws ServletException, IOException {
+        FirstRequestFilter filter = new FirstRequestFilter();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/teams"),
+            new MockHttpServletResponse(), filterChain);
+
+        assertTrue(filter.getTimeToFirstRequest().isPresent());
+    }
+}
@@ -0,0 +1,264 @@
+package online.rabko.basketball.unit.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import online.rabko.basketball.config.IdempotencyFilter;
+import online.rabko.basketball.config.IdempotencyProperties;
+import online.rabko.basketball.dto.IdempotencyKey;
+import online.rabko.basketball.dto.IdempotentResponse;
+import online.rabko.basketball.service.IdempotencyService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Unit tests for {@link IdempotencyFilter}.
+ */
+@ExtendWith(MockitoExtension.class)
+class IdempotencyFilterTest {
+
+    private static final IdempotencyKey KEY = new IdempotencyKey("scorer", "retry-1");
+    private static final String BODY = "{\"name\":\"Lakers\"}";
+
+    @Mock
+    private IdempotencyService idempotencyService;
+
+    @Captor
+    private ArgumentCaptor<IdempotentResponse> stored;
+
+    private IdempotencyProperties properties;
+
+    private IdempotencyFilter filter;
+
+    private final AtomicInteger handled = new AtomicInteger();
+
+    private final FilterChain chain = (request, response) -> {
+        handled.incrementAndGet();
+        String body = StreamUtils.copyToString(request.getInputStream(), StandardCharsets.UTF_8);
+        response.setContentType("application/json");
+        response.getWriter().write("{\"echo\":" + body + "}");
+        ((HttpServletResponse) response).setStatus(201);
+    };
+
+    @BeforeEach
+    void setUp() {
+        properties = new IdempotencyProperties();
+        filter = new IdempotencyFilter(idempotencyService, properties, new ObjectMapper());
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken("scorer", null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_shouldStoreResponse_whenKeyIsNew() throws ServletException, IOException {
+        when(idempotencyService.find(KEY)).thenReturn(Optional.empty());
+        when(idempotencyService.begin(eq(KEY), any())).thenReturn(true);
+        when(idempotencyService.save(eq(KEY), stored.capture())).thenReturn(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request("POST", "retry-1", BODY), response, chain);
+
+        assertEquals(1, handled.get());
+        assertEquals("{\"echo\":" + BODY + "}", response.getContentAsString());
+        assertEquals(201, stored.getValue().status());
+        assertEquals(response.getContentAsString(),
+            new String(stored.getValue().body(), StandardCharsets.UTF_8));
+        verify(idempotencyService, never()).release(KEY);
+    }
+
+    @Test
+    void doFilter_shouldReplayStoredResponse_withoutHandlingRequest()
+        throws ServletException, IOException {
+        when(idempotencyService.find(KEY)).thenReturn(Optional.empty());
+        when(idempotencyService.begin(eq(KEY), any())).thenReturn(true);
+        when(idempotencyService.save(eq(KEY), stored.capture())).thenReturn(true);
+        filter.doFilter(request("POST", "retry-1", BODY), new MockHttpServletResponse(), chain);
+        when(idempotencyService.find(KEY)).thenReturn(Optional.of(stored.getValue()));
+        MockHttpServletResponse replayed = new MockHttpServletResponse();
+
+        filter.doFilter(request("POST", "retry-1", BODY), replayed, chain);
+
+        assertEquals(1, handled.get());
+        assertEquals(201, replayed.getStatus());
+        assertEquals("true", replayed.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED));
+        assertEquals("{\"echo\":" + BODY + "}", replayed.getContentAsString());
+    }
+
+    @Test
+    void doFilter_shouldReject_whenKeyWasUsedForDifferentRequest()
+        throws ServletException, IOException {
+        when(idempotencyService.find(KEY)).thenReturn(Optional.of(new IdempotentResponse(
+            new byte[32], 201, null, new byte[0], Instant.now())));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request("POST", "retry-1", BODY), response, chain);
+
+        assertEquals(422, response.getStatus());
+        assertEquals(0, handled.get());
+    }
+
+    @Test
+    void doFilter_shouldReject_whenKeyIsInProgress() throws ServletException, IOException {
+        when(idempotencyService.find(KEY)).thenReturn(Optional.empty());
+        when(idempotencyService.begin(eq(KEY), any())).thenReturn(false);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request("PUT", "retry-1", BODY), response, chain);
+
+        assertEquals(409, response.getStatus());
+        assertTrue(response.getContentAsString().contains("still being handled"));
+        assertEquals(0, handled.get());
+        verify(idempotencyService, never()).release(any());
+    }
+
+    @Test
+    void doFilter_shouldReplay_whenResponseWasStoredBetweenFindAndClaim()
+        throws ServletException, IOException {
+        when(idempotencyService.find(KEY)).thenReturn(Optional.empty());
+        when(idempotencyService.begin(eq(KEY), any())).thenReturn(true);
+        when(idempotencyService.save(eq(KEY), stored.capture())).thenReturn(true);
+        filter.doFilter(request("POST", "retry-1", BODY), new MockHttpServletResponse(), chain);
+        when(idempotencyService.find(KEY)).thenReturn(Optional.empty(),
+            Optional.of(stored.getValue()));
+        when(idempotencyService.begin(eq(KEY), any())).thenReturn(false);
+        MockHttpServletResponse replayed = new MockHttpServletResponse();
+
+        filter.doFilter(request("POST", "retry-1", BODY), replayed, chain);
+
+        assertEquals(1, handled.get());
+        assertEquals(201, replayed.getStatus());
+        assertEquals("true", replayed.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED));
+    }
+
+    @Test
+    void doFilter_shouldNotStore_whenHandlerFailed() throws ServletException, IOException {
+        when(idempotencyService.find(KEY)).thenReturn(Optional.empty());
+        when(idempotencyService.begin(eq(KEY), any())).thenReturn(true);
+        FilterChain failing = (request, response) ->
+            ((HttpServletResponse) response).setStatus(500);
+
+        filter.doFilter(request("POST", "retry-1", BODY), new MockHttpServletResponse(), failing);
+
+        verify(idempotencyService, never()).save(any(), any());
+        verify(idempotencyService).release(KEY);
+    }
+
+    @Test
+    void doFilter_shouldServeBodyToReadListener() throws ServletException, IOException {
+        when(idempotencyService.find(KEY)).thenReturn(Optional.empty());
+        when(idempotencyService.begin(eq(KEY), any())).thenReturn(true);
+        StringBuilder read = new StringBuilder();
+        FilterChain async = (request, response) -> {
+            ServletInputStream in = request.getInputStream();
+            in.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    read.append(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    read.append('.');
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    read.append('!');
+                }
+            });
+        };
+
+        filter.doFilter(request("POST", "retry-1", BODY), new MockHttpServletResponse(), async);
+
+        assertEquals(BODY + ".", read.toString());
+    }
+
+    @Test
+    void doFilter_shouldReject_whenKeyIsTooLong() throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request("POST", "k".repeat(256), BODY), response, chain);
+
+        assertEquals(400, response.getStatus());
+        verifyNoInteractions(idempotencyService);
+    }
+
+    @Test
+    void doFilter_shouldReject_whenBodyIsTooLarge() throws ServletException, IOException {
+        properties.setMaxBodySize(DataSize.ofBytes(4));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request("POST", "retry-1", BODY), response, chain);
+
+        assertEquals(413, response.getStatus());
+        verifyNoInteractions(idempotencyService);
+    }
+
+    @Test
+    void doFilter_shouldPassThrough_withoutKey() throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request("POST", null, BODY), response, chain);
+
+        assertEquals(1, handled.get());
+        assertNull(response.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED));
+        verifyNoInteractions(idempotencyService);
+    }
+
+    @Test
+    void doFilter_shouldPassThrough_forAnonymousUserAndOtherMethods()
+        throws ServletException, IOException {
+        filter.doFilter(request("DELETE", "retry-1", ""), new MockHttpServletResponse(), chain);
+        SecurityContextHolder.clearContext();
+        filter.doFilter(request("POST", "retry-1", BODY), new MockHttpServletResponse(), chain);
+
+        assertEquals(2, handled.get());
+        verifyNoInteractions(idempotencyService);
+    }
+
+    private static MockHttpServletRequest request(String method, String key, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/teams");
+        if (Objects.nonNull(key)) {
+            request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY, key);
+        }
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
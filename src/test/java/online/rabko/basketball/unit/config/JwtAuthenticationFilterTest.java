@@ -0,0 +1,130 @@
+package online.rabko.basketball.unit.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.util.List;
+import online.rabko.basketball.config.JwtAuthenticationFilter;
+import online.rabko.basketball.service.JwtService;
+import online.rabko.basketball.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+/**
+ * Unit tests for {@link JwtAuthenticationFilter}.
+ */
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    private static final UserDetails USER = new User("scorer", "hash", List.of());
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private FilterChain filterChain;
+
+    private MeterRegistry meterRegistry;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new JwtAuthenticationFilter(jwtService, userService, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_shouldAuthenticate_andTimeEveryStep() throws ServletException, IOException {
+        Claims claims = Jwts.claims().setSubject("scorer");
+        when(jwtService.parseClaims("token")).thenReturn(claims);
+        when(userService.userDetailsService()).thenReturn(username -> USER);
+        when(jwtService.isTokenValid(claims, USER)).thenReturn(true);
+        MockHttpServletRequest request = bearer();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, filterChain);
+
+        assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+        for (String step : List.of("parse", "user_load", "verify")) {
+            assertEquals(1, meterRegistry.get(JwtAuthenticationFilter.TIMER)
+                .tag("step", step).tag("outcome", "success").timer().count());
+        }
+        verify(filterChain).doFilter(request, response);
+    }
+
+    @Test
+    void doFilter_shouldTimeFailedStep() {
+        when(jwtService.parseClaims("token")).thenReturn(Jwts.claims().setSubject("ghost"));
+        when(userService.userDetailsService()).thenReturn(username -> {
+            throw new UsernameNotFoundException(username);
+        });
+
+        assertThrows(UsernameNotFoundException.class,
+            () -> filter.doFilter(bearer(), new MockHttpServletResponse(), filterChain));
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertEquals(1, meterRegistry.get(JwtAuthenticationFilter.TIMER)
+            .tag("step", "user_load").tag("outcome", "error").timer().count());
+    }
+
+    @Test
+    void doFilter_shouldNotParseAgain_whenClaimsAreShared() throws ServletException, IOException {
+        Claims claims = Jwts.claims().setSubject("scorer");
+        when(userService.userDetailsService()).thenReturn(username -> USER);
+        when(jwtService.isTokenValid(claims, USER)).thenReturn(true);
+        MockHttpServletRequest request = bearer();
+        request.setAttribute(JwtAuthenticationFilter.CLAIMS_ATTRIBUTE, claims);
+
+        filter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+        assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(jwtService, never()).parseClaims(any());
+        assertNull(meterRegistry.find(JwtAuthenticationFilter.TIMER).tag("step", "parse")
+            .timer());
+    }
+
+    @Test
+    void doFilter_shouldSkipTimers_whenNoTokenIsSent() throws ServletException, IOException {
+        filter.doFilter(new MockHttpServletRequest("GET", "/teams"),
+            new MockHttpServletResponse(), filterChain);
+
+        assertNull(meterRegistry.find(JwtAuthenticationFilter.TIMER).timer());
+    }
+
+    private static MockHttpServletRequest bearer() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/teams");
+        request.addHeader("Authorization", JwtAuthenticationFilter.BEARER_PREFIX + "token");
+        return request;
+    }
+}
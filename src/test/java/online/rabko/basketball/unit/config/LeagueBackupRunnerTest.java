@@ -0,0 +1,98 @@
+package online.rabko.basketball.unit.config;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import online.rabko.basketball.config.LeagueBackupRunner;
+import online.rabko.basketball.enums.BackupTable;
+import online.rabko.basketball.service.LeagueBackupService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+
+/**
+ * Unit tests for {@link LeagueBackupRunner}.
+ */
+@ExtendWith(MockitoExtension.class)
+class LeagueBackupRunnerTest {
+
+    @TempDir
+    private Path directory;
+
+    @Mock
+    private LeagueBackupService leagueBackupService;
+
+    @InjectMocks
+    private LeagueBackupRunner leagueBackupRunner;
+
+    @Test
+    void isCommand_shouldDetectBackupAndRestoreOptions() {
+        assertTrue(LeagueBackupRunner.isCommand(new String[]{"--backup=league.zip"}));
+        assertTrue(LeagueBackupRunner.isCommand(new String[]{"--debug", "--restore=league.zip"}));
+        assertFalse(LeagueBackupRunner.isCommand(new String[]{"--server.port=9090"}));
+    }
+
+    @Test
+    void run_shouldWriteBackupFile_andLeaveNoTemporaryFile() throws IOException {
+        when(leagueBackupService.backup(any())).thenAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(0).write(new byte[]{1, 2, 3});
+            return Map.of(BackupTable.USERS, 1L);
+        });
+        Path file = directory.resolve("league.zip");
+
+        leagueBackupRunner.run(new DefaultApplicationArguments("--backup=" + file));
+
+        assertArrayEquals(new byte[]{1, 2, 3}, Files.readAllBytes(file));
+        try (var files = Files.list(directory)) {
+            assertEquals(List.of(file), files.toList());
+        }
+    }
+
+    @Test
+    void run_shouldRemoveTemporaryFile_whenBackupFails() throws IOException {
+        when(leagueBackupService.backup(any())).thenThrow(new IOException("broken"));
+        Path file = directory.resolve("league.zip");
+        DefaultApplicationArguments args = new DefaultApplicationArguments("--backup=" + file);
+
+        assertThrows(IOException.class, () -> leagueBackupRunner.run(args));
+        try (var files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void run_shouldRestoreFromFile() throws IOException {
+        Path file = Files.write(directory.resolve("league.zip"), new byte[]{4, 5});
+        when(leagueBackupService.restore(any())).thenAnswer(invocation -> {
+            assertArrayEquals(new byte[]{4, 5},
+                invocation.<InputStream>getArgument(0).readAllBytes());
+            return Map.of();
+        });
+
+        leagueBackupRunner.run(new DefaultApplicationArguments("--restore=" + file));
+    }
+
+    @Test
+    void run_shouldDoNothing_withoutOptions() throws IOException {
+        leagueBackupRunner.run(new DefaultApplicationArguments());
+
+        verifyNoInteractions(leagueBackupService);
+    }
+}
@@ -0,0 +1,59 @@
+package online.rabko.basketball.unit.config;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import online.rabko.basketball.config.LeagueGeneratorRunner;
+import online.rabko.basketball.generator.LeagueSpec;
+import online.rabko.basketball.service.LeagueGeneratorService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+
+/**
+ * Unit tests for {@link LeagueGeneratorRunner}.
+ */
+@ExtendWith(MockitoExtension.class)
+class LeagueGeneratorRunnerTest {
+
+    @Mock
+    private LeagueGeneratorService leagueGeneratorService;
+
+    @InjectMocks
+    private LeagueGeneratorRunner leagueGeneratorRunner;
+
+    @Test
+    void isCommand_shouldDetectGenerateOption() {
+        assertTrue(LeagueGeneratorRunner.isCommand(new String[]{"--generate", "--teams=4"}));
+        assertFalse(LeagueGeneratorRunner.isCommand(new String[]{"--generated=true"}));
+        assertFalse(LeagueGeneratorRunner.isCommand(new String[]{"--teams=4"}));
+    }
+
+    @Test
+    void run_shouldGenerateLeagueWithDefaults() {
+        leagueGeneratorRunner.run(new DefaultApplicationArguments("--generate"));
+
+        verify(leagueGeneratorService).generate(new LeagueSpec(1, 10, 30, 13, 2, 2000), false);
+    }
+
+    @Test
+    void run_shouldGenerateLeagueOfRequestedShape() {
+        leagueGeneratorRunner.run(new DefaultApplicationArguments("--generate", "--seed=9",
+            "--seasons=50", "--teams=60", "--players-per-team=15", "--rounds=4",
+            "--first-season-year=1970", "--defer-indexes"));
+
+        verify(leagueGeneratorService).generate(new LeagueSpec(9, 50, 60, 15, 4, 1970), true);
+    }
+
+    @Test
+    void run_shouldDoNothing_withoutGenerateOption() {
+        leagueGeneratorRunner.run(new DefaultApplicationArguments("--teams=4"));
+
+        verifyNoInteractions(leagueGeneratorService);
+    }
+}
@@ -0,0 +1,109 @@
+package online.rabko.basketball.unit.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import online.rabko.basketball.config.QueryCountFilter;
+import online.rabko.basketball.metrics.ApiOperationObservationConvention;
+import online.rabko.basketball.metrics.QueryCountingDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Unit tests for {@link QueryCountFilter}.
+ */
+@ExtendWith(MockitoExtension.class)
+class QueryCountFilterTest {
+
+    private static final String SELECT_PLAYER = "SELECT * FROM players WHERE id = ?";
+
+    @Mock
+    private FilterChain filterChain;
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    private MeterRegistry meterRegistry;
+    private QueryCountFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new QueryCountFilter(meterRegistry, 3);
+    }
+
+    @Test
+    void doFilter_shouldRecordStatementsOfRequest() throws ServletException, IOException,
+        SQLException {
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(SELECT_PLAYER)).thenReturn(mock(PreparedStatement.class));
+        doAnswer(invocation -> executeTimes(3)).when(filterChain).doFilter(any(), any());
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/players"),
+            new MockHttpServletResponse(), filterChain);
+
+        assertEquals(3, meterRegistry.get(QueryCountFilter.STATEMENTS)
+            .tag(ApiOperationObservationConvention.OPERATION,
+                ApiOperationObservationConvention.NONE)
+            .summary().totalAmount());
+        assertEquals(1, meterRegistry.get(QueryCountFilter.TIME).timer().count());
+        assertEquals(1, meterRegistry.get(QueryCountFilter.REPEATED_STATEMENTS).counter().count());
+    }
+
+    @Test
+    void doFilter_shouldNotReportRepeated_belowThreshold() throws ServletException, IOException,
+        SQLException {
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(SELECT_PLAYER)).thenReturn(mock(PreparedStatement.class));
+        doAnswer(invocation -> executeTimes(2)).when(filterChain).doFilter(any(), any());
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/players"),
+            new MockHttpServletResponse(), filterChain);
+
+        assertEquals(2, meterRegistry.get(QueryCountFilter.STATEMENTS).summary().totalAmount());
+        assertEquals(0, meterRegistry.get(QueryCountFilter.ROWS).summary().totalAmount());
+        assertNull(meterRegistry.find(QueryCountFilter.REPEATED_STATEMENTS).counter());
+    }
+
+    @Test
+    void doFilter_shouldRecord_whenRequestFails() throws ServletException, IOException {
+        doThrow(new ServletException("boom")).when(filterChain).doFilter(any(), any());
+
+        assertThrows(ServletException.class, () -> filter.doFilter(
+            new MockHttpServletRequest("GET", "/players"), new MockHttpServletResponse(),
+            filterChain));
+
+        assertEquals(1, meterRegistry.get(QueryCountFilter.STATEMENTS).summary().count());
+    }
+
+    private Void executeTimes(int times) throws SQLException {
+        Connection counted = new QueryCountingDataSource(target).getConnection();
+        for (int i = 0; i < times; i++) {
+            counted.prepareStatement(SELECT_PLAYER).executeQuery();
+        }
+        return null;
+    }
+}
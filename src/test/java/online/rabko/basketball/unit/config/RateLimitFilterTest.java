@@ -0,0 +1,186 @@
+package online.rabko.basketball.unit.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import online.rabko.basketball.config.JwtAuthenticationFilter;
+import online.rabko.basketball.config.RateLimitFilter;
+import online.rabko.basketball.config.RateLimitProperties;
+import online.rabko.basketball.ratelimit.RateLimiter;
+import online.rabko.basketball.service.JwtService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Unit tests for {@link RateLimitFilter}.
+ */
+@ExtendWith(MockitoExtension.class)
+class RateLimitFilterTest {
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private FilterChain filterChain;
+
+    private final AtomicLong now = new AtomicLong();
+    private RateLimitProperties properties;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.setPolicies(List.of(
+            policy("token", "/auth/token", HttpMethod.POST, 1, Duration.ofMinutes(1)),
+            policy("default", "/**", null, 2, Duration.ofSeconds(1))));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void doFilter_shouldRejectWithRetryAfter_whenClientIsOverRate()
+        throws ServletException, IOException {
+        RateLimitFilter filter = filter();
+
+        assertEquals(200, perform(filter, request("POST", "/auth/token")).getStatus());
+        MockHttpServletResponse rejected = perform(filter, request("POST", "/auth/token"));
+
+        assertEquals(429, rejected.getStatus());
+        assertEquals("60", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals("{\"error\":\"Too many requests, retry in 60 s\"}",
+            rejected.getContentAsString());
+        assertEquals(1, meterRegistry.get(RateLimitFilter.REJECTIONS)
+            .tag("policy", "token").counter().count());
+        verify(filterChain, times(1)).doFilter(any(), any());
+    }
+
+    @Test
+    void doFilter_shouldApplyFirstMatchingPolicy() throws ServletException, IOException {
+        RateLimitFilter filter = filter();
+        perform(filter, request("POST", "/auth/token"));
+
+        assertEquals(200, perform(filter, request("GET", "/auth/token")).getStatus());
+        assertEquals(200, perform(filter, request("GET", "/teams")).getStatus());
+        MockHttpServletResponse rejected = perform(filter, request("GET", "/teams"));
+
+        assertEquals(429, rejected.getStatus());
+        assertEquals("1", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void doFilter_shouldKeyByUserId_whenTokenIsValid() throws ServletException, IOException {
+        Claims first = Jwts.claims().setSubject("first");
+        Claims second = Jwts.claims().setSubject("second");
+        when(jwtService.parseClaims("first")).thenReturn(first);
+        when(jwtService.parseClaims("second")).thenReturn(second);
+        when(jwtService.extractUserId(first)).thenReturn("1");
+        when(jwtService.extractUserId(second)).thenReturn("2");
+        RateLimitFilter filter = filter();
+        MockHttpServletRequest request = bearer("first");
+
+        perform(filter, request);
+        perform(filter, bearer("first"));
+
+        assertSame(first, request.getAttribute(JwtAuthenticationFilter.CLAIMS_ATTRIBUTE));
+        assertEquals(429, perform(filter, bearer("first")).getStatus());
+        assertEquals(200, perform(filter, bearer("second")).getStatus());
+        assertEquals(200, perform(filter, request("GET", "/teams")).getStatus());
+    }
+
+    @Test
+    void doFilter_shouldKeyByAddress_whenTokenIsInvalid() throws ServletException, IOException {
+        when(jwtService.parseClaims("forged")).thenThrow(new MalformedJwtException("forged"));
+        RateLimitFilter filter = filter();
+        MockHttpServletRequest request = bearer("forged");
+
+        perform(filter, request);
+        assertNull(request.getAttribute(JwtAuthenticationFilter.CLAIMS_ATTRIBUTE));
+        perform(filter, request("GET", "/teams"));
+
+        assertEquals(429, perform(filter, bearer("forged")).getStatus());
+    }
+
+    @Test
+    void doFilter_shouldPassThrough_whenNoPolicyMatches() throws ServletException, IOException {
+        properties.setPolicies(List.of(
+            policy("token", "/auth/token", HttpMethod.POST, 1, Duration.ofMinutes(1))));
+        RateLimitFilter filter = filter();
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(200, perform(filter, request("GET", "/teams")).getStatus());
+        }
+        assertNull(meterRegistry.find(RateLimitFilter.REJECTIONS).counter());
+    }
+
+    @Test
+    void doFilter_shouldPassThrough_whenDisabled() throws ServletException, IOException {
+        properties.setEnabled(false);
+        RateLimitFilter filter = filter();
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(200, perform(filter, bearer("token")).getStatus());
+        }
+        verifyNoInteractions(jwtService);
+        verify(filterChain, times(5)).doFilter(any(), any());
+    }
+
+    private RateLimitFilter filter() {
+        return new RateLimitFilter(properties, new RateLimiter(100, 4, now::get), jwtService,
+            meterRegistry, new ObjectMapper());
+    }
+
+    private MockHttpServletResponse perform(RateLimitFilter filter,
+        MockHttpServletRequest request) throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, filterChain);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String method, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        request.setRemoteAddr("10.0.0.1");
+        return request;
+    }
+
+    private static MockHttpServletRequest bearer(String token) {
+        MockHttpServletRequest request = request("GET", "/teams");
+        request.addHeader(HttpHeaders.AUTHORIZATION, JwtAuthenticationFilter.BEARER_PREFIX + token);
+        return request;
+    }
+
+    private static RateLimitProperties.Policy policy(String name, String path, HttpMethod method,
+        long capacity, Duration period) {
+        RateLimitProperties.Policy policy = new RateLimitProperties.Policy();
+        policy.setName(name);
+        policy.setPath(path);
+        policy.setMethod(method);
+        policy.setCapacity(capacity);
+        policy.setPeriod(period);
+        return policy;
+    }
+}
@@ -0,0 +1,68 @@
+package online.rabko.basketball.unit.config;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import online.rabko.basketball.config.datasource.ReadYourWritesTracker;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ReadYourWritesTracker}.
+ */
+class ReadYourWritesTrackerTest {
+
+    private final Clock clock = mock(Clock.class);
+
+    @Test
+    void isPinnedToPrimary_shouldReturnTrue_withinWindow() {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(2), clock);
+        when(clock.millis()).thenReturn(1_000L, 2_500L);
+
+        tracker.recordWrite("john");
+
+        assertTrue(tracker.isPinnedToPrimary("john"));
+    }
+
+    @Test
+    void isPinnedToPrimary_shouldReturnFalse_afterWindow() {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(2), clock);
+        when(clock.millis()).thenReturn(1_000L, 3_000L);
+
+        tracker.recordWrite("john");
+
+        assertFalse(tracker.isPinnedToPrimary("john"));
+    }
+
+    @Test
+    void isPinnedToPrimary_shouldReturnFalse_whenWindowIsZero() {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ZERO, clock);
+
+        tracker.recordWrite("john");
+
+        assertFalse(tracker.isPinnedToPrimary("john"));
+    }
+
+    @Test
+    void isPinnedToPrimary_shouldReturnFalse_forAnonymousUser() {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(2), clock);
+
+        tracker.recordWrite(null);
+
+        assertFalse(tracker.isPinnedToPrimary(null));
+    }
+
+    @Test
+    void evictExpired_shouldForgetElapsedWrites() {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(2), clock);
+        when(clock.millis()).thenReturn(1_000L, 5_000L, 1_500L);
+
+        tracker.recordWrite("john");
+        tracker.evictExpired();
+
+        assertFalse(tracker.isPinnedToPrimary("john"));
+    }
+}
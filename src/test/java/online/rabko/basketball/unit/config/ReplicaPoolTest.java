@@ -0,0 +1,80 @@
+package online.rabko.basketball.unit.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import javax.sql.DataSource;
+import online.rabko.basketball.config.datasource.ReplicaPool;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ReplicaPool}.
+ */
+class ReplicaPoolTest {
+
+    private final ResultSet resultSet = mock(ResultSet.class);
+    private ReplicaPool replicaPool;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        DataSource replica = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(replica.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+
+        replicaPool = new ReplicaPool(Map.of("replica-0", replica), Duration.ofSeconds(5));
+    }
+
+    @Test
+    void refreshHealth_shouldKeepReplica_whenStreamingWithinLag() throws SQLException {
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getObject(1)).thenReturn(new BigDecimal("1.5"));
+
+        replicaPool.refreshHealth();
+
+        assertEquals(Optional.of("replica-0"), replicaPool.nextHealthy());
+    }
+
+    @Test
+    void refreshHealth_shouldDropReplica_whenLagExceedsMaximum() throws SQLException {
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getObject(1)).thenReturn(new BigDecimal("12.0"));
+
+        replicaPool.refreshHealth();
+
+        assertTrue(replicaPool.nextHealthy().isEmpty());
+    }
+
+    @Test
+    void refreshHealth_shouldDropReplica_whenNotStreaming() throws SQLException {
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getObject(1)).thenReturn(null);
+
+        replicaPool.refreshHealth();
+
+        assertTrue(replicaPool.nextHealthy().isEmpty());
+    }
+
+    @Test
+    void refreshHealth_shouldDropReplica_whenLagIsNotReported() throws SQLException {
+        when(resultSet.next()).thenReturn(false);
+
+        replicaPool.refreshHealth();
+
+        assertTrue(replicaPool.nextHealthy().isEmpty());
+    }
+}
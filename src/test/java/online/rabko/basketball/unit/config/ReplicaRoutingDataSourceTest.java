@@ -0,0 +1,104 @@
+package online.rabko.basketball.unit.config;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import online.rabko.basketball.config.datasource.ReadYourWritesTracker;
+import online.rabko.basketball.config.datasource.ReplicaPool;
+import online.rabko.basketball.config.datasource.ReplicaRoutingDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for {@link ReplicaRoutingDataSource}.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private DataSource replica;
+    private ReplicaPool replicaPool;
+    private ReadYourWritesTracker tracker;
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        DataSource primary = mock(DataSource.class);
+        replica = mock(DataSource.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        replicaPool = new ReplicaPool(Map.of("replica-0", replica), Duration.ofSeconds(5));
+        tracker = new ReadYourWritesTracker(Duration.ofSeconds(10), Clock.systemUTC());
+        routingDataSource = new ReplicaRoutingDataSource(primary, replicaPool, tracker);
+        routingDataSource.afterPropertiesSet();
+
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken("john", null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void getConnection_shouldUsePrimary_whenTransactionIsReadWrite() throws SQLException {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        assertSame(primaryConnection, routingDataSource.getConnection());
+    }
+
+    @Test
+    void getConnection_shouldUseReplica_whenTransactionIsReadOnly() throws SQLException {
+        beginReadOnlyTransaction();
+
+        assertSame(replicaConnection, routingDataSource.getConnection());
+    }
+
+    @Test
+    void getConnection_shouldUsePrimary_whenUserWroteWithinWindow() throws SQLException {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        routingDataSource.getConnection();
+
+        beginReadOnlyTransaction();
+
+        assertSame(primaryConnection, routingDataSource.getConnection());
+    }
+
+    @Test
+    void getConnection_shouldUseReplica_whenAnotherUserWrote() throws SQLException {
+        tracker.recordWrite("jane");
+        beginReadOnlyTransaction();
+
+        assertSame(replicaConnection, routingDataSource.getConnection());
+    }
+
+    @Test
+    void getConnection_shouldFallBackToPrimary_whenReplicaIsUnavailable() throws SQLException {
+        when(replica.getConnection()).thenThrow(new SQLException("connection refused"));
+        replicaPool.refreshHealth();
+        beginReadOnlyTransaction();
+
+        assertSame(primaryConnection, routingDataSource.getConnection());
+    }
+
+    private void beginReadOnlyTransaction() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    }
+}
@@ -0,0 +1,49 @@
+package online.rabko.basketball.unit.config;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import online.rabko.basketball.config.SchemaMigrationRunner;
+import online.rabko.basketball.config.SchemaVersionCheck;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+
+/**
+ * Unit tests for {@link SchemaMigrationRunner}.
+ */
+@ExtendWith(MockitoExtension.class)
+class SchemaMigrationRunnerTest {
+
+    @Mock
+    private SchemaVersionCheck schemaVersionCheck;
+
+    @InjectMocks
+    private SchemaMigrationRunner schemaMigrationRunner;
+
+    @Test
+    void isCommand_shouldDetectMigrateOption() {
+        assertTrue(SchemaMigrationRunner.isCommand(new String[]{"--migrate"}));
+        assertFalse(SchemaMigrationRunner.isCommand(new String[]{"--migrated"}));
+        assertFalse(SchemaMigrationRunner.isCommand(new String[]{"--generate"}));
+    }
+
+    @Test
+    void run_shouldVerifyMigratedSchema() {
+        schemaMigrationRunner.run(new DefaultApplicationArguments("--migrate"));
+
+        verify(schemaVersionCheck).verify();
+    }
+
+    @Test
+    void run_shouldDoNothing_withoutMigrateOption() {
+        schemaMigrationRunner.run(new DefaultApplicationArguments("--teams=4"));
+
+        verifyNoInteractions(schemaVersionCheck);
+    }
+}
@@ -0,0 +1,56 @@
+package online.rabko.basketball.unit.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import online.rabko.basketball.config.SchemaVersionCheck;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.DefaultResourceLoader;
+
+/**
+ * Unit tests for {@link SchemaVersionCheck}.
+ */
+@ExtendWith(MockitoExtension.class)
+class SchemaVersionCheckTest {
+
+    private static final String CHANGE_LOG = "classpath:db/changelog/main.yaml";
+
+    @Mock
+    private DataSource dataSource;
+
+    @Test
+    void start_shouldSkipCheck_whenLiquibaseMigratesOnStartup() {
+        SchemaVersionCheck check = new SchemaVersionCheck(dataSource,
+            new DefaultResourceLoader(), CHANGE_LOG, true);
+
+        check.start();
+
+        assertTrue(check.isRunning());
+        verifyNoInteractions(dataSource);
+        check.stop();
+        assertFalse(check.isRunning());
+        assertEquals(Integer.MIN_VALUE, check.getPhase());
+    }
+
+    @Test
+    void start_shouldRefuseToStart_whenSchemaCannotBeRead() throws SQLException {
+        SchemaVersionCheck check = new SchemaVersionCheck(dataSource,
+            new DefaultResourceLoader(), CHANGE_LOG, false);
+        when(dataSource.getConnection()).thenThrow(new SQLException("connection refused"));
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, check::start);
+
+        assertInstanceOf(SQLException.class, exception.getCause());
+        assertFalse(check.isRunning());
+    }
+}
@@ -0,0 +1,62 @@
+package online.rabko.basketball.unit.controller;
+
+import static io.restassured.module.mockmvc.RestAssuredMockMvc.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.when;
+
+import io.restassured.module.mockmvc.RestAssuredMockMvc;
+import online.rabko.basketball.controller.AdminController;
+import online.rabko.basketball.service.SeasonArchiveService;
+import online.rabko.model.SeasonArchiveInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for {@link AdminController} using RestAssuredMockMvc.
+ */
+@ExtendWith(MockitoExtension.class)
+class AdminControllerTest {
+
+    private static final SeasonArchiveInfo INFO = new SeasonArchiveInfo(1, 2, 20, 512L);
+
+    @Mock
+    private SeasonArchiveService seasonArchiveService;
+
+    @InjectMocks
+    private AdminController adminController;
+
+    @BeforeEach
+    void setUp() {
+        RestAssuredMockMvc.standaloneSetup(adminController);
+    }
+
+    @Test
+    void archiveSeason_shouldReturnArchiveInfo() {
+        when(seasonArchiveService.archive(1)).thenReturn(INFO);
+
+        given()
+            .when()
+            .post("/admin/seasons/1/archive")
+            .then()
+            .statusCode(200)
+            .body("season_id", equalTo(1))
+            .body("box_score_count", equalTo(20))
+            .body("size_bytes", equalTo(512));
+    }
+
+    @Test
+    void restoreSeason_shouldReturnArchiveInfo() {
+        when(seasonArchiveService.restore(1)).thenReturn(INFO);
+
+        given()
+            .when()
+            .post("/admin/seasons/1/restore")
+            .then()
+            .statusCode(200)
+            .body("match_count", equalTo(2));
+    }
+}
@@ -0,0 +1,69 @@
+package online.rabko.basketball.unit.controller;
+
+import static io.restassured.module.mockmvc.RestAssuredMockMvc.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.when;
+
+import io.restassured.module.mockmvc.RestAssuredMockMvc;
+import java.util.List;
+import online.rabko.basketball.controller.ChangeController;
+import online.rabko.basketball.service.ChangeService;
+import online.rabko.model.Change;
+import online.rabko.model.Change.OperationEnum;
+import online.rabko.model.Change.ResourceEnum;
+import online.rabko.model.ChangeBatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for {@link ChangeController} using RestAssuredMockMvc.
+ */
+@ExtendWith(MockitoExtension.class)
+class ChangeControllerTest {
+
+    @Mock
+    private ChangeService changeService;
+
+    @InjectMocks
+    private ChangeController changeController;
+
+    @BeforeEach
+    void setUp() {
+        RestAssuredMockMvc.standaloneSetup(changeController);
+    }
+
+    @Test
+    void getChanges_shouldReturnBatch() {
+        when(changeService.getChanges("800-7", 50)).thenReturn(new ChangeBatch(
+            List.of(new Change(ResourceEnum.BOX_SCORE, 3, OperationEnum.DELETE)), "900-1", false));
+
+        given()
+            .queryParam("since", "800-7")
+            .queryParam("limit", 50)
+            .when()
+            .get("/changes")
+            .then()
+            .statusCode(200)
+            .body("changes[0].resource", equalTo("box_score"))
+            .body("changes[0].operation", equalTo("delete"))
+            .body("next_cursor", equalTo("900-1"))
+            .body("has_more", equalTo(false));
+    }
+
+    @Test
+    void getChanges_shouldUseDefaultLimit() {
+        when(changeService.getChanges(null, 500)).thenReturn(new ChangeBatch(List.of(), "0-0",
+            false));
+
+        given()
+            .when()
+            .get("/changes")
+            .then()
+            .statusCode(200)
+            .body("next_cursor", equalTo("0-0"));
+    }
+}
@@ -0,0 +1,226 @@
+package online.rabko.basketball.unit.controller;
+
+import static io.restassured.module.mockmvc.RestAssuredMockMvc.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.restassured.http.ContentType;
+import io.restassured.module.mockmvc.RestAssuredMockMvc;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import online.rabko.basketball.controller.MatchController;
+import online.rabko.basketball.service.MatchService;
+import online.rabko.basketball.service.StatsWriteBehindService;
+import online.rabko.model.Match;
+import online.rabko.model.MatchDetail;
+import online.rabko.model.Player;
+import online.rabko.model.PlayerStats;
+import online.rabko.model.PlayerStatsStats;
+import online.rabko.model.Season;
+import online.rabko.model.StatsSubmission;
+import online.rabko.model.StatsSubmission.StatusEnum;
+import online.rabko.model.Team;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Unit tests for {@link MatchController} using RestAssuredMockMvc.
+ */
+@ExtendWith(MockitoExtension.class)
+class MatchControllerTest {
+
+    private static final Match MATCH = new Match(10, 1, LocalDate.of(2023, 11, 15), 1, 2)
+        .homeTeamScore(98)
+        .awayTeamScore(102);
+    private static final String MATCH_JSON = """
+        {"id":0,"season_id":1,"date":"2023-11-15","home_team_id":1,"away_team_id":2}
+        """;
+    private static final PlayerStats STATS = new PlayerStats(3, 10, 23, 1,
+        new PlayerStatsStats().points(25));
+
+    @Mock
+    private MatchService matchService;
+
+    @Mock
+    private StatsWriteBehindService statsWriteBehindService;
+
+    @Mock
+    private ObjectProvider<StatsWriteBehindService> statsWriteBehindProvider;
+
+    @InjectMocks
+    private MatchController matchController;
+
+    @BeforeEach
+    void setUp() {
+        RestAssuredMockMvc.standaloneSetup(matchController);
+    }
+
+    @Test
+    void getMatches_shouldReturnMatches_withDefaultSort() {
+        when(matchService.getAll(null, null, null, null, "date", "asc"))
+            .thenReturn(List.of(MATCH));
+
+        given()
+            .when()
+            .get("/matches")
+            .then()
+            .statusCode(200)
+            .body("[0].away_team_score", equalTo(102));
+    }
+
+    @Test
+    void getMatches_shouldPassFiltersAndSort() {
+        when(matchService.getAll(1, 2, LocalDate.of(2023, 11, 1), LocalDate.of(2023, 11, 30),
+            "id", "desc")).thenReturn(List.of(MATCH));
+
+        given()
+            .queryParam("season_id", 1)
+            .queryParam("team_id", 2)
+            .queryParam("date_from", "2023-11-01")
+            .queryParam("date_to", "2023-11-30")
+            .queryParam("sort", "id")
+            .queryParam("order", "desc")
+            .when()
+            .get("/matches")
+            .then()
+            .statusCode(200)
+            .body("[0].id", equalTo(10));
+    }
+
+    @Test
+    void getMatch_shouldReturnMatch() {
+        when(matchService.getById(10)).thenReturn(MATCH);
+
+        given()
+            .when()
+            .get("/matches/10")
+            .then()
+            .statusCode(200)
+            .body("season_id", equalTo(1));
+    }
+
+    @Test
+    void getMatchDetail_shouldReturnAssembledPage() {
+        when(matchService.getDetail(10)).thenReturn(new MatchDetail(MATCH,
+            new Season(1, "2023-24", LocalDate.of(2023, 10, 1), LocalDate.of(2024, 4, 30)),
+            new Team(1, "Lakers"), new Team(2, "Celtics"),
+            List.of(new Player(23, "Lebron", "James")), List.of(STATS)));
+
+        given()
+            .when()
+            .get("/matches/10/detail")
+            .then()
+            .statusCode(200)
+            .body("away_team.name", equalTo("Celtics"))
+            .body("players[0].last_name", equalTo("James"))
+            .body("stats[0].stats.points", equalTo(25));
+    }
+
+    @Test
+    void createMatch_shouldReturnCreated() {
+        when(matchService.create(any())).thenReturn(MATCH);
+
+        given()
+            .contentType(ContentType.JSON)
+            .body(MATCH_JSON)
+            .when()
+            .post("/matches")
+            .then()
+            .statusCode(201)
+            .body("id", equalTo(10));
+    }
+
+    @Test
+    void updateMatch_shouldReturnUpdatedMatch() {
+        when(matchService.update(eq(10), any())).thenReturn(MATCH);
+
+        given()
+            .contentType(ContentType.JSON)
+            .body(MATCH_JSON)
+            .when()
+            .put("/matches/10")
+            .then()
+            .statusCode(200)
+            .body("home_team_score", equalTo(98));
+    }
+
+    @Test
+    void deleteMatch_shouldReturnNoContent() {
+        given()
+            .when()
+            .delete("/matches/10")
+            .then()
+            .statusCode(204);
+
+        verify(matchService).delete(10);
+    }
+
+    @Test
+    void getStats_shouldReturnPlayersStats() {
+        when(matchService.getStats(10)).thenReturn(List.of(STATS));
+
+        given()
+            .when()
+            .get("/matches/10/stats")
+            .then()
+            .statusCode(200)
+            .body("[0].stats.points", equalTo(25));
+    }
+
+    @Test
+    void saveStats_shouldReturnCreated() {
+        when(matchService.saveStats(eq(10), any())).thenReturn(STATS);
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"id\":0,\"match_id\":10,\"player_id\":23,\"team_id\":1,"
+                + "\"stats\":{\"points\":25}}")
+            .when()
+            .post("/matches/10/stats")
+            .then()
+            .statusCode(201)
+            .body("player_id", equalTo(23));
+    }
+
+    @Test
+    void submitStats_shouldReturnAccepted_withTrackingId() {
+        UUID trackingId = UUID.fromString("6f1c2a3e-1b0d-4c55-9d3e-2a7b8c9d0e1f");
+        when(statsWriteBehindProvider.getIfAvailable()).thenReturn(statsWriteBehindService);
+        when(statsWriteBehindService.submit(eq(10), any(PlayerStats.class)))
+            .thenReturn(new StatsSubmission(trackingId, StatusEnum.QUEUED));
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("""
+                {"id":0,"match_id":0,"player_id":23,"team_id":1,"stats":{"points":25}}
+                """)
+            .when()
+            .post("/matches/10/stats/async")
+            .then()
+            .statusCode(202)
+            .body("tracking_id", equalTo(trackingId.toString()))
+            .body("status", equalTo("queued"));
+    }
+
+    @Test
+    void submitStats_shouldReturnNotImplemented_whenWriteBehindIsDisabled() {
+        given()
+            .contentType(ContentType.JSON)
+            .body("""
+                {"id":0,"match_id":0,"player_id":23,"team_id":1,"stats":{"points":25}}
+                """)
+            .when()
+            .post("/matches/10/stats/async")
+            .then()
+            .statusCode(501);
+    }
+}
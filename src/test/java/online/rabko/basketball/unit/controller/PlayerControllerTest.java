@@ -0,0 +1,163 @@
+package online.rabko.basketball.unit.controller;
+
+import static io.restassured.module.mockmvc.RestAssuredMockMvc.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.restassured.http.ContentType;
+import io.restassured.module.mockmvc.RestAssuredMockMvc;
+import java.util.List;
+import online.rabko.basketball.controller.PlayerController;
+import online.rabko.basketball.service.PlayerService;
+import online.rabko.model.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for {@link PlayerController} using RestAssuredMockMvc.
+ */
+@ExtendWith(MockitoExtension.class)
+class PlayerControllerTest {
+
+    private static final Player PLAYER = new Player(1, "Lebron", "James").teamId(5);
+    private static final String PLAYER_JSON = """
+        {"id":0,"first_name":"Lebron","last_name":"James","team_id":5}
+        """;
+
+    @Mock
+    private PlayerService playerService;
+
+    @InjectMocks
+    private PlayerController playerController;
+
+    @BeforeEach
+    void setUp() {
+        RestAssuredMockMvc.standaloneSetup(playerController);
+    }
+
+    @Test
+    void getPlayers_shouldReturnPlayers_withDefaultSort() {
+        when(playerService.getAll(null, null, "id", "asc")).thenReturn(List.of(PLAYER));
+
+        given()
+            .when()
+            .get("/players")
+            .then()
+            .statusCode(200)
+            .body("[0].last_name", equalTo("James"));
+    }
+
+    @Test
+    void getPlayers_shouldPassFiltersAndSort() {
+        when(playerService.getAll(5, "Forward", "age", "desc")).thenReturn(List.of(PLAYER));
+
+        given()
+            .queryParam("team_id", 5)
+            .queryParam("position", "Forward")
+            .queryParam("sort", "age")
+            .queryParam("order", "desc")
+            .when()
+            .get("/players")
+            .then()
+            .statusCode(200)
+            .body("[0].id", equalTo(1));
+    }
+
+    @Test
+    void getPlayers_shouldReturnRequestedPlayers_whenIdsGiven() {
+        when(playerService.getByIds(List.of(1, 7))).thenReturn(List.of(PLAYER));
+
+        given()
+            .queryParam("ids", "1,7")
+            .when()
+            .get("/players")
+            .then()
+            .statusCode(200)
+            .body("[0].id", equalTo(1));
+    }
+
+    @Test
+    void searchPlayers_shouldUseDefaultLimit() {
+        when(playerService.search("lebrn", 10)).thenReturn(List.of(PLAYER));
+
+        given()
+            .queryParam("q", "lebrn")
+            .when()
+            .get("/players/search")
+            .then()
+            .statusCode(200)
+            .body("[0].last_name", equalTo("James"));
+    }
+
+    @Test
+    void typeahead_shouldPassPrefixAndLimit() {
+        when(playerService.suggest("leb", 3)).thenReturn(List.of(PLAYER));
+
+        given()
+            .queryParam("prefix", "leb")
+            .queryParam("limit", 3)
+            .when()
+            .get("/players/typeahead")
+            .then()
+            .statusCode(200)
+            .body("[0].first_name", equalTo("Lebron"));
+    }
+
+    @Test
+    void getPlayer_shouldReturnPlayer() {
+        when(playerService.getById(1)).thenReturn(PLAYER);
+
+        given()
+            .when()
+            .get("/players/1")
+            .then()
+            .statusCode(200)
+            .body("team_id", equalTo(5));
+    }
+
+    @Test
+    void createPlayer_shouldReturnCreated() {
+        when(playerService.create(any())).thenReturn(PLAYER);
+
+        given()
+            .contentType(ContentType.JSON)
+            .body(PLAYER_JSON)
+            .when()
+            .post("/players")
+            .then()
+            .statusCode(201)
+            .body("id", equalTo(1));
+    }
+
+    @Test
+    void updatePlayer_shouldReturnUpdatedPlayer() {
+        when(playerService.update(eq(1), any())).thenReturn(PLAYER);
+
+        given()
+            .contentType(ContentType.JSON)
+            .body(PLAYER_JSON)
+            .when()
+            .put("/players/1")
+            .then()
+            .statusCode(200)
+            .body("first_name", equalTo("Lebron"));
+    }
+
+    @Test
+    void deletePlayer_shouldReturnNoContent() {
+        given()
+            .when()
+            .delete("/players/1")
+            .then()
+            .statusCode(204);
+
+        verify(playerService).delete(1);
+    }
+}
@@ -0,0 +1,253 @@
+package online.rabko.basketball.unit.controller;
+
+import static io.restassured.module.mockmvc.RestAssuredMockMvc.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.restassured.module.mockmvc.RestAssuredMockMvc;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import online.rabko.basketball.controller.ReactiveStatsController;
+import online.rabko.basketball.enums.PlayerStatsMetric;
+import online.rabko.basketball.service.ReactiveStatsService;
+import online.rabko.basketball.service.StatsWriteBehindService;
+import online.rabko.model.Match;
+import online.rabko.model.PercentileRank;
+import online.rabko.model.PercentileRank.MetricEnum;
+import online.rabko.model.PlayerPercentiles;
+import online.rabko.model.PlayerStats;
+import online.rabko.model.PlayerStatsStats;
+import online.rabko.model.PlayerStatsSummary;
+import online.rabko.model.Quantile;
+import online.rabko.model.StatDistribution;
+import online.rabko.model.StatsSubmission;
+import online.rabko.model.StatsSubmission.StatusEnum;
+import online.rabko.model.TeamStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit tests for {@link ReactiveStatsController} using RestAssuredMockMvc, which performs the
+ * asynchronous dispatch of the {@link Mono} responses.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReactiveStatsControllerTest {
+
+    private static final LocalDate AS_OF = LocalDate.of(2023, 12, 31);
+    private static final PlayerStats STATS = new PlayerStats(3, 10, 23, 1,
+        new PlayerStatsStats().points(25));
+    private static final TeamStats TEAM_STATS = new TeamStats(1, "Lakers")
+        .averagePoints(new BigDecimal("101.50"))
+        .winRate(new BigDecimal("0.75"));
+
+    @Mock
+    private ReactiveStatsService reactiveStatsService;
+
+    @Mock
+    private StatsWriteBehindService statsWriteBehindService;
+
+    @Mock
+    private ObjectProvider<StatsWriteBehindService> statsWriteBehindProvider;
+
+    @InjectMocks
+    private ReactiveStatsController reactiveStatsController;
+
+    @BeforeEach
+    void setUp() {
+        RestAssuredMockMvc.standaloneSetup(reactiveStatsController);
+    }
+
+    @Test
+    void getStats_shouldReturnRecord() {
+        when(reactiveStatsService.getById(3)).thenReturn(Mono.just(STATS));
+
+        given()
+            .when()
+            .async()
+            .get("/stats/players/3")
+            .then()
+            .statusCode(200)
+            .body("stats.points", equalTo(25));
+    }
+
+    @Test
+    void deleteStats_shouldReturnNoContent() {
+        when(reactiveStatsService.delete(3)).thenReturn(Mono.empty());
+
+        given()
+            .when()
+            .async()
+            .delete("/stats/players/3")
+            .then()
+            .statusCode(204);
+
+        verify(reactiveStatsService).delete(3);
+    }
+
+    @Test
+    void getRolling_shouldDefaultToFiveGames() {
+        when(reactiveStatsService.getRolling(23, 5, AS_OF)).thenReturn(Mono.just(
+            new PlayerStatsSummary(23, 5, new PlayerStatsStats().points(125))));
+
+        given()
+            .queryParam("as_of", AS_OF.toString())
+            .when()
+            .async()
+            .get("/stats/players/23/rolling")
+            .then()
+            .statusCode(200)
+            .body("games", equalTo(5))
+            .body("totals.points", equalTo(125));
+    }
+
+    @Test
+    void getCareer_shouldPassSeasonAndDate() {
+        when(reactiveStatsService.getCareer(23, 1, AS_OF)).thenReturn(Mono.just(
+            new PlayerStatsSummary(23, 0, new PlayerStatsStats()).seasonId(1)));
+
+        given()
+            .queryParam("season_id", 1)
+            .queryParam("as_of", AS_OF.toString())
+            .when()
+            .async()
+            .get("/stats/players/23/career")
+            .then()
+            .statusCode(200)
+            .body("season_id", equalTo(1));
+    }
+
+    @Test
+    void getPercentiles_shouldReturnRanks() {
+        when(reactiveStatsService.getPercentiles(23, null)).thenReturn(Mono.just(
+            new PlayerPercentiles(23, 72, List.of(new PercentileRank(MetricEnum.POINTS,
+                new BigDecimal("24.6528"), new BigDecimal("97.25"))))));
+
+        given()
+            .when()
+            .async()
+            .get("/stats/players/23/percentiles")
+            .then()
+            .statusCode(200)
+            .body("percentiles[0].percentile", equalTo(97.25f));
+    }
+
+    @Test
+    void getDistribution_shouldPassMetricAndSeason() {
+        when(reactiveStatsService.getDistribution("points", 1)).thenReturn(Mono.just(
+            new StatDistribution(StatDistribution.MetricEnum.POINTS, 450L,
+                new BigDecimal("0.02"),
+                List.of(new Quantile(new BigDecimal("0.5"), new BigDecimal("11.3"))))));
+
+        given()
+            .queryParam("metric", "points")
+            .queryParam("season_id", 1)
+            .when()
+            .async()
+            .get("/stats/players/distribution")
+            .then()
+            .statusCode(200)
+            .body("count", equalTo(450));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "top-scorers, POINTS",
+        "top-assisters, ASSISTS",
+        "top-rebounders, REBOUNDS",
+        "top-stealers, STEALS",
+        "top-blockers, BLOCKS",
+        "efficiency-rating, EFFICIENCY",
+        "minutes-played, MINUTES_PLAYED"
+    })
+    void getLeaders_shouldRankByEndpointMetric(String path, PlayerStatsMetric metric) {
+        when(reactiveStatsService.getLeaders(metric, 1, null))
+            .thenReturn(Mono.just(List.of(STATS)));
+
+        given()
+            .queryParam("season_id", 1)
+            .when()
+            .async()
+            .get("/stats/players/" + path)
+            .then()
+            .statusCode(200)
+            .body("[0].player_id", equalTo(23));
+    }
+
+    @Test
+    void getTeamsByAveragePoints_shouldReturnTeamStats() {
+        when(reactiveStatsService.getTeamsByAveragePoints(null, null))
+            .thenReturn(Mono.just(List.of(TEAM_STATS)));
+
+        given()
+            .when()
+            .async()
+            .get("/stats/teams/average-points")
+            .then()
+            .statusCode(200)
+            .body("[0].team_name", equalTo("Lakers"));
+    }
+
+    @Test
+    void getTeamsByWinRate_shouldReturnTeamStats() {
+        when(reactiveStatsService.getTeamsByWinRate(1, null))
+            .thenReturn(Mono.just(List.of(TEAM_STATS)));
+
+        given()
+            .queryParam("season_id", 1)
+            .when()
+            .async()
+            .get("/stats/teams/win-rate")
+            .then()
+            .statusCode(200)
+            .body("[0].win_rate", equalTo(0.75f));
+    }
+
+    @Test
+    void getHighestScoringMatches_shouldReturnMatches() {
+        when(reactiveStatsService.getHighestScoringMatches(null)).thenReturn(Mono.just(
+            List.of(new Match(10, 1, LocalDate.of(2023, 11, 15), 1, 2))));
+
+        given()
+            .when()
+            .async()
+            .get("/stats/matches/highest-scoring")
+            .then()
+            .statusCode(200)
+            .body("[0].id", equalTo(10));
+    }
+
+    @Test
+    void getSubmission_shouldReturnState() {
+        UUID trackingId = UUID.fromString("6f1c2a3e-1b0d-4c55-9d3e-2a7b8c9d0e1f");
+        when(statsWriteBehindProvider.getIfAvailable()).thenReturn(statsWriteBehindService);
+        when(statsWriteBehindService.getSubmission(trackingId))
+            .thenReturn(new StatsSubmission(trackingId, StatusEnum.RECORDED).statsId(3));
+
+        given()
+            .when()
+            .get("/stats/submissions/" + trackingId)
+            .then()
+            .statusCode(200)
+            .body("status", equalTo("recorded"));
+    }
+
+    @Test
+    void getSubmission_shouldReturnNotImplemented_whenWriteBehindIsDisabled() {
+        given()
+            .when()
+            .get("/stats/submissions/" + UUID.randomUUID())
+            .then()
+            .statusCode(501);
+    }
+}
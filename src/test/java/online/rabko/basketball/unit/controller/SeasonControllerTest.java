@@ -0,0 +1,109 @@
+package online.rabko.basketball.unit.controller;
+
+import static io.restassured.module.mockmvc.RestAssuredMockMvc.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.restassured.http.ContentType;
+import io.restassured.module.mockmvc.RestAssuredMockMvc;
+import java.time.LocalDate;
+import java.util.List;
+import online.rabko.basketball.controller.SeasonController;
+import online.rabko.basketball.service.SeasonService;
+import online.rabko.model.Season;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for {@link SeasonController} using RestAssuredMockMvc.
+ */
+@ExtendWith(MockitoExtension.class)
+class SeasonControllerTest {
+
+    private static final Season SEASON = new Season(1, "2023-24",
+        LocalDate.of(2023, 10, 1), LocalDate.of(2024, 4, 30));
+    private static final String SEASON_JSON = """
+        {"id":0,"name":"2023-24","start_date":"2023-10-01","end_date":"2024-04-30"}
+        """;
+
+    @Mock
+    private SeasonService seasonService;
+
+    @InjectMocks
+    private SeasonController seasonController;
+
+    @BeforeEach
+    void setUp() {
+        RestAssuredMockMvc.standaloneSetup(seasonController);
+    }
+
+    @Test
+    void getSeasons_shouldReturnSeasons() {
+        when(seasonService.getAll()).thenReturn(List.of(SEASON));
+
+        given()
+            .when()
+            .get("/seasons")
+            .then()
+            .statusCode(200)
+            .body("[0].name", equalTo("2023-24"));
+    }
+
+    @Test
+    void getSeason_shouldReturnSeason() {
+        when(seasonService.getById(1)).thenReturn(SEASON);
+
+        given()
+            .when()
+            .get("/seasons/1")
+            .then()
+            .statusCode(200)
+            .body("name", equalTo("2023-24"));
+    }
+
+    @Test
+    void createSeason_shouldReturnCreated() {
+        when(seasonService.create(any())).thenReturn(SEASON);
+
+        given()
+            .contentType(ContentType.JSON)
+            .body(SEASON_JSON)
+            .when()
+            .post("/seasons")
+            .then()
+            .statusCode(201)
+            .body("id", equalTo(1));
+    }
+
+    @Test
+    void updateSeason_shouldReturnUpdatedSeason() {
+        when(seasonService.update(eq(1), any())).thenReturn(SEASON);
+
+        given()
+            .contentType(ContentType.JSON)
+            .body(SEASON_JSON)
+            .when()
+            .put("/seasons/1")
+            .then()
+            .statusCode(200)
+            .body("id", equalTo(1));
+    }
+
+    @Test
+    void deleteSeason_shouldReturnNoContent() {
+        given()
+            .when()
+            .delete("/seasons/1")
+            .then()
+            .statusCode(204);
+
+        verify(seasonService).delete(1);
+    }
+}
@@ -0,0 +1,242 @@
+package online.rabko.basketball.unit.controller;
+
+import static io.restassured.module.mockmvc.RestAssuredMockMvc.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.restassured.module.mockmvc.RestAssuredMockMvc;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import online.rabko.basketball.controller.StatsController;
+import online.rabko.basketball.enums.PlayerStatsMetric;
+import online.rabko.basketball.service.StatsService;
+import online.rabko.basketball.service.StatsWriteBehindService;
+import online.rabko.model.Match;
+import online.rabko.model.PercentileRank;
+import online.rabko.model.PercentileRank.MetricEnum;
+import online.rabko.model.PlayerPercentiles;
+import online.rabko.model.PlayerStats;
+import online.rabko.model.PlayerStatsAverages;
+import online.rabko.model.PlayerStatsStats;
+import online.rabko.model.PlayerStatsSummary;
+import online.rabko.model.Quantile;
+import online.rabko.model.StatDistribution;
+import online.rabko.model.StatsSubmission;
+import online.rabko.model.StatsSubmission.StatusEnum;
+import online.rabko.model.TeamStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Unit tests for {@link StatsController} using RestAssuredMockMvc.
+ */
+@ExtendWith(MockitoExtension.class)
+class StatsControllerTest {
+
+    private static final PlayerStats STATS = new PlayerStats(3, 10, 23, 1,
+        new PlayerStatsStats().points(25));
+    private static final TeamStats TEAM_STATS = new TeamStats(1, "Lakers")
+        .averagePoints(new BigDecimal("101.50"))
+        .winRate(new BigDecimal("0.75"));
+
+    @Mock
+    private StatsService statsService;
+
+    @Mock
+    private StatsWriteBehindService statsWriteBehindService;
+
+    @Mock
+    private ObjectProvider<StatsWriteBehindService> statsWriteBehindProvider;
+
+    @InjectMocks
+    private StatsController statsController;
+
+    @BeforeEach
+    void setUp() {
+        RestAssuredMockMvc.standaloneSetup(statsController);
+    }
+
+    @Test
+    void getStats_shouldReturnRecord() {
+        when(statsService.getById(3)).thenReturn(STATS);
+
+        given()
+            .when()
+            .get("/stats/players/3")
+            .then()
+            .statusCode(200)
+            .body("stats.points", equalTo(25));
+    }
+
+    @Test
+    void deleteStats_shouldReturnNoContent() {
+        given()
+            .when()
+            .delete("/stats/players/3")
+            .then()
+            .statusCode(204);
+
+        verify(statsService).delete(3);
+    }
+
+    @Test
+    void getRolling_shouldReturnSummary() {
+        when(statsService.getRolling(23, 10, null)).thenReturn(new PlayerStatsSummary(23, 10,
+            new PlayerStatsStats().points(250))
+            .averages(new PlayerStatsAverages().points(new BigDecimal("25.00"))));
+
+        given()
+            .queryParam("games", 10)
+            .when()
+            .get("/stats/players/23/rolling")
+            .then()
+            .statusCode(200)
+            .body("games", equalTo(10))
+            .body("totals.points", equalTo(250))
+            .body("averages.points", equalTo(25.0f));
+    }
+
+    @Test
+    void getPercentiles_shouldReturnRanks() {
+        when(statsService.getPercentiles(23, null)).thenReturn(new PlayerPercentiles(23, 72,
+            List.of(new PercentileRank(MetricEnum.POINTS, new BigDecimal("24.6528"),
+                new BigDecimal("97.25")))));
+
+        given()
+            .when()
+            .get("/stats/players/23/percentiles")
+            .then()
+            .statusCode(200)
+            .body("games", equalTo(72))
+            .body("percentiles[0].metric", equalTo("points"))
+            .body("percentiles[0].percentile", equalTo(97.25f));
+    }
+
+    @Test
+    void getDistribution_shouldPassMetricAndSeason() {
+        when(statsService.getDistribution("points", 1)).thenReturn(new StatDistribution(
+            StatDistribution.MetricEnum.POINTS, 450L, new BigDecimal("0.02"),
+            List.of(new Quantile(new BigDecimal("0.5"), new BigDecimal("11.3")))).seasonId(1));
+
+        given()
+            .queryParam("metric", "points")
+            .queryParam("season_id", 1)
+            .when()
+            .get("/stats/players/distribution")
+            .then()
+            .statusCode(200)
+            .body("count", equalTo(450))
+            .body("rank_error", equalTo(0.02f))
+            .body("quantiles[0].value", equalTo(11.3f));
+    }
+
+    @Test
+    void getCareer_shouldPassSeason() {
+        when(statsService.getCareer(23, 1, null)).thenReturn(new PlayerStatsSummary(23, 0,
+            new PlayerStatsStats()).seasonId(1));
+
+        given()
+            .queryParam("season_id", 1)
+            .when()
+            .get("/stats/players/23/career")
+            .then()
+            .statusCode(200)
+            .body("season_id", equalTo(1))
+            .body("games", equalTo(0));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "top-scorers, POINTS",
+        "top-assisters, ASSISTS",
+        "top-rebounders, REBOUNDS",
+        "top-stealers, STEALS",
+        "top-blockers, BLOCKS",
+        "efficiency-rating, EFFICIENCY",
+        "minutes-played, MINUTES_PLAYED"
+    })
+    void getLeaders_shouldRankByEndpointMetric(String path, PlayerStatsMetric metric) {
+        when(statsService.getLeaders(metric, 1, null)).thenReturn(List.of(STATS));
+
+        given()
+            .queryParam("season_id", 1)
+            .when()
+            .get("/stats/players/" + path)
+            .then()
+            .statusCode(200)
+            .body("[0].player_id", equalTo(23));
+    }
+
+    @Test
+    void getTeamsByAveragePoints_shouldReturnTeamStats() {
+        when(statsService.getTeamsByAveragePoints(null, null)).thenReturn(List.of(TEAM_STATS));
+
+        given()
+            .when()
+            .get("/stats/teams/average-points")
+            .then()
+            .statusCode(200)
+            .body("[0].team_name", equalTo("Lakers"));
+    }
+
+    @Test
+    void getTeamsByWinRate_shouldReturnTeamStats() {
+        when(statsService.getTeamsByWinRate(1, null)).thenReturn(List.of(TEAM_STATS));
+
+        given()
+            .queryParam("season_id", 1)
+            .when()
+            .get("/stats/teams/win-rate")
+            .then()
+            .statusCode(200)
+            .body("[0].win_rate", equalTo(0.75f));
+    }
+
+    @Test
+    void getHighestScoringMatches_shouldReturnMatches() {
+        when(statsService.getHighestScoringMatches(null)).thenReturn(
+            List.of(new Match(10, 1, LocalDate.of(2023, 11, 15), 1, 2)));
+
+        given()
+            .when()
+            .get("/stats/matches/highest-scoring")
+            .then()
+            .statusCode(200)
+            .body("[0].id", equalTo(10));
+    }
+
+    @Test
+    void getSubmission_shouldReturnState() {
+        UUID trackingId = UUID.fromString("6f1c2a3e-1b0d-4c55-9d3e-2a7b8c9d0e1f");
+        when(statsWriteBehindProvider.getIfAvailable()).thenReturn(statsWriteBehindService);
+        when(statsWriteBehindService.getSubmission(trackingId))
+            .thenReturn(new StatsSubmission(trackingId, StatusEnum.RECORDED).statsId(3));
+
+        given()
+            .when()
+            .get("/stats/submissions/" + trackingId)
+            .then()
+            .statusCode(200)
+            .body("status", equalTo("recorded"))
+            .body("stats_id", equalTo(3));
+    }
+
+    @Test
+    void getSubmission_shouldReturnNotImplemented_whenWriteBehindIsDisabled() {
+        given()
+            .when()
+            .get("/stats/submissions/" + UUID.randomUUID())
+            .then()
+            .statusCode(501);
+    }
+}
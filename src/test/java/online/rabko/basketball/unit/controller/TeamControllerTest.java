@@ -0,0 +1,131 @@
+package online.rabko.basketball.unit.controller;
+
+import static io.restassured.module.mockmvc.RestAssuredMockMvc.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.restassured.http.ContentType;
+import io.restassured.module.mockmvc.RestAssuredMockMvc;
+import java.util.List;
+import online.rabko.basketball.controller.TeamController;
+import online.rabko.basketball.exception.GlobalExceptionHandler;
+import online.rabko.basketball.exception.NotFoundException;
+import online.rabko.basketball.service.TeamService;
+import online.rabko.model.Team;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+/**
+ * Unit tests for {@link TeamController} using RestAssuredMockMvc.
+ */
+@ExtendWith(MockitoExtension.class)
+class TeamControllerTest {
+
+    @Mock
+    private TeamService teamService;
+
+    @InjectMocks
+    private TeamController teamController;
+
+    @BeforeEach
+    void setUp() {
+        RestAssuredMockMvc.standaloneSetup(MockMvcBuilders.standaloneSetup(teamController)
+            .setControllerAdvice(new GlobalExceptionHandler()));
+    }
+
+    @Test
+    void getTeams_shouldReturnTeams() {
+        when(teamService.getAll()).thenReturn(List.of(new Team(1, "Lakers")));
+
+        given()
+            .when()
+            .get("/teams")
+            .then()
+            .statusCode(200)
+            .body("[0].name", equalTo("Lakers"));
+    }
+
+    @Test
+    void getTeams_shouldReturnRequestedTeams_whenIdsGiven() {
+        when(teamService.getByIds(List.of(2, 1))).thenReturn(
+            List.of(new Team(1, "Lakers"), new Team(2, "Celtics")));
+
+        given()
+            .queryParam("ids", "2,1")
+            .when()
+            .get("/teams")
+            .then()
+            .statusCode(200)
+            .body("[1].name", equalTo("Celtics"));
+    }
+
+    @Test
+    void getTeams_shouldReturnBadRequest_whenIdsAreNotNumbers() {
+        given()
+            .queryParam("ids", "abc")
+            .when()
+            .get("/teams")
+            .then()
+            .statusCode(400)
+            .body("error", equalTo("Invalid value for parameter ids"));
+    }
+
+    @Test
+    void getTeam_shouldReturnNotFound_whenServiceThrows() {
+        when(teamService.getById(99)).thenThrow(new NotFoundException("Team", 99));
+
+        given()
+            .when()
+            .get("/teams/99")
+            .then()
+            .statusCode(404)
+            .body("error", equalTo("Team with id 99 not found"));
+    }
+
+    @Test
+    void createTeam_shouldReturnCreated() {
+        when(teamService.create(any())).thenReturn(new Team(1, "Lakers"));
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"id\":0,\"name\":\"Lakers\"}")
+            .when()
+            .post("/teams")
+            .then()
+            .statusCode(201)
+            .body("id", equalTo(1));
+    }
+
+    @Test
+    void updateTeam_shouldReturnUpdatedTeam() {
+        when(teamService.update(eq(1), any())).thenReturn(new Team(1, "LA Lakers"));
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"id\":1,\"name\":\"LA Lakers\"}")
+            .when()
+            .put("/teams/1")
+            .then()
+            .statusCode(200)
+            .body("name", equalTo("LA Lakers"));
+    }
+
+    @Test
+    void deleteTeam_shouldReturnNoContent() {
+        given()
+            .when()
+            .delete("/teams/1")
+            .then()
+            .statusCode(204);
+
+        verify(teamService).delete(1);
+    }
+}
@@ -0,0 +1,151 @@
+package online.rabko.basketball.unit.generator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import online.rabko.basketball.enums.BackupTable;
+import online.rabko.basketball.generator.LeagueGenerator;
+import online.rabko.basketball.generator.LeagueSpec;
+import online.rabko.model.Match;
+import online.rabko.model.PlayerStats;
+import online.rabko.model.PlayerStatsStats;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link LeagueGenerator}.
+ */
+class LeagueGeneratorTest {
+
+    private static final Map<BackupTable, Integer> LAST_IDS = Map.of(BackupTable.TEAMS, 10,
+        BackupTable.SEASONS, 20, BackupTable.PLAYERS, 30, BackupTable.MATCHES, 40,
+        BackupTable.MATCH_PARTICIPANTS, 50);
+    private static final LeagueSpec SPEC = new LeagueSpec(7, 2, 6, 12, 2, 2000);
+
+    @Test
+    void write_shouldProduceSameRows_forSameSeed() throws IOException {
+        for (BackupTable table : LeagueGenerator.TABLES) {
+            assertArrayEquals(write(SPEC, table), write(SPEC, table), table.getTable());
+        }
+        assertFalse(Arrays.equals(write(SPEC, BackupTable.MATCH_PARTICIPANTS),
+            write(new LeagueSpec(8, 2, 6, 12, 2, 2000), BackupTable.MATCH_PARTICIPANTS)));
+    }
+
+    @Test
+    void write_shouldFrameRowsInBinaryCopyFormat() throws IOException {
+        byte[] teams = write(SPEC, BackupTable.TEAMS);
+
+        assertEquals("PGCOPY\n", new String(teams, 0, 7));
+        assertEquals(-1, teams[7]);
+        assertEquals(2, teams[20]);
+        assertEquals(-1, teams[teams.length - 1]);
+        assertEquals(-1, teams[teams.length - 2]);
+    }
+
+    @Test
+    void write_shouldRejectTablesThatAreNotGenerated() {
+        LeagueGenerator generator = new LeagueGenerator(SPEC, LAST_IDS);
+
+        assertThrows(IllegalArgumentException.class,
+            () -> generator.write(BackupTable.USERS, new ByteArrayOutputStream()));
+    }
+
+    @Test
+    void forEachMatch_shouldScheduleEveryPairHomeAndAway() throws IOException {
+        for (int teams : new int[]{6, 7}) {
+            LeagueSpec spec = new LeagueSpec(1, 2, teams, 8, 2, 2000);
+            Map<List<Integer>, Integer> meetings = new HashMap<>();
+            List<Integer> ids = new ArrayList<>();
+            new LeagueGenerator(spec, LAST_IDS).forEachMatch((match, boxScores) -> {
+                meetings.merge(List.of(match.getHomeTeamId(), match.getAwayTeamId()), 1,
+                    Integer::sum);
+                ids.add(match.getId());
+            });
+
+            assertEquals(2 * spec.matchesPerSeason(), ids.size());
+            assertEquals(41, ids.get(0));
+            assertEquals(40 + ids.size(), ids.get(ids.size() - 1));
+            assertEquals(teams * (teams - 1), meetings.size());
+            assertTrue(meetings.values().stream().allMatch(count -> count == 2));
+        }
+    }
+
+    @Test
+    void forEachMatch_shouldGenerateConsistentBoxScores() throws IOException {
+        List<Integer> boxScoreIds = new ArrayList<>();
+        new LeagueGenerator(SPEC, LAST_IDS).forEachMatch((match, boxScores) -> {
+            assertEquals(2 * LeagueGenerator.DRESSED_PLAYERS, boxScores.size());
+            assertNotEquals(match.getHomeTeamScore(), match.getAwayTeamScore());
+            assertEquals(match.getHomeTeamScore(), teamTotal(match, boxScores, true));
+            assertEquals(match.getAwayTeamScore(), teamTotal(match, boxScores, false));
+            int year = 2000 + match.getSeasonId() - 21;
+            assertFalse(match.getDate().isBefore(LocalDate.of(year, 10, 20)));
+            assertTrue(match.getDate().isBefore(LocalDate.of(year + 1, 4, 15)));
+            for (PlayerStats boxScore : boxScores) {
+                assertEquals(match.getId(), boxScore.getMatchId());
+                assertConsistent(boxScore.getStats());
+                boxScoreIds.add(boxScore.getId());
+            }
+            assertEquals(LeagueGenerator.TEAM_MINUTES, boxScores.stream()
+                .filter(boxScore -> boxScore.getTeamId().equals(match.getHomeTeamId()))
+                .mapToInt(boxScore -> boxScore.getStats().getMinutesPlayed())
+                .sum());
+        });
+
+        assertEquals(51, boxScoreIds.get(0));
+        assertEquals(50 + boxScoreIds.size(), boxScoreIds.get(boxScoreIds.size() - 1));
+    }
+
+    @Test
+    void getIds_shouldFollowLastIds() {
+        LeagueGenerator generator = new LeagueGenerator(SPEC, LAST_IDS);
+
+        assertEquals(List.of(11, 12, 13, 14, 15, 16), generator.getTeamIds());
+        assertEquals(List.of(21, 22), generator.getSeasonIds());
+        assertEquals(72, generator.getPlayerIds().size());
+        assertEquals(31, generator.getPlayerIds().get(0));
+        assertEquals(2000, generator.getFirstSeasonStart().getYear());
+    }
+
+    @Test
+    void leagueSpec_shouldRejectLeaguesThatCannotBeScheduled() {
+        assertThrows(IllegalArgumentException.class, () -> new LeagueSpec(1, 0, 6, 12, 2, 2000));
+        assertThrows(IllegalArgumentException.class, () -> new LeagueSpec(1, 1, 1, 12, 2, 2000));
+        assertThrows(IllegalArgumentException.class, () -> new LeagueSpec(1, 1, 6, 4, 2, 2000));
+    }
+
+    private static void assertConsistent(PlayerStatsStats stats) {
+        assertTrue(stats.getFieldGoalsMade() <= stats.getFieldGoalsAttempted());
+        assertTrue(stats.getThreePointsMade() <= stats.getThreePointsAttempted());
+        assertTrue(stats.getThreePointsAttempted() <= stats.getFieldGoalsAttempted());
+        assertTrue(stats.getThreePointsMade() <= stats.getFieldGoalsMade());
+        assertTrue(stats.getFreeThrowsMade() <= stats.getFreeThrowsAttempted());
+        assertEquals(2 * stats.getFieldGoalsMade() + stats.getThreePointsMade()
+            + stats.getFreeThrowsMade(), stats.getPoints());
+    }
+
+    private static Integer teamTotal(Match match, List<PlayerStats> boxScores, boolean home) {
+        Integer teamId = home ? match.getHomeTeamId() : match.getAwayTeamId();
+        return boxScores.stream()
+            .filter(boxScore -> boxScore.getTeamId().equals(teamId))
+            .mapToInt(boxScore -> boxScore.getStats().getPoints())
+            .sum();
+    }
+
+    private static byte[] write(LeagueSpec spec, BackupTable table) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new LeagueGenerator(spec, LAST_IDS).write(table, out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,60 @@
+package online.rabko.basketball.unit.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import online.rabko.basketball.metrics.ApiOperationObservationConvention;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Unit tests for {@link ApiOperationObservationConvention}.
+ */
+class ApiOperationObservationConventionTest {
+
+    private final ApiOperationObservationConvention convention =
+        new ApiOperationObservationConvention();
+
+    @Test
+    void getLowCardinalityKeyValues_shouldAddHandlerMethodAsOperation()
+        throws NoSuchMethodException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/teams");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+            new HandlerMethod(this, getClass().getDeclaredMethod("getTeams")));
+
+        KeyValues keyValues = convention.getLowCardinalityKeyValues(
+            new ServerRequestObservationContext(request, new MockHttpServletResponse()));
+
+        assertEquals(KeyValue.of(ApiOperationObservationConvention.OPERATION, "getTeams"),
+            keyValues.stream()
+                .filter(keyValue -> keyValue.getKey()
+                    .equals(ApiOperationObservationConvention.OPERATION))
+                .findFirst()
+                .orElseThrow());
+    }
+
+    @Test
+    void getLowCardinalityKeyValues_shouldAddNone_whenNoHandlerMethodMatched() {
+        KeyValues keyValues = convention.getLowCardinalityKeyValues(
+            new ServerRequestObservationContext(new MockHttpServletRequest("GET", "/missing"),
+                new MockHttpServletResponse()));
+
+        assertEquals(KeyValue.of(ApiOperationObservationConvention.OPERATION,
+                ApiOperationObservationConvention.NONE),
+            keyValues.stream()
+                .filter(keyValue -> keyValue.getKey()
+                    .equals(ApiOperationObservationConvention.OPERATION))
+                .findFirst()
+                .orElseThrow());
+    }
+
+    @SuppressWarnings("unused")
+    private void getTeams() {
+        // handler used as the matched operation
+    }
+}
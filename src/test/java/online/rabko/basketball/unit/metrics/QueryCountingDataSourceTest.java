@@ -0,0 +1,167 @@
+package online.rabko.basketball.unit.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import javax.sql.DataSource;
+import online.rabko.basketball.metrics.QueryCountingDataSource;
+import online.rabko.basketball.metrics.QueryStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for {@link QueryCountingDataSource}.
+ */
+@ExtendWith(MockitoExtension.class)
+class QueryCountingDataSourceTest {
+
+    private static final String SELECT = "SELECT name FROM teams";
+    private static final String INSERT = "INSERT INTO teams (name) VALUES (?)";
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement preparedStatement;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private QueryCountingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+        dataSource = new QueryCountingDataSource(target);
+    }
+
+    @Test
+    void executeQuery_shouldCountStatementAndRowsRead() throws SQLException {
+        when(connection.prepareStatement(SELECT)).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, false);
+
+        try (QueryStats stats = QueryStats.start()) {
+            ResultSet rows = dataSource.getConnection().prepareStatement(SELECT).executeQuery();
+            while (rows.next()) {
+                rows.getString(1);
+            }
+
+            assertEquals(1, stats.getStatements());
+            assertEquals(2, stats.getRows());
+            assertEquals(Map.of(SELECT, 1), stats.getExecutions());
+        }
+    }
+
+    @Test
+    void executeBatch_shouldCountRowsChanged() throws SQLException {
+        when(connection.prepareStatement(INSERT)).thenReturn(preparedStatement);
+        when(preparedStatement.executeBatch())
+            .thenReturn(new int[]{1, 1, Statement.SUCCESS_NO_INFO});
+
+        try (QueryStats stats = QueryStats.start()) {
+            PreparedStatement insert = dataSource.getConnection().prepareStatement(INSERT);
+            insert.addBatch();
+            insert.executeBatch();
+
+            assertEquals(1, stats.getStatements());
+            assertEquals(2, stats.getRows());
+        }
+    }
+
+    @Test
+    void execute_shouldCountPlainStatementsBySql() throws SQLException {
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.execute(SELECT)).thenReturn(true);
+        when(statement.getResultSet()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, false);
+        when(statement.executeLargeUpdate("DELETE FROM teams")).thenReturn(3L);
+
+        try (QueryStats stats = QueryStats.start()) {
+            Statement plain = dataSource.getConnection().createStatement();
+            plain.execute(SELECT);
+            ResultSet rows = plain.getResultSet();
+            while (rows.next()) {
+                rows.getString(1);
+            }
+            plain.executeLargeUpdate("DELETE FROM teams");
+
+            assertEquals(Map.of(SELECT, 1, "DELETE FROM teams", 1), stats.getExecutions());
+            assertEquals(4, stats.getRows());
+        }
+    }
+
+    @Test
+    void execute_shouldCountFailedStatement() throws SQLException {
+        when(connection.prepareStatement(INSERT)).thenReturn(preparedStatement);
+        when(preparedStatement.executeUpdate()).thenThrow(new SQLException("duplicate"));
+
+        try (QueryStats stats = QueryStats.start()) {
+            PreparedStatement insert = dataSource.getConnection().prepareStatement(INSERT);
+
+            assertThrows(SQLException.class, insert::executeUpdate);
+            assertEquals(1, stats.getStatements());
+            assertEquals(0, stats.getRows());
+        }
+    }
+
+    @Test
+    void getResultSet_shouldReturnNull_whenNoResultSet() throws SQLException {
+        when(connection.createStatement()).thenReturn(statement);
+
+        try (QueryStats stats = QueryStats.start()) {
+            assertNull(dataSource.getConnection().createStatement().getResultSet());
+            assertEquals(0, stats.getStatements());
+        }
+    }
+
+    @Test
+    void prepareStatement_shouldReturnDriverStatement_whenNotCounting() throws SQLException {
+        when(connection.prepareStatement(SELECT)).thenReturn(preparedStatement);
+
+        assertSame(preparedStatement, dataSource.getConnection().prepareStatement(SELECT));
+    }
+
+    @Test
+    void getConnection_shouldUseIdentityAndDelegateOtherMethods() throws SQLException {
+        when(connection.isReadOnly()).thenReturn(true);
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+
+        assertTrue(first.isReadOnly());
+        assertEquals(first, first);
+        assertNotEquals(first, second);
+        assertEquals(System.identityHashCode(first), first.hashCode());
+        assertFalse(first.equals(connection));
+    }
+
+    @Test
+    void getConnection_shouldPassCredentialsToTarget() throws SQLException {
+        when(target.getConnection("app", "secret")).thenReturn(connection);
+        when(connection.getSchema()).thenReturn("public");
+
+        assertEquals("public", dataSource.getConnection("app", "secret").getSchema());
+        assertEquals("public", dataSource.getConnection().getSchema());
+    }
+}
@@ -0,0 +1,85 @@
+package online.rabko.basketball.unit.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import javax.sql.DataSource;
+import online.rabko.basketball.metrics.QueryCountingDataSource;
+import online.rabko.basketball.metrics.QueryStats;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link QueryStats}.
+ */
+class QueryStatsTest {
+
+    private static final String SELECT_PLAYER = "SELECT * FROM players WHERE id = ?";
+    private static final String SELECT_TEAM = "SELECT * FROM teams WHERE id = ?";
+
+    @Test
+    void start_shouldBeEmpty() {
+        try (QueryStats stats = QueryStats.start()) {
+            assertEquals(0, stats.getStatements());
+            assertEquals(0, stats.getRows());
+            assertEquals(Duration.ZERO, stats.getTime());
+            assertTrue(stats.getExecutions().isEmpty());
+        }
+    }
+
+    @Test
+    void getRepeatedStatements_shouldReturnStatementsReachingThreshold() throws SQLException {
+        try (QueryStats stats = QueryStats.start()) {
+            execute(SELECT_TEAM, SELECT_PLAYER, SELECT_PLAYER, SELECT_PLAYER);
+
+            assertEquals(4, stats.getStatements());
+            assertEquals(Map.of(SELECT_TEAM, 1, SELECT_PLAYER, 3), stats.getExecutions());
+            assertEquals(Map.of(SELECT_PLAYER, 3), stats.getRepeatedStatements(3));
+            assertTrue(stats.getRepeatedStatements(4).isEmpty());
+        }
+    }
+
+    @Test
+    void close_shouldCountInnerScopeInOuterScope() throws SQLException {
+        try (QueryStats outer = QueryStats.start()) {
+            execute(SELECT_TEAM);
+            try (QueryStats inner = QueryStats.start()) {
+                execute(SELECT_PLAYER);
+
+                assertEquals(1, inner.getStatements());
+            }
+            execute(SELECT_TEAM);
+
+            assertEquals(3, outer.getStatements());
+            assertEquals(Map.of(SELECT_TEAM, 2, SELECT_PLAYER, 1), outer.getExecutions());
+        }
+    }
+
+    @Test
+    void close_shouldStopCounting() throws SQLException {
+        QueryStats stats = QueryStats.start();
+        stats.close();
+        stats.close();
+
+        execute(SELECT_TEAM);
+
+        assertEquals(0, stats.getStatements());
+    }
+
+    private static void execute(String... statements) throws SQLException {
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(target.getConnection()).thenReturn(connection);
+        Connection counted = new QueryCountingDataSource(target).getConnection();
+        for (String sql : statements) {
+            when(connection.prepareStatement(sql)).thenReturn(mock(PreparedStatement.class));
+            counted.prepareStatement(sql).executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package online.rabko.basketball.unit.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import online.rabko.basketball.metrics.RepositoryMetricsAspect;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsProperties;
+
+/**
+ * Unit tests for {@link RepositoryMetricsAspect}.
+ */
+@ExtendWith(MockitoExtension.class)
+class RepositoryMetricsAspectTest {
+
+    private static final String METRIC = "spring.data.repository.invocations";
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private Signature signature;
+
+    private MeterRegistry meterRegistry;
+    private RepositoryMetricsAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        aspect = new RepositoryMetricsAspect(meterRegistry, new MetricsProperties());
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getDeclaringType()).thenReturn(RepositoryMetricsAspectTest.class);
+        when(signature.getName()).thenReturn("findAll");
+    }
+
+    @Test
+    void time_shouldReturnResult_andRecordSuccess() throws Throwable {
+        when(joinPoint.proceed()).thenReturn("result");
+
+        assertEquals("result", aspect.time(joinPoint));
+
+        assertEquals(1, meterRegistry.get(METRIC)
+            .tag("repository", "RepositoryMetricsAspectTest")
+            .tag("method", "findAll")
+            .tag("state", "SUCCESS")
+            .tag("exception", "None")
+            .timer().count());
+    }
+
+    @Test
+    void time_shouldRethrow_andRecordError() throws Throwable {
+        when(joinPoint.proceed()).thenThrow(new IllegalStateException("boom"));
+
+        assertThrows(IllegalStateException.class, () -> aspect.time(joinPoint));
+
+        assertEquals(1, meterRegistry.get(METRIC)
+            .tag("method", "findAll")
+            .tag("state", "ERROR")
+            .tag("exception", "IllegalStateException")
+            .timer().count());
+    }
+}
@@ -0,0 +1,31 @@
+package online.rabko.basketball.unit.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import online.rabko.basketball.metrics.SampledSqlLogger;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link SampledSqlLogger}.
+ */
+class SampledSqlLoggerTest {
+
+    private static final String SQL = "select t.id from teams t";
+
+    @Test
+    void inspect_shouldReturnStatementUnchanged_whenNothingIsSampled() {
+        assertEquals(SQL, new SampledSqlLogger(0).inspect(SQL));
+    }
+
+    @Test
+    void inspect_shouldReturnStatementUnchanged_whenEverythingIsSampled() {
+        assertEquals(SQL, new SampledSqlLogger(1).inspect(SQL));
+    }
+
+    @Test
+    void constructor_shouldReject_whenRateIsOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> new SampledSqlLogger(-0.1));
+        assertThrows(IllegalArgumentException.class, () -> new SampledSqlLogger(1.5));
+    }
+}
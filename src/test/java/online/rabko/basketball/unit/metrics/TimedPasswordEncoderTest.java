@@ -0,0 +1,74 @@
+package online.rabko.basketball.unit.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import online.rabko.basketball.metrics.TimedPasswordEncoder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Unit tests for {@link TimedPasswordEncoder}.
+ */
+@ExtendWith(MockitoExtension.class)
+class TimedPasswordEncoderTest {
+
+    @Mock
+    private PasswordEncoder delegate;
+
+    private MeterRegistry meterRegistry;
+    private TimedPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        encoder = new TimedPasswordEncoder(delegate, meterRegistry);
+    }
+
+    @Test
+    void encode_shouldDelegate_andRecordOperation() {
+        when(delegate.encode("secret")).thenReturn("hash");
+
+        assertEquals("hash", encoder.encode("secret"));
+
+        assertEquals(1, meterRegistry.get(TimedPasswordEncoder.TIMER)
+            .tag("operation", "encode").timer().count());
+    }
+
+    @Test
+    void matches_shouldDelegate_andRecordOperation() {
+        when(delegate.matches("secret", "hash")).thenReturn(true);
+
+        assertTrue(encoder.matches("secret", "hash"));
+        assertFalse(encoder.matches("wrong", "hash"));
+
+        assertEquals(2, meterRegistry.get(TimedPasswordEncoder.TIMER)
+            .tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    void matches_shouldRecordOperation_whenDelegateFails() {
+        when(delegate.matches("secret", "hash")).thenThrow(new IllegalArgumentException("bad"));
+
+        assertThrows(IllegalArgumentException.class, () -> encoder.matches("secret", "hash"));
+
+        assertEquals(1, meterRegistry.get(TimedPasswordEncoder.TIMER)
+            .tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    void upgradeEncoding_shouldDelegate() {
+        when(delegate.upgradeEncoding("hash")).thenReturn(true);
+
+        assertTrue(encoder.upgradeEncoding("hash"));
+    }
+}
@@ -0,0 +1,80 @@
+package online.rabko.basketball.unit.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import online.rabko.basketball.ratelimit.RateLimit;
+import online.rabko.basketball.ratelimit.RateLimiter;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link RateLimiter}.
+ */
+class RateLimiterTest {
+
+    private static final RateLimit TWO_PER_SECOND = new RateLimit(2, Duration.ofSeconds(1));
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void tryAcquire_shouldKeepOneBucketPerKey() {
+        RateLimiter rateLimiter = new RateLimiter(100, 4, now::get);
+
+        assertEquals(0, rateLimiter.tryAcquire("ip:10.0.0.1", TWO_PER_SECOND));
+        assertEquals(0, rateLimiter.tryAcquire("ip:10.0.0.1", TWO_PER_SECOND));
+        assertTrue(rateLimiter.tryAcquire("ip:10.0.0.1", TWO_PER_SECOND) > 0);
+        assertEquals(0, rateLimiter.tryAcquire("ip:10.0.0.2", TWO_PER_SECOND));
+
+        assertEquals(2, rateLimiter.size());
+    }
+
+    @Test
+    void evictIdle_shouldDropOnlyFullBuckets() {
+        RateLimiter rateLimiter = new RateLimiter(100, 4, now::get);
+        rateLimiter.tryAcquire("idle", TWO_PER_SECOND);
+        now.set(TimeUnit.MILLISECONDS.toNanos(600));
+        rateLimiter.tryAcquire("busy", TWO_PER_SECOND);
+        rateLimiter.tryAcquire("busy", TWO_PER_SECOND);
+
+        rateLimiter.evictIdle();
+
+        assertEquals(1, rateLimiter.size());
+        assertTrue(rateLimiter.tryAcquire("busy", TWO_PER_SECOND) > 0);
+    }
+
+    @Test
+    void tryAcquire_shouldStayWithinBound() {
+        RateLimiter rateLimiter = new RateLimiter(8, 2, now::get);
+
+        for (int client = 0; client < 100; client++) {
+            rateLimiter.tryAcquire("ip:" + client, TWO_PER_SECOND);
+            rateLimiter.tryAcquire("ip:" + client, TWO_PER_SECOND);
+        }
+
+        assertTrue(rateLimiter.size() <= 8);
+    }
+
+    @Test
+    void tryAcquire_shouldDropFullBucketsFirst_whenStripeIsAtBound() {
+        RateLimiter rateLimiter = new RateLimiter(2, 1, now::get);
+        rateLimiter.tryAcquire("first", TWO_PER_SECOND);
+        now.set(TimeUnit.MILLISECONDS.toNanos(600));
+        rateLimiter.tryAcquire("second", TWO_PER_SECOND);
+        rateLimiter.tryAcquire("second", TWO_PER_SECOND);
+
+        rateLimiter.tryAcquire("third", TWO_PER_SECOND);
+
+        assertEquals(2, rateLimiter.size());
+        assertTrue(rateLimiter.tryAcquire("second", TWO_PER_SECOND) > 0);
+    }
+
+    @Test
+    void constructor_shouldRejectInvalidBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new RateLimiter(10, 0));
+        assertThrows(IllegalArgumentException.class, () -> new RateLimiter(2, 4));
+    }
+}
@@ -0,0 +1,99 @@
+package online.rabko.basketball.unit.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import online.rabko.basketball.ratelimit.RateLimit;
+import online.rabko.basketball.ratelimit.TokenBucket;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link TokenBucket} and {@link RateLimit}.
+ */
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final RateLimit FOUR_PER_SECOND = new RateLimit(4, Duration.ofSeconds(1));
+
+    @Test
+    void tryConsume_shouldAllowBurstOfCapacity_thenAskToWaitForOneRefill() {
+        TokenBucket bucket = new TokenBucket(0);
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals(0, bucket.tryConsume(FOUR_PER_SECOND, 0));
+        }
+
+        assertEquals(SECOND / 4, bucket.tryConsume(FOUR_PER_SECOND, 0));
+        assertEquals(SECOND / 4 - 100, bucket.tryConsume(FOUR_PER_SECOND, 100));
+    }
+
+    @Test
+    void tryConsume_shouldRefillEvenly() {
+        TokenBucket bucket = new TokenBucket(0);
+        for (int i = 0; i < 4; i++) {
+            bucket.tryConsume(FOUR_PER_SECOND, 0);
+        }
+
+        assertEquals(0, bucket.tryConsume(FOUR_PER_SECOND, SECOND / 4));
+        assertTrue(bucket.tryConsume(FOUR_PER_SECOND, SECOND / 4) > 0);
+        assertFalse(bucket.isFull(SECOND / 2));
+        assertTrue(bucket.isFull(SECOND + SECOND / 4));
+    }
+
+    @Test
+    void tryConsume_shouldNotSaveUpMoreThanCapacity() {
+        TokenBucket bucket = new TokenBucket(0);
+        long later = 60 * SECOND;
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals(0, bucket.tryConsume(FOUR_PER_SECOND, later));
+        }
+
+        assertTrue(bucket.tryConsume(FOUR_PER_SECOND, later) > 0);
+    }
+
+    @Test
+    void tryConsume_shouldHandOutExactlyCapacity_whenContended() throws InterruptedException {
+        RateLimit limit = new RateLimit(1_000, Duration.ofHours(1));
+        TokenBucket bucket = new TokenBucket(0);
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int thread = 0; thread < 8; thread++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < 500; i++) {
+                    if (bucket.tryConsume(limit, 0) == 0) {
+                        allowed.incrementAndGet();
+                    }
+                }
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(1_000, allowed.get());
+    }
+
+    @Test
+    void rateLimit_shouldRejectInvalidLimits() {
+        Duration second = Duration.ofSeconds(1);
+
+        assertThrows(IllegalArgumentException.class, () -> new RateLimit(0, second));
+        assertThrows(IllegalArgumentException.class, () -> new RateLimit(10, Duration.ofNanos(5)));
+    }
+}
@@ -0,0 +1,128 @@
+package online.rabko.basketball.unit.repository;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import online.rabko.basketball.dto.BoxScoreKey;
+import online.rabko.basketball.dto.BoxScoreWrite;
+import online.rabko.basketball.repository.BoxScoreWriteRepository;
+import online.rabko.model.PlayerStatsStats;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * Unit tests for {@link BoxScoreWriteRepository}.
+ */
+@ExtendWith(MockitoExtension.class)
+class BoxScoreWriteRepositoryTest {
+
+    private static final UUID LOG_ID = UUID.fromString("6f1c2a3e-1b0d-4c55-9d3e-2a7b8c9d0e1f");
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Captor
+    private ArgumentCaptor<String> sql;
+
+    @Captor
+    private ArgumentCaptor<SqlParameterSource> params;
+
+    @Test
+    void upsert_shouldWriteBatchAsArrays_andReturnIds() throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getInt("match_id")).thenReturn(10);
+        when(rs.getInt("player_id")).thenReturn(23);
+        when(rs.getInt("id")).thenReturn(5);
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(2).processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(SqlParameterSource.class),
+            any(RowCallbackHandler.class));
+
+        final Map<BoxScoreKey, Integer> ids = new BoxScoreWriteRepository(jdbcTemplate,
+            new ObjectMapper()).upsert(List.of(
+                new BoxScoreWrite(UUID.randomUUID(), 10, 1, 23, 2,
+                    new PlayerStatsStats().points(25)),
+                new BoxScoreWrite(UUID.randomUUID(), 10, 1, 24, 3, new PlayerStatsStats())));
+
+        verify(jdbcTemplate).query(sql.capture(), params.capture(),
+            any(RowCallbackHandler.class));
+        assertTrue(sql.getValue().contains("ON CONFLICT (match_id, player_id, season_id)"));
+        assertArrayEquals(new int[] {23, 24}, (int[]) params.getValue().getValue("playerIds"));
+        assertArrayEquals(new int[] {2, 3}, (int[]) params.getValue().getValue("teamIds"));
+        assertTrue(((String[]) params.getValue().getValue("stats"))[0].contains("\"points\":25"));
+        assertEquals(Map.of(new BoxScoreKey(10, 23), 5), ids);
+    }
+
+    @Test
+    void upsert_shouldReplaceBoxScoreOfPlayerInMatch() {
+        when(jdbcTemplate.queryForObject(sql.capture(), params.capture(), eq(Integer.class)))
+            .thenReturn(5);
+
+        Integer id = new BoxScoreWriteRepository(jdbcTemplate, new ObjectMapper())
+            .upsert(10, 1, 23, 2, new PlayerStatsStats().points(25));
+
+        assertEquals(5, id);
+        assertTrue(sql.getValue().contains("ON CONFLICT (match_id, player_id, season_id)"));
+        assertEquals(23, params.getValue().getValue("playerId"));
+        assertTrue(((String) params.getValue().getValue("stats")).contains("\"points\":25"));
+    }
+
+    @Test
+    void upsert_shouldThrow_whenStatsCannotBeSerialized() throws JsonProcessingException {
+        ObjectMapper objectMapper = mock(ObjectMapper.class);
+        when(objectMapper.writeValueAsString(any()))
+            .thenThrow(new JsonProcessingException("broken") {});
+        BoxScoreWriteRepository repository = new BoxScoreWriteRepository(jdbcTemplate,
+            objectMapper);
+        List<BoxScoreWrite> writes = List.of(
+            new BoxScoreWrite(UUID.randomUUID(), 10, 1, 23, 2, new PlayerStatsStats()));
+
+        assertThrows(IllegalStateException.class, () -> repository.upsert(writes));
+    }
+
+    @Test
+    void findCheckpoint_shouldReturnSequenceOfPartition() {
+        when(jdbcTemplate.queryForObject(anyString(), any(SqlParameterSource.class),
+            eq(Long.class))).thenReturn(42L);
+
+        assertEquals(42, new BoxScoreWriteRepository(jdbcTemplate, new ObjectMapper())
+            .findCheckpoint(LOG_ID, 1));
+
+        verify(jdbcTemplate).queryForObject(anyString(), params.capture(), eq(Long.class));
+        assertEquals(LOG_ID, params.getValue().getValue("logId"));
+        assertEquals(1, params.getValue().getValue("partition"));
+    }
+
+    @Test
+    void saveCheckpoint_shouldNeverMoveCheckpointBackwards() {
+        new BoxScoreWriteRepository(jdbcTemplate, new ObjectMapper())
+            .saveCheckpoint(LOG_ID, 1, 42);
+
+        verify(jdbcTemplate).update(sql.capture(), params.capture());
+        assertTrue(sql.getValue().contains("GREATEST"));
+        assertEquals(42L, params.getValue().getValue("sequence"));
+    }
+}
@@ -0,0 +1,128 @@
+package online.rabko.basketball.unit.repository;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import online.rabko.basketball.dto.ChangeCursor;
+import online.rabko.basketball.dto.ChangeEntry;
+import online.rabko.basketball.repository.ChangeRepository;
+import online.rabko.model.Change;
+import online.rabko.model.Change.OperationEnum;
+import online.rabko.model.Change.ResourceEnum;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * Unit tests for {@link ChangeRepository}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ChangeRepositoryTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private ChangeRepository changeRepository;
+
+    @Captor
+    private ArgumentCaptor<String> sql;
+
+    @Captor
+    private ArgumentCaptor<SqlParameterSource> params;
+
+    @Test
+    void record_shouldReplacePreviousChangeOfResource() {
+        changeRepository.record(ResourceEnum.BOX_SCORE, 7, OperationEnum.DELETE);
+
+        verify(jdbcTemplate).update(sql.capture(), params.capture());
+        assertTrue(sql.getValue().contains("ON CONFLICT (resource, resource_id) DO UPDATE"));
+        assertEquals("box_score", params.getValue().getValue("resource"));
+        assertEquals(7, params.getValue().getValue("id"));
+        assertEquals("delete", params.getValue().getValue("operation"));
+    }
+
+    @Test
+    void record_shouldRecordAllResourcesInOneStatement() {
+        changeRepository.record(ResourceEnum.BOX_SCORE, List.of(7, 8), OperationEnum.UPSERT);
+
+        verify(jdbcTemplate).update(sql.capture(), params.capture());
+        assertTrue(sql.getValue().contains("unnest(:ids)"));
+        assertArrayEquals(new int[] {7, 8}, (int[]) params.getValue().getValue("ids"));
+        assertEquals("upsert", params.getValue().getValue("operation"));
+    }
+
+    @Test
+    void recordMatchBoxScores_shouldSelectBoxScoresOfMatch() {
+        changeRepository.recordMatchBoxScores(1, 10, OperationEnum.DELETE);
+
+        verify(jdbcTemplate).update(sql.capture(), params.capture());
+        assertTrue(sql.getValue().contains("WHERE season_id = :seasonId AND match_id = :matchId"));
+        assertEquals(1, params.getValue().getValue("seasonId"));
+        assertEquals(10, params.getValue().getValue("matchId"));
+    }
+
+    @Test
+    void recordSeasonMatches_shouldSelectMatchesAndBoxScoresOfSeason() {
+        changeRepository.recordSeasonMatches(1, OperationEnum.UPSERT);
+
+        verify(jdbcTemplate).update(sql.capture(), params.capture());
+        assertTrue(sql.getValue().contains("SELECT 'match', id, :operation FROM matches"));
+        assertTrue(sql.getValue().contains("FROM match_participants WHERE season_id = :seasonId"));
+        assertEquals("upsert", params.getValue().getValue("operation"));
+    }
+
+    @Test
+    void recordAll_shouldDeleteEverything_beforeUpsertingExistingResources() {
+        JdbcTemplate plainTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.getJdbcTemplate()).thenReturn(plainTemplate);
+
+        changeRepository.recordAll();
+
+        verify(plainTemplate, times(2)).update(sql.capture());
+        assertTrue(sql.getAllValues().get(0).startsWith("UPDATE changes"));
+        assertTrue(sql.getAllValues().get(1)
+            .contains("SELECT 'player', id, 'upsert' FROM players"));
+    }
+
+    @Test
+    void findAfter_shouldOnlyReadFinishedTransactions_andMapCursor() throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString("resource")).thenReturn("match");
+        when(rs.getInt("resource_id")).thenReturn(10);
+        when(rs.getString("operation")).thenReturn("upsert");
+        when(rs.getLong("txid")).thenReturn(900L);
+        when(rs.getLong("position")).thenReturn(42L);
+        when(jdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+            .thenAnswer(invocation -> List.of(
+                invocation.<RowMapper<?>>getArgument(2).mapRow(rs, 0)));
+
+        List<ChangeEntry> result = changeRepository.findAfter(new ChangeCursor(800, 5), 11);
+
+        assertEquals(List.of(new ChangeEntry(new ChangeCursor(900, 42),
+            new Change(ResourceEnum.MATCH, 10, OperationEnum.UPSERT))), result);
+        verify(jdbcTemplate).query(sql.capture(), params.capture(), any(RowMapper.class));
+        assertTrue(sql.getValue().contains("txid < pg_snapshot_xmin(pg_current_snapshot())"));
+        assertEquals(800L, params.getValue().getValue("txid"));
+        assertEquals(5L, params.getValue().getValue("position"));
+        assertEquals(11, params.getValue().getValue("limit"));
+    }
+}
@@ -0,0 +1,130 @@
+package online.rabko.basketball.unit.repository;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import online.rabko.basketball.dto.IdempotencyKey;
+import online.rabko.basketball.dto.IdempotentResponse;
+import online.rabko.basketball.repository.IdempotencyKeyRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * Unit tests for {@link IdempotencyKeyRepository}.
+ */
+@ExtendWith(MockitoExtension.class)
+class IdempotencyKeyRepositoryTest {
+
+    private static final IdempotencyKey KEY = new IdempotencyKey("scorer", "retry-1");
+    private static final Instant NOW = Instant.parse("2024-01-15T12:00:00Z");
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Captor
+    private ArgumentCaptor<String> sql;
+
+    @Captor
+    private ArgumentCaptor<SqlParameterSource> params;
+
+    @Captor
+    private ArgumentCaptor<RowMapper<IdempotentResponse>> rowMapper;
+
+    @Test
+    void find_shouldMapStoredResponse() throws SQLException {
+        when(jdbcTemplate.query(anyString(), any(SqlParameterSource.class),
+            rowMapper.capture())).thenReturn(List.of());
+        idempotencyKeyRepository.find(KEY, NOW);
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getBytes("fingerprint")).thenReturn(new byte[] {1});
+        when(rs.getInt("status")).thenReturn(201);
+        when(rs.getString("content_type")).thenReturn("application/json");
+        when(rs.getBytes("body")).thenReturn(new byte[] {2});
+        when(rs.getTimestamp("created_at")).thenReturn(Timestamp.from(NOW));
+
+        IdempotentResponse response = rowMapper.getValue().mapRow(rs, 0);
+
+        assertEquals(201, response.status());
+        assertArrayEquals(new byte[] {2}, response.body());
+        assertEquals(NOW, response.createdAt());
+    }
+
+    @Test
+    void find_shouldIgnoreExpiredResponses() {
+        when(jdbcTemplate.query(sql.capture(), params.capture(), any(RowMapper.class)))
+            .thenReturn(List.of());
+
+        Optional<IdempotentResponse> response = idempotencyKeyRepository.find(KEY, NOW);
+
+        assertTrue(response.isEmpty());
+        assertTrue(sql.getValue().contains("created_at >= :createdAfter"));
+        assertTrue(sql.getValue().contains("status IS NOT NULL"));
+        assertEquals("scorer", params.getValue().getValue("username"));
+        assertEquals(Timestamp.from(NOW), params.getValue().getValue("createdAfter"));
+    }
+
+    @Test
+    void claim_shouldInsertPendingRow_orTakeOverExpiredOne() {
+        when(jdbcTemplate.update(sql.capture(), params.capture())).thenReturn(1);
+
+        assertTrue(idempotencyKeyRepository.claim(KEY, new byte[] {1}, NOW, NOW.minusSeconds(60),
+            NOW.minusSeconds(10)));
+        assertTrue(sql.getValue().contains("ON CONFLICT (username, idempotency_key) DO UPDATE"));
+        assertEquals("retry-1", params.getValue().getValue("key"));
+        assertEquals(Timestamp.from(NOW.minusSeconds(10)),
+            params.getValue().getValue("abandonedBefore"));
+    }
+
+    @Test
+    void complete_shouldOnlyFillPendingRow() {
+        when(jdbcTemplate.update(sql.capture(), params.capture())).thenReturn(0);
+
+        assertFalse(idempotencyKeyRepository.complete(KEY,
+            new IdempotentResponse(new byte[] {1}, 201, null, new byte[0], NOW)));
+        assertTrue(sql.getValue().contains("status IS NULL"));
+        assertEquals(201, params.getValue().getValue("status"));
+    }
+
+    @Test
+    void release_shouldOnlyDeletePendingRow() {
+        when(jdbcTemplate.update(sql.capture(), params.capture())).thenReturn(1);
+
+        idempotencyKeyRepository.release(KEY);
+
+        assertTrue(sql.getValue().contains("status IS NULL"));
+        assertEquals("scorer", params.getValue().getValue("username"));
+    }
+
+    @Test
+    void deleteCreatedBefore_shouldReturnDeletedCount() {
+        when(jdbcTemplate.update(sql.capture(), params.capture())).thenReturn(3);
+
+        assertEquals(3, idempotencyKeyRepository.deleteCreatedBefore(NOW));
+        verify(jdbcTemplate).update(anyString(), any(SqlParameterSource.class));
+        assertEquals(Timestamp.from(NOW), params.getValue().getValue("createdBefore"));
+    }
+}
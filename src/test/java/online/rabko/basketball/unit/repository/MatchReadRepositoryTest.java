@@ -0,0 +1,162 @@
+package online.rabko.basketball.unit.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import online.rabko.basketball.dto.MatchFilter;
+import online.rabko.basketball.enums.MatchSort;
+import online.rabko.basketball.enums.SortOrder;
+import online.rabko.basketball.repository.MatchReadRepository;
+import online.rabko.model.Match;
+import online.rabko.model.MatchDetail;
+import online.rabko.model.Season;
+import online.rabko.model.Team;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * Unit tests for {@link MatchReadRepository}.
+ */
+@ExtendWith(MockitoExtension.class)
+class MatchReadRepositoryTest {
+
+    private static final LocalDate DATE = LocalDate.of(2023, 11, 15);
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private MatchReadRepository matchReadRepository;
+
+    @Captor
+    private ArgumentCaptor<String> sql;
+
+    @Captor
+    private ArgumentCaptor<SqlParameterSource> params;
+
+    private ResultSet rs;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        rs = mock(ResultSet.class, withSettings().strictness(Strictness.LENIENT));
+        when(rs.getInt("id")).thenReturn(10);
+        when(rs.getInt("season_id")).thenReturn(1);
+        when(rs.getObject("date", LocalDate.class)).thenReturn(DATE);
+        when(rs.getInt("home_team_id")).thenReturn(1);
+        when(rs.getInt("away_team_id")).thenReturn(2);
+        when(rs.getObject("home_team_score", Integer.class)).thenReturn(98);
+        when(rs.getObject("away_team_score", Integer.class)).thenReturn(102);
+    }
+
+    @Test
+    void findAll_shouldMapRowsIntoMatches_withoutWhereClause_whenNoFilters() {
+        stubParameterizedQuery();
+
+        List<Match> result = matchReadRepository.findAll(
+            new MatchFilter(null, null, null, null, MatchSort.DATE, SortOrder.ASC));
+
+        assertEquals(List.of(new Match(10, 1, DATE, 1, 2).homeTeamScore(98).awayTeamScore(102)),
+            result);
+        verify(jdbcTemplate).query(sql.capture(), params.capture(), any(RowMapper.class));
+        assertFalse(sql.getValue().contains("WHERE"));
+        assertTrue(sql.getValue().contains("ORDER BY date ASC NULLS LAST, id ASC NULLS LAST"));
+    }
+
+    @Test
+    void findAll_shouldCombineAllFilters() {
+        stubParameterizedQuery();
+
+        matchReadRepository.findAll(new MatchFilter(1, 2, DATE, DATE.plusDays(7), MatchSort.ID,
+            SortOrder.DESC));
+
+        verify(jdbcTemplate).query(sql.capture(), params.capture(), any(RowMapper.class));
+        assertTrue(sql.getValue().contains("WHERE season_id = :seasonId\n"
+            + "AND (home_team_id = :teamId OR away_team_id = :teamId)\n"
+            + "AND date >= :dateFrom\nAND date <= :dateTo"));
+        assertTrue(sql.getValue().contains("ORDER BY id DESC NULLS LAST"));
+        assertEquals(1, params.getValue().getValue("seasonId"));
+        assertEquals(2, params.getValue().getValue("teamId"));
+        assertEquals(DATE, params.getValue().getValue("dateFrom"));
+        assertEquals(DATE.plusDays(7), params.getValue().getValue("dateTo"));
+    }
+
+    @Test
+    void findDetail_shouldMapMatchSeasonAndTeamsFromOneRow() throws SQLException {
+        when(rs.getString("season_name")).thenReturn("2023-24");
+        when(rs.getObject("season_start_date", LocalDate.class))
+            .thenReturn(LocalDate.of(2023, 10, 1));
+        when(rs.getObject("season_end_date", LocalDate.class))
+            .thenReturn(LocalDate.of(2024, 4, 30));
+        when(rs.getString("home_team_name")).thenReturn("Lakers");
+        when(rs.getString("away_team_name")).thenReturn("Celtics");
+        stubParameterizedQuery();
+
+        MatchDetail result = matchReadRepository.findDetail(10).orElseThrow();
+
+        assertEquals(new Season(1, "2023-24", LocalDate.of(2023, 10, 1),
+            LocalDate.of(2024, 4, 30)), result.getSeason());
+        assertEquals(new Team(1, "Lakers"), result.getHomeTeam());
+        assertEquals(new Team(2, "Celtics"), result.getAwayTeam());
+        assertEquals(98, result.getMatch().getHomeTeamScore());
+        assertTrue(result.getPlayers().isEmpty());
+    }
+
+    @Test
+    void findDetail_shouldReturnEmpty_whenMatchNotFound() {
+        when(jdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+            .thenReturn(List.of());
+
+        assertTrue(matchReadRepository.findDetail(99).isEmpty());
+    }
+
+    @Test
+    void findHighestScoring_shouldFilterBySeason_whenSeasonGiven() {
+        stubParameterizedQuery();
+
+        final List<Match> result = matchReadRepository.findHighestScoring(1, 10);
+
+        verify(jdbcTemplate).query(sql.capture(), params.capture(), any(RowMapper.class));
+        assertTrue(sql.getValue().contains("WHERE season_id = :seasonId"));
+        assertEquals(1, params.getValue().getValue("seasonId"));
+        assertEquals(10, params.getValue().getValue("limit"));
+        assertEquals(98, result.get(0).getHomeTeamScore());
+    }
+
+    @Test
+    void findHighestScoring_shouldNotFilter_whenSeasonMissing() {
+        stubParameterizedQuery();
+
+        matchReadRepository.findHighestScoring(null, 10);
+
+        verify(jdbcTemplate).query(sql.capture(), params.capture(), any(RowMapper.class));
+        assertFalse(sql.getValue().contains("WHERE"));
+        assertFalse(params.getValue().hasValue("seasonId"));
+    }
+
+    private void stubParameterizedQuery() {
+        when(jdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+            .thenAnswer(invocation -> List.of(
+                invocation.<RowMapper<?>>getArgument(2).mapRow(rs, 0)));
+    }
+}
@@ -0,0 +1,146 @@
+package online.rabko.basketball.unit.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import online.rabko.basketball.dto.PlayerFilter;
+import online.rabko.basketball.enums.PlayerSort;
+import online.rabko.basketball.enums.SortOrder;
+import online.rabko.basketball.repository.PlayerReadRepository;
+import online.rabko.model.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * Unit tests for {@link PlayerReadRepository}.
+ */
+@ExtendWith(MockitoExtension.class)
+class PlayerReadRepositoryTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private PlayerReadRepository playerReadRepository;
+
+    @Captor
+    private ArgumentCaptor<String> sql;
+
+    @Captor
+    private ArgumentCaptor<SqlParameterSource> params;
+
+    private ResultSet rs;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        rs = mock(ResultSet.class, withSettings().strictness(Strictness.LENIENT));
+        when(rs.getInt("id")).thenReturn(1);
+        when(rs.getString("first_name")).thenReturn("Lebron");
+        when(rs.getString("last_name")).thenReturn("James");
+        when(rs.getObject("team_id", Integer.class)).thenReturn(5);
+        when(rs.getObject("age", Integer.class)).thenReturn(40);
+    }
+
+    @Test
+    void findAll_shouldMapRowsIntoPlayers() {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class)))
+            .thenAnswer(invocation -> List.of(
+                invocation.<RowMapper<Player>>getArgument(1).mapRow(rs, 0)));
+
+        List<Player> result = playerReadRepository.findAll();
+
+        assertEquals(List.of(new Player(1, "Lebron", "James").teamId(5).age(40)), result);
+    }
+
+    @Test
+    void findByIds_shouldQueryAllIdsAtOnce() {
+        stubParameterizedQuery();
+
+        final List<Player> result = playerReadRepository.findByIds(List.of(1, 7));
+
+        verify(jdbcTemplate).query(sql.capture(), params.capture(), any(RowMapper.class));
+        assertTrue(sql.getValue().contains("WHERE id IN (:ids)"));
+        assertEquals(List.of(1, 7), params.getValue().getValue("ids"));
+        assertEquals("Lebron", result.get(0).getFirstName());
+    }
+
+    @Test
+    void findByMatchId_shouldSelectParticipants() {
+        stubParameterizedQuery();
+
+        playerReadRepository.findByMatchId(10);
+
+        verify(jdbcTemplate).query(sql.capture(), params.capture(), any(RowMapper.class));
+        assertTrue(sql.getValue().contains("FROM match_participants WHERE match_id = :matchId"));
+        assertEquals(10, params.getValue().getValue("matchId"));
+    }
+
+    @Test
+    void search_shouldLowerSimilarityThreshold_beforeQuerying() {
+        stubParameterizedQuery();
+
+        playerReadRepository.search("curry", 5);
+
+        verify(jdbcTemplate).queryForObject(sql.capture(), params.capture(), eq(String.class));
+        assertTrue(sql.getValue().contains("pg_trgm.word_similarity_threshold"));
+        verify(jdbcTemplate).query(sql.capture(), params.capture(), any(RowMapper.class));
+        assertTrue(sql.getValue().contains(":query <% lower(first_name || ' ' || last_name)"));
+        assertEquals("curry", params.getValue().getValue("query"));
+        assertEquals(5, params.getValue().getValue("limit"));
+    }
+
+    @Test
+    void findAll_shouldFilterByTeamAndPosition_andSortInRequestedOrder() {
+        stubParameterizedQuery();
+
+        List<Player> result = playerReadRepository.findAll(
+            new PlayerFilter(5, "Forward", PlayerSort.AGE, SortOrder.DESC));
+
+        assertEquals(40, result.get(0).getAge());
+        verify(jdbcTemplate).query(sql.capture(), params.capture(), any(RowMapper.class));
+        assertTrue(sql.getValue().contains("WHERE team_id = :teamId\nAND position = :position"));
+        assertTrue(sql.getValue().contains("ORDER BY age DESC NULLS LAST, id DESC NULLS LAST"));
+        assertEquals(5, params.getValue().getValue("teamId"));
+        assertEquals("Forward", params.getValue().getValue("position"));
+    }
+
+    @Test
+    void findAll_shouldOmitWhereClause_whenNoFilters() {
+        stubParameterizedQuery();
+
+        playerReadRepository.findAll(new PlayerFilter(null, null, PlayerSort.LAST_NAME,
+            SortOrder.ASC));
+
+        verify(jdbcTemplate).query(sql.capture(), params.capture(), any(RowMapper.class));
+        assertFalse(sql.getValue().contains("WHERE"));
+        assertTrue(sql.getValue().contains("ORDER BY last_name ASC NULLS LAST, "
+            + "first_name ASC NULLS LAST, id ASC NULLS LAST"));
+    }
+
+    private void stubParameterizedQuery() {
+        when(jdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+            .thenAnswer(invocation -> List.of(
+                invocation.<RowMapper<Player>>getArgument(2).mapRow(rs, 0)));
+    }
+}
@@ -0,0 +1,181 @@
+package online.rabko.basketball.unit.repository;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import online.rabko.basketball.repository.PlayerStatSumsRepository;
+import online.rabko.model.PlayerStatsSummary;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * Unit tests for {@link PlayerStatSumsRepository}.
+ */
+@ExtendWith(MockitoExtension.class)
+class PlayerStatSumsRepositoryTest {
+
+    private static final LocalDate DATE = LocalDate.of(2023, 11, 15);
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private PlayerStatSumsRepository playerStatSumsRepository;
+
+    @Captor
+    private ArgumentCaptor<String> sql;
+
+    @Captor
+    private ArgumentCaptor<SqlParameterSource> params;
+
+    @Test
+    void findDatesByBoxScores_shouldReturnEarliestDatePerPlayer() throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getInt("player_id")).thenReturn(23);
+        when(rs.getObject("date", LocalDate.class)).thenReturn(DATE);
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(2).processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(SqlParameterSource.class),
+            any(RowCallbackHandler.class));
+
+        final Map<Integer, LocalDate> dates = playerStatSumsRepository
+            .findDatesByBoxScores(List.of(3, 4));
+
+        verify(jdbcTemplate).query(sql.capture(), params.capture(),
+            any(RowCallbackHandler.class));
+        assertTrue(sql.getValue().contains("mp.id = ANY(:ids)"));
+        assertArrayEquals(new int[] {3, 4}, (int[]) params.getValue().getValue("ids"));
+        assertEquals(Map.of(23, DATE), dates);
+    }
+
+    @Test
+    void refresh_shouldLockPlayersThenDeleteAndInsertFromChangedDate() {
+        playerStatSumsRepository.refresh(Map.of(23, DATE));
+
+        InOrder order = inOrder(jdbcTemplate);
+        order.verify(jdbcTemplate).query(sql.capture(), any(SqlParameterSource.class),
+            any(RowCallbackHandler.class));
+        order.verify(jdbcTemplate, times(2)).update(sql.capture(), params.capture());
+        assertTrue(sql.getAllValues().get(0).contains("pg_advisory_xact_lock"));
+        assertTrue(sql.getAllValues().get(1).contains("DELETE FROM player_stat_sums"));
+        assertTrue(sql.getAllValues().get(2).contains(
+            "COALESCE(b.fouls, 0) + SUM(COALESCE((mp.stats ->> 'fouls')::int, 0)) OVER w"));
+        assertArrayEquals(new int[] {23}, (int[]) params.getValue().getValue("playerIds"));
+        assertArrayEquals(new String[] {"2023-11-15"},
+            (String[]) params.getValue().getValue("dates"));
+    }
+
+    @Test
+    void refresh_shouldDoNothing_whenNoPlayerChanged() {
+        playerStatSumsRepository.refresh(Map.of());
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void refreshAll_shouldTruncateAndInsertEverything() {
+        JdbcTemplate plain = mock(JdbcTemplate.class);
+        when(jdbcTemplate.getJdbcTemplate()).thenReturn(plain);
+
+        playerStatSumsRepository.refreshAll();
+
+        verify(plain, times(2)).execute(sql.capture());
+        assertEquals("TRUNCATE player_stat_sums", sql.getAllValues().get(0));
+        assertTrue(sql.getAllValues().get(1).contains("ROW_NUMBER() OVER w"));
+    }
+
+    @Test
+    void findLastGames_shouldMapTotalsAndRoundedAverages() throws SQLException {
+        stubTotals(3, 76);
+
+        final PlayerStatsSummary summary = playerStatSumsRepository.findLastGames(23, 3, null);
+
+        verify(jdbcTemplate).queryForObject(sql.capture(), params.capture(),
+            ArgumentMatchers.<RowMapper<PlayerStatsSummary>>any());
+        assertTrue(sql.getValue().contains("MAX(game_number) - :games + 1"));
+        assertEquals(3, params.getValue().getValue("games"));
+        assertEquals(23, summary.getPlayerId());
+        assertNull(summary.getSeasonId());
+        assertEquals(76, summary.getTotals().getPoints());
+        assertEquals(new BigDecimal("25.33"), summary.getAverages().getPoints());
+        assertEquals(new BigDecimal("0.00"), summary.getAverages().getFouls());
+    }
+
+    @Test
+    void findSeason_shouldLeaveOutAverages_whenNoGamesPlayed() throws SQLException {
+        stubTotals(0, 0);
+
+        PlayerStatsSummary summary = playerStatSumsRepository.findSeason(23, 1, null);
+
+        verify(jdbcTemplate).queryForObject(sql.capture(), params.capture(),
+            ArgumentMatchers.<RowMapper<PlayerStatsSummary>>any());
+        assertTrue(sql.getValue().contains("season_id = :seasonId"));
+        assertEquals(1, summary.getSeasonId());
+        assertEquals(0, summary.getGames());
+        assertNull(summary.getAverages());
+    }
+
+    @Test
+    void findCareer_shouldStartFromFirstGame() throws SQLException {
+        stubTotals(80, 2000);
+
+        assertEquals(80, playerStatSumsRepository.findCareer(23, null).getGames());
+
+        verify(jdbcTemplate).queryForObject(sql.capture(), any(SqlParameterSource.class),
+            ArgumentMatchers.<RowMapper<PlayerStatsSummary>>any());
+        assertTrue(sql.getValue().contains("SELECT 1 AS first_game"));
+    }
+
+    @Test
+    void findCareer_shouldStopAtAsOf_whenGiven() throws SQLException {
+        stubTotals(40, 1000);
+
+        playerStatSumsRepository.findCareer(23, DATE);
+
+        verify(jdbcTemplate).queryForObject(sql.capture(), params.capture(),
+            ArgumentMatchers.<RowMapper<PlayerStatsSummary>>any());
+        assertTrue(sql.getValue().contains("AND match_date <= :asOf"));
+        assertEquals(DATE, params.getValue().getValue("asOf"));
+    }
+
+    private void stubTotals(int games, int points) throws SQLException {
+        ResultSet rs = mock(ResultSet.class, withSettings().strictness(Strictness.LENIENT));
+        when(rs.getInt("games")).thenReturn(games);
+        when(rs.getInt("points")).thenReturn(points);
+        when(jdbcTemplate.queryForObject(anyString(), any(SqlParameterSource.class),
+            ArgumentMatchers.<RowMapper<PlayerStatsSummary>>any()))
+            .thenAnswer(invocation -> invocation.<RowMapper<?>>getArgument(2).mapRow(rs, 0));
+    }
+}
@@ -0,0 +1,227 @@
+package online.rabko.basketball.unit.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import io.r2dbc.spi.Readable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Function;
+import online.rabko.basketball.enums.PlayerStatsMetric;
+import online.rabko.basketball.repository.ReactiveStatsReadRepository;
+import online.rabko.model.Match;
+import online.rabko.model.PlayerStats;
+import online.rabko.model.PlayerStatsStats;
+import online.rabko.model.PlayerStatsSummary;
+import online.rabko.model.TeamStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.quality.Strictness;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit tests for {@link ReactiveStatsReadRepository}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReactiveStatsReadRepositoryTest {
+
+    private static final LocalDate DATE = LocalDate.of(2023, 11, 15);
+
+    @Mock
+    private DatabaseClient databaseClient;
+
+    @Mock
+    private GenericExecuteSpec spec;
+
+    @Mock
+    private RowsFetchSpec<Object> rows;
+
+    @InjectMocks
+    private ReactiveStatsReadRepository reactiveStatsReadRepository;
+
+    @Captor
+    private ArgumentCaptor<String> sql;
+
+    @Captor
+    private ArgumentCaptor<Function<Readable, Object>> mapper;
+
+    private Readable row;
+
+    @BeforeEach
+    void setUp() {
+        when(databaseClient.sql(sql.capture())).thenReturn(spec);
+        doReturn(rows).when(spec).map(mapper.capture());
+        row = mock(Readable.class, withSettings().strictness(Strictness.LENIENT));
+    }
+
+    @Test
+    void findById_shouldMapUnpackedStats() {
+        when(spec.bind("id", 3)).thenReturn(spec);
+        when(rows.one()).thenAnswer(invocation -> Mono.just(mapper.getValue().apply(row)));
+        when(row.get("id", Integer.class)).thenReturn(3);
+        when(row.get("match_id", Integer.class)).thenReturn(10);
+        when(row.get("player_id", Integer.class)).thenReturn(23);
+        when(row.get("team_id", Integer.class)).thenReturn(1);
+        when(row.get("points", Integer.class)).thenReturn(25);
+        when(row.get("minutes_played", Integer.class)).thenReturn(36);
+
+        PlayerStats result = reactiveStatsReadRepository.findById(3).block();
+
+        assertTrue(sql.getValue().endsWith("WHERE mp.id = :id"));
+        assertEquals(new PlayerStats(3, 10, 23, 1,
+            new PlayerStatsStats().points(25).minutesPlayed(36)), result);
+    }
+
+    @Test
+    void existsPlayer_shouldReadFlag() {
+        when(spec.bind("id", 23)).thenReturn(spec);
+        when(rows.one()).thenAnswer(invocation -> Mono.just(mapper.getValue().apply(row)));
+        when(row.get("found", Boolean.class)).thenReturn(true);
+
+        assertTrue(reactiveStatsReadRepository.existsPlayer(23).block());
+        assertTrue(sql.getValue().contains("FROM players WHERE id = :id"));
+    }
+
+    @Test
+    void findLastGames_shouldMapSummedTotals() {
+        when(spec.bind(anyString(), any())).thenReturn(spec);
+        when(rows.one()).thenAnswer(invocation -> Mono.just(mapper.getValue().apply(row)));
+        when(row.get(anyString(), eq(Number.class))).thenReturn(0L);
+        when(row.get("games", Number.class)).thenReturn(2L);
+        when(row.get("points", Number.class)).thenReturn(45L);
+
+        final PlayerStatsSummary result = reactiveStatsReadRepository.findLastGames(23, 5, DATE)
+            .block();
+
+        assertTrue(sql.getValue().contains("match_date <= :asOf"));
+        verify(spec).bind("playerId", 23);
+        verify(spec).bind("games", 5);
+        verify(spec).bind("asOf", DATE);
+        assertEquals(2, result.getGames());
+        assertEquals(45, result.getTotals().getPoints());
+        assertEquals(new BigDecimal("22.50"), result.getAverages().getPoints());
+    }
+
+    @Test
+    void findCareer_shouldNotBindDate_whenMissing() {
+        when(spec.bind("playerId", 23)).thenReturn(spec);
+        when(rows.one()).thenReturn(Mono.empty());
+
+        reactiveStatsReadRepository.findCareer(23, null).block();
+
+        assertFalse(sql.getValue().contains(":asOf"));
+        verify(spec, never()).bind(eq("asOf"), any());
+    }
+
+    @Test
+    void findSeason_shouldBindSeason() {
+        when(spec.bind(anyString(), any())).thenReturn(spec);
+        when(rows.one()).thenReturn(Mono.empty());
+
+        reactiveStatsReadRepository.findSeason(23, 1, null).block();
+
+        assertTrue(sql.getValue().contains(":seasonId"));
+        verify(spec).bind("seasonId", 1);
+    }
+
+    @Test
+    void findLeaders_shouldBindSeasonAndDate_whenGiven() {
+        when(spec.bind(anyString(), any())).thenReturn(spec);
+        when(rows.all()).thenReturn(Flux.empty());
+
+        reactiveStatsReadRepository.findLeaders(PlayerStatsMetric.POINTS, 1, DATE, 10)
+            .collectList().block();
+
+        assertTrue(sql.getValue().contains("m.date <= :asOf"));
+        assertTrue(sql.getValue().contains("mp.season_id = :seasonId"));
+        verify(spec).bind("limit", 10);
+        verify(spec).bind("seasonId", 1);
+        verify(spec).bind("asOf", DATE);
+    }
+
+    @Test
+    void findLeaders_shouldNotBindSeasonOrDate_whenMissing() {
+        when(spec.bind("limit", 10)).thenReturn(spec);
+        when(rows.all()).thenReturn(Flux.empty());
+
+        reactiveStatsReadRepository.findLeaders(PlayerStatsMetric.POINTS, null, null, 10)
+            .collectList().block();
+
+        assertFalse(sql.getValue().contains(":seasonId"));
+        verify(spec, never()).bind("seasonId", null);
+    }
+
+    @Test
+    void findTeamsByAveragePoints_shouldMapAggregatedRows() {
+        when(rows.all()).thenAnswer(invocation -> Flux.just(mapper.getValue().apply(row)));
+        when(row.get("team_id", Integer.class)).thenReturn(1);
+        when(row.get("team_name", String.class)).thenReturn("Lakers");
+        when(row.get("average_points", BigDecimal.class)).thenReturn(new BigDecimal("101.50"));
+        when(row.get("win_rate", BigDecimal.class)).thenReturn(new BigDecimal("0.7500"));
+        when(row.get("total_wins", Integer.class)).thenReturn(3);
+        when(row.get("total_losses", Integer.class)).thenReturn(1);
+
+        List<TeamStats> result = reactiveStatsReadRepository.findTeamsByAveragePoints(null)
+            .collectList().block();
+
+        assertTrue(sql.getValue().contains("ORDER BY average_points DESC"));
+        assertEquals(List.of(new TeamStats(1, "Lakers")
+            .averagePoints(new BigDecimal("101.50"))
+            .winRate(new BigDecimal("0.7500"))
+            .totalWins(3)
+            .totalLosses(1)), result);
+    }
+
+    @Test
+    void findTeamsByWinRate_shouldBindSeason() {
+        when(spec.bind("seasonId", 1)).thenReturn(spec);
+        when(rows.all()).thenReturn(Flux.empty());
+
+        reactiveStatsReadRepository.findTeamsByWinRate(1).collectList().block();
+
+        assertTrue(sql.getValue().contains("WHERE season_id = :seasonId"));
+        assertTrue(sql.getValue().contains("ORDER BY win_rate DESC"));
+    }
+
+    @Test
+    void findHighestScoring_shouldMapMatches() {
+        when(spec.bind(anyString(), any())).thenReturn(spec);
+        when(rows.all()).thenAnswer(invocation -> Flux.just(mapper.getValue().apply(row)));
+        when(row.get("id", Integer.class)).thenReturn(10);
+        when(row.get("season_id", Integer.class)).thenReturn(1);
+        when(row.get("date", LocalDate.class)).thenReturn(DATE);
+        when(row.get("home_team_id", Integer.class)).thenReturn(1);
+        when(row.get("away_team_id", Integer.class)).thenReturn(2);
+        when(row.get("home_team_score", Integer.class)).thenReturn(98);
+        when(row.get("away_team_score", Integer.class)).thenReturn(102);
+
+        List<Match> result = reactiveStatsReadRepository.findHighestScoring(1, 10)
+            .collectList().block();
+
+        assertTrue(sql.getValue().contains("WHERE season_id = :seasonId"));
+        verify(spec).bind("seasonId", 1);
+        assertEquals(List.of(new Match(10, 1, DATE, 1, 2).homeTeamScore(98).awayTeamScore(102)),
+            result);
+    }
+}
@@ -0,0 +1,110 @@
+package online.rabko.basketball.unit.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import online.rabko.basketball.archive.SeasonArchive;
+import online.rabko.basketball.archive.SeasonArchiveWriter;
+import online.rabko.basketball.repository.SeasonArchiveRepository;
+import online.rabko.model.Match;
+import online.rabko.model.Season;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link SeasonArchiveRepository}.
+ */
+class SeasonArchiveRepositoryTest {
+
+    private static final Season SEASON = new Season(7, "2023-24",
+        LocalDate.of(2023, 10, 1), LocalDate.of(2024, 4, 30));
+
+    @TempDir
+    private Path directory;
+
+    private SeasonArchiveRepository seasonArchiveRepository;
+
+    @BeforeEach
+    void setUp() {
+        seasonArchiveRepository = new SeasonArchiveRepository(directory.resolve("archive"));
+    }
+
+    @Test
+    void find_shouldReturnEmpty_whenSeasonIsNotArchived() {
+        assertFalse(seasonArchiveRepository.exists(7));
+        assertTrue(seasonArchiveRepository.find(7).isEmpty());
+    }
+
+    @Test
+    void save_shouldWriteArchiveFile_andLeaveNoTemporaryFile() throws IOException {
+        SeasonArchive archive = seasonArchiveRepository.save(writer());
+
+        assertEquals(SEASON, archive.getSeason());
+        assertTrue(seasonArchiveRepository.exists(7));
+        try (var files = Files.list(directory.resolve("archive"))) {
+            assertEquals(List.of("season-7.bbsa"),
+                files.map(file -> file.getFileName().toString()).toList());
+        }
+    }
+
+    @Test
+    void find_shouldReuseOpenedArchive() {
+        seasonArchiveRepository.save(writer());
+
+        SeasonArchive archive = seasonArchiveRepository.find(7).orElseThrow();
+
+        assertSame(archive, seasonArchiveRepository.find(7).orElseThrow());
+        assertEquals(1, archive.getMatchCount());
+    }
+
+    @Test
+    void find_shouldOpenArchiveWrittenByAnotherInstance() {
+        seasonArchiveRepository.save(writer());
+
+        SeasonArchiveRepository other = new SeasonArchiveRepository(directory.resolve("archive"));
+
+        assertEquals(SEASON, other.find(7).orElseThrow().getSeason());
+    }
+
+    @Test
+    void find_shouldThrow_whenFileIsCorrupt() throws IOException {
+        Files.createDirectories(directory.resolve("archive"));
+        Files.write(directory.resolve("archive/season-7.bbsa"), new byte[]{0, 0, 0, 0, 0});
+
+        assertThrows(UncheckedIOException.class, () -> seasonArchiveRepository.find(7));
+    }
+
+    @Test
+    void delete_shouldRemoveFile() {
+        seasonArchiveRepository.save(writer());
+
+        seasonArchiveRepository.delete(7);
+
+        assertFalse(seasonArchiveRepository.exists(7));
+        assertFalse(Files.exists(directory.resolve("archive/season-7.bbsa")));
+    }
+
+    @Test
+    void save_shouldThrow_whenDirectoryCannotBeCreated() throws IOException {
+        Path blocked = Files.createFile(directory.resolve("blocked"));
+        SeasonArchiveRepository repository = new SeasonArchiveRepository(blocked);
+
+        assertThrows(UncheckedIOException.class, () -> repository.save(writer()));
+    }
+
+    private static SeasonArchiveWriter writer() {
+        SeasonArchiveWriter writer = new SeasonArchiveWriter(SEASON);
+        writer.addMatch(new Match(1, 7, LocalDate.of(2023, 11, 1), 1, 2));
+        return writer;
+    }
+}
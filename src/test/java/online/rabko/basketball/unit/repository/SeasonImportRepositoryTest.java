@@ -0,0 +1,82 @@
+package online.rabko.basketball.unit.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDate;
+import java.util.List;
+import online.rabko.basketball.repository.SeasonImportRepository;
+import online.rabko.model.Match;
+import online.rabko.model.PlayerStats;
+import online.rabko.model.PlayerStatsStats;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * Unit tests for {@link SeasonImportRepository}.
+ */
+@ExtendWith(MockitoExtension.class)
+class SeasonImportRepositoryTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Captor
+    private ArgumentCaptor<String> sql;
+
+    @Captor
+    private ArgumentCaptor<SqlParameterSource[]> batch;
+
+    @Test
+    void insertMatches_shouldBatchInsertWithIds() {
+        new SeasonImportRepository(jdbcTemplate, new ObjectMapper()).insertMatches(List.of(
+            new Match(10, 1, LocalDate.of(2023, 11, 1), 1, 2).homeTeamScore(100),
+            new Match(11, 1, LocalDate.of(2023, 11, 2), 2, 1)));
+
+        verify(jdbcTemplate).batchUpdate(sql.capture(), batch.capture());
+        assertTrue(sql.getValue().startsWith("INSERT INTO matches (id,"));
+        assertEquals(2, batch.getValue().length);
+        assertEquals(10, batch.getValue()[0].getValue("id"));
+        assertEquals(100, batch.getValue()[0].getValue("homeTeamScore"));
+        assertNull(batch.getValue()[1].getValue("homeTeamScore"));
+    }
+
+    @Test
+    void insertBoxScores_shouldSerializeStatsAsJson() {
+        new SeasonImportRepository(jdbcTemplate, new ObjectMapper()).insertBoxScores(1, List.of(
+            new PlayerStats(100, 10, 23, 1, new PlayerStatsStats().points(25))));
+
+        verify(jdbcTemplate).batchUpdate(sql.capture(), batch.capture());
+        assertTrue(sql.getValue().contains("CAST(:stats AS jsonb)"));
+        SqlParameterSource row = batch.getValue()[0];
+        assertEquals(1, row.getValue("seasonId"));
+        assertEquals(23, row.getValue("playerId"));
+        assertTrue(((String) row.getValue("stats")).contains("\"points\":25"));
+    }
+
+    @Test
+    void insertBoxScores_shouldThrow_whenStatsCannotBeSerialized() throws JsonProcessingException {
+        ObjectMapper objectMapper = mock(ObjectMapper.class);
+        when(objectMapper.writeValueAsString(any()))
+            .thenThrow(new JsonProcessingException("broken") {});
+        SeasonImportRepository repository = new SeasonImportRepository(jdbcTemplate, objectMapper);
+        List<PlayerStats> boxScores = List.of(
+            new PlayerStats(100, 10, 23, 1, new PlayerStatsStats()));
+
+        assertThrows(IllegalStateException.class, () -> repository.insertBoxScores(1, boxScores));
+    }
+}
@@ -0,0 +1,75 @@
+package online.rabko.basketball.unit.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import online.rabko.basketball.repository.SeasonPartitionRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * Unit tests for {@link SeasonPartitionRepository}.
+ */
+@ExtendWith(MockitoExtension.class)
+class SeasonPartitionRepositoryTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private SeasonPartitionRepository seasonPartitionRepository;
+
+    @Captor
+    private ArgumentCaptor<SqlParameterSource> params;
+
+    @Test
+    void create_shouldCallPartitionFunction() {
+        seasonPartitionRepository.create(7);
+
+        verify(jdbcTemplate).queryForObject(eq("SELECT create_season_partitions(:seasonId)"),
+            params.capture(), eq(String.class));
+        assertEquals(7, params.getValue().getValue("seasonId"));
+    }
+
+    @Test
+    void drop_shouldCallPartitionFunction() {
+        seasonPartitionRepository.drop(7);
+
+        verify(jdbcTemplate).queryForObject(eq("SELECT drop_season_partitions(:seasonId)"),
+            params.capture(), eq(String.class));
+        assertEquals(7, params.getValue().getValue("seasonId"));
+    }
+
+    @Test
+    void lock_shouldLockSeasonPartitions() {
+        JdbcTemplate plainTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.getJdbcTemplate()).thenReturn(plainTemplate);
+
+        seasonPartitionRepository.lock(7);
+
+        verify(plainTemplate).execute(
+            "LOCK TABLE matches_season_7, match_participants_season_7 IN SHARE MODE");
+    }
+
+    @Test
+    void createAll_shouldCreatePartitionsOfEverySeason() {
+        JdbcTemplate plainTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.getJdbcTemplate()).thenReturn(plainTemplate);
+
+        seasonPartitionRepository.createAll();
+
+        verify(plainTemplate).queryForList(
+            "SELECT create_season_partitions(id) FROM seasons", String.class);
+    }
+}
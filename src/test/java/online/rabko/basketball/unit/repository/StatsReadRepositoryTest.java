@@ -0,0 +1,223 @@
+package online.rabko.basketball.unit.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import online.rabko.basketball.enums.PlayerStatsMetric;
+import online.rabko.basketball.repository.StatsReadRepository;
+import online.rabko.model.PlayerStats;
+import online.rabko.model.PlayerStatsStats;
+import online.rabko.model.PlayerStatsSummary;
+import online.rabko.model.TeamStats;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * Unit tests for {@link StatsReadRepository}.
+ */
+@ExtendWith(MockitoExtension.class)
+class StatsReadRepositoryTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private StatsReadRepository statsReadRepository;
+
+    @Captor
+    private ArgumentCaptor<String> sql;
+
+    @Captor
+    private ArgumentCaptor<SqlParameterSource> params;
+
+    @Test
+    void findById_shouldMapUnpackedStatsColumns() throws SQLException {
+        stubQuery(statsRow());
+
+        Optional<PlayerStats> result = statsReadRepository.findById(3);
+
+        assertEquals(Optional.of(new PlayerStats(3, 10, 23, 1,
+            new PlayerStatsStats().points(25).minutesPlayed(36).freeThrowsMade(4))), result);
+    }
+
+    @Test
+    void findById_shouldReturnEmpty_whenNoRowMatches() {
+        when(jdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+            .thenReturn(List.of());
+
+        assertTrue(statsReadRepository.findById(99).isEmpty());
+    }
+
+    @Test
+    void findByMatchId_shouldQueryByMatch() throws SQLException {
+        stubQuery(statsRow());
+
+        final List<PlayerStats> result = statsReadRepository.findByMatchId(10);
+
+        verify(jdbcTemplate).query(sql.capture(), params.capture(), any(RowMapper.class));
+        assertTrue(sql.getValue().contains("mp.match_id = :matchId"));
+        assertEquals(10, params.getValue().getValue("matchId"));
+        assertEquals(23, result.get(0).getPlayerId());
+    }
+
+    @Test
+    void findLeaders_shouldOrderByMetric_andFilterBySeason_whenSeasonGiven() throws SQLException {
+        stubQuery(statsRow());
+
+        statsReadRepository.findLeaders(PlayerStatsMetric.REBOUNDS, 1, null, 10);
+
+        verify(jdbcTemplate).query(sql.capture(), params.capture(), any(RowMapper.class));
+        assertTrue(sql.getValue().contains("WHERE mp.season_id = :seasonId"));
+        assertFalse(sql.getValue().contains("JOIN matches"));
+        assertTrue(sql.getValue().contains(
+            "ORDER BY " + PlayerStatsMetric.REBOUNDS.getExpression() + " DESC"));
+        assertEquals(10, params.getValue().getValue("limit"));
+    }
+
+    @Test
+    void findLeaders_shouldNotJoinMatches_whenSeasonMissing() throws SQLException {
+        stubQuery(statsRow());
+
+        statsReadRepository.findLeaders(PlayerStatsMetric.EFFICIENCY, null, null, 10);
+
+        verify(jdbcTemplate).query(sql.capture(), params.capture(), any(RowMapper.class));
+        assertFalse(sql.getValue().contains("JOIN matches"));
+        assertFalse(params.getValue().hasValue("seasonId"));
+    }
+
+    @Test
+    void findLeaders_shouldJoinMatches_whenAsOfGiven() throws SQLException {
+        stubQuery(statsRow());
+
+        statsReadRepository.findLeaders(PlayerStatsMetric.POINTS, 1, LocalDate.of(2023, 12, 31),
+            10);
+
+        verify(jdbcTemplate).query(sql.capture(), params.capture(), any(RowMapper.class));
+        assertTrue(sql.getValue().contains("JOIN matches m"));
+        assertTrue(sql.getValue().contains("m.date <= :asOf"));
+        assertEquals(LocalDate.of(2023, 12, 31), params.getValue().getValue("asOf"));
+    }
+
+    @Test
+    void findTeamsByWinRate_shouldMapAggregatedRows() throws SQLException {
+        stubQuery(teamRow());
+
+        final List<TeamStats> result = statsReadRepository.findTeamsByWinRate(1);
+
+        verify(jdbcTemplate).query(sql.capture(), params.capture(), any(RowMapper.class));
+        assertTrue(sql.getValue().contains("ORDER BY win_rate DESC"));
+        assertTrue(sql.getValue().contains("WHERE season_id = :seasonId"));
+        assertEquals(List.of(new TeamStats(1, "Lakers")
+            .averagePoints(new BigDecimal("101.50"))
+            .winRate(new BigDecimal("0.7500"))
+            .totalWins(3)
+            .totalLosses(1)), result);
+    }
+
+    @Test
+    void findTeamsByAveragePoints_shouldNotFilter_whenSeasonMissing() throws SQLException {
+        stubQuery(teamRow());
+
+        statsReadRepository.findTeamsByAveragePoints(null);
+
+        verify(jdbcTemplate).query(sql.capture(), params.capture(), any(RowMapper.class));
+        assertTrue(sql.getValue().contains("ORDER BY average_points DESC"));
+        assertFalse(sql.getValue().contains("WHERE season_id"));
+    }
+
+    @Test
+    void forEachInSeason_shouldStreamRowsOfSeason() throws SQLException {
+        ResultSet rs = statsRow();
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(2).processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(SqlParameterSource.class),
+            any(RowCallbackHandler.class));
+        List<PlayerStats> rows = new ArrayList<>();
+
+        statsReadRepository.forEachInSeason(1, rows::add);
+
+        verify(jdbcTemplate).query(sql.capture(), params.capture(), any(RowCallbackHandler.class));
+        assertTrue(sql.getValue().contains("WHERE mp.season_id = :seasonId"));
+        assertTrue(sql.getValue().contains("ORDER BY mp.match_id, mp.id"));
+        assertEquals(1, params.getValue().getValue("seasonId"));
+        assertEquals(List.of(3), rows.stream().map(PlayerStats::getId).toList());
+    }
+
+    @Test
+    void forEachPlayerInSeason_shouldStreamTotalsPerPlayer() throws SQLException {
+        ResultSet rs = statsRow();
+        when(rs.getInt("games")).thenReturn(2);
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(2).processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(SqlParameterSource.class),
+            any(RowCallbackHandler.class));
+        List<PlayerStatsSummary> rows = new ArrayList<>();
+
+        statsReadRepository.forEachPlayerInSeason(1, rows::add);
+
+        verify(jdbcTemplate).query(sql.capture(), params.capture(), any(RowCallbackHandler.class));
+        assertTrue(sql.getValue().contains("WHERE mp.season_id = :seasonId) s"));
+        assertTrue(sql.getValue().contains("GROUP BY player_id"));
+        assertEquals(1, params.getValue().getValue("seasonId"));
+        assertEquals(23, rows.get(0).getPlayerId());
+        assertEquals(1, rows.get(0).getSeasonId());
+        assertEquals(2, rows.get(0).getGames());
+    }
+
+    private void stubQuery(ResultSet rs) {
+        when(jdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+            .thenAnswer(invocation -> List.of(
+                invocation.<RowMapper<?>>getArgument(2).mapRow(rs, 0)));
+    }
+
+    private static ResultSet statsRow() throws SQLException {
+        ResultSet rs = mock(ResultSet.class, withSettings().strictness(Strictness.LENIENT));
+        when(rs.getInt("id")).thenReturn(3);
+        when(rs.getInt("match_id")).thenReturn(10);
+        when(rs.getInt("player_id")).thenReturn(23);
+        when(rs.getInt("team_id")).thenReturn(1);
+        when(rs.getObject("points", Integer.class)).thenReturn(25);
+        when(rs.getObject("minutes_played", Integer.class)).thenReturn(36);
+        when(rs.getObject("free_throws_made", Integer.class)).thenReturn(4);
+        return rs;
+    }
+
+    private static ResultSet teamRow() throws SQLException {
+        ResultSet rs = mock(ResultSet.class, withSettings().strictness(Strictness.LENIENT));
+        when(rs.getInt("team_id")).thenReturn(1);
+        when(rs.getString("team_name")).thenReturn("Lakers");
+        when(rs.getObject("average_points", BigDecimal.class))
+            .thenReturn(new BigDecimal("101.50"));
+        when(rs.getObject("win_rate", BigDecimal.class)).thenReturn(new BigDecimal("0.7500"));
+        when(rs.getInt("total_wins")).thenReturn(3);
+        when(rs.getInt("total_losses")).thenReturn(1);
+        return rs;
+    }
+}
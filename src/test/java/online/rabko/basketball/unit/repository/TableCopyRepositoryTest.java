@@ -0,0 +1,197 @@
+package online.rabko.basketball.unit.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import online.rabko.basketball.enums.BackupTable;
+import online.rabko.basketball.repository.TableCopyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * Unit tests for {@link TableCopyRepository}.
+ */
+@ExtendWith(MockitoExtension.class)
+class TableCopyRepositoryTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Mock
+    private JdbcTemplate plainTemplate;
+
+    @Mock
+    private CopyManager copyManager;
+
+    @InjectMocks
+    private TableCopyRepository tableCopyRepository;
+
+    @BeforeEach
+    void setUp() {
+        when(jdbcTemplate.getJdbcTemplate()).thenReturn(plainTemplate);
+    }
+
+    @Test
+    void copyOut_shouldCopyTableColumnsInBinaryFormat() throws SQLException, IOException {
+        stubConnection();
+        OutputStream out = new ByteArrayOutputStream();
+        when(copyManager.copyOut(
+            "COPY (SELECT id, name FROM teams) TO STDOUT (FORMAT binary)", out)).thenReturn(4L);
+
+        assertEquals(4L, tableCopyRepository.copyOut(BackupTable.TEAMS, out));
+    }
+
+    @Test
+    void copyIn_shouldCopyIntoTableColumns() throws SQLException, IOException {
+        stubConnection();
+        InputStream in = new ByteArrayInputStream(new byte[0]);
+        when(copyManager.copyIn(
+            "COPY seasons (id, name, start_date, end_date) FROM STDIN (FORMAT binary)", in))
+            .thenReturn(2L);
+
+        assertEquals(2L, tableCopyRepository.copyIn(BackupTable.SEASONS, in));
+    }
+
+    @Test
+    void copyRows_shouldStreamWrittenRowsIntoTable() throws SQLException, IOException {
+        stubConnection();
+        CopyIn copyIn = mock(CopyIn.class);
+        when(copyManager.copyIn("COPY teams (id, name) FROM STDIN (FORMAT binary)"))
+            .thenReturn(copyIn);
+        when(copyIn.getHandledRowCount()).thenReturn(3L);
+
+        assertEquals(3L, tableCopyRepository.copyRows(BackupTable.TEAMS,
+            out -> out.write(new byte[]{1, 2})));
+        verify(copyIn).writeToCopy(any(byte[].class), eq(0), eq(2));
+        verify(copyIn).endCopy();
+    }
+
+    @Test
+    void copyRows_shouldCancelCopy_whenWriterFails() throws SQLException, IOException {
+        stubConnection();
+        CopyIn copyIn = mock(CopyIn.class);
+        when(copyManager.copyIn(any(String.class))).thenReturn(copyIn);
+        when(copyIn.isActive()).thenReturn(true);
+
+        assertThrows(UncheckedIOException.class, () -> tableCopyRepository.copyRows(
+            BackupTable.TEAMS, out -> {
+                throw new IOException("generator failed");
+            }));
+        verify(copyIn).cancelCopy();
+    }
+
+    @Test
+    void findMaxId_shouldReadHighestId() {
+        when(plainTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM players",
+            Integer.class)).thenReturn(42);
+
+        assertEquals(42, tableCopyRepository.findMaxId(BackupTable.PLAYERS));
+    }
+
+    @Test
+    void copyOut_shouldWrapStreamFailures() throws SQLException, IOException {
+        stubConnection();
+        when(copyManager.copyOut(any(String.class), any(OutputStream.class)))
+            .thenThrow(new IOException("disk full"));
+        OutputStream out = new ByteArrayOutputStream();
+
+        assertThrows(UncheckedIOException.class,
+            () -> tableCopyRepository.copyOut(BackupTable.USERS, out));
+    }
+
+    @Test
+    void truncateAll_shouldTruncateEveryTableInOneStatement() {
+        tableCopyRepository.truncateAll();
+
+        verify(plainTemplate).execute("TRUNCATE users, teams, seasons, players, matches, "
+            + "match_participants");
+    }
+
+    @Test
+    void resetSequence_shouldMoveSequencePastHighestId() {
+        tableCopyRepository.resetSequence(BackupTable.MATCHES);
+
+        verify(plainTemplate).queryForObject(eq("""
+            SELECT setval(pg_get_serial_sequence('matches', 'id'), COALESCE(MAX(id), 0) + 1, false)
+            FROM matches
+            """), eq(Long.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void dropIndexesAndForeignKeys_shouldDropEachAndReturnStatementsCreatingThem()
+        throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString("drop_sql"))
+            .thenReturn("DROP INDEX i", "ALTER TABLE t DROP CONSTRAINT f");
+        when(rs.getString("create_sql")).thenReturn("CREATE INDEX i", "ALTER TABLE t ADD f");
+        when(plainTemplate.query(any(String.class), any(RowMapper.class)))
+            .thenAnswer(invocation ->
+                List.of(invocation.<RowMapper<Object>>getArgument(1).mapRow(rs, 0)));
+
+        final List<String> restore = tableCopyRepository.dropIndexesAndForeignKeys(
+            BackupTable.MATCH_PARTICIPANTS);
+
+        verify(plainTemplate).query(contains("NOT indisunique"), any(RowMapper.class));
+        verify(plainTemplate).query(contains("contype = 'f' AND conparentid = 0"),
+            any(RowMapper.class));
+        verify(plainTemplate).execute("DROP INDEX i");
+        verify(plainTemplate).execute("ALTER TABLE t DROP CONSTRAINT f");
+        assertEquals(List.of("CREATE INDEX i", "ALTER TABLE t ADD f"), restore);
+    }
+
+    @Test
+    void restore_shouldRunStatementsInOrder() {
+        tableCopyRepository.restore(List.of("CREATE INDEX i", "ALTER TABLE t ADD f"));
+
+        InOrder order = inOrder(plainTemplate);
+        order.verify(plainTemplate).execute("CREATE INDEX i");
+        order.verify(plainTemplate).execute("ALTER TABLE t ADD f");
+    }
+
+    @Test
+    void analyze_shouldAnalyzeTable() {
+        tableCopyRepository.analyze(BackupTable.MATCH_PARTICIPANTS);
+
+        verify(plainTemplate).execute("ANALYZE match_participants");
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubConnection() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PGConnection pgConnection = mock(PGConnection.class);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        when(plainTemplate.execute(any(ConnectionCallback.class))).thenAnswer(invocation ->
+            invocation.<ConnectionCallback<Long>>getArgument(0).doInConnection(connection));
+    }
+}
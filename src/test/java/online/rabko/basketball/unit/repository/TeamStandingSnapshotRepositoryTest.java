@@ -0,0 +1,101 @@
+package online.rabko.basketball.unit.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import online.rabko.basketball.repository.TeamStandingSnapshotRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * Unit tests for {@link TeamStandingSnapshotRepository}.
+ */
+@ExtendWith(MockitoExtension.class)
+class TeamStandingSnapshotRepositoryTest {
+
+    private static final LocalDate DATE = LocalDate.of(2023, 11, 15);
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private TeamStandingSnapshotRepository teamStandingSnapshotRepository;
+
+    @Captor
+    private ArgumentCaptor<String> sql;
+
+    @Captor
+    private ArgumentCaptor<SqlParameterSource> params;
+
+    @Test
+    void refresh_shouldRecomputeDeltasAndCheckpointsFromDate() {
+        teamStandingSnapshotRepository.refresh(1, DATE);
+
+        verify(jdbcTemplate, times(3)).update(sql.capture(), params.capture());
+        assertTrue(sql.getAllValues().get(0).contains("snapshot_date >= :from"));
+        assertTrue(sql.getAllValues().get(1).contains(
+            "FROM matches WHERE season_id = :seasonId AND date >= :from"));
+        assertTrue(sql.getAllValues().get(2).contains("WHERE w.week_end >= :from"));
+        assertEquals(1, params.getValue().getValue("seasonId"));
+        assertEquals(DATE, params.getValue().getValue("from"));
+    }
+
+    @Test
+    void refreshSeason_shouldRecomputeWholeSeason() {
+        teamStandingSnapshotRepository.refreshSeason(1);
+
+        verify(jdbcTemplate, times(3)).update(sql.capture(), params.capture());
+        assertTrue(sql.getAllValues().get(0).contains("WHERE season_id = :seasonId"));
+        assertFalse(sql.getAllValues().get(1).contains(":from"));
+        assertFalse(sql.getAllValues().get(2).contains(":from"));
+    }
+
+    @Test
+    void refreshAll_shouldTruncateAndInsertEverything() {
+        JdbcTemplate plain = mock(JdbcTemplate.class);
+        when(jdbcTemplate.getJdbcTemplate()).thenReturn(plain);
+
+        teamStandingSnapshotRepository.refreshAll();
+
+        verify(plain, times(3)).execute(sql.capture());
+        assertEquals("TRUNCATE team_standing_snapshots", sql.getAllValues().get(0));
+        assertFalse(sql.getAllValues().get(1).contains(":seasonId"));
+        assertTrue(sql.getAllValues().get(2).contains("TRUE"));
+    }
+
+    @Test
+    void findTeamsByWinRate_shouldReadLatestCheckpointAndLaterDeltas() {
+        teamStandingSnapshotRepository.findTeamsByWinRate(1, DATE);
+
+        verify(jdbcTemplate).query(sql.capture(), params.capture(), any(RowMapper.class));
+        assertTrue(sql.getValue().contains("MAX(s.snapshot_date)"));
+        assertTrue(sql.getValue().contains("AND s.season_id = :seasonId"));
+        assertTrue(sql.getValue().contains("ORDER BY win_rate DESC"));
+        assertEquals(DATE, params.getValue().getValue("asOf"));
+    }
+
+    @Test
+    void findTeamsByAveragePoints_shouldNotFilter_whenSeasonMissing() {
+        teamStandingSnapshotRepository.findTeamsByAveragePoints(null, DATE);
+
+        verify(jdbcTemplate).query(sql.capture(), params.capture(), any(RowMapper.class));
+        assertFalse(sql.getValue().contains(":seasonId"));
+        assertTrue(sql.getValue().contains("ORDER BY average_points DESC"));
+    }
+}
@@ -0,0 +1,91 @@
+package online.rabko.basketball.unit.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import online.rabko.basketball.dto.ChangeCursor;
+import online.rabko.basketball.dto.ChangeEntry;
+import online.rabko.basketball.exception.BadRequestException;
+import online.rabko.basketball.repository.ChangeRepository;
+import online.rabko.basketball.service.ChangeService;
+import online.rabko.model.Change;
+import online.rabko.model.Change.OperationEnum;
+import online.rabko.model.Change.ResourceEnum;
+import online.rabko.model.ChangeBatch;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for {@link ChangeService}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ChangeServiceTest {
+
+    private static final ChangeEntry TEAM = new ChangeEntry(new ChangeCursor(900, 1),
+        new Change(ResourceEnum.TEAM, 1, OperationEnum.UPSERT));
+    private static final ChangeEntry PLAYER = new ChangeEntry(new ChangeCursor(901, 2),
+        new Change(ResourceEnum.PLAYER, 4, OperationEnum.DELETE));
+
+    @Mock
+    private ChangeRepository changeRepository;
+
+    @InjectMocks
+    private ChangeService changeService;
+
+    @Test
+    void getChanges_shouldStartFromBeginning_whenNoCursorIsGiven() {
+        when(changeRepository.findAfter(ChangeCursor.START, 3)).thenReturn(List.of(TEAM, PLAYER));
+
+        ChangeBatch result = changeService.getChanges(null, 2);
+
+        assertEquals(List.of(TEAM.change(), PLAYER.change()), result.getChanges());
+        assertEquals("901-2", result.getNextCursor());
+        assertFalse(result.getHasMore());
+    }
+
+    @Test
+    void getChanges_shouldStopAtLimit_andReportMore() {
+        when(changeRepository.findAfter(new ChangeCursor(800, 7), 2))
+            .thenReturn(List.of(TEAM, PLAYER));
+
+        ChangeBatch result = changeService.getChanges("800-7", 1);
+
+        assertEquals(List.of(TEAM.change()), result.getChanges());
+        assertEquals("900-1", result.getNextCursor());
+        assertTrue(result.getHasMore());
+    }
+
+    @Test
+    void getChanges_shouldKeepCursor_whenNothingChanged() {
+        when(changeRepository.findAfter(new ChangeCursor(800, 7), 501)).thenReturn(List.of());
+
+        ChangeBatch result = changeService.getChanges("800-7", 500);
+
+        assertTrue(result.getChanges().isEmpty());
+        assertEquals("800-7", result.getNextCursor());
+        assertFalse(result.getHasMore());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "800", "800-7-1", "abc-7", "800-"})
+    void getChanges_shouldThrowBadRequest_whenCursorIsMalformed(String cursor) {
+        assertThrows(BadRequestException.class, () -> changeService.getChanges(cursor, 10));
+        verifyNoInteractions(changeRepository);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1001})
+    void getChanges_shouldThrowBadRequest_whenLimitIsOutOfRange(int limit) {
+        assertThrows(BadRequestException.class, () -> changeService.getChanges(null, limit));
+    }
+}
@@ -0,0 +1,149 @@
+package online.rabko.basketball.unit.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import online.rabko.basketball.config.IdempotencyProperties;
+import online.rabko.basketball.dto.IdempotencyKey;
+import online.rabko.basketball.dto.IdempotentResponse;
+import online.rabko.basketball.repository.IdempotencyKeyRepository;
+import online.rabko.basketball.service.IdempotencyService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+/**
+ * Unit tests for {@link IdempotencyService}.
+ */
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    private static final IdempotencyKey KEY = new IdempotencyKey("scorer", "retry-1");
+    private static final IdempotencyKey OTHER_KEY = new IdempotencyKey("scorer", "retry-2");
+
+    @Mock
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    private IdempotencyProperties properties;
+
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new IdempotencyProperties();
+        properties.setCacheSize(1);
+        idempotencyService = new IdempotencyService(idempotencyKeyRepository, properties);
+    }
+
+    @Test
+    void find_shouldAnswerFromMemory_afterSave() {
+        IdempotentResponse response = response(Instant.now());
+        when(idempotencyKeyRepository.complete(KEY, response)).thenReturn(true);
+
+        idempotencyService.save(KEY, response);
+
+        assertSame(response, idempotencyService.find(KEY).orElseThrow());
+        verify(idempotencyKeyRepository, never()).find(any(), any());
+    }
+
+    @Test
+    void find_shouldLoadFromDatabase_whenEvictedFromMemory() {
+        IdempotentResponse response = response(Instant.now());
+        when(idempotencyKeyRepository.complete(any(), eq(response))).thenReturn(true);
+        when(idempotencyKeyRepository.find(eq(KEY), any())).thenReturn(Optional.of(response));
+        idempotencyService.save(KEY, response);
+        idempotencyService.save(OTHER_KEY, response);
+
+        assertSame(response, idempotencyService.find(KEY).orElseThrow());
+        assertSame(response, idempotencyService.find(KEY).orElseThrow());
+
+        verify(idempotencyKeyRepository, times(1)).find(eq(KEY), any());
+    }
+
+    @Test
+    void find_shouldIgnoreExpiredResponseInMemory() {
+        properties.setRetention(Duration.ofMinutes(1));
+        IdempotentResponse response = response(Instant.now().minus(Duration.ofMinutes(2)));
+        when(idempotencyKeyRepository.complete(KEY, response)).thenReturn(true);
+        when(idempotencyKeyRepository.find(eq(KEY), any())).thenReturn(Optional.empty());
+        idempotencyService.save(KEY, response);
+
+        assertTrue(idempotencyService.find(KEY).isEmpty());
+    }
+
+    @Test
+    void save_shouldNotCache_whenKeyIsNoLongerClaimed() {
+        IdempotentResponse response = response(Instant.now());
+        when(idempotencyKeyRepository.complete(KEY, response)).thenReturn(false);
+        when(idempotencyKeyRepository.find(eq(KEY), any())).thenReturn(Optional.empty());
+
+        assertFalse(idempotencyService.save(KEY, response));
+
+        assertTrue(idempotencyService.find(KEY).isEmpty());
+    }
+
+    @Test
+    void save_shouldIgnoreDatabaseFailure() {
+        IdempotentResponse response = response(Instant.now());
+        when(idempotencyKeyRepository.complete(KEY, response))
+            .thenThrow(new DataAccessResourceFailureException("down"));
+
+        assertFalse(idempotencyService.save(KEY, response));
+    }
+
+    @Test
+    void begin_shouldClaimKey_takingOverExpiredAndAbandonedClaims() {
+        byte[] fingerprint = {1};
+        when(idempotencyKeyRepository.claim(eq(KEY), eq(fingerprint), any(), any(), any()))
+            .thenReturn(true);
+        Instant before = Instant.now();
+
+        assertTrue(idempotencyService.begin(KEY, fingerprint));
+
+        verify(idempotencyKeyRepository).claim(eq(KEY), eq(fingerprint),
+            argThat(now -> !now.isBefore(before)),
+            argThat(expired -> expired.isBefore(before.minus(Duration.ofHours(23)))),
+            argThat(abandoned -> abandoned.isAfter(before.minus(Duration.ofMinutes(2)))));
+    }
+
+    @Test
+    void release_shouldIgnoreDatabaseFailure() {
+        doThrow(new DataAccessResourceFailureException("down"))
+            .when(idempotencyKeyRepository).release(KEY);
+
+        idempotencyService.release(KEY);
+
+        verify(idempotencyKeyRepository).release(KEY);
+    }
+
+    @Test
+    void purge_shouldDeleteResponsesOlderThanRetention() {
+        when(idempotencyKeyRepository.deleteCreatedBefore(any())).thenReturn(2);
+        Instant before = Instant.now().minus(properties.getRetention());
+
+        idempotencyService.purge();
+
+        verify(idempotencyKeyRepository).deleteCreatedBefore(
+            argThat(instant -> !instant.isBefore(before)));
+    }
+
+    private static IdempotentResponse response(Instant createdAt) {
+        return new IdempotentResponse(new byte[] {1}, 201, "application/json", new byte[] {2},
+            createdAt);
+    }
+}
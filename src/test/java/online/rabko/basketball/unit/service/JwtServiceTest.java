@@ -71,6 +71,40 @@ class JwtServiceTest {
         assertEquals("basicUser", jwtService.extractUserName(token));
     }
 
+    @Test
+    void extractUserId_shouldReturnIdClaim_forCustomUser() {
+        User user = User.builder()
+            .id(42L)
+            .username("scorer")
+            .password("password")
+            .role(Role.USER)
+            .build();
+
+        assertEquals("42", jwtService.extractUserId(jwtService.generateToken(user)));
+    }
+
+    @Test
+    void extractUserId_shouldFallBackToUserName_whenTokenHasNoId() {
+        UserDetails user = new org.springframework.security.core.userdetails.User(
+            "basicUser", "pass", List.of(new SimpleGrantedAuthority("ROLE_USER"))
+        );
+
+        assertEquals("basicUser", jwtService.extractUserId(jwtService.generateToken(user)));
+    }
+
+    @Test
+    void isTokenValid_shouldCheckParsedClaims_againstUser() {
+        UserDetails user = new org.springframework.security.core.userdetails.User(
+            "basicUser", "pass", List.of(new SimpleGrantedAuthority("ROLE_USER"))
+        );
+        Claims claims = jwtService.parseClaims(jwtService.generateToken(user));
+
+        assertTrue(jwtService.isTokenValid(claims, user));
+        assertFalse(jwtService.isTokenValid(claims, new org.springframework.security.core
+            .userdetails.User("other", "pass", List.of())));
+        assertFalse(jwtService.isTokenValid(claims.setExpiration(new Date(0)), user));
+    }
+
     @Test
     void isTokenValid_shouldReturnFalse_whenUserNameMismatch() {
         User validUser = User.builder().username("valid").password("1").role(Role.USER).build();
@@ -0,0 +1,153 @@
+package online.rabko.basketball.unit.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+import online.rabko.basketball.enums.BackupTable;
+import online.rabko.basketball.repository.ChangeRepository;
+import online.rabko.basketball.repository.PlayerStatSumsRepository;
+import online.rabko.basketball.repository.SeasonPartitionRepository;
+import online.rabko.basketball.repository.TableCopyRepository;
+import online.rabko.basketball.repository.TeamStandingSnapshotRepository;
+import online.rabko.basketball.service.LeagueBackupService;
+import online.rabko.basketball.service.PlayerNameIndex;
+import online.rabko.basketball.service.StatsPercentileIndex;
+import org.hibernate.Cache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for {@link LeagueBackupService}.
+ */
+@ExtendWith(MockitoExtension.class)
+class LeagueBackupServiceTest {
+
+    @Mock
+    private TableCopyRepository tableCopyRepository;
+
+    @Mock
+    private SeasonPartitionRepository seasonPartitionRepository;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private PlayerNameIndex playerNameIndex;
+
+    @Mock
+    private ChangeRepository changeRepository;
+
+    @Mock
+    private PlayerStatSumsRepository playerStatSumsRepository;
+
+    @Mock
+    private StatsPercentileIndex statsPercentileIndex;
+
+    @Mock
+    private TeamStandingSnapshotRepository teamStandingSnapshotRepository;
+
+    @InjectMocks
+    private LeagueBackupService leagueBackupService;
+
+    @Test
+    void backup_shouldWriteOneEntryPerTable_inDependencyOrder() throws IOException {
+        when(tableCopyRepository.copyOut(any(), any())).thenAnswer(invocation -> {
+            BackupTable table = invocation.getArgument(0);
+            invocation.<OutputStream>getArgument(1)
+                .write(table.getTable().getBytes(StandardCharsets.UTF_8));
+            return (long) table.ordinal();
+        });
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        Map<BackupTable, Long> rows = leagueBackupService.backup(out);
+
+        assertEquals(5L, rows.get(BackupTable.MATCH_PARTICIPANTS));
+        List<String> names = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                names.add(entry.getName());
+                assertArrayEquals(entry.getName().replace(".pgcopy", "")
+                    .getBytes(StandardCharsets.UTF_8), zip.readAllBytes());
+            }
+        }
+        assertEquals(List.of("users.pgcopy", "teams.pgcopy", "seasons.pgcopy", "players.pgcopy",
+            "matches.pgcopy", "match_participants.pgcopy"), names);
+    }
+
+    @Test
+    void restore_shouldTruncate_copyTables_andResetSequences() throws IOException {
+        when(tableCopyRepository.copyIn(any(), any())).thenAnswer(invocation -> {
+            BackupTable table = invocation.getArgument(0);
+            assertArrayEquals(table.getTable().getBytes(StandardCharsets.UTF_8),
+                invocation.<InputStream>getArgument(1).readAllBytes());
+            return 1L;
+        });
+        jakarta.persistence.Cache jpaCache = mock(jakarta.persistence.Cache.class);
+        Cache cache = mock(Cache.class);
+        when(entityManagerFactory.getCache()).thenReturn(jpaCache);
+        when(jpaCache.unwrap(Cache.class)).thenReturn(cache);
+
+        Map<BackupTable, Long> rows = leagueBackupService.restore(
+            new ByteArrayInputStream(backup(BackupTable.values())));
+
+        assertEquals(BackupTable.values().length, rows.size());
+        InOrder order = inOrder(tableCopyRepository, seasonPartitionRepository,
+            playerStatSumsRepository, changeRepository);
+        order.verify(tableCopyRepository).truncateAll();
+        order.verify(tableCopyRepository).copyIn(eq(BackupTable.SEASONS), any());
+        order.verify(seasonPartitionRepository).createAll();
+        order.verify(tableCopyRepository).copyIn(eq(BackupTable.MATCHES), any());
+        order.verify(tableCopyRepository).resetSequence(BackupTable.MATCH_PARTICIPANTS);
+        order.verify(playerStatSumsRepository).refreshAll();
+        order.verify(changeRepository).recordAll();
+        verify(cache).evictAllRegions();
+        verify(playerNameIndex).rebuild();
+    }
+
+    @Test
+    void restore_shouldThrow_whenTableIsMissing() throws IOException {
+        byte[] backup = backup(BackupTable.USERS, BackupTable.SEASONS);
+
+        assertThrows(IOException.class,
+            () -> leagueBackupService.restore(new ByteArrayInputStream(backup)));
+        verify(tableCopyRepository, never()).resetSequence(any());
+        verify(playerNameIndex, never()).rebuild();
+    }
+
+    private static byte[] backup(BackupTable... tables) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (BackupTable table : tables) {
+                zip.putNextEntry(new ZipEntry(table.getTable() + ".pgcopy"));
+                zip.write(table.getTable().getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+}
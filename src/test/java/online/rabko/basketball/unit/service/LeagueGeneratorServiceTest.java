@@ -0,0 +1,162 @@
+package online.rabko.basketball.unit.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import online.rabko.basketball.enums.BackupTable;
+import online.rabko.basketball.generator.LeagueSpec;
+import online.rabko.basketball.repository.ChangeRepository;
+import online.rabko.basketball.repository.PlayerStatSumsRepository;
+import online.rabko.basketball.repository.SeasonPartitionRepository;
+import online.rabko.basketball.repository.TableCopyRepository;
+import online.rabko.basketball.repository.TableCopyRepository.RowWriter;
+import online.rabko.basketball.repository.TeamStandingSnapshotRepository;
+import online.rabko.basketball.service.LeagueGeneratorService;
+import online.rabko.basketball.service.PlayerNameIndex;
+import online.rabko.basketball.service.StatsPercentileIndex;
+import online.rabko.model.Change.OperationEnum;
+import online.rabko.model.Change.ResourceEnum;
+import org.hibernate.Cache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for {@link LeagueGeneratorService}.
+ */
+@ExtendWith(MockitoExtension.class)
+class LeagueGeneratorServiceTest {
+
+    private static final LeagueSpec SPEC = new LeagueSpec(3, 2, 4, 6, 1, 2000);
+
+    @Mock
+    private TableCopyRepository tableCopyRepository;
+
+    @Mock
+    private SeasonPartitionRepository seasonPartitionRepository;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private PlayerNameIndex playerNameIndex;
+
+    @Mock
+    private ChangeRepository changeRepository;
+
+    @Mock
+    private PlayerStatSumsRepository playerStatSumsRepository;
+
+    @Mock
+    private StatsPercentileIndex statsPercentileIndex;
+
+    @Mock
+    private TeamStandingSnapshotRepository teamStandingSnapshotRepository;
+
+    @InjectMocks
+    private LeagueGeneratorService leagueGeneratorService;
+
+    @Test
+    void generate_shouldCopyTablesAfterExistingIds_andRefreshDerivedData() {
+        when(tableCopyRepository.findMaxId(any())).thenReturn(100);
+        when(tableCopyRepository.copyRows(any(BackupTable.class), any(RowWriter.class)))
+            .thenAnswer(invocation -> {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                invocation.<RowWriter>getArgument(1).write(out);
+                assertTrue(out.size() > 0);
+                return (long) invocation.<BackupTable>getArgument(0).ordinal();
+            });
+        final Cache cache = stubCache();
+
+        Map<BackupTable, Long> rows = leagueGeneratorService.generate(SPEC, false);
+
+        assertEquals(5, rows.size());
+        InOrder order = inOrder(tableCopyRepository, seasonPartitionRepository,
+            playerStatSumsRepository, teamStandingSnapshotRepository, changeRepository);
+        order.verify(tableCopyRepository).copyRows(eq(BackupTable.SEASONS), any(RowWriter.class));
+        order.verify(seasonPartitionRepository).create(101);
+        order.verify(seasonPartitionRepository).create(102);
+        order.verify(tableCopyRepository).copyRows(eq(BackupTable.MATCHES), any(RowWriter.class));
+        order.verify(tableCopyRepository).restore(List.of());
+        order.verify(tableCopyRepository).resetSequence(BackupTable.MATCH_PARTICIPANTS);
+        order.verify(tableCopyRepository).analyze(BackupTable.MATCH_PARTICIPANTS);
+        order.verify(playerStatSumsRepository).refresh(anyMap());
+        order.verify(teamStandingSnapshotRepository).refreshSeason(102);
+        order.verify(changeRepository).record(ResourceEnum.TEAM, List.of(101, 102, 103, 104),
+            OperationEnum.UPSERT);
+        order.verify(changeRepository).recordSeasonMatches(102, OperationEnum.UPSERT);
+        verify(tableCopyRepository, never()).copyRows(eq(BackupTable.USERS), any(RowWriter.class));
+        verify(statsPercentileIndex).invalidateAll();
+        verify(cache).evictAllRegions();
+        verify(playerNameIndex).rebuild();
+    }
+
+    @Test
+    void generate_shouldRestoreDeferredIndexesAfterCopy_whenDeferringIndexes() {
+        when(tableCopyRepository.findMaxId(any())).thenReturn(0);
+        List<String> deferred = List.of("CREATE INDEX i ON match_participants (player_id)");
+        when(tableCopyRepository.dropIndexesAndForeignKeys(BackupTable.MATCH_PARTICIPANTS))
+            .thenReturn(deferred);
+        stubCache();
+
+        leagueGeneratorService.generate(SPEC, true);
+
+        InOrder order = inOrder(tableCopyRepository, playerStatSumsRepository);
+        order.verify(tableCopyRepository).dropIndexesAndForeignKeys(
+            BackupTable.MATCH_PARTICIPANTS);
+        order.verify(tableCopyRepository).copyRows(eq(BackupTable.MATCH_PARTICIPANTS),
+            any(RowWriter.class));
+        order.verify(tableCopyRepository).restore(deferred);
+        order.verify(playerStatSumsRepository).refresh(anyMap());
+    }
+
+    @Test
+    void generate_shouldComputeRunningTotalsOfGeneratedPlayersFromFirstSeason() {
+        when(tableCopyRepository.findMaxId(any())).thenReturn(0);
+        stubCache();
+
+        leagueGeneratorService.generate(SPEC, false);
+
+        verify(playerStatSumsRepository).refresh(argThat(dates ->
+            dates.size() == 24 && dates.get(1).equals(LocalDate.of(2000, 10, 20))));
+    }
+
+    @Test
+    void generate_shouldNotReloadCaches_whenCopyFails() {
+        when(tableCopyRepository.findMaxId(any())).thenReturn(0);
+        when(tableCopyRepository.copyRows(eq(BackupTable.TEAMS), any(RowWriter.class)))
+            .thenThrow(new UncheckedIOException(new IOException("broken")));
+
+        assertThrows(UncheckedIOException.class,
+            () -> leagueGeneratorService.generate(SPEC, false));
+        verify(playerNameIndex, never()).rebuild();
+    }
+
+    private Cache stubCache() {
+        jakarta.persistence.Cache jpaCache = mock(jakarta.persistence.Cache.class);
+        Cache cache = mock(Cache.class);
+        when(entityManagerFactory.getCache()).thenReturn(jpaCache);
+        when(jpaCache.unwrap(Cache.class)).thenReturn(cache);
+        return cache;
+    }
+}
@@ -0,0 +1,356 @@
+package online.rabko.basketball.unit.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import online.rabko.basketball.dto.MatchFilter;
+import online.rabko.basketball.entity.MatchEntity;
+import online.rabko.basketball.entity.PlayerEntity;
+import online.rabko.basketball.entity.SeasonEntity;
+import online.rabko.basketball.entity.TeamEntity;
+import online.rabko.basketball.enums.MatchSort;
+import online.rabko.basketball.enums.SortOrder;
+import online.rabko.basketball.exception.BadRequestException;
+import online.rabko.basketball.exception.ConflictException;
+import online.rabko.basketball.exception.NotFoundException;
+import online.rabko.basketball.repository.BoxScoreWriteRepository;
+import online.rabko.basketball.repository.ChangeRepository;
+import online.rabko.basketball.repository.MatchReadRepository;
+import online.rabko.basketball.repository.MatchRepository;
+import online.rabko.basketball.repository.PlayerReadRepository;
+import online.rabko.basketball.repository.PlayerRepository;
+import online.rabko.basketball.repository.PlayerStatSumsRepository;
+import online.rabko.basketball.repository.SeasonArchiveRepository;
+import online.rabko.basketball.repository.SeasonRepository;
+import online.rabko.basketball.repository.StatsReadRepository;
+import online.rabko.basketball.repository.TeamRepository;
+import online.rabko.basketball.repository.TeamStandingSnapshotRepository;
+import online.rabko.basketball.service.MatchService;
+import online.rabko.basketball.service.StatsPercentileIndex;
+import online.rabko.model.Change.OperationEnum;
+import online.rabko.model.Change.ResourceEnum;
+import online.rabko.model.Match;
+import online.rabko.model.MatchDetail;
+import online.rabko.model.Player;
+import online.rabko.model.PlayerStats;
+import online.rabko.model.PlayerStatsStats;
+import online.rabko.model.Season;
+import online.rabko.model.Team;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for {@link MatchService}.
+ */
+@ExtendWith(MockitoExtension.class)
+class MatchServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2023, 11, 15);
+    private static final SeasonEntity SEASON = new SeasonEntity(1, "2023-24",
+        LocalDate.of(2023, 10, 1), LocalDate.of(2024, 4, 30));
+    private static final TeamEntity HOME = new TeamEntity(1, "Lakers");
+    private static final TeamEntity AWAY = new TeamEntity(2, "Celtics");
+    private static final PlayerEntity PLAYER = PlayerEntity.builder()
+        .id(23).team(HOME).firstName("Lebron").lastName("James").build();
+
+    @Mock
+    private MatchRepository matchRepository;
+
+    @Mock
+    private MatchReadRepository matchReadRepository;
+
+    @Mock
+    private BoxScoreWriteRepository boxScoreWriteRepository;
+
+    @Mock
+    private StatsReadRepository statsReadRepository;
+
+    @Mock
+    private SeasonRepository seasonRepository;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @Mock
+    private PlayerReadRepository playerReadRepository;
+
+    @Mock
+    private SeasonArchiveRepository seasonArchiveRepository;
+
+    @Mock
+    private ChangeRepository changeRepository;
+
+    @Mock
+    private PlayerStatSumsRepository playerStatSumsRepository;
+
+    @Mock
+    private StatsPercentileIndex statsPercentileIndex;
+
+    @Mock
+    private TeamStandingSnapshotRepository teamStandingSnapshotRepository;
+
+    @InjectMocks
+    private MatchService matchService;
+
+    @Test
+    void getAll_shouldPassParsedFilterToReadRepository() {
+        List<Match> matches = List.of(new Match(10, 1, DATE, 1, 2));
+        when(matchReadRepository.findAll(
+            new MatchFilter(1, 2, DATE, DATE, MatchSort.ID, SortOrder.DESC))).thenReturn(matches);
+
+        assertEquals(matches, matchService.getAll(1, 2, DATE, DATE, "id", "desc"));
+    }
+
+    @Test
+    void getAll_shouldThrowBadRequest_whenDateRangeInverted() {
+        assertThrows(BadRequestException.class,
+            () -> matchService.getAll(null, null, DATE, DATE.minusDays(1), "date", "asc"));
+        verify(matchReadRepository, never()).findAll(any());
+    }
+
+    @Test
+    void getAll_shouldThrowBadRequest_whenSortUnknown() {
+        assertThrows(BadRequestException.class,
+            () -> matchService.getAll(null, null, null, null, "score", "asc"));
+        assertThrows(BadRequestException.class,
+            () -> matchService.getAll(null, null, null, null, "date", "up"));
+    }
+
+    @Test
+    void getById_shouldThrow_whenMatchNotFound() {
+        when(matchRepository.findById(99)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> matchService.getById(99));
+    }
+
+    @Test
+    void getById_shouldReturnMatch_whenMatchExists() {
+        when(matchRepository.findById(10)).thenReturn(Optional.of(match()));
+
+        assertEquals(98, matchService.getById(10).getHomeTeamScore());
+    }
+
+    @Test
+    void getDetail_shouldAttachRosterAndBoxScore() {
+        MatchDetail header = new MatchDetail(new Match(10, 1, DATE, 1, 2),
+            new Season(1, "2023-24", SEASON.getStartDate(), SEASON.getEndDate()),
+            new Team(1, "Lakers"), new Team(2, "Celtics"), List.of(), List.of());
+        List<Player> roster = List.of(new Player(23, "Lebron", "James"));
+        List<PlayerStats> boxScore = List.of(
+            new PlayerStats(3, 10, 23, 1, new PlayerStatsStats().points(25)));
+        when(matchReadRepository.findDetail(10)).thenReturn(Optional.of(header));
+        when(playerReadRepository.findByMatchId(10)).thenReturn(roster);
+        when(statsReadRepository.findByMatchId(10)).thenReturn(boxScore);
+
+        MatchDetail result = matchService.getDetail(10);
+
+        assertEquals(roster, result.getPlayers());
+        assertEquals(boxScore, result.getStats());
+        assertEquals("Celtics", result.getAwayTeam().getName());
+    }
+
+    @Test
+    void getDetail_shouldThrow_whenMatchNotFound() {
+        when(matchReadRepository.findDetail(99)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> matchService.getDetail(99));
+    }
+
+    @Test
+    void create_shouldSaveMatch_withDefaultScores() {
+        stubReferences();
+        when(matchRepository.saveAndFlush(any())).thenAnswer(invocation -> {
+            MatchEntity match = invocation.getArgument(0);
+            match.setId(10);
+            return match;
+        });
+
+        Match result = matchService.create(new Match(0, 1, DATE, 1, 2));
+
+        assertEquals(0, result.getHomeTeamScore());
+        assertEquals(0, result.getAwayTeamScore());
+        assertEquals(1, result.getSeasonId());
+        verify(teamStandingSnapshotRepository).refresh(1, DATE);
+        verify(changeRepository).record(ResourceEnum.MATCH, 10, OperationEnum.UPSERT);
+    }
+
+    @Test
+    void create_shouldThrowConflict_whenTeamsAreTheSame() {
+        assertThrows(ConflictException.class,
+            () -> matchService.create(new Match(0, 1, DATE, 1, 1)));
+    }
+
+    @Test
+    void create_shouldThrowBadRequest_whenDateOutsideSeason() {
+        when(seasonRepository.findById(1)).thenReturn(Optional.of(SEASON));
+
+        assertThrows(BadRequestException.class,
+            () -> matchService.create(new Match(0, 1, LocalDate.of(2025, 1, 1), 1, 2)));
+        verify(matchRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void create_shouldThrowConflict_whenSeasonIsArchived() {
+        when(seasonRepository.findById(1)).thenReturn(Optional.of(SEASON));
+        when(seasonArchiveRepository.exists(1)).thenReturn(true);
+
+        assertThrows(ConflictException.class,
+            () -> matchService.create(new Match(0, 1, DATE, 1, 2)));
+        verify(matchRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void create_shouldThrow_whenSeasonNotFound() {
+        when(seasonRepository.findById(1)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class,
+            () -> matchService.create(new Match(0, 1, DATE, 1, 2)));
+    }
+
+    @Test
+    void update_shouldApplyNewScores() {
+        MatchEntity entity = match();
+        when(matchRepository.findById(10)).thenReturn(Optional.of(entity));
+        stubReferences();
+
+        Match result = matchService.update(10,
+            new Match(0, 1, DATE, 1, 2).homeTeamScore(110).awayTeamScore(100));
+
+        assertEquals(10, result.getId());
+        assertEquals(110, result.getHomeTeamScore());
+        verify(changeRepository).record(ResourceEnum.MATCH, 10, OperationEnum.UPSERT);
+        verify(teamStandingSnapshotRepository).refresh(1, DATE);
+        verify(playerStatSumsRepository, never()).refresh(any());
+    }
+
+    @Test
+    void update_shouldRefreshRunningTotals_fromEarlierDate_whenDateChanged() {
+        MatchEntity entity = match();
+        when(matchRepository.findById(10)).thenReturn(Optional.of(entity));
+        stubReferences();
+        when(playerStatSumsRepository.findDatesByMatch(10)).thenReturn(Map.of(23, DATE));
+
+        matchService.update(10, new Match(0, 1, DATE.minusDays(3), 1, 2));
+
+        InOrder inOrder = inOrder(matchRepository, teamStandingSnapshotRepository,
+            playerStatSumsRepository);
+        inOrder.verify(matchRepository).flush();
+        inOrder.verify(teamStandingSnapshotRepository).refresh(1, DATE.minusDays(3));
+        inOrder.verify(playerStatSumsRepository).refresh(Map.of(23, DATE.minusDays(3)));
+    }
+
+    @Test
+    void delete_shouldRemoveMatch() {
+        MatchEntity entity = match();
+        when(matchRepository.findById(10)).thenReturn(Optional.of(entity));
+
+        when(playerStatSumsRepository.findDatesByMatch(10)).thenReturn(Map.of(23, DATE));
+
+        matchService.delete(10);
+
+        InOrder inOrder = inOrder(changeRepository, matchRepository, playerStatSumsRepository);
+        inOrder.verify(changeRepository).recordMatchBoxScores(1, 10, OperationEnum.DELETE);
+        inOrder.verify(matchRepository).delete(entity);
+        inOrder.verify(matchRepository).flush();
+        inOrder.verify(playerStatSumsRepository).refresh(Map.of(23, DATE));
+        verify(teamStandingSnapshotRepository).refresh(1, DATE);
+        inOrder.verify(changeRepository).record(ResourceEnum.MATCH, 10, OperationEnum.DELETE);
+    }
+
+    @Test
+    void getStats_shouldThrow_whenMatchNotFound() {
+        when(matchRepository.existsById(99)).thenReturn(false);
+
+        assertThrows(NotFoundException.class, () -> matchService.getStats(99));
+    }
+
+    @Test
+    void getStats_shouldReturnParticipantsStats() {
+        PlayerStatsStats stats = new PlayerStatsStats().points(25);
+        when(matchRepository.existsById(10)).thenReturn(true);
+        List<PlayerStats> expected = List.of(new PlayerStats(3, 10, 23, 1, stats));
+        when(statsReadRepository.findByMatchId(10)).thenReturn(expected);
+
+        assertEquals(expected, matchService.getStats(10));
+    }
+
+    @Test
+    void saveStats_shouldUpsertBoxScore() {
+        PlayerStatsStats stats = new PlayerStatsStats().points(25);
+        when(matchRepository.findById(10)).thenReturn(Optional.of(match()));
+        when(playerRepository.findById(23)).thenReturn(Optional.of(PLAYER));
+        when(teamRepository.findById(1)).thenReturn(Optional.of(HOME));
+        when(boxScoreWriteRepository.upsert(10, SEASON.getId(), 23, 1, stats)).thenReturn(3);
+
+        PlayerStats result = matchService.saveStats(10, new PlayerStats(0, 0, 23, 1, stats));
+
+        assertEquals(new PlayerStats(3, 10, 23, 1, stats), result);
+        verify(playerStatSumsRepository).refresh(Map.of(23, DATE));
+        verify(changeRepository).record(ResourceEnum.BOX_SCORE, 3, OperationEnum.UPSERT);
+    }
+
+    @Test
+    void saveStats_shouldThrowBadRequest_whenTeamDidNotPlay() {
+        when(matchRepository.findById(10)).thenReturn(Optional.of(match()));
+        when(playerRepository.findById(23)).thenReturn(Optional.of(PLAYER));
+        when(teamRepository.findById(3)).thenReturn(Optional.of(new TeamEntity(3, "Bulls")));
+
+        assertThrows(BadRequestException.class, () -> matchService.saveStats(10,
+            new PlayerStats(0, 10, 23, 3, new PlayerStatsStats())));
+    }
+
+    @Test
+    void saveStats_shouldThrow_whenPlayerNotFound() {
+        when(matchRepository.findById(10)).thenReturn(Optional.of(match()));
+        when(playerRepository.findById(23)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> matchService.saveStats(10,
+            new PlayerStats(0, 10, 23, 1, new PlayerStatsStats())));
+    }
+
+    @Test
+    void validateStats_shouldReturnSeasonId_whenReferencesExist() {
+        when(matchRepository.findById(10)).thenReturn(Optional.of(match()));
+        when(playerRepository.findById(23)).thenReturn(Optional.of(PLAYER));
+        when(teamRepository.findById(2)).thenReturn(Optional.of(AWAY));
+
+        assertEquals(SEASON.getId(), matchService.validateStats(10,
+            new PlayerStats(0, 0, 23, 2, new PlayerStatsStats())));
+    }
+
+    @Test
+    void validateStats_shouldThrowBadRequest_whenTeamDidNotPlay() {
+        when(matchRepository.findById(10)).thenReturn(Optional.of(match()));
+        when(playerRepository.findById(23)).thenReturn(Optional.of(PLAYER));
+        when(teamRepository.findById(3)).thenReturn(Optional.of(new TeamEntity(3, "Bulls")));
+
+        assertThrows(BadRequestException.class, () -> matchService.validateStats(10,
+            new PlayerStats(0, 0, 23, 3, new PlayerStatsStats())));
+    }
+
+    private void stubReferences() {
+        when(seasonRepository.findById(1)).thenReturn(Optional.of(SEASON));
+        when(teamRepository.findById(1)).thenReturn(Optional.of(HOME));
+        when(teamRepository.findById(2)).thenReturn(Optional.of(AWAY));
+    }
+
+    private static MatchEntity match() {
+        return new MatchEntity(10, SEASON, DATE, HOME, AWAY, 98, 102);
+    }
+}
@@ -0,0 +1,109 @@
+package online.rabko.basketball.unit.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import online.rabko.basketball.repository.PlayerReadRepository;
+import online.rabko.basketball.service.PlayerNameIndex;
+import online.rabko.model.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for {@link PlayerNameIndex}.
+ */
+@ExtendWith(MockitoExtension.class)
+class PlayerNameIndexTest {
+
+    private static final Player DONCIC = new Player(1, "Luka", "Dončić");
+    private static final Player CURRY = new Player(2, "Stephen", "Curry");
+    private static final Player SETH = new Player(3, "Seth", "Curry");
+
+    @Mock
+    private PlayerReadRepository playerReadRepository;
+
+    @InjectMocks
+    private PlayerNameIndex playerNameIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(playerReadRepository.findAll()).thenReturn(List.of(DONCIC, CURRY, SETH));
+        playerNameIndex.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void normalize_shouldLowerCaseStripDiacriticsAndCollapseSpaces() {
+        assertEquals("luka doncic", PlayerNameIndex.normalize("  Luka   DONČIĆ "));
+    }
+
+    @Test
+    void suggest_shouldMatchAnyNamePart_ignoringCaseAndDiacritics() {
+        assertEquals(List.of(DONCIC), playerNameIndex.suggest("DONC", 10));
+        assertEquals(List.of(DONCIC), playerNameIndex.suggest("luka d", 10));
+        assertEquals(List.of(SETH, CURRY), playerNameIndex.suggest("s", 10));
+    }
+
+    @Test
+    void suggest_shouldReturnEachPlayerOnce_andRespectLimit() {
+        assertEquals(List.of(CURRY, SETH), playerNameIndex.suggest("curry", 10));
+        assertEquals(List.of(CURRY), playerNameIndex.suggest("curry", 1));
+    }
+
+    @Test
+    void put_shouldReplacePreviousNames() {
+        playerNameIndex.put(new Player(2, "Wardell", "Curry"));
+
+        assertTrue(playerNameIndex.suggest("steph", 10).isEmpty());
+        assertEquals(2, playerNameIndex.suggest("ward", 10).get(0).getId());
+    }
+
+    @Test
+    void remove_shouldDropAllNamesOfPlayer() {
+        playerNameIndex.remove(1);
+
+        assertTrue(playerNameIndex.suggest("luka", 10).isEmpty());
+        assertTrue(playerNameIndex.suggest("doncic", 10).isEmpty());
+    }
+
+    @Test
+    void rebuild_shouldKeepChangesMadeWhilePlayersLoad() {
+        when(playerReadRepository.findAll()).thenAnswer(invocation -> {
+            playerNameIndex.put(new Player(4, "Kevin", "Durant"));
+            playerNameIndex.remove(3);
+            return List.of(DONCIC, CURRY, SETH);
+        });
+
+        playerNameIndex.rebuild();
+
+        assertEquals(4, playerNameIndex.suggest("kevin", 10).get(0).getId());
+        assertEquals(List.of(CURRY), playerNameIndex.suggest("curry", 10));
+    }
+
+    @Test
+    void put_shouldWaitForCommit_whenTransactionActive() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        playerNameIndex.put(new Player(4, "Kevin", "Durant"));
+        assertTrue(playerNameIndex.suggest("kevin", 10).isEmpty());
+
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(TransactionSynchronization::afterCommit);
+        assertEquals(4, playerNameIndex.suggest("kevin", 10).get(0).getId());
+    }
+}
@@ -0,0 +1,227 @@
+package online.rabko.basketball.unit.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import online.rabko.basketball.dto.PlayerFilter;
+import online.rabko.basketball.entity.PlayerEntity;
+import online.rabko.basketball.entity.TeamEntity;
+import online.rabko.basketball.enums.PlayerSort;
+import online.rabko.basketball.enums.SortOrder;
+import online.rabko.basketball.exception.BadRequestException;
+import online.rabko.basketball.exception.ConflictException;
+import online.rabko.basketball.exception.NotFoundException;
+import online.rabko.basketball.repository.ChangeRepository;
+import online.rabko.basketball.repository.MatchParticipantRepository;
+import online.rabko.basketball.repository.PlayerReadRepository;
+import online.rabko.basketball.repository.PlayerRepository;
+import online.rabko.basketball.repository.TeamRepository;
+import online.rabko.basketball.service.PlayerNameIndex;
+import online.rabko.basketball.service.PlayerService;
+import online.rabko.model.Change.OperationEnum;
+import online.rabko.model.Change.ResourceEnum;
+import online.rabko.model.Player;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for {@link PlayerService}.
+ */
+@ExtendWith(MockitoExtension.class)
+class PlayerServiceTest {
+
+    private static final TeamEntity LAKERS = new TeamEntity(5, "Lakers");
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @Mock
+    private PlayerReadRepository playerReadRepository;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private MatchParticipantRepository matchParticipantRepository;
+
+    @Mock
+    private PlayerNameIndex playerNameIndex;
+
+    @Mock
+    private ChangeRepository changeRepository;
+
+    @InjectMocks
+    private PlayerService playerService;
+
+    @Test
+    void getAll_shouldPassParsedFilterToReadRepository() {
+        List<Player> players = List.of(new Player(1, "Lebron", "James").teamId(5));
+        when(playerReadRepository.findAll(
+            new PlayerFilter(5, "Forward", PlayerSort.LAST_NAME, SortOrder.DESC)))
+            .thenReturn(players);
+
+        assertEquals(players, playerService.getAll(5, "Forward", "last_name", "desc"));
+    }
+
+    @Test
+    void getAll_shouldThrowBadRequest_whenSortUnknown() {
+        assertThrows(BadRequestException.class,
+            () -> playerService.getAll(null, null, "salary", "asc"));
+        assertThrows(BadRequestException.class,
+            () -> playerService.getAll(null, null, "id", "sideways"));
+    }
+
+    @Test
+    void getByIds_shouldReturnPlayersFromReadRepository() {
+        List<Player> players = List.of(new Player(1, "Lebron", "James"));
+        when(playerReadRepository.findByIds(List.of(1, 7))).thenReturn(players);
+
+        assertEquals(players, playerService.getByIds(List.of(1, 7)));
+    }
+
+    @Test
+    void getByIds_shouldSkipQuery_whenIdsEmpty() {
+        assertEquals(List.of(), playerService.getByIds(List.of()));
+        verify(playerReadRepository, never()).findByIds(any());
+    }
+
+    @Test
+    void getByIds_shouldThrowBadRequest_whenTooManyIdsRequested() {
+        List<Integer> ids = IntStream.rangeClosed(1, PlayerService.MAX_IDS + 1).boxed().toList();
+
+        assertThrows(BadRequestException.class, () -> playerService.getByIds(ids));
+    }
+
+    @Test
+    void search_shouldQueryLowerCasedText() {
+        List<Player> players = List.of(new Player(1, "Lebron", "James"));
+        when(playerReadRepository.search("lebron", 5)).thenReturn(players);
+
+        assertEquals(players, playerService.search("  LeBron ", 5));
+    }
+
+    @Test
+    void search_shouldThrowBadRequest_whenQueryBlank() {
+        assertThrows(BadRequestException.class, () -> playerService.search(" ", 5));
+        verify(playerReadRepository, never()).search(any(), anyInt());
+    }
+
+    @Test
+    void suggest_shouldUseNameIndex() {
+        List<Player> players = List.of(new Player(1, "Lebron", "James"));
+        when(playerNameIndex.suggest("leb", 10)).thenReturn(players);
+
+        assertEquals(players, playerService.suggest("leb", 10));
+    }
+
+    @Test
+    void suggest_shouldThrowBadRequest_whenLimitOutOfRange() {
+        assertThrows(BadRequestException.class,
+            () -> playerService.suggest("leb", PlayerService.MAX_SEARCH_RESULTS + 1));
+        assertThrows(BadRequestException.class, () -> playerService.suggest("leb", 0));
+    }
+
+    @Test
+    void getById_shouldThrow_whenPlayerNotFound() {
+        when(playerRepository.findById(99)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> playerService.getById(99));
+    }
+
+    @Test
+    void getById_shouldReturnPlayer_whenPlayerExists() {
+        when(playerRepository.findById(1)).thenReturn(Optional.of(lebron()));
+
+        assertEquals("Lebron", playerService.getById(1).getFirstName());
+    }
+
+    @Test
+    void create_shouldResolveTeam_andSavePlayer() {
+        when(teamRepository.findById(5)).thenReturn(Optional.of(LAKERS));
+        when(playerRepository.save(any())).thenReturn(lebron());
+
+        Player result = playerService.create(
+            new Player(0, "Lebron", "James").teamId(5).position("Power Forward"));
+
+        assertEquals(1, result.getId());
+        assertEquals(5, result.getTeamId());
+        verify(playerNameIndex).put(result);
+        verify(changeRepository).record(ResourceEnum.PLAYER, 1, OperationEnum.UPSERT);
+    }
+
+    @Test
+    void create_shouldSavePlayerWithoutTeam_whenTeamIdIsMissing() {
+        when(playerRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Player result = playerService.create(new Player(0, "Free", "Agent"));
+
+        assertNull(result.getTeamId());
+    }
+
+    @Test
+    void create_shouldThrow_whenTeamNotFound() {
+        when(teamRepository.findById(42)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class,
+            () -> playerService.create(new Player(0, "Lebron", "James").teamId(42)));
+        verify(playerRepository, never()).save(any());
+    }
+
+    @Test
+    void update_shouldApplyNewValues() {
+        PlayerEntity entity = lebron();
+        when(playerRepository.findById(1)).thenReturn(Optional.of(entity));
+        when(teamRepository.findById(5)).thenReturn(Optional.of(LAKERS));
+
+        Player result = playerService.update(1, new Player(9, "Lebron", "James").teamId(5).age(41));
+
+        assertEquals(1, result.getId());
+        assertEquals(41, result.getAge());
+        verify(playerNameIndex).put(result);
+        verify(changeRepository).record(ResourceEnum.PLAYER, 1, OperationEnum.UPSERT);
+    }
+
+    @Test
+    void delete_shouldRemovePlayer_whenNoStatsRecorded() {
+        PlayerEntity entity = lebron();
+        when(playerRepository.findById(1)).thenReturn(Optional.of(entity));
+        when(matchParticipantRepository.existsByPlayerId(1)).thenReturn(false);
+
+        playerService.delete(1);
+
+        verify(playerRepository).delete(entity);
+        verify(playerNameIndex).remove(1);
+        verify(changeRepository).record(ResourceEnum.PLAYER, 1, OperationEnum.DELETE);
+    }
+
+    @Test
+    void delete_shouldThrowConflict_whenStatsRecorded() {
+        when(playerRepository.findById(1)).thenReturn(Optional.of(lebron()));
+        when(matchParticipantRepository.existsByPlayerId(1)).thenReturn(true);
+
+        assertThrows(ConflictException.class, () -> playerService.delete(1));
+    }
+
+    private static PlayerEntity lebron() {
+        return PlayerEntity.builder()
+            .id(1)
+            .team(LAKERS)
+            .firstName("Lebron")
+            .lastName("James")
+            .position("Power Forward")
+            .age(40)
+            .build();
+    }
+}
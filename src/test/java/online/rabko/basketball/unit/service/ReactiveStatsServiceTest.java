@@ -0,0 +1,216 @@
+package online.rabko.basketball.unit.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import online.rabko.basketball.enums.PlayerStatsMetric;
+import online.rabko.basketball.exception.BadRequestException;
+import online.rabko.basketball.exception.NotFoundException;
+import online.rabko.basketball.repository.ReactiveStatsReadRepository;
+import online.rabko.basketball.repository.SeasonArchiveRepository;
+import online.rabko.basketball.service.ReactiveStatsService;
+import online.rabko.basketball.service.StatsService;
+import online.rabko.model.Match;
+import online.rabko.model.PlayerPercentiles;
+import online.rabko.model.PlayerStats;
+import online.rabko.model.PlayerStatsStats;
+import online.rabko.model.PlayerStatsSummary;
+import online.rabko.model.StatDistribution;
+import online.rabko.model.TeamStats;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit tests for {@link ReactiveStatsService}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReactiveStatsServiceTest {
+
+    private static final LocalDate AS_OF = LocalDate.of(2023, 12, 31);
+    private static final PlayerStats STATS = new PlayerStats(3, 10, 23, 1,
+        new PlayerStatsStats().points(25));
+    private static final TeamStats TEAM_STATS = new TeamStats(1, "Lakers")
+        .winRate(new BigDecimal("0.75"));
+    private static final Match MATCH = new Match(10, 1, LocalDate.of(2023, 11, 15), 1, 2);
+    private static final PlayerStatsSummary SUMMARY = new PlayerStatsSummary(23, 5,
+        new PlayerStatsStats().points(120));
+
+    @Mock
+    private ReactiveStatsReadRepository reactiveStatsReadRepository;
+
+    @Mock
+    private SeasonArchiveRepository seasonArchiveRepository;
+
+    @Mock
+    private StatsService statsService;
+
+    @InjectMocks
+    private ReactiveStatsService reactiveStatsService;
+
+    @Test
+    void getById_shouldReturnRecord() {
+        when(reactiveStatsReadRepository.findById(3)).thenReturn(Mono.just(STATS));
+
+        assertEquals(STATS, reactiveStatsService.getById(3).block());
+    }
+
+    @Test
+    void getById_shouldFail_whenNotFound() {
+        when(reactiveStatsReadRepository.findById(3)).thenReturn(Mono.empty());
+
+        Mono<PlayerStats> stats = reactiveStatsService.getById(3);
+
+        assertThrows(NotFoundException.class, stats::block);
+    }
+
+    @Test
+    void getLeaders_shouldReadDatabase_whenSeasonIsNotArchived() {
+        when(seasonArchiveRepository.exists(1)).thenReturn(false);
+        when(reactiveStatsReadRepository.findLeaders(PlayerStatsMetric.POINTS, 1, AS_OF,
+            StatsService.LEADERBOARD_SIZE)).thenReturn(Flux.just(STATS));
+
+        assertEquals(List.of(STATS),
+            reactiveStatsService.getLeaders(PlayerStatsMetric.POINTS, 1, AS_OF).block());
+        verifyNoInteractions(statsService);
+    }
+
+    @Test
+    void getLeaders_shouldDelegate_whenSeasonIsArchived() {
+        when(seasonArchiveRepository.exists(1)).thenReturn(true);
+        when(statsService.getLeaders(PlayerStatsMetric.POINTS, 1, null))
+            .thenReturn(List.of(STATS));
+
+        assertEquals(List.of(STATS),
+            reactiveStatsService.getLeaders(PlayerStatsMetric.POINTS, 1, null).block());
+        verifyNoInteractions(reactiveStatsReadRepository);
+    }
+
+    @Test
+    void getTeamsByAveragePoints_shouldReadDatabase_forAllSeasons() {
+        when(reactiveStatsReadRepository.findTeamsByAveragePoints(null))
+            .thenReturn(Flux.just(TEAM_STATS));
+
+        assertEquals(List.of(TEAM_STATS),
+            reactiveStatsService.getTeamsByAveragePoints(null, null).block());
+        verifyNoInteractions(seasonArchiveRepository, statsService);
+    }
+
+    @Test
+    void getTeamsByAveragePoints_shouldDelegate_asOfDate() {
+        when(statsService.getTeamsByAveragePoints(null, AS_OF)).thenReturn(List.of(TEAM_STATS));
+
+        assertEquals(List.of(TEAM_STATS),
+            reactiveStatsService.getTeamsByAveragePoints(null, AS_OF).block());
+        verifyNoInteractions(reactiveStatsReadRepository);
+    }
+
+    @Test
+    void getTeamsByWinRate_shouldReadDatabase_whenSeasonIsNotArchived() {
+        when(seasonArchiveRepository.exists(1)).thenReturn(false);
+        when(reactiveStatsReadRepository.findTeamsByWinRate(1)).thenReturn(Flux.just(TEAM_STATS));
+
+        assertEquals(List.of(TEAM_STATS), reactiveStatsService.getTeamsByWinRate(1, null).block());
+    }
+
+    @Test
+    void getTeamsByWinRate_shouldDelegate_whenSeasonIsArchived() {
+        when(seasonArchiveRepository.exists(1)).thenReturn(true);
+        when(statsService.getTeamsByWinRate(1, null)).thenReturn(List.of(TEAM_STATS));
+
+        assertEquals(List.of(TEAM_STATS), reactiveStatsService.getTeamsByWinRate(1, null).block());
+        verifyNoInteractions(reactiveStatsReadRepository);
+    }
+
+    @Test
+    void getHighestScoringMatches_shouldReadDatabase_forAllSeasons() {
+        when(reactiveStatsReadRepository.findHighestScoring(null, StatsService.LEADERBOARD_SIZE))
+            .thenReturn(Flux.just(MATCH));
+
+        assertEquals(List.of(MATCH), reactiveStatsService.getHighestScoringMatches(null).block());
+    }
+
+    @Test
+    void getHighestScoringMatches_shouldDelegate_whenSeasonIsArchived() {
+        when(seasonArchiveRepository.exists(1)).thenReturn(true);
+        when(statsService.getHighestScoringMatches(1)).thenReturn(List.of(MATCH));
+
+        assertEquals(List.of(MATCH), reactiveStatsService.getHighestScoringMatches(1).block());
+        verifyNoInteractions(reactiveStatsReadRepository);
+    }
+
+    @Test
+    void delete_shouldDelegate() {
+        reactiveStatsService.delete(3).block();
+
+        verify(statsService).delete(3);
+    }
+
+    @Test
+    void getRolling_shouldReadDatabase() {
+        when(reactiveStatsReadRepository.existsPlayer(23)).thenReturn(Mono.just(true));
+        when(reactiveStatsReadRepository.findLastGames(23, 5, AS_OF))
+            .thenReturn(Mono.just(SUMMARY));
+
+        assertEquals(SUMMARY, reactiveStatsService.getRolling(23, 5, AS_OF).block());
+        verifyNoInteractions(statsService);
+    }
+
+    @Test
+    void getRolling_shouldFail_whenGamesIsLessThanOne() {
+        Mono<PlayerStatsSummary> summary = reactiveStatsService.getRolling(23, 0, null);
+
+        assertThrows(BadRequestException.class, summary::block);
+        verifyNoInteractions(reactiveStatsReadRepository);
+    }
+
+    @Test
+    void getRolling_shouldFail_whenPlayerNotFound() {
+        when(reactiveStatsReadRepository.existsPlayer(23)).thenReturn(Mono.just(false));
+        when(reactiveStatsReadRepository.findLastGames(23, 5, null))
+            .thenReturn(Mono.just(SUMMARY));
+
+        Mono<PlayerStatsSummary> summary = reactiveStatsService.getRolling(23, 5, null);
+
+        assertThrows(NotFoundException.class, summary::block);
+    }
+
+    @Test
+    void getCareer_shouldReadDatabase_forWholeCareer() {
+        when(reactiveStatsReadRepository.existsPlayer(23)).thenReturn(Mono.just(true));
+        when(reactiveStatsReadRepository.findCareer(23, AS_OF)).thenReturn(Mono.just(SUMMARY));
+
+        assertEquals(SUMMARY, reactiveStatsService.getCareer(23, null, AS_OF).block());
+    }
+
+    @Test
+    void getCareer_shouldReadDatabase_forSeason() {
+        when(reactiveStatsReadRepository.existsPlayer(23)).thenReturn(Mono.just(true));
+        when(reactiveStatsReadRepository.findSeason(23, 1, null)).thenReturn(Mono.just(SUMMARY));
+
+        assertEquals(SUMMARY, reactiveStatsService.getCareer(23, 1, null).block());
+        verifyNoInteractions(statsService);
+    }
+
+    @Test
+    void percentiles_shouldDelegate() {
+        PlayerPercentiles percentiles = new PlayerPercentiles(23, 5, List.of());
+        StatDistribution distribution = new StatDistribution(StatDistribution.MetricEnum.POINTS,
+            0L, BigDecimal.ZERO, List.of());
+        when(statsService.getPercentiles(23, 1)).thenReturn(percentiles);
+        when(statsService.getDistribution("points", 1)).thenReturn(distribution);
+
+        assertEquals(percentiles, reactiveStatsService.getPercentiles(23, 1).block());
+        assertEquals(distribution, reactiveStatsService.getDistribution("points", 1).block());
+    }
+}
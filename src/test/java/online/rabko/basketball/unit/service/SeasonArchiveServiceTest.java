@@ -0,0 +1,218 @@
+package online.rabko.basketball.unit.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import online.rabko.basketball.archive.SeasonArchive;
+import online.rabko.basketball.archive.SeasonArchiveWriter;
+import online.rabko.basketball.dto.MatchFilter;
+import online.rabko.basketball.entity.SeasonEntity;
+import online.rabko.basketball.enums.MatchSort;
+import online.rabko.basketball.enums.SortOrder;
+import online.rabko.basketball.exception.BadRequestException;
+import online.rabko.basketball.exception.ConflictException;
+import online.rabko.basketball.exception.NotFoundException;
+import online.rabko.basketball.repository.ChangeRepository;
+import online.rabko.basketball.repository.MatchReadRepository;
+import online.rabko.basketball.repository.PlayerStatSumsRepository;
+import online.rabko.basketball.repository.SeasonArchiveRepository;
+import online.rabko.basketball.repository.SeasonImportRepository;
+import online.rabko.basketball.repository.SeasonPartitionRepository;
+import online.rabko.basketball.repository.SeasonRepository;
+import online.rabko.basketball.repository.StatsReadRepository;
+import online.rabko.basketball.repository.TeamRepository;
+import online.rabko.basketball.repository.TeamStandingSnapshotRepository;
+import online.rabko.basketball.service.SeasonArchiveService;
+import online.rabko.basketball.service.StatsPercentileIndex;
+import online.rabko.model.Change.OperationEnum;
+import online.rabko.model.Match;
+import online.rabko.model.PlayerStats;
+import online.rabko.model.PlayerStatsStats;
+import online.rabko.model.Season;
+import online.rabko.model.SeasonArchiveInfo;
+import online.rabko.model.Team;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * Unit tests for {@link SeasonArchiveService}.
+ */
+@ExtendWith(MockitoExtension.class)
+class SeasonArchiveServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2023, 10, 1);
+    private static final LocalDate END = LocalDate.of(2024, 4, 30);
+    private static final Match MATCH = new Match(10, 1, LocalDate.of(2023, 11, 1), 1, 2)
+        .homeTeamScore(100).awayTeamScore(90);
+    private static final PlayerStats STATS = new PlayerStats(100, 10, 23, 1,
+        new PlayerStatsStats().points(25));
+
+    @Mock
+    private SeasonRepository seasonRepository;
+
+    @Mock
+    private MatchReadRepository matchReadRepository;
+
+    @Mock
+    private StatsReadRepository statsReadRepository;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private SeasonPartitionRepository seasonPartitionRepository;
+
+    @Mock
+    private SeasonImportRepository seasonImportRepository;
+
+    @Mock
+    private SeasonArchiveRepository seasonArchiveRepository;
+
+    @Mock
+    private ChangeRepository changeRepository;
+
+    @Mock
+    private PlayerStatSumsRepository playerStatSumsRepository;
+
+    @Mock
+    private StatsPercentileIndex statsPercentileIndex;
+
+    @Mock
+    private TeamStandingSnapshotRepository teamStandingSnapshotRepository;
+
+    @Mock
+    private SeasonArchive archive;
+
+    @InjectMocks
+    private SeasonArchiveService seasonArchiveService;
+
+    @Captor
+    private ArgumentCaptor<SeasonArchiveWriter> writer;
+
+    @Test
+    void archive_shouldWriteSeason_andReplacePartitions() {
+        when(seasonRepository.findById(1))
+            .thenReturn(Optional.of(new SeasonEntity(1, "2023-24", START, END)));
+        when(matchReadRepository.findAll(
+            new MatchFilter(1, null, null, null, MatchSort.ID, SortOrder.ASC)))
+            .thenReturn(List.of(MATCH));
+        when(teamRepository.findTeamsByIds(Set.of(1, 2)))
+            .thenReturn(List.of(new Team(1, "Lakers"), new Team(2, "Celtics")));
+        doAnswer(invocation -> {
+            invocation.<Consumer<PlayerStats>>getArgument(1).accept(STATS);
+            return null;
+        }).when(statsReadRepository).forEachInSeason(anyInt(), any());
+        when(seasonArchiveRepository.save(any())).thenReturn(archive);
+        when(playerStatSumsRepository.findDatesBySeason(1)).thenReturn(Map.of(23, START));
+        stubArchive();
+
+        SeasonArchiveInfo result = seasonArchiveService.archive(1);
+
+        assertEquals(new SeasonArchiveInfo(1, 1, 1, 256L), result);
+        verify(seasonArchiveRepository).save(writer.capture());
+        assertEquals(1, writer.getValue().getMatchCount());
+        assertEquals(1, writer.getValue().getBoxScoreCount());
+        InOrder order = inOrder(seasonPartitionRepository, seasonArchiveRepository,
+            changeRepository, playerStatSumsRepository);
+        order.verify(seasonPartitionRepository).lock(1);
+        order.verify(seasonArchiveRepository).save(any());
+        order.verify(changeRepository).recordSeasonMatches(1, OperationEnum.DELETE);
+        order.verify(playerStatSumsRepository).findDatesBySeason(1);
+        order.verify(seasonPartitionRepository).drop(1);
+        order.verify(seasonPartitionRepository).create(1);
+        order.verify(playerStatSumsRepository).refresh(Map.of(23, START));
+    }
+
+    @Test
+    void archive_shouldThrow_whenSeasonNotFound() {
+        when(seasonRepository.findById(99)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> seasonArchiveService.archive(99));
+    }
+
+    @Test
+    void archive_shouldThrowBadRequest_whenSeasonHasNotEnded() {
+        LocalDate today = LocalDate.now();
+        when(seasonRepository.findById(1)).thenReturn(
+            Optional.of(new SeasonEntity(1, "current", today.minusMonths(1), today)));
+
+        assertThrows(BadRequestException.class, () -> seasonArchiveService.archive(1));
+        verify(seasonPartitionRepository, never()).drop(any());
+    }
+
+    @Test
+    void archive_shouldThrowConflict_whenSeasonIsArchived() {
+        when(seasonRepository.findById(1))
+            .thenReturn(Optional.of(new SeasonEntity(1, "2023-24", START, END)));
+        when(seasonArchiveRepository.exists(1)).thenReturn(true);
+
+        assertThrows(ConflictException.class, () -> seasonArchiveService.archive(1));
+        verify(seasonArchiveRepository, never()).save(any());
+    }
+
+    @Test
+    void restore_shouldInsertRows_andDeleteArchive() {
+        when(seasonArchiveRepository.find(1)).thenReturn(Optional.of(archive));
+        when(archive.getMatches()).thenReturn(List.of(MATCH));
+        when(archive.getBoxScores()).thenReturn(List.of(STATS));
+        when(playerStatSumsRepository.findDatesBySeason(1)).thenReturn(Map.of(23, START));
+        stubArchive();
+
+        SeasonArchiveInfo result = seasonArchiveService.restore(1);
+
+        assertEquals(1, result.getSeasonId());
+        verify(seasonImportRepository).insertMatches(List.of(MATCH));
+        verify(seasonImportRepository).insertBoxScores(1, List.of(STATS));
+        verify(playerStatSumsRepository).refresh(Map.of(23, START));
+        verify(changeRepository).recordSeasonMatches(1, OperationEnum.UPSERT);
+        verify(seasonArchiveRepository).delete(1);
+    }
+
+    @Test
+    void restore_shouldThrow_whenSeasonIsNotArchived() {
+        when(seasonArchiveRepository.find(1)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> seasonArchiveService.restore(1));
+    }
+
+    @Test
+    void restore_shouldThrowConflict_andKeepArchive_whenRowsClash() {
+        when(seasonArchiveRepository.find(1)).thenReturn(Optional.of(archive));
+        when(archive.getMatches()).thenReturn(List.of(MATCH));
+        doThrow(new DataIntegrityViolationException("duplicate key"))
+            .when(seasonImportRepository).insertMatches(any());
+
+        assertThrows(ConflictException.class, () -> seasonArchiveService.restore(1));
+        verify(seasonArchiveRepository, never()).delete(any());
+        verifyNoInteractions(changeRepository);
+    }
+
+    private void stubArchive() {
+        when(archive.getSeason()).thenReturn(new Season(1, "2023-24", START, END));
+        when(archive.getMatchCount()).thenReturn(1);
+        when(archive.getBoxScoreCount()).thenReturn(1);
+        when(archive.getSize()).thenReturn(256L);
+    }
+}
@@ -0,0 +1,169 @@
+package online.rabko.basketball.unit.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import online.rabko.basketball.entity.SeasonEntity;
+import online.rabko.basketball.exception.BadRequestException;
+import online.rabko.basketball.exception.ConflictException;
+import online.rabko.basketball.exception.NotFoundException;
+import online.rabko.basketball.repository.ChangeRepository;
+import online.rabko.basketball.repository.MatchRepository;
+import online.rabko.basketball.repository.SeasonArchiveRepository;
+import online.rabko.basketball.repository.SeasonPartitionRepository;
+import online.rabko.basketball.repository.SeasonRepository;
+import online.rabko.basketball.service.SeasonService;
+import online.rabko.model.Change.OperationEnum;
+import online.rabko.model.Change.ResourceEnum;
+import online.rabko.model.Season;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for {@link SeasonService}.
+ */
+@ExtendWith(MockitoExtension.class)
+class SeasonServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2023, 10, 1);
+    private static final LocalDate END = LocalDate.of(2024, 4, 30);
+
+    @Mock
+    private SeasonRepository seasonRepository;
+
+    @Mock
+    private MatchRepository matchRepository;
+
+    @Mock
+    private SeasonPartitionRepository seasonPartitionRepository;
+
+    @Mock
+    private SeasonArchiveRepository seasonArchiveRepository;
+
+    @Mock
+    private ChangeRepository changeRepository;
+
+    @InjectMocks
+    private SeasonService seasonService;
+
+    @Test
+    void getAll_shouldReturnProjectedSeasons() {
+        List<Season> seasons = List.of(new Season(1, "2023-24", START, END));
+        when(seasonRepository.findAllSeasons()).thenReturn(seasons);
+
+        assertEquals(seasons, seasonService.getAll());
+    }
+
+    @Test
+    void getById_shouldThrow_whenSeasonNotFound() {
+        when(seasonRepository.findById(99)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> seasonService.getById(99));
+    }
+
+    @Test
+    void getById_shouldReturnSeason_whenSeasonExists() {
+        when(seasonRepository.findById(1))
+            .thenReturn(Optional.of(new SeasonEntity(1, "2023-24", START, END)));
+
+        assertEquals(new Season(1, "2023-24", START, END), seasonService.getById(1));
+    }
+
+    @Test
+    void create_shouldSaveSeason_whenValid() {
+        when(seasonRepository.findBySimpleNaturalId("2023-24")).thenReturn(Optional.empty());
+        when(seasonRepository.existsByStartDateLessThanEqualAndEndDateGreaterThanEqualAndIdNot(
+            END, START, 0)).thenReturn(false);
+        when(seasonRepository.save(any())).thenReturn(new SeasonEntity(3, "2023-24", START, END));
+
+        Season result = seasonService.create(new Season(0, "2023-24", START, END));
+
+        assertEquals(new Season(3, "2023-24", START, END), result);
+        verify(seasonPartitionRepository).create(3);
+        verify(changeRepository).record(ResourceEnum.SEASON, 3, OperationEnum.UPSERT);
+    }
+
+    @Test
+    void create_shouldThrowBadRequest_whenEndIsBeforeStart() {
+        assertThrows(BadRequestException.class,
+            () -> seasonService.create(new Season(0, "2023-24", END, START)));
+    }
+
+    @Test
+    void create_shouldThrowConflict_whenNameIsTaken() {
+        when(seasonRepository.findBySimpleNaturalId("2023-24"))
+            .thenReturn(Optional.of(new SeasonEntity(1, "2023-24", START, END)));
+
+        assertThrows(ConflictException.class,
+            () -> seasonService.create(new Season(0, "2023-24", START, END)));
+    }
+
+    @Test
+    void create_shouldThrowConflict_whenDatesOverlap() {
+        when(seasonRepository.findBySimpleNaturalId("2023-24")).thenReturn(Optional.empty());
+        when(seasonRepository.existsByStartDateLessThanEqualAndEndDateGreaterThanEqualAndIdNot(
+            END, START, 0)).thenReturn(true);
+
+        assertThrows(ConflictException.class,
+            () -> seasonService.create(new Season(0, "2023-24", START, END)));
+        verify(seasonRepository, never()).save(any());
+    }
+
+    @Test
+    void update_shouldChangeDates_whenNoOtherSeasonOverlaps() {
+        SeasonEntity entity = new SeasonEntity(1, "2023-24", START, END);
+        LocalDate newEnd = END.plusDays(10);
+        when(seasonRepository.findById(1)).thenReturn(Optional.of(entity));
+        when(seasonRepository.findBySimpleNaturalId("2023-24")).thenReturn(Optional.of(entity));
+        when(seasonRepository.existsByStartDateLessThanEqualAndEndDateGreaterThanEqualAndIdNot(
+            newEnd, START, 1)).thenReturn(false);
+
+        Season result = seasonService.update(1, new Season(0, "2023-24", START, newEnd));
+
+        assertEquals(new Season(1, "2023-24", START, newEnd), result);
+        verify(changeRepository).record(ResourceEnum.SEASON, 1, OperationEnum.UPSERT);
+    }
+
+    @Test
+    void delete_shouldRemoveSeason_whenSeasonHasNoMatches() {
+        SeasonEntity entity = new SeasonEntity(1, "2023-24", START, END);
+        when(seasonRepository.findById(1)).thenReturn(Optional.of(entity));
+        when(matchRepository.existsBySeasonId(1)).thenReturn(false);
+
+        seasonService.delete(1);
+
+        verify(seasonRepository).delete(entity);
+        verify(seasonPartitionRepository).drop(1);
+        verify(changeRepository).record(ResourceEnum.SEASON, 1, OperationEnum.DELETE);
+    }
+
+    @Test
+    void delete_shouldThrowConflict_whenSeasonHasMatches() {
+        when(seasonRepository.findById(1))
+            .thenReturn(Optional.of(new SeasonEntity(1, "2023-24", START, END)));
+        when(matchRepository.existsBySeasonId(1)).thenReturn(true);
+
+        assertThrows(ConflictException.class, () -> seasonService.delete(1));
+    }
+
+    @Test
+    void delete_shouldThrowConflict_whenSeasonIsArchived() {
+        when(seasonRepository.findById(1))
+            .thenReturn(Optional.of(new SeasonEntity(1, "2023-24", START, END)));
+        when(matchRepository.existsBySeasonId(1)).thenReturn(false);
+        when(seasonArchiveRepository.exists(1)).thenReturn(true);
+
+        assertThrows(ConflictException.class, () -> seasonService.delete(1));
+        verify(seasonPartitionRepository, never()).drop(1);
+    }
+}
@@ -0,0 +1,122 @@
+package online.rabko.basketball.unit.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.function.Consumer;
+import online.rabko.basketball.enums.PercentileMetric;
+import online.rabko.basketball.repository.SeasonRepository;
+import online.rabko.basketball.repository.StatsReadRepository;
+import online.rabko.basketball.service.StatsPercentileIndex;
+import online.rabko.model.PlayerStatsStats;
+import online.rabko.model.PlayerStatsSummary;
+import online.rabko.model.Season;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for {@link StatsPercentileIndex}.
+ */
+@ExtendWith(MockitoExtension.class)
+class StatsPercentileIndexTest {
+
+    @Mock
+    private SeasonRepository seasonRepository;
+
+    @Mock
+    private StatsReadRepository statsReadRepository;
+
+    @InjectMocks
+    private StatsPercentileIndex statsPercentileIndex;
+
+    private int points = 10;
+
+    @BeforeEach
+    void setUp() {
+        when(seasonRepository.findAllSeasons()).thenReturn(List.of(season(1), season(2)));
+        doAnswer(invocation -> {
+            Consumer<PlayerStatsSummary> action = invocation.getArgument(1);
+            Integer seasonId = invocation.getArgument(0);
+            action.accept(summary(seasonId * points, 0));
+            action.accept(summary(seasonId * points + 1, 4));
+            return null;
+        }).when(statsReadRepository).forEachPlayerInSeason(any(), any());
+        statsPercentileIndex.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void get_shouldReturnSeasonSketch_withPlayersHavingValues() {
+        assertEquals(2, statsPercentileIndex.get(PercentileMetric.POINTS, 1).getCount());
+        assertEquals(20, statsPercentileIndex.get(PercentileMetric.POINTS, 2).quantile(0));
+        assertEquals(1,
+            statsPercentileIndex.get(PercentileMetric.FIELD_GOAL_PERCENTAGE, 1).getCount());
+        verify(statsReadRepository, times(2)).forEachPlayerInSeason(any(), any());
+    }
+
+    @Test
+    void get_shouldMergeSeasons_andKeepMergeUntilSeasonChanges() {
+        assertEquals(4, statsPercentileIndex.get(PercentileMetric.POINTS, null).getCount());
+        assertEquals(21, statsPercentileIndex.get(PercentileMetric.POINTS, null).quantile(1));
+        verify(statsReadRepository, times(2)).forEachPlayerInSeason(any(), any());
+
+        points = 100;
+        statsPercentileIndex.invalidate(2);
+
+        assertEquals(201, statsPercentileIndex.get(PercentileMetric.POINTS, null).quantile(1));
+        assertEquals(10, statsPercentileIndex.get(PercentileMetric.POINTS, null).quantile(0));
+        verify(statsReadRepository, times(2)).forEachPlayerInSeason(eq(2), any());
+    }
+
+    @Test
+    void invalidate_shouldWaitForCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        points = 100;
+
+        statsPercentileIndex.invalidate(1);
+        assertEquals(10, statsPercentileIndex.get(PercentileMetric.POINTS, 1).quantile(0));
+
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(TransactionSynchronization::afterCommit);
+        assertEquals(100, statsPercentileIndex.get(PercentileMetric.POINTS, 1).quantile(0));
+    }
+
+    @Test
+    void invalidateAll_shouldReloadEverySeasonOnRead() {
+        points = 100;
+
+        statsPercentileIndex.invalidateAll();
+
+        assertEquals(100, statsPercentileIndex.get(PercentileMetric.POINTS, null).quantile(0));
+        verify(statsReadRepository, times(4)).forEachPlayerInSeason(any(), any());
+    }
+
+    private static Season season(int id) {
+        return new Season(id, "Season " + id, null, null);
+    }
+
+    private static PlayerStatsSummary summary(int seasonPoints, int attempts) {
+        return new PlayerStatsSummary(23, 1, new PlayerStatsStats().points(seasonPoints)
+            .fieldGoalsMade(attempts / 2).fieldGoalsAttempted(attempts).threePointsMade(0)
+            .threePointsAttempted(0));
+    }
+}
@@ -0,0 +1,358 @@
+package online.rabko.basketball.unit.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import online.rabko.basketball.archive.SeasonArchive;
+import online.rabko.basketball.entity.MatchEntity;
+import online.rabko.basketball.entity.MatchParticipantEntity;
+import online.rabko.basketball.entity.PlayerEntity;
+import online.rabko.basketball.enums.PercentileMetric;
+import online.rabko.basketball.enums.PlayerStatsMetric;
+import online.rabko.basketball.exception.BadRequestException;
+import online.rabko.basketball.exception.NotFoundException;
+import online.rabko.basketball.repository.ChangeRepository;
+import online.rabko.basketball.repository.MatchParticipantRepository;
+import online.rabko.basketball.repository.MatchReadRepository;
+import online.rabko.basketball.repository.PlayerRepository;
+import online.rabko.basketball.repository.PlayerStatSumsRepository;
+import online.rabko.basketball.repository.SeasonArchiveRepository;
+import online.rabko.basketball.repository.StatsReadRepository;
+import online.rabko.basketball.repository.TeamStandingSnapshotRepository;
+import online.rabko.basketball.service.StatsPercentileIndex;
+import online.rabko.basketball.service.StatsService;
+import online.rabko.basketball.sketch.KllSketch;
+import online.rabko.model.Change.OperationEnum;
+import online.rabko.model.Change.ResourceEnum;
+import online.rabko.model.Match;
+import online.rabko.model.PercentileRank;
+import online.rabko.model.PercentileRank.MetricEnum;
+import online.rabko.model.PlayerPercentiles;
+import online.rabko.model.PlayerStats;
+import online.rabko.model.PlayerStatsStats;
+import online.rabko.model.PlayerStatsSummary;
+import online.rabko.model.StatDistribution;
+import online.rabko.model.TeamStats;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for {@link StatsService}.
+ */
+@ExtendWith(MockitoExtension.class)
+class StatsServiceTest {
+
+    private static final PlayerStats STATS = new PlayerStats(3, 10, 23, 1,
+        new PlayerStatsStats().points(25));
+    private static final TeamStats TEAM_STATS = new TeamStats(1, "Lakers").totalWins(3);
+
+    @Mock
+    private StatsReadRepository statsReadRepository;
+
+    @Mock
+    private MatchReadRepository matchReadRepository;
+
+    @Mock
+    private MatchParticipantRepository matchParticipantRepository;
+
+    @Mock
+    private SeasonArchiveRepository seasonArchiveRepository;
+
+    @Mock
+    private ChangeRepository changeRepository;
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @Mock
+    private PlayerStatSumsRepository playerStatSumsRepository;
+
+    @Mock
+    private StatsPercentileIndex statsPercentileIndex;
+
+    @Mock
+    private TeamStandingSnapshotRepository teamStandingSnapshotRepository;
+
+    @Mock
+    private SeasonArchive archive;
+
+    @InjectMocks
+    private StatsService statsService;
+
+    @Test
+    void getById_shouldReturnStats_whenRecordExists() {
+        when(statsReadRepository.findById(3)).thenReturn(Optional.of(STATS));
+
+        assertEquals(STATS, statsService.getById(3));
+    }
+
+    @Test
+    void getById_shouldThrow_whenRecordNotFound() {
+        when(statsReadRepository.findById(99)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> statsService.getById(99));
+    }
+
+    @Test
+    void delete_shouldRemoveRecord() {
+        LocalDate date = LocalDate.of(2023, 11, 15);
+        MatchEntity match = new MatchEntity();
+        match.setDate(date);
+        MatchParticipantEntity participant = MatchParticipantEntity.builder().id(3)
+            .match(match).player(PlayerEntity.builder().id(23).build()).build();
+        when(matchParticipantRepository.findById(3)).thenReturn(Optional.of(participant));
+
+        statsService.delete(3);
+
+        InOrder inOrder = inOrder(matchParticipantRepository, playerStatSumsRepository);
+        inOrder.verify(matchParticipantRepository).delete(participant);
+        inOrder.verify(matchParticipantRepository).flush();
+        inOrder.verify(playerStatSumsRepository).refresh(Map.of(23, date));
+        verify(changeRepository).record(ResourceEnum.BOX_SCORE, 3, OperationEnum.DELETE);
+    }
+
+    @Test
+    void delete_shouldThrow_whenRecordNotFound() {
+        when(matchParticipantRepository.findById(99)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> statsService.delete(99));
+        verify(matchParticipantRepository, never()).delete(any());
+    }
+
+    @Test
+    void getRolling_shouldReadLastGames_whenPlayerExists() {
+        PlayerStatsSummary summary = new PlayerStatsSummary(23, 5, new PlayerStatsStats());
+        when(playerRepository.existsById(23)).thenReturn(true);
+        when(playerStatSumsRepository.findLastGames(23, 5, null)).thenReturn(summary);
+
+        assertEquals(summary, statsService.getRolling(23, 5, null));
+    }
+
+    @Test
+    void getRolling_shouldThrowBadRequest_whenGamesNotPositive() {
+        assertThrows(BadRequestException.class, () -> statsService.getRolling(23, 0, null));
+        verifyNoInteractions(playerStatSumsRepository);
+    }
+
+    @Test
+    void getRolling_shouldThrow_whenPlayerNotFound() {
+        when(playerRepository.existsById(99)).thenReturn(false);
+
+        assertThrows(NotFoundException.class, () -> statsService.getRolling(99, 5, null));
+    }
+
+    @Test
+    void getCareer_shouldReadWholeCareer_orOneSeason() {
+        PlayerStatsSummary career = new PlayerStatsSummary(23, 80, new PlayerStatsStats());
+        PlayerStatsSummary season = new PlayerStatsSummary(23, 40, new PlayerStatsStats());
+        when(playerRepository.existsById(23)).thenReturn(true);
+        when(playerStatSumsRepository.findCareer(23, null)).thenReturn(career);
+        when(playerStatSumsRepository.findSeason(23, 1, null)).thenReturn(season);
+
+        assertEquals(career, statsService.getCareer(23, null, null));
+        assertEquals(season, statsService.getCareer(23, 1, null));
+    }
+
+    @Test
+    void getCareer_shouldThrow_whenPlayerNotFound() {
+        when(playerRepository.existsById(99)).thenReturn(false);
+
+        assertThrows(NotFoundException.class, () -> statsService.getCareer(99, null, null));
+    }
+
+    @Test
+    void getPercentiles_shouldRankSeasonValues_andSkipMetricsWithoutAttempts() {
+        KllSketch points = new KllSketch();
+        for (int value = 1; value <= 8; value++) {
+            points.update(value);
+        }
+        KllSketch fieldGoals = new KllSketch();
+        fieldGoals.update(0.25);
+        fieldGoals.update(0.5);
+        fieldGoals.update(0.75);
+        when(playerRepository.existsById(23)).thenReturn(true);
+        when(playerStatSumsRepository.findSeason(23, 1, null)).thenReturn(new PlayerStatsSummary(23,
+            2, new PlayerStatsStats().points(12).fieldGoalsMade(4).fieldGoalsAttempted(8)
+            .threePointsAttempted(0)));
+        when(statsPercentileIndex.get(PercentileMetric.POINTS, 1)).thenReturn(points);
+        when(statsPercentileIndex.get(PercentileMetric.FIELD_GOAL_PERCENTAGE, 1))
+            .thenReturn(fieldGoals);
+
+        PlayerPercentiles percentiles = statsService.getPercentiles(23, 1);
+
+        assertEquals(1, percentiles.getSeasonId());
+        assertEquals(2, percentiles.getGames());
+        assertEquals(List.of(
+            new PercentileRank(MetricEnum.POINTS, new BigDecimal("6.0000"),
+                new BigDecimal("75.00")),
+            new PercentileRank(MetricEnum.FIELD_GOAL_PERCENTAGE, new BigDecimal("0.5000"),
+                new BigDecimal("66.67"))), percentiles.getPercentiles());
+    }
+
+    @Test
+    void getPercentiles_shouldRankCareerAgainstAllSeasons() {
+        when(playerRepository.existsById(23)).thenReturn(true);
+        when(playerStatSumsRepository.findCareer(23, null)).thenReturn(new PlayerStatsSummary(23, 0,
+            new PlayerStatsStats().points(0).fieldGoalsAttempted(0).threePointsAttempted(0)));
+
+        PlayerPercentiles percentiles = statsService.getPercentiles(23, null);
+
+        assertNull(percentiles.getSeasonId());
+        assertTrue(percentiles.getPercentiles().isEmpty());
+        verifyNoInteractions(statsPercentileIndex);
+    }
+
+    @Test
+    void getPercentiles_shouldThrow_whenPlayerNotFound() {
+        when(playerRepository.existsById(99)).thenReturn(false);
+
+        assertThrows(NotFoundException.class, () -> statsService.getPercentiles(99, null));
+    }
+
+    @Test
+    void getDistribution_shouldReturnQuantiles() {
+        KllSketch sketch = new KllSketch();
+        for (int value = 1; value <= 10; value++) {
+            sketch.update(value);
+        }
+        when(statsPercentileIndex.get(PercentileMetric.POINTS, null)).thenReturn(sketch);
+
+        StatDistribution distribution = statsService.getDistribution("points", null);
+
+        assertEquals(10L, distribution.getCount());
+        assertEquals(0, distribution.getRankError().signum());
+        assertEquals(List.of("1.0000", "1.0000", "3.0000", "5.0000", "8.0000", "9.0000",
+                "10.0000"),
+            distribution.getQuantiles().stream().map(q -> q.getValue().toPlainString()).toList());
+        assertEquals(new BigDecimal("0.25"), distribution.getQuantiles().get(2).getQuantile());
+    }
+
+    @Test
+    void getDistribution_shouldBeEmpty_whenSeasonHasNoValues() {
+        when(statsPercentileIndex.get(PercentileMetric.THREE_POINT_PERCENTAGE, 1))
+            .thenReturn(new KllSketch());
+
+        StatDistribution distribution = statsService.getDistribution("three_point_percentage", 1);
+
+        assertEquals(0L, distribution.getCount());
+        assertTrue(distribution.getQuantiles().isEmpty());
+    }
+
+    @Test
+    void getDistribution_shouldThrowBadRequest_whenMetricUnknown() {
+        assertThrows(BadRequestException.class,
+            () -> statsService.getDistribution("rebounds", null));
+        verifyNoInteractions(statsPercentileIndex);
+    }
+
+    @Test
+    void getLeaders_shouldRequestLeaderboardSizedRanking() {
+        when(statsReadRepository.findLeaders(PlayerStatsMetric.ASSISTS, 1,
+            null, StatsService.LEADERBOARD_SIZE)).thenReturn(List.of(STATS));
+
+        assertEquals(List.of(STATS), statsService.getLeaders(PlayerStatsMetric.ASSISTS, 1, null));
+    }
+
+    @Test
+    void getTeamsByAveragePoints_shouldReturnTeamStats() {
+        when(statsReadRepository.findTeamsByAveragePoints(null)).thenReturn(List.of(TEAM_STATS));
+
+        assertEquals(List.of(TEAM_STATS), statsService.getTeamsByAveragePoints(null, null));
+    }
+
+    @Test
+    void getTeamsByWinRate_shouldReturnTeamStats() {
+        when(statsReadRepository.findTeamsByWinRate(1)).thenReturn(List.of(TEAM_STATS));
+
+        assertEquals(List.of(TEAM_STATS), statsService.getTeamsByWinRate(1, null));
+    }
+
+    @Test
+    void getHighestScoringMatches_shouldRequestLeaderboardSizedRanking() {
+        List<Match> matches = List.of(new Match(10, 1, LocalDate.of(2023, 11, 15), 1, 2));
+        when(matchReadRepository.findHighestScoring(1, StatsService.LEADERBOARD_SIZE))
+            .thenReturn(matches);
+
+        assertEquals(matches, statsService.getHighestScoringMatches(1));
+    }
+
+    @Test
+    void getLeaders_shouldReadArchive_whenSeasonIsArchived() {
+        when(seasonArchiveRepository.find(1)).thenReturn(Optional.of(archive));
+        when(archive.findLeaders(PlayerStatsMetric.POINTS, StatsService.LEADERBOARD_SIZE, null))
+            .thenReturn(List.of(STATS));
+
+        assertEquals(List.of(STATS), statsService.getLeaders(PlayerStatsMetric.POINTS, 1, null));
+        verifyNoInteractions(statsReadRepository);
+    }
+
+    @Test
+    void getLeaders_shouldNotLookUpArchive_whenSeasonIsNotGiven() {
+        when(statsReadRepository.findLeaders(PlayerStatsMetric.POINTS, null,
+            null, StatsService.LEADERBOARD_SIZE)).thenReturn(List.of(STATS));
+
+        assertEquals(List.of(STATS), statsService.getLeaders(PlayerStatsMetric.POINTS, null, null));
+        verifyNoInteractions(seasonArchiveRepository);
+    }
+
+    @Test
+    void getTeamStats_shouldReadArchive_whenSeasonIsArchived() {
+        when(seasonArchiveRepository.find(1)).thenReturn(Optional.of(archive));
+        when(archive.findTeamsByAveragePoints(null)).thenReturn(List.of(TEAM_STATS));
+        when(archive.findTeamsByWinRate(null)).thenReturn(List.of(TEAM_STATS));
+
+        assertEquals(List.of(TEAM_STATS), statsService.getTeamsByAveragePoints(1, null));
+        assertEquals(List.of(TEAM_STATS), statsService.getTeamsByWinRate(1, null));
+        verifyNoInteractions(statsReadRepository);
+    }
+
+    @Test
+    void getTeamStats_shouldReadSnapshots_whenAsOfGiven() {
+        final LocalDate asOf = LocalDate.of(2023, 12, 31);
+        when(teamStandingSnapshotRepository.findTeamsByAveragePoints(1, asOf))
+            .thenReturn(List.of(TEAM_STATS));
+        when(teamStandingSnapshotRepository.findTeamsByWinRate(null, asOf))
+            .thenReturn(List.of(TEAM_STATS));
+
+        assertEquals(List.of(TEAM_STATS), statsService.getTeamsByAveragePoints(1, asOf));
+        assertEquals(List.of(TEAM_STATS), statsService.getTeamsByWinRate(null, asOf));
+        verifyNoInteractions(statsReadRepository);
+    }
+
+    @Test
+    void getTeamStats_shouldPassAsOfToArchive_whenSeasonIsArchived() {
+        final LocalDate asOf = LocalDate.of(2023, 12, 31);
+        when(seasonArchiveRepository.find(1)).thenReturn(Optional.of(archive));
+        when(archive.findTeamsByWinRate(asOf)).thenReturn(List.of(TEAM_STATS));
+
+        assertEquals(List.of(TEAM_STATS), statsService.getTeamsByWinRate(1, asOf));
+        verifyNoInteractions(teamStandingSnapshotRepository);
+    }
+
+    @Test
+    void getHighestScoringMatches_shouldReadArchive_whenSeasonIsArchived() {
+        List<Match> matches = List.of(new Match(10, 1, LocalDate.of(2023, 11, 15), 1, 2));
+        when(seasonArchiveRepository.find(1)).thenReturn(Optional.of(archive));
+        when(archive.findHighestScoring(StatsService.LEADERBOARD_SIZE)).thenReturn(matches);
+
+        assertEquals(matches, statsService.getHighestScoringMatches(1));
+        verifyNoInteractions(matchReadRepository);
+    }
+}
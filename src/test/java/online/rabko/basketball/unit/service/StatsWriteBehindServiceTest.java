@@ -0,0 +1,301 @@
+package online.rabko.basketball.unit.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import online.rabko.basketball.config.StatsWriteBehindProperties;
+import online.rabko.basketball.dto.BoxScoreKey;
+import online.rabko.basketball.dto.BoxScoreWrite;
+import online.rabko.basketball.exception.NotFoundException;
+import online.rabko.basketball.exception.ServiceUnavailableException;
+import online.rabko.basketball.repository.BoxScoreWriteRepository;
+import online.rabko.basketball.repository.ChangeRepository;
+import online.rabko.basketball.repository.PlayerStatSumsRepository;
+import online.rabko.basketball.service.MatchService;
+import online.rabko.basketball.service.StatsPercentileIndex;
+import online.rabko.basketball.service.StatsWriteBehindService;
+import online.rabko.basketball.wal.WriteAheadLog;
+import online.rabko.model.Change.OperationEnum;
+import online.rabko.model.Change.ResourceEnum;
+import online.rabko.model.PlayerStats;
+import online.rabko.model.PlayerStatsStats;
+import online.rabko.model.StatsSubmission;
+import online.rabko.model.StatsSubmission.StatusEnum;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Unit tests for {@link StatsWriteBehindService}.
+ */
+@ExtendWith(MockitoExtension.class)
+class StatsWriteBehindServiceTest {
+
+    private static final long TIMEOUT_MILLIS = 5_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    private Path directory;
+
+    @Mock
+    private MatchService matchService;
+
+    @Mock
+    private BoxScoreWriteRepository boxScoreWriteRepository;
+
+    @Mock
+    private ChangeRepository changeRepository;
+
+    @Mock
+    private PlayerStatSumsRepository playerStatSumsRepository;
+
+    @Mock
+    private StatsPercentileIndex statsPercentileIndex;
+
+    private StatsWriteBehindProperties properties;
+
+    private StatsWriteBehindService service;
+
+    @BeforeEach
+    void setUp() {
+        properties = new StatsWriteBehindProperties();
+        properties.setDirectory(directory);
+        properties.setPartitions(1);
+        properties.setRetryDelay(Duration.ofMillis(10));
+        service = new StatsWriteBehindService(properties, matchService, boxScoreWriteRepository,
+            changeRepository, playerStatSumsRepository, statsPercentileIndex,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)), objectMapper);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.stop();
+    }
+
+    @Test
+    void submit_shouldRecordStats_andTrackSubmission() throws Exception {
+        when(matchService.validateStats(eq(10), any())).thenReturn(1);
+        when(boxScoreWriteRepository.upsert(anyList()))
+            .thenReturn(Map.of(new BoxScoreKey(10, 23), 5));
+        service.start();
+
+        StatsSubmission queued = service.submit(10, stats(23, 25));
+
+        assertEquals(StatusEnum.QUEUED, queued.getStatus());
+        StatsSubmission recorded = await(queued.getTrackingId());
+        assertEquals(StatusEnum.RECORDED, recorded.getStatus());
+        assertEquals(5, recorded.getStatsId());
+        verify(changeRepository).record(eq(ResourceEnum.BOX_SCORE),
+            argThat((Collection<Integer> ids) -> List.copyOf(ids).equals(List.of(5))),
+            eq(OperationEnum.UPSERT));
+        verify(playerStatSumsRepository).findDatesByBoxScores(
+            argThat((Collection<Integer> ids) -> List.copyOf(ids).equals(List.of(5))));
+        verify(playerStatSumsRepository).refresh(any());
+        verify(boxScoreWriteRepository).saveCheckpoint(any(UUID.class), eq(0), eq(1L));
+    }
+
+    @Test
+    void submit_shouldThrowServiceUnavailable_whenNotStarted() {
+        when(matchService.validateStats(eq(10), any())).thenReturn(1);
+
+        assertThrows(ServiceUnavailableException.class, () -> service.submit(10, stats(23, 25)));
+    }
+
+    @Test
+    void submit_shouldThrowServiceUnavailable_whenQueueIsFull() {
+        properties.setCapacity(0);
+        when(matchService.validateStats(eq(10), any())).thenReturn(1);
+        service.start();
+
+        assertThrows(ServiceUnavailableException.class, () -> service.submit(10, stats(23, 25)));
+        assertTrue(service.isRunning());
+    }
+
+    @Test
+    void getSubmission_shouldThrowNotFound_whenUnknown() {
+        UUID trackingId = UUID.randomUUID();
+
+        assertThrows(NotFoundException.class, () -> service.getSubmission(trackingId));
+    }
+
+    @Test
+    void getSubmission_shouldForgetOldestSubmission_whenTrackingLimitReached() throws Exception {
+        properties.setTrackedSubmissions(1);
+        BoxScoreWrite first = write(23, 10);
+        BoxScoreWrite second = write(24, 4);
+        writeLog(first, second);
+        when(boxScoreWriteRepository.upsert(anyList()))
+            .thenReturn(Map.of(new BoxScoreKey(10, 23), 5, new BoxScoreKey(10, 24), 6));
+
+        service.start();
+
+        assertThrows(NotFoundException.class, () -> service.getSubmission(first.trackingId()));
+        assertEquals(6, await(second.trackingId()).getStatsId());
+    }
+
+    @Test
+    void start_shouldReplaySubmissionsAfterCheckpoint() throws Exception {
+        BoxScoreWrite recorded = write(23, 10);
+        BoxScoreWrite pending = write(23, 25);
+        writeLog(recorded, pending);
+        when(boxScoreWriteRepository.findCheckpoint(any(UUID.class), eq(0))).thenReturn(1L);
+        when(boxScoreWriteRepository.upsert(List.of(pending)))
+            .thenReturn(Map.of(new BoxScoreKey(10, 23), 5));
+
+        service.start();
+
+        assertEquals(StatusEnum.RECORDED, await(pending.trackingId()).getStatus());
+        assertThrows(NotFoundException.class, () -> service.getSubmission(recorded.trackingId()));
+        verify(boxScoreWriteRepository).upsert(List.of(pending));
+    }
+
+    @Test
+    void start_shouldKeepLogId_acrossRestarts() throws Exception {
+        service.start();
+        service.stop();
+        String logId = Files.readString(directory.resolve("log-id"));
+
+        service.start();
+
+        assertEquals(logId, Files.readString(directory.resolve("log-id")));
+        verify(boxScoreWriteRepository, times(2))
+            .findCheckpoint(UUID.fromString(logId), 0);
+    }
+
+    @Test
+    void writer_shouldRecordLatestSubmissionOfPlayer_whenBatched() throws Exception {
+        BoxScoreWrite replaced = write(23, 10);
+        BoxScoreWrite latest = write(23, 25);
+        writeLog(replaced, latest);
+        when(boxScoreWriteRepository.upsert(List.of(latest)))
+            .thenReturn(Map.of(new BoxScoreKey(10, 23), 5));
+
+        service.start();
+
+        assertEquals(5, await(replaced.trackingId()).getStatsId());
+        assertEquals(5, await(latest.trackingId()).getStatsId());
+        verify(boxScoreWriteRepository).saveCheckpoint(any(UUID.class), eq(0), eq(2L));
+    }
+
+    @Test
+    void writer_shouldMarkSubmissionFailed_whenItViolatesConstraint() throws Exception {
+        BoxScoreWrite failing = write(23, 10);
+        BoxScoreWrite valid = write(24, 4);
+        writeLog(failing, valid);
+        when(boxScoreWriteRepository.upsert(List.of(failing, valid)))
+            .thenThrow(new DataIntegrityViolationException("fk"));
+        when(boxScoreWriteRepository.upsert(List.of(failing)))
+            .thenThrow(new DataIntegrityViolationException("fk"));
+        when(boxScoreWriteRepository.upsert(List.of(valid)))
+            .thenReturn(Map.of(new BoxScoreKey(10, 24), 6));
+
+        service.start();
+
+        StatsSubmission failed = await(failing.trackingId());
+        assertEquals(StatusEnum.FAILED, failed.getStatus());
+        assertTrue(failed.getError().contains("no longer exists"));
+        assertEquals(6, await(valid.trackingId()).getStatsId());
+        verify(boxScoreWriteRepository).saveCheckpoint(any(UUID.class), eq(0), eq(1L));
+        verify(boxScoreWriteRepository).saveCheckpoint(any(UUID.class), eq(0), eq(2L));
+    }
+
+    @Test
+    void writer_shouldRetryBatch_whenDatabaseIsUnavailable() throws Exception {
+        BoxScoreWrite write = write(23, 10);
+        writeLog(write);
+        when(boxScoreWriteRepository.upsert(List.of(write)))
+            .thenThrow(new TransientDataAccessResourceException("down"))
+            .thenReturn(Map.of(new BoxScoreKey(10, 23), 5));
+
+        service.start();
+
+        assertEquals(StatusEnum.RECORDED, await(write.trackingId()).getStatus());
+        verify(boxScoreWriteRepository, times(2)).upsert(List.of(write));
+    }
+
+    @Test
+    void stop_shouldLeaveSubmissionsInLog_whenDatabaseIsUnavailable() throws Exception {
+        BoxScoreWrite write = write(23, 10);
+        writeLog(write);
+        when(boxScoreWriteRepository.upsert(List.of(write)))
+            .thenThrow(new TransientDataAccessResourceException("down"));
+        service.start();
+
+        service.stop();
+
+        assertFalse(service.isRunning());
+        verify(boxScoreWriteRepository, never()).saveCheckpoint(any(UUID.class), anyInt(),
+            anyLong());
+        assertEquals(List.of(write), readLog());
+    }
+
+    private StatsSubmission await(UUID trackingId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        StatsSubmission submission = service.getSubmission(trackingId);
+        while (submission.getStatus() == StatusEnum.QUEUED
+            && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            submission = service.getSubmission(trackingId);
+        }
+        return submission;
+    }
+
+    private void writeLog(BoxScoreWrite... writes) throws IOException {
+        try (WriteAheadLog wal = WriteAheadLog.open(directory.resolve("stats-0.wal"))) {
+            for (BoxScoreWrite write : writes) {
+                wal.append(objectMapper.writeValueAsBytes(write), sequence -> {});
+            }
+        }
+    }
+
+    private List<BoxScoreWrite> readLog() throws IOException {
+        try (WriteAheadLog wal = WriteAheadLog.open(directory.resolve("stats-0.wal"))) {
+            List<BoxScoreWrite> writes = new ArrayList<>();
+            for (WriteAheadLog.Record record : wal.getRecovered()) {
+                writes.add(objectMapper.readValue(record.payload(), BoxScoreWrite.class));
+            }
+            return writes;
+        }
+    }
+
+    private static BoxScoreWrite write(int playerId, int points) {
+        return new BoxScoreWrite(UUID.randomUUID(), 10, 1, playerId, 1,
+            new PlayerStatsStats().points(points));
+    }
+
+    private static PlayerStats stats(int playerId, int points) {
+        return new PlayerStats(0, 0, playerId, 1, new PlayerStatsStats().points(points));
+    }
+}
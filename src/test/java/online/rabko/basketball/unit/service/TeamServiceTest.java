@@ -0,0 +1,160 @@
+package online.rabko.basketball.unit.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import online.rabko.basketball.entity.TeamEntity;
+import online.rabko.basketball.exception.BadRequestException;
+import online.rabko.basketball.exception.ConflictException;
+import online.rabko.basketball.exception.NotFoundException;
+import online.rabko.basketball.repository.ChangeRepository;
+import online.rabko.basketball.repository.MatchRepository;
+import online.rabko.basketball.repository.PlayerRepository;
+import online.rabko.basketball.repository.TeamRepository;
+import online.rabko.basketball.service.TeamService;
+import online.rabko.model.Change.OperationEnum;
+import online.rabko.model.Change.ResourceEnum;
+import online.rabko.model.Team;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for {@link TeamService}.
+ */
+@ExtendWith(MockitoExtension.class)
+class TeamServiceTest {
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @Mock
+    private MatchRepository matchRepository;
+
+    @Mock
+    private ChangeRepository changeRepository;
+
+    @InjectMocks
+    private TeamService teamService;
+
+    @Test
+    void getAll_shouldReturnProjectedTeams() {
+        List<Team> teams = List.of(new Team(1, "Lakers"), new Team(2, "Celtics"));
+        when(teamRepository.findAllTeams()).thenReturn(teams);
+
+        assertEquals(teams, teamService.getAll());
+    }
+
+    @Test
+    void getByIds_shouldReturnProjectedTeams() {
+        List<Team> teams = List.of(new Team(1, "Lakers"));
+        when(teamRepository.findTeamsByIds(List.of(1, 7))).thenReturn(teams);
+
+        assertEquals(teams, teamService.getByIds(List.of(1, 7)));
+    }
+
+    @Test
+    void getByIds_shouldSkipQuery_whenIdsEmpty() {
+        assertEquals(List.of(), teamService.getByIds(List.of()));
+        verify(teamRepository, never()).findTeamsByIds(any());
+    }
+
+    @Test
+    void getByIds_shouldThrowBadRequest_whenTooManyIdsRequested() {
+        List<Integer> ids = IntStream.rangeClosed(1, TeamService.MAX_IDS + 1).boxed().toList();
+
+        assertThrows(BadRequestException.class, () -> teamService.getByIds(ids));
+    }
+
+    @Test
+    void getById_shouldReturnTeam_whenTeamExists() {
+        when(teamRepository.findById(1)).thenReturn(Optional.of(new TeamEntity(1, "Lakers")));
+
+        assertEquals(new Team(1, "Lakers"), teamService.getById(1));
+    }
+
+    @Test
+    void getById_shouldThrow_whenTeamNotFound() {
+        when(teamRepository.findById(99)).thenReturn(Optional.empty());
+
+        NotFoundException ex = assertThrows(NotFoundException.class, () -> teamService.getById(99));
+        assertEquals("Team with id 99 not found", ex.getMessage());
+    }
+
+    @Test
+    void create_shouldSaveTeam_whenNameIsFree() {
+        when(teamRepository.findBySimpleNaturalId("Lakers")).thenReturn(Optional.empty());
+        when(teamRepository.save(any())).thenReturn(new TeamEntity(7, "Lakers"));
+
+        Team result = teamService.create(new Team(0, "Lakers"));
+
+        assertEquals(new Team(7, "Lakers"), result);
+        verify(changeRepository).record(ResourceEnum.TEAM, 7, OperationEnum.UPSERT);
+    }
+
+    @Test
+    void create_shouldThrowConflict_whenNameIsTaken() {
+        when(teamRepository.findBySimpleNaturalId("Lakers"))
+            .thenReturn(Optional.of(new TeamEntity(1, "Lakers")));
+
+        assertThrows(ConflictException.class, () -> teamService.create(new Team(0, "Lakers")));
+        verify(teamRepository, never()).save(any());
+    }
+
+    @Test
+    void update_shouldRenameTeam_whenNameBelongsToSameTeam() {
+        TeamEntity entity = new TeamEntity(1, "Lakers");
+        when(teamRepository.findById(1)).thenReturn(Optional.of(entity));
+        when(teamRepository.findBySimpleNaturalId("Lakers")).thenReturn(Optional.of(entity));
+
+        Team result = teamService.update(1, new Team(5, "Lakers"));
+
+        assertEquals(new Team(1, "Lakers"), result);
+        verify(changeRepository).record(ResourceEnum.TEAM, 1, OperationEnum.UPSERT);
+    }
+
+    @Test
+    void update_shouldThrowConflict_whenNameBelongsToAnotherTeam() {
+        when(teamRepository.findById(1)).thenReturn(Optional.of(new TeamEntity(1, "Lakers")));
+        when(teamRepository.findBySimpleNaturalId("Celtics"))
+            .thenReturn(Optional.of(new TeamEntity(2, "Celtics")));
+
+        assertThrows(ConflictException.class, () -> teamService.update(1, new Team(1, "Celtics")));
+    }
+
+    @Test
+    void delete_shouldRemoveTeam_whenTeamIsUnused() {
+        TeamEntity entity = new TeamEntity(1, "Lakers");
+        when(teamRepository.findById(1)).thenReturn(Optional.of(entity));
+        when(playerRepository.existsByTeamId(1)).thenReturn(false);
+        when(matchRepository.existsByHomeTeamIdOrAwayTeamId(1, 1)).thenReturn(false);
+
+        teamService.delete(1);
+
+        verify(teamRepository).delete(entity);
+        verify(changeRepository).record(ResourceEnum.TEAM, 1, OperationEnum.DELETE);
+    }
+
+    @Test
+    void delete_shouldThrowConflict_whenTeamHasPlayers() {
+        when(teamRepository.findById(1)).thenReturn(Optional.of(new TeamEntity(1, "Lakers")));
+        when(playerRepository.existsByTeamId(1)).thenReturn(true);
+
+        assertThrows(ConflictException.class, () -> teamService.delete(1));
+        verify(teamRepository, never()).delete(any());
+        verifyNoInteractions(changeRepository);
+    }
+}
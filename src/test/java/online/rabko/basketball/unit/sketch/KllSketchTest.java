@@ -0,0 +1,98 @@
+package online.rabko.basketball.unit.sketch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+import online.rabko.basketball.sketch.KllSketch;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link KllSketch}.
+ */
+class KllSketchTest {
+
+    private static final int VALUES = 100_000;
+
+    @Test
+    void sketch_shouldBeExact_untilFirstCompaction() {
+        KllSketch sketch = new KllSketch();
+        for (int value = 10; value >= 1; value--) {
+            sketch.update(value);
+        }
+
+        assertEquals(10, sketch.getCount());
+        assertEquals(0, sketch.getRankError());
+        assertEquals(3, sketch.rank(3.5));
+        assertEquals(10, sketch.rank(10));
+        assertEquals(5, sketch.quantile(0.5));
+        assertEquals(1, sketch.quantile(0));
+        assertEquals(10, sketch.quantile(1));
+    }
+
+    @Test
+    void rank_shouldStayWithinErrorBound_forManyValues() {
+        KllSketch sketch = new KllSketch(KllSketch.DEFAULT_K, new SplittableRandom(42));
+        SplittableRandom values = new SplittableRandom(7);
+        for (int i = 0; i < VALUES; i++) {
+            sketch.update(values.nextInt(VALUES));
+        }
+
+        assertEquals(0.02, sketch.getRankError());
+        for (int value = 0; value < VALUES; value += VALUES / 20) {
+            double error = Math.abs(sketch.rank(value) - (value + 1.0)) / VALUES;
+            assertTrue(error < sketch.getRankError(), "rank error " + error + " at " + value);
+        }
+        assertEquals(VALUES / 2.0, sketch.quantile(0.5), VALUES * sketch.getRankError());
+    }
+
+    @Test
+    void merge_shouldMatchSketchOfAllValues_andLeaveOtherUnchanged() {
+        KllSketch low = new KllSketch(KllSketch.DEFAULT_K, new SplittableRandom(1));
+        KllSketch high = new KllSketch(KllSketch.DEFAULT_K, new SplittableRandom(2));
+        for (int value = 0; value < VALUES / 2; value++) {
+            low.update(value);
+            high.update(VALUES / 2.0 + value);
+        }
+
+        low.merge(high);
+
+        assertEquals(VALUES, low.getCount());
+        assertEquals(VALUES / 2, high.getCount());
+        assertEquals(0, low.quantile(0));
+        assertEquals(VALUES - 1, low.quantile(1));
+        assertEquals(0.5, (double) low.rank(VALUES / 2.0 - 1) / VALUES, low.getRankError());
+    }
+
+    @Test
+    void merge_shouldIgnoreEmptySketch_andCopyIntoEmptySketch() {
+        KllSketch empty = new KllSketch();
+        KllSketch sketch = new KllSketch();
+        sketch.update(4);
+
+        sketch.merge(empty);
+        empty.merge(sketch);
+
+        assertEquals(1, sketch.getCount());
+        assertEquals(4, empty.quantile(0));
+        assertEquals(4, empty.quantile(1));
+    }
+
+    @Test
+    void quantile_shouldBeNaN_whenEmpty() {
+        KllSketch sketch = new KllSketch();
+
+        assertTrue(Double.isNaN(sketch.quantile(0.5)));
+        assertEquals(0, sketch.rank(1));
+    }
+
+    @Test
+    void sketch_shouldRejectNaN_andTinyK() {
+        KllSketch sketch = new KllSketch();
+
+        assertThrows(IllegalArgumentException.class, () -> sketch.update(Double.NaN));
+        assertThrows(IllegalArgumentException.class,
+            () -> new KllSketch(1, new SplittableRandom()));
+    }
+}
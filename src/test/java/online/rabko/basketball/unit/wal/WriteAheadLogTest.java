@@ -0,0 +1,142 @@
+package online.rabko.basketball.unit.wal;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import online.rabko.basketball.wal.WriteAheadLog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link WriteAheadLog}.
+ */
+class WriteAheadLogTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void open_shouldRecoverAppendedRecords_inSequenceOrder() throws IOException {
+        Path file = directory.resolve("test.wal");
+        List<Long> notified = new ArrayList<>();
+        try (WriteAheadLog wal = WriteAheadLog.open(file)) {
+            assertEquals(1, wal.append(bytes("first"), notified::add));
+            assertEquals(2, wal.append(bytes("second"), notified::add));
+        }
+
+        try (WriteAheadLog wal = WriteAheadLog.open(file)) {
+            assertEquals(List.of(1L, 2L), notified);
+            assertEquals(2, wal.getRecovered().size());
+            assertEquals(1, wal.getRecovered().get(0).sequence());
+            assertArrayEquals(bytes("second"), wal.getRecovered().get(1).payload());
+            assertEquals(3, wal.append(bytes("third"), sequence -> {}));
+        }
+    }
+
+    @Test
+    void open_shouldCutOffTornRecord() throws IOException {
+        Path file = directory.resolve("test.wal");
+        try (WriteAheadLog wal = WriteAheadLog.open(file)) {
+            wal.append(bytes("complete"), sequence -> {});
+            wal.append(bytes("torn"), sequence -> {});
+        }
+        long size = Files.size(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(size - 2);
+        }
+
+        try (WriteAheadLog wal = WriteAheadLog.open(file)) {
+            assertEquals(1, wal.getRecovered().size());
+            assertEquals(1, wal.getLastSequence());
+            wal.append(bytes("next"), sequence -> {});
+        }
+        try (WriteAheadLog wal = WriteAheadLog.open(file)) {
+            assertEquals(2, wal.getRecovered().size());
+            assertArrayEquals(bytes("next"), wal.getRecovered().get(1).payload());
+        }
+    }
+
+    @Test
+    void open_shouldCutOffCorruptRecord() throws IOException {
+        Path file = directory.resolve("test.wal");
+        try (WriteAheadLog wal = WriteAheadLog.open(file)) {
+            wal.append(bytes("corrupt"), sequence -> {});
+        }
+        byte[] content = Files.readAllBytes(file);
+        content[content.length - 1] ^= 1;
+        Files.write(file, content);
+
+        try (WriteAheadLog wal = WriteAheadLog.open(file)) {
+            assertTrue(wal.getRecovered().isEmpty());
+        }
+        assertEquals(0, Files.size(file));
+    }
+
+    @Test
+    void truncate_shouldEmptyFile_onlyOnceEveryRecordIsProcessed() throws IOException {
+        Path file = directory.resolve("test.wal");
+        try (WriteAheadLog wal = WriteAheadLog.open(file)) {
+            wal.append(bytes("first"), sequence -> {});
+            wal.append(bytes("second"), sequence -> {});
+
+            assertFalse(wal.truncate(1));
+            assertTrue(wal.truncate(2));
+            assertFalse(wal.truncate(2));
+            assertEquals(0, Files.size(file));
+            assertEquals(3, wal.append(bytes("third"), sequence -> {}));
+        }
+    }
+
+    @Test
+    void advanceTo_shouldNumberNewRecordsAfterSequence() throws IOException {
+        try (WriteAheadLog wal = WriteAheadLog.open(directory.resolve("test.wal"))) {
+            wal.advanceTo(41);
+            wal.advanceTo(7);
+
+            assertEquals(41, wal.getLastSequence());
+            assertEquals(42, wal.append(bytes("next"), sequence -> {}));
+        }
+    }
+
+    @Test
+    void append_shouldKeepEveryRecord_whenAppendingConcurrently() throws Exception {
+        Path file = directory.resolve("test.wal");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try (WriteAheadLog wal = WriteAheadLog.open(file)) {
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                byte[] payload = bytes("record " + i);
+                futures.add(executor.submit(() -> wal.append(payload, sequence -> {})));
+            }
+            for (Future<Long> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        try (WriteAheadLog wal = WriteAheadLog.open(file)) {
+            assertEquals(100, wal.getRecovered().size());
+            for (int i = 0; i < 100; i++) {
+                assertEquals(i + 1, wal.getRecovered().get(i).sequence());
+            }
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}